@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation, hashing, comparison and normalized key generation of {@link GradoopId}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdBenchmark {
+
+  /**
+   * Id to hash and compare.
+   */
+  private GradoopId id;
+  /**
+   * Id compared with {@link #id}.
+   */
+  private GradoopId other;
+  /**
+   * Target of normalized keys.
+   */
+  private MemorySegment segment;
+
+  /**
+   * Initializes the ids.
+   */
+  @Setup
+  public void setup() {
+    id = GradoopId.get();
+    other = GradoopId.get();
+    segment = MemorySegmentFactory.wrap(new byte[GradoopId.ID_SIZE]);
+  }
+
+  /**
+   * Creates a new id.
+   *
+   * @return new id
+   */
+  @Benchmark
+  public GradoopId create() {
+    return GradoopId.get();
+  }
+
+  /**
+   * Computes the hash code of an id.
+   *
+   * @return hash code
+   */
+  @Benchmark
+  public int hash() {
+    return id.hashCode();
+  }
+
+  /**
+   * Compares two ids.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return id.compareTo(other);
+  }
+
+  /**
+   * Checks two ids for equality.
+   *
+   * @return true, iff both ids are equal
+   */
+  @Benchmark
+  public boolean isEqual() {
+    return id.equals(other);
+  }
+
+  /**
+   * Writes the full normalized key of an id into a memory segment.
+   *
+   * @return first byte of the normalized key
+   */
+  @Benchmark
+  public byte copyNormalizedKey() {
+    id.copyNormalizedKey(segment, 0, GradoopId.ID_SIZE);
+    return segment.get(0);
+  }
+}
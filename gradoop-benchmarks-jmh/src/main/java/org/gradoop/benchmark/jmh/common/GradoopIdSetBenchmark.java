@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the set operations and (de-)serialization of {@link GradoopIdSet}, e.g. used for
+ * graph containment of vertices and edges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradoopIdSetBenchmark {
+
+  /**
+   * Number of ids in the set.
+   */
+  @Param({"1", "8", "64"})
+  private int size;
+  /**
+   * Set to query and serialize.
+   */
+  private GradoopIdSet ids;
+  /**
+   * Set sharing only its last id with {@link #ids}.
+   */
+  private GradoopIdSet other;
+  /**
+   * Id contained in {@link #ids}.
+   */
+  private GradoopId containedId;
+  /**
+   * Id which is not contained in {@link #ids}.
+   */
+  private GradoopId missingId;
+  /**
+   * Set to deserialize into.
+   */
+  private GradoopIdSet target;
+  /**
+   * Serialization buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Deserialization buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #ids}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Initializes the sets.
+   *
+   * @throws IOException on serialization failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    ids = new GradoopIdSet();
+    other = new GradoopIdSet();
+    for (int i = 0; i < size; i++) {
+      ids.add(GradoopId.get());
+      other.add(GradoopId.get());
+    }
+    containedId = GradoopId.get();
+    ids.add(containedId);
+    other.add(containedId);
+    missingId = GradoopId.get();
+    target = new GradoopIdSet();
+
+    output = new DataOutputSerializer(GradoopId.ID_SIZE * (size + 2));
+    ids.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Adds an id to a new set.
+   *
+   * @return new set
+   */
+  @Benchmark
+  public GradoopIdSet add() {
+    return GradoopIdSet.fromExisting(containedId);
+  }
+
+  /**
+   * Checks a set for a contained id.
+   *
+   * @return true, iff the id is contained
+   */
+  @Benchmark
+  public boolean containsHit() {
+    return ids.contains(containedId);
+  }
+
+  /**
+   * Checks a set for an id which is not contained.
+   *
+   * @return true, iff the id is contained
+   */
+  @Benchmark
+  public boolean containsMiss() {
+    return ids.contains(missingId);
+  }
+
+  /**
+   * Checks two sets for a common id.
+   *
+   * @return true, iff both sets share an id
+   */
+  @Benchmark
+  public boolean containsAny() {
+    return ids.containsAny(other);
+  }
+
+  /**
+   * Serializes the set.
+   *
+   * @return serialized length
+   * @throws IOException on serialization failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    ids.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the set.
+   *
+   * @return set
+   * @throws IOException on deserialization failure
+   */
+  @Benchmark
+  public GradoopIdSet read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    target.read(input);
+    return target;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures (de-)serialization and lookup of {@link Properties} as done for each shuffled
+ * vertex and edge.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+  /**
+   * Number of properties.
+   */
+  @Param({"2", "8", "32"})
+  private int size;
+  /**
+   * Properties to serialize.
+   */
+  private Properties properties;
+  /**
+   * Properties to deserialize into.
+   */
+  private Properties target;
+  /**
+   * Key which is looked up.
+   */
+  private String key;
+  /**
+   * Serialization buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Deserialization buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #properties}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Initializes properties with alternating string and long values.
+   *
+   * @throws IOException on serialization failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    properties = Properties.createWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      properties.set("key" + i, i % 2 == 0 ?
+        PropertyValue.create("value" + i) : PropertyValue.create((long) i));
+    }
+    key = "key" + (size - 1);
+    target = Properties.create();
+
+    output = new DataOutputSerializer(1024);
+    properties.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Serializes the properties.
+   *
+   * @return serialized length
+   * @throws IOException on serialization failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    properties.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes the properties.
+   *
+   * @return properties
+   * @throws IOException on deserialization failure
+   */
+  @Benchmark
+  public Properties read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    target.read(input);
+    return target;
+  }
+
+  /**
+   * Looks up a single property value.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue get() {
+    return properties.get(key);
+  }
+}
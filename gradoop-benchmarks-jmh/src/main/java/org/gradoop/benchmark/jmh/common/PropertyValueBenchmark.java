@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.common;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation, (de-)serialization and comparison of {@link PropertyValue} instances.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueBenchmark {
+
+  /**
+   * Type of the benchmarked property values.
+   */
+  @Param({"int", "long", "double", "string", "bigdecimal"})
+  private String type;
+  /**
+   * Object wrapped by the property value.
+   */
+  private Object object;
+  /**
+   * Property value to serialize and compare.
+   */
+  private PropertyValue value;
+  /**
+   * Property value compared with {@link #value}.
+   */
+  private PropertyValue other;
+  /**
+   * Property value to deserialize into.
+   */
+  private PropertyValue target;
+  /**
+   * Serialization buffer.
+   */
+  private DataOutputSerializer output;
+  /**
+   * Deserialization buffer.
+   */
+  private DataInputDeserializer input;
+  /**
+   * Serialized form of {@link #value}.
+   */
+  private byte[] serialized;
+
+  /**
+   * Initializes the property values and buffers.
+   *
+   * @throws IOException on serialization failure
+   */
+  @Setup
+  public void setup() throws IOException {
+    switch (type) {
+    case "int":
+      object = 42;
+      other = PropertyValue.create(23);
+      break;
+    case "long":
+      object = 42L;
+      other = PropertyValue.create(23L);
+      break;
+    case "double":
+      object = 42.0D;
+      other = PropertyValue.create(23.0D);
+      break;
+    case "string":
+      object = "Alice Abernathy from Leipzig";
+      other = PropertyValue.create("Bob Abernathy from Dresden");
+      break;
+    case "bigdecimal":
+      object = new BigDecimal("42.424242424242");
+      other = PropertyValue.create(new BigDecimal("23.232323232323"));
+      break;
+    default:
+      throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+    value = PropertyValue.create(object);
+    target = new PropertyValue();
+
+    output = new DataOutputSerializer(64);
+    value.write(output);
+    serialized = output.getCopyOfBuffer();
+    input = new DataInputDeserializer();
+  }
+
+  /**
+   * Creates a property value from a Java object.
+   *
+   * @return property value
+   */
+  @Benchmark
+  public PropertyValue create() {
+    return PropertyValue.create(object);
+  }
+
+  /**
+   * Reads the wrapped Java object.
+   *
+   * @return wrapped object
+   */
+  @Benchmark
+  public Object getObject() {
+    return value.getObject();
+  }
+
+  /**
+   * Serializes a property value.
+   *
+   * @return serialized length
+   * @throws IOException on serialization failure
+   */
+  @Benchmark
+  public int write() throws IOException {
+    output.clear();
+    value.write(output);
+    return output.length();
+  }
+
+  /**
+   * Deserializes a property value.
+   *
+   * @return property value
+   * @throws IOException on deserialization failure
+   */
+  @Benchmark
+  public PropertyValue read() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    target.read(input);
+    return target;
+  }
+
+  /**
+   * Deserializes a property value reusing its internal byte array.
+   *
+   * @return property value
+   * @throws IOException on deserialization failure
+   */
+  @Benchmark
+  public PropertyValue readReusingBuffer() throws IOException {
+    input.setBuffer(serialized, 0, serialized.length);
+    target.read(input, true);
+    return target;
+  }
+
+  /**
+   * Compares two property values of the same type.
+   *
+   * @return comparison result
+   */
+  @Benchmark
+  public int compareTo() {
+    return value.compareTo(other);
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.benchmark.jmh.cypher;
+
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.MergeEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building, projecting and merging of Cypher {@link Embedding} instances.
+ *
+ * The merge benchmark joins (v0)-[e0]->(v1) with (v1)-[e1]->(v2) on v1 under
+ * vertex and edge isomorphism.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmbeddingBenchmark {
+
+  /**
+   * Id added to embeddings.
+   */
+  private GradoopId id;
+  /**
+   * Properties added to embeddings.
+   */
+  private PropertyValue[] properties;
+  /**
+   * Left side of the merge.
+   */
+  private Embedding left;
+  /**
+   * Right side of the merge.
+   */
+  private Embedding right;
+  /**
+   * Property columns kept by the projection.
+   */
+  private List<Integer> projection;
+  /**
+   * Merges two embeddings.
+   */
+  private MergeEmbeddings mergeEmbeddings;
+  /**
+   * Stores the last merged embedding.
+   */
+  private LastCollector collector;
+
+  /**
+   * Initializes the embeddings.
+   */
+  @Setup
+  public void setup() {
+    id = GradoopId.get();
+    properties = new PropertyValue[] {
+      PropertyValue.create("Alice"), PropertyValue.create(42), PropertyValue.create(23L)
+    };
+
+    GradoopId v1 = GradoopId.get();
+    left = new Embedding();
+    left.add(GradoopId.get(), properties);
+    left.add(GradoopId.get());
+    left.add(v1, properties);
+
+    right = new Embedding();
+    right.add(v1, properties);
+    right.add(GradoopId.get());
+    right.add(GradoopId.get(), properties);
+
+    projection = Arrays.asList(0, 4);
+
+    mergeEmbeddings = new MergeEmbeddings(3, Collections.singletonList(0),
+      Arrays.asList(0, 2), Collections.singletonList(2), Collections.singletonList(1),
+      Collections.singletonList(1));
+    collector = new LastCollector();
+  }
+
+  /**
+   * Builds an embedding containing three entries with properties.
+   *
+   * @return embedding
+   */
+  @Benchmark
+  public Embedding add() {
+    Embedding embedding = new Embedding();
+    embedding.add(id, properties);
+    embedding.add(id, properties);
+    embedding.add(id, properties);
+    return embedding;
+  }
+
+  /**
+   * Projects the properties of an embedding.
+   *
+   * @return projected embedding
+   */
+  @Benchmark
+  public Embedding project() {
+    return left.project(projection);
+  }
+
+  /**
+   * Merges two embeddings.
+   *
+   * @return merged embedding
+   * @throws Exception on merge failure
+   */
+  @Benchmark
+  public Embedding merge() throws Exception {
+    mergeEmbeddings.join(left, right, collector);
+    return collector.last;
+  }
+
+  /**
+   * Keeps a reference to the last collected embedding.
+   */
+  private static class LastCollector implements Collector<Embedding> {
+    /**
+     * Last collected embedding.
+     */
+    private Embedding last;
+
+    @Override
+    public void collect(Embedding record) {
+      last = record;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
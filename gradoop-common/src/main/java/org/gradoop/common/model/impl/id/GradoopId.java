@@ -15,6 +15,7 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.core.memory.MemorySegment;
@@ -22,6 +23,7 @@ import org.apache.flink.types.CopyableValue;
 import org.apache.flink.types.NormalizableKey;
 import org.bson.types.ObjectId;
 import org.gradoop.common.model.api.entities.EPGMIdentifiable;
+import org.gradoop.common.model.impl.typeutils.GradoopIdTypeInfoFactory;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
@@ -36,6 +38,7 @@ import java.io.IOException;
  *
  * @see EPGMIdentifiable
  */
+@TypeInfo(GradoopIdTypeInfoFactory.class)
 public class GradoopId implements NormalizableKey<GradoopId>, CopyableValue<GradoopId> {
 
   /**
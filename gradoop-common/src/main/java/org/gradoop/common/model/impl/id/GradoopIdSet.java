@@ -15,9 +15,11 @@
  */
 package org.gradoop.common.model.impl.id;
 
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataOutputView;
 import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.typeutils.GradoopIdSetTypeInfoFactory;
 
 import java.io.IOException;
 import java.util.AbstractSet;
@@ -35,6 +37,7 @@ import java.util.Set;
  *
  * @see GradoopId
  */
+@TypeInfo(GradoopIdSetTypeInfoFactory.class)
 public class GradoopIdSet extends AbstractSet<GradoopId> implements Value {
   /**
    * Contains the set of gradoop ids.
@@ -21,14 +21,21 @@ import org.apache.flink.types.Value;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 /**
  * Represents the properties of an {@link org.gradoop.common.model.impl.pojo.Element}.
+ *
+ * Properties are stored in arrays sorted by key, thus {@link #get(String)} is a binary search.
+ * Deserialized values stay in their serialized form inside a single packed byte array and are
+ * only decoded to {@link PropertyValue} objects when they are accessed. Decoded values are
+ * cached, i.e. modifications of a returned value are reflected by the properties.
  */
 public class Properties implements Iterable<Property>, Value, Serializable {
 
@@ -38,15 +45,40 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   private static final int DEFAULT_CAPACITY = 10;
 
   /**
-   * Internal representation
+   * Number of properties.
+   */
+  private int size;
+
+  /**
+   * Property keys in ascending order.
+   */
+  private String[] keys;
+
+  /**
+   * Values at the index of their key, {@code null} if the value has not been decoded yet.
+   */
+  private PropertyValue[] values;
+
+  /**
+   * Start of the internal byte representation of a not yet decoded value in {@link #data}.
    */
-  private Map<String, PropertyValue> properties;
+  private int[] offsets;
+
+  /**
+   * Length of the internal byte representation of a not yet decoded value in {@link #data}.
+   */
+  private int[] lengths;
+
+  /**
+   * Internal byte representations of the deserialized values, {@code null} if there are none.
+   */
+  private byte[] data;
 
   /**
    * Default constructor
    */
   public Properties() {
-    properties = new HashMap<>(DEFAULT_CAPACITY);
+    this(DEFAULT_CAPACITY);
   }
 
   /**
@@ -55,7 +87,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @param capacity initial capacity
    */
   private Properties(int capacity) {
-    properties = new HashMap<>(capacity);
+    keys = new String[capacity];
+    values = new PropertyValue[capacity];
+    offsets = new int[capacity];
+    lengths = new int[capacity];
   }
 
   /**
@@ -102,12 +137,12 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   }
 
   /**
-   * Returns property keys in insertion order.
+   * Returns property keys in ascending order.
    *
    * @return property keys
    */
   public Iterable<String> getKeys() {
-    return properties.keySet();
+    return Arrays.asList(Arrays.copyOf(keys, size));
   }
 
   /**
@@ -117,7 +152,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return true, if there is a property with the given key
    */
   public boolean containsKey(String key) {
-    return get(key) != null;
+    Objects.requireNonNull(key);
+    return indexOf(key) >= 0;
   }
 
   /**
@@ -129,7 +165,8 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue get(String key) {
     Objects.requireNonNull(key);
-    return properties.get(key);
+    int index = indexOf(key);
+    return index >= 0 ? valueAt(index) : null;
   }
 
   /**
@@ -152,7 +189,12 @@ public class Properties implements Iterable<Property>, Value, Serializable {
   public void set(String key, PropertyValue value) {
     Objects.requireNonNull(key);
     Objects.requireNonNull(value);
-    properties.put(key, value);
+    int index = indexOf(key);
+    if (index >= 0) {
+      values[index] = value;
+    } else {
+      insert(-index - 1, key, value);
+    }
   }
 
   /**
@@ -183,7 +225,20 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    */
   public PropertyValue remove(String key) {
     Objects.requireNonNull(key);
-    return properties.remove(key);
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    PropertyValue value = valueAt(index);
+    int moved = size - index - 1;
+    System.arraycopy(keys, index + 1, keys, index, moved);
+    System.arraycopy(values, index + 1, values, index, moved);
+    System.arraycopy(offsets, index + 1, offsets, index, moved);
+    System.arraycopy(lengths, index + 1, lengths, index, moved);
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    return value;
   }
 
   /**
@@ -202,7 +257,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * Removes all elements from these properties.
    */
   public void clear() {
-    this.properties.clear();
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    data = null;
   }
 
   /**
@@ -211,7 +269,7 @@ public class Properties implements Iterable<Property>, Value, Serializable {
    * @return number of properties
    */
   public int size() {
-    return properties.size();
+    return size;
   }
 
   /**
@@ -225,11 +283,10 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
   /**
    * Two properties collections are considered equal, if they contain the
-   * same properties in the same order.
+   * same properties.
    *
    * @param o other properties collection
    * @return  true, iff the two property collections contain the same elements
-   *          in the same order
    */
   @Override
   public boolean equals(Object o) {
@@ -242,58 +299,201 @@ public class Properties implements Iterable<Property>, Value, Serializable {
 
     Properties that = (Properties) o;
 
-    return !(properties != null ? !properties.equals(that.properties) :
-      that.properties != null);
+    if (size != that.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!keys[i].equals(that.keys[i]) || !valueEquals(i, that)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
    * Two properties collections have identical hash codes, if they contain the
-   * same properties in the same order.
+   * same properties.
    *
    * @return hash code
    */
   @Override
   public int hashCode() {
-    return properties != null ? properties.hashCode() : 0;
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += keys[i].hashCode() ^ valueHashCode(i);
+    }
+    return hashCode;
   }
 
   @Override
   public Iterator<Property> iterator() {
-    return properties.entrySet().stream()
-      .map(e -> Property.create(e.getKey(), e.getValue()))
-      .collect(Collectors.toList()).iterator();
+    List<Property> properties = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      properties.add(Property.create(keys[i], valueAt(i)));
+    }
+    return properties.iterator();
   }
 
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    outputView.writeInt(properties.size());
-
-    for (Map.Entry<String, PropertyValue> entry : properties.entrySet()) {
-      outputView.writeUTF(entry.getKey());
-      entry.getValue().write(outputView);
+    outputView.writeInt(size);
+
+    for (int i = 0; i < size; i++) {
+      outputView.writeUTF(keys[i]);
+      if (values[i] != null) {
+        values[i].write(outputView);
+      } else {
+        PropertyValue.writeRaw(outputView, data, offsets[i], lengths[i]);
+      }
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The values are not decoded, but copied into a packed byte array.
+   */
   @Override
   public void read(DataInputView inputView) throws IOException {
+    clear();
     int propertyCount = inputView.readInt();
-    this.properties = new HashMap<>(propertyCount);
-
-    String key;
-    PropertyValue value;
+    if (keys.length < propertyCount) {
+      keys = new String[propertyCount];
+      values = new PropertyValue[propertyCount];
+      offsets = new int[propertyCount];
+      lengths = new int[propertyCount];
+    }
+    byte[] buffer = new byte[0];
+    int position = 0;
 
     for (int i = 0; i < propertyCount; i++) {
-      key = inputView.readUTF();
-      value = new PropertyValue();
-      value.read(inputView);
-      properties.put(key, value);
+      String key = inputView.readUTF();
+      byte typeByte = inputView.readByte();
+      byte type = (byte) (~PropertyValue.FLAG_LARGE & typeByte);
+      int length = PropertyValue.OFFSET + PropertyValue.readLength(inputView, typeByte, type);
+      if (buffer.length < position + length) {
+        buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, position + length));
+      }
+      buffer[position] = type;
+      inputView.readFully(buffer, position + PropertyValue.OFFSET, length - PropertyValue.OFFSET);
+
+      // keys written by this class are sorted, others have to be inserted at their position
+      int index = size;
+      if (size > 0 && keys[size - 1].compareTo(key) >= 0) {
+        index = indexOf(key);
+        if (index >= 0) {
+          offsets[index] = position;
+          lengths[index] = length;
+          position += length;
+          continue;
+        }
+        index = -index - 1;
+      }
+      insert(index, key, null);
+      offsets[index] = position;
+      lengths[index] = length;
+      position += length;
     }
+    data = buffer;
   }
 
   @Override
   public String toString() {
-    return properties.entrySet().stream()
-      .map(e -> Property.create(e.getKey(), e.getValue()).toString())
-      .collect(Collectors.joining(","));
+    StringJoiner joiner = new StringJoiner(",");
+    for (int i = 0; i < size; i++) {
+      joiner.add(Property.create(keys[i], valueAt(i)).toString());
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * Returns the index of the given key or {@code -(insertion point) - 1} if the key is not
+   * contained, see {@link Arrays#binarySearch(Object[], int, int, Object)}.
+   *
+   * @param key property key
+   * @return index of the key
+   */
+  private int indexOf(String key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  /**
+   * Returns the value at the given index and decodes it if necessary.
+   *
+   * @param index index of the property
+   * @return property value
+   */
+  private PropertyValue valueAt(int index) {
+    if (values[index] == null) {
+      values[index] = PropertyValue.fromRawBytes(
+        Arrays.copyOfRange(data, offsets[index], offsets[index] + lengths[index]));
+    }
+    return values[index];
+  }
+
+  /**
+   * Inserts a property at the given index, the arrays are grown if necessary.
+   *
+   * @param index insertion point
+   * @param key property key
+   * @param value property value or {@code null} if the value is set in the packed byte array
+   */
+  private void insert(int index, String key, PropertyValue value) {
+    if (size == keys.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+      offsets = Arrays.copyOf(offsets, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+    }
+    int moved = size - index;
+    System.arraycopy(keys, index, keys, index + 1, moved);
+    System.arraycopy(values, index, values, index + 1, moved);
+    System.arraycopy(offsets, index, offsets, index + 1, moved);
+    System.arraycopy(lengths, index, lengths, index + 1, moved);
+    keys[index] = key;
+    values[index] = value;
+    size++;
+  }
+
+  /**
+   * Compares the value at the given index with the value at the same index of the other
+   * properties, without decoding values which are only available as bytes.
+   *
+   * @param index index of the property
+   * @param that other properties with the same key at the index
+   * @return true, iff both values are equal
+   */
+  private boolean valueEquals(int index, Properties that) {
+    if (values[index] != null || that.values[index] != null) {
+      return valueAt(index).equals(that.valueAt(index));
+    }
+    if (lengths[index] != that.lengths[index]) {
+      return false;
+    }
+    for (int i = 0; i < lengths[index]; i++) {
+      if (data[offsets[index] + i] != that.data[that.offsets[index] + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the hash code of the value at the given index, which is identical to
+   * {@link PropertyValue#hashCode()}, without decoding a value which is only available as bytes.
+   *
+   * @param index index of the property
+   * @return hash code of the value
+   */
+  private int valueHashCode(int index) {
+    if (values[index] != null) {
+      return values[index].hashCode();
+    }
+    int hashCode = 1;
+    for (int i = offsets[index]; i < offsets[index] + lengths[index]; i++) {
+      hashCode = 31 * hashCode + data[i];
+    }
+    return hashCode;
   }
 }
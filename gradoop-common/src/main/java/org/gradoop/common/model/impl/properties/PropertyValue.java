@@ -16,6 +16,7 @@
 package org.gradoop.common.model.impl.properties;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.apache.flink.api.common.typeinfo.TypeInfo;
 import org.apache.flink.core.memory.DataInputView;
 import org.apache.flink.core.memory.DataInputViewStreamWrapper;
 import org.apache.flink.core.memory.DataOutputView;
@@ -25,6 +26,7 @@ import org.apache.hadoop.hbase.util.Bytes;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.common.model.impl.typeutils.PropertyValueTypeInfoFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -48,6 +50,7 @@ import java.util.Collections;
  *
  * A property value wraps a value that implements a supported data type.
  */
+@TypeInfo(PropertyValueTypeInfoFactory.class)
 public class PropertyValue implements Value, Serializable, Comparable<PropertyValue> {
 
   /**
@@ -918,35 +921,100 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
    */
   @Override
   public void write(DataOutputView outputView) throws IOException {
-    // null?
+    writeRaw(outputView, rawBytes, 0, rawBytes.length);
+  }
+
+  /**
+   * Writes the internal byte representation of a property value, i.e. type byte followed by
+   * the value bytes, in the format described at {@link #write(DataOutputView)}.
+   *
+   * @param outputView data output to write data to
+   * @param bytes array containing the internal byte representation
+   * @param offset start of the internal byte representation in the array
+   * @param length length of the internal byte representation
+   * @throws IOException
+   */
+  static void writeRaw(DataOutputView outputView, byte[] bytes, int offset, int length)
+    throws IOException {
     // Write type.
-    byte type = rawBytes[0];
-    if (rawBytes.length > LARGE_PROPERTY_THRESHOLD) {
+    byte type = bytes[offset];
+    if (length > LARGE_PROPERTY_THRESHOLD) {
       type |= FLAG_LARGE;
     }
     outputView.writeByte(type);
     // Write length for types with a variable length.
-    if (isString() || isBigDecimal() || isMap() || isList()) {
+    if (hasVariableLength(bytes[offset])) {
       // Write length as an int if the "large" flag is set.
       if ((type & FLAG_LARGE) == FLAG_LARGE) {
-        outputView.writeInt(rawBytes.length - OFFSET);
+        outputView.writeInt(length - OFFSET);
       } else {
-        outputView.writeShort(rawBytes.length - OFFSET);
+        outputView.writeShort(length - OFFSET);
       }
     }
     // write data
-    outputView.write(rawBytes, OFFSET, rawBytes.length - OFFSET);
+    outputView.write(bytes, offset + OFFSET, length - OFFSET);
+  }
+
+  /**
+   * True, if values of the given type have a variable length.
+   *
+   * @param type property type
+   * @return true, iff the length of the type is variable
+   */
+  private static boolean hasVariableLength(byte type) {
+    return type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP ||
+      type == TYPE_LIST;
   }
 
   @Override
   public void read(DataInputView inputView) throws IOException {
-    int length = 0;
+    read(inputView, false);
+  }
+
+  /**
+   * Reads the property value from the given input view. The serialized format is the one
+   * written by {@link #write(DataOutputView)}.
+   *
+   * If {@code reuseBuffer} is {@code true} and the internal byte array already has the size
+   * required by the serialized value, the array is overwritten instead of allocating a new one.
+   * This must only be used if the internal byte array is not shared with other objects, e.g.
+   * via {@link #getRawBytes()}, {@link #setBytes(byte[])} or {@link #fromRawBytes(byte[])}.
+   *
+   * @param inputView data input to read data from
+   * @param reuseBuffer true, iff the internal byte array shall be reused if its size fits
+   * @throws IOException
+   */
+  public void read(DataInputView inputView, boolean reuseBuffer) throws IOException {
     // type
     byte typeByte = inputView.readByte();
     // Apply bitmask to get the actual type.
     byte type = (byte) (~FLAG_LARGE & typeByte);
+    int length = readLength(inputView, typeByte, type);
+    // init new array if necessary
+    if (!reuseBuffer || rawBytes == null || rawBytes.length != OFFSET + length) {
+      rawBytes = new byte[OFFSET + length];
+    }
+    // read type info
+    rawBytes[0] = type;
+    // read data
+    inputView.readFully(rawBytes, OFFSET, length);
+  }
+
+  /**
+   * Returns the length of the value bytes of a serialized property value. For types with a
+   * variable length, the length is read from the given input view.
+   *
+   * @param inputView data input to read the length from
+   * @param typeByte serialized type byte, including the {@link #FLAG_LARGE} bit
+   * @param type actual type
+   * @return length of the value bytes
+   * @throws IOException
+   */
+  static int readLength(DataInputView inputView, byte typeByte, byte type)
+    throws IOException {
+    int length = 0;
     // dynamic type?
-    if (type == TYPE_STRING || type == TYPE_BIG_DECIMAL || type == TYPE_MAP || type == TYPE_LIST) {
+    if (hasVariableLength(type)) {
       // read length
       if ((typeByte & FLAG_LARGE) == FLAG_LARGE) {
         length = inputView.readInt();
@@ -976,14 +1044,7 @@ public class PropertyValue implements Value, Serializable, Comparable<PropertyVa
     } else if (type == TYPE_DATETIME) {
       length = DateTimeSerializer.SIZEOF_DATETIME;
     }
-    // init new array
-    rawBytes = new byte[OFFSET + length];
-    // read type info
-    rawBytes[0] = type;
-    // read data
-    for (int i = OFFSET; i < rawBytes.length; i++) {
-      rawBytes[i] = inputView.readByte();
-    }
+    return length;
   }
 
   @Override
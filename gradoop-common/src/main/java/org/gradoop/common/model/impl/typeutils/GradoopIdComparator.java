@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+
+/**
+ * Comparator for {@link GradoopId}.
+ *
+ * Serialized ids are compared byte-wise without deserialization. The normalized key of an id is
+ * its complete byte representation, so sorters never need to fall back to the comparator.
+ */
+public class GradoopIdComparator extends TypeComparator<GradoopId> {
+
+  /**
+   * serialVersionUID
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * True, iff the sort order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Buffer holding the first serialized id in {@link #compareSerialized}.
+   */
+  private transient byte[] firstBuffer;
+
+  /**
+   * Buffer holding the second serialized id in {@link #compareSerialized}.
+   */
+  private transient byte[] secondBuffer;
+
+  /**
+   * Reference set via {@link #setReference(GradoopId)}.
+   */
+  private transient GradoopId reference;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, iff the sort order is ascending
+   */
+  public GradoopIdComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(GradoopId record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(GradoopId toCompare) {
+    this.reference = toCompare;
+  }
+
+  @Override
+  public boolean equalToReference(GradoopId candidate) {
+    return candidate.equals(reference);
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<GradoopId> referencedComparator) {
+    GradoopId otherReference = ((GradoopIdComparator) referencedComparator).reference;
+    return ascending ?
+      otherReference.compareTo(reference) : reference.compareTo(otherReference);
+  }
+
+  @Override
+  public int compare(GradoopId first, GradoopId second) {
+    return ascending ? first.compareTo(second) : second.compareTo(first);
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (firstBuffer == null) {
+      firstBuffer = new byte[GradoopId.ID_SIZE];
+      secondBuffer = new byte[GradoopId.ID_SIZE];
+    }
+    firstSource.readFully(firstBuffer);
+    secondSource.readFully(secondBuffer);
+
+    int comp = 0;
+    for (int i = 0; i < GradoopId.ID_SIZE && comp == 0; i++) {
+      comp = (firstBuffer[i] & 0xff) - (secondBuffer[i] & 0xff);
+    }
+    return ascending ? comp : -comp;
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return true;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return true;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    return keyBytes < GradoopId.ID_SIZE;
+  }
+
+  @Override
+  public void putNormalizedKey(GradoopId record, MemorySegment target, int offset, int numBytes) {
+    if (numBytes <= GradoopId.ID_SIZE) {
+      record.copyNormalizedKey(target, offset, numBytes);
+    } else {
+      record.copyNormalizedKey(target, offset, GradoopId.ID_SIZE);
+      for (int i = GradoopId.ID_SIZE; i < numBytes; i++) {
+        target.put(offset + i, (byte) 0);
+      }
+    }
+  }
+
+  @Override
+  public void writeWithKeyNormalization(GradoopId record, DataOutputView target)
+    throws IOException {
+    target.write(record.toByteArray());
+  }
+
+  @Override
+  public GradoopId readWithKeyDenormalization(GradoopId reuse, DataInputView source)
+    throws IOException {
+    reuse.read(source);
+    return reuse;
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<GradoopId> duplicate() {
+    return new GradoopIdComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return new TypeComparator[] { this };
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link GradoopIdSet}. Uses the same format as {@link GradoopIdSet#write}, i.e.
+ * the number of ids followed by their byte representations.
+ */
+public class GradoopIdSetSerializer extends TypeSerializerSingleton<GradoopIdSet> {
+
+  /**
+   * Shared serializer instance.
+   */
+  public static final GradoopIdSetSerializer INSTANCE = new GradoopIdSetSerializer();
+
+  /**
+   * serialVersionUID
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public GradoopIdSet createInstance() {
+    return new GradoopIdSet();
+  }
+
+  @Override
+  public GradoopIdSet copy(GradoopIdSet from) {
+    return GradoopIdSet.fromExisting(from);
+  }
+
+  @Override
+  public GradoopIdSet copy(GradoopIdSet from, GradoopIdSet reuse) {
+    reuse.clear();
+    reuse.addAll(from);
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(GradoopIdSet record, DataOutputView target) throws IOException {
+    record.write(target);
+  }
+
+  @Override
+  public GradoopIdSet deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public GradoopIdSet deserialize(GradoopIdSet reuse, DataInputView source) throws IOException {
+    reuse.read(source);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int size = source.readInt();
+    target.writeInt(size);
+    target.write(source, size * GradoopId.ID_SIZE);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof GradoopIdSetSerializer;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Type information factory for {@link GradoopId}, referenced by its {@code @TypeInfo} annotation.
+ */
+public class GradoopIdTypeInfoFactory extends TypeInfoFactory<GradoopId> {
+
+  @Override
+  public TypeInformation<GradoopId> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    return GradoopIdTypeInfo.INSTANCE;
+  }
+}
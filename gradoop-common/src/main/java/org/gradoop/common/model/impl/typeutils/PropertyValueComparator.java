@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+
+/**
+ * Comparator for {@link PropertyValue}.
+ *
+ * The order of property values depends on their types (e.g. numbers of different types are
+ * compared by their numeric value), so there is no normalized key and serialized values are
+ * compared on reused instances.
+ */
+public class PropertyValueComparator extends TypeComparator<PropertyValue> {
+
+  /**
+   * serialVersionUID
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * True, iff the sort order is ascending.
+   */
+  private final boolean ascending;
+
+  /**
+   * Reused instance holding the first value in {@link #compareSerialized}.
+   */
+  private transient PropertyValue firstValue;
+
+  /**
+   * Reused instance holding the second value in {@link #compareSerialized}.
+   */
+  private transient PropertyValue secondValue;
+
+  /**
+   * Reference set via {@link #setReference(PropertyValue)}.
+   */
+  private transient PropertyValue reference;
+
+  /**
+   * Creates a new comparator.
+   *
+   * @param ascending true, iff the sort order is ascending
+   */
+  public PropertyValueComparator(boolean ascending) {
+    this.ascending = ascending;
+  }
+
+  @Override
+  public int hash(PropertyValue record) {
+    return record.hashCode();
+  }
+
+  @Override
+  public void setReference(PropertyValue toCompare) {
+    this.reference = toCompare;
+  }
+
+  @Override
+  public boolean equalToReference(PropertyValue candidate) {
+    return candidate.equals(reference);
+  }
+
+  @Override
+  public int compareToReference(TypeComparator<PropertyValue> referencedComparator) {
+    PropertyValue otherReference = ((PropertyValueComparator) referencedComparator).reference;
+    return ascending ?
+      otherReference.compareTo(reference) : reference.compareTo(otherReference);
+  }
+
+  @Override
+  public int compare(PropertyValue first, PropertyValue second) {
+    return ascending ? first.compareTo(second) : second.compareTo(first);
+  }
+
+  @Override
+  public int compareSerialized(DataInputView firstSource, DataInputView secondSource)
+    throws IOException {
+    if (firstValue == null) {
+      firstValue = new PropertyValue();
+      secondValue = new PropertyValue();
+    }
+    firstValue.read(firstSource, true);
+    secondValue.read(secondSource, true);
+    return compare(firstValue, secondValue);
+  }
+
+  @Override
+  public boolean supportsNormalizedKey() {
+    return false;
+  }
+
+  @Override
+  public boolean supportsSerializationWithKeyNormalization() {
+    return false;
+  }
+
+  @Override
+  public int getNormalizeKeyLen() {
+    return 0;
+  }
+
+  @Override
+  public boolean isNormalizedKeyPrefixOnly(int keyBytes) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void putNormalizedKey(PropertyValue record, MemorySegment target, int offset,
+    int numBytes) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void writeWithKeyNormalization(PropertyValue record, DataOutputView target) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public PropertyValue readWithKeyDenormalization(PropertyValue reuse, DataInputView source) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean invertNormalizedKey() {
+    return !ascending;
+  }
+
+  @Override
+  public TypeComparator<PropertyValue> duplicate() {
+    return new PropertyValueComparator(ascending);
+  }
+
+  @Override
+  public int extractKeys(Object record, Object[] target, int index) {
+    target[index] = record;
+    return 1;
+  }
+
+  @Override
+  public TypeComparator[] getFlatComparators() {
+    return new TypeComparator[] { this };
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.typeutils.base.TypeSerializerSingleton;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Serializer for {@link PropertyValue}. Uses the format of {@link PropertyValue#write}. Copies
+ * are made on the raw byte representation.
+ */
+public class PropertyValueSerializer extends TypeSerializerSingleton<PropertyValue> {
+
+  /**
+   * Shared serializer instance.
+   */
+  public static final PropertyValueSerializer INSTANCE = new PropertyValueSerializer();
+
+  /**
+   * serialVersionUID
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isImmutableType() {
+    return false;
+  }
+
+  @Override
+  public PropertyValue createInstance() {
+    return new PropertyValue();
+  }
+
+  @Override
+  public PropertyValue copy(PropertyValue from) {
+    return PropertyValue.fromRawBytes(copyBytes(from));
+  }
+
+  @Override
+  public PropertyValue copy(PropertyValue from, PropertyValue reuse) {
+    reuse.setBytes(copyBytes(from));
+    return reuse;
+  }
+
+  @Override
+  public int getLength() {
+    return -1;
+  }
+
+  @Override
+  public void serialize(PropertyValue record, DataOutputView target) throws IOException {
+    record.write(target);
+  }
+
+  @Override
+  public PropertyValue deserialize(DataInputView source) throws IOException {
+    return deserialize(createInstance(), source);
+  }
+
+  @Override
+  public PropertyValue deserialize(PropertyValue reuse, DataInputView source)
+    throws IOException {
+    reuse.read(source);
+    return reuse;
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    serialize(deserialize(source), target);
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertyValueSerializer;
+  }
+
+  /**
+   * Returns a copy of the raw bytes of the given value.
+   *
+   * @param value property value
+   * @return copy of the raw bytes
+   */
+  private static byte[] copyBytes(PropertyValue value) {
+    byte[] bytes = value.getRawBytes();
+    return bytes == null ? null : Arrays.copyOf(bytes, bytes.length);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.AtomicType;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Type information for {@link PropertyValue}.
+ */
+public class PropertyValueTypeInfo extends TypeInformation<PropertyValue> implements AtomicType<PropertyValue> {
+
+  /**
+   * Shared type information instance.
+   */
+  public static final PropertyValueTypeInfo INSTANCE = new PropertyValueTypeInfo();
+
+  /**
+   * serialVersionUID
+   */
+  private static final long serialVersionUID = 1L;
+
+  @Override
+  public boolean isBasicType() {
+    return false;
+  }
+
+  @Override
+  public boolean isTupleType() {
+    return false;
+  }
+
+  @Override
+  public int getArity() {
+    return 1;
+  }
+
+  @Override
+  public int getTotalFields() {
+    return 1;
+  }
+
+  @Override
+  public Class<PropertyValue> getTypeClass() {
+    return PropertyValue.class;
+  }
+
+  @Override
+  public boolean isKeyType() {
+    return true;
+  }
+
+  @Override
+  public TypeSerializer<PropertyValue> createSerializer(ExecutionConfig config) {
+    return PropertyValueSerializer.INSTANCE;
+  }
+
+  @Override
+  public TypeComparator<PropertyValue> createComparator(boolean sortOrderAscending,
+    ExecutionConfig executionConfig) {
+    return new PropertyValueComparator(sortOrderAscending);
+  }
+
+  @Override
+  public String toString() {
+    return "PropertyValue";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof PropertyValueTypeInfo;
+  }
+
+  @Override
+  public int hashCode() {
+    return PropertyValueTypeInfo.class.hashCode();
+  }
+
+  @Override
+  public boolean canEqual(Object obj) {
+    return obj instanceof PropertyValueTypeInfo;
+  }
+}
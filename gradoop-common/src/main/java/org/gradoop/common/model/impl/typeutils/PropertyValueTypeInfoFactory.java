@@ -13,34 +13,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.model.impl.operators.aggregation;
+package org.gradoop.common.model.impl.typeutils;
 
-import org.apache.flink.api.common.functions.GroupReduceFunction;
-import org.apache.flink.util.Collector;
+import org.apache.flink.api.common.typeinfo.TypeInfoFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
-import java.util.Iterator;
+import java.lang.reflect.Type;
+import java.util.Map;
 
 /**
- * NULL, aggregateValue => aggregateValue
- * OR
- * NULL => NULL
+ * Type information factory for {@link PropertyValue}, referenced by its {@code @TypeInfo} annotation.
  */
-public class SetNullIfEmpty
-  implements GroupReduceFunction<PropertyValue, PropertyValue> {
+public class PropertyValueTypeInfoFactory extends TypeInfoFactory<PropertyValue> {
 
   @Override
-  public void reduce(Iterable<PropertyValue> values,
-    Collector<PropertyValue> out) throws Exception {
-
-    Iterator<PropertyValue> iterator = values.iterator();
-
-    PropertyValue value = iterator.next();
-
-    if (iterator.hasNext() && value.equals(PropertyValue.NULL_VALUE)) {
-      value = iterator.next();
-    }
-
-    out.collect(value);
+  public TypeInformation<PropertyValue> createTypeInfo(Type t,
+    Map<String, TypeInformation<?>> genericParameters) {
+    return PropertyValueTypeInfo.INSTANCE;
   }
 }
@@ -16,8 +16,13 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -212,4 +217,42 @@ public class PropertiesTest {
 
     assertEquals(propertiesIn, propertiesOut);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testReadUnsortedKeys() throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    DataOutputView outputView = new DataOutputViewStreamWrapper(outputStream);
+    outputView.writeInt(2);
+    outputView.writeUTF(KEY_2);
+    PropertyValue.create(INT_VAL_2).write(outputView);
+    outputView.writeUTF(KEY_1);
+    PropertyValue.create(BOOL_VAL_1).write(outputView);
+
+    Properties properties = Properties.create();
+    properties.read(new DataInputViewStreamWrapper(
+      new ByteArrayInputStream(outputStream.toByteArray())));
+
+    assertEquals(Lists.newArrayList(KEY_1, KEY_2), Lists.newArrayList(properties.getKeys()));
+    assertEquals(BOOL_VAL_1, properties.get(KEY_1).getBoolean());
+    assertEquals(INT_VAL_2, properties.get(KEY_2).getInt());
+  }
+
+  @Test
+  public void testReadValuesLazily() throws Exception {
+    Properties propertiesIn = Properties.createFromMap(SUPPORTED_PROPERTIES);
+    Properties propertiesOut = writeAndReadFields(Properties.class, propertiesIn);
+
+    // packed values are equal to decoded values
+    assertEquals(propertiesIn.hashCode(), propertiesOut.hashCode());
+    assertEquals(propertiesOut, writeAndReadFields(Properties.class, propertiesOut));
+
+    // decoded values are cached, so modifications are reflected
+    propertiesOut.get(KEY_2).setInt(INT_VAL_2 + 1);
+    assertEquals(INT_VAL_2 + 1, propertiesOut.get(KEY_2).getInt());
+    assertNotEquals(propertiesIn, propertiesOut);
+
+    Properties propertiesCopy = writeAndReadFields(Properties.class, propertiesOut);
+    assertEquals(propertiesOut, propertiesCopy);
+    assertEquals(INT_VAL_2 + 1, propertiesCopy.get(KEY_2).getInt());
+  }
+}
@@ -16,12 +16,18 @@
 package org.gradoop.common.model.impl.properties;
 
 import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -1076,6 +1082,35 @@ public class PropertyValueTest {
     assertEquals(p, writeAndReadFields(PropertyValue.class, p));
   }
 
+  @Test
+  public void testReadReusingBuffer() throws IOException {
+    PropertyValue p = create(STRING_VAL_6);
+    PropertyValue sameSize = create(new StringBuilder(STRING_VAL_6).reverse().toString());
+    PropertyValue otherSize = create(LONG_VAL_3);
+
+    ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+    DataOutputView outputView = new DataOutputViewStreamWrapper(outStream);
+    p.write(outputView);
+    sameSize.write(outputView);
+    otherSize.write(outputView);
+
+    DataInputView inputView = new DataInputViewStreamWrapper(
+      new ByteArrayInputStream(outStream.toByteArray()));
+
+    PropertyValue reuse = new PropertyValue();
+    reuse.read(inputView, true);
+    assertEquals(p, reuse);
+    byte[] buffer = reuse.getRawBytes();
+
+    reuse.read(inputView, true);
+    assertEquals(sameSize, reuse);
+    assertSame(buffer, reuse.getRawBytes());
+
+    reuse.read(inputView, true);
+    assertEquals(otherSize, reuse);
+    assertNotSame(buffer, reuse.getRawBytes());
+  }
+
   @Test
   public void testGetType() {
     PropertyValue p = create(NULL_VAL_0);
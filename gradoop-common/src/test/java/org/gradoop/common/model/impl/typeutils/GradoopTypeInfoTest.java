@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.model.impl.typeutils;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.TypeComparator;
+import org.apache.flink.api.common.typeutils.TypeSerializer;
+import org.apache.flink.api.java.typeutils.PojoTypeInfo;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.junit.Assert.*;
+
+public class GradoopTypeInfoTest {
+
+  @Test
+  public void testTypeInfoFactories() {
+    assertEquals(GradoopIdTypeInfo.INSTANCE, TypeInformation.of(GradoopId.class));
+    assertEquals(GradoopIdSetTypeInfo.INSTANCE, TypeInformation.of(GradoopIdSet.class));
+    assertEquals(PropertyValueTypeInfo.INSTANCE, TypeInformation.of(PropertyValue.class));
+  }
+
+  @Test
+  public void testPojoFields() {
+    TypeInformation<Edge> typeInfo = TypeInformation.of(Edge.class);
+    assertTrue(typeInfo instanceof PojoTypeInfo);
+
+    PojoTypeInfo<Edge> pojoTypeInfo = (PojoTypeInfo<Edge>) typeInfo;
+    assertEquals(GradoopIdTypeInfo.INSTANCE,
+      pojoTypeInfo.getTypeAt(pojoTypeInfo.getFieldIndex("id")));
+    assertEquals(GradoopIdTypeInfo.INSTANCE,
+      pojoTypeInfo.getTypeAt(pojoTypeInfo.getFieldIndex("sourceId")));
+    assertEquals(GradoopIdSetTypeInfo.INSTANCE,
+      pojoTypeInfo.getTypeAt(pojoTypeInfo.getFieldIndex("graphIds")));
+  }
+
+  @Test
+  public void testSerializers() throws IOException {
+    GradoopId id = GradoopId.get();
+    GradoopIdSet ids = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+
+    assertEquals(id, serializeAndCopy(GradoopIdSerializer.INSTANCE, id));
+    assertEquals(ids, serializeAndCopy(GradoopIdSetSerializer.INSTANCE, ids));
+    for (Object value : SUPPORTED_PROPERTIES.values()) {
+      PropertyValue propertyValue = PropertyValue.create(value);
+      assertEquals(propertyValue,
+        serializeAndCopy(PropertyValueSerializer.INSTANCE, propertyValue));
+    }
+  }
+
+  @Test
+  public void testGradoopIdComparator() throws IOException {
+    GradoopId first = GradoopId.fromString("912345678910111213141516");
+    GradoopId second = GradoopId.fromString("1AB363914FD1325CC43790AB");
+
+    TypeComparator<GradoopId> ascending = GradoopIdTypeInfo.INSTANCE
+      .createComparator(true, new ExecutionConfig());
+    TypeComparator<GradoopId> descending = GradoopIdTypeInfo.INSTANCE
+      .createComparator(false, new ExecutionConfig());
+
+    assertTrue(ascending.compare(first, second) > 0);
+    assertTrue(descending.compare(first, second) < 0);
+    assertTrue(ascending.compareSerialized(
+      serialize(GradoopIdSerializer.INSTANCE, first),
+      serialize(GradoopIdSerializer.INSTANCE, second)) > 0);
+    assertEquals(0, ascending.compareSerialized(
+      serialize(GradoopIdSerializer.INSTANCE, first),
+      serialize(GradoopIdSerializer.INSTANCE, first)));
+
+    // normalized keys are the full id
+    assertFalse(ascending.isNormalizedKeyPrefixOnly(ascending.getNormalizeKeyLen()));
+    MemorySegment segment = MemorySegmentFactory.wrap(new byte[2 * GradoopId.ID_SIZE]);
+    ascending.putNormalizedKey(first, segment, 0, GradoopId.ID_SIZE);
+    ascending.putNormalizedKey(second, segment, GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    assertTrue(segment.compare(segment, 0, GradoopId.ID_SIZE, GradoopId.ID_SIZE) > 0);
+  }
+
+  @Test
+  public void testPropertyValueComparator() throws IOException {
+    PropertyValue intValue = PropertyValue.create(INT_VAL_2);
+    PropertyValue longValue = PropertyValue.create(LONG_VAL_3);
+
+    TypeComparator<PropertyValue> comparator = PropertyValueTypeInfo.INSTANCE
+      .createComparator(true, new ExecutionConfig());
+
+    assertEquals(Integer.signum(intValue.compareTo(longValue)),
+      Integer.signum(comparator.compare(intValue, longValue)));
+    assertEquals(Integer.signum(intValue.compareTo(longValue)),
+      Integer.signum(comparator.compareSerialized(
+        serialize(PropertyValueSerializer.INSTANCE, intValue),
+        serialize(PropertyValueSerializer.INSTANCE, longValue))));
+  }
+
+  /**
+   * Serializes the given record, copies the serialized bytes via the serializer and
+   * deserializes the copy.
+   */
+  private static <T> T serializeAndCopy(TypeSerializer<T> serializer, T record)
+    throws IOException {
+    ByteArrayOutputStream copy = new ByteArrayOutputStream();
+    serializer.copy(serialize(serializer, record), new DataOutputViewStreamWrapper(copy));
+    return serializer.deserialize(
+      new DataInputViewStreamWrapper(new ByteArrayInputStream(copy.toByteArray())));
+  }
+
+  private static <T> DataInputViewStreamWrapper serialize(TypeSerializer<T> serializer, T record)
+    throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.serialize(record, new DataOutputViewStreamWrapper(out));
+    return new DataInputViewStreamWrapper(new ByteArrayInputStream(out.toByteArray()));
+  }
+}
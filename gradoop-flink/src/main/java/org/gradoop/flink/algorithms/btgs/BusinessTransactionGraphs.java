@@ -16,39 +16,44 @@
 package org.gradoop.flink.algorithms.btgs;
 
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.DeltaIteration;
 import org.apache.flink.api.java.tuple.Tuple2;
-import org.apache.flink.graph.Graph;
-import org.apache.flink.types.NullValue;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
-import org.gradoop.flink.algorithms.btgs.functions.BtgMessenger;
-import org.gradoop.flink.algorithms.btgs.functions.BtgUpdater;
 import org.gradoop.flink.algorithms.btgs.functions.CollectGradoopIds;
-import org.gradoop.flink.algorithms.btgs.functions.ComponentToNewBtgId;
+import org.gradoop.flink.algorithms.btgs.functions.ComponentOfComponent;
+import org.gradoop.flink.algorithms.btgs.functions.ComponentToBtgIds;
+import org.gradoop.flink.algorithms.btgs.functions.IndexToVertexId;
+import org.gradoop.flink.algorithms.btgs.functions.IndexedEdgeToPairs;
+import org.gradoop.flink.algorithms.btgs.functions.InitialComponent;
 import org.gradoop.flink.algorithms.btgs.functions.MasterData;
+import org.gradoop.flink.algorithms.btgs.functions.MinComponent;
+import org.gradoop.flink.algorithms.btgs.functions.NeighborComponent;
 import org.gradoop.flink.algorithms.btgs.functions.NewBtgGraphHead;
 import org.gradoop.flink.algorithms.btgs.functions.SetBtgId;
 import org.gradoop.flink.algorithms.btgs.functions.SetBtgIds;
+import org.gradoop.flink.algorithms.btgs.functions.SmallerComponent;
 import org.gradoop.flink.algorithms.btgs.functions.TargetIdBtgId;
-import org.gradoop.flink.algorithms.btgs.functions.ToGellyVertexWithIdValue;
 import org.gradoop.flink.algorithms.btgs.functions.TransactionalData;
+import org.gradoop.flink.algorithms.gelly.DenseIdMapping;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToId;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
-import org.gradoop.flink.model.impl.functions.epgm.ExpandGradoopIds;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.functions.epgm.SourceId;
-import org.gradoop.flink.model.impl.functions.epgm.ToGellyEdgeWithNullValue;
-import org.gradoop.flink.model.impl.functions.tuple.SwitchPair;
-import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 
 /**
  * Part of the BIIIG approach.
- * EPGMVertex-centric implementation to isolate business transaction graphs.
+ * Isolates business transaction graphs, i.e., the connected components of the transactional
+ * data together with the master data they refer to. The components are computed on dense
+ * vertex indices, see {@link DenseIdMapping}.
  */
 public class BusinessTransactionGraphs implements
   UnaryGraphToCollectionOperator {
@@ -86,33 +91,27 @@ public class BusinessTransactionGraphs implements
     DataSet<Vertex> transVertices = transGraph
       .getVertices();
 
-    DataSet<org.apache.flink.graph.Edge<GradoopId, NullValue>> transEdges =
-      transGraph.getEdges().map(new ToGellyEdgeWithNullValue());
+    DenseIdMapping mapping = new DenseIdMapping(transGraph);
 
-    Graph<GradoopId, GradoopId, NullValue> gellyTransGraph = Graph.fromDataSet(
-      transVertices.map(new ToGellyVertexWithIdValue()),
-      transEdges,
-      iig.getConfig().getExecutionEnvironment()
-    );
+    DataSet<Tuple2<LongValue, GradoopId>> vertexIndices = mapping.getIndexedVertices()
+      .map(new IndexedVertexToId());
 
-    gellyTransGraph = gellyTransGraph
-      .getUndirected()
-      .runScatterGatherIteration(new BtgMessenger(), new BtgUpdater() , 100);
+    DataSet<Tuple2<LongValue, LongValue>> transEdges = mapping.getIndexedEdges()
+      .flatMap(new IndexedEdgeToPairs());
 
+    DataSet<Tuple2<LongValue, LongValue>> components = connectedComponents(
+      vertexIndices.map(new InitialComponent()), transEdges);
 
-    DataSet<Tuple2<GradoopId, GradoopIdSet>> btgVerticesMap = gellyTransGraph
-      .getVerticesAsTuple2()
-      .map(new SwitchPair<>())
-      .groupBy(0)
-      .reduceGroup(new CollectGradoopIds())
-      .map(new ComponentToNewBtgId());
-
-    DataSet<Tuple2<GradoopId, GradoopId>> vertexBtgMap = btgVerticesMap
-      .flatMap(new ExpandGradoopIds<>())
-      .map(new SwitchPair<>());
+    DataSet<Tuple2<GradoopId, GradoopId>> vertexBtgMap = components
+      .groupBy(1)
+      .reduceGroup(new ComponentToBtgIds())
+      .join(vertexIndices)
+      .where(0).equalTo(0)
+      .with(new IndexToVertexId());
 
-    DataSet<GraphHead> graphHeads = btgVerticesMap
-      .map(new Value0Of2<>())
+    DataSet<GraphHead> graphHeads = vertexBtgMap
+      .map(new Value1Of2<>())
+      .distinct()
       .map(new NewBtgGraphHead<>(iig.getConfig().getGraphHeadFactory()));
 
     // filter and update edges
@@ -148,6 +147,43 @@ public class BusinessTransactionGraphs implements
       .fromDataSets(graphHeads, transVertices.union(masterVertices), btgEdges);
   }
 
+  /**
+   * Computes the connected components of the undirected transactional graph by a delta
+   * iteration. Each vertex starts as its own component and adopts the smallest component
+   * offered by a neighbor or by the vertex its current component is named after. Only vertices
+   * whose component changed in a superstep are shipped to the next one.
+   *
+   * @param vertices (index, index)
+   * @param edges (sourceIndex, targetIndex) in both directions
+   * @return (index, component)
+   */
+  private DataSet<Tuple2<LongValue, LongValue>> connectedComponents(
+    DataSet<Tuple2<LongValue, LongValue>> vertices, DataSet<Tuple2<LongValue, LongValue>> edges) {
+
+    DeltaIteration<Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>> iteration =
+      vertices.iterateDelta(vertices, Integer.MAX_VALUE, 0);
+
+    DataSet<Tuple2<LongValue, LongValue>> neighborComponents = iteration.getWorkset()
+      .join(edges)
+      .where(0).equalTo(0)
+      .with(new NeighborComponent());
+
+    DataSet<Tuple2<LongValue, LongValue>> shortcutComponents = iteration.getWorkset()
+      .join(iteration.getSolutionSet())
+      .where(1).equalTo(0)
+      .with(new ComponentOfComponent());
+
+    DataSet<Tuple2<LongValue, LongValue>> changes = neighborComponents
+      .union(shortcutComponents)
+      .groupBy(0)
+      .reduce(new MinComponent())
+      .join(iteration.getSolutionSet())
+      .where(0).equalTo(0)
+      .with(new SmallerComponent());
+
+    return iteration.closeWith(changes, changes);
+  }
+
   @Override
   public String getName() {
     return BusinessTransactionGraphs.class.getName();
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+
+/**
+ * Shortcuts the component of a changed vertex to the current component of the vertex its
+ * component is named after (pointer jumping).
+ *
+ * (index, component),(component, componentOfComponent) -> (index, componentOfComponent)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+@FunctionAnnotation.ForwardedFieldsSecond("f1")
+public class ComponentOfComponent implements JoinFunction
+  <Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, LongValue> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<LongValue, LongValue> join(Tuple2<LongValue, LongValue> vertexComponent,
+    Tuple2<LongValue, LongValue> componentVertex) {
+    reuseTuple.f0 = vertexComponent.f0;
+    reuseTuple.f1 = componentVertex.f1;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Replaces a component by a new graph id.
+ *
+ * (index1, component),..,(indexN, component) -> (index1, btgId),..,(indexN, btgId)
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class ComponentToBtgIds implements
+  GroupReduceFunction<Tuple2<LongValue, LongValue>, Tuple2<LongValue, GradoopId>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, GradoopId> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void reduce(Iterable<Tuple2<LongValue, LongValue>> component,
+    Collector<Tuple2<LongValue, GradoopId>> out) throws Exception {
+    reuseTuple.f1 = GradoopId.get();
+    for (Tuple2<LongValue, LongValue> vertexComponent : component) {
+      reuseTuple.f0 = vertexComponent.f0;
+      out.collect(reuseTuple);
+    }
+  }
+}
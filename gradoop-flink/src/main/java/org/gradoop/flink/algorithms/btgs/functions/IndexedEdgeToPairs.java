@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.types.LongValue;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Emits both directions of an indexed edge.
+ *
+ * (sourceIndex, targetIndex, edge) -> (sourceIndex, targetIndex),(targetIndex, sourceIndex)
+ */
+public class IndexedEdgeToPairs implements
+  FlatMapFunction<Tuple3<LongValue, LongValue, Edge>, Tuple2<LongValue, LongValue>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, LongValue> reuseTuple = new Tuple2<>();
+
+  @Override
+  public void flatMap(Tuple3<LongValue, LongValue, Edge> indexedEdge,
+    Collector<Tuple2<LongValue, LongValue>> out) throws Exception {
+    reuseTuple.f0 = indexedEdge.f0;
+    reuseTuple.f1 = indexedEdge.f1;
+    out.collect(reuseTuple);
+    reuseTuple.f0 = indexedEdge.f1;
+    reuseTuple.f1 = indexedEdge.f0;
+    out.collect(reuseTuple);
+  }
+}
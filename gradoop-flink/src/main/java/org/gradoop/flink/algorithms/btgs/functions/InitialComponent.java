@@ -18,20 +18,27 @@ package org.gradoop.flink.algorithms.btgs.functions;
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
- * replaces a component id by a new graph id
+ * Initially, each vertex is its own component.
+ *
+ * (index, vertexId) -> (index, index)
  */
-@FunctionAnnotation.ForwardedFields("f1->f1")
-public class ComponentToNewBtgId implements MapFunction
-  <Tuple2<GradoopId, GradoopIdSet>, Tuple2<GradoopId, GradoopIdSet>> {
+@FunctionAnnotation.ForwardedFields("f0;f0->f1")
+public class InitialComponent implements
+  MapFunction<Tuple2<LongValue, GradoopId>, Tuple2<LongValue, LongValue>> {
 
-  @Override
-  public Tuple2<GradoopId, GradoopIdSet> map(
-    Tuple2<GradoopId, GradoopIdSet> pair) throws Exception {
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, LongValue> reuseTuple = new Tuple2<>();
 
-    return new Tuple2<>(GradoopId.get(), pair.f1);
+  @Override
+  public Tuple2<LongValue, LongValue> map(Tuple2<LongValue, GradoopId> indexedId) {
+    reuseTuple.f0 = indexedId.f0;
+    reuseTuple.f1 = indexedId.f0;
+    return reuseTuple;
   }
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+
+/**
+ * (index, component1),(index, component2) -> (index, min(component1, component2))
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class MinComponent implements ReduceFunction<Tuple2<LongValue, LongValue>> {
+
+  @Override
+  public Tuple2<LongValue, LongValue> reduce(Tuple2<LongValue, LongValue> first,
+    Tuple2<LongValue, LongValue> second) {
+    return first.f1.compareTo(second.f1) <= 0 ? first : second;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+
+/**
+ * Offers the changed component of a vertex to one of its neighbors.
+ *
+ * (index, component),(index, neighborIndex) -> (neighborIndex, component)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f1")
+@FunctionAnnotation.ForwardedFieldsSecond("f1->f0")
+public class NeighborComponent implements JoinFunction
+  <Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, LongValue> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<LongValue, LongValue> join(Tuple2<LongValue, LongValue> vertexComponent,
+    Tuple2<LongValue, LongValue> edge) {
+    reuseTuple.f0 = edge.f1;
+    reuseTuple.f1 = vertexComponent.f1;
+    return reuseTuple;
+  }
+}
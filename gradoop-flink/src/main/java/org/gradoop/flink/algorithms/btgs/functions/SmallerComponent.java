@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.btgs.functions;
+
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.apache.flink.util.Collector;
+
+/**
+ * Updates the component of a vertex, if the candidate component is smaller than the current
+ * one. Only changed vertices are emitted.
+ *
+ * (index, candidate),(index, component) -> (index, candidate) if candidate < component
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*")
+public class SmallerComponent implements FlatJoinFunction
+  <Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>, Tuple2<LongValue, LongValue>> {
+
+  @Override
+  public void join(Tuple2<LongValue, LongValue> candidate,
+    Tuple2<LongValue, LongValue> current, Collector<Tuple2<LongValue, LongValue>> out) {
+    if (candidate.f1.compareTo(current.f1) < 0) {
+      out.collect(candidate);
+    }
+  }
+}
@@ -106,8 +106,11 @@ public class CategoryCharacteristicSubgraphs
       graphs = preProcessCategories(graphs);
     }
 
+    setLabelDictionary(graphs);
+
     DataSet<CCSSubgraphEmbeddings> embeddings = graphs
-      .flatMap(new CCSSingleEdgeEmbeddings(fsmConfig));
+      .flatMap(new CCSSingleEdgeEmbeddings(fsmConfig))
+      .withBroadcastSet(labelDictionary, TFSMConstants.LABEL_DICTIONARY);
 
     // ITERATION HEAD
     IterativeDataSet<CCSSubgraphEmbeddings> iterative = embeddings
@@ -155,7 +158,7 @@ public class CategoryCharacteristicSubgraphs
     }
 
     return characteristicSubgraphs
-      .map(new CCSSubgraphDecoder(config));
+      .map(new CCSSubgraphDecoder(config, fsmConfig));
   }
 
   /**
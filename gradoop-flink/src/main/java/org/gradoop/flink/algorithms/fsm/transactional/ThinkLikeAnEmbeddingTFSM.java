@@ -20,6 +20,7 @@ import org.apache.flink.api.java.operators.IterativeDataSet;
 import org.gradoop.flink.algorithms.fsm.dimspan.config.DIMSpanConstants;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.ThinkLikeAnEmbeddingFSMBase;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
 import org.gradoop.flink.algorithms.fsm.dimspan.functions.mining.Frequent;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.MinEdgeCount;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.IsResult;
@@ -63,8 +64,11 @@ public class ThinkLikeAnEmbeddingTFSM
     DataSet<TFSMGraph> graphs = transactions
       .map(new ToTFSMGraph());
 
+    setLabelDictionary(graphs);
+
     DataSet<TFSMSubgraphEmbeddings> embeddings = graphs
-      .flatMap(new TFSMSingleEdgeEmbeddings(fsmConfig));
+      .flatMap(new TFSMSingleEdgeEmbeddings(fsmConfig))
+      .withBroadcastSet(labelDictionary, TFSMConstants.LABEL_DICTIONARY);
 
     // ITERATION HEAD
     IterativeDataSet<TFSMSubgraphEmbeddings> iterative = embeddings
@@ -106,7 +110,7 @@ public class ThinkLikeAnEmbeddingTFSM
         .filter(new MinEdgeCount<>(fsmConfig));
     }
 
-    return allFrequentSubgraphs.map(new TFSMSubgraphDecoder(config));
+    return allFrequentSubgraphs.map(new TFSMSubgraphDecoder(config, fsmConfig));
   }
 
   /**
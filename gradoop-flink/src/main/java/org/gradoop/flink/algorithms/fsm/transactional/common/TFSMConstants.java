@@ -35,6 +35,11 @@ public class TFSMConstants {
    */
   public static final String FREQUENT_EDGE_LABELS = "fel";
 
+  /**
+   * dictionary of vertex and edge labels
+   */
+  public static final String LABEL_DICTIONARY = "ld";
+
   /**
    * set of frequent patterns
    */
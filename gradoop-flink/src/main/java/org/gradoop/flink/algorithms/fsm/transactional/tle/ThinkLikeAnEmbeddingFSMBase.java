@@ -17,6 +17,9 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle;
 
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
+import org.gradoop.flink.algorithms.fsm.transactional.common.functions.SortedDictionary;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.GraphLabels;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.MergeEmbeddings;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.functions.JoinEmbeddings;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMGraph;
@@ -24,6 +27,7 @@ import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.Subgraph;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.SubgraphEmbeddings;
 import org.gradoop.flink.model.impl.functions.utils.LeftSide;
 
+import java.util.Map;
 
 /**
  * Superclass of transactional FSM and derivatives.
@@ -36,6 +40,11 @@ public abstract class ThinkLikeAnEmbeddingFSMBase
   <G extends FSMGraph, S extends Subgraph, SE extends SubgraphEmbeddings>
   extends TransactionalFSMBase {
 
+  /**
+   * dictionary of vertex and edge labels used to encode canonical labels
+   */
+  protected DataSet<Map<String, Integer>> labelDictionary;
+
   /**
    * Constructor.
    *
@@ -45,6 +54,20 @@ public abstract class ThinkLikeAnEmbeddingFSMBase
     super(fsmConfig);
   }
 
+  /**
+   * Creates the dictionary of all vertex and edge labels of the search space. Frequent labels
+   * are translated to large integers.
+   *
+   * @param graphs search space
+   */
+  protected void setLabelDictionary(DataSet<G> graphs) {
+    labelDictionary = graphs
+      .flatMap(new GraphLabels<>())
+      .groupBy(0)
+      .sum(1)
+      .reduceGroup(new SortedDictionary());
+  }
+
   /**
    * Grows children of embeddings of frequent subgraphs.
    *
@@ -62,7 +85,8 @@ public abstract class ThinkLikeAnEmbeddingFSMBase
       .reduceGroup(new MergeEmbeddings<>());
 
     return parents
-      .flatMap(new JoinEmbeddings<>(fsmConfig));
+      .flatMap(new JoinEmbeddings<>(fsmConfig))
+      .withBroadcastSet(labelDictionary, TFSMConstants.LABEL_DICTIONARY);
   }
 
   /**
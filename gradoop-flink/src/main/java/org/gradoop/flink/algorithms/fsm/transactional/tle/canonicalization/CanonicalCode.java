@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Binary canonical label of a subgraph, see {@link CanonicalEncoder}.
+ *
+ * Codes are compared lexicographically. The hash code is computed once, thus codes are cheap
+ * grouping keys in hash tables and shuffles.
+ */
+public class CanonicalCode implements Value, Comparable<CanonicalCode> {
+
+  /**
+   * empty code array
+   */
+  private static final int[] EMPTY = new int[0];
+
+  /**
+   * code
+   */
+  private int[] code;
+
+  /**
+   * cached hash code
+   */
+  private int hash;
+
+  /**
+   * Default constructor, creates an empty code.
+   */
+  public CanonicalCode() {
+    this(EMPTY);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param code code, will not be copied
+   */
+  CanonicalCode(int[] code) {
+    this.code = code;
+    this.hash = Arrays.hashCode(code);
+  }
+
+  /**
+   * Compares two int arrays lexicographically, a proper prefix is smaller.
+   *
+   * @param left left array
+   * @param right right array
+   * @return comparison result
+   */
+  static int compare(int[] left, int[] right) {
+    int length = Math.min(left.length, right.length);
+    for (int i = 0; i < length; i++) {
+      if (left[i] != right[i]) {
+        return Integer.compare(left[i], right[i]);
+      }
+    }
+    return Integer.compare(left.length, right.length);
+  }
+
+  @Override
+  public int compareTo(CanonicalCode that) {
+    return compare(this.code, that.code);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CanonicalCode that = (CanonicalCode) o;
+    return hash == that.hash && Arrays.equals(code, that.code);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(code.length);
+    for (int value : code) {
+      out.writeInt(value);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    int length = in.readInt();
+    code = length == 0 ? EMPTY : new int[length];
+    for (int i = 0; i < length; i++) {
+      code[i] = in.readInt();
+    }
+    hash = Arrays.hashCode(code);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(code);
+  }
+}
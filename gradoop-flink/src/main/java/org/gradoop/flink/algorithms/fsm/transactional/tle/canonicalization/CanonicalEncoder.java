@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization;
+
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Creates a binary canonical code for a given graph embedding that represents its adjacency
+ * matrix. The code is equivalent to the string label of {@link CanonicalLabeler} but built
+ * from dictionary encoded labels:
+ *
+ * For each vertex, the incident edges are encoded as label and direction and grouped by
+ * adjacent vertex. An adjacency list entry is (adjacentVertexLabel, edgeCount, edges..) with
+ * sorted edges, an adjacency list is (vertexLabel, entryCount, entries..) with sorted entries.
+ * The code is the concatenation of all sorted adjacency lists.
+ */
+public class CanonicalEncoder implements Serializable {
+
+  /**
+   * direction code of an outgoing edge
+   */
+  private static final int OUTGOING_EDGE = 0;
+  /**
+   * direction code of an incoming edge
+   */
+  private static final int INCOMING_EDGE = 1;
+  /**
+   * direction code of an undirected edge
+   */
+  private static final int UNDIRECTED_EDGE = 2;
+  /**
+   * number of bits used to encode the edge direction
+   */
+  private static final int DIRECTION_BITS = 2;
+
+  /**
+   * true, if the code should represent directed graphs,
+   * false, otherwise
+   */
+  private final boolean directed;
+
+  /**
+   * label dictionary
+   */
+  private Map<String, Integer> dictionary;
+
+  /**
+   * Constructor.
+   *
+   * @param directed true for directed mode
+   */
+  public CanonicalEncoder(boolean directed) {
+    this.directed = directed;
+  }
+
+  /**
+   * Sets the dictionary used to encode vertex and edge labels.
+   *
+   * @param dictionary label dictionary
+   */
+  public void setDictionary(Map<String, Integer> dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  /**
+   * Creates a canonical subgraph code
+   *
+   * @param embedding subgraph
+   *
+   * @return canonical code
+   */
+  public CanonicalCode encode(Embedding embedding) {
+    Map<Integer, String> vertices = embedding.getVertices();
+    Map<Integer, FSMEdge> edges = embedding.getEdges();
+
+    int vertexCount = vertices.size();
+    int[] vertexIds = new int[vertexCount];
+    int[] vertexLabels = new int[vertexCount];
+
+    int vertexIndex = 0;
+    for (Map.Entry<Integer, String> vertex : vertices.entrySet()) {
+      vertexIds[vertexIndex] = vertex.getKey();
+      vertexLabels[vertexIndex] = dictionary.get(vertex.getValue());
+      vertexIndex++;
+    }
+
+    // incidences per vertex, each (adjacentVertexIndex, edgeCode) packed into a long
+    long[][] incidences = new long[vertexCount][];
+    int[] degrees = new int[vertexCount];
+
+    for (FSMEdge edge : edges.values()) {
+      degrees[indexOf(vertexIds, edge.getSourceId())]++;
+      if (edge.getSourceId() != edge.getTargetId()) {
+        degrees[indexOf(vertexIds, edge.getTargetId())]++;
+      }
+    }
+    for (int i = 0; i < vertexCount; i++) {
+      incidences[i] = new long[degrees[i]];
+      degrees[i] = 0;
+    }
+
+    for (FSMEdge edge : edges.values()) {
+      int source = indexOf(vertexIds, edge.getSourceId());
+      int target = indexOf(vertexIds, edge.getTargetId());
+      int label = dictionary.get(edge.getLabel());
+
+      incidences[source][degrees[source]++] =
+        incidence(target, label, directed ? OUTGOING_EDGE : UNDIRECTED_EDGE);
+
+      if (source != target) {
+        incidences[target][degrees[target]++] =
+          incidence(source, label, directed ? INCOMING_EDGE : UNDIRECTED_EDGE);
+      }
+    }
+
+    int[][] adjacencyLists = new int[vertexCount][];
+    int length = 0;
+    for (int i = 0; i < vertexCount; i++) {
+      adjacencyLists[i] = adjacencyList(vertexLabels, i, incidences[i]);
+      length += adjacencyLists[i].length;
+    }
+
+    Arrays.sort(adjacencyLists, CanonicalCode::compare);
+
+    int[] code = new int[length];
+    int offset = 0;
+    for (int[] adjacencyList : adjacencyLists) {
+      System.arraycopy(adjacencyList, 0, code, offset, adjacencyList.length);
+      offset += adjacencyList.length;
+    }
+
+    return new CanonicalCode(code);
+  }
+
+  /**
+   * Creates the adjacency list of a vertex.
+   *
+   * @param vertexLabels encoded vertex labels
+   * @param vertex vertex index
+   * @param incidences incidences of the vertex
+   * @return (vertexLabel, entryCount, (adjacentVertexLabel, edgeCount, edgeCodes..)..)
+   */
+  private int[] adjacencyList(int[] vertexLabels, int vertex, long[] incidences) {
+    // sorting groups incidences by adjacent vertex and sorts edges within a group
+    Arrays.sort(incidences);
+
+    int entryCount = 0;
+    for (int i = 0; i < incidences.length; i++) {
+      if (i == 0 || adjacentVertex(incidences[i]) != adjacentVertex(incidences[i - 1])) {
+        entryCount++;
+      }
+    }
+
+    int[][] entries = new int[entryCount][];
+    int length = 2;
+    int entry = 0;
+    int start = 0;
+    for (int i = 1; i <= incidences.length; i++) {
+      if (i == incidences.length ||
+        adjacentVertex(incidences[i]) != adjacentVertex(incidences[start])) {
+
+        int[] entryCode = new int[2 + i - start];
+        entryCode[0] = vertexLabels[adjacentVertex(incidences[start])];
+        entryCode[1] = i - start;
+        for (int j = start; j < i; j++) {
+          entryCode[2 + j - start] = (int) incidences[j];
+        }
+        entries[entry++] = entryCode;
+        length += entryCode.length;
+        start = i;
+      }
+    }
+
+    Arrays.sort(entries, CanonicalCode::compare);
+
+    int[] adjacencyList = new int[length];
+    adjacencyList[0] = vertexLabels[vertex];
+    adjacencyList[1] = entryCount;
+    int offset = 2;
+    for (int[] entryCode : entries) {
+      System.arraycopy(entryCode, 0, adjacencyList, offset, entryCode.length);
+      offset += entryCode.length;
+    }
+    return adjacencyList;
+  }
+
+  /**
+   * Packs an incidence into a long. The adjacent vertex is stored in the upper, the edge code
+   * in the lower 32 bit. Thus, incidences sort by adjacent vertex and edge code.
+   *
+   * @param adjacentVertex adjacent vertex index
+   * @param edgeLabel encoded edge label
+   * @param direction direction code
+   * @return incidence
+   */
+  private long incidence(int adjacentVertex, int edgeLabel, int direction) {
+    return (long) adjacentVertex << Integer.SIZE | (edgeLabel << DIRECTION_BITS | direction);
+  }
+
+  /**
+   * Returns the adjacent vertex index of an incidence.
+   *
+   * @param incidence incidence
+   * @return adjacent vertex index
+   */
+  private int adjacentVertex(long incidence) {
+    return (int) (incidence >>> Integer.SIZE);
+  }
+
+  /**
+   * Returns the index of a vertex.
+   *
+   * @param vertexIds vertex ids
+   * @param vertexId vertex id
+   * @return vertex index
+   */
+  private int indexOf(int[] vertexIds, int vertexId) {
+    int index = 0;
+    while (vertexIds[index] != vertexId) {
+      index++;
+    }
+    return index;
+  }
+}
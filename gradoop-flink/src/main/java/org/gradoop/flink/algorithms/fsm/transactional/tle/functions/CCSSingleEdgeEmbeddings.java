@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.CCSGraph;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.CCSSubgraphEmbeddings;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
@@ -49,14 +50,14 @@ public class CCSSingleEdgeEmbeddings extends SingleEdgeEmbeddings
   public void flatMap(CCSGraph graph,
     Collector<CCSSubgraphEmbeddings> out) throws Exception {
 
-    Map<String, List<Embedding>> subgraphEmbeddings =
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings =
       createEmbeddings(graph);
 
     reuseTuple.setCategory(graph.getCategory());
     reuseTuple.setGraphId(graph.getId());
     reuseTuple.setSize(1);
 
-    for (Map.Entry<String, List<Embedding>> entry :
+    for (Map.Entry<CanonicalCode, List<Embedding>> entry :
       subgraphEmbeddings.entrySet()) {
 
       reuseTuple.setCanonicalLabel(entry.getKey());
@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
 import org.gradoop.flink.algorithms.fsm.transactional.CategoryCharacteristicSubgraphs;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.CCSSubgraph;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
@@ -36,9 +37,10 @@ public class CCSSubgraphDecoder extends SubgraphDecoder
    * Constructor.
    *
    * @param config Gradoop Flink configuration
+   * @param fsmConfig FSM configuration
    */
-  public CCSSubgraphDecoder(GradoopFlinkConfig config) {
-    super(config);
+  public CCSSubgraphDecoder(GradoopFlinkConfig config, FSMConfig fsmConfig) {
+    super(config, fsmConfig);
   }
 
   @Override
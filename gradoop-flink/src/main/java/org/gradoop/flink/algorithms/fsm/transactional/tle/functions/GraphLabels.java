@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
+
+import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMGraph;
+import org.gradoop.flink.model.impl.tuples.WithCount;
+
+import java.util.Set;
+
+/**
+ * graph -> (label,1L),.. for all distinct vertex and edge labels
+ *
+ * @param <G> graph type
+ */
+public class GraphLabels<G extends FSMGraph>
+  implements FlatMapFunction<G, WithCount<String>> {
+
+  /**
+   * reuse tuple to avoid instantiations
+   */
+  private final WithCount<String> reuseTuple = new WithCount<>(null, 1);
+
+  @Override
+  public void flatMap(G graph, Collector<WithCount<String>> out) throws Exception {
+
+    Set<String> labels = Sets.newHashSet(graph.getVertices().values());
+
+    for (FSMEdge edge : graph.getEdges().values()) {
+      labels.add(edge.getLabel());
+    }
+
+    for (String label : labels) {
+      reuseTuple.setObject(label);
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -18,11 +18,15 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import org.apache.flink.api.common.functions.AbstractRichFunction;
 import org.apache.flink.api.common.functions.FlatJoinFunction;
 import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
-import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalLabeler;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalEncoder;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMGraph;
@@ -41,12 +45,12 @@ import java.util.TreeSet;
  * @param <SE> subgraph type
  */
 public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
-  implements FlatJoinFunction<SE, G, SE>, FlatMapFunction<SE, SE> {
+  extends AbstractRichFunction implements FlatJoinFunction<SE, G, SE>, FlatMapFunction<SE, SE> {
 
   /**
-   * Labeler used to generate canonical labels.
+   * Encoder used to generate canonical codes.
    */
-  private final CanonicalLabeler canonicalLabeler;
+  private final CanonicalEncoder canonicalEncoder;
 
   /**
    * Constructor.
@@ -54,7 +58,17 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
    * @param fsmConfig FSM configuration.
    */
   public JoinEmbeddings(FSMConfig fsmConfig) {
-    this.canonicalLabeler = new CanonicalLabeler(fsmConfig.isDirected());
+    this.canonicalEncoder = new CanonicalEncoder(fsmConfig.isDirected());
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Map<String, Integer>> dictionary = getRuntimeContext()
+      .getBroadcastVariable(TFSMConstants.LABEL_DICTIONARY);
+    // the dictionary is missing for an empty search space
+    canonicalEncoder.setDictionary(
+      dictionary.isEmpty() ? Maps.newHashMap() : dictionary.get(0));
   }
 
   @Override
@@ -62,7 +76,7 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
     Exception {
 
     Set<TreeSet<Integer>> edgeSets = Sets.newHashSet();
-    Map<String, List<Embedding>> subgraphEmbeddings = Maps.newHashMap();
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings = Maps.newHashMap();
 
     for (Embedding parent : embeddings.getEmbeddings()) {
       for (Map.Entry<Integer, FSMEdge> entry : graph.getEdges().entrySet()) {
@@ -99,7 +113,7 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
                   .put(targetId, graph.getVertices().get(targetId));
               }
 
-              String canonicalLabel = canonicalLabeler.label(child);
+              CanonicalCode canonicalLabel = canonicalEncoder.encode(child);
 
               List<Embedding> siblings =
                 subgraphEmbeddings.get(canonicalLabel);
@@ -122,7 +136,7 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
   @Override
   public void flatMap(SE embeddings, Collector<SE> collector) throws Exception {
 
-    Map<String, List<Embedding>> subgraphEmbeddings;
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings;
 
     if (embeddings.getSize() == 1) {
       subgraphEmbeddings = joinOnVertex(embeddings);
@@ -139,8 +153,8 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
    * @param embeddings k-edge embeddings
    * @return Map of k+1-edge subgraphs and embeddings
    */
-  private Map<String, List<Embedding>> joinOnEdgeOverlap(SE embeddings) {
-    Map<String, List<Embedding>> subgraphEmbeddings;
+  private Map<CanonicalCode, List<Embedding>> joinOnEdgeOverlap(SE embeddings) {
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings;
     subgraphEmbeddings = Maps.newHashMap();
     List<Embedding> parents = embeddings.getEmbeddings();
 
@@ -192,7 +206,7 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
               child.getVertices().putAll(right.getVertices());
               child.getEdges().putAll(right.getEdges());
 
-              String canonicalLabel = canonicalLabeler.label(child);
+              CanonicalCode canonicalLabel = canonicalEncoder.encode(child);
 
               List<Embedding> siblings =
                 subgraphEmbeddings.get(canonicalLabel);
@@ -217,8 +231,8 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
    * @param embeddings 1-edge embeddings
    * @return Map of 2-edge subgraphs and embeddings
    */
-  private Map<String, List<Embedding>> joinOnVertex(SE embeddings) {
-    Map<String, List<Embedding>> subgraphEmbeddings;
+  private Map<CanonicalCode, List<Embedding>> joinOnVertex(SE embeddings) {
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings;
     subgraphEmbeddings = Maps.newHashMap();
     List<Embedding> parents = embeddings.getEmbeddings();
 
@@ -242,7 +256,7 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
           child.getVertices().putAll(right.getVertices());
           child.getEdges().putAll(right.getEdges());
 
-          String canonicalLabel = canonicalLabeler.label(child);
+          CanonicalCode canonicalLabel = canonicalEncoder.encode(child);
 
           List<Embedding> siblings =
             subgraphEmbeddings.get(canonicalLabel);
@@ -267,11 +281,11 @@ public class JoinEmbeddings<G extends FSMGraph, SE extends SubgraphEmbeddings>
    * @param subgraphEmbeddings subgraphs and embeddings.
    */
   private void collect(SE reuseTuple, Collector<SE> out,
-    Map<String, List<Embedding>> subgraphEmbeddings) {
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings) {
 
     reuseTuple.setSize(reuseTuple.getSize() + 1);
 
-    for (Map.Entry<String, List<Embedding>> entry :
+    for (Map.Entry<CanonicalCode, List<Embedding>> entry :
       subgraphEmbeddings.entrySet()) {
 
       reuseTuple.setCanonicalLabel(entry.getKey());
@@ -17,12 +17,13 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 
 import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.util.Collector;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.SubgraphEmbeddings;
 
 import java.util.Iterator;
 
 /**
- * (graph, subgraph, embeddings),.. => (graph, "", embeddings)
+ * (graph, subgraph, embeddings),.. => (graph, [], embeddings)
  *
  * @param <SE>
  */
@@ -36,7 +37,7 @@ public class MergeEmbeddings<SE extends SubgraphEmbeddings>
     Iterator<SE> iterator = iterable.iterator();
 
     SE out = iterator.next();
-    out.setCanonicalLabel("");
+    out.setCanonicalLabel(new CanonicalCode());
 
     while (iterator.hasNext()) {
       out.getEmbeddings().addAll(iterator.next().getEmbeddings());
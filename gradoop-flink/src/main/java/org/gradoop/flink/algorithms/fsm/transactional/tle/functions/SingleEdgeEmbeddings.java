@@ -17,13 +17,16 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.apache.flink.api.common.functions.AbstractRichFunction;
+import org.apache.flink.configuration.Configuration;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
-import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalLabeler;
+import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalEncoder;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMGraph;
 
-import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
@@ -31,12 +34,12 @@ import java.util.Map;
  * Superclass of flatmap functions extracting distinct single-edge subgraphs
  * and all embeddings from a graph.
  */
-public abstract class SingleEdgeEmbeddings implements Serializable {
+public abstract class SingleEdgeEmbeddings extends AbstractRichFunction {
 
   /**
-   * graph labeler
+   * graph encoder
    */
-  protected CanonicalLabeler canonicalLabeler;
+  protected CanonicalEncoder canonicalEncoder;
 
   /**
    * Constructor.
@@ -44,7 +47,17 @@ public abstract class SingleEdgeEmbeddings implements Serializable {
    * @param fsmConfig FSM configuration
    */
   public SingleEdgeEmbeddings(FSMConfig fsmConfig) {
-    canonicalLabeler = new CanonicalLabeler(fsmConfig.isDirected());
+    canonicalEncoder = new CanonicalEncoder(fsmConfig.isDirected());
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+    List<Map<String, Integer>> dictionary = getRuntimeContext()
+      .getBroadcastVariable(TFSMConstants.LABEL_DICTIONARY);
+    // the dictionary is missing for an empty search space
+    canonicalEncoder.setDictionary(
+      dictionary.isEmpty() ? Maps.newHashMap() : dictionary.get(0));
   }
 
   /**
@@ -53,11 +66,11 @@ public abstract class SingleEdgeEmbeddings implements Serializable {
    * @param graph graph
    * @return 1-edge embeddings
    */
-  protected Map<String, List<Embedding>> createEmbeddings(
+  protected Map<CanonicalCode, List<Embedding>> createEmbeddings(
     FSMGraph graph) {
 
     Map<Integer, String> vertices = graph.getVertices();
-    Map<String, List<Embedding>> subgraphEmbeddings = Maps.newHashMap();
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings = Maps.newHashMap();
 
     for (Map.Entry<Integer, FSMEdge> entry : graph.getEdges().entrySet()) {
 
@@ -80,7 +93,7 @@ public abstract class SingleEdgeEmbeddings implements Serializable {
       Embedding
         embedding = new Embedding(incidentVertices, singleEdge);
 
-      String subgraph = canonicalLabeler.label(embedding);
+      CanonicalCode subgraph = canonicalEncoder.encode(embedding);
 
       List<Embedding> embeddings = subgraphEmbeddings.get(subgraph);
 
@@ -27,7 +27,9 @@ import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
 import org.gradoop.flink.algorithms.fsm.transactional.common.TFSMConstants;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalLabeler;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.FSMEdge;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.Subgraph;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
@@ -56,16 +58,22 @@ public abstract class SubgraphDecoder implements Serializable {
    * edge Factory
    */
   protected final EPGMEdgeFactory<Edge> edgeFactory;
+  /**
+   * labeler used to create the canonical label property
+   */
+  private final CanonicalLabeler canonicalLabeler;
 
   /**
    * Constructor.
    *
    * @param config Gradoop configuration
+   * @param fsmConfig FSM configuration
    */
-  public SubgraphDecoder(GradoopFlinkConfig config) {
+  public SubgraphDecoder(GradoopFlinkConfig config, FSMConfig fsmConfig) {
     vertexFactory = config.getVertexFactory();
     graphHeadFactory = config.getGraphHeadFactory();
     edgeFactory = config.getEdgeFactory();
+    canonicalLabeler = new CanonicalLabeler(fsmConfig.isDirected());
   }
 
   /**
@@ -83,7 +91,8 @@ public abstract class SubgraphDecoder implements Serializable {
     Properties properties = new Properties();
 
     properties.set(TFSMConstants.SUPPORT_KEY, subgraph.getCount());
-    properties.set(TFSMConstants.CANONICAL_LABEL_KEY, subgraph.getCanonicalLabel());
+    properties.set(TFSMConstants.CANONICAL_LABEL_KEY,
+      canonicalLabeler.label(subgraph.getEmbedding()));
 
     GraphHead epgmGraphHead = graphHeadFactory
       .createGraphHead(canonicalLabel, properties);
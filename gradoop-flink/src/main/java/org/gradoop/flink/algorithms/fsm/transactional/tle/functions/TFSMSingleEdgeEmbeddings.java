@@ -18,6 +18,7 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 import org.apache.flink.api.common.functions.FlatMapFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.TFSMGraph;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.TFSMSubgraphEmbeddings;
@@ -50,13 +51,13 @@ public class TFSMSingleEdgeEmbeddings extends SingleEdgeEmbeddings
   public void flatMap(
     TFSMGraph graph, Collector<TFSMSubgraphEmbeddings> out) throws Exception {
 
-    Map<String, List<Embedding>> subgraphEmbeddings =
+    Map<CanonicalCode, List<Embedding>> subgraphEmbeddings =
       createEmbeddings(graph);
 
     reuseTuple.setGraphId(graph.getId());
     reuseTuple.setSize(1);
 
-    for (Map.Entry<String, List<Embedding>> entry :
+    for (Map.Entry<CanonicalCode, List<Embedding>> entry :
       subgraphEmbeddings.entrySet()) {
 
       reuseTuple.setCanonicalLabel(entry.getKey());
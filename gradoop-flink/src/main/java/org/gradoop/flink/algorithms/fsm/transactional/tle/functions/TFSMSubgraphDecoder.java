@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.fsm.transactional.tle.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.gradoop.flink.algorithms.fsm.transactional.common.FSMConfig;
 
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.tuples.TFSMSubgraph;
@@ -36,9 +37,10 @@ public class TFSMSubgraphDecoder extends SubgraphDecoder
    * Constructor.
    *
    * @param config Gradoop Flink configuration
+   * @param fsmConfig FSM configuration
    */
-  public TFSMSubgraphDecoder(GradoopFlinkConfig config) {
-    super(config);
+  public TFSMSubgraphDecoder(GradoopFlinkConfig config, FSMConfig fsmConfig) {
+    super(config, fsmConfig);
   }
 
   @Override
@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
 import org.apache.flink.api.java.tuple.Tuple5;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 
 /**
@@ -24,7 +25,7 @@ import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
  * (canonicalLabel, frequency, sample embedding)
  */
 public class CCSSubgraph
-  extends Tuple5<String, Long, Embedding, String, Boolean> implements Subgraph {
+  extends Tuple5<CanonicalCode, Long, Embedding, String, Boolean> implements Subgraph {
 
   /**
    * Default constructor.
@@ -41,18 +42,18 @@ public class CCSSubgraph
    * @param embedding sample embedding
    * @param interesting true, if interesting
    */
-  public CCSSubgraph(String category, String subgraph, Long frequency,
+  public CCSSubgraph(String category, CanonicalCode subgraph, Long frequency,
     Embedding embedding, Boolean interesting) {
     super(subgraph, frequency, embedding, category, interesting);
   }
 
   @Override
-  public String getCanonicalLabel() {
+  public CanonicalCode getCanonicalLabel() {
     return f0;
   }
 
   @Override
-  public void setCanonicalLabel(String subgraph) {
+  public void setCanonicalLabel(CanonicalCode subgraph) {
     f0 = subgraph;
   }
 
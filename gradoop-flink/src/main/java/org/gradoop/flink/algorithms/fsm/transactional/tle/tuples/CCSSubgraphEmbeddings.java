@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
 import org.apache.flink.api.java.tuple.Tuple5;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 
 import java.util.List;
@@ -28,7 +29,7 @@ import java.util.List;
  * (category, graphId, size, canonicalLabel, embeddings)
  */
 public class CCSSubgraphEmbeddings
-  extends Tuple5<GradoopId, Integer, String, List<Embedding>, String>
+  extends Tuple5<GradoopId, Integer, CanonicalCode, List<Embedding>, String>
   implements SubgraphEmbeddings {
 
   /**
@@ -63,11 +64,11 @@ public class CCSSubgraphEmbeddings
   }
 
 
-  public String getCanonicalLabel() {
+  public CanonicalCode getCanonicalLabel() {
     return f2;
   }
 
-  public void setCanonicalLabel(String label) {
+  public void setCanonicalLabel(CanonicalCode label) {
     f2 = label;
   }
 
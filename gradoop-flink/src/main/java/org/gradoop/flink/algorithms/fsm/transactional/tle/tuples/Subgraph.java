@@ -15,6 +15,7 @@
  */
 package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 import org.gradoop.flink.model.api.tuples.Countable;
 
@@ -31,14 +32,14 @@ public interface Subgraph extends Countable, Serializable {
    *
    * @return canonical label
    */
-  String getCanonicalLabel();
+  CanonicalCode getCanonicalLabel();
 
   /**
    * Sets the canonical label of a subgraph.
    *
    * @param label canonical label
    */
-  void setCanonicalLabel(String label);
+  void setCanonicalLabel(CanonicalCode label);
 
   /**
    * Returns a sample embedding.
@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 
 import java.util.List;
@@ -58,14 +59,14 @@ public interface SubgraphEmbeddings {
    *
    * @return canonical label
    */
-  String getCanonicalLabel();
+  CanonicalCode getCanonicalLabel();
 
   /**
    * Setter.
    *
    * @param label canonical label
    */
-  void setCanonicalLabel(String label);
+  void setCanonicalLabel(CanonicalCode label);
 
   /**
    * Getter.
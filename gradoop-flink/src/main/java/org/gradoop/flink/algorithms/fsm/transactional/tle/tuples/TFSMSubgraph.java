@@ -16,6 +16,7 @@
 package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 
 /**
@@ -24,7 +25,7 @@ import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
  * (canonicalLabel, frequency, sample embedding)
  */
 public class TFSMSubgraph
-  extends Tuple3<String, Long, Embedding> implements Subgraph {
+  extends Tuple3<CanonicalCode, Long, Embedding> implements Subgraph {
 
   /**
    * Default constructor.
@@ -40,15 +41,15 @@ public class TFSMSubgraph
    * @param frequency frequency
    * @param embedding sample embedding
    */
-  public TFSMSubgraph(String subgraph, Long frequency, Embedding embedding) {
+  public TFSMSubgraph(CanonicalCode subgraph, Long frequency, Embedding embedding) {
     super(subgraph, frequency, embedding);
   }
 
-  public String getCanonicalLabel() {
+  public CanonicalCode getCanonicalLabel() {
     return f0;
   }
 
-  public void setCanonicalLabel(String subgraph) {
+  public void setCanonicalLabel(CanonicalCode subgraph) {
     f0 = subgraph;
   }
 
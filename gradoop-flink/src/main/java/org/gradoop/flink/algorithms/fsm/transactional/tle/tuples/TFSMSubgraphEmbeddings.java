@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.fsm.transactional.tle.tuples;
 
 import org.apache.flink.api.java.tuple.Tuple4;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.algorithms.fsm.transactional.tle.canonicalization.CanonicalCode;
 import org.gradoop.flink.algorithms.fsm.transactional.tle.pojos.Embedding;
 
 import java.util.List;
@@ -28,7 +29,7 @@ import java.util.List;
  * (graphId, size, canonicalLabel, embeddings)
  */
 public class TFSMSubgraphEmbeddings
-  extends Tuple4<GradoopId, Integer, String, List<Embedding>>
+  extends Tuple4<GradoopId, Integer, CanonicalCode, List<Embedding>>
   implements SubgraphEmbeddings {
 
   /**
@@ -59,12 +60,12 @@ public class TFSMSubgraphEmbeddings
   }
 
   @Override
-  public String getCanonicalLabel() {
+  public CanonicalCode getCanonicalLabel() {
     return f2;
   }
 
   @Override
-  public void setCanonicalLabel(String label) {
+  public void setCanonicalLabel(CanonicalCode label) {
     f2 = label;
   }
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.algorithms.gelly.functions.IndexEdgeSource;
+import org.gradoop.flink.algorithms.gelly.functions.IndexEdgeTarget;
+import org.gradoop.flink.algorithms.gelly.functions.IndexToLongValue;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToId;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.SourceId;
+
+/**
+ * Assigns dense {@link LongValue} identifiers (0 to n-1) to the vertices of a
+ * {@link LogicalGraph}.
+ *
+ * Gelly algorithms running on the dense identifiers hash and compare 8 instead of 12 byte keys in
+ * each superstep. The vertices and edges are indexed once, so that the Gelly results can be
+ * joined back with their vertices in a single join. A mapping can be shared by several
+ * {@link GellyAlgorithm}s executed on the same graph, see
+ * {@link GellyAlgorithm#useDenseIds(DenseIdMapping)}.
+ */
+public class DenseIdMapping {
+
+  /**
+   * The graph the mapping was created for.
+   */
+  private final LogicalGraph graph;
+
+  /**
+   * Vertices with their dense identifier.
+   */
+  private final DataSet<Tuple2<LongValue, Vertex>> indexedVertices;
+
+  /**
+   * Edges with the dense identifiers of their source and target vertex.
+   */
+  private final DataSet<Tuple3<LongValue, LongValue, Edge>> indexedEdges;
+
+  /**
+   * Creates the mapping for the given graph.
+   *
+   * @param graph logical graph
+   */
+  public DenseIdMapping(LogicalGraph graph) {
+    this.graph = graph;
+
+    this.indexedVertices = DataSetUtils.zipWithIndex(graph.getVertices())
+      .map(new IndexToLongValue());
+
+    DataSet<Tuple2<LongValue, GradoopId>> vertexIds = indexedVertices
+      .map(new IndexedVertexToId());
+
+    this.indexedEdges = graph.getEdges()
+      .join(vertexIds)
+      .where(new SourceId<>()).equalTo(1)
+      .with(new IndexEdgeSource())
+      .join(vertexIds)
+      .where("f1.targetId").equalTo(1)
+      .with(new IndexEdgeTarget());
+  }
+
+  /**
+   * Returns the graph the mapping was created for.
+   *
+   * @return logical graph
+   */
+  public LogicalGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Returns the vertices together with their dense identifier.
+   *
+   * @return (index, vertex)
+   */
+  public DataSet<Tuple2<LongValue, Vertex>> getIndexedVertices() {
+    return indexedVertices;
+  }
+
+  /**
+   * Returns the edges together with the dense identifiers of their source and target vertex.
+   *
+   * @return (sourceIndex, targetIndex, edge)
+   */
+  public DataSet<Tuple3<LongValue, LongValue, Edge>> getIndexedEdges() {
+    return indexedEdges;
+  }
+}
@@ -15,12 +15,21 @@
  */
 package org.gradoop.flink.algorithms.gelly;
 
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.apache.flink.api.java.typeutils.ValueTypeInfo;
 import org.apache.flink.graph.Edge;
 import org.apache.flink.graph.Graph;
 import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedEdgeToGellyEdge;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexJoin;
+import org.gradoop.flink.algorithms.gelly.functions.IndexedVertexToGellyVertex;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
@@ -48,6 +57,11 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
    */
   private final VertexToGellyVertex<E> toGellyVertex;
 
+  /**
+   * Optional mapping to dense vertex identifiers, see {@link #useDenseIds(DenseIdMapping)}.
+   */
+  private DenseIdMapping denseIdMapping;
+
   /**
    * Base constructor, only setting the mapper functions.
    *
@@ -59,11 +73,30 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
     this.toGellyEdge = edgeValue;
   }
 
+  /**
+   * Executes the algorithm on dense {@link LongValue} vertex identifiers instead of
+   * {@link GradoopId}s. The mapping must have been created for the graph the algorithm is
+   * executed on and may be shared by multiple algorithms.
+   *
+   * @param mapping mapping to dense vertex identifiers
+   * @return this algorithm
+   */
+  public GellyAlgorithm<E, F> useDenseIds(DenseIdMapping mapping) {
+    this.denseIdMapping = mapping;
+    return this;
+  }
+
   @Override
   public LogicalGraph execute(LogicalGraph graph) {
+    if (denseIdMapping != null && denseIdMapping.getGraph() != graph) {
+      throw new IllegalArgumentException("Dense id mapping was created for a different graph.");
+    }
     currentGraph = graph;
     try {
-      return executeInGelly(transformToGelly(graph));
+      if (denseIdMapping == null) {
+        return executeInGelly(transformToGelly(graph));
+      }
+      return executeInGellyWithDenseIds(transformToDenseGelly(graph));
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -82,6 +115,64 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
       graph.getConfig().getExecutionEnvironment());
   }
 
+  /**
+   * Transformation from a Gradoop Graph to a Gelly Graph using the dense vertex identifiers of
+   * the {@link DenseIdMapping}.
+   *
+   * @param graph Gradoop Graph.
+   * @return Gelly Graph.
+   */
+  @SuppressWarnings("unchecked")
+  protected Graph<LongValue, E, F> transformToDenseGelly(LogicalGraph graph) {
+    TypeInformation<E> vertexValueType = ((TupleTypeInfo<Vertex<GradoopId, E>>) TypeExtractor
+      .getMapReturnTypes(toGellyVertex, graph.getVertices().getType())).getTypeAt(1);
+    TypeInformation<F> edgeValueType = ((TupleTypeInfo<Edge<GradoopId, F>>) TypeExtractor
+      .getMapReturnTypes(toGellyEdge, graph.getEdges().getType())).getTypeAt(2);
+    TypeInformation<Vertex<LongValue, E>> gellyVertexType = new TupleTypeInfo(Vertex.class,
+      ValueTypeInfo.LONG_VALUE_TYPE_INFO, vertexValueType);
+    TypeInformation<Edge<LongValue, F>> gellyEdgeType = new TupleTypeInfo(Edge.class,
+      ValueTypeInfo.LONG_VALUE_TYPE_INFO, ValueTypeInfo.LONG_VALUE_TYPE_INFO, edgeValueType);
+
+    DataSet<Vertex<LongValue, E>> gellyVertices = denseIdMapping.getIndexedVertices()
+      .map(new IndexedVertexToGellyVertex<>(toGellyVertex))
+      .returns(gellyVertexType);
+    DataSet<Edge<LongValue, F>> gellyEdges = denseIdMapping.getIndexedEdges()
+      .map(new IndexedEdgeToGellyEdge<>(toGellyEdge))
+      .returns(gellyEdgeType);
+    return Graph.fromDataSet(gellyVertices, gellyEdges,
+      graph.getConfig().getExecutionEnvironment());
+  }
+
+  /**
+   * Joins a Gelly result keyed by dense vertex identifiers with the indexed vertices of the
+   * {@link DenseIdMapping} and applies the given function to each pair.
+   *
+   * @param result Gelly result
+   * @param resultKey field expression selecting the dense vertex identifier of a result
+   * @param vertexJoin function updating a vertex with its result
+   * @param <T> result type
+   * @return updated vertices
+   */
+  protected <T> DataSet<org.gradoop.common.model.impl.pojo.Vertex> joinWithIndexedVertices(
+    DataSet<T> result, String resultKey,
+    JoinFunction<T, org.gradoop.common.model.impl.pojo.Vertex,
+      org.gradoop.common.model.impl.pojo.Vertex> vertexJoin) {
+    return result
+      .join(denseIdMapping.getIndexedVertices())
+      .where(resultKey).equalTo(0)
+      .with(new IndexedVertexJoin<>(vertexJoin));
+  }
+
+  /**
+   * Returns the mapping to dense vertex identifiers or {@code null}, if the algorithm is executed
+   * on {@link GradoopId}s.
+   *
+   * @return dense id mapping
+   */
+  protected DenseIdMapping getDenseIdMapping() {
+    return denseIdMapping;
+  }
+
   /**
    * Perform some operation in Gelly and transform the Gelly graph back to a Gradoop
    * {@link LogicalGraph}.
@@ -90,4 +181,14 @@ public abstract class GellyAlgorithm<E, F> implements UnaryGraphToGraphOperator
    * @return The Gradoop graph.
    */
   protected abstract LogicalGraph executeInGelly(Graph<GradoopId, E, F> graph) throws Exception;
+
+  /**
+   * Perform some operation in Gelly on dense vertex identifiers and transform the Gelly graph back
+   * to a Gradoop {@link LogicalGraph}.
+   *
+   * @param graph The Gelly graph.
+   * @return The Gradoop graph.
+   */
+  protected abstract LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, E, F> graph)
+    throws Exception;
 }
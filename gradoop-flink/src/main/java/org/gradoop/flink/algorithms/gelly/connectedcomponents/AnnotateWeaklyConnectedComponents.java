@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.connectedcomponents;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -65,7 +66,19 @@ public class AnnotateWeaklyConnectedComponents extends GellyAlgorithm<GradoopId,
       .join(currentGraph.getVertices())
       .where(0)
       .equalTo(new Id<>())
-      .with(new ConnectedComponentToAttribute(propertyKey));
+      .with(new ConnectedComponentToAttribute<>(propertyKey));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
+      currentGraph.getEdges());
+  }
+
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, GradoopId, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> newVertices = joinWithIndexedVertices(
+      new org.apache.flink.graph.library.ConnectedComponents<LongValue, GradoopId, NullValue>(
+        maxIterations)
+        .run(graph),
+      "f0", new ConnectedComponentToAttribute<>(propertyKey));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
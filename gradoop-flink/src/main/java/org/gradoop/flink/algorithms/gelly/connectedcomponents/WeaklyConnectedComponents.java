@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.connectedcomponents;
 
 import org.apache.flink.api.java.DataSet;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.algorithms.gelly.DenseIdMapping;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.operators.UnaryGraphToCollectionOperator;
@@ -42,6 +43,11 @@ public class WeaklyConnectedComponents implements UnaryGraphToCollectionOperator
    */
   private final String propertyKey;
 
+  /**
+   * Optional mapping to dense vertex identifiers.
+   */
+  private DenseIdMapping denseIdMapping;
+
   /**
    * Initialize the operator using the default property key.
    *
@@ -64,11 +70,26 @@ public class WeaklyConnectedComponents implements UnaryGraphToCollectionOperator
     this.propertyKey = propertyKey;
   }
 
+  /**
+   * Computes the components on dense vertex identifiers, see
+   * {@link AnnotateWeaklyConnectedComponents#useDenseIds(DenseIdMapping)}.
+   *
+   * @param mapping mapping to dense vertex identifiers of the input graph
+   * @return this operator
+   */
+  public WeaklyConnectedComponents useDenseIds(DenseIdMapping mapping) {
+    this.denseIdMapping = mapping;
+    return this;
+  }
 
   @Override
   public GraphCollection execute(LogicalGraph graph) {
-    LogicalGraph withWccAnnotations = graph
-      .callForGraph(new AnnotateWeaklyConnectedComponents(propertyKey, maxIterations));
+    AnnotateWeaklyConnectedComponents annotate =
+      new AnnotateWeaklyConnectedComponents(propertyKey, maxIterations);
+    if (denseIdMapping != null) {
+      annotate.useDenseIds(denseIdMapping);
+    }
+    LogicalGraph withWccAnnotations = graph.callForGraph(annotate);
     GraphCollection split = withWccAnnotations.splitBy(propertyKey);
     DataSet<Vertex> vertices = split.getVertices()
       .map(new PropertyRemover<>(propertyKey));
@@ -22,9 +22,11 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 /**
  * Stores the component id (as a {@link GradoopId} of one of the components vertices) as a property
  * in the vertex.
+ *
+ * @param <K> Gelly vertex id type
  */
-public class ConnectedComponentToAttribute
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, GradoopId>, Vertex, Vertex> {
+public class ConnectedComponentToAttribute<K>
+  implements JoinFunction<org.apache.flink.graph.Vertex<K, GradoopId>, Vertex, Vertex> {
 
   /**
    * Property to store the component id in.
@@ -41,7 +43,7 @@ public class ConnectedComponentToAttribute
   }
 
   @Override
-  public Vertex join(org.apache.flink.graph.Vertex<GradoopId, GradoopId> gellyVertex,
+  public Vertex join(org.apache.flink.graph.Vertex<K, GradoopId> gellyVertex,
     Vertex gradoopVertex) {
     gradoopVertex.setProperty(componentProperty, gellyVertex.getValue());
     return gradoopVertex;
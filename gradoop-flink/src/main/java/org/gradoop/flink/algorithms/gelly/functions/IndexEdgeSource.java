@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Attaches the index of the source vertex to an edge.
+ *
+ * (edge),(sourceIndex, sourceId) -> (sourceIndex, edge)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("*->f1")
+@FunctionAnnotation.ForwardedFieldsSecond("f0")
+public class IndexEdgeSource
+  implements JoinFunction<Edge, Tuple2<LongValue, GradoopId>, Tuple2<LongValue, Edge>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, Edge> reuseTuple = new Tuple2<>();
+
+  @Override
+  public Tuple2<LongValue, Edge> join(Edge edge, Tuple2<LongValue, GradoopId> sourceIndex) {
+    reuseTuple.f0 = sourceIndex.f0;
+    reuseTuple.f1 = edge;
+    return reuseTuple;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+/**
+ * Attaches the index of the target vertex to an edge with indexed source.
+ *
+ * (sourceIndex, edge),(targetIndex, targetId) -> (sourceIndex, targetIndex, edge)
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1->f2")
+@FunctionAnnotation.ForwardedFieldsSecond("f0->f1")
+public class IndexEdgeTarget implements JoinFunction
+  <Tuple2<LongValue, Edge>, Tuple2<LongValue, GradoopId>, Tuple3<LongValue, LongValue, Edge>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple3<LongValue, LongValue, Edge> reuseTuple = new Tuple3<>();
+
+  @Override
+  public Tuple3<LongValue, LongValue, Edge> join(Tuple2<LongValue, Edge> edgeWithSourceIndex,
+    Tuple2<LongValue, GradoopId> targetIndex) {
+    reuseTuple.f0 = edgeWithSourceIndex.f0;
+    reuseTuple.f1 = targetIndex.f0;
+    reuseTuple.f2 = edgeWithSourceIndex.f1;
+    return reuseTuple;
+  }
+}
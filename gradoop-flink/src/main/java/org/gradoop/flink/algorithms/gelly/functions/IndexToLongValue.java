@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Converts the index assigned by {@code DataSetUtils#zipWithIndex} to a {@link LongValue}.
+ *
+ * (index, vertex) -> (index, vertex)
+ */
+@FunctionAnnotation.ForwardedFields("f1")
+public class IndexToLongValue
+  implements MapFunction<Tuple2<Long, Vertex>, Tuple2<LongValue, Vertex>> {
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Tuple2<LongValue, Vertex> reuseTuple;
+
+  /**
+   * Constructor.
+   */
+  public IndexToLongValue() {
+    reuseTuple = new Tuple2<>();
+    reuseTuple.f0 = new LongValue();
+  }
+
+  @Override
+  public Tuple2<LongValue, Vertex> map(Tuple2<Long, Vertex> indexedVertex) {
+    reuseTuple.f0.setValue(indexedVertex.f0);
+    reuseTuple.f1 = indexedVertex.f1;
+    return reuseTuple;
+  }
+}
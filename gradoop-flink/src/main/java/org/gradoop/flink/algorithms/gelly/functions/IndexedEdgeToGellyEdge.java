@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.graph.Edge;
+import org.apache.flink.types.LongValue;
+
+/**
+ * Maps an EPGM edge with indexed source and target to a Gelly edge on the dense indices. The edge
+ * value is computed by the given {@link EdgeToGellyEdge} function.
+ *
+ * @param <F> edge value type
+ */
+public class IndexedEdgeToGellyEdge<F> implements MapFunction
+  <Tuple3<LongValue, LongValue, org.gradoop.common.model.impl.pojo.Edge>, Edge<LongValue, F>> {
+
+  /**
+   * Function computing the edge value.
+   */
+  private final EdgeToGellyEdge<F> toGellyEdge;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Edge<LongValue, F> reuseEdge;
+
+  /**
+   * Constructor.
+   *
+   * @param toGellyEdge function computing the edge value
+   */
+  public IndexedEdgeToGellyEdge(EdgeToGellyEdge<F> toGellyEdge) {
+    this.toGellyEdge = toGellyEdge;
+    this.reuseEdge = new Edge<>();
+  }
+
+  @Override
+  public Edge<LongValue, F> map(
+    Tuple3<LongValue, LongValue, org.gradoop.common.model.impl.pojo.Edge> indexedEdge)
+    throws Exception {
+    reuseEdge.setSource(indexedEdge.f0);
+    reuseEdge.setTarget(indexedEdge.f1);
+    reuseEdge.setValue(toGellyEdge.map(indexedEdge.f2).getValue());
+    return reuseEdge;
+  }
+}
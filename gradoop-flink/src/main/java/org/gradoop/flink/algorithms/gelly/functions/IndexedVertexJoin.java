@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+/**
+ * Joins a Gelly result keyed by a dense index with the indexed EPGM vertex and applies the given
+ * join function to the result and the vertex.
+ *
+ * @param <T> Gelly result type
+ */
+public class IndexedVertexJoin<T>
+  implements JoinFunction<T, Tuple2<LongValue, Vertex>, Vertex> {
+
+  /**
+   * Function updating the vertex.
+   */
+  private final JoinFunction<T, Vertex, Vertex> vertexJoin;
+
+  /**
+   * Constructor.
+   *
+   * @param vertexJoin function updating the vertex with the Gelly result
+   */
+  public IndexedVertexJoin(JoinFunction<T, Vertex, Vertex> vertexJoin) {
+    this.vertexJoin = vertexJoin;
+  }
+
+  @Override
+  public Vertex join(T result, Tuple2<LongValue, Vertex> indexedVertex) throws Exception {
+    return vertexJoin.join(result, indexedVertex.f1);
+  }
+}
@@ -13,32 +13,33 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.algorithms.btgs.functions;
+package org.gradoop.flink.algorithms.gelly.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.types.LongValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 
 /**
- * EPGM vertex to gelly vertex, where value is vertex id
+ * Projects an indexed vertex to its index and identifier.
+ *
+ * (index, vertex) -> (index, vertex.id)
  */
-@FunctionAnnotation.ForwardedFields("id->f0;id->f1")
-public class ToGellyVertexWithIdValue implements
-  MapFunction<Vertex, org.apache.flink.graph.Vertex<GradoopId, GradoopId>> {
+@FunctionAnnotation.ForwardedFields("f0;f1.id->f1")
+public class IndexedVertexToId
+  implements MapFunction<Tuple2<LongValue, Vertex>, Tuple2<LongValue, GradoopId>> {
 
   /**
    * Reduce object instantiations
    */
-  private final org.apache.flink.graph.Vertex<GradoopId, GradoopId> reuse =
-    new org.apache.flink.graph.Vertex<>();
+  private final Tuple2<LongValue, GradoopId> reuseTuple = new Tuple2<>();
 
   @Override
-  public org.apache.flink.graph.Vertex<GradoopId, GradoopId> map(Vertex vertex)
-      throws Exception {
-    GradoopId id = vertex.getId();
-    reuse.setId(id);
-    reuse.setValue(id);
-    return reuse;
+  public Tuple2<LongValue, GradoopId> map(Tuple2<LongValue, Vertex> indexedVertex) {
+    reuseTuple.f0 = indexedVertex.f0;
+    reuseTuple.f1 = indexedVertex.f1.getId();
+    return reuseTuple;
   }
 }
@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.hits;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -49,9 +50,14 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
   private String hubPropertyKey;
 
   /**
-   * Gelly HITS implementation
+   * Maximum number of iterations.
    */
-  private org.apache.flink.graph.library.linkanalysis.HITS<GradoopId, NullValue, NullValue> hits;
+  private int maxIterations;
+
+  /**
+   * Convergence threshold for sum of scores.
+   */
+  private double convergenceThreshold;
 
   /**
    * HITS with fixed number of iterations
@@ -64,7 +70,8 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits = new org.apache.flink.graph.library.linkanalysis.HITS<>(iterations, Double.MAX_VALUE);
+    this.maxIterations = iterations;
+    this.convergenceThreshold = Double.MAX_VALUE;
   }
 
 
@@ -79,8 +86,8 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits = new org.apache.flink.graph.library.linkanalysis.HITS<>(Integer.MAX_VALUE,
-      convergenceThreshold);
+    this.maxIterations = Integer.MAX_VALUE;
+    this.convergenceThreshold = convergenceThreshold;
   }
 
   /**
@@ -96,8 +103,8 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
     super(new VertexToGellyVertexWithNullValue(), new EdgeToGellyEdgeWithNullValue());
     this.authorityPropertyKey = authorityPropertyKey;
     this.hubPropertyKey = hubPropertyKey;
-    hits =
-      new org.apache.flink.graph.library.linkanalysis.HITS<>(maxIterations, convergenceThreshold);
+    this.maxIterations = maxIterations;
+    this.convergenceThreshold = convergenceThreshold;
   }
 
 
@@ -105,10 +112,26 @@ public class HITS extends GellyAlgorithm<NullValue, NullValue> {
   protected LogicalGraph executeInGelly(Graph<GradoopId, NullValue, NullValue> graph)
     throws Exception {
 
-    DataSet<Vertex> newVertices = hits.runInternal(graph)
+    DataSet<Vertex> newVertices = new org.apache.flink.graph.library.linkanalysis
+      .HITS<GradoopId, NullValue, NullValue>(maxIterations, convergenceThreshold)
+      .runInternal(graph)
       .join(currentGraph.getVertices())
       .where(new HitsResultKeySelector()).equalTo(new Id<>())
-      .with(new HITSToAttributes(authorityPropertyKey, hubPropertyKey));
+      .with(new HITSToAttributes<>(authorityPropertyKey, hubPropertyKey));
+
+    return currentGraph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(newVertices, currentGraph.getEdges());
+  }
+
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+
+    DataSet<Vertex> newVertices = joinWithIndexedVertices(
+      new org.apache.flink.graph.library.linkanalysis
+        .HITS<LongValue, NullValue, NullValue>(maxIterations, convergenceThreshold)
+        .runInternal(graph),
+      "vertexId0", new HITSToAttributes<>(authorityPropertyKey, hubPropertyKey));
 
     return currentGraph.getConfig().getLogicalGraphFactory()
       .fromDataSets(newVertices, currentGraph.getEdges());
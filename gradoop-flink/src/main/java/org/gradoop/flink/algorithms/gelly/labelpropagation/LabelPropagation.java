@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -76,7 +77,21 @@ public abstract class LabelPropagation extends GellyAlgorithm<PropertyValue, Nul
     DataSet<Vertex> labeledVertices = executeInternal(graph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new LPVertexJoin(propertyKey));
+      .with(new LPVertexJoin<>(propertyKey));
+
+    // return labeled graph
+    return currentGraph.getConfig().getLogicalGraphFactory()
+      .fromDataSets(labeledVertices, currentGraph.getEdges());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(
+    Graph<LongValue, PropertyValue, NullValue> graph) {
+    DataSet<Vertex> labeledVertices = joinWithIndexedVertices(
+      executeInternal(graph), "f0", new LPVertexJoin<>(propertyKey));
 
     // return labeled graph
     return currentGraph.getConfig().getLogicalGraphFactory()
@@ -87,10 +102,11 @@ public abstract class LabelPropagation extends GellyAlgorithm<PropertyValue, Nul
    * Executes the label propagation and returns the updated vertex dataset.
    *
    * @param gellyGraph gelly graph with initialized vertices
+   * @param <K> gelly vertex id type
    * @return updated vertex set
    */
-  protected abstract DataSet<org.apache.flink.graph.Vertex<GradoopId, PropertyValue>>
-  executeInternal(Graph<GradoopId, PropertyValue, NullValue> gellyGraph);
+  protected abstract <K> DataSet<org.apache.flink.graph.Vertex<K, PropertyValue>>
+  executeInternal(Graph<K, PropertyValue, NullValue> gellyGraph);
 
   /**
    * Returns the maximum number of iterations the algorithm is executed.
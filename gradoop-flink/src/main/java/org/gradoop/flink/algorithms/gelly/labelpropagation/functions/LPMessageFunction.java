@@ -18,17 +18,18 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation.functions;
 import org.apache.flink.graph.Vertex;
 import org.apache.flink.graph.spargel.ScatterFunction;
 import org.apache.flink.types.NullValue;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Distributes the new vertex value
+ *
+ * @param <K> Gelly vertex id type
  */
-public class LPMessageFunction
-  extends ScatterFunction<GradoopId, PropertyValue, PropertyValue, NullValue> {
+public class LPMessageFunction<K>
+  extends ScatterFunction<K, PropertyValue, PropertyValue, NullValue> {
 
   @Override
-  public void sendMessages(Vertex<GradoopId, PropertyValue> vertex) throws
+  public void sendMessages(Vertex<K, PropertyValue> vertex) throws
     Exception {
     sendMessageToAllNeighbors(vertex.getValue());
   }
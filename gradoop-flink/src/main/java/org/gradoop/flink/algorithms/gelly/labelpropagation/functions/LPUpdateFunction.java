@@ -19,7 +19,6 @@ import org.apache.flink.graph.Vertex;
 import org.apache.flink.graph.spargel.GatherFunction;
 import org.apache.flink.graph.spargel.MessageIterator;
 import org.apache.flink.hadoop.shaded.com.google.common.collect.Lists;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 import java.util.Collections;
@@ -28,9 +27,11 @@ import java.util.List;
 /**
  * Updates the value of a vertex by picking the most frequent value out of
  * all incoming values.
+ *
+ * @param <K> Gelly vertex id type
  */
-public class LPUpdateFunction
-  extends GatherFunction<GradoopId, PropertyValue, PropertyValue> {
+public class LPUpdateFunction<K>
+  extends GatherFunction<K, PropertyValue, PropertyValue> {
   /**
    * Updates the vertex value if it has changed.
    *
@@ -39,7 +40,7 @@ public class LPUpdateFunction
    * @throws Exception
    */
   @Override
-  public void updateVertex(Vertex<GradoopId, PropertyValue> vertex,
+  public void updateVertex(Vertex<K, PropertyValue> vertex,
     MessageIterator<PropertyValue> msg) throws Exception {
     PropertyValue value = getNewValue(vertex,
       Lists.newArrayList(msg.iterator()));
@@ -64,7 +65,7 @@ public class LPUpdateFunction
    * @param allMessages all received messages
    * @return most frequent value below all messages
    */
-  private PropertyValue getNewValue(Vertex<GradoopId, PropertyValue> vertex,
+  private PropertyValue getNewValue(Vertex<K, PropertyValue> vertex,
     List<PropertyValue> allMessages) {
 
     Collections.sort(allMessages);
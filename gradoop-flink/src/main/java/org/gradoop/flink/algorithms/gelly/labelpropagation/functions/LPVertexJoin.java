@@ -17,17 +17,18 @@ package org.gradoop.flink.algorithms.gelly.labelpropagation.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.api.java.functions.FunctionAnnotation;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Updates the vertex on the left side with the property value on the right side
+ *
+ * @param <K> Gelly vertex id type
  */
 @FunctionAnnotation.ForwardedFieldsSecond("id;label;graphIds")
 @FunctionAnnotation.ReadFieldsFirst("f1")
-public class LPVertexJoin implements JoinFunction
-  <org.apache.flink.graph.Vertex<GradoopId, PropertyValue>, Vertex, Vertex> {
+public class LPVertexJoin<K> implements JoinFunction
+  <org.apache.flink.graph.Vertex<K, PropertyValue>, Vertex, Vertex> {
 
   /**
    * Property key to access the value which will be propagated
@@ -45,7 +46,7 @@ public class LPVertexJoin implements JoinFunction
 
   @Override
   public Vertex join(
-    org.apache.flink.graph.Vertex<GradoopId, PropertyValue> gellyVertex,
+    org.apache.flink.graph.Vertex<K, PropertyValue> gellyVertex,
     Vertex epgmVertex) throws Exception {
     epgmVertex.setProperty(propertyKey, gellyVertex.getValue());
     return epgmVertex;
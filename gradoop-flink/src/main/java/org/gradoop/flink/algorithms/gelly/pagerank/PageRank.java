@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.pagerank;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -69,9 +70,21 @@ public class PageRank extends GellyAlgorithm<NullValue, NullValue> {
         dampingFactor, iterations)
       .run(graph)
       .join(currentGraph.getVertices())
-      .where(0)
+      .where("vertexId0")
       .equalTo(new Id<>())
-      .with(new PageRankToAttribute(propertyKey));
+      .with(new PageRankToAttribute<>(propertyKey));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
+      currentGraph.getEdges());
+  }
+
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> newVertices = joinWithIndexedVertices(
+      new org.apache.flink.graph.library.linkanalysis.PageRank<LongValue, NullValue, NullValue>(
+        dampingFactor, iterations)
+        .run(graph),
+      "vertexId0", new PageRankToAttribute<>(propertyKey));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
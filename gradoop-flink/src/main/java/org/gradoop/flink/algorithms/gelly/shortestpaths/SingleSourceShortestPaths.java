@@ -17,12 +17,16 @@ package org.gradoop.flink.algorithms.gelly.shortestpaths;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.graph.library.SingleSourceShortestPaths.MinDistanceMessenger;
+import org.apache.flink.graph.library.SingleSourceShortestPaths.VertexDistanceUpdater;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.algorithms.gelly.GellyAlgorithm;
 import org.gradoop.flink.algorithms.gelly.functions.EdgeToGellyEdgeWithDouble;
 import org.gradoop.flink.algorithms.gelly.functions.VertexToGellyVertexWithNullValue;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.InitIndexedVertexDistance;
 import org.gradoop.flink.algorithms.gelly.shortestpaths.functions.SingleSourceShortestPathsAttribute;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
@@ -80,7 +84,32 @@ public class SingleSourceShortestPaths extends GellyAlgorithm<NullValue, Double>
       .join(currentGraph.getVertices())
       .where(0)
       .equalTo(new Id<>())
-      .with(new SingleSourceShortestPathsAttribute(propertyKeyVertex));
+      .with(new SingleSourceShortestPathsAttribute<>(propertyKeyVertex));
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
+      currentGraph.getEdges());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The Gelly library operator expects the dense id of the source vertex at plan construction
+   * time. Instead, the initial distances are computed from the indexed vertices and the same
+   * scatter-gather iteration is executed on them.
+   */
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, NullValue, Double> graph)
+    throws Exception {
+    DataSet<org.apache.flink.graph.Vertex<LongValue, Double>> initialVertices =
+      getDenseIdMapping().getIndexedVertices()
+        .map(new InitIndexedVertexDistance(srcVertexId));
+
+    DataSet<Vertex> newVertices = joinWithIndexedVertices(
+      Graph.fromDataSet(initialVertices, graph.getEdges(),
+        currentGraph.getConfig().getExecutionEnvironment())
+        .runScatterGatherIteration(
+          new MinDistanceMessenger<>(), new VertexDistanceUpdater<>(), iterations)
+        .getVertices(),
+      "f0", new SingleSourceShortestPathsAttribute<>(propertyKeyVertex));
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
   }
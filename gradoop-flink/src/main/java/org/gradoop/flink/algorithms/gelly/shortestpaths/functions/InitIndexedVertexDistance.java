@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.graph.Vertex;
+import org.apache.flink.types.LongValue;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * Initializes the distance of an indexed vertex to the source vertex, i.e. 0 for the source
+ * vertex and {@link Double#MAX_VALUE} for all other vertices.
+ *
+ * (index, vertex) -> (index, distance)
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class InitIndexedVertexDistance implements MapFunction
+  <Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex>, Vertex<LongValue, Double>> {
+
+  /**
+   * ID of the source vertex
+   */
+  private final GradoopId srcVertexId;
+
+  /**
+   * Reduce object instantiations
+   */
+  private final Vertex<LongValue, Double> reuseVertex;
+
+  /**
+   * Constructor.
+   *
+   * @param srcVertexId ID of the source vertex
+   */
+  public InitIndexedVertexDistance(GradoopId srcVertexId) {
+    this.srcVertexId = srcVertexId;
+    this.reuseVertex = new Vertex<>();
+  }
+
+  @Override
+  public Vertex<LongValue, Double> map(
+    Tuple2<LongValue, org.gradoop.common.model.impl.pojo.Vertex> indexedVertex) {
+    reuseVertex.setId(indexedVertex.f0);
+    reuseVertex.setValue(
+      indexedVertex.f1.getId().equals(srcVertexId) ? 0.0 : Double.MAX_VALUE);
+    return reuseVertex;
+  }
+}
@@ -16,14 +16,15 @@
 package org.gradoop.flink.algorithms.gelly.shortestpaths.functions;
 
 import org.apache.flink.api.common.functions.JoinFunction;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 
 /**
  * Stores the minimum distance as a property in vertex.
+ *
+ * @param <K> Gelly vertex id type
  */
-public class SingleSourceShortestPathsAttribute
-  implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, Double>, Vertex, Vertex> {
+public class SingleSourceShortestPathsAttribute<K>
+  implements JoinFunction<org.apache.flink.graph.Vertex<K, Double>, Vertex, Vertex> {
 
   /**
    * Property to store the minimum distance in.
@@ -40,7 +41,7 @@ public class SingleSourceShortestPathsAttribute
   }
 
   @Override
-  public Vertex join(org.apache.flink.graph.Vertex<GradoopId, Double> gellyVertex,
+  public Vertex join(org.apache.flink.graph.Vertex<K, Double> gellyVertex,
     Vertex gradoopVertex) {
     gradoopVertex.setProperty(shortestPathProperty, gellyVertex.getValue());
     return gradoopVertex;
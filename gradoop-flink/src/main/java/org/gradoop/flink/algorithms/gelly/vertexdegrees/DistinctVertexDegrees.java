@@ -17,6 +17,7 @@ package org.gradoop.flink.algorithms.gelly.vertexdegrees;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.graph.Graph;
+import org.apache.flink.types.LongValue;
 import org.apache.flink.types.NullValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -94,7 +95,21 @@ public class DistinctVertexDegrees extends GellyAlgorithm<NullValue, NullValue>
       .run(graph)
       .join(currentGraph.getVertices())
       .where(0).equalTo(new Id<>())
-      .with(new DistinctVertexDegreesToAttribute(propertyKey, propertyKeyIn, propertyKeyOut));
+      .with(new DistinctVertexDegreesToAttribute<>(propertyKey, propertyKeyIn, propertyKeyOut));
+
+    return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
+      currentGraph.getEdges());
+  }
+
+  @Override
+  protected LogicalGraph executeInGellyWithDenseIds(Graph<LongValue, NullValue, NullValue> graph)
+    throws Exception {
+    DataSet<Vertex> newVertices = joinWithIndexedVertices(
+      new org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees<LongValue, NullValue,
+      NullValue>()
+        .setIncludeZeroDegreeVertices(includeZeroDegreeVertices)
+        .run(graph),
+      "f0", new DistinctVertexDegreesToAttribute<>(propertyKey, propertyKeyIn, propertyKeyOut));
 
     return currentGraph.getConfig().getLogicalGraphFactory().fromDataSets(newVertices,
       currentGraph.getEdges());
@@ -18,14 +18,16 @@ package org.gradoop.flink.algorithms.gelly.vertexdegrees.functions;
 import org.apache.flink.api.common.functions.JoinFunction;
 import org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees;
 import org.apache.flink.graph.asm.degree.annotate.directed.VertexDegrees.Degrees;
-import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 
 /**
  * Stores the in-degree, out-degree and the sum of both as a property in vertex
+ *
+ * @param <K> Gelly vertex id type
  */
-public class DistinctVertexDegreesToAttribute implements JoinFunction<org.apache.flink.graph.Vertex<GradoopId, VertexDegrees.Degrees>, Vertex, Vertex> {
+public class DistinctVertexDegreesToAttribute<K>
+  implements JoinFunction<org.apache.flink.graph.Vertex<K, VertexDegrees.Degrees>, Vertex, Vertex> {
 
   /**
    * Property to store the sum of vertex degrees in.
@@ -55,7 +57,7 @@ public class DistinctVertexDegreesToAttribute implements JoinFunction<org.apache
   }
 
   @Override
-  public Vertex join(org.apache.flink.graph.Vertex<GradoopId, Degrees> degree, Vertex vertex)
+  public Vertex join(org.apache.flink.graph.Vertex<K, Degrees> degree, Vertex vertex)
     throws Exception {
     vertex.setProperty(
         vertexDegreesPropery,
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.File;
+import java.util.Objects;
+
+/**
+ * Base class for the columnar data source and data sink.
+ *
+ * The graph is stored in the following directory structure:
+ *
+ * columnarRoot
+ *   |- graphs.col   # column chunks of all graph heads
+ *   |- vertices.col # column chunks of all vertices
+ *   |- edges.col    # column chunks of all edges
+ *
+ * Each file (or directory, if written in parallel) contains a sequence of
+ * {@link org.gradoop.flink.io.impl.columnar.format.ColumnChunk}s. Each chunk stores up to a
+ * configurable number of elements sharing the same label.
+ */
+public abstract class ColumnarBase {
+  /**
+   * Default maximum number of elements per chunk.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+  /**
+   * File ending for columnar files.
+   */
+  private static final String COLUMNAR_FILE_SUFFIX = ".col";
+  /**
+   * Columnar file for graph heads.
+   */
+  private static final String GRAPH_HEAD_FILE = "graphs" + COLUMNAR_FILE_SUFFIX;
+  /**
+   * Columnar file for vertices.
+   */
+  private static final String VERTEX_FILE = "vertices" + COLUMNAR_FILE_SUFFIX;
+  /**
+   * Columnar file for edges.
+   */
+  private static final String EDGE_FILE = "edges" + COLUMNAR_FILE_SUFFIX;
+  /**
+   * Root directory containing the columnar files.
+   */
+  private final String columnarRoot;
+  /**
+   * Gradoop Flink configuration
+   */
+  private final GradoopFlinkConfig config;
+
+  /**
+   * Constructor.
+   *
+   * @param columnarPath directory of the columnar files
+   * @param config Gradoop Flink configuration
+   */
+  protected ColumnarBase(String columnarPath, GradoopFlinkConfig config) {
+    Objects.requireNonNull(columnarPath);
+    Objects.requireNonNull(config);
+    this.columnarRoot = columnarPath.endsWith(File.separator) ?
+      columnarPath : columnarPath + File.separator;
+    this.config = config;
+  }
+
+  protected String getColumnarRoot() {
+    return columnarRoot;
+  }
+
+  protected String getGraphHeadPath() {
+    return columnarRoot + GRAPH_HEAD_FILE;
+  }
+
+  protected String getVertexPath() {
+    return columnarRoot + VERTEX_FILE;
+  }
+
+  protected String getEdgePath() {
+    return columnarRoot + EDGE_FILE;
+  }
+
+  protected GradoopFlinkConfig getConfig() {
+    return config;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.common.io.SerializedOutputFormat;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.core.fs.FileSystem;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.functions.ElementsToColumnChunks;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.functions.epgm.Label;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.io.IOException;
+
+/**
+ * A graph data sink writing graph heads, vertices and edges as binary column chunks.
+ *
+ * Elements are grouped by label within each partition and each group is split into chunks of a
+ * fixed maximum size.
+ * Labels and property keys are stored once per chunk, property values are stored in typed
+ * columns with min/max statistics which are used by the {@link ColumnarDataSource} to skip
+ * chunks and columns.
+ */
+public class ColumnarDataSink extends ColumnarBase implements DataSink {
+  /**
+   * Maximum number of elements per chunk.
+   */
+  private final int chunkSize;
+
+  /**
+   * Creates a new columnar data sink using the default chunk size.
+   *
+   * @param columnarPath directory to write to
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String columnarPath, GradoopFlinkConfig config) {
+    this(columnarPath, DEFAULT_CHUNK_SIZE, config);
+  }
+
+  /**
+   * Creates a new columnar data sink.
+   *
+   * @param columnarPath directory to write to
+   * @param chunkSize maximum number of elements per chunk
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSink(String columnarPath, int chunkSize, GradoopFlinkConfig config) {
+    super(columnarPath, config);
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunk size must be positive");
+    }
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph) throws IOException {
+    write(logicalGraph, false);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection) throws IOException {
+    write(graphCollection, false);
+  }
+
+  @Override
+  public void write(LogicalGraph logicalGraph, boolean overwrite) throws IOException {
+    write(logicalGraph.getConfig().getGraphCollectionFactory().fromGraph(logicalGraph), overwrite);
+  }
+
+  @Override
+  public void write(GraphCollection graphCollection, boolean overwrite) throws IOException {
+    FileSystem.WriteMode writeMode =
+      overwrite ? FileSystem.WriteMode.OVERWRITE : FileSystem.WriteMode.NO_OVERWRITE;
+
+    writeChunks(graphCollection.getGraphHeads(), getGraphHeadPath(), writeMode);
+    writeChunks(graphCollection.getVertices(), getVertexPath(), writeMode);
+    writeChunks(graphCollection.getEdges(), getEdgePath(), writeMode);
+  }
+
+  /**
+   * Groups the given elements by label within each partition and writes them as column chunks.
+   * A label may thus be spread over several chunks with less than the maximum number of elements,
+   * but the elements are not shuffled.
+   *
+   * @param elements EPGM elements
+   * @param path output path
+   * @param writeMode write mode
+   * @param <E> EPGM element type
+   */
+  private <E extends EPGMElement> void writeChunks(DataSet<E> elements, String path,
+    FileSystem.WriteMode writeMode) {
+    elements
+      .groupBy(new Label<>())
+      .combineGroup(new ElementsToColumnChunks<>(chunkSize))
+      .write(new SerializedOutputFormat<ColumnChunk>(), path, writeMode);
+  }
+}
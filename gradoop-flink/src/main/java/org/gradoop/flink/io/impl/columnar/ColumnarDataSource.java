@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunkInputFormat;
+import org.gradoop.flink.io.impl.columnar.functions.ColumnChunkToEdge;
+import org.gradoop.flink.io.impl.columnar.functions.ColumnChunkToGraphHead;
+import org.gradoop.flink.io.impl.columnar.functions.ColumnChunkToVertex;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A graph data source for files written by the {@link ColumnarDataSink}.
+ *
+ * The source supports projection and predicate pushdown. Projected sources only decode the
+ * property columns needed by the projection and the predicates, all other columns are skipped.
+ * Predicates are evaluated on the label and the min/max statistics of each chunk before its data
+ * is read and on each element of the remaining chunks. Like the filterable store sources, vertex
+ * and edge predicates are applied independently, i.e. edges whose source or target vertex has
+ * been filtered are not removed.
+ *
+ * All configuration methods return a new data source and leave the current one unchanged.
+ */
+public class ColumnarDataSource extends ColumnarBase implements DataSource {
+  /**
+   * Predicates applied on graph heads.
+   */
+  private final List<ColumnarPredicate> graphHeadPredicates;
+  /**
+   * Predicates applied on vertices.
+   */
+  private final List<ColumnarPredicate> vertexPredicates;
+  /**
+   * Predicates applied on edges.
+   */
+  private final List<ColumnarPredicate> edgePredicates;
+  /**
+   * Projected graph head properties, {@code null} to read all properties.
+   */
+  private final Set<String> graphHeadProperties;
+  /**
+   * Projected vertex properties, {@code null} to read all properties.
+   */
+  private final Set<String> vertexProperties;
+  /**
+   * Projected edge properties, {@code null} to read all properties.
+   */
+  private final Set<String> edgeProperties;
+
+  /**
+   * Creates a new columnar data source.
+   *
+   * @param columnarPath directory containing the columnar files
+   * @param config Gradoop Flink configuration
+   */
+  public ColumnarDataSource(String columnarPath, GradoopFlinkConfig config) {
+    this(columnarPath, config, Collections.emptyList(), Collections.emptyList(),
+      Collections.emptyList(), null, null, null);
+  }
+
+  /**
+   * Creates a new columnar data source with pushed down predicates and projections.
+   *
+   * @param columnarPath directory containing the columnar files
+   * @param config Gradoop Flink configuration
+   * @param graphHeadPredicates predicates applied on graph heads
+   * @param vertexPredicates predicates applied on vertices
+   * @param edgePredicates predicates applied on edges
+   * @param graphHeadProperties projected graph head properties or {@code null}
+   * @param vertexProperties projected vertex properties or {@code null}
+   * @param edgeProperties projected edge properties or {@code null}
+   */
+  private ColumnarDataSource(String columnarPath, GradoopFlinkConfig config,
+    List<ColumnarPredicate> graphHeadPredicates, List<ColumnarPredicate> vertexPredicates,
+    List<ColumnarPredicate> edgePredicates, Set<String> graphHeadProperties,
+    Set<String> vertexProperties, Set<String> edgeProperties) {
+    super(columnarPath, config);
+    this.graphHeadPredicates = graphHeadPredicates;
+    this.vertexPredicates = vertexPredicates;
+    this.edgePredicates = edgePredicates;
+    this.graphHeadProperties = graphHeadProperties;
+    this.vertexProperties = vertexProperties;
+    this.edgeProperties = edgeProperties;
+  }
+
+  /**
+   * Returns a new data source which only reads graph heads satisfying the given predicate.
+   *
+   * @param predicate graph head predicate
+   * @return data source with the predicate pushed down
+   */
+  public ColumnarDataSource applyGraphPredicate(ColumnarPredicate predicate) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(),
+      append(graphHeadPredicates, predicate), vertexPredicates, edgePredicates,
+      graphHeadProperties, vertexProperties, edgeProperties);
+  }
+
+  /**
+   * Returns a new data source which only reads vertices satisfying the given predicate.
+   *
+   * @param predicate vertex predicate
+   * @return data source with the predicate pushed down
+   */
+  public ColumnarDataSource applyVertexPredicate(ColumnarPredicate predicate) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(), graphHeadPredicates,
+      append(vertexPredicates, predicate), edgePredicates,
+      graphHeadProperties, vertexProperties, edgeProperties);
+  }
+
+  /**
+   * Returns a new data source which only reads edges satisfying the given predicate.
+   *
+   * @param predicate edge predicate
+   * @return data source with the predicate pushed down
+   */
+  public ColumnarDataSource applyEdgePredicate(ColumnarPredicate predicate) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(), graphHeadPredicates,
+      vertexPredicates, append(edgePredicates, predicate),
+      graphHeadProperties, vertexProperties, edgeProperties);
+  }
+
+  /**
+   * Returns a new data source which only reads the given graph head properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  public ColumnarDataSource withGraphHeadProperties(String... propertyKeys) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(), graphHeadPredicates,
+      vertexPredicates, edgePredicates, toSet(propertyKeys), vertexProperties, edgeProperties);
+  }
+
+  /**
+   * Returns a new data source which only reads the given vertex properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  public ColumnarDataSource withVertexProperties(String... propertyKeys) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(), graphHeadPredicates,
+      vertexPredicates, edgePredicates, graphHeadProperties, toSet(propertyKeys), edgeProperties);
+  }
+
+  /**
+   * Returns a new data source which only reads the given edge properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  public ColumnarDataSource withEdgeProperties(String... propertyKeys) {
+    return new ColumnarDataSource(getColumnarRoot(), getConfig(), graphHeadPredicates,
+      vertexPredicates, edgePredicates, graphHeadProperties, vertexProperties, toSet(propertyKeys));
+  }
+
+  /**
+   * Returns true, if at least one predicate has been pushed down to the data source.
+   *
+   * @return true, if predicates have been pushed down
+   */
+  public boolean isFilterPushedDown() {
+    return !graphHeadPredicates.isEmpty() || !vertexPredicates.isEmpty() ||
+      !edgePredicates.isEmpty();
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    DataSet<GraphHead> graphHeads = readElements(getGraphHeadPath(), graphHeadProperties,
+      graphHeadPredicates, new ColumnChunkToGraphHead(getConfig().getGraphHeadFactory(),
+        graphHeadProperties, graphHeadPredicates),
+      TypeExtractor.createTypeInfo(getConfig().getGraphHeadFactory().getType()));
+
+    DataSet<Vertex> vertices = readElements(getVertexPath(), vertexProperties,
+      vertexPredicates, new ColumnChunkToVertex(getConfig().getVertexFactory(),
+        vertexProperties, vertexPredicates),
+      TypeExtractor.createTypeInfo(getConfig().getVertexFactory().getType()));
+
+    DataSet<Edge> edges = readElements(getEdgePath(), edgeProperties,
+      edgePredicates, new ColumnChunkToEdge(getConfig().getEdgeFactory(),
+        edgeProperties, edgePredicates),
+      TypeExtractor.createTypeInfo(getConfig().getEdgeFactory().getType()));
+
+    return getConfig().getGraphCollectionFactory().fromDataSets(graphHeads, vertices, edges);
+  }
+
+  /**
+   * Reads the column chunks stored at the given path and converts them into EPGM elements.
+   *
+   * @param path path of the columnar file
+   * @param properties projected property keys or {@code null}
+   * @param predicates pushed down predicates
+   * @param toElements function creating the elements
+   * @param typeInfo type information of the elements
+   * @param <E> EPGM element type
+   * @return EPGM elements
+   */
+  private <E> DataSet<E> readElements(String path, Set<String> properties,
+    List<ColumnarPredicate> predicates, FlatMapFunction<ColumnChunk, E> toElements,
+    TypeInformation<E> typeInfo) {
+    Set<String> columnsToLoad = null;
+    if (properties != null) {
+      columnsToLoad = new HashSet<>(properties);
+      for (ColumnarPredicate predicate : predicates) {
+        columnsToLoad.addAll(predicate.getPropertyKeys());
+      }
+    }
+
+    return getConfig().getExecutionEnvironment()
+      .readFile(new ColumnChunkInputFormat(columnsToLoad, predicates), path)
+      .flatMap(toElements)
+      .returns(typeInfo);
+  }
+
+  /**
+   * Creates a new list containing all given predicates and the new predicate.
+   *
+   * @param predicates existing predicates
+   * @param predicate new predicate
+   * @return list of predicates
+   */
+  private static List<ColumnarPredicate> append(List<ColumnarPredicate> predicates,
+    ColumnarPredicate predicate) {
+    List<ColumnarPredicate> result = new ArrayList<>(predicates);
+    result.add(Objects.requireNonNull(predicate));
+    return result;
+  }
+
+  /**
+   * Creates a set of property keys.
+   *
+   * @param propertyKeys property keys
+   * @return set of property keys
+   */
+  private static Set<String> toSet(String... propertyKeys) {
+    return new HashSet<>(Arrays.asList(propertyKeys));
+  }
+}
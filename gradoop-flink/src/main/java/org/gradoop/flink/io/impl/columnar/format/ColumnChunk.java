@@ -0,0 +1,371 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.types.Value;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A chunk of EPGM elements sharing the same label, stored column by column.
+ *
+ * The label and the property keys are stored once per chunk instead of once per element. The
+ * header of a chunk contains the label, the number of rows and the headers of all property
+ * columns including their min/max statistics. Readers can therefore decide whether a chunk
+ * contains any relevant element and which columns have to be loaded before touching the data:
+ *
+ * kind | label | rowCount | columnCount | column headers | idLength | id data | column data
+ *
+ * The id data contains the element id of each row, followed by the source and target id for
+ * edges and the graph ids for vertices and edges.
+ */
+public class ColumnChunk implements Value {
+  /**
+   * Chunk containing graph heads.
+   */
+  public static final byte KIND_GRAPH_HEAD = 0;
+  /**
+   * Chunk containing vertices.
+   */
+  public static final byte KIND_VERTEX = 1;
+  /**
+   * Chunk containing edges.
+   */
+  public static final byte KIND_EDGE = 2;
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Kind of the stored elements.
+   */
+  private byte kind;
+  /**
+   * Label shared by all elements of the chunk.
+   */
+  private String label;
+  /**
+   * Number of elements stored in the chunk.
+   */
+  private int rowCount;
+  /**
+   * Property columns of the chunk.
+   */
+  private List<PropertyColumn> columns;
+  /**
+   * Encoded ids of the stored elements.
+   */
+  private byte[] idData;
+  /**
+   * Decoded element ids.
+   */
+  private transient GradoopId[] ids;
+  /**
+   * Decoded source ids, only set for edges.
+   */
+  private transient GradoopId[] sourceIds;
+  /**
+   * Decoded target ids, only set for edges.
+   */
+  private transient GradoopId[] targetIds;
+  /**
+   * Decoded graph ids, only set for vertices and edges.
+   */
+  private transient GradoopIdSet[] graphIds;
+  /**
+   * Decoded properties of the loaded columns.
+   */
+  private transient Properties[] properties;
+
+  /**
+   * Creates an empty chunk, used for deserialization.
+   */
+  public ColumnChunk() {
+    this.columns = new ArrayList<>();
+  }
+
+  /**
+   * Creates a new chunk.
+   *
+   * @param kind kind of the stored elements
+   * @param label label shared by all elements
+   * @param rowCount number of elements
+   * @param columns encoded property columns
+   * @param idData encoded element ids
+   */
+  ColumnChunk(byte kind, String label, int rowCount, List<PropertyColumn> columns,
+    byte[] idData) {
+    this.kind = kind;
+    this.label = label;
+    this.rowCount = rowCount;
+    this.columns = columns;
+    this.idData = idData;
+  }
+
+  public byte getKind() {
+    return kind;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the column storing the given property key.
+   *
+   * @param key property key
+   * @return property column or {@code null} if no element of the chunk has the property
+   */
+  public PropertyColumn getColumn(String key) {
+    for (PropertyColumn column : columns) {
+      if (column.getKey().equals(key)) {
+        return column;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the id of the element stored in the given row.
+   *
+   * @param row row index
+   * @return element id
+   * @throws IOException if the chunk could not be decoded
+   */
+  public GradoopId getId(int row) throws IOException {
+    decode();
+    return ids[row];
+  }
+
+  /**
+   * Returns the source id of the edge stored in the given row.
+   *
+   * @param row row index
+   * @return source vertex id
+   * @throws IOException if the chunk could not be decoded
+   */
+  public GradoopId getSourceId(int row) throws IOException {
+    decode();
+    return sourceIds[row];
+  }
+
+  /**
+   * Returns the target id of the edge stored in the given row.
+   *
+   * @param row row index
+   * @return target vertex id
+   * @throws IOException if the chunk could not be decoded
+   */
+  public GradoopId getTargetId(int row) throws IOException {
+    decode();
+    return targetIds[row];
+  }
+
+  /**
+   * Returns the graph ids of the vertex or edge stored in the given row.
+   *
+   * @param row row index
+   * @return graph ids
+   * @throws IOException if the chunk could not be decoded
+   */
+  public GradoopIdSet getGraphIds(int row) throws IOException {
+    decode();
+    return graphIds[row];
+  }
+
+  /**
+   * Returns the properties of the element stored in the given row. Only properties of loaded
+   * columns are contained.
+   *
+   * @param row row index
+   * @return element properties
+   * @throws IOException if the chunk could not be decoded
+   */
+  public Properties getProperties(int row) throws IOException {
+    decode();
+    return properties[row];
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeByte(kind);
+    out.writeUTF(label);
+    out.writeInt(rowCount);
+    out.writeInt(columns.size());
+    for (PropertyColumn column : columns) {
+      column.writeHeader(out);
+    }
+    out.writeInt(idData.length);
+    out.write(idData);
+    for (PropertyColumn column : columns) {
+      column.writeData(out);
+    }
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    read(in, null, null);
+  }
+
+  /**
+   * Reads a chunk and skips all data not needed by the reader. If the statistics of the chunk
+   * show that none of its elements satisfies the given predicates, the chunk data is skipped
+   * completely and the chunk will be empty.
+   *
+   * @param in input view
+   * @param columnsToLoad property keys of the columns to load, {@code null} to load all columns
+   * @param predicates predicates which have to be satisfied, may be {@code null}
+   * @throws IOException on failure
+   */
+  public void read(DataInputView in, Set<String> columnsToLoad,
+    Collection<ColumnarPredicate> predicates) throws IOException {
+    resetDecoded();
+    kind = in.readByte();
+    label = in.readUTF();
+    rowCount = in.readInt();
+    int columnCount = in.readInt();
+    columns = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      PropertyColumn column = new PropertyColumn();
+      column.readHeader(in);
+      columns.add(column);
+    }
+    int idLength = in.readInt();
+
+    if (predicates != null && !mightMatch(predicates)) {
+      in.skipBytesToRead(idLength);
+      for (PropertyColumn column : columns) {
+        column.skipData(in);
+      }
+      rowCount = 0;
+      columns.clear();
+      idData = new byte[0];
+      return;
+    }
+
+    idData = new byte[idLength];
+    in.readFully(idData);
+    for (PropertyColumn column : columns) {
+      if (columnsToLoad == null || columnsToLoad.contains(column.getKey())) {
+        column.readData(in);
+      } else {
+        column.skipData(in);
+      }
+    }
+  }
+
+  /**
+   * Checks the chunk header against the given predicates.
+   *
+   * @param predicates predicates to check
+   * @return false, if no element of the chunk can satisfy all predicates
+   */
+  private boolean mightMatch(Collection<ColumnarPredicate> predicates) {
+    for (ColumnarPredicate predicate : predicates) {
+      if (!predicate.mightMatch(this)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Clears all decoded rows.
+   */
+  private void resetDecoded() {
+    ids = null;
+    sourceIds = null;
+    targetIds = null;
+    graphIds = null;
+    properties = null;
+  }
+
+  /**
+   * Decodes the ids and all loaded property columns if not done yet.
+   *
+   * @throws IOException on failure
+   */
+  private void decode() throws IOException {
+    if (ids != null) {
+      return;
+    }
+    ids = new GradoopId[rowCount];
+    if (kind == KIND_EDGE) {
+      sourceIds = new GradoopId[rowCount];
+      targetIds = new GradoopId[rowCount];
+    }
+    if (kind != KIND_GRAPH_HEAD) {
+      graphIds = new GradoopIdSet[rowCount];
+    }
+    DataInputDeserializer in = new DataInputDeserializer(idData, 0, idData.length);
+    for (int row = 0; row < rowCount; row++) {
+      ids[row] = readId(in);
+      if (kind == KIND_EDGE) {
+        sourceIds[row] = readId(in);
+        targetIds[row] = readId(in);
+      }
+      if (kind != KIND_GRAPH_HEAD) {
+        graphIds[row] = new GradoopIdSet();
+        graphIds[row].read(in);
+      }
+    }
+
+    properties = new Properties[rowCount];
+    for (int row = 0; row < rowCount; row++) {
+      properties[row] = Properties.create();
+    }
+    for (PropertyColumn column : columns) {
+      if (!column.isLoaded()) {
+        continue;
+      }
+      PropertyValue[] values = column.decode(rowCount);
+      for (int row = 0; row < rowCount; row++) {
+        if (values[row] != null) {
+          properties[row].set(column.getKey(), values[row]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads a single GradoopId.
+   *
+   * @param in input view
+   * @return gradoop id
+   * @throws IOException on failure
+   */
+  private static GradoopId readId(DataInputView in) throws IOException {
+    GradoopId id = new GradoopId();
+    id.read(in);
+    return id;
+  }
+}
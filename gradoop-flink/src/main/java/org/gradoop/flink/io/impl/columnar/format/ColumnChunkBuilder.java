@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.api.entities.EPGMGraphElement;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects EPGM elements with the same label and encodes them into a {@link ColumnChunk}.
+ *
+ * The builder does not keep references to the added elements or their property values, thus
+ * input objects may be reused after {@link #add(EPGMElement)} returns.
+ */
+public class ColumnChunkBuilder {
+  /**
+   * Maximum number of elements per chunk.
+   */
+  private final int capacity;
+  /**
+   * Property values of each key, indexed by row.
+   */
+  private final Map<String, PropertyValue[]> values;
+  /**
+   * Encoded element ids.
+   */
+  private final DataOutputSerializer idData;
+  /**
+   * Kind of the collected elements.
+   */
+  private byte kind;
+  /**
+   * Label of the collected elements.
+   */
+  private String label;
+  /**
+   * Number of collected elements.
+   */
+  private int rowCount;
+
+  /**
+   * Creates a new builder.
+   *
+   * @param capacity maximum number of elements per chunk
+   */
+  public ColumnChunkBuilder(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("chunk capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.values = new LinkedHashMap<>();
+    this.idData = new DataOutputSerializer(capacity * GradoopId.ID_SIZE);
+  }
+
+  /**
+   * Adds an element to the current chunk.
+   *
+   * @param element EPGM element having the same label as all elements added before
+   * @throws IOException on failure
+   */
+  public void add(EPGMElement element) throws IOException {
+    if (isFull()) {
+      throw new IllegalStateException("chunk capacity exceeded");
+    }
+    if (rowCount == 0) {
+      label = element.getLabel();
+      if (element instanceof EPGMEdge) {
+        kind = ColumnChunk.KIND_EDGE;
+      } else if (element instanceof EPGMVertex) {
+        kind = ColumnChunk.KIND_VERTEX;
+      } else {
+        kind = ColumnChunk.KIND_GRAPH_HEAD;
+      }
+    } else if (!label.equals(element.getLabel())) {
+      throw new IllegalArgumentException("all elements of a chunk must have the same label");
+    }
+
+    element.getId().write(idData);
+    if (kind == ColumnChunk.KIND_EDGE) {
+      EPGMEdge edge = (EPGMEdge) element;
+      edge.getSourceId().write(idData);
+      edge.getTargetId().write(idData);
+    }
+    if (kind != ColumnChunk.KIND_GRAPH_HEAD) {
+      GradoopIdSet graphIds = ((EPGMGraphElement) element).getGraphIds();
+      (graphIds != null ? graphIds : new GradoopIdSet()).write(idData);
+    }
+
+    Properties properties = element.getProperties();
+    if (properties != null) {
+      for (Property property : properties) {
+        byte[] rawBytes = property.getValue().getRawBytes();
+        values.computeIfAbsent(property.getKey(), k -> new PropertyValue[capacity])[rowCount] =
+          PropertyValue.fromRawBytes(Arrays.copyOf(rawBytes, rawBytes.length));
+      }
+    }
+    rowCount++;
+  }
+
+  /**
+   * Returns true, if no more elements can be added to the current chunk.
+   *
+   * @return true, if the chunk is full
+   */
+  public boolean isFull() {
+    return rowCount == capacity;
+  }
+
+  /**
+   * Returns true, if no element has been added to the current chunk.
+   *
+   * @return true, if the chunk is empty
+   */
+  public boolean isEmpty() {
+    return rowCount == 0;
+  }
+
+  /**
+   * Encodes the collected elements and resets the builder.
+   *
+   * @return column chunk containing all collected elements
+   * @throws IOException on failure
+   */
+  public ColumnChunk build() throws IOException {
+    List<PropertyColumn> columns = new ArrayList<>(values.size());
+    for (Map.Entry<String, PropertyValue[]> column : values.entrySet()) {
+      columns.add(PropertyColumn.encode(column.getKey(), column.getValue(), rowCount));
+    }
+    ColumnChunk chunk =
+      new ColumnChunk(kind, label, rowCount, columns, idData.getCopyOfBuffer());
+
+    values.clear();
+    idData.clear();
+    rowCount = 0;
+    label = null;
+    return chunk;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.api.common.io.BinaryInputFormat;
+import org.apache.flink.core.memory.DataInputView;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Reads {@link ColumnChunk}s written by a
+ * {@link org.apache.flink.api.common.io.SerializedOutputFormat}. Property columns which are not
+ * needed are skipped without decoding and chunks whose statistics do not satisfy the predicates
+ * are skipped completely.
+ */
+public class ColumnChunkInputFormat extends BinaryInputFormat<ColumnChunk> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property keys of the columns to load, {@code null} to load all columns.
+   */
+  private final HashSet<String> columnsToLoad;
+  /**
+   * Predicates used to skip chunks.
+   */
+  private final ArrayList<ColumnarPredicate> predicates;
+
+  /**
+   * Creates a new input format.
+   *
+   * @param columnsToLoad property keys of the columns to load, {@code null} to load all columns
+   * @param predicates predicates used to skip chunks
+   */
+  public ColumnChunkInputFormat(Collection<String> columnsToLoad,
+    Collection<ColumnarPredicate> predicates) {
+    this.columnsToLoad = columnsToLoad == null ? null : new HashSet<>(columnsToLoad);
+    this.predicates = new ArrayList<>(predicates);
+  }
+
+  @Override
+  protected ColumnChunk deserialize(ColumnChunk reuse, DataInputView dataInput)
+    throws IOException {
+    ColumnChunk chunk = reuse != null ? reuse : new ColumnChunk();
+    chunk.read(dataInput, columnsToLoad, predicates);
+    return chunk;
+  }
+}
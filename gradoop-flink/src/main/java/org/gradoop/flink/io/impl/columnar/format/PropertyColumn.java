@@ -0,0 +1,353 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A single property column of a {@link ColumnChunk}.
+ *
+ * The column header stores the property key, the column type, optional min/max statistics and
+ * the length of the encoded column data. The column data consists of a presence bitmap
+ * (one bit per row) followed by the values of all rows having the property:
+ *
+ * bitmap | value_1 | ... | value_n
+ *
+ * If all values share the same type, they are stored without the type byte using their native
+ * binary representation ({@link #TYPE_MIXED} columns store full property values).
+ */
+public class PropertyColumn implements Serializable {
+  /**
+   * Column type used if the values of a column do not share a single type.
+   */
+  public static final byte TYPE_MIXED = -1;
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property key of the column.
+   */
+  private String key;
+  /**
+   * Type of all values stored in the column or {@link #TYPE_MIXED}.
+   */
+  private byte type;
+  /**
+   * Smallest value of the column or {@code null} if no statistics are available.
+   */
+  private PropertyValue min;
+  /**
+   * Largest value of the column or {@code null} if no statistics are available.
+   */
+  private PropertyValue max;
+  /**
+   * Length of the encoded column data in bytes.
+   */
+  private int dataLength;
+  /**
+   * Encoded column data or {@code null} if the column was not loaded.
+   */
+  private byte[] data;
+
+  /**
+   * Creates an empty column, used for deserialization.
+   */
+  PropertyColumn() { }
+
+  /**
+   * Encodes the values of a column.
+   *
+   * @param key property key
+   * @param values property value of each row, {@code null} if the row does not have the property
+   * @param rowCount number of rows
+   * @return encoded column
+   * @throws IOException on failure
+   */
+  static PropertyColumn encode(String key, PropertyValue[] values, int rowCount)
+    throws IOException {
+    PropertyColumn column = new PropertyColumn();
+    column.key = key;
+    boolean typed = false;
+
+    byte[] bitmap = new byte[(rowCount + 7) / 8];
+    for (int row = 0; row < rowCount; row++) {
+      PropertyValue value = values[row];
+      if (value == null) {
+        continue;
+      }
+      bitmap[row / 8] |= 1 << (row % 8);
+      byte valueType = value.getRawBytes()[0];
+      if (!typed) {
+        column.type = valueType;
+        typed = true;
+      } else if (column.type != valueType) {
+        column.type = TYPE_MIXED;
+      }
+    }
+
+    boolean withStatistics = hasStatistics(column.type);
+    DataOutputSerializer out = new DataOutputSerializer(rowCount * 8 + bitmap.length);
+    out.write(bitmap);
+    for (int row = 0; row < rowCount; row++) {
+      PropertyValue value = values[row];
+      if (value == null) {
+        continue;
+      }
+      writeValue(column.type, value, out);
+      if (withStatistics) {
+        if (column.min == null || value.compareTo(column.min) < 0) {
+          column.min = value;
+        }
+        if (column.max == null || value.compareTo(column.max) > 0) {
+          column.max = value;
+        }
+      }
+    }
+    column.data = out.getCopyOfBuffer();
+    column.dataLength = column.data.length;
+    return column;
+  }
+
+  /**
+   * Decodes the column data into one property value per row.
+   *
+   * @param rowCount number of rows
+   * @return property value of each row, {@code null} if the row does not have the property
+   * @throws IOException on failure
+   */
+  PropertyValue[] decode(int rowCount) throws IOException {
+    PropertyValue[] values = new PropertyValue[rowCount];
+    int bitmapLength = (rowCount + 7) / 8;
+    DataInputDeserializer in =
+      new DataInputDeserializer(data, bitmapLength, data.length - bitmapLength);
+    for (int row = 0; row < rowCount; row++) {
+      if ((data[row / 8] & (1 << (row % 8))) != 0) {
+        values[row] = readValue(type, in);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Writes the column header.
+   *
+   * @param out output view
+   * @throws IOException on failure
+   */
+  void writeHeader(DataOutputView out) throws IOException {
+    out.writeUTF(key);
+    out.writeByte(type);
+    out.writeBoolean(min != null);
+    if (min != null) {
+      min.write(out);
+      max.write(out);
+    }
+    out.writeInt(dataLength);
+  }
+
+  /**
+   * Reads the column header. The column data has to be read separately.
+   *
+   * @param in input view
+   * @throws IOException on failure
+   */
+  void readHeader(DataInputView in) throws IOException {
+    key = in.readUTF();
+    type = in.readByte();
+    if (in.readBoolean()) {
+      min = new PropertyValue();
+      min.read(in);
+      max = new PropertyValue();
+      max.read(in);
+    } else {
+      min = null;
+      max = null;
+    }
+    dataLength = in.readInt();
+    data = null;
+  }
+
+  /**
+   * Reads the column data following the header.
+   *
+   * @param in input view
+   * @throws IOException on failure
+   */
+  void readData(DataInputView in) throws IOException {
+    data = new byte[dataLength];
+    in.readFully(data);
+  }
+
+  /**
+   * Skips the column data following the header.
+   *
+   * @param in input view
+   * @throws IOException on failure
+   */
+  void skipData(DataInputView in) throws IOException {
+    in.skipBytesToRead(dataLength);
+    data = null;
+  }
+
+  /**
+   * Writes the column data.
+   *
+   * @param out output view
+   * @throws IOException on failure
+   */
+  void writeData(DataOutputView out) throws IOException {
+    out.write(data);
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public byte getType() {
+    return type;
+  }
+
+  /**
+   * Returns true, if min/max statistics are available for the column.
+   *
+   * @return true, if statistics are available
+   */
+  public boolean hasStatistics() {
+    return min != null;
+  }
+
+  public PropertyValue getMin() {
+    return min;
+  }
+
+  public PropertyValue getMax() {
+    return max;
+  }
+
+  /**
+   * Returns true, if the column data has been loaded.
+   *
+   * @return true, if the column data is available
+   */
+  public boolean isLoaded() {
+    return data != null;
+  }
+
+  /**
+   * Checks if min/max statistics are maintained for columns of the given type.
+   *
+   * @param type column type
+   * @return true, if the type has a meaningful order
+   */
+  private static boolean hasStatistics(byte type) {
+    switch (type) {
+    case PropertyValue.TYPE_SHORT:
+    case PropertyValue.TYPE_INTEGER:
+    case PropertyValue.TYPE_LONG:
+    case PropertyValue.TYPE_FLOAT:
+    case PropertyValue.TYPE_DOUBLE:
+    case PropertyValue.TYPE_BIG_DECIMAL:
+    case PropertyValue.TYPE_STRING:
+    case PropertyValue.TYPE_DATE:
+    case PropertyValue.TYPE_TIME:
+    case PropertyValue.TYPE_DATETIME:
+      return true;
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Writes a single value using the native representation of the column type.
+   *
+   * @param type column type
+   * @param value property value
+   * @param out output view
+   * @throws IOException on failure
+   */
+  private static void writeValue(byte type, PropertyValue value, DataOutputView out)
+    throws IOException {
+    switch (type) {
+    case PropertyValue.TYPE_BOOLEAN:
+      out.writeBoolean(value.getBoolean());
+      break;
+    case PropertyValue.TYPE_SHORT:
+      out.writeShort(value.getShort());
+      break;
+    case PropertyValue.TYPE_INTEGER:
+      out.writeInt(value.getInt());
+      break;
+    case PropertyValue.TYPE_LONG:
+      out.writeLong(value.getLong());
+      break;
+    case PropertyValue.TYPE_FLOAT:
+      out.writeFloat(value.getFloat());
+      break;
+    case PropertyValue.TYPE_DOUBLE:
+      out.writeDouble(value.getDouble());
+      break;
+    case PropertyValue.TYPE_STRING:
+      byte[] bytes = value.getString().getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      break;
+    default:
+      value.write(out);
+    }
+  }
+
+  /**
+   * Reads a single value stored in the native representation of the column type.
+   *
+   * @param type column type
+   * @param in input view
+   * @return property value
+   * @throws IOException on failure
+   */
+  private static PropertyValue readValue(byte type, DataInputView in) throws IOException {
+    switch (type) {
+    case PropertyValue.TYPE_BOOLEAN:
+      return PropertyValue.create(in.readBoolean());
+    case PropertyValue.TYPE_SHORT:
+      return PropertyValue.create(in.readShort());
+    case PropertyValue.TYPE_INTEGER:
+      return PropertyValue.create(in.readInt());
+    case PropertyValue.TYPE_LONG:
+      return PropertyValue.create(in.readLong());
+    case PropertyValue.TYPE_FLOAT:
+      return PropertyValue.create(in.readFloat());
+    case PropertyValue.TYPE_DOUBLE:
+      return PropertyValue.create(in.readDouble());
+    case PropertyValue.TYPE_STRING:
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      return PropertyValue.create(new String(bytes, StandardCharsets.UTF_8));
+    default:
+      PropertyValue value = new PropertyValue();
+      value.read(in);
+      return value;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Creates {@link Edge}s from a column chunk.
+ */
+public class ColumnChunkToEdge extends ColumnChunkToElements<Edge> {
+  /**
+   * Used to instantiate the edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param edgeFactory EPGM edge factory
+   * @param properties projected property keys, {@code null} to keep all properties
+   * @param predicates predicates every edge has to satisfy
+   */
+  public ColumnChunkToEdge(EPGMEdgeFactory<Edge> edgeFactory, Collection<String> properties,
+    Collection<ColumnarPredicate> predicates) {
+    super(properties, predicates);
+    this.edgeFactory = edgeFactory;
+  }
+
+  @Override
+  protected Edge createElement(ColumnChunk chunk, int row) throws IOException {
+    return edgeFactory.initEdge(chunk.getId(row), chunk.getLabel(),
+      chunk.getSourceId(row), chunk.getTargetId(row), chunk.getProperties(row),
+      chunk.getGraphIds(row));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Creates EPGM elements from a column chunk. Elements which do not satisfy the pushed down
+ * predicates are dropped and properties which are only loaded to evaluate the predicates are
+ * removed from the result.
+ *
+ * @param <E> EPGM element type
+ */
+public abstract class ColumnChunkToElements<E extends EPGMElement>
+  implements FlatMapFunction<ColumnChunk, E> {
+  /**
+   * Projected property keys, {@code null} to keep all properties.
+   */
+  private final HashSet<String> properties;
+  /**
+   * Predicates every element has to satisfy.
+   */
+  private final ArrayList<ColumnarPredicate> predicates;
+
+  /**
+   * Constructor.
+   *
+   * @param properties projected property keys, {@code null} to keep all properties
+   * @param predicates predicates every element has to satisfy
+   */
+  protected ColumnChunkToElements(Collection<String> properties,
+    Collection<ColumnarPredicate> predicates) {
+    this.properties = properties == null ? null : new HashSet<>(properties);
+    this.predicates = new ArrayList<>(predicates);
+  }
+
+  /**
+   * Creates the element stored in the given row.
+   *
+   * @param chunk column chunk
+   * @param row row index
+   * @return EPGM element
+   * @throws IOException if the chunk could not be decoded
+   */
+  protected abstract E createElement(ColumnChunk chunk, int row) throws IOException;
+
+  @Override
+  public void flatMap(ColumnChunk chunk, Collector<E> out) throws Exception {
+    for (int row = 0; row < chunk.getRowCount(); row++) {
+      E element = createElement(chunk, row);
+      if (matches(element)) {
+        project(element);
+        out.collect(element);
+      }
+    }
+  }
+
+  /**
+   * Evaluates all predicates on the given element.
+   *
+   * @param element EPGM element
+   * @return true, if the element satisfies all predicates
+   */
+  private boolean matches(E element) {
+    for (ColumnarPredicate predicate : predicates) {
+      if (!predicate.test(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes all properties which are not part of the projection.
+   *
+   * @param element EPGM element
+   */
+  private void project(E element) {
+    Properties elementProperties = element.getProperties();
+    if (properties == null || elementProperties == null) {
+      return;
+    }
+    List<String> removed = new ArrayList<>();
+    for (String key : elementProperties.getKeys()) {
+      if (!properties.contains(key)) {
+        removed.add(key);
+      }
+    }
+    for (String key : removed) {
+      elementProperties.remove(key);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Creates {@link GraphHead}s from a column chunk.
+ */
+public class ColumnChunkToGraphHead extends ColumnChunkToElements<GraphHead> {
+  /**
+   * Used to instantiate the graph head.
+   */
+  private final EPGMGraphHeadFactory<GraphHead> graphHeadFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param graphHeadFactory EPGM graph head factory
+   * @param properties projected property keys, {@code null} to keep all properties
+   * @param predicates predicates every graph head has to satisfy
+   */
+  public ColumnChunkToGraphHead(EPGMGraphHeadFactory<GraphHead> graphHeadFactory,
+    Collection<String> properties, Collection<ColumnarPredicate> predicates) {
+    super(properties, predicates);
+    this.graphHeadFactory = graphHeadFactory;
+  }
+
+  @Override
+  protected GraphHead createElement(ColumnChunk chunk, int row) throws IOException {
+    return graphHeadFactory.initGraphHead(chunk.getId(row), chunk.getLabel(),
+      chunk.getProperties(row));
+  }
+}
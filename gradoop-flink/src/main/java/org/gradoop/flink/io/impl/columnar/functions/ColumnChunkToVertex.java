@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Creates {@link Vertex}s from a column chunk.
+ */
+public class ColumnChunkToVertex extends ColumnChunkToElements<Vertex> {
+  /**
+   * Used to instantiate the vertex.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Constructor.
+   *
+   * @param vertexFactory EPGM vertex factory
+   * @param properties projected property keys, {@code null} to keep all properties
+   * @param predicates predicates every vertex has to satisfy
+   */
+  public ColumnChunkToVertex(EPGMVertexFactory<Vertex> vertexFactory, Collection<String> properties,
+    Collection<ColumnarPredicate> predicates) {
+    super(properties, predicates);
+    this.vertexFactory = vertexFactory;
+  }
+
+  @Override
+  protected Vertex createElement(ColumnChunk chunk, int row) throws IOException {
+    return vertexFactory.initVertex(chunk.getId(row), chunk.getLabel(),
+      chunk.getProperties(row), chunk.getGraphIds(row));
+  }
+}
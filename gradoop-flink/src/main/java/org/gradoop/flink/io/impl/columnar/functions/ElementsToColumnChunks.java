@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.functions;
+
+import org.apache.flink.api.common.functions.GroupCombineFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunkBuilder;
+
+/**
+ * Encodes a group of EPGM elements sharing the same label into column chunks. The function is
+ * applied per partition, i.e. elements with the same label are not shuffled to a single task.
+ *
+ * @param <E> EPGM element type
+ */
+public class ElementsToColumnChunks<E extends EPGMElement>
+  implements GroupCombineFunction<E, ColumnChunk> {
+  /**
+   * Maximum number of elements per chunk.
+   */
+  private final int chunkSize;
+
+  /**
+   * Constructor.
+   *
+   * @param chunkSize maximum number of elements per chunk
+   */
+  public ElementsToColumnChunks(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void combine(Iterable<E> elements, Collector<ColumnChunk> out) throws Exception {
+    ColumnChunkBuilder builder = new ColumnChunkBuilder(chunkSize);
+    for (E element : elements) {
+      builder.add(element);
+      if (builder.isFull()) {
+        out.collect(builder.build());
+      }
+    }
+    if (!builder.isEmpty()) {
+      out.collect(builder.build());
+    }
+  }
+}
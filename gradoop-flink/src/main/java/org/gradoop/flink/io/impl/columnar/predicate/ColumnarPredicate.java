@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.predicate;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * A predicate which is pushed down into the columnar data source. It is evaluated twice: once
+ * on the chunk header to skip chunks which cannot contain matching elements and once on each
+ * element of the remaining chunks.
+ */
+public interface ColumnarPredicate extends Serializable {
+
+  /**
+   * Checks the header of a chunk, i.e. its label and column statistics.
+   *
+   * @param chunk chunk with loaded header
+   * @return false, if no element of the chunk can satisfy the predicate
+   */
+  boolean mightMatch(ColumnChunk chunk);
+
+  /**
+   * Checks a single element.
+   *
+   * @param element EPGM element
+   * @return true, if the element satisfies the predicate
+   */
+  boolean test(EPGMElement element);
+
+  /**
+   * Returns the property keys the predicate needs to evaluate {@link #test(EPGMElement)}.
+   *
+   * @return property keys
+   */
+  Set<String> getPropertyKeys();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.predicate;
+
+import com.google.common.collect.Sets;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Accepts all elements having one of the given labels. Since all elements of a chunk share the
+ * same label, chunks are either accepted or skipped completely.
+ */
+public class LabelIn implements ColumnarPredicate {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Accepted labels.
+   */
+  private final HashSet<String> labels;
+
+  /**
+   * Creates a new predicate.
+   *
+   * @param labels accepted labels
+   */
+  public LabelIn(String... labels) {
+    this.labels = Sets.newHashSet(labels);
+  }
+
+  @Override
+  public boolean mightMatch(ColumnChunk chunk) {
+    return labels.contains(chunk.getLabel());
+  }
+
+  @Override
+  public boolean test(EPGMElement element) {
+    return labels.contains(element.getLabel());
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public String toString() {
+    return "LabelIn" + labels;
+  }
+}
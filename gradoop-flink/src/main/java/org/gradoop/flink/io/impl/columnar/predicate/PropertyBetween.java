@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.predicate;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.columnar.format.ColumnChunk;
+import org.gradoop.flink.io.impl.columnar.format.PropertyColumn;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Accepts all elements having a property value within the given bounds (inclusive). Values which
+ * are not comparable to the bounds are rejected. Chunks are skipped if they do not contain the
+ * property or if their min/max statistics do not overlap with the bounds.
+ */
+public class PropertyBetween implements ColumnarPredicate {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+  /**
+   * Property key.
+   */
+  private final String key;
+  /**
+   * Lower bound or {@code null} if unbounded.
+   */
+  private final PropertyValue min;
+  /**
+   * Upper bound or {@code null} if unbounded.
+   */
+  private final PropertyValue max;
+
+  /**
+   * Creates a new predicate.
+   *
+   * @param key property key
+   * @param min lower bound (inclusive) or {@code null} if unbounded
+   * @param max upper bound (inclusive) or {@code null} if unbounded
+   */
+  public PropertyBetween(String key, PropertyValue min, PropertyValue max) {
+    this.key = Objects.requireNonNull(key);
+    this.min = min;
+    this.max = max;
+  }
+
+  @Override
+  public boolean mightMatch(ColumnChunk chunk) {
+    PropertyColumn column = chunk.getColumn(key);
+    if (column == null) {
+      return false;
+    }
+    if (!column.hasStatistics()) {
+      return true;
+    }
+    if (min != null && isComparable(column.getMax(), min) &&
+      column.getMax().compareTo(min) < 0) {
+      return false;
+    }
+    return max == null || !isComparable(column.getMin(), max) ||
+      column.getMin().compareTo(max) <= 0;
+  }
+
+  @Override
+  public boolean test(EPGMElement element) {
+    PropertyValue value = element.getProperties() == null ? null :
+      element.getProperties().get(key);
+    if (value == null) {
+      return false;
+    }
+    if (min != null && (!isComparable(value, min) || value.compareTo(min) < 0)) {
+      return false;
+    }
+    return max == null || (isComparable(value, max) && value.compareTo(max) <= 0);
+  }
+
+  @Override
+  public Set<String> getPropertyKeys() {
+    return Collections.singleton(key);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s BETWEEN %s AND %s", key, min, max);
+  }
+
+  /**
+   * Checks if two property values can be compared with each other.
+   *
+   * @param first first value
+   * @param second second value
+   * @return true, if {@link PropertyValue#compareTo(PropertyValue)} is defined for the values
+   */
+  private static boolean isComparable(PropertyValue first, PropertyValue second) {
+    if (first.isNumber() && second.isNumber()) {
+      return true;
+    }
+    byte type = first.getRawBytes()[0];
+    return type == second.getRawBytes()[0] && !first.isNull() && !first.isMap() &&
+      !first.isList();
+  }
+}
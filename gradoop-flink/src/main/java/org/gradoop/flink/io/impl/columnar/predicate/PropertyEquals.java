@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.predicate;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Accepts all elements having a property value equal to the given value.
+ */
+public class PropertyEquals extends PropertyBetween {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new predicate.
+   *
+   * @param key property key
+   * @param value expected property value
+   */
+  public PropertyEquals(String key, PropertyValue value) {
+    super(key, value, value);
+  }
+}
@@ -15,8 +15,11 @@
  */
 package org.gradoop.flink.io.impl.graph;
 
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple1;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
 import org.apache.flink.api.java.typeutils.TupleTypeInfo;
@@ -24,8 +27,15 @@ import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.io.api.DataSource;
+import org.gradoop.flink.io.impl.graph.functions.CheckEdgeEndpoints;
+import org.gradoop.flink.io.impl.graph.functions.CheckNameBasedIds;
+import org.gradoop.flink.io.impl.graph.functions.ImportEdgeEndpoints;
 import org.gradoop.flink.io.impl.graph.functions.InitEdge;
+import org.gradoop.flink.io.impl.graph.functions.InitNameBasedEdge;
+import org.gradoop.flink.io.impl.graph.functions.InitNameBasedVertex;
 import org.gradoop.flink.io.impl.graph.functions.InitVertex;
+import org.gradoop.flink.io.impl.graph.functions.NameBasedId;
+import org.gradoop.flink.io.impl.graph.functions.NameBasedIds;
 import org.gradoop.flink.io.impl.graph.functions.UpdateEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
@@ -45,10 +55,26 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * {@link ImportEdge}. This class transforms the external graph into an EPGM
  * {@link LogicalGraph}.
  *
+ * How import identifiers are mapped to EPGM identifiers is defined by the
+ * {@link IdResolution}. By default, vertices get new identifiers and edges are
+ * joined twice with the resulting id mapping. With
+ * {@link IdResolution#NAME_BASED}, identifiers are derived from the import
+ * identifiers and edges are created without any join. Unique import
+ * identifiers and existing edge endpoints are a precondition, otherwise the
+ * resulting graph contains merged elements or dangling edges. Optionally, a
+ * check groups vertices and edges by their id to detect hash collisions, and
+ * fails on edges whose source or target has no import vertex. The check is
+ * disabled by default, as it shuffles all elements.
+ *
  * @param <K> External vertex/edge identifier type
  */
 public class GraphDataSource<K extends Comparable<K>> implements DataSource {
 
+  /**
+   * Broadcast set name of the edge endpoint check.
+   */
+  private static final String BC_ENDPOINT_CHECK = "endpointCheck";
+
   /**
    * Vertices to import.
    */
@@ -64,12 +90,22 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
    */
   private final String lineagePropertyKey;
 
+  /**
+   * Strategy to map import identifiers to EPGM identifiers.
+   */
+  private final IdResolution idResolution;
+
+  /**
+   * True, if name-based ids shall be checked for collisions and edges for
+   * missing endpoints.
+   */
+  private final boolean checkIdCollisions;
+
   /**
    * Gradoop config
    */
   private final GradoopFlinkConfig config;
 
-
   /**
    * Creates a new graph reader with no lineage information stored at the
    * resulting EPGM graph.
@@ -98,9 +134,60 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
   public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
     DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
     GradoopFlinkConfig config) {
+    this(importVertices, importEdges, lineagePropertyKey, IdResolution.JOIN,
+      config);
+  }
+
+  /**
+   * Creates a new graph reader using the given id resolution strategy. For
+   * {@link IdResolution#NAME_BASED}, ids are not checked for collisions and
+   * edges are not checked for missing endpoints.
+   *
+   * If the given {@code lineagePropertyKey} is {@code null}, no lineage info
+   * is stored.
+   *
+   * @param importVertices      vertices to import
+   * @param importEdges         edges to import
+   * @param lineagePropertyKey  property key to store import identifiers
+   *                            (can be {@code null})
+   * @param idResolution        strategy to map import identifiers
+   * @param config              gradoop config
+   */
+  public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
+    DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
+    IdResolution idResolution, GradoopFlinkConfig config) {
+    this(importVertices, importEdges, lineagePropertyKey, idResolution, false,
+      config);
+  }
+
+  /**
+   * Creates a new graph reader using the given id resolution strategy.
+   *
+   * If the given {@code lineagePropertyKey} is {@code null}, no lineage info
+   * is stored. {@code checkIdCollisions} is only considered for
+   * {@link IdResolution#NAME_BASED}. Enabling the check requires grouping all
+   * elements, without it unique import identifiers and import vertices for
+   * all edge endpoints are a precondition.
+   *
+   * @param importVertices      vertices to import
+   * @param importEdges         edges to import
+   * @param lineagePropertyKey  property key to store import identifiers
+   *                            (can be {@code null})
+   * @param idResolution        strategy to map import identifiers
+   * @param checkIdCollisions   true, if name-based ids shall be checked for
+   *                            collisions and missing edge endpoints
+   *                            (requires grouping all elements)
+   * @param config              gradoop config
+   */
+  public GraphDataSource(DataSet<ImportVertex<K>> importVertices,
+    DataSet<ImportEdge<K>> importEdges, String lineagePropertyKey,
+    IdResolution idResolution, boolean checkIdCollisions,
+    GradoopFlinkConfig config) {
     this.importVertices     = checkNotNull(importVertices);
     this.importEdges        = checkNotNull(importEdges);
     this.lineagePropertyKey = lineagePropertyKey;
+    this.idResolution       = checkNotNull(idResolution);
+    this.checkIdCollisions  = checkIdCollisions;
     this.config             = checkNotNull(config);
   }
 
@@ -115,6 +202,25 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
     TypeInformation<K> externalIdType = ((TupleTypeInfo<?>) importVertices
       .getType()).getTypeAt(0);
 
+    switch (idResolution) {
+    case NAME_BASED:
+      return resolveByName(externalIdType);
+    case REPARTITION_SORT_MERGE_JOIN:
+      return resolveByJoin(externalIdType, JoinHint.REPARTITION_SORT_MERGE);
+    default:
+      return resolveByJoin(externalIdType, JoinHint.OPTIMIZER_CHOOSES);
+    }
+  }
+
+  /**
+   * Creates vertices with new identifiers and resolves the edge source and
+   * target identifiers by joining edges with the resulting id mapping.
+   *
+   * @param externalIdType type info for the import identifiers
+   * @param joinHint strategy for the two id joins
+   * @return logical graph
+   */
+  private LogicalGraph resolveByJoin(TypeInformation<K> externalIdType, JoinHint joinHint) {
     DataSet<Tuple3<K, GradoopId, Vertex>> vertexTriples = importVertices
       .map(new InitVertex<K>(
         config.getVertexFactory(), lineagePropertyKey, externalIdType));
@@ -126,17 +232,64 @@ public class GraphDataSource<K extends Comparable<K>> implements DataSource {
       .map(new Project3To0And1<K, GradoopId, Vertex>());
 
     DataSet<Edge> epgmEdges = importEdges
-      .join(vertexIdPair)
+      .join(vertexIdPair, joinHint)
       .where(1).equalTo(0)
       .with(new InitEdge<K>(
         config.getEdgeFactory(), lineagePropertyKey, externalIdType))
-      .join(vertexIdPair)
+      .join(vertexIdPair, joinHint)
       .where(0).equalTo(0)
       .with(new UpdateEdge<Edge, K>());
 
     return config.getLogicalGraphFactory().fromDataSets(epgmVertices, epgmEdges);
   }
 
+  /**
+   * Derives all identifiers from the import identifiers. Edges are created
+   * without joining them with the vertices. If checked, the import
+   * identifiers referenced by edges are cogrouped with the vertices, and the
+   * check result is broadcast to the edge creation to execute it first.
+   *
+   * @param externalIdType type info for the import identifiers
+   * @return logical graph
+   */
+  private LogicalGraph resolveByName(TypeInformation<K> externalIdType) {
+    DataSet<ImportVertex<K>> vertices = importVertices;
+    DataSet<ImportEdge<K>> edges = importEdges;
+
+    if (checkIdCollisions) {
+      vertices = vertices
+        .groupBy(new NameBasedId<ImportVertex<K>>(NameBasedIds.VERTEX_NAMESPACE))
+        .reduceGroup(new CheckNameBasedIds<ImportVertex<K>>())
+        .returns(importVertices.getType());
+
+      edges = edges
+        .groupBy(new NameBasedId<ImportEdge<K>>(NameBasedIds.EDGE_NAMESPACE))
+        .reduceGroup(new CheckNameBasedIds<ImportEdge<K>>())
+        .returns(importEdges.getType());
+    }
+
+    DataSet<Vertex> epgmVertices = vertices
+      .map(new InitNameBasedVertex<K>(
+        config.getVertexFactory(), lineagePropertyKey, externalIdType));
+
+    MapOperator<ImportEdge<K>, Edge> epgmEdges = edges
+      .map(new InitNameBasedEdge<K>(
+        config.getEdgeFactory(), lineagePropertyKey, externalIdType));
+
+    if (checkIdCollisions) {
+      DataSet<Tuple1<K>> endpointCheck = importEdges
+        .flatMap(new ImportEdgeEndpoints<K>(externalIdType))
+        .coGroup(importVertices)
+        .where(0).equalTo(0)
+        .with(new CheckEdgeEndpoints<K>())
+        .returns(new TupleTypeInfo<Tuple1<K>>(externalIdType));
+
+      epgmEdges = epgmEdges.withBroadcastSet(endpointCheck, BC_ENDPOINT_CHECK);
+    }
+
+    return config.getLogicalGraphFactory().fromDataSets(epgmVertices, epgmEdges);
+  }
+
   @Override
   public GraphCollection getGraphCollection() throws IOException {
     return config.getGraphCollectionFactory().fromGraph(getLogicalGraph());
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph;
+
+/**
+ * Strategies used by {@link GraphDataSource} to map import identifiers to
+ * {@link org.gradoop.common.model.impl.id.GradoopId}s.
+ */
+public enum IdResolution {
+  /**
+   * Vertices get new random identifiers. Edges are joined twice with the
+   * resulting (import id, gradoop id) mapping to resolve source and target.
+   */
+  JOIN,
+  /**
+   * Like {@link #JOIN}, but both joins are executed as repartition sort-merge
+   * joins. This avoids building hash tables over the id mapping, which is
+   * useful if the mapping exceeds the managed memory. Both inputs are still
+   * repartitioned and sorted, an existing order of the inputs is not used.
+   */
+  REPARTITION_SORT_MERGE_JOIN,
+  /**
+   * Identifiers are derived deterministically from the import identifiers by
+   * name-based hashing. Edge source and target ids are computed locally, thus
+   * no join and no shuffle of the edge set is required. Unlike the joins,
+   * this keeps edges whose endpoints have no import vertex, which is checked
+   * by {@link GraphDataSource} if the check is enabled.
+   */
+  NAME_BASED
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.CoGroupFunction;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
+
+import java.util.Iterator;
+
+/**
+ * Fails if an import vertex identifier referenced by an import edge has no
+ * {@link ImportVertex}, i.e. if the edge would dangle. Emits nothing.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+public class CheckEdgeEndpoints<K extends Comparable<K>>
+  implements CoGroupFunction<Tuple1<K>, ImportVertex<K>, Tuple1<K>> {
+
+  @Override
+  public void coGroup(Iterable<Tuple1<K>> endpoints, Iterable<ImportVertex<K>> importVertices,
+    Collector<Tuple1<K>> out) throws Exception {
+    Iterator<Tuple1<K>> endpointIterator = endpoints.iterator();
+    if (endpointIterator.hasNext() && !importVertices.iterator().hasNext()) {
+      throw new IllegalStateException(String.format(
+        "Import edge endpoint %s has no import vertex", endpointIterator.next().f0));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.apache.flink.util.Collector;
+
+/**
+ * Forwards a group of import elements sharing the same name-based id and fails
+ * if the group contains different import identifiers, i.e. if the hashes of
+ * two import identifiers collide.
+ *
+ * @param <T> import element type
+ */
+public class CheckNameBasedIds<T extends Tuple> implements GroupReduceFunction<T, T> {
+
+  @Override
+  public void reduce(Iterable<T> importElements, Collector<T> out) throws Exception {
+    Object importId = null;
+    for (T importElement : importElements) {
+      Object currentId = importElement.getField(0);
+      if (importId == null) {
+        importId = currentId;
+      } else if (!importId.equals(currentId)) {
+        throw new IllegalStateException(String.format(
+          "Name-based ids of import elements %s and %s collide", importId, currentId));
+      }
+      out.collect(importElement);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.tuple.Tuple1;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
+
+/**
+ * import edge (id, sourceId, targetId, ..) => (sourceId), (targetId)
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+public class ImportEdgeEndpoints<K extends Comparable<K>>
+  implements FlatMapFunction<ImportEdge<K>, Tuple1<K>>, ResultTypeQueryable<Tuple1<K>> {
+
+  /**
+   * Type info for the import vertex identifier.
+   */
+  private final TypeInformation<K> keyTypeInfo;
+
+  /**
+   * Reduce object instantiations.
+   */
+  private final Tuple1<K> reuseTuple = new Tuple1<>();
+
+  /**
+   * Constructor.
+   *
+   * @param keyTypeInfo type info for the import vertex identifier
+   */
+  public ImportEdgeEndpoints(TypeInformation<K> keyTypeInfo) {
+    this.keyTypeInfo = keyTypeInfo;
+  }
+
+  @Override
+  public void flatMap(ImportEdge<K> importEdge, Collector<Tuple1<K>> out) throws Exception {
+    reuseTuple.f0 = importEdge.getSourceId();
+    out.collect(reuseTuple);
+    reuseTuple.f0 = importEdge.getTargetId();
+    out.collect(reuseTuple);
+  }
+
+  @Override
+  public TypeInformation<Tuple1<K>> getProducedType() {
+    return new TupleTypeInfo<>(keyTypeInfo);
+  }
+}
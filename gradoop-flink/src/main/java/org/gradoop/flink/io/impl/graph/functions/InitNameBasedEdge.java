@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
+
+/**
+ * Initializes an EPGM edge from the given {@link ImportEdge}. The edge id as
+ * well as its source and target vertex ids are derived from the import
+ * identifiers (see {@link NameBasedIds}), thus no join with the vertices is
+ * needed.
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f3->label;" +     // edge label
+  "f4->properties")  // edge properties
+public class InitNameBasedEdge<K extends Comparable<K>>
+  extends InitElement<Edge, K>
+  implements MapFunction<ImportEdge<K>, Edge>, ResultTypeQueryable<Edge> {
+
+  /**
+   * Used to create new EPGM edge.
+   */
+  private final EPGMEdgeFactory<Edge> edgeFactory;
+
+  /**
+   * Creates a new map function.
+   *
+   * @param epgmEdgeFactory     edge factory
+   * @param lineagePropertyKey  property key to store import identifier
+   *                            (can be {@code null})
+   * @param keyTypeInfo         type info for the import edge identifier
+   */
+  public InitNameBasedEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory,
+    String lineagePropertyKey, TypeInformation<K> keyTypeInfo) {
+    super(lineagePropertyKey, keyTypeInfo);
+    this.edgeFactory = epgmEdgeFactory;
+  }
+
+  @Override
+  public Edge map(ImportEdge<K> importEdge) throws Exception {
+    Edge edge = edgeFactory.initEdge(NameBasedIds.edgeId(importEdge.getId()),
+      importEdge.getLabel(),
+      NameBasedIds.vertexId(importEdge.getSourceId()),
+      NameBasedIds.vertexId(importEdge.getTargetId()),
+      importEdge.getProperties());
+
+    return updateLineage(edge, importEdge.getId());
+  }
+
+  @Override
+  public TypeInformation<Edge> getProducedType() {
+    return TypeExtractor.createTypeInfo(edgeFactory.getType());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.api.java.typeutils.TypeExtractor;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
+
+/**
+ * Initializes an EPGM vertex from the given {@link ImportVertex}. The vertex
+ * id is derived from the import vertex identifier (see {@link NameBasedIds}).
+ *
+ * @param <K> Import Edge/Vertex identifier type
+ */
+@FunctionAnnotation.ForwardedFields(
+  "f1->label;" + // vertex label
+  "f2->properties" // vertex properties
+)
+public class InitNameBasedVertex<K extends Comparable<K>>
+  extends InitElement<Vertex, K>
+  implements MapFunction<ImportVertex<K>, Vertex>, ResultTypeQueryable<Vertex> {
+
+  /**
+   * Used to create new EPGM vertex.
+   */
+  private final EPGMVertexFactory<Vertex> vertexFactory;
+
+  /**
+   * Creates a new map function
+   *
+   * @param epgmVertexFactory   vertex factory
+   * @param lineagePropertyKey  property key to store import identifier
+   *                            (can be {@code null})
+   * @param externalIdType      type info for the import vertex identifier
+   */
+  public InitNameBasedVertex(EPGMVertexFactory<Vertex> epgmVertexFactory,
+    String lineagePropertyKey, TypeInformation<K> externalIdType) {
+    super(lineagePropertyKey, externalIdType);
+    this.vertexFactory = epgmVertexFactory;
+  }
+
+  @Override
+  public Vertex map(ImportVertex<K> importVertex) throws Exception {
+    Vertex vertex = vertexFactory.initVertex(NameBasedIds.vertexId(importVertex.getId()),
+      importVertex.getLabel(), importVertex.getProperties());
+
+    return updateLineage(vertex, importVertex.getId());
+  }
+
+  @Override
+  public TypeInformation<Vertex> getProducedType() {
+    return TypeExtractor.createTypeInfo(vertexFactory.getType());
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.tuple.Tuple;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * import element (id, ..) => name-based gradoop id
+ *
+ * @param <T> import element type
+ */
+public class NameBasedId<T extends Tuple> implements KeySelector<T, GradoopId> {
+
+  /**
+   * Namespace of the import elements.
+   */
+  private final int namespace;
+
+  /**
+   * Constructor.
+   *
+   * @param namespace {@link NameBasedIds#VERTEX_NAMESPACE} or
+   *                  {@link NameBasedIds#EDGE_NAMESPACE}
+   * @throws IllegalArgumentException if the namespace is unknown
+   */
+  public NameBasedId(int namespace) {
+    this.namespace = NameBasedIds.checkNamespace(namespace);
+  }
+
+  @Override
+  public GradoopId getKey(T importElement) throws Exception {
+    return NameBasedIds.create(namespace, importElement.getField(0));
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.graph.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.util.Arrays;
+
+/**
+ * Derives {@link GradoopId}s from import identifiers by name-based hashing.
+ *
+ * The import identifier is serialized like a {@link PropertyValue} (i.e.
+ * including its type) and hashed with a 128-bit murmur3 function seeded by the
+ * element namespace. The first 12 bytes of the hash form the id. Thus, equal
+ * import identifiers always result in the same id, while vertices and edges
+ * with equal import identifiers get different ids.
+ */
+public final class NameBasedIds {
+
+  /**
+   * Namespace for vertex identifiers.
+   */
+  public static final int VERTEX_NAMESPACE = 0x56;
+
+  /**
+   * Namespace for edge identifiers.
+   */
+  public static final int EDGE_NAMESPACE = 0x45;
+
+  /**
+   * Hash function for vertex identifiers.
+   */
+  private static final HashFunction VERTEX_HASH = Hashing.murmur3_128(VERTEX_NAMESPACE);
+
+  /**
+   * Hash function for edge identifiers.
+   */
+  private static final HashFunction EDGE_HASH = Hashing.murmur3_128(EDGE_NAMESPACE);
+
+  /**
+   * Length of a {@link GradoopId} in bytes.
+   */
+  private static final int ID_LENGTH = 12;
+
+  /**
+   * No instances.
+   */
+  private NameBasedIds() { }
+
+  /**
+   * Returns the id of the vertex with the given import identifier.
+   *
+   * @param importId import vertex identifier
+   * @return gradoop vertex id
+   */
+  public static GradoopId vertexId(Object importId) {
+    return create(VERTEX_HASH, importId);
+  }
+
+  /**
+   * Returns the id of the edge with the given import identifier.
+   *
+   * @param importId import edge identifier
+   * @return gradoop edge id
+   */
+  public static GradoopId edgeId(Object importId) {
+    return create(EDGE_HASH, importId);
+  }
+
+  /**
+   * Returns the id of an element of the given namespace.
+   *
+   * @param namespace {@link #VERTEX_NAMESPACE} or {@link #EDGE_NAMESPACE}
+   * @param importId import element identifier
+   * @return gradoop id
+   * @throws IllegalArgumentException if the namespace is unknown
+   */
+  public static GradoopId create(int namespace, Object importId) {
+    return create(hashFunction(namespace), importId);
+  }
+
+  /**
+   * Checks that the given namespace is {@link #VERTEX_NAMESPACE} or
+   * {@link #EDGE_NAMESPACE}.
+   *
+   * @param namespace element namespace
+   * @return the given namespace
+   * @throws IllegalArgumentException if the namespace is unknown
+   */
+  public static int checkNamespace(int namespace) {
+    hashFunction(namespace);
+    return namespace;
+  }
+
+  /**
+   * Returns the hash function of the given namespace.
+   *
+   * @param namespace element namespace
+   * @return namespace specific hash function
+   * @throws IllegalArgumentException if the namespace is unknown
+   */
+  private static HashFunction hashFunction(int namespace) {
+    switch (namespace) {
+    case VERTEX_NAMESPACE:
+      return VERTEX_HASH;
+    case EDGE_NAMESPACE:
+      return EDGE_HASH;
+    default:
+      throw new IllegalArgumentException("Unknown name-based id namespace: " + namespace);
+    }
+  }
+
+  /**
+   * Hashes the serialized import identifier into a new id.
+   *
+   * @param hashFunction namespace specific hash function
+   * @param importId import element identifier
+   * @return gradoop id
+   */
+  private static GradoopId create(HashFunction hashFunction, Object importId) {
+    byte[] hash = hashFunction
+      .hashBytes(PropertyValue.create(importId).getRawBytes())
+      .asBytes();
+    return GradoopId.fromByteArray(Arrays.copyOf(hash, ID_LENGTH));
+  }
+}
@@ -15,99 +15,55 @@
  */
 package org.gradoop.flink.io.impl.json.functions;
 
-import org.codehaus.jettison.json.JSONArray;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
 import org.gradoop.common.model.api.entities.EPGMGraphElement;
-import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.flink.io.impl.json.JSONConstants;
-import org.gradoop.common.model.api.entities.EPGMAttributed;
-import org.gradoop.common.model.api.entities.EPGMLabeled;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
 
 /**
  * Contains methods used by all entity writers (e.g. write meta, data).
+ * <p>
+ * Documents are written by a reused streaming {@link JSONWriter}, i.e., no intermediate JSON
+ * object is created.
  */
 public class EntityToJSON {
 
   /**
-   * Writes all key-value properties to a json object and returns it.
-   *
-   * @param entity entity with key-value properties
-   * @return json object containing the properties
-   * @throws JSONException
+   * Reused writer.
    */
-  protected JSONObject writeProperties(EPGMAttributed entity) throws
-    JSONException {
-    JSONObject data = new JSONObject();
-    if (entity.getPropertyCount() > 0) {
-      for (String propertyKey : entity.getPropertyKeys()) {
-        data.put(
-          propertyKey, entity.getPropertyValue(propertyKey).getObject());
-      }
-    }
-    return data;
-  }
+  private final JSONWriter writer = new JSONWriter();
 
   /**
-   * Writes all meta data regarding a labeled graph element to a json
-   * object and returns it.
+   * Starts a new document and writes the entity identifier.
    *
-   * @param entity labeled graph element (e.g., vertex and edge)
-   * @param <T>    input element type
-   * @return json object containing meta information
-   * @throws JSONException
+   * @param entity entity
+   * @return writer
    */
-  protected <T extends EPGMLabeled & EPGMGraphElement> JSONObject
-  writeGraphElementMeta(
-    T entity) throws JSONException {
-    JSONObject meta = writeMeta(entity);
-    if (entity.getGraphCount() > 0) {
-      meta.put(JSONConstants.GRAPHS, writeJsonArray(entity.getGraphIds()));
-    }
-    return meta;
+  protected JSONWriter writeId(Element entity) {
+    return writer.reset()
+      .beginObject()
+      .name(JSONConstants.IDENTIFIER).value(entity.getId());
   }
 
   /**
-   * Writes all meta data regarding a logical graph to a json object and
-   * returns it.
+   * Writes the data document containing all key-value properties and the meta document
+   * containing the label and the graph identifiers of graph elements. Finishes the document.
    *
-   * @param entity logical graph data
-   * @param <T>    graph data type
-   * @return json object with graph meta data
-   * @throws JSONException
+   * @param entity entity
+   * @return JSON string representation
    */
-  protected <T extends GraphHead> JSONObject
-  writeGraphMeta(T entity) throws JSONException {
-    return writeMeta(entity);
-  }
+  protected String writeDataAndMeta(Element entity) {
+    writer
+      .name(JSONConstants.DATA).value(entity.getProperties())
+      .name(JSONConstants.META).beginObject()
+      .name(JSONConstants.LABEL).value(entity.getLabel());
 
-  /**
-   * Writes meta data (e.g., label) to a json object and returns it.
-   *
-   * @param entity labeled entity
-   * @return json object with meta data containing the label
-   * @throws JSONException
-   */
-  private JSONObject writeMeta(EPGMLabeled entity) throws JSONException {
-    JSONObject meta = new JSONObject();
-    meta.put(JSONConstants.LABEL, entity.getLabel());
-    return meta;
-  }
-
-  /**
-   * Creates a json array from a given set of identifiers.
-   *
-   * @param values identifier set
-   * @return json array containing the identifiers
-   */
-  private JSONArray writeJsonArray(final GradoopIdSet values) {
-    JSONArray jsonArray = new JSONArray();
-    for (GradoopId val : values) {
-      jsonArray.put(val);
+    if (entity instanceof EPGMGraphElement) {
+      EPGMGraphElement graphElement = (EPGMGraphElement) entity;
+      if (graphElement.getGraphCount() > 0) {
+        writer.name(JSONConstants.GRAPHS).value(graphElement.getGraphIds());
+      }
     }
-    return jsonArray;
+
+    return writer.endObject().endObject().toString();
   }
 }
-
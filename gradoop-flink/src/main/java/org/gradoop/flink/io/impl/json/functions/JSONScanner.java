@@ -0,0 +1,467 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming tokenizer for single line JSON documents. Values are decoded directly from the input
+ * string without building an intermediate object tree. A scanner instance is meant to be reused
+ * for all documents read by a function.
+ * <p>
+ * Numbers are decoded like the former JSON reader did: integral values are read as {@code int}
+ * if possible and as {@code long} otherwise, all other numbers are read as {@code double}.
+ * Arrays and objects in the data document are read as list and map properties.
+ * <p>
+ * The scanner is lenient regarding separators, i.e., it does not verify that elements of arrays
+ * and objects are separated by commas.
+ */
+public class JSONScanner implements Serializable {
+
+  /**
+   * Current JSON document.
+   */
+  private String json;
+
+  /**
+   * Current position in the document.
+   */
+  private int position;
+
+  /**
+   * Buffer holding the last decoded field name.
+   */
+  private final StringBuilder name = new StringBuilder();
+
+  /**
+   * Buffer used to decode escaped strings.
+   */
+  private final StringBuilder buffer = new StringBuilder();
+
+  /**
+   * Resets the scanner to the beginning of a new document.
+   *
+   * @param json JSON document
+   */
+  public void reset(String json) {
+    this.json = json;
+    this.position = 0;
+  }
+
+  /**
+   * Consumes the begin of an object.
+   */
+  public void beginObject() {
+    expect('{');
+  }
+
+  /**
+   * Reads the next field name of the current object. Returns false and consumes the end of the
+   * object if there are no more fields.
+   *
+   * @return true, if a field name was read
+   */
+  public boolean nextName() {
+    if (!nextElement('}')) {
+      return false;
+    }
+    name.setLength(0);
+    readString(name);
+    expect(':');
+    return true;
+  }
+
+  /**
+   * Checks if the last read field name equals the given one.
+   *
+   * @param expected expected field name
+   * @return true, if the names are equal
+   */
+  public boolean isName(String expected) {
+    if (name.length() != expected.length()) {
+      return false;
+    }
+    for (int i = 0; i < expected.length(); i++) {
+      if (name.charAt(i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the last read field name.
+   *
+   * @return field name
+   */
+  public String getName() {
+    return name.toString();
+  }
+
+  /**
+   * Reads a string value.
+   *
+   * @return string value
+   */
+  public String readString() {
+    skipWhitespace();
+    if (peek() == 'n') {
+      expectLiteral("null");
+      return null;
+    }
+    buffer.setLength(0);
+    readString(buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * Reads a quoted identifier.
+   *
+   * @return identifier
+   */
+  public GradoopId readId() {
+    skipWhitespace();
+    expect('"');
+    int start = position;
+    int end = json.indexOf('"', start);
+    if (end - start != 2 * GradoopId.ID_SIZE) {
+      throw new IllegalArgumentException("invalid hexadecimal representation of a GradoopId: [" +
+        (end < 0 ? json.substring(start) : json.substring(start, end)) + "]");
+    }
+    byte[] bytes = new byte[GradoopId.ID_SIZE];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(json.charAt(start + 2 * i), 16);
+      int low = Character.digit(json.charAt(start + 2 * i + 1), 16);
+      if (high < 0 || low < 0) {
+        throw new IllegalArgumentException("invalid hexadecimal representation of a GradoopId: [" +
+          json.substring(start, end) + "]");
+      }
+      bytes[i] = (byte) (high << 4 | low);
+    }
+    position = end + 1;
+    return GradoopId.fromByteArray(bytes);
+  }
+
+  /**
+   * Reads an array of identifiers into the given set.
+   *
+   * @param ids set to add the identifiers to
+   */
+  public void readIds(GradoopIdSet ids) {
+    expect('[');
+    while (nextElement(']')) {
+      ids.add(readId());
+    }
+  }
+
+  /**
+   * Reads an object of typed properties into the given properties.
+   *
+   * @param properties properties to add the values to
+   */
+  public void readProperties(Properties properties) {
+    beginObject();
+    while (nextName()) {
+      properties.set(getName(), readPropertyValue());
+    }
+  }
+
+  /**
+   * Reads a typed value.
+   *
+   * @return property value
+   */
+  public PropertyValue readPropertyValue() {
+    skipWhitespace();
+    char c = peek();
+    switch (c) {
+    case '"':
+      buffer.setLength(0);
+      readString(buffer);
+      return PropertyValue.create(buffer.toString());
+    case '{':
+      return PropertyValue.create(readMap());
+    case '[':
+      return PropertyValue.create(readList());
+    case 't':
+      expectLiteral("true");
+      return PropertyValue.create(true);
+    case 'f':
+      expectLiteral("false");
+      return PropertyValue.create(false);
+    case 'n':
+      expectLiteral("null");
+      return PropertyValue.NULL_VALUE;
+    default:
+      return readNumber();
+    }
+  }
+
+  /**
+   * Skips the next value.
+   */
+  public void skipValue() {
+    skipWhitespace();
+    switch (peek()) {
+    case '"':
+      buffer.setLength(0);
+      readString(buffer);
+      break;
+    case '{':
+      beginObject();
+      while (nextName()) {
+        skipValue();
+      }
+      break;
+    case '[':
+      expect('[');
+      while (nextElement(']')) {
+        skipValue();
+      }
+      break;
+    default:
+      while (position < json.length() && !isDelimiter(json.charAt(position))) {
+        position++;
+      }
+    }
+  }
+
+  /**
+   * Reads an array of typed values.
+   *
+   * @return list of property values
+   */
+  private List<PropertyValue> readList() {
+    List<PropertyValue> list = new ArrayList<>();
+    expect('[');
+    while (nextElement(']')) {
+      list.add(readPropertyValue());
+    }
+    return list;
+  }
+
+  /**
+   * Reads an object of typed values.
+   *
+   * @return map of property values
+   */
+  private Map<PropertyValue, PropertyValue> readMap() {
+    Map<PropertyValue, PropertyValue> map = new HashMap<>();
+    beginObject();
+    while (nextElement('}')) {
+      buffer.setLength(0);
+      readString(buffer);
+      PropertyValue key = PropertyValue.create(buffer.toString());
+      expect(':');
+      map.put(key, readPropertyValue());
+    }
+    return map;
+  }
+
+  /**
+   * Reads a number.
+   *
+   * @return int, long or double property value
+   */
+  private PropertyValue readNumber() {
+    int start = position;
+    boolean integral = true;
+    while (position < json.length() && !isDelimiter(json.charAt(position))) {
+      char c = json.charAt(position);
+      if (c == '.' || c == 'e' || c == 'E') {
+        integral = false;
+      }
+      position++;
+    }
+    if (start == position) {
+      throw error("value");
+    }
+    String number = json.substring(start, position);
+    try {
+      if (integral) {
+        long value = Long.parseLong(number);
+        return value == (int) value ? PropertyValue.create((int) value) :
+          PropertyValue.create(value);
+      }
+    } catch (NumberFormatException e) {
+      // fall back to double for integral values out of range
+    }
+    try {
+      return PropertyValue.create(Double.parseDouble(number));
+    } catch (NumberFormatException e) {
+      throw error("number");
+    }
+  }
+
+  /**
+   * Decodes a quoted string into the given builder.
+   *
+   * @param target builder to append the decoded string to
+   */
+  private void readString(StringBuilder target) {
+    skipWhitespace();
+    expect('"');
+    int start = position;
+    while (true) {
+      if (position >= json.length()) {
+        throw error("'\"'");
+      }
+      char c = json.charAt(position);
+      if (c == '"') {
+        target.append(json, start, position);
+        position++;
+        return;
+      }
+      if (c == '\\') {
+        target.append(json, start, position);
+        position++;
+        target.append(readEscaped());
+        start = position;
+      } else {
+        position++;
+      }
+    }
+  }
+
+  /**
+   * Decodes an escaped character, the backslash is already consumed.
+   *
+   * @return decoded character
+   */
+  private char readEscaped() {
+    if (position >= json.length()) {
+      throw error("escape sequence");
+    }
+    char c = json.charAt(position++);
+    switch (c) {
+    case 'b':
+      return '\b';
+    case 'f':
+      return '\f';
+    case 'n':
+      return '\n';
+    case 'r':
+      return '\r';
+    case 't':
+      return '\t';
+    case 'u':
+      if (position + 4 > json.length()) {
+        throw error("unicode escape sequence");
+      }
+      char decoded = (char) Integer.parseInt(json.substring(position, position + 4), 16);
+      position += 4;
+      return decoded;
+    default:
+      return c;
+    }
+  }
+
+  /**
+   * Moves to the next element of an array or object. Consumes the separating comma or the
+   * closing character.
+   *
+   * @param end closing character
+   * @return true, if there is a next element
+   */
+  private boolean nextElement(char end) {
+    skipWhitespace();
+    char c = peek();
+    if (c == end) {
+      position++;
+      return false;
+    }
+    if (c == ',') {
+      position++;
+    }
+    return true;
+  }
+
+  /**
+   * Consumes the given character after optional whitespace.
+   *
+   * @param expected expected character
+   */
+  private void expect(char expected) {
+    skipWhitespace();
+    if (position >= json.length() || json.charAt(position) != expected) {
+      throw error("'" + expected + "'");
+    }
+    position++;
+  }
+
+  /**
+   * Consumes the given literal.
+   *
+   * @param literal expected literal
+   */
+  private void expectLiteral(String literal) {
+    if (!json.startsWith(literal, position)) {
+      throw error(literal);
+    }
+    position += literal.length();
+  }
+
+  /**
+   * Returns the current character.
+   *
+   * @return current character
+   */
+  private char peek() {
+    if (position >= json.length()) {
+      throw error("value");
+    }
+    return json.charAt(position);
+  }
+
+  /**
+   * Skips whitespace characters.
+   */
+  private void skipWhitespace() {
+    while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+      position++;
+    }
+  }
+
+  /**
+   * Checks if the character terminates a literal.
+   *
+   * @param c character
+   * @return true, if the character is a delimiter
+   */
+  private boolean isDelimiter(char c) {
+    return c == ',' || c == '}' || c == ']' || Character.isWhitespace(c);
+  }
+
+  /**
+   * Creates an exception describing a syntax error at the current position.
+   *
+   * @param expected description of the expected input
+   * @return exception
+   */
+  private IllegalArgumentException error(String expected) {
+    return new IllegalArgumentException(
+      "Malformed JSON, expected " + expected + " at position " + position + ": " + json);
+  }
+}
@@ -16,14 +16,13 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.common.model.impl.pojo.Edge;
-import org.gradoop.flink.io.impl.json.JSONConstants;
 import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.io.impl.json.JSONConstants;
 
 /**
  * Reads edge data from a json document. The document contains at least
@@ -41,12 +40,13 @@ import org.gradoop.common.model.impl.properties.Properties;
  * "meta":{"label":"worksFor","graphs":[1,2,3,4]}
  * }
  */
-public class JSONToEdge extends JSONToEntity
+public class JSONToEdge extends JSONToEntity<Edge>
   implements MapFunction<String, Edge> {
+
   /**
-   * Edge data factory.
+   * Reduce object instantiations.
    */
-  private final EPGMEdgeFactory<Edge> edgeFactory;
+  private final Edge reuse;
 
   /**
    * Creates map function.
@@ -54,7 +54,8 @@ public class JSONToEdge extends JSONToEntity
    * @param epgmEdgeFactory edge data factory
    */
   public JSONToEdge(EPGMEdgeFactory<Edge> epgmEdgeFactory) {
-    this.edgeFactory = epgmEdgeFactory;
+    this.reuse = epgmEdgeFactory.initEdge(GradoopId.NULL_VALUE, GradoopConstants.DEFAULT_EDGE_LABEL,
+      GradoopId.NULL_VALUE, GradoopId.NULL_VALUE, Properties.create(), new GradoopIdSet());
   }
 
   /**
@@ -66,38 +67,33 @@ public class JSONToEdge extends JSONToEntity
    */
   @Override
   public Edge map(String s) throws Exception {
-    JSONObject jsonEdge = new JSONObject(s);
-    GradoopId edgeID = getID(jsonEdge);
-    String edgeLabel = getLabel(jsonEdge);
-    GradoopId sourceID = getSourceId(jsonEdge);
-    GradoopId targetID = getTargetId(jsonEdge);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonEdge));
-    GradoopIdSet graphs = getGraphs(jsonEdge);
+    reuse.setSourceId(null);
+    reuse.setTargetId(null);
+    reuse.resetGraphIds();
+
+    read(s, reuse);
 
-    return edgeFactory.initEdge(edgeID, edgeLabel, sourceID, targetID,
-      properties, graphs);
+    if (reuse.getSourceId() == null || reuse.getTargetId() == null) {
+      throw new IllegalArgumentException("Missing source or target identifier: " + s);
+    }
+    return reuse;
   }
 
-  /**
-   * Reads the source vertex identifier from the json object.
-   *
-   * @param jsonEdge json string representation
-   * @return source vertex identifier
-   * @throws JSONException
-   */
-  private GradoopId getSourceId(JSONObject jsonEdge) throws JSONException {
-    return GradoopId.fromString(jsonEdge.getString(JSONConstants.EDGE_SOURCE));
+  @Override
+  protected boolean readField(JSONScanner scanner, Edge edge) {
+    if (scanner.isName(JSONConstants.EDGE_SOURCE)) {
+      edge.setSourceId(scanner.readId());
+      return true;
+    }
+    if (scanner.isName(JSONConstants.EDGE_TARGET)) {
+      edge.setTargetId(scanner.readId());
+      return true;
+    }
+    return false;
   }
 
-  /**
-   * Reads the target vertex identifier from the json object.
-   *
-   * @param jsonEdge json string representation
-   * @return target vertex identifier
-   * @throws JSONException
-   */
-  private GradoopId getTargetId(JSONObject jsonEdge) throws JSONException {
-    return GradoopId.fromString(jsonEdge.getString(JSONConstants.EDGE_TARGET));
+  @Override
+  protected boolean readMetaField(JSONScanner scanner, Edge edge) {
+    return readGraphs(scanner, edge);
   }
 }
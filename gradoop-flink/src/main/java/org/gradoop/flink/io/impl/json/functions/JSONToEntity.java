@@ -15,101 +15,113 @@
  */
 package org.gradoop.flink.io.impl.json.functions;
 
-import com.google.common.collect.Maps;
-import org.codehaus.jettison.json.JSONArray;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.flink.io.impl.json.JSONConstants;
-import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.id.GradoopIdSet;
-
-import java.util.Iterator;
-import java.util.Map;
 
 /**
  * Contains methods used by all entity readers (e.g. read label, properties).
+ * <p>
+ * Documents are decoded by a streaming {@link JSONScanner} directly into a reused entity, i.e.,
+ * no intermediate JSON object or map is created.
+ *
+ * @param <EL> entity type
  */
-public class JSONToEntity {
+public abstract class JSONToEntity<EL extends Element> {
+
+  /**
+   * Reused tokenizer.
+   */
+  private final JSONScanner scanner = new JSONScanner();
 
   /**
-   * Reads the entity identifier from the json object.
+   * Decodes a JSON document into the given entity. Fields which are not part of the document
+   * are reset.
    *
-   * @param object json object
-   * @return entity identifier
-   * @throws JSONException
+   * @param json JSON document
+   * @param reuse entity to decode the document into
+   * @return decoded entity
    */
-  protected GradoopId getID(JSONObject object) throws JSONException {
-    return GradoopId.fromString(object.getString(JSONConstants.IDENTIFIER));
+  protected EL read(String json, EL reuse) {
+    reuse.setId(null);
+    reuse.setLabel(null);
+    if (reuse.getProperties() == null) {
+      reuse.setProperties(Properties.create());
+    } else {
+      reuse.getProperties().clear();
+    }
+
+    scanner.reset(json);
+    scanner.beginObject();
+    while (scanner.nextName()) {
+      if (scanner.isName(JSONConstants.IDENTIFIER)) {
+        reuse.setId(scanner.readId());
+      } else if (scanner.isName(JSONConstants.DATA)) {
+        scanner.readProperties(reuse.getProperties());
+      } else if (scanner.isName(JSONConstants.META)) {
+        readMeta(reuse);
+      } else if (!readField(scanner, reuse)) {
+        scanner.skipValue();
+      }
+    }
+
+    if (reuse.getId() == null || reuse.getLabel() == null) {
+      throw new IllegalArgumentException("Missing identifier or label: " + json);
+    }
+    return reuse;
   }
 
   /**
-   * Reads the entity label from the json object.
+   * Reads an entity specific top level field, e.g., the source id of an edge.
    *
-   * @param object json object
-   * @return entity label
-   * @throws JSONException
+   * @param scanner scanner positioned at the field value
+   * @param entity entity to set the value at
+   * @return true, if the field value was consumed
    */
-  protected String getLabel(JSONObject object) throws JSONException {
-    return object
-      .getJSONObject(JSONConstants.META)
-      .getString(JSONConstants.LABEL);
+  protected boolean readField(JSONScanner scanner, EL entity) {
+    return false;
   }
 
   /**
-   * Reads the key-value properties from the json object.
+   * Reads the graph identifiers of a graph element if the current meta field contains them.
    *
-   * @param object json object
-   * @return key-value properties
-   * @throws JSONException
+   * @param scanner scanner positioned at the meta field value
+   * @param element graph element
+   * @return true, if the field value was consumed
    */
-  protected Map<String, Object> getProperties(JSONObject object) throws
-    JSONException {
-    Map<String, Object> props =
-      Maps.newHashMapWithExpectedSize(object.length() * 2);
-    object = object.getJSONObject(JSONConstants.DATA);
-    Iterator<?> keys = object.keys();
-    while (keys.hasNext()) {
-      String key = keys.next().toString();
-      Object o = object.get(key);
-      props.put(key, o);
+  protected boolean readGraphs(JSONScanner scanner, GraphElement element) {
+    if (scanner.isName(JSONConstants.GRAPHS)) {
+      scanner.readIds(element.getGraphIds());
+      return true;
     }
-    return props;
+    return false;
   }
 
   /**
-   * Reads a set of graph identifiers from the json object.
+   * Reads an entity specific meta field, e.g., the graph identifiers of a vertex.
    *
-   * @param object json object
-   * @return graph identifiers
-   * @throws JSONException
+   * @param scanner scanner positioned at the meta field value
+   * @param entity entity to set the value at
+   * @return true, if the field value was consumed
    */
-  protected GradoopIdSet getGraphs(JSONObject object) throws JSONException {
-    GradoopIdSet result;
-    if (!object.getJSONObject(JSONConstants.META).has(JSONConstants.GRAPHS)) {
-      result = new GradoopIdSet();
-    } else {
-      result = getArrayValues(object
-          .getJSONObject(JSONConstants.META)
-          .getJSONArray(JSONConstants.GRAPHS));
-    }
-    return result;
+  protected boolean readMetaField(JSONScanner scanner, EL entity) {
+    return false;
   }
 
   /**
-   * Reads a set of Long values from a given json array.
+   * Reads the meta document containing the label and entity specific fields.
    *
-   * @param array json array
-   * @return long values
-   * @throws JSONException
+   * @param entity entity to set the values at
    */
-  protected GradoopIdSet getArrayValues(JSONArray array) throws
-    JSONException {
-
-    GradoopIdSet result = new GradoopIdSet();
-
-    for (int i = 0; i < array.length(); i++) {
-      result.add(GradoopId.fromString(array.getString(i)));
+  private void readMeta(EL entity) {
+    scanner.beginObject();
+    while (scanner.nextName()) {
+      if (scanner.isName(JSONConstants.LABEL)) {
+        entity.setLabel(scanner.readString());
+      } else if (!readMetaField(scanner, entity)) {
+        scanner.skipValue();
+      }
     }
-    return result;
   }
 }
@@ -16,11 +16,11 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.GradoopConstants;
 
 /**
  * Reads graph data from a json document. The document contains at least
@@ -37,13 +37,13 @@ import org.gradoop.common.model.impl.properties.Properties;
  * "meta":{"label":"Community","vertices":[0,1,2],"edges":[4,5,6]}
  * }
  */
-public class JSONToGraphHead extends JSONToEntity
+public class JSONToGraphHead extends JSONToEntity<GraphHead>
   implements MapFunction<String, GraphHead> {
 
   /**
-   * Creates graph data objects
+   * Reduce object instantiations.
    */
-  private final EPGMGraphHeadFactory<GraphHead> graphHeadFactory;
+  private final GraphHead reuse;
 
   /**
    * Creates map function
@@ -51,7 +51,8 @@ public class JSONToGraphHead extends JSONToEntity
    * @param epgmGraphHeadFactory graph data factory
    */
   public JSONToGraphHead(EPGMGraphHeadFactory<GraphHead> epgmGraphHeadFactory) {
-    this.graphHeadFactory = epgmGraphHeadFactory;
+    this.reuse = epgmGraphHeadFactory.initGraphHead(
+      GradoopId.NULL_VALUE, GradoopConstants.DEFAULT_GRAPH_LABEL, Properties.create());
   }
 
   /**
@@ -63,12 +64,6 @@ public class JSONToGraphHead extends JSONToEntity
    */
   @Override
   public GraphHead map(String s) throws Exception {
-    JSONObject jsonGraph = new JSONObject(s);
-    GradoopId graphID = getID(jsonGraph);
-    String label = getLabel(jsonGraph);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonGraph));
-
-    return graphHeadFactory.initGraphHead(graphID, label, properties);
+    return read(s, reuse);
   }
 }
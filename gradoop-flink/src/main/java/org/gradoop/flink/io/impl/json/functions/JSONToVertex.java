@@ -16,12 +16,12 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.api.entities.EPGMVertexFactory;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.GradoopConstants;
 
 /**
  * Reads vertex data from a json document. The document contains at least
@@ -39,13 +39,13 @@ import org.gradoop.common.model.impl.properties.Properties;
  * "graphs":[0,1,2,3]}
  * }
  */
-public class JSONToVertex extends JSONToEntity
+public class JSONToVertex extends JSONToEntity<Vertex>
   implements MapFunction<String, Vertex> {
 
   /**
-   * Creates vertex data objects.
+   * Reduce object instantiations.
    */
-  private final EPGMVertexFactory<Vertex> vertexFactory;
+  private final Vertex reuse;
 
   /**
    * Creates map function
@@ -53,7 +53,8 @@ public class JSONToVertex extends JSONToEntity
    * @param epgmVertexFactory vertex data factory
    */
   public JSONToVertex(EPGMVertexFactory<Vertex> epgmVertexFactory) {
-    this.vertexFactory = epgmVertexFactory;
+    this.reuse = epgmVertexFactory.initVertex(GradoopId.NULL_VALUE,
+      GradoopConstants.DEFAULT_VERTEX_LABEL, Properties.create(), new GradoopIdSet());
   }
 
   /**
@@ -65,13 +66,12 @@ public class JSONToVertex extends JSONToEntity
    */
   @Override
   public Vertex map(String s) throws Exception {
-    JSONObject jsonVertex = new JSONObject(s);
-    GradoopId vertexID = getID(jsonVertex);
-    String label = getLabel(jsonVertex);
-    Properties properties = Properties.createFromMap(
-      getProperties(jsonVertex));
-    GradoopIdSet graphs = getGraphs(jsonVertex);
+    reuse.resetGraphIds();
+    return read(s, reuse);
+  }
 
-    return vertexFactory.initVertex(vertexID, label, properties, graphs);
+  @Override
+  protected boolean readMetaField(JSONScanner scanner, Vertex vertex) {
+    return readGraphs(scanner, vertex);
   }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.functions;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Streaming writer for single line JSON documents. The document is appended to a reused buffer
+ * without building an intermediate object tree.
+ * <p>
+ * Numeric and boolean properties are written as JSON literals, lists and maps as JSON arrays and
+ * objects, all other types as strings.
+ */
+public class JSONWriter implements Serializable {
+
+  /**
+   * Hexadecimal digits used to write identifiers.
+   */
+  private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+  /**
+   * Buffer holding the current document.
+   */
+  private final StringBuilder json = new StringBuilder();
+
+  /**
+   * True, if the next field or array element has to be separated by a comma.
+   */
+  private boolean separate;
+
+  /**
+   * Clears the buffer to start a new document.
+   *
+   * @return this writer
+   */
+  public JSONWriter reset() {
+    json.setLength(0);
+    separate = false;
+    return this;
+  }
+
+  /**
+   * Writes the begin of an object.
+   *
+   * @return this writer
+   */
+  public JSONWriter beginObject() {
+    separate();
+    json.append('{');
+    separate = false;
+    return this;
+  }
+
+  /**
+   * Writes the end of an object.
+   *
+   * @return this writer
+   */
+  public JSONWriter endObject() {
+    json.append('}');
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Writes the begin of an array.
+   *
+   * @return this writer
+   */
+  public JSONWriter beginArray() {
+    separate();
+    json.append('[');
+    separate = false;
+    return this;
+  }
+
+  /**
+   * Writes the end of an array.
+   *
+   * @return this writer
+   */
+  public JSONWriter endArray() {
+    json.append(']');
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Writes a field name. The next written value is the value of the field.
+   *
+   * @param name field name
+   * @return this writer
+   */
+  public JSONWriter name(String name) {
+    separate();
+    appendString(name);
+    json.append(':');
+    separate = false;
+    return this;
+  }
+
+  /**
+   * Writes a string value.
+   *
+   * @param value string
+   * @return this writer
+   */
+  public JSONWriter value(String value) {
+    separate();
+    if (value == null) {
+      json.append("null");
+    } else {
+      appendString(value);
+    }
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Writes an identifier as quoted hexadecimal string.
+   *
+   * @param id identifier
+   * @return this writer
+   */
+  public JSONWriter value(GradoopId id) {
+    separate();
+    json.append('"');
+    for (byte b : id.toByteArray()) {
+      json.append(HEX_CHARS[b >> 4 & 0xF]).append(HEX_CHARS[b & 0xF]);
+    }
+    json.append('"');
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Writes an array of identifiers.
+   *
+   * @param ids identifiers
+   * @return this writer
+   */
+  public JSONWriter value(Iterable<GradoopId> ids) {
+    beginArray();
+    for (GradoopId id : ids) {
+      value(id);
+    }
+    return endArray();
+  }
+
+  /**
+   * Writes properties as object.
+   *
+   * @param properties properties, may be null
+   * @return this writer
+   */
+  public JSONWriter value(Properties properties) {
+    beginObject();
+    if (properties != null) {
+      for (Property property : properties) {
+        name(property.getKey());
+        value(property.getValue());
+      }
+    }
+    return endObject();
+  }
+
+  /**
+   * Writes a typed value.
+   *
+   * @param value property value
+   * @return this writer
+   */
+  public JSONWriter value(PropertyValue value) {
+    if (value.isList()) {
+      beginArray();
+      for (PropertyValue element : value.getList()) {
+        value(element);
+      }
+      return endArray();
+    }
+    if (value.isMap()) {
+      beginObject();
+      for (Map.Entry<PropertyValue, PropertyValue> entry : value.getMap().entrySet()) {
+        name(entry.getKey().toString());
+        value(entry.getValue());
+      }
+      return endObject();
+    }
+
+    separate();
+    if (value.isNull()) {
+      json.append("null");
+    } else if (value.isBoolean()) {
+      json.append(value.getBoolean());
+    } else if (value.isShort()) {
+      json.append(value.getShort());
+    } else if (value.isInt()) {
+      json.append(value.getInt());
+    } else if (value.isLong()) {
+      json.append(value.getLong());
+    } else if (value.isFloat() && Float.isFinite(value.getFloat())) {
+      json.append(value.getFloat());
+    } else if (value.isDouble() && Double.isFinite(value.getDouble())) {
+      json.append(value.getDouble());
+    } else if (value.isBigDecimal()) {
+      json.append(value.getBigDecimal().toString());
+    } else if (value.isGradoopId()) {
+      separate = false;
+      return value(value.getGradoopId());
+    } else {
+      appendString(value.toString());
+    }
+    separate = true;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return json.toString();
+  }
+
+  /**
+   * Writes a comma if required.
+   */
+  private void separate() {
+    if (separate) {
+      json.append(',');
+    }
+  }
+
+  /**
+   * Writes a quoted and escaped string.
+   *
+   * @param value string
+   */
+  private void appendString(String value) {
+    json.append('"');
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\' || c < 0x20) {
+        json.append(value, start, i);
+        start = i + 1;
+        switch (c) {
+        case '"':
+          json.append("\\\"");
+          break;
+        case '\\':
+          json.append("\\\\");
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        default:
+          json.append(String.format("\\u%04x", (int) c));
+        }
+      }
+    }
+    json.append(value, start, value.length()).append('"');
+  }
+}
@@ -16,9 +16,6 @@
 package org.gradoop.flink.io.impl.json.functions;
 
 import org.apache.flink.api.java.io.TextOutputFormat;
-import org.codehaus.jettison.json.JSONException;
-import org.codehaus.jettison.json.JSONObject;
-import org.gradoop.flink.io.impl.json.JSONConstants;
 import org.gradoop.common.model.impl.pojo.Vertex;
 
 /**
@@ -44,14 +41,7 @@ public class VertexToJSON<V extends Vertex>
    */
   @Override
   public String format(V v) {
-    JSONObject json = new JSONObject();
-    try {
-      json.put(JSONConstants.IDENTIFIER, v.getId());
-      json.put(JSONConstants.DATA, writeProperties(v));
-      json.put(JSONConstants.META, writeGraphElementMeta(v));
-    } catch (JSONException e) {
-      e.printStackTrace();
-    }
-    return json.toString();
+    writeId(v);
+    return writeDataAndMeta(v);
   }
 }
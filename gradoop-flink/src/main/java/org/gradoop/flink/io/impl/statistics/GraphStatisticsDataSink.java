@@ -26,15 +26,18 @@ import org.gradoop.flink.model.impl.operators.statistics.DistinctSourceIdsByEdge
 import org.gradoop.flink.model.impl.operators.statistics.DistinctTargetIdsByEdgeLabel;
 import org.gradoop.flink.model.impl.operators.statistics.DistinctVertexProperties;
 import org.gradoop.flink.model.impl.operators.statistics.EdgeLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.EdgePropertyStatisticsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.IncomingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.OutgoingVertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexDegreeDistribution;
 import org.gradoop.flink.model.impl.operators.statistics.VertexLabelDistribution;
+import org.gradoop.flink.model.impl.operators.statistics.VertexPropertyStatisticsByLabel;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctEdgePropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctSourceVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctTargetVertexCountPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.DistinctVertexPropertiesByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.EdgeCountPreparer;
+import org.gradoop.flink.model.impl.operators.statistics.writer.PropertyStatisticsByLabelPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.SourceAndEdgeLabelDistributionPreparer;
 import org.gradoop.flink.model.impl.operators.statistics.writer.StatisticWriter;
 import org.gradoop.flink.model.impl.operators.statistics.writer.TargetAndEdgeLabelDistributionPreparer;
@@ -134,6 +137,16 @@ public class GraphStatisticsDataSink implements DataSink {
         .execute(logicalGraph),
         appendSeparator(this.path) +
         GraphStatisticsReader.OUTGOING_VERTEX_DEGREE_DISTRIBUTION);
+    StatisticWriter.writeCSV(new PropertyStatisticsByLabelPreparer(
+        new EdgePropertyStatisticsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_EDGE_PROPERTY_STATISTICS_BY_LABEL);
+    StatisticWriter.writeCSV(new PropertyStatisticsByLabelPreparer(
+        new VertexPropertyStatisticsByLabel())
+        .execute(logicalGraph),
+        appendSeparator(this.path) +
+        GraphStatisticsReader.FILE_VERTEX_PROPERTY_STATISTICS_BY_LABEL);
   }
 
   @Override
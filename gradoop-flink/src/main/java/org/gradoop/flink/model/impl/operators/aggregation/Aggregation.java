@@ -22,7 +22,6 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
-import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
 import org.gradoop.flink.model.api.operators.UnaryGraphToGraphOperator;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateEdges;
@@ -30,28 +29,37 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.AggregateVer
 import org.gradoop.flink.model.impl.operators.aggregation.functions.CombinePartitionAggregates;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SetAggregateProperty;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Takes a logical graph and a user defined aggregate function as input. The
- * aggregate function is applied on the logical graph and the resulting
- * aggregate is stored as an additional property at the result graph.
+ * Takes a logical graph and user defined aggregate functions as input. The
+ * aggregate functions are applied on the logical graph and the resulting
+ * aggregates are stored as additional properties at the result graph.
+ *
+ * All aggregate functions are computed in a single pass over the vertices and a
+ * single pass over the edges, independent of the number of aggregate functions.
  */
 public class Aggregation implements UnaryGraphToGraphOperator {
 
   /**
-   * User-defined aggregate function which is applied on a single logical graph.
+   * User-defined aggregate functions which are applied on a single logical graph.
    */
-  private final AggregateFunction aggregateFunction;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
    * Creates new aggregation.
    *
-   * @param aggregateFunction  user defined aggregation function which gets
-   *                             called on the input graph
+   * @param aggregateFunctions user defined aggregation functions which get
+   *                           called on the input graph
    */
-  public Aggregation(final AggregateFunction aggregateFunction) {
-    this.aggregateFunction = checkNotNull(aggregateFunction);
+  public Aggregation(final AggregateFunction... aggregateFunctions) {
+    checkNotNull(aggregateFunctions);
+    checkArgument(aggregateFunctions.length > 0, "No aggregate function given");
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      checkNotNull(aggregateFunction);
+    }
+    this.aggregateFunctions = aggregateFunctions;
   }
 
   /**
@@ -63,27 +71,23 @@ public class Aggregation implements UnaryGraphToGraphOperator {
     DataSet<Vertex> vertices = graph.getVertices();
     DataSet<Edge> edges = graph.getEdges();
 
-    DataSet<PropertyValue> aggregate;
-
-    if (this.aggregateFunction instanceof VertexAggregateFunction) {
-      aggregate = aggregateVertices(vertices);
+    DataSet<PropertyValue[]> aggregate = null;
 
-    } else {
-      aggregate = aggregateEdges(edges);
+    if (hasVertexAggregateFunction()) {
+      aggregate = vertices.combineGroup(new AggregateVertices(aggregateFunctions));
     }
 
-    DataSet<PropertyValue> nullValue = graph
-      .getConfig()
-      .getExecutionEnvironment()
-      .fromElements(PropertyValue.NULL_VALUE);
+    if (hasEdgeAggregateFunction()) {
+      DataSet<PropertyValue[]> edgeAggregate =
+        edges.combineGroup(new AggregateEdges(aggregateFunctions));
+      aggregate = aggregate == null ? edgeAggregate : aggregate.union(edgeAggregate);
+    }
 
     aggregate = aggregate
-      .reduceGroup(new CombinePartitionAggregates(aggregateFunction))
-      .union(nullValue)
-      .reduceGroup(new SetNullIfEmpty());
+      .reduceGroup(new CombinePartitionAggregates(aggregateFunctions));
 
     DataSet<GraphHead> graphHead = graph.getGraphHead()
-      .map(new SetAggregateProperty(aggregateFunction))
+      .map(new SetAggregateProperty(aggregateFunctions))
       .withBroadcastSet(aggregate, SetAggregateProperty.VALUE);
 
     return graph.getConfig().getLogicalGraphFactory()
@@ -91,27 +95,31 @@ public class Aggregation implements UnaryGraphToGraphOperator {
   }
 
   /**
-   * Applies an aggregate function to the partitions of a vertex data set.
+   * Checks if any of the aggregate functions is applied on vertices.
    *
-   * @param vertices vertex data set
-   * @return partition aggregate value
+   * @return true, iff there is a vertex aggregate function
    */
-  private DataSet<PropertyValue> aggregateVertices(DataSet<Vertex> vertices) {
-    return vertices
-      .combineGroup(new AggregateVertices(
-        (VertexAggregateFunction) aggregateFunction));
+  private boolean hasVertexAggregateFunction() {
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      if (aggregateFunction instanceof VertexAggregateFunction) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
-   * Applies an aggregate function to the partitions of an edge data set.
+   * Checks if any of the aggregate functions is applied on edges.
    *
-   * @param edges edge data set
-   * @return partition aggregate value
+   * @return true, iff there is an edge aggregate function
    */
-  private DataSet<PropertyValue> aggregateEdges(DataSet<Edge> edges) {
-    return edges
-      .combineGroup(new AggregateEdges(
-        (EdgeAggregateFunction) aggregateFunction));
+  private boolean hasEdgeAggregateFunction() {
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      if (!(aggregateFunction instanceof VertexAggregateFunction)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
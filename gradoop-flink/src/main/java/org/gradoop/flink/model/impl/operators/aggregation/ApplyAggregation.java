@@ -18,13 +18,10 @@ package org.gradoop.flink.model.impl.operators.aggregation;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.gradoop.common.model.impl.id.GradoopId;
-import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
-import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
-import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
 import org.gradoop.flink.model.api.operators.ApplicableUnaryGraphToGraphOperator;
 import org.gradoop.flink.model.impl.functions.epgm.ElementsOfSelectedGraphs;
@@ -36,29 +33,38 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.ApplyAggrega
 import org.gradoop.flink.model.impl.operators.aggregation.functions.CombinePartitionApplyAggregates;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.SetAggregateProperties;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Takes a collection of logical graphs and a user defined aggregate function as
- * input. The aggregate function is applied on each logical graph contained in
- * the collection and the aggregate is stored as an additional property at the
+ * Takes a collection of logical graphs and user defined aggregate functions as
+ * input. The aggregate functions are applied on each logical graph contained in
+ * the collection and the aggregates are stored as additional properties at the
  * graphs.
+ *
+ * All aggregate functions are computed in a single pass over the vertices and a
+ * single pass over the edges, independent of the number of aggregate functions.
  */
 public class ApplyAggregation
   implements ApplicableUnaryGraphToGraphOperator {
 
   /**
-   * User-defined aggregate function which is applied on a graph collection.
+   * User-defined aggregate functions which are applied on a graph collection.
    */
-  private final AggregateFunction aggregateFunction;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
    * Creates a new operator instance.
    *
-   * @param aggregateFunction     function to compute aggregate value
+   * @param aggregateFunctions    functions to compute aggregate values
    */
-  public ApplyAggregation(final AggregateFunction aggregateFunction) {
-    this.aggregateFunction = checkNotNull(aggregateFunction);
+  public ApplyAggregation(final AggregateFunction... aggregateFunctions) {
+    checkNotNull(aggregateFunctions);
+    checkArgument(aggregateFunctions.length > 0, "No aggregate function given");
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      checkNotNull(aggregateFunction);
+    }
+    this.aggregateFunctions = aggregateFunctions;
   }
 
   /**
@@ -67,28 +73,37 @@ public class ApplyAggregation
   @Override
   public GraphCollection executeForGVELayout(GraphCollection collection) {
     DataSet<GraphHead> graphHeads = collection.getGraphHeads();
-    DataSet<Vertex> vertices = collection.getVertices();
-    DataSet<Edge> edges = collection.getEdges();
-
-    DataSet<Tuple2<GradoopId, PropertyValue>> aggregate;
 
     DataSet<GradoopId> graphIds = graphHeads
       .map(new Id<>());
 
-    if (this.aggregateFunction instanceof VertexAggregateFunction) {
-      aggregate = aggregateVertices(vertices, graphIds);
-    } else {
-      aggregate = aggregateEdges(edges, graphIds);
+    DataSet<Tuple2<GradoopId, PropertyValue[]>> aggregate = null;
+
+    if (hasVertexAggregateFunction()) {
+      aggregate = collection.getVertices()
+        .flatMap(new ElementsOfSelectedGraphs<>())
+        .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
+        .groupBy(0)
+        .combineGroup(new ApplyAggregateVertices(aggregateFunctions));
+    }
+
+    if (hasEdgeAggregateFunction()) {
+      DataSet<Tuple2<GradoopId, PropertyValue[]>> edgeAggregate = collection.getEdges()
+        .flatMap(new ElementsOfSelectedGraphs<>())
+        .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
+        .groupBy(0)
+        .combineGroup(new ApplyAggregateEdges(aggregateFunctions));
+      aggregate = aggregate == null ? edgeAggregate : aggregate.union(edgeAggregate);
     }
 
     aggregate = aggregate
       .groupBy(0)
-      .reduceGroup(new CombinePartitionApplyAggregates(aggregateFunction));
+      .reduceGroup(new CombinePartitionApplyAggregates(aggregateFunctions));
 
     graphHeads = graphHeads
       .coGroup(aggregate)
       .where(new Id<>()).equalTo(0)
-      .with(new SetAggregateProperties(aggregateFunction));
+      .with(new SetAggregateProperties(aggregateFunctions));
 
     return collection.getConfig().getGraphCollectionFactory()
       .fromDataSets(graphHeads, collection.getVertices(), collection.getEdges());
@@ -100,43 +115,37 @@ public class ApplyAggregation
   @Override
   public GraphCollection executeForTxLayout(GraphCollection collection) {
     DataSet<GraphTransaction> updatedTransactions = collection.getGraphTransactions()
-      .map(new AggregateTransactions(this.aggregateFunction));
+      .map(new AggregateTransactions(this.aggregateFunctions));
 
     return collection.getConfig().getGraphCollectionFactory().fromTransactions(updatedTransactions);
   }
 
   /**
-   * Applies an aggregate function to the partitions of a vertex data set.
+   * Checks if any of the aggregate functions is applied on vertices.
    *
-   * @param vertices vertex data set
-   * @param graphIds graph ids to aggregate
-   * @return partition aggregate value
+   * @return true, iff there is a vertex aggregate function
    */
-  private DataSet<Tuple2<GradoopId, PropertyValue>> aggregateVertices(
-    DataSet<Vertex> vertices, DataSet<GradoopId> graphIds) {
-    return vertices
-      .flatMap(new ElementsOfSelectedGraphs<>())
-      .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
-      .groupBy(0)
-      .combineGroup(new ApplyAggregateVertices(
-        (VertexAggregateFunction) aggregateFunction));
+  private boolean hasVertexAggregateFunction() {
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      if (aggregateFunction instanceof VertexAggregateFunction) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
-   * Applies an aggregate function to the partitions of an edge data set.
+   * Checks if any of the aggregate functions is applied on edges.
    *
-   * @param edges edge data set
-   * @param graphIds graph ids to aggregate
-   * @return partition aggregate value
+   * @return true, iff there is an edge aggregate function
    */
-  private DataSet<Tuple2<GradoopId, PropertyValue>> aggregateEdges(
-    DataSet<Edge> edges, DataSet<GradoopId> graphIds) {
-    return edges
-      .flatMap(new ElementsOfSelectedGraphs<>())
-      .withBroadcastSet(graphIds, ElementsOfSelectedGraphs.GRAPH_IDS)
-      .groupBy(0)
-      .combineGroup(new ApplyAggregateEdges(
-        (EdgeAggregateFunction) aggregateFunction));
+  private boolean hasEdgeAggregateFunction() {
+    for (AggregateFunction aggregateFunction : aggregateFunctions) {
+      if (!(aggregateFunction instanceof VertexAggregateFunction)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
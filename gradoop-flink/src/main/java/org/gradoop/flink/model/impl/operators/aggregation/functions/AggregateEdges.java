@@ -13,55 +13,69 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-/**
- * edge,.. => aggregateValue
- */
 package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
+
+import java.util.Arrays;
 
 /**
- * Aggregate function.
+ * edge,.. => partitionAggregateValues
+ *
+ * Computes the edge aggregate functions in a single pass. The resulting array contains a
+ * value for each aggregate function, values of the other functions are {@code null}.
  */
 public class AggregateEdges
-  implements GroupCombineFunction<Edge, PropertyValue> {
+  implements GroupCombineFunction<Edge, PropertyValue[]> {
 
   /**
-   * Aggregate function.
+   * All aggregate functions
    */
-  private final EdgeAggregateFunction aggFunc;
+  private final AggregateFunction[] aggregateFunctions;
+  /**
+   * Edge aggregate function per position or {@code null}
+   */
+  private final EdgeAggregateFunction[] edgeAggregateFunctions;
 
   /**
    * Constructor.
    *
-   * @param aggFunc aggregate function
+   * @param aggregateFunctions all aggregate functions
    */
-  public AggregateEdges(EdgeAggregateFunction aggFunc) {
-    this.aggFunc = aggFunc;
+  public AggregateEdges(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
+    this.edgeAggregateFunctions = new EdgeAggregateFunction[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (!(aggregateFunctions[i] instanceof VertexAggregateFunction)) {
+        edgeAggregateFunctions[i] = (EdgeAggregateFunction) aggregateFunctions[i];
+      }
+    }
   }
 
   @Override
   public void combine(
-    Iterable<Edge> edges, Collector<PropertyValue> out) throws Exception {
-    PropertyValue aggregate = null;
+    Iterable<Edge> edges, Collector<PropertyValue[]> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
 
     for (Edge edge : edges) {
-      PropertyValue increment = aggFunc.getEdgeIncrement(edge);
-      if (increment != null) {
-        if (aggregate == null) {
-          aggregate = increment;
-        } else {
-          aggregate = aggFunc.aggregate(aggregate, increment);
+      for (int i = 0; i < edgeAggregateFunctions.length; i++) {
+        if (edgeAggregateFunctions[i] != null) {
+          PropertyValue increment = edgeAggregateFunctions[i].getEdgeIncrement(edge);
+          if (increment != null) {
+            accumulators[i].add(increment);
+          }
         }
       }
     }
 
-    if (aggregate != null) {
-      out.collect(aggregate);
-    }
+    out.collect(AggregateAccumulators.getValues(accumulators));
   }
 }
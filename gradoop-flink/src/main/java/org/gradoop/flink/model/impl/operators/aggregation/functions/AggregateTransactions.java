@@ -16,150 +16,103 @@
 package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.apache.flink.api.common.functions.MapFunction;
-import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
-import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
 import org.gradoop.flink.model.impl.layouts.transactional.tuples.GraphTransaction;
-
-import java.util.Iterator;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
 
 /**
- * Applies an {@link AggregateFunction} to the vertex or edge set of a graph transaction.
+ * Applies {@link AggregateFunction}s to the vertex and edge sets of a graph transaction. All
+ * aggregate values are computed in a single pass over the vertices and edges.
  */
 public class AggregateTransactions implements MapFunction<GraphTransaction, GraphTransaction> {
 
   /**
-   * True, if the given aggregate function is a {@link VertexAggregateFunction}.
-   * False, if the given aggregate function is a {@link EdgeAggregateFunction}.
-   */
-  private final boolean isVertexAggregateFunction;
-  /**
-   * True, iff the given aggregate function has a default value.
+   * Aggregate functions.
    */
-  private final boolean hasAggregateDefaultValue;
+  private final AggregateFunction[] aggregateFunctions;
   /**
-   * Property key used to store the final aggregate at the graph head of the graph transaction.
+   * Property keys used to store the final aggregates at the graph head of the graph transaction.
    */
-  private final String aggregatePropertyKey;
+  private final String[] aggregatePropertyKeys;
   /**
-   * Set to an instance of {@link VertexAggregateFunction} if
-   * {@link AggregateTransactions#isVertexAggregateFunction} is {@code true}.
+   * Values used if there is nothing to aggregate.
    */
-  private final VertexAggregateFunction vertexAggregateFunction;
+  private final PropertyValue[] defaultValues;
   /**
-   * Set to an instance of {@link EdgeAggregateFunction} if
-   * {@link AggregateTransactions#isVertexAggregateFunction} is {@code false}.
+   * {@link VertexAggregateFunction} per position or {@code null}.
    */
-  private final EdgeAggregateFunction edgeAggregateFunction;
+  private final VertexAggregateFunction[] vertexAggregateFunctions;
   /**
-   * Set to an instance of {@link AggregateDefaultValue} if
-   * {@link AggregateTransactions#hasAggregateDefaultValue} is {@code true}.
+   * {@link EdgeAggregateFunction} per position or {@code null}.
    */
-  private final AggregateDefaultValue aggregateDefaultValue;
+  private final EdgeAggregateFunction[] edgeAggregateFunctions;
 
   /**
    * Creates a new instance.
    *
-   * @param aggregateFunction vertex or edge aggregate function with possible default value
+   * @param aggregateFunctions vertex or edge aggregate functions with possible default values
    */
-  public AggregateTransactions(AggregateFunction aggregateFunction) {
+  public AggregateTransactions(AggregateFunction... aggregateFunctions) {
     // initialization logic to avoid instanceOf checking during execution
-    aggregatePropertyKey = aggregateFunction.getAggregatePropertyKey();
-
-    if (aggregateFunction instanceof VertexAggregateFunction) {
-      isVertexAggregateFunction = true;
-      vertexAggregateFunction = (VertexAggregateFunction) aggregateFunction;
-      edgeAggregateFunction = null;
-    } else {
-      isVertexAggregateFunction = false;
-      vertexAggregateFunction = null;
-      edgeAggregateFunction = (EdgeAggregateFunction) aggregateFunction;
-    }
-
-    if (aggregateFunction instanceof AggregateDefaultValue) {
-      hasAggregateDefaultValue = true;
-      aggregateDefaultValue = (AggregateDefaultValue) aggregateFunction;
-    } else {
-      hasAggregateDefaultValue = false;
-      aggregateDefaultValue = null;
+    this.aggregateFunctions = aggregateFunctions;
+    this.aggregatePropertyKeys = SetAggregateProperty.getPropertyKeys(aggregateFunctions);
+    this.defaultValues = SetAggregateProperty.getDefaultValues(aggregateFunctions);
+    this.vertexAggregateFunctions = new VertexAggregateFunction[aggregateFunctions.length];
+    this.edgeAggregateFunctions = new EdgeAggregateFunction[aggregateFunctions.length];
+
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (aggregateFunctions[i] instanceof VertexAggregateFunction) {
+        vertexAggregateFunctions[i] = (VertexAggregateFunction) aggregateFunctions[i];
+      } else {
+        edgeAggregateFunctions[i] = (EdgeAggregateFunction) aggregateFunctions[i];
+      }
     }
   }
 
   @Override
   public GraphTransaction map(GraphTransaction graphTransaction) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
 
-    PropertyValue aggregate = isVertexAggregateFunction ?
-      aggregateVertices(graphTransaction) :
-      aggregateEdges(graphTransaction);
+    for (Vertex vertex : graphTransaction.getVertices()) {
+      for (int i = 0; i < vertexAggregateFunctions.length; i++) {
+        if (vertexAggregateFunctions[i] != null) {
+          add(accumulators[i], vertexAggregateFunctions[i].getVertexIncrement(vertex));
+        }
+      }
+    }
 
-    if (aggregate == null) {
-      if (hasAggregateDefaultValue) {
-        aggregate = aggregateDefaultValue.getDefaultValue();
-      } else {
-        aggregate = PropertyValue.NULL_VALUE;
+    for (Edge edge : graphTransaction.getEdges()) {
+      for (int i = 0; i < edgeAggregateFunctions.length; i++) {
+        if (edgeAggregateFunctions[i] != null) {
+          add(accumulators[i], edgeAggregateFunctions[i].getEdgeIncrement(edge));
+        }
       }
     }
 
-    graphTransaction.getGraphHead().setProperty(aggregatePropertyKey, aggregate);
+    for (int i = 0; i < accumulators.length; i++) {
+      PropertyValue aggregate = accumulators[i].getValue();
+      graphTransaction.getGraphHead().setProperty(aggregatePropertyKeys[i], aggregate == null ?
+        defaultValues[i] : SetAggregateProperty.getFinalValue(aggregateFunctions[i], aggregate));
+    }
 
     return graphTransaction;
   }
 
   /**
-   * Applies the aggregate function on the vertices of the given graph transaction.
+   * Adds the increment to the accumulator, unless it is {@code null}.
    *
-   * @param graphTransaction graph transaction
-   * @return final aggregate value or {@code null} if no vertices are contained
+   * @param accumulator accumulator
+   * @param increment vertex or edge increment
    */
-  private PropertyValue aggregateVertices(GraphTransaction graphTransaction) {
-    return iterate(graphTransaction.getVertices().iterator(),
-      vertexAggregateFunction::getVertexIncrement,
-      vertexAggregateFunction::aggregate);
-  }
-
-  /**
-   * Applies the aggregate function on the edges of the given graph transaction.
-   *
-   * @param graphTransaction graph transaction
-   * @return final aggregate value or {@code null} if no edges are contained
-   */
-  private PropertyValue aggregateEdges(GraphTransaction graphTransaction) {
-    return iterate(graphTransaction.getEdges().iterator(),
-      edgeAggregateFunction::getEdgeIncrement,
-      edgeAggregateFunction::aggregate);
-  }
-
-  /**
-   * Iterates the given set of EPGM elements and computes the aggregate value given the two
-   * functions.
-   *
-   * @param elements iterator of EPGM elements
-   * @param valueFunction extracts the property value used for aggregation
-   * @param aggregateFunction used to update the aggregate
-   * @param <T> EPGM element type
-   * @return final aggregate value or {@code null} if {@code elements} is empty
-   */
-  private <T extends Element> PropertyValue iterate(Iterator<T> elements,
-    Function<T, PropertyValue> valueFunction,
-    BiFunction<PropertyValue, PropertyValue, PropertyValue> aggregateFunction) {
-
-    PropertyValue aggregate = null;
-
-    while (elements.hasNext()) {
-      PropertyValue increment = valueFunction.apply(elements.next());
-      if (increment != null) {
-        if (aggregate == null) {
-          aggregate = increment;
-        } else {
-          aggregate = aggregateFunction.apply(aggregate, increment);
-        }
-      }
+  private void add(AggregateAccumulator accumulator, PropertyValue increment) {
+    if (increment != null) {
+      accumulator.add(increment);
     }
-    return aggregate;
   }
 }
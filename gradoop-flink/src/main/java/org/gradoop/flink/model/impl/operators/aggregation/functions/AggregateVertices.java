@@ -19,46 +19,62 @@ import org.apache.flink.api.common.functions.GroupCombineFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
+
+import java.util.Arrays;
 
 /**
- * vertex,.. => aggregateValue
+ * vertex,.. => partitionAggregateValues
+ *
+ * Computes the vertex aggregate functions in a single pass. The resulting array contains a
+ * value for each aggregate function, values of the other functions are {@code null}.
  */
 public class AggregateVertices
-  implements GroupCombineFunction<Vertex, PropertyValue> {
+  implements GroupCombineFunction<Vertex, PropertyValue[]> {
 
   /**
-   * Aggregate function.
+   * All aggregate functions
+   */
+  private final AggregateFunction[] aggregateFunctions;
+  /**
+   * Vertex aggregate function per position or {@code null}
    */
-  private final VertexAggregateFunction aggFunc;
+  private final VertexAggregateFunction[] vertexAggregateFunctions;
 
   /**
    * Constructor.
    *
-   * @param aggFunc aggregate function
+   * @param aggregateFunctions all aggregate functions
    */
-  public AggregateVertices(VertexAggregateFunction aggFunc) {
-    this.aggFunc = aggFunc;
+  public AggregateVertices(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
+    this.vertexAggregateFunctions = new VertexAggregateFunction[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (aggregateFunctions[i] instanceof VertexAggregateFunction) {
+        vertexAggregateFunctions[i] = (VertexAggregateFunction) aggregateFunctions[i];
+      }
+    }
   }
 
   @Override
   public void combine(
-    Iterable<Vertex> vertices, Collector<PropertyValue> out) throws Exception {
-    PropertyValue aggregate = null;
+    Iterable<Vertex> vertices, Collector<PropertyValue[]> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
 
     for (Vertex vertex : vertices) {
-      PropertyValue increment = aggFunc.getVertexIncrement(vertex);
-      if (increment != null) {
-        if (aggregate == null) {
-          aggregate = increment;
-        } else {
-          aggregate = aggFunc.aggregate(aggregate, increment);
+      for (int i = 0; i < vertexAggregateFunctions.length; i++) {
+        if (vertexAggregateFunctions[i] != null) {
+          PropertyValue increment = vertexAggregateFunctions[i].getVertexIncrement(vertex);
+          if (increment != null) {
+            accumulators[i].add(increment);
+          }
         }
       }
     }
 
-    if (aggregate != null) {
-      out.collect(aggregate);
-    }
+    out.collect(AggregateAccumulators.getValues(accumulators));
   }
 }
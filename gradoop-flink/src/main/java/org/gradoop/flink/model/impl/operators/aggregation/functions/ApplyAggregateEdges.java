@@ -21,62 +21,73 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.EdgeAggregateFunction;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
- * (graphId,edge),.. => (graphId,aggregateValue),..
+ * (graphId,edge),.. => (graphId,partitionAggregateValues)
+ *
+ * Computes the edge aggregate functions for a single graph in a single pass. The resulting
+ * array contains a value for each aggregate function, values of the other functions are
+ * {@code null}.
  */
 public class ApplyAggregateEdges implements GroupCombineFunction
-  <Tuple2<GradoopId, Edge>, Tuple2<GradoopId, PropertyValue>> {
+  <Tuple2<GradoopId, Edge>, Tuple2<GradoopId, PropertyValue[]>> {
 
   /**
-   * Aggregate function.
+   * All aggregate functions
+   */
+  private final AggregateFunction[] aggregateFunctions;
+  /**
+   * Edge aggregate function per position or {@code null}
    */
-  private final EdgeAggregateFunction aggFunc;
+  private final EdgeAggregateFunction[] edgeAggregateFunctions;
   /**
    * Reuse tuple.
    */
-  private final Tuple2<GradoopId, PropertyValue> reusePair = new Tuple2<>();
+  private final Tuple2<GradoopId, PropertyValue[]> reusePair = new Tuple2<>();
 
   /**
    * Constructor.
    *
-   * @param aggFunc aggregate function
+   * @param aggregateFunctions all aggregate functions
    */
-  public ApplyAggregateEdges(EdgeAggregateFunction aggFunc) {
-    this.aggFunc = aggFunc;
+  public ApplyAggregateEdges(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
+    this.edgeAggregateFunctions = new EdgeAggregateFunction[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (!(aggregateFunctions[i] instanceof VertexAggregateFunction)) {
+        edgeAggregateFunctions[i] = (EdgeAggregateFunction) aggregateFunctions[i];
+      }
+    }
   }
 
   @Override
   public void combine(Iterable<Tuple2<GradoopId, Edge>> edges,
-    Collector<Tuple2<GradoopId, PropertyValue>> out) throws Exception {
-
-    Iterator<Tuple2<GradoopId, Edge>> iterator = edges.iterator();
-
-    Tuple2<GradoopId, Edge> graphIdEdge = iterator.next();
-
-    Edge edge = graphIdEdge.f1;
-
-    PropertyValue aggregate = aggFunc.getEdgeIncrement(edge);
-
-    while (iterator.hasNext()) {
-      edge = iterator.next().f1;
-      PropertyValue increment = aggFunc.getEdgeIncrement(edge);
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
+    GradoopId graphId = null;
 
-      if (increment != null) {
-        if (aggregate == null) {
-          aggregate = increment;
-        } else {
-          aggregate = aggFunc.aggregate(aggregate, increment);
+    for (Tuple2<GradoopId, Edge> graphIdEdge : edges) {
+      graphId = graphIdEdge.f0;
+      for (int i = 0; i < edgeAggregateFunctions.length; i++) {
+        if (edgeAggregateFunctions[i] != null) {
+          PropertyValue increment = edgeAggregateFunctions[i].getEdgeIncrement(graphIdEdge.f1);
+          if (increment != null) {
+            accumulators[i].add(increment);
+          }
         }
       }
     }
 
-    if (aggregate != null) {
-      reusePair.f0 = graphIdEdge.f0;
-      reusePair.f1 = aggregate;
+    if (graphId != null) {
+      reusePair.f0 = graphId;
+      reusePair.f1 = AggregateAccumulators.getValues(accumulators);
       out.collect(reusePair);
     }
   }
@@ -13,9 +13,6 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-/**
- * (graphId,vertex),.. => (graphId,aggregateValue),..
- */
 package org.gradoop.flink.model.impl.operators.aggregation.functions;
 
 import org.apache.flink.api.common.functions.GroupCombineFunction;
@@ -24,60 +21,73 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
 import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
- * Aggregate function.
+ * (graphId,vertex),.. => (graphId,partitionAggregateValues)
+ *
+ * Computes the vertex aggregate functions for a single graph in a single pass. The resulting
+ * array contains a value for each aggregate function, values of the other functions are
+ * {@code null}.
  */
 public class ApplyAggregateVertices implements GroupCombineFunction
-  <Tuple2<GradoopId, Vertex>, Tuple2<GradoopId, PropertyValue>> {
+  <Tuple2<GradoopId, Vertex>, Tuple2<GradoopId, PropertyValue[]>> {
 
   /**
-   * Aggregate function.
+   * All aggregate functions
+   */
+  private final AggregateFunction[] aggregateFunctions;
+  /**
+   * Vertex aggregate function per position or {@code null}
    */
-  private final VertexAggregateFunction aggFunc;
+  private final VertexAggregateFunction[] vertexAggregateFunctions;
   /**
    * Reuse tuple.
    */
-  private final Tuple2<GradoopId, PropertyValue> reusePair = new Tuple2<>();
+  private final Tuple2<GradoopId, PropertyValue[]> reusePair = new Tuple2<>();
 
   /**
    * Constructor.
    *
-   * @param aggFunc aggregate function
+   * @param aggregateFunctions all aggregate functions
    */
-  public ApplyAggregateVertices(VertexAggregateFunction aggFunc) {
-    this.aggFunc = aggFunc;
+  public ApplyAggregateVertices(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
+    this.vertexAggregateFunctions = new VertexAggregateFunction[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      if (aggregateFunctions[i] instanceof VertexAggregateFunction) {
+        vertexAggregateFunctions[i] = (VertexAggregateFunction) aggregateFunctions[i];
+      }
+    }
   }
 
   @Override
   public void combine(Iterable<Tuple2<GradoopId, Vertex>> vertices,
-    Collector<Tuple2<GradoopId, PropertyValue>> out) throws Exception {
-
-    Iterator<Tuple2<GradoopId, Vertex>> iterator = vertices.iterator();
-
-    Tuple2<GradoopId, Vertex> graphIdVertex = iterator.next();
-    Vertex vertex = graphIdVertex.f1;
-    PropertyValue aggregate = aggFunc.getVertexIncrement(vertex);
-
-    while (iterator.hasNext()) {
-      vertex = iterator.next().f1;
-      PropertyValue increment = aggFunc.getVertexIncrement(vertex);
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
+    GradoopId graphId = null;
 
-      if (increment != null) {
-        if (aggregate == null) {
-          aggregate = increment;
-        } else {
-          aggregate = aggFunc.aggregate(aggregate, increment);
+    for (Tuple2<GradoopId, Vertex> graphIdVertex : vertices) {
+      graphId = graphIdVertex.f0;
+      for (int i = 0; i < vertexAggregateFunctions.length; i++) {
+        if (vertexAggregateFunctions[i] != null) {
+          PropertyValue increment =
+            vertexAggregateFunctions[i].getVertexIncrement(graphIdVertex.f1);
+          if (increment != null) {
+            accumulators[i].add(increment);
+          }
         }
       }
     }
 
-    if (aggregate != null) {
-      reusePair.f0 = graphIdVertex.f0;
-      reusePair.f1 = aggregate;
+    if (graphId != null) {
+      reusePair.f0 = graphId;
+      reusePair.f1 = AggregateAccumulators.getValues(accumulators);
       out.collect(reusePair);
     }
   }
@@ -19,41 +19,40 @@ import org.apache.flink.api.common.functions.GroupReduceFunction;
 import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
- * partitionAggregateValue,.. => globalAggregateValue
+ * partitionAggregateValues,.. => globalAggregateValues
  */
 public class CombinePartitionAggregates
-  implements GroupReduceFunction<PropertyValue, PropertyValue> {
+  implements GroupReduceFunction<PropertyValue[], PropertyValue[]> {
 
   /**
-   * Aggregate Function
+   * Aggregate functions
    */
-  private final AggregateFunction aggregateFunction;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
    * Constructor.
    *
-   * @param aggregateFunction aggregate function
+   * @param aggregateFunctions aggregate functions
    */
-  public CombinePartitionAggregates(AggregateFunction aggregateFunction) {
-    this.aggregateFunction = aggregateFunction;
+  public CombinePartitionAggregates(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
   }
 
   @Override
-  public void reduce(Iterable<PropertyValue> partitionAggregates,
-    Collector<PropertyValue> out) throws Exception {
+  public void reduce(Iterable<PropertyValue[]> partitionAggregates,
+    Collector<PropertyValue[]> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
 
-    Iterator<PropertyValue> iterator = partitionAggregates.iterator();
-
-    PropertyValue aggregate = iterator.next();
-
-    while (iterator.hasNext()) {
-      aggregateFunction.aggregate(aggregate, iterator.next());
+    for (PropertyValue[] partitionAggregate : partitionAggregates) {
+      AggregateAccumulators.addAll(accumulators, partitionAggregate);
     }
 
-    out.collect(aggregate);
+    out.collect(AggregateAccumulators.getValues(accumulators));
   }
 }
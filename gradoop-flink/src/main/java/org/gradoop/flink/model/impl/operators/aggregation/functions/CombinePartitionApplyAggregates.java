@@ -21,42 +21,42 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulator;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator.AggregateAccumulators;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
- * (graphId,partitionAggregateValue),.. => (graphId,globalAggregateValue),..
+ * (graphId,partitionAggregateValues),.. => (graphId,globalAggregateValues)
  */
 public class CombinePartitionApplyAggregates implements GroupReduceFunction
-  <Tuple2<GradoopId, PropertyValue>, Tuple2<GradoopId, PropertyValue>> {
+  <Tuple2<GradoopId, PropertyValue[]>, Tuple2<GradoopId, PropertyValue[]>> {
 
   /**
-   * Aggregate Function
+   * Aggregate functions
    */
-  private final AggregateFunction aggFunc;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
    * Constructor.
    *
-   * @param aggregateFunction aggregate function
+   * @param aggregateFunctions aggregate functions
    */
-  public CombinePartitionApplyAggregates(AggregateFunction aggregateFunction) {
-
-    this.aggFunc = aggregateFunction;
+  public CombinePartitionApplyAggregates(AggregateFunction[] aggregateFunctions) {
+    this.aggregateFunctions = Arrays.copyOf(aggregateFunctions, aggregateFunctions.length);
   }
 
   @Override
-  public void reduce(Iterable<Tuple2<GradoopId, PropertyValue>> values,
-    Collector<Tuple2<GradoopId, PropertyValue>> out) throws Exception {
-
-    Iterator<Tuple2<GradoopId, PropertyValue>> iterator = values.iterator();
-
-    Tuple2<GradoopId, PropertyValue> aggregate = iterator.next();
-
-    while (iterator.hasNext()) {
-      aggregate.f1 = aggFunc.aggregate(aggregate.f1, iterator.next().f1);
+  public void reduce(Iterable<Tuple2<GradoopId, PropertyValue[]>> values,
+    Collector<Tuple2<GradoopId, PropertyValue[]>> out) throws Exception {
+    AggregateAccumulator[] accumulators = AggregateAccumulators.create(aggregateFunctions);
+    GradoopId graphId = null;
+
+    for (Tuple2<GradoopId, PropertyValue[]> value : values) {
+      graphId = value.f0;
+      AggregateAccumulators.addAll(accumulators, value.f1);
     }
 
-    out.collect(aggregate);
+    out.collect(Tuple2.of(graphId, AggregateAccumulators.getValues(accumulators)));
   }
 }
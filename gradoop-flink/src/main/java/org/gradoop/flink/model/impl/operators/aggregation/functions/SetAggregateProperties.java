@@ -21,7 +21,6 @@ import org.apache.flink.util.Collector;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
-import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -30,46 +29,48 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Sets aggregate values of a graph heads.
  */
 public class SetAggregateProperties implements
-  CoGroupFunction<GraphHead, Tuple2<GradoopId, PropertyValue>, GraphHead> {
+  CoGroupFunction<GraphHead, Tuple2<GradoopId, PropertyValue[]>, GraphHead> {
 
   /**
-   * aggregate property key
+   * aggregate functions
    */
-  private final String propertyKey;
+  private final AggregateFunction[] aggregateFunctions;
   /**
-   * default value used to replace aggregate value in case of NULL.
+   * aggregate property keys
    */
-  private final PropertyValue defaultValue;
+  private final String[] propertyKeys;
+  /**
+   * default values used to replace aggregate values in case of NULL.
+   */
+  private final PropertyValue[] defaultValues;
 
   /**
    * Constructor.
    *
-   * @param aggregateFunction aggregate function
+   * @param aggregateFunctions aggregate functions
    */
-  public SetAggregateProperties(final AggregateFunction aggregateFunction) {
-    checkNotNull(aggregateFunction);
-    this.propertyKey = aggregateFunction.getAggregatePropertyKey();
-    this.defaultValue = aggregateFunction instanceof AggregateDefaultValue ?
-      ((AggregateDefaultValue) aggregateFunction).getDefaultValue() :
-      PropertyValue.NULL_VALUE;
+  public SetAggregateProperties(final AggregateFunction... aggregateFunctions) {
+    checkNotNull(aggregateFunctions);
+    this.aggregateFunctions = aggregateFunctions;
+    this.propertyKeys = SetAggregateProperty.getPropertyKeys(aggregateFunctions);
+    this.defaultValues = SetAggregateProperty.getDefaultValues(aggregateFunctions);
   }
 
   @Override
   public void coGroup(Iterable<GraphHead> left,
-    Iterable<Tuple2<GradoopId, PropertyValue>> right, Collector<GraphHead> out
+    Iterable<Tuple2<GradoopId, PropertyValue[]>> right, Collector<GraphHead> out
   ) throws Exception {
 
     for (GraphHead leftElem : left) {
-      boolean rightEmpty = true;
-      for (Tuple2<GradoopId, PropertyValue> rightElem : right) {
-        leftElem.setProperty(propertyKey, rightElem.f1);
-        out.collect(leftElem);
-        rightEmpty = false;
+      PropertyValue[] values = null;
+      for (Tuple2<GradoopId, PropertyValue[]> rightElem : right) {
+        values = rightElem.f1;
       }
-      if (rightEmpty) {
-        leftElem.setProperty(propertyKey, defaultValue);
-        out.collect(leftElem);
+      for (int i = 0; i < propertyKeys.length; i++) {
+        leftElem.setProperty(propertyKeys[i], values == null || values[i] == null ?
+          defaultValues[i] : SetAggregateProperty.getFinalValue(aggregateFunctions[i], values[i]));
       }
+      out.collect(leftElem);
     }
   }
 }
@@ -21,67 +21,122 @@ import org.apache.flink.configuration.Configuration;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalValue;
 import org.gradoop.flink.model.api.functions.AggregateFunction;
 
+import java.util.List;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * Sets an aggregate value of a graph head.
+ * Sets the aggregate values of a graph head.
  */
 @FunctionAnnotation.ForwardedFields("id")
 public class SetAggregateProperty
   extends RichMapFunction<GraphHead, GraphHead> {
 
   /**
-   * constant string for accessing broadcast variable "property value"
+   * constant string for accessing broadcast variable "property values"
    */
   public static final String VALUE = "value";
 
   /**
-   * aggregate property key
+   * aggregate functions
    */
-  private final String propertyKey;
+  private final AggregateFunction[] aggregateFunctions;
 
   /**
-   * aggregate value
+   * aggregate property keys
    */
-  private PropertyValue aggregateValue;
+  private final String[] propertyKeys;
 
   /**
-   * default value used to replace aggregate value in case of NULL.
+   * default values used to replace aggregate values in case of NULL.
    */
-  private final PropertyValue defaultValue;
+  private final PropertyValue[] defaultValues;
 
+  /**
+   * aggregate values
+   */
+  private PropertyValue[] aggregateValues;
 
   /**
    * Constructor.
    *
-   * @param aggregateFunction aggregate function
+   * @param aggregateFunctions aggregate functions
    */
-  public SetAggregateProperty(AggregateFunction aggregateFunction) {
-    checkNotNull(aggregateFunction);
+  public SetAggregateProperty(AggregateFunction... aggregateFunctions) {
+    checkNotNull(aggregateFunctions);
 
-    this.propertyKey = aggregateFunction.getAggregatePropertyKey();
-
-    this.defaultValue = aggregateFunction instanceof AggregateDefaultValue ?
-      ((AggregateDefaultValue) aggregateFunction).getDefaultValue() :
-      PropertyValue.NULL_VALUE;
+    this.aggregateFunctions = aggregateFunctions;
+    this.propertyKeys = getPropertyKeys(aggregateFunctions);
+    this.defaultValues = getDefaultValues(aggregateFunctions);
   }
 
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
-    this.aggregateValue =
-      (PropertyValue) getRuntimeContext().getBroadcastVariable(VALUE).get(0);
+    List<PropertyValue[]> values = getRuntimeContext().getBroadcastVariable(VALUE);
+
+    this.aggregateValues = values.isEmpty() ?
+      new PropertyValue[propertyKeys.length] : values.get(0).clone();
 
-    if (aggregateValue.equals(PropertyValue.NULL_VALUE)) {
-      aggregateValue = defaultValue;
+    for (int i = 0; i < aggregateValues.length; i++) {
+      if (aggregateValues[i] == null || aggregateValues[i].equals(PropertyValue.NULL_VALUE)) {
+        aggregateValues[i] = defaultValues[i];
+      } else {
+        aggregateValues[i] = getFinalValue(aggregateFunctions[i], aggregateValues[i]);
+      }
     }
   }
 
   @Override
   public GraphHead map(GraphHead graphHead) throws Exception {
-    graphHead.setProperty(propertyKey, aggregateValue);
+    for (int i = 0; i < propertyKeys.length; i++) {
+      graphHead.setProperty(propertyKeys[i], aggregateValues[i]);
+    }
     return graphHead;
   }
+
+  /**
+   * Returns the aggregate property key of each aggregate function.
+   *
+   * @param aggregateFunctions aggregate functions
+   * @return property key per aggregate function
+   */
+  static String[] getPropertyKeys(AggregateFunction[] aggregateFunctions) {
+    String[] propertyKeys = new String[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      propertyKeys[i] = checkNotNull(aggregateFunctions[i]).getAggregatePropertyKey();
+    }
+    return propertyKeys;
+  }
+
+  /**
+   * Returns the value used by each aggregate function if there is nothing to aggregate.
+   *
+   * @param aggregateFunctions aggregate functions
+   * @return default value or {@link PropertyValue#NULL_VALUE} per aggregate function
+   */
+  static PropertyValue[] getDefaultValues(AggregateFunction[] aggregateFunctions) {
+    PropertyValue[] defaultValues = new PropertyValue[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      defaultValues[i] = aggregateFunctions[i] instanceof AggregateDefaultValue ?
+        ((AggregateDefaultValue) aggregateFunctions[i]).getDefaultValue() :
+        PropertyValue.NULL_VALUE;
+    }
+    return defaultValues;
+  }
+
+  /**
+   * Returns the value stored for the given aggregate.
+   *
+   * @param aggregateFunction aggregate function
+   * @param aggregate aggregate of all increments
+   * @return final value, see {@link AggregateFinalValue}
+   */
+  static PropertyValue getFinalValue(AggregateFunction aggregateFunction, PropertyValue aggregate) {
+    return aggregateFunction instanceof AggregateFinalValue ?
+      ((AggregateFinalValue) aggregateFunction).getFinalValue(aggregate) : aggregate;
+  }
 }
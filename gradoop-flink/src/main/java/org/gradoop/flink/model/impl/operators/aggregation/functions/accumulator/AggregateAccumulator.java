@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+/**
+ * Mutable state of an aggregate function. Increments are added one by one and the aggregate is
+ * converted to a {@link PropertyValue} once all increments have been added.
+ */
+public interface AggregateAccumulator {
+
+  /**
+   * Adds an increment (or a partial aggregate) to the accumulator.
+   *
+   * @param increment increment, must not be {@code null}
+   */
+  void add(PropertyValue increment);
+
+  /**
+   * Returns the aggregate of all added increments.
+   *
+   * @return aggregate or {@code null} if no increment was added
+   */
+  PropertyValue getValue();
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.count.Count;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.max.Max;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.min.Min;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.SketchAggregateFunction;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.Sum;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketch;
+
+/**
+ * Creates the accumulators for aggregate functions. Functions that inherit the aggregate method of
+ * {@link Count}, {@link Sum}, {@link Min} or {@link Max} use primitive accumulators, a
+ * {@link SketchAggregateFunction} adds to a single sketch and all other functions, including
+ * subclasses that override the aggregate method, fold their property values.
+ */
+public class AggregateAccumulators {
+
+  /**
+   * Creates a new accumulator for the given aggregate function.
+   *
+   * @param aggregateFunction aggregate function
+   * @return empty accumulator
+   */
+  public static AggregateAccumulator create(AggregateFunction aggregateFunction) {
+    Class<?> aggregateClass = getAggregateClass(aggregateFunction);
+    if (aggregateClass == Count.class || aggregateClass == Sum.class) {
+      return new SumAccumulator();
+    } else if (aggregateClass == Min.class) {
+      return new MinMaxAccumulator(true);
+    } else if (aggregateClass == Max.class) {
+      return new MinMaxAccumulator(false);
+    } else if (aggregateFunction instanceof SketchAggregateFunction) {
+      return createSketchAccumulator((SketchAggregateFunction<?>) aggregateFunction);
+    } else {
+      return new FoldingAccumulator(aggregateFunction);
+    }
+  }
+
+  /**
+   * Returns the class declaring the aggregate method used by the given function.
+   *
+   * @param aggregateFunction aggregate function
+   * @return declaring class of {@link AggregateFunction#aggregate}
+   */
+  private static Class<?> getAggregateClass(AggregateFunction aggregateFunction) {
+    try {
+      return aggregateFunction.getClass()
+        .getMethod("aggregate", PropertyValue.class, PropertyValue.class)
+        .getDeclaringClass();
+    } catch (NoSuchMethodException e) {
+      return AggregateFunction.class;
+    }
+  }
+
+  /**
+   * Creates a new accumulator for the given sketch based aggregate function.
+   *
+   * @param aggregateFunction sketch based aggregate function
+   * @param <S> sketch type
+   * @return empty accumulator
+   */
+  private static <S extends Sketch<S>> AggregateAccumulator createSketchAccumulator(
+    SketchAggregateFunction<S> aggregateFunction) {
+    return new SketchAccumulator<>(aggregateFunction);
+  }
+
+  /**
+   * Creates a new accumulator for each of the given aggregate functions.
+   *
+   * @param aggregateFunctions aggregate functions
+   * @return empty accumulators in the order of the functions
+   */
+  public static AggregateAccumulator[] create(AggregateFunction[] aggregateFunctions) {
+    AggregateAccumulator[] accumulators = new AggregateAccumulator[aggregateFunctions.length];
+    for (int i = 0; i < aggregateFunctions.length; i++) {
+      accumulators[i] = create(aggregateFunctions[i]);
+    }
+    return accumulators;
+  }
+
+  /**
+   * Returns the aggregates of the given accumulators.
+   *
+   * @param accumulators accumulators
+   * @return aggregate per accumulator, {@code null} for accumulators without increments
+   */
+  public static PropertyValue[] getValues(AggregateAccumulator[] accumulators) {
+    PropertyValue[] values = new PropertyValue[accumulators.length];
+    for (int i = 0; i < accumulators.length; i++) {
+      values[i] = accumulators[i].getValue();
+    }
+    return values;
+  }
+
+  /**
+   * Adds all non-null values to the accumulator at the same position.
+   *
+   * @param accumulators accumulators
+   * @param values (partial) aggregates, may contain {@code null}
+   */
+  public static void addAll(AggregateAccumulator[] accumulators, PropertyValue[] values) {
+    for (int i = 0; i < accumulators.length; i++) {
+      if (values[i] != null) {
+        accumulators[i].add(values[i]);
+      }
+    }
+  }
+}
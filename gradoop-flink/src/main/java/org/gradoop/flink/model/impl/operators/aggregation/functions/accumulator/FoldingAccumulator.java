@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+
+/**
+ * Accumulator for arbitrary aggregate functions, which folds the increments using
+ * {@link AggregateFunction#aggregate(PropertyValue, PropertyValue)}.
+ */
+public class FoldingAccumulator implements AggregateAccumulator {
+  /**
+   * Aggregate function
+   */
+  private final AggregateFunction aggregateFunction;
+  /**
+   * Current aggregate
+   */
+  private PropertyValue aggregate;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param aggregateFunction aggregate function
+   */
+  public FoldingAccumulator(AggregateFunction aggregateFunction) {
+    this.aggregateFunction = aggregateFunction;
+  }
+
+  @Override
+  public void add(PropertyValue increment) {
+    aggregate = aggregate == null ? increment : aggregateFunction.aggregate(aggregate, increment);
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    return aggregate;
+  }
+}
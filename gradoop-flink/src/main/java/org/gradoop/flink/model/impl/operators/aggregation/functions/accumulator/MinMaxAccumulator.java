@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Determines the minimum or maximum of numerical property values. The current extremum is kept
+ * in primitive fields and the result has the type of the value it was taken from, like
+ * {@link org.gradoop.common.model.impl.properties.PropertyValueUtils.Numeric#min} and
+ * {@link org.gradoop.common.model.impl.properties.PropertyValueUtils.Numeric#max}.
+ */
+public class MinMaxAccumulator extends NumericAccumulator {
+  /**
+   * True, if the minimum is determined, false for the maximum
+   */
+  private final boolean isMin;
+  /**
+   * Type of the current extremum
+   */
+  private int type = EMPTY;
+  /**
+   * Current extremum if its type is short, int or long
+   */
+  private long integral;
+  /**
+   * Current extremum if its type is float or double
+   */
+  private double floating;
+  /**
+   * Current extremum if its type is big decimal
+   */
+  private BigDecimal bigDecimal;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param isMin true, if the minimum shall be determined, false for the maximum
+   */
+  public MinMaxAccumulator(boolean isMin) {
+    this.isMin = isMin;
+  }
+
+  @Override
+  public void add(PropertyValue increment) {
+    int incrementType = getType(increment);
+    long incrementIntegral = 0L;
+    double incrementFloating = 0d;
+    BigDecimal incrementBigDecimal = null;
+
+    switch (incrementType) {
+    case SHORT:
+      incrementIntegral = increment.getShort();
+      break;
+    case INT:
+      incrementIntegral = increment.getInt();
+      break;
+    case LONG:
+      incrementIntegral = increment.getLong();
+      break;
+    case FLOAT:
+      incrementFloating = increment.getFloat();
+      break;
+    case DOUBLE:
+      incrementFloating = increment.getDouble();
+      break;
+    default:
+      incrementBigDecimal = increment.getBigDecimal();
+    }
+
+    // on ties, min keeps the current value and max takes the new one
+    boolean replace = type == EMPTY || (isMin ?
+      compare(incrementType, incrementIntegral, incrementFloating, incrementBigDecimal) < 0 :
+      compare(incrementType, incrementIntegral, incrementFloating, incrementBigDecimal) >= 0);
+
+    if (replace) {
+      type = incrementType;
+      integral = incrementIntegral;
+      floating = incrementFloating;
+      bigDecimal = incrementBigDecimal;
+    }
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    return type == EMPTY ? null : create(type, integral, floating, bigDecimal);
+  }
+
+  /**
+   * Compares the given value with the current extremum using the larger of both types.
+   *
+   * @param otherType type of the value
+   * @param otherIntegral value if the type is short, int or long
+   * @param otherFloating value if the type is float or double
+   * @param otherBigDecimal value if the type is big decimal
+   * @return < 0, if the value is smaller than the extremum, 0 if equal, > 0 otherwise
+   */
+  private int compare(int otherType, long otherIntegral, double otherFloating,
+    BigDecimal otherBigDecimal) {
+    int maxType = Math.max(type, otherType);
+    if (maxType <= LONG) {
+      return Long.compare(otherIntegral, integral);
+    } else if (maxType == FLOAT) {
+      return Float.compare((float) toDouble(otherType, otherIntegral, otherFloating),
+        (float) toDouble(type, integral, floating));
+    } else if (maxType == DOUBLE) {
+      return Double.compare(
+        toDouble(otherType, otherIntegral, otherFloating), toDouble(type, integral, floating));
+    } else {
+      return toBigDecimal(otherType, otherIntegral, otherFloating, otherBigDecimal)
+        .compareTo(toBigDecimal(type, integral, floating, bigDecimal));
+    }
+  }
+
+  /**
+   * Converts a value of type short, int, long, float or double to double.
+   *
+   * @param valueType type of the value
+   * @param valueIntegral value if the type is short, int or long
+   * @param valueFloating value if the type is float or double
+   * @return double value
+   */
+  private static double toDouble(int valueType, long valueIntegral, double valueFloating) {
+    return valueType <= LONG ? valueIntegral : valueFloating;
+  }
+
+  /**
+   * Converts a value to big decimal.
+   *
+   * @param valueType type of the value
+   * @param valueIntegral value if the type is short, int or long
+   * @param valueFloating value if the type is float or double
+   * @param valueBigDecimal value if the type is big decimal
+   * @return big decimal value
+   */
+  private static BigDecimal toBigDecimal(int valueType, long valueIntegral, double valueFloating,
+    BigDecimal valueBigDecimal) {
+    return valueType <= LONG ? BigDecimal.valueOf(valueIntegral) :
+      valueType == BIG_DECIMAL ? valueBigDecimal : BigDecimal.valueOf(valueFloating);
+  }
+}
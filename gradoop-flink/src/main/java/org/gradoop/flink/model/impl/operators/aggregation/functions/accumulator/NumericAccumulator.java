@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Superclass of accumulators for numerical property values. The types are ordered like in
+ * {@link org.gradoop.common.model.impl.properties.PropertyValueUtils.Numeric}.
+ */
+abstract class NumericAccumulator implements AggregateAccumulator {
+  /**
+   * No value added yet.
+   */
+  static final int EMPTY = -1;
+  /**
+   * Short type.
+   */
+  static final int SHORT = 0;
+  /**
+   * Integer type.
+   */
+  static final int INT = 1;
+  /**
+   * Long type.
+   */
+  static final int LONG = 2;
+  /**
+   * Float type.
+   */
+  static final int FLOAT = 3;
+  /**
+   * Double type.
+   */
+  static final int DOUBLE = 4;
+  /**
+   * Big decimal type.
+   */
+  static final int BIG_DECIMAL = 5;
+
+  /**
+   * Returns the numerical type of the given value.
+   *
+   * @param value property value
+   * @return numerical type
+   * @throws UnsupportedTypeException if the value is not numerical
+   */
+  static int getType(PropertyValue value) {
+    if (value.isShort()) {
+      return SHORT;
+    } else if (value.isInt()) {
+      return INT;
+    } else if (value.isLong()) {
+      return LONG;
+    } else if (value.isFloat()) {
+      return FLOAT;
+    } else if (value.isDouble()) {
+      return DOUBLE;
+    } else if (value.isBigDecimal()) {
+      return BIG_DECIMAL;
+    } else {
+      throw new UnsupportedTypeException(value.getObject().getClass());
+    }
+  }
+
+  /**
+   * Creates a property value of the given type.
+   *
+   * @param type numerical type
+   * @param integral value if the type is short, int or long
+   * @param floating value if the type is float or double
+   * @param bigDecimal value if the type is big decimal
+   * @return property value
+   */
+  static PropertyValue create(int type, long integral, double floating, BigDecimal bigDecimal) {
+    switch (type) {
+    case SHORT:
+      return PropertyValue.create((short) integral);
+    case INT:
+      return PropertyValue.create((int) integral);
+    case LONG:
+      return PropertyValue.create(integral);
+    case FLOAT:
+      return PropertyValue.create((float) floating);
+    case DOUBLE:
+      return PropertyValue.create(floating);
+    default:
+      return PropertyValue.create(bigDecimal);
+    }
+  }
+}
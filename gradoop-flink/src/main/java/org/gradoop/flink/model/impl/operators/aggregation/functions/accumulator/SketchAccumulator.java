@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.SketchAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketches;
+
+/**
+ * Accumulator for sketch based aggregate functions. Increments are added to a single sketch,
+ * which is serialized only once when the aggregate is requested.
+ *
+ * @param <S> sketch type
+ */
+public class SketchAccumulator<S extends Sketch<S>> implements AggregateAccumulator {
+  /**
+   * Aggregate function
+   */
+  private final SketchAggregateFunction<S> aggregateFunction;
+  /**
+   * Current sketch, {@code null} until the first increment
+   */
+  private S sketch;
+
+  /**
+   * Creates a new accumulator.
+   *
+   * @param aggregateFunction aggregate function
+   */
+  public SketchAccumulator(SketchAggregateFunction<S> aggregateFunction) {
+    this.aggregateFunction = aggregateFunction;
+  }
+
+  @Override
+  public void add(PropertyValue increment) {
+    if (sketch == null) {
+      sketch = aggregateFunction.createSketch();
+    }
+    aggregateFunction.add(sketch, increment);
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    return sketch == null ? null : Sketches.toPropertyValue(sketch);
+  }
+}
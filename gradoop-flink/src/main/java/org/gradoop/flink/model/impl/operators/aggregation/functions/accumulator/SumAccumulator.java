@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.accumulator;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.math.BigDecimal;
+
+/**
+ * Sums numerical property values. Values are summed per type in primitive fields. The result has
+ * the largest type of all added values, but at least int, like
+ * {@link org.gradoop.common.model.impl.properties.PropertyValueUtils.Numeric#add}.
+ */
+public class SumAccumulator extends NumericAccumulator {
+  /**
+   * Largest type of all added values
+   */
+  private int type = EMPTY;
+  /**
+   * Number of added values
+   */
+  private long count;
+  /**
+   * Sum of short, int and long values
+   */
+  private long integralSum;
+  /**
+   * Sum of float values
+   */
+  private float floatSum;
+  /**
+   * Sum of double values
+   */
+  private double doubleSum;
+  /**
+   * Sum of big decimal values
+   */
+  private BigDecimal bigDecimalSum = BigDecimal.ZERO;
+
+  @Override
+  public void add(PropertyValue increment) {
+    int incrementType = getType(increment);
+    switch (incrementType) {
+    case SHORT:
+      integralSum += increment.getShort();
+      break;
+    case INT:
+      integralSum += increment.getInt();
+      break;
+    case LONG:
+      integralSum += increment.getLong();
+      break;
+    case FLOAT:
+      floatSum += increment.getFloat();
+      break;
+    case DOUBLE:
+      doubleSum += increment.getDouble();
+      break;
+    default:
+      bigDecimalSum = bigDecimalSum.add(increment.getBigDecimal());
+    }
+    type = Math.max(type, incrementType);
+    count++;
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    if (type == EMPTY) {
+      return null;
+    }
+    // a single value is returned as is, a sum has at least type int
+    int resultType = count == 1 ? type : Math.max(type, INT);
+    switch (resultType) {
+    case SHORT:
+    case INT:
+    case LONG:
+      return create(resultType, integralSum, 0d, null);
+    case FLOAT:
+      return create(resultType, 0L, integralSum + floatSum, null);
+    case DOUBLE:
+      return create(resultType, 0L, integralSum + (double) floatSum + doubleSum, null);
+    default:
+      return create(resultType, 0L, 0d, bigDecimalSum
+        .add(BigDecimal.valueOf(integralSum))
+        .add(BigDecimal.valueOf(floatSum))
+        .add(BigDecimal.valueOf(doubleSum)));
+    }
+  }
+}
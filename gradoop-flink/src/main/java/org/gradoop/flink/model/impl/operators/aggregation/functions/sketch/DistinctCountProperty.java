@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateDefaultValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Superclass of aggregate functions that estimate the number of distinct property values of
+ * vertices OR edges using a {@link HyperLogLog} sketch.
+ */
+public abstract class DistinctCountProperty extends SketchAggregateFunction<HyperLogLog>
+  implements AggregateDefaultValue {
+
+  /**
+   * Number of index bits of the sketch.
+   */
+  private final int precision;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param precision number of index bits of the sketch (4 to 16)
+   */
+  public DistinctCountProperty(String propertyKey, int precision) {
+    super(propertyKey);
+    this.precision = precision;
+  }
+
+  @Override
+  public HyperLogLog createSketch() {
+    return new HyperLogLog(precision);
+  }
+
+  @Override
+  protected HyperLogLog readSketch(DataInput in) throws IOException {
+    return HyperLogLog.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(HyperLogLog sketch) {
+    return PropertyValue.create(sketch.estimate());
+  }
+
+  @Override
+  public PropertyValue getDefaultValue() {
+    return PropertyValue.create(0L);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "distinct_" + propertyKey;
+  }
+}
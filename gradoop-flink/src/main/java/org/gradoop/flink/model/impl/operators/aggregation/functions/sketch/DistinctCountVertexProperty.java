@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+/**
+ * Aggregate function returning the estimated number of distinct values of a specified property
+ * over all vertices.
+ */
+public class DistinctCountVertexProperty extends DistinctCountProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link HyperLogLog#DEFAULT_PRECISION}.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  public DistinctCountVertexProperty(String propertyKey) {
+    this(propertyKey, HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param precision number of index bits of the sketch (4 to 16)
+   */
+  public DistinctCountVertexProperty(String propertyKey, int precision) {
+    super(propertyKey, precision);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.CountMinSketch;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Superclass of aggregate functions that find the most frequent property values of vertices OR
+ * edges using a {@link CountMinSketch}. The final value maps each of the (at most) {@code k}
+ * most frequent values to its estimated frequency.
+ */
+public abstract class HeavyHittersProperty extends SketchAggregateFunction<CountMinSketch> {
+
+  /**
+   * Number of returned values.
+   */
+  private final int k;
+
+  /**
+   * Number of counters per row of the sketch.
+   */
+  private final int width;
+
+  /**
+   * Number of rows of the sketch.
+   */
+  private final int depth;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of returned values
+   * @param width number of counters per row of the sketch
+   * @param depth number of rows of the sketch
+   */
+  public HeavyHittersProperty(String propertyKey, int k, int width, int depth) {
+    super(propertyKey);
+    this.k = k;
+    this.width = width;
+    this.depth = depth;
+  }
+
+  @Override
+  public CountMinSketch createSketch() {
+    // track more candidates than returned, so that late heavy hitters can still enter
+    return new CountMinSketch(2 * k, width, depth);
+  }
+
+  @Override
+  protected CountMinSketch readSketch(DataInput in) throws IOException {
+    return CountMinSketch.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(CountMinSketch sketch) {
+    Map<PropertyValue, PropertyValue> result = new HashMap<>();
+    for (Map.Entry<PropertyValue, Long> entry : sketch.getTopK(k).entrySet()) {
+      result.put(entry.getKey(), PropertyValue.create(entry.getValue()));
+    }
+    return PropertyValue.create(result);
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "heavyHitters_" + propertyKey;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.CountMinSketch;
+
+/**
+ * Aggregate function returning the most frequent values of a specified property over all
+ * vertices, together with their estimated frequency.
+ */
+public class HeavyHittersVertexProperty extends HeavyHittersProperty
+  implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link CountMinSketch#DEFAULT_WIDTH} and {@link CountMinSketch#DEFAULT_DEPTH}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of returned values
+   */
+  public HeavyHittersVertexProperty(String propertyKey, int k) {
+    this(propertyKey, k, CountMinSketch.DEFAULT_WIDTH, CountMinSketch.DEFAULT_DEPTH);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param k number of returned values
+   * @param width number of counters per row of the sketch
+   * @param depth number of rows of the sketch
+   */
+  public HeavyHittersVertexProperty(String propertyKey, int k, int width, int depth) {
+    super(propertyKey, k, width, depth);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex);
+  }
+}
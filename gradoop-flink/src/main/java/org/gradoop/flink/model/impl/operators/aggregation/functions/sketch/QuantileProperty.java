@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.QuantileSketch;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Superclass of aggregate functions that approximate a quantile of numerical property values of
+ * vertices OR edges using a {@link QuantileSketch}.
+ */
+public abstract class QuantileProperty extends SketchAggregateFunction<QuantileSketch> {
+
+  /**
+   * Quantile between 0 and 1.
+   */
+  private final double quantile;
+
+  /**
+   * Capacity per level of the sketch.
+   */
+  private final int k;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile between 0 and 1, e.g. 0.5 for the median
+   * @param k capacity per level of the sketch
+   */
+  public QuantileProperty(String propertyKey, double quantile, int k) {
+    super(propertyKey);
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    this.quantile = quantile;
+    this.k = k;
+  }
+
+  @Override
+  public QuantileSketch createSketch() {
+    return new QuantileSketch(k);
+  }
+
+  @Override
+  protected QuantileSketch readSketch(DataInput in) throws IOException {
+    return QuantileSketch.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(QuantileSketch sketch) {
+    return PropertyValue.create(sketch.getQuantile(quantile));
+  }
+
+  @Override
+  public String getAggregatePropertyKey() {
+    return "quantile_" + quantile + "_" + propertyKey;
+  }
+}
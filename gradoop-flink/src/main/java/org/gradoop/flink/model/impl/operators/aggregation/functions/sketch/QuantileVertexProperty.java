@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.VertexAggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.QuantileSketch;
+
+/**
+ * Aggregate function returning an approximate quantile of a specified numerical property over
+ * all vertices.
+ */
+public class QuantileVertexProperty extends QuantileProperty implements VertexAggregateFunction {
+
+  /**
+   * Constructor using {@link QuantileSketch#DEFAULT_K}.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile between 0 and 1, e.g. 0.5 for the median
+   */
+  public QuantileVertexProperty(String propertyKey, double quantile) {
+    this(propertyKey, quantile, QuantileSketch.DEFAULT_K);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   * @param quantile quantile between 0 and 1, e.g. 0.5 for the median
+   * @param k capacity per level of the sketch
+   */
+  public QuantileVertexProperty(String propertyKey, double quantile, int k) {
+    super(propertyKey, quantile, k);
+  }
+
+  @Override
+  public PropertyValue getVertexIncrement(Vertex vertex) {
+    return getIncrement(vertex);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.aggregation.functions.sketch;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.functions.AggregateFinalValue;
+import org.gradoop.flink.model.api.functions.AggregateFunction;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketches;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Superclass of aggregate functions that summarize property values in a mergeable sketch.
+ *
+ * Increments wrap a single property value, aggregates are serialized sketches (see
+ * {@link Sketches}). The final value is computed from the sketch of all increments.
+ *
+ * @param <S> sketch type
+ */
+public abstract class SketchAggregateFunction<S extends Sketch<S>>
+  implements AggregateFunction, AggregateFinalValue {
+
+  /**
+   * Property key whose value should be aggregated.
+   */
+  protected final String propertyKey;
+
+  /**
+   * Constructor.
+   *
+   * @param propertyKey property key to aggregate
+   */
+  protected SketchAggregateFunction(String propertyKey) {
+    this.propertyKey = propertyKey;
+  }
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @return empty sketch
+   */
+  public abstract S createSketch();
+
+  /**
+   * Reads a sketch serialized by this function.
+   *
+   * @param in input
+   * @return sketch
+   * @throws IOException on failure
+   */
+  protected abstract S readSketch(DataInput in) throws IOException;
+
+  /**
+   * Computes the final value from the sketch of all increments.
+   *
+   * @param sketch sketch
+   * @return final value
+   */
+  protected abstract PropertyValue getResult(S sketch);
+
+  /**
+   * Adds an increment or a serialized sketch to the given sketch.
+   *
+   * @param sketch sketch to update
+   * @param value increment or aggregate
+   */
+  public void add(S sketch, PropertyValue value) {
+    Sketches.add(sketch, value, this::readSketch);
+  }
+
+  @Override
+  public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+    S sketch = toSketch(aggregate);
+    add(sketch, increment);
+    return Sketches.toPropertyValue(sketch);
+  }
+
+  @Override
+  public PropertyValue getFinalValue(PropertyValue aggregate) {
+    return getResult(toSketch(aggregate));
+  }
+
+  /**
+   * Returns the increment of the given element.
+   *
+   * @param element vertex or edge
+   * @return increment or {@code null} if the element does not have the property
+   */
+  protected PropertyValue getIncrement(EPGMElement element) {
+    PropertyValue value = element.getPropertyValue(propertyKey);
+    return value == null || value.isNull() ? null : Sketches.singleton(value);
+  }
+
+  /**
+   * Returns the sketch represented by an increment or aggregate.
+   *
+   * @param value increment or aggregate
+   * @return sketch
+   */
+  private S toSketch(PropertyValue value) {
+    return Sketches.toSketch(value, this::readSketch, createSketch());
+  }
+}
@@ -22,7 +22,7 @@ import org.gradoop.flink.model.api.functions.GraphHeadReduceFunction;
 import org.gradoop.flink.model.impl.functions.epgm.Id;
 import org.gradoop.flink.model.impl.operators.distinction.functions.GraphHeadGroup;
 import org.gradoop.flink.model.impl.operators.selection.SelectionBase;
-import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalFingerprintBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
 import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
@@ -61,18 +61,19 @@ public class GroupByIsomorphism extends SelectionBase {
   }
 
   /**
-   * Createas a canonical label for each graph in a collection.
+   * Createas a canonical label for each graph in a collection. Labels are based on graph
+   * fingerprints, canonical adjacency matrices are only built for graphs of equal fingerprints.
    *
    * @param collection input collection
    * @return (graph id, label) pairs
    */
   protected DataSet<GraphHeadString> getCanonicalLabels(GraphCollection collection) {
     // Init builder for canonical labels
-    CanonicalAdjacencyMatrixBuilder camBuilder = new CanonicalAdjacencyMatrixBuilder(
+    CanonicalFingerprintBuilder fingerprintBuilder = new CanonicalFingerprintBuilder(
       new GraphHeadToEmptyString(),  new VertexToDataString(), new EdgeToDataString(), true);
 
     // create canonical labels for all graph heads and choose representative for all distinct ones
-    return camBuilder
+    return fingerprintBuilder
       .getGraphHeadStrings(collection);
   }
 
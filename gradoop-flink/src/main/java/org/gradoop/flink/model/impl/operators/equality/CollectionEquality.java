@@ -21,8 +21,11 @@ import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
 import org.gradoop.flink.model.api.operators.BinaryCollectionToValueOperator;
+import org.gradoop.flink.model.impl.functions.bool.And;
 import org.gradoop.flink.model.impl.functions.bool.Equals;
+import org.gradoop.flink.model.impl.functions.bool.TrueInBroadcast;
 import org.gradoop.flink.model.impl.operators.tostring.CanonicalAdjacencyMatrixBuilder;
+import org.gradoop.flink.model.impl.operators.tostring.CanonicalFingerprintBuilder;
 import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
 import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
@@ -30,6 +33,10 @@ import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
 /**
  * Operator to determine if two graph collections are equal according to given
  * string representations of graph heads, vertices and edges.
+ *
+ * Collections are first compared by the fingerprints of their graphs. Only if
+ * all fingerprints match, the canonical adjacency matrices are built to verify
+ * the result.
  */
 public class CollectionEquality
   implements BinaryCollectionToValueOperator<Boolean> {
@@ -40,6 +47,12 @@ public class CollectionEquality
    */
   private final CanonicalAdjacencyMatrixBuilder canonicalAdjacencyMatrixBuilder;
 
+  /**
+   * builder to create the fingerprints of graph collections used for a fast
+   * pre-comparison.
+   */
+  private final CanonicalFingerprintBuilder canonicalFingerprintBuilder;
+
   /**
    * constructor to set string representations
    * @param graphHeadToString string representation of graph heads
@@ -55,15 +68,48 @@ public class CollectionEquality
    */
     this.canonicalAdjacencyMatrixBuilder = new CanonicalAdjacencyMatrixBuilder(
         graphHeadToString, vertexToString, edgeToString, directed);
+    this.canonicalFingerprintBuilder = new CanonicalFingerprintBuilder(
+      graphHeadToString, vertexToString, edgeToString, directed,
+      CanonicalFingerprintBuilder.DEFAULT_ITERATIONS, false);
   }
 
   @Override
   public DataSet<Boolean> execute(GraphCollection firstCollection,
     GraphCollection secondCollection) {
-    return Equals.cross(
-      canonicalAdjacencyMatrixBuilder.execute(firstCollection),
-      canonicalAdjacencyMatrixBuilder.execute(secondCollection)
+    DataSet<Boolean> equalFingerprints = Equals.cross(
+      canonicalFingerprintBuilder.execute(firstCollection),
+      canonicalFingerprintBuilder.execute(secondCollection)
+    );
+
+    DataSet<Boolean> equalMatrices = Equals.cross(
+      canonicalAdjacencyMatrixBuilder
+        .execute(ifTrue(firstCollection, equalFingerprints)),
+      canonicalAdjacencyMatrixBuilder
+        .execute(ifTrue(secondCollection, equalFingerprints))
     );
+
+    return And.cross(equalFingerprints, equalMatrices);
+  }
+
+  /**
+   * Returns the given collection if the condition is true, an empty one otherwise.
+   *
+   * @param collection graph collection
+   * @param condition 1-element boolean dataset
+   * @return given or empty collection
+   */
+  private GraphCollection ifTrue(GraphCollection collection,
+    DataSet<Boolean> condition) {
+    return collection.getConfig().getGraphCollectionFactory().fromDataSets(
+      collection.getGraphHeads()
+        .filter(new TrueInBroadcast<>())
+        .withBroadcastSet(condition, TrueInBroadcast.VALUE),
+      collection.getVertices()
+        .filter(new TrueInBroadcast<>())
+        .withBroadcastSet(condition, TrueInBroadcast.VALUE),
+      collection.getEdges()
+        .filter(new TrueInBroadcast<>())
+        .withBroadcastSet(condition, TrueInBroadcast.VALUE));
   }
 
   @Override
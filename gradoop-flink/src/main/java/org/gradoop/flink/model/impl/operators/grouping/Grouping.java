@@ -308,6 +308,12 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
      * True, iff edge labels shall be considered.
      */
     private boolean useEdgeLabel;
+
+    /**
+     * True, iff the super vertex mapping shall be joined instead of broadcasted
+     * (only used by {@link GroupingStrategy#GROUP_COMBINE}).
+     */
+    private boolean useSuperVertexMappingJoin;
     /**
      * Stores grouping keys for a specific vertex label.
      */
@@ -344,6 +350,7 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
     public GroupingBuilder() {
       this.useVertexLabel           = false;
       this.useEdgeLabel             = false;
+      this.useSuperVertexMappingJoin = false;
       this.vertexLabelGroups        = Lists.newArrayList();
       this.edgeLabelGroups          = Lists.newArrayList();
       this.globalVertexAggregators  = Lists.newArrayList();
@@ -585,6 +592,20 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
       return this;
     }
 
+    /**
+     * Define, if the mapping from intermediate to final super vertex ids shall be joined with
+     * the vertices instead of being broadcasted to each worker. This is only used by
+     * {@link GroupingStrategy#GROUP_COMBINE} and should be enabled if the number of super
+     * vertex candidates is too large to be held in memory on each worker.
+     *
+     * @param useSuperVertexMappingJoin true, iff the mapping shall be joined
+     * @return this builder
+     */
+    public GroupingBuilder useSuperVertexMappingJoin(boolean useSuperVertexMappingJoin) {
+      this.useSuperVertexMappingJoin = useSuperVertexMappingJoin;
+      return this;
+    }
+
     /**
      * Add an aggregate function which is applied on all vertices represented by a single super
      * vertex which do not have a specific label group.
@@ -670,7 +691,8 @@ public abstract class Grouping implements UnaryGraphToGraphOperator {
         break;
       case GROUP_COMBINE:
         groupingOperator = new GroupingGroupCombine(
-          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups);
+          useVertexLabel, useEdgeLabel, vertexLabelGroups, edgeLabelGroups,
+          useSuperVertexMappingJoin);
         break;
       default:
         throw new IllegalArgumentException("Unsupported strategy: " + strategy);
@@ -17,6 +17,7 @@ package org.gradoop.flink.model.impl.operators.grouping;
 
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
@@ -25,7 +26,9 @@ import org.gradoop.flink.model.impl.functions.tuple.Value1Of2;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildSuperVertex;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexGroupItem;
 import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertexBC;
+import org.gradoop.flink.model.impl.operators.grouping.functions.BuildVertexWithSuperVertexJoin;
 import org.gradoop.flink.model.impl.operators.grouping.functions.CombineVertexGroupItems;
+import org.gradoop.flink.model.impl.operators.grouping.functions.ExpandSuperVertexMapping;
 import org.gradoop.flink.model.impl.operators.grouping.functions.FilterRegularVertices;
 import org.gradoop.flink.model.impl.operators.grouping.functions.FilterSuperVertices;
 import org.gradoop.flink.model.impl.operators.grouping.functions.TransposeVertexGroupItems;
@@ -54,7 +57,8 @@ import java.util.List;
  *       mapping from the final super vertex id to the super vertex ids of the
  *       original partitions is also created.
  *    b) non-candidate tuples are mapped to {@link VertexWithSuperVertex} using
- *       the broadcasted mapping output of 4a)
+ *       the broadcasted mapping output of 4a) or, if configured, by joining
+ *       them with the expanded mapping
  * 5) Map edges to a minimal representation, i.e. {@link EdgeGroupItem}
  * 6) Join edges with output of 4b) and replace source/target id with super
  *    vertex id.
@@ -64,6 +68,11 @@ import java.util.List;
  * 9) Group reduce globally and create final super edges.
  */
 public class GroupingGroupCombine extends Grouping {
+  /**
+   * True, iff the super vertex mapping shall be joined with the vertices instead
+   * of being broadcasted.
+   */
+  private final boolean useMappingJoin;
 
   /**
    * Creates grouping operator instance.
@@ -78,7 +87,26 @@ public class GroupingGroupCombine extends Grouping {
     boolean useEdgeLabels,
     List<LabelGroup> vertexLabelGroups,
     List<LabelGroup> edgeLabelGroups) {
+    this(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups, false);
+  }
+
+  /**
+   * Creates grouping operator instance.
+   *
+   * @param useVertexLabels   group on vertex label true/false
+   * @param useEdgeLabels     group on edge label true/false
+   * @param vertexLabelGroups stores grouping properties for vertex labels
+   * @param edgeLabelGroups   stores grouping properties for edge labels
+   * @param useMappingJoin    join the super vertex mapping instead of broadcasting it
+   */
+  GroupingGroupCombine(
+    boolean useVertexLabels,
+    boolean useEdgeLabels,
+    List<LabelGroup> vertexLabelGroups,
+    List<LabelGroup> edgeLabelGroups,
+    boolean useMappingJoin) {
     super(useVertexLabels, useEdgeLabels, vertexLabelGroups, edgeLabelGroups);
+    this.useMappingJoin = useMappingJoin;
   }
 
   @Override
@@ -111,10 +139,24 @@ public class GroupingGroupCombine extends Grouping {
 
     // filter non-candidates from combiner output
     // update their vertex representative according to the mapping
-    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap = combinedVertexGroupItems
-      .filter(new FilterRegularVertices())
-      .map(new BuildVertexWithSuperVertexBC())
-      .withBroadcastSet(mapping, BuildVertexWithSuperVertexBC.BC_MAPPING);
+    DataSet<VertexGroupItem> regularVertices = combinedVertexGroupItems
+      .filter(new FilterRegularVertices());
+
+    DataSet<VertexWithSuperVertex> vertexToRepresentativeMap;
+    if (useMappingJoin) {
+      // (final super vertex id, super vertex id)
+      DataSet<Tuple2<GradoopId, GradoopId>> expandedMapping = mapping
+        .flatMap(new ExpandSuperVertexMapping());
+
+      vertexToRepresentativeMap = regularVertices
+        .join(expandedMapping)
+        .where(1).equalTo(1)
+        .with(new BuildVertexWithSuperVertexJoin());
+    } else {
+      vertexToRepresentativeMap = regularVertices
+        .map(new BuildVertexWithSuperVertexBC())
+        .withBroadcastSet(mapping, BuildVertexWithSuperVertexBC.BC_MAPPING);
+    }
 
     // build super edges
     DataSet<Edge> superEdges = buildSuperEdges(graph, vertexToRepresentativeMap);
@@ -20,6 +20,8 @@ import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
 import org.gradoop.common.model.api.entities.EPGMAttributed;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.PropertyValueAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.SketchAggregator;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketches;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.properties.PropertyValueList;
 import org.gradoop.flink.model.impl.operators.grouping.tuples.LabelGroup;
@@ -137,6 +139,8 @@ abstract class BuildBase implements Serializable {
       propertyKey = valueAggregator.getPropertyKey();
       if (valueAggregator instanceof CountAggregator) {
         propertyValues.add(ONE);
+      } else if (valueAggregator instanceof SketchAggregator && element.hasProperty(propertyKey)) {
+        propertyValues.add(Sketches.singleton(element.getPropertyValue(propertyKey)));
       } else if (element.hasProperty(propertyKey)) {
         propertyValues.add(element.getPropertyValue(propertyKey));
       } else {
@@ -199,7 +203,7 @@ abstract class BuildBase implements Serializable {
       for (PropertyValueAggregator valueAggregator : valueAggregators) {
         element.setProperty(
           valueAggregator.getAggregatePropertyKey(),
-          valueAggregator.getAggregate());
+          getFinalValue(valueAggregator, valueAggregator.getAggregate()));
       }
     }
   }
@@ -220,8 +224,23 @@ abstract class BuildBase implements Serializable {
 
       for (PropertyValueAggregator valueAggregator : valueAggregators) {
         PropertyValue value = valueIt.next();
-        element.setProperty(valueAggregator.getAggregatePropertyKey(), value);
+        element.setProperty(
+          valueAggregator.getAggregatePropertyKey(), getFinalValue(valueAggregator, value));
       }
     }
   }
+
+  /**
+   * Returns the value stored for the given aggregate. Sketch aggregates are converted to their
+   * final value, all other aggregates are returned unchanged.
+   *
+   * @param valueAggregator aggregate function
+   * @param aggregate aggregate value
+   * @return final aggregate value
+   */
+  private PropertyValue getFinalValue(
+    PropertyValueAggregator valueAggregator, PropertyValue aggregate) {
+    return valueAggregator instanceof SketchAggregator ?
+      ((SketchAggregator<?>) valueAggregator).getFinalValue(aggregate) : aggregate;
+  }
 }
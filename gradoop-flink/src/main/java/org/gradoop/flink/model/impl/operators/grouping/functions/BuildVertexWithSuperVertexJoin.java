@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexGroupItem;
+import org.gradoop.flink.model.impl.operators.grouping.tuples.VertexWithSuperVertex;
+
+/**
+ * Joins a {@link VertexGroupItem} with a (final super vertex id, super vertex id)
+ * tuple and creates a {@link VertexWithSuperVertex} containing the final super
+ * vertex id.
+ *
+ * This is the alternative to {@link BuildVertexWithSuperVertexBC} if the
+ * mapping is too large to be broadcasted.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0") // vertex id
+@FunctionAnnotation.ForwardedFieldsSecond("f0->f1") // final super vertex id
+public class BuildVertexWithSuperVertexJoin implements
+  JoinFunction<VertexGroupItem, Tuple2<GradoopId, GradoopId>, VertexWithSuperVertex> {
+  /**
+   * Reduce object instantiation
+   */
+  private final VertexWithSuperVertex reuseTuple;
+
+  /**
+   * Creates the join function.
+   */
+  public BuildVertexWithSuperVertexJoin() {
+    this.reuseTuple = new VertexWithSuperVertex();
+  }
+
+  @Override
+  public VertexWithSuperVertex join(VertexGroupItem item,
+    Tuple2<GradoopId, GradoopId> mapping) throws Exception {
+    reuseTuple.setVertexId(item.getVertexId());
+    reuseTuple.setSuperVertexId(mapping.f0);
+    return reuseTuple;
+  }
+}
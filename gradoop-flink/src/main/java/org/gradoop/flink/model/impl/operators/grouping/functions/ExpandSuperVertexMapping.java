@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.tuples.IdWithIdSet;
+
+/**
+ * Takes a mapping from a final super vertex id to the set of super vertex ids
+ * representing the same group and creates a (final super vertex id, super vertex id)
+ * tuple for each id in that set.
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class ExpandSuperVertexMapping
+  implements FlatMapFunction<IdWithIdSet, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Reduce object instantiation
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates the flat map function.
+   */
+  public ExpandSuperVertexMapping() {
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public void flatMap(IdWithIdSet group, Collector<Tuple2<GradoopId, GradoopId>> out)
+    throws Exception {
+    reuseTuple.f0 = group.getId();
+    for (GradoopId superVertexId : group.getIdSet()) {
+      reuseTuple.f1 = superVertexId;
+      out.collect(reuseTuple);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Used to estimate the number of distinct property values using a {@link HyperLogLog} sketch.
+ */
+public class DistinctCountAggregator extends SketchAggregator<HyperLogLog> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of index bits of the sketch.
+   */
+  private final int precision;
+
+  /**
+   * Creates a new aggregator using {@link HyperLogLog#DEFAULT_PRECISION}.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   */
+  public DistinctCountAggregator(String propertyKey, String aggregatePropertyKey) {
+    this(propertyKey, aggregatePropertyKey, HyperLogLog.DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   * @param precision             number of index bits of the sketch (4 to 16)
+   */
+  public DistinctCountAggregator(String propertyKey, String aggregatePropertyKey,
+    int precision) {
+    super(propertyKey, aggregatePropertyKey);
+    this.precision = precision;
+  }
+
+  @Override
+  protected HyperLogLog createSketch() {
+    return new HyperLogLog(precision);
+  }
+
+  @Override
+  protected HyperLogLog readSketch(DataInput in) throws IOException {
+    return HyperLogLog.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(HyperLogLog sketch) {
+    return PropertyValue.create(sketch.estimate());
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.CountMinSketch;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Used to find the most frequent property values using a {@link CountMinSketch}. The final
+ * aggregate maps each of the (at most) {@code k} most frequent values to its estimated frequency.
+ */
+public class HeavyHittersAggregator extends SketchAggregator<CountMinSketch> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Number of returned values.
+   */
+  private final int k;
+
+  /**
+   * Number of counters per row of the sketch.
+   */
+  private final int width;
+
+  /**
+   * Number of rows of the sketch.
+   */
+  private final int depth;
+
+  /**
+   * Creates a new aggregator using {@link CountMinSketch#DEFAULT_WIDTH} and
+   * {@link CountMinSketch#DEFAULT_DEPTH}.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   * @param k                     number of returned values
+   */
+  public HeavyHittersAggregator(String propertyKey, String aggregatePropertyKey, int k) {
+    this(propertyKey, aggregatePropertyKey, k, CountMinSketch.DEFAULT_WIDTH,
+      CountMinSketch.DEFAULT_DEPTH);
+  }
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   * @param k                     number of returned values
+   * @param width                 number of counters per row of the sketch
+   * @param depth                 number of rows of the sketch
+   */
+  public HeavyHittersAggregator(String propertyKey, String aggregatePropertyKey, int k,
+    int width, int depth) {
+    super(propertyKey, aggregatePropertyKey);
+    this.k = k;
+    this.width = width;
+    this.depth = depth;
+  }
+
+  @Override
+  protected CountMinSketch createSketch() {
+    // track more candidates than returned, so that late heavy hitters can still enter
+    return new CountMinSketch(2 * k, width, depth);
+  }
+
+  @Override
+  protected CountMinSketch readSketch(DataInput in) throws IOException {
+    return CountMinSketch.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(CountMinSketch sketch) {
+    Map<PropertyValue, PropertyValue> result = new HashMap<>();
+    for (Map.Entry<PropertyValue, Long> entry : sketch.getTopK(k).entrySet()) {
+      result.put(entry.getKey(), PropertyValue.create(entry.getValue()));
+    }
+    return PropertyValue.create(result);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.QuantileSketch;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Used to approximate a quantile of numerical property values using a {@link QuantileSketch}.
+ */
+public class QuantileAggregator extends SketchAggregator<QuantileSketch> {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Quantile between 0 and 1.
+   */
+  private final double quantile;
+
+  /**
+   * Capacity per level of the sketch.
+   */
+  private final int k;
+
+  /**
+   * Creates a new aggregator using {@link QuantileSketch#DEFAULT_K}.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   * @param quantile              quantile between 0 and 1, e.g. 0.5 for the median
+   */
+  public QuantileAggregator(String propertyKey, String aggregatePropertyKey, double quantile) {
+    this(propertyKey, aggregatePropertyKey, quantile, QuantileSketch.DEFAULT_K);
+  }
+
+  /**
+   * Creates a new aggregator.
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   * @param quantile              quantile between 0 and 1, e.g. 0.5 for the median
+   * @param k                     capacity per level of the sketch
+   */
+  public QuantileAggregator(String propertyKey, String aggregatePropertyKey, double quantile,
+    int k) {
+    super(propertyKey, aggregatePropertyKey);
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    this.quantile = quantile;
+    this.k = k;
+  }
+
+  @Override
+  protected QuantileSketch createSketch() {
+    return new QuantileSketch(k);
+  }
+
+  @Override
+  protected QuantileSketch readSketch(DataInput in) throws IOException {
+    return QuantileSketch.read(in);
+  }
+
+  @Override
+  protected PropertyValue getResult(QuantileSketch sketch) {
+    return PropertyValue.create(sketch.getQuantile(quantile));
+  }
+}
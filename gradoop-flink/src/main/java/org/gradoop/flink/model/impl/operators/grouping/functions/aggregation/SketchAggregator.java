@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping.functions.aggregation;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketch;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.Sketches;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * Base class for aggregators that summarize property values in a mergeable sketch.
+ *
+ * The aggregator consumes single property values wrapped by {@link Sketches#singleton} and
+ * serialized partial sketches. {@link #getAggregate()} returns the serialized sketch, so that
+ * partial aggregates can be combined, {@link #getFinalValue(PropertyValue)} computes the value
+ * stored at the super vertex or super edge.
+ *
+ * @param <S> sketch type
+ */
+public abstract class SketchAggregator<S extends Sketch<S>> extends PropertyValueAggregator {
+  /**
+   * Class version for serialization.
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Internal sketch.
+   */
+  private S sketch;
+
+  /**
+   * Creates a new aggregator
+   *
+   * @param propertyKey           property key to access values
+   * @param aggregatePropertyKey  property key for final aggregate value
+   */
+  protected SketchAggregator(String propertyKey, String aggregatePropertyKey) {
+    super(propertyKey, aggregatePropertyKey);
+  }
+
+  /**
+   * Creates an empty sketch.
+   *
+   * @return empty sketch
+   */
+  protected abstract S createSketch();
+
+  /**
+   * Reads a sketch serialized by this aggregator.
+   *
+   * @param in input
+   * @return sketch
+   * @throws IOException on failure
+   */
+  protected abstract S readSketch(DataInput in) throws IOException;
+
+  /**
+   * Computes the final value from a sketch.
+   *
+   * @param sketch sketch
+   * @return final value
+   */
+  protected abstract PropertyValue getResult(S sketch);
+
+  /**
+   * Converts an aggregate returned by {@link #getAggregate()} to the final value.
+   *
+   * @param aggregate serialized sketch
+   * @return final value
+   */
+  public PropertyValue getFinalValue(PropertyValue aggregate) {
+    return aggregate.isNull() ? aggregate :
+      getResult(Sketches.toSketch(aggregate, this::readSketch, createSketch()));
+  }
+
+  @Override
+  protected boolean isInitialized() {
+    return sketch != null;
+  }
+
+  @Override
+  protected void initializeAggregate(PropertyValue value) {
+    sketch = createSketch();
+  }
+
+  @Override
+  protected void aggregateInternal(PropertyValue value) {
+    Sketches.add(sketch, value, this::readSketch);
+  }
+
+  @Override
+  protected PropertyValue getAggregateInternal() {
+    return Sketches.toPropertyValue(sketch);
+  }
+
+  @Override
+  public void resetAggregate() {
+    sketch = null;
+  }
+}
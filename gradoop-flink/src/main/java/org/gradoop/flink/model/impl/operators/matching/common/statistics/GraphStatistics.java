@@ -15,10 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import com.google.common.hash.Hashing;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Represents several statistics related to a {@link LogicalGraph}.
@@ -84,6 +88,18 @@ public class GraphStatistics {
    * Number of distinct vertex property values for property names
    */
   private Map<String, Long> distinctVertexProperties;
+  /**
+   * Value distribution of edge properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyStatistics>> edgePropertyStatisticsByLabel;
+  /**
+   * Value distribution of vertex properties of a given label - property name pair
+   */
+  private Map<String, Map<String, PropertyStatistics>> vertexPropertyStatisticsByLabel;
+  /**
+   * Hash of the textual representation, computed on first access
+   */
+  private String fingerprint;
 
   /**
    * Constructor using basic statistics.
@@ -140,6 +156,57 @@ public class GraphStatistics {
     Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
     Map<String, Long> distinctEdgeProperties,
     Map<String, Long> distinctVertexProperties) {
+    this(vertexCount,
+      edgeCount,
+      vertexCountByLabel,
+      edgeCountByLabel,
+      edgeCountBySourceVertexAndEdgeLabel,
+      edgeCountByTargetVertexAndEdgeLabel,
+      distinctSourceVertexCount,
+      distinctTargetVertexCount,
+      distinctSourceVertexCountByEdgeLabel,
+      distinctTargetVertexCountByEdgeLabel,
+      distinctEdgePropertiesByLabel,
+      distinctVertexPropertiesByLabel,
+      distinctEdgeProperties,
+      distinctVertexProperties,
+      Collections.emptyMap(),
+      Collections.emptyMap());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param vertexCount number of vertices
+   * @param edgeCount number of edges
+   * @param vertexCountByLabel number of vertices by label
+   * @param edgeCountByLabel number of edges by label
+   * @param edgeCountBySourceVertexAndEdgeLabel number of edges by source vertex and edge label
+   * @param edgeCountByTargetVertexAndEdgeLabel number of edges by target vertex and edge label
+   * @param distinctSourceVertexCount number of distinct source vertices
+   * @param distinctTargetVertexCount number of distinct target vertices
+   * @param distinctSourceVertexCountByEdgeLabel number of distinct source vertices by edge label
+   * @param distinctTargetVertexCountByEdgeLabel number of distinct target vertices by edge label
+   * @param distinctEdgePropertiesByLabel (label,property) -> distinct values
+   * @param distinctVertexPropertiesByLabel (label,property) -> distinct values
+   * @param distinctEdgeProperties (edge property) -> distinct values
+   * @param distinctVertexProperties (vertex property) -> distinct values
+   * @param edgePropertyStatisticsByLabel (label,property) -> value distribution
+   * @param vertexPropertyStatisticsByLabel (label,property) -> value distribution
+   */
+  GraphStatistics(long vertexCount, long edgeCount, Map<String, Long> vertexCountByLabel,
+    Map<String, Long> edgeCountByLabel,
+    Map<String, Map<String, Long>> edgeCountBySourceVertexAndEdgeLabel,
+    Map<String, Map<String, Long>> edgeCountByTargetVertexAndEdgeLabel,
+    long distinctSourceVertexCount, long distinctTargetVertexCount,
+    Map<String, Long> distinctSourceVertexCountByEdgeLabel,
+    Map<String, Long> distinctTargetVertexCountByEdgeLabel,
+    Map<String, Map<String, Long>> distinctEdgePropertiesByLabel,
+    Map<String, Map<String, Long>> distinctVertexPropertiesByLabel,
+    Map<String, Long> distinctEdgeProperties,
+    Map<String, Long> distinctVertexProperties,
+    Map<String, Map<String, PropertyStatistics>> edgePropertyStatisticsByLabel,
+    Map<String, Map<String, PropertyStatistics>> vertexPropertyStatisticsByLabel) {
     this.vertexCount = vertexCount;
     this.edgeCount = edgeCount;
     this.vertexCountByLabel = vertexCountByLabel;
@@ -154,6 +221,8 @@ public class GraphStatistics {
     this.distinctVertexPropertiesByLabel = distinctVertexPropertiesByLabel;
     this.distinctEdgeProperties = distinctEdgeProperties;
     this.distinctVertexProperties = distinctVertexProperties;
+    this.edgePropertyStatisticsByLabel = edgePropertyStatisticsByLabel;
+    this.vertexPropertyStatisticsByLabel = vertexPropertyStatisticsByLabel;
   }
 
   /**
@@ -306,6 +375,83 @@ public class GraphStatistics {
       distinctEdgePropertiesByLabel.get(edgeLabel).getOrDefault(propertyName, 0L) : 0;
   }
 
+  /**
+   * Returns the value distribution of the given vertex label property name pair, if available.
+   *
+   * @param vertexLabel vertex label
+   * @param propertyName property name
+   * @return value distribution of the property among vertices with the given label
+   */
+  public Optional<PropertyStatistics> getVertexPropertyStatistics(String vertexLabel,
+    String propertyName) {
+    return Optional.ofNullable(vertexPropertyStatisticsByLabel.get(vertexLabel))
+      .map(statistics -> statistics.get(propertyName));
+  }
+
+  /**
+   * Returns the value distribution of the given edge label property name pair, if available.
+   *
+   * @param edgeLabel edge label
+   * @param propertyName property name
+   * @return value distribution of the property among edges with the given label
+   */
+  public Optional<PropertyStatistics> getEdgePropertyStatistics(String edgeLabel,
+    String propertyName) {
+    return Optional.ofNullable(edgePropertyStatisticsByLabel.get(edgeLabel))
+      .map(statistics -> statistics.get(propertyName));
+  }
+
+  /**
+   * Returns the value distributions of the given vertex property name for all vertex labels.
+   *
+   * @param propertyName property name
+   * @return vertex label -> value distribution
+   */
+  public Map<String, PropertyStatistics> getVertexPropertyStatistics(String propertyName) {
+    return getPropertyStatistics(vertexPropertyStatisticsByLabel, propertyName);
+  }
+
+  /**
+   * Returns the value distributions of the given edge property name for all edge labels.
+   *
+   * @param propertyName property name
+   * @return edge label -> value distribution
+   */
+  public Map<String, PropertyStatistics> getEdgePropertyStatistics(String propertyName) {
+    return getPropertyStatistics(edgePropertyStatisticsByLabel, propertyName);
+  }
+
+  /**
+   * Collects the value distributions of the given property name for all labels.
+   *
+   * @param statisticsByLabel label -> property name -> value distribution
+   * @param propertyName property name
+   * @return label -> value distribution
+   */
+  private static Map<String, PropertyStatistics> getPropertyStatistics(
+    Map<String, Map<String, PropertyStatistics>> statisticsByLabel, String propertyName) {
+    Map<String, PropertyStatistics> result = new HashMap<>();
+    statisticsByLabel.forEach((label, statistics) -> {
+        if (statistics.containsKey(propertyName)) {
+          result.put(label, statistics.get(propertyName));
+        }
+      });
+    return result;
+  }
+
+  /**
+   * Returns a fingerprint of the contained statistics. Two instances with the same fingerprint
+   * lead to the same query plans. The fingerprint is computed once per instance.
+   *
+   * @return hash of all contained statistics
+   */
+  public String getFingerprint() {
+    if (fingerprint == null) {
+      fingerprint = Hashing.murmur3_128().hashString(toString(), StandardCharsets.UTF_8).toString();
+    }
+    return fingerprint;
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("GraphStatistics{");
@@ -337,6 +483,10 @@ public class GraphStatistics {
       .append(distinctVertexPropertiesByLabel);
     sb.append(String.format(",%n distinctEdgePropertiesByLabel="))
       .append(distinctEdgePropertiesByLabel);
+    sb.append(String.format(",%n vertexPropertyStatisticsByLabel="))
+      .append(vertexPropertyStatisticsByLabel);
+    sb.append(String.format(",%n edgePropertyStatisticsByLabel="))
+      .append(edgePropertyStatisticsByLabel);
 
     sb.append(String.format("%n}"));
     return sb.toString();
@@ -23,6 +23,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -33,7 +34,9 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property statistics files are optional, property predicates are estimated using default
+   * selectivities if they are missing.
    *
    * @param inputPath path to directory containing statistics files
    * @param configuration Hadoop configuration
@@ -60,6 +63,10 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
     Map<String, Map<String, Long>> distinctPropertyValuesByVertexLabelAndPropertyName;
     Map<String, Long> distinctEdgePropertyValuesByPropertyName;
     Map<String, Long> distinctVertexPropertyValuesByPropertyName;
+    Map<String, Map<String, PropertyStatistics>> edgePropertyStatisticsByLabel =
+      Collections.emptyMap();
+    Map<String, Map<String, PropertyStatistics>> vertexPropertyStatisticsByLabel =
+      Collections.emptyMap();
 
     Path p = new Path(root, GraphStatisticsReader.FILE_VERTEX_COUNT);
     try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
@@ -135,11 +142,26 @@ public class GraphStatisticsHDFSReader extends GraphStatisticsReader {
       distinctVertexPropertyValuesByPropertyName = readKeyValueMap(br.lines());
     }
 
+    p = new Path(root, GraphStatisticsReader.FILE_EDGE_PROPERTY_STATISTICS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        edgePropertyStatisticsByLabel = readPropertyStatistics(br.lines());
+      }
+    }
+
+    p = new Path(root, GraphStatisticsReader.FILE_VERTEX_PROPERTY_STATISTICS_BY_LABEL);
+    if (fs.exists(p)) {
+      try (BufferedReader br = new BufferedReader(new InputStreamReader(fs.open(p), charset))) {
+        vertexPropertyStatisticsByLabel = readPropertyStatistics(br.lines());
+      }
+    }
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount, distinctSourceVertexCountByEdgeLabel,
       distinctTargetVertexCountByEdgeLabel, distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
-      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName);
+      distinctEdgePropertyValuesByPropertyName, distinctVertexPropertyValuesByPropertyName,
+      edgePropertyStatisticsByLabel, vertexPropertyStatisticsByLabel);
   }
 }
@@ -21,6 +21,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -31,7 +32,9 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
    * Reads statistics from files contains in the specified directory and creates a
    * {@link GraphStatistics} object from them.
    *
-   * The method expects all files to be present and formatted according to the docs.
+   * The method expects all files to be present and formatted according to the docs. Only the
+   * property statistics files are optional, property predicates are estimated using default
+   * selectivities if they are missing.
    *
    * @param inputPath path to directory containing statistics files
    * @return graph statistics
@@ -98,6 +101,16 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
     Map<String, Long> distinctVertexPropertyValuesByPropertyName =
       readKeyValueMap(Files.lines(p, charset));
 
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_EDGE_PROPERTY_STATISTICS_BY_LABEL));
+    Map<String, Map<String, PropertyStatistics>> edgePropertyStatisticsByLabel =
+      Files.exists(p) ? readPropertyStatistics(Files.lines(p, charset)) : Collections.emptyMap();
+
+    p = statisticsDir.resolve(Paths.get(
+      GraphStatisticsReader.FILE_VERTEX_PROPERTY_STATISTICS_BY_LABEL));
+    Map<String, Map<String, PropertyStatistics>> vertexPropertyStatisticsByLabel =
+      Files.exists(p) ? readPropertyStatistics(Files.lines(p, charset)) : Collections.emptyMap();
+
     return new GraphStatistics(vertexCount, edgeCount, vertexCountByLabel, edgeCountByLabel,
       edgeCountBySourceVertexAndEdgeLabel, edgeCountByTargetVertexAndEdgeLabel,
       distinctSourceVertexCount, distinctTargetVertexCount,
@@ -105,7 +118,9 @@ public class GraphStatisticsLocalFSReader extends GraphStatisticsReader {
       distinctPropertyValuesByEdgeLabelAndPropertyName,
       distinctPropertyValuesByVertexLabelAndPropertyName,
       distinctEdgePropertyValuesByPropertyName,
-      distinctVertexPropertyValuesByPropertyName);
+      distinctVertexPropertyValuesByPropertyName,
+      edgePropertyStatisticsByLabel,
+      vertexPropertyStatisticsByLabel);
   }
 
 }
@@ -15,8 +15,14 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +35,14 @@ public abstract class GraphStatisticsReader {
    * Separates tokens in a single line
    */
   public static final String TOKEN_SEPARATOR = ",";
+  /**
+   * Separates multiple values within a single token
+   */
+  public static final String VALUE_SEPARATOR = ";";
+  /**
+   * Separates a value from its frequency within a single token
+   */
+  public static final String FREQUENCY_SEPARATOR = ":";
   /**
    * Single line containing the total vertex count, e.g.
    *
@@ -195,6 +209,33 @@ public abstract class GraphStatisticsReader {
    */
   public static final String FILE_DISTINCT_VERTEX_PROPERTIES = "distinct_vertex_properties";
 
+  /**
+   * Each line contains the edge label, a property name, the number of edges having the property,
+   * the (approximate) number of distinct values, the most common values with their frequencies and
+   * the bounds of an equi-depth histogram. Values are Base64 encoded property values, e.g.
+   *
+   * BOF
+   * knows,since,10,3,AgAAB94=:4;AgAAB90=:3;AgAAB98=:3,AgAAB90=;AgAAB94=;AgAAB98=
+   * hasModerator,since,1,1,,
+   * EOF
+   */
+  public static final String FILE_EDGE_PROPERTY_STATISTICS_BY_LABEL =
+    "edge_property_statistics_by_label";
+
+  /**
+   * Each line contains the vertex label, a property name, the number of vertices having the
+   * property, the (approximate) number of distinct values, the most common values with their
+   * frequencies and the bounds of an equi-depth histogram. Values are Base64 encoded property
+   * values, e.g.
+   *
+   * BOF
+   * Person,gender,6,2,BmY=:3;Bm0=:3,BmY=;BmY=;BmY=;Bm0=;Bm0=;Bm0=
+   * Tag,name,3,3,,BkRhdGFiYXNlcw==;BkdyYXBocw==;BkhhZG9vcA==
+   * EOF
+   */
+  public static final String FILE_VERTEX_PROPERTY_STATISTICS_BY_LABEL =
+    "vertex_property_statistics_by_label";
+
   /**
    * Reads a single {@link Long} value from the specified file.
    *
@@ -251,4 +292,57 @@ public abstract class GraphStatisticsReader {
 
     return mapping;
   }
+
+  /**
+   * Reads property statistics grouped by label and property name from the given file.
+   *
+   * @param lines stream of lines in the file
+   * @return label -> property name -> property statistics
+   * @throws IOException if an I/O error occurs opening the file
+   */
+  static Map<String, Map<String, PropertyStatistics>> readPropertyStatistics(Stream<String> lines)
+      throws IOException {
+
+    final Map<String, Map<String, PropertyStatistics>> mapping = new HashMap<>();
+
+    lines
+      .map(line -> line.split(TOKEN_SEPARATOR, -1))
+      .forEach(tokens -> {
+          Map<PropertyValue, Long> mostCommonValues = new LinkedHashMap<>();
+          for (String pair : splitValues(tokens[4])) {
+            String[] valueAndFrequency = pair.split(FREQUENCY_SEPARATOR);
+            mostCommonValues.put(decodeValue(valueAndFrequency[0]),
+              Long.parseLong(valueAndFrequency[1]));
+          }
+          List<PropertyValue> histogramBounds = new ArrayList<>();
+          for (String bound : splitValues(tokens[5])) {
+            histogramBounds.add(decodeValue(bound));
+          }
+          mapping.computeIfAbsent(tokens[0], label -> new HashMap<>())
+            .put(tokens[1], new PropertyStatistics(Long.parseLong(tokens[2]),
+              Long.parseLong(tokens[3]), mostCommonValues, histogramBounds));
+        });
+
+    return mapping;
+  }
+
+  /**
+   * Splits a token into its values.
+   *
+   * @param token token containing values separated by {@link #VALUE_SEPARATOR}
+   * @return values (empty, if the token is empty)
+   */
+  private static String[] splitValues(String token) {
+    return token.isEmpty() ? new String[0] : token.split(VALUE_SEPARATOR);
+  }
+
+  /**
+   * Decodes a Base64 encoded property value.
+   *
+   * @param encoded Base64 string of the property value bytes
+   * @return property value
+   */
+  private static PropertyValue decodeValue(String encoded) {
+    return PropertyValue.fromRawBytes(Base64.getDecoder().decode(encoded));
+  }
 }
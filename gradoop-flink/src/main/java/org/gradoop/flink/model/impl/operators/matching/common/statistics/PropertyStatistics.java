@@ -0,0 +1,371 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value distribution of a single property key among the elements of a label.
+ *
+ * The statistics consist of the number of elements that have the property, an (approximate)
+ * number of distinct values, a list of most common values with their frequencies and the bounds
+ * of an equi-depth histogram, i.e. {@code n + 1} sorted values that split the values into {@code n}
+ * buckets holding the same number of values each. The histogram only describes the values that
+ * are not among the most common values.
+ *
+ * All selectivities are relative to the number of elements that have the property.
+ */
+public class PropertyStatistics implements Serializable {
+  /**
+   * Selectivity of range predicates that cannot be estimated from a histogram.
+   */
+  public static final double DEFAULT_RANGE_SELECTIVITY = 1d / 3;
+  /**
+   * Number of elements having the property
+   */
+  private final long count;
+  /**
+   * Number of distinct property values
+   */
+  private final long distinctCount;
+  /**
+   * Most common values and their frequency
+   */
+  private final Map<PropertyValue, Long> mostCommonValues;
+  /**
+   * Sorted bounds of the equi-depth histogram
+   */
+  private final List<PropertyValue> histogramBounds;
+
+  /**
+   * Creates new property statistics.
+   *
+   * @param count number of elements having the property
+   * @param distinctCount number of distinct property values
+   * @param mostCommonValues most common values and their frequency
+   * @param histogramBounds sorted bounds of the equi-depth histogram over all values that are not
+   *                        among the most common values (may be empty)
+   */
+  public PropertyStatistics(long count, long distinctCount,
+    Map<PropertyValue, Long> mostCommonValues, List<PropertyValue> histogramBounds) {
+    this.count = count;
+    this.distinctCount = distinctCount;
+    this.mostCommonValues = mostCommonValues;
+    this.histogramBounds = histogramBounds;
+  }
+
+  /**
+   * Returns the number of elements having the property.
+   *
+   * @return number of elements
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the number of distinct property values.
+   *
+   * @return number of distinct values
+   */
+  public long getDistinctCount() {
+    return distinctCount;
+  }
+
+  /**
+   * Returns the most common values and their frequency.
+   *
+   * @return value -> frequency
+   */
+  public Map<PropertyValue, Long> getMostCommonValues() {
+    return Collections.unmodifiableMap(mostCommonValues);
+  }
+
+  /**
+   * Returns the sorted bounds of the equi-depth histogram.
+   *
+   * @return histogram bounds
+   */
+  public List<PropertyValue> getHistogramBounds() {
+    return Collections.unmodifiableList(histogramBounds);
+  }
+
+  /**
+   * Estimates the fraction of property values that satisfy {@code property comparator value}.
+   *
+   * @param comparator comparison operator
+   * @param value literal value
+   * @return estimated selectivity in [0, 1]
+   */
+  public double getSelectivity(Comparator comparator, PropertyValue value) {
+    double selectivity;
+    switch (comparator) {
+    case EQ:
+      selectivity = getEqualitySelectivity(value);
+      break;
+    case NEQ:
+      selectivity = 1d - getEqualitySelectivity(value);
+      break;
+    default:
+      selectivity = isRangeEstimable(value) ?
+        getRangeSelectivity(comparator, value) : DEFAULT_RANGE_SELECTIVITY;
+    }
+    return selectivity;
+  }
+
+  /**
+   * Estimates the fraction of property values that satisfy a range predicate using the histogram.
+   *
+   * @param comparator range comparison operator
+   * @param value literal value
+   * @return estimated selectivity in [0, 1]
+   */
+  private double getRangeSelectivity(Comparator comparator, PropertyValue value) {
+    double selectivity;
+    switch (comparator) {
+    case LT:
+      selectivity = getLessThanSelectivity(value, false);
+      break;
+    case LTE:
+      selectivity = getLessThanSelectivity(value, true);
+      break;
+    case GT:
+      selectivity = 1d - getLessThanSelectivity(value, true);
+      break;
+    case GTE:
+      selectivity = 1d - getLessThanSelectivity(value, false);
+      break;
+    default:
+      selectivity = 1d;
+    }
+    return selectivity;
+  }
+
+  /**
+   * Estimates the fraction of property values that are equal to the given value.
+   *
+   * Most common values use their recorded frequency. Other values are assumed to be uniformly
+   * distributed among the remaining distinct values.
+   *
+   * @param value literal value
+   * @return estimated selectivity in [0, 1]
+   */
+  public double getEqualitySelectivity(PropertyValue value) {
+    if (count == 0) {
+      return 0d;
+    }
+    Long frequency = getMostCommonFrequency(value);
+    if (frequency != null) {
+      return clamp((double) frequency / count);
+    }
+    long mcvSum = mostCommonValues.values().stream().mapToLong(Long::longValue).sum();
+    long remainingDistinct = Math.max(1L, distinctCount - mostCommonValues.size());
+    return clamp((1d - (double) mcvSum / count) / remainingDistinct);
+  }
+
+  /**
+   * Returns the frequency of the most common values that are equal to the given value. Numeric
+   * values are compared after promotion to a common type, as done by the predicate evaluation.
+   *
+   * @param value literal value
+   * @return summed frequency or {@code null} if the value is not among the most common values
+   */
+  private Long getMostCommonFrequency(PropertyValue value) {
+    if (!value.isNumber()) {
+      return mostCommonValues.get(value);
+    }
+    Long frequency = null;
+    for (Map.Entry<PropertyValue, Long> mostCommonValue : mostCommonValues.entrySet()) {
+      if (mostCommonValue.getKey().isNumber() && compare(mostCommonValue.getKey(), value) == 0) {
+        frequency = (frequency == null ? 0L : frequency) + mostCommonValue.getValue();
+      }
+    }
+    return frequency;
+  }
+
+  /**
+   * Estimates the fraction of property values that are less than (or equal to) the given value.
+   *
+   * Most common values contribute their recorded frequency. The histogram is assumed to be
+   * continuous and estimates the fraction of all other values below the literal, scaled by the
+   * share of values that are not among the most common values.
+   *
+   * @param value literal value
+   * @param orEqual true, iff values equal to the literal are included
+   * @return estimated selectivity in [0, 1]
+   */
+  private double getLessThanSelectivity(PropertyValue value, boolean orEqual) {
+    if (count == 0) {
+      return 0d;
+    }
+    long mcvSum = 0L;
+    long mcvLess = 0L;
+    for (Map.Entry<PropertyValue, Long> mostCommonValue : mostCommonValues.entrySet()) {
+      mcvSum += mostCommonValue.getValue();
+      if (isComparable(mostCommonValue.getKey(), value)) {
+        int comparison = compare(mostCommonValue.getKey(), value);
+        if (comparison < 0 || (orEqual && comparison == 0)) {
+          mcvLess += mostCommonValue.getValue();
+        }
+      }
+    }
+    double histogramFraction = hasComparableHistogram(value) ?
+      getHistogramFraction(value) : DEFAULT_RANGE_SELECTIVITY;
+    return clamp((mcvLess + histogramFraction * (count - mcvSum)) / count);
+  }
+
+  /**
+   * Estimates the fraction of histogram values that are less than the given value.
+   *
+   * @param value literal value
+   * @return estimated fraction in [0, 1]
+   */
+  private double getHistogramFraction(PropertyValue value) {
+    int buckets = histogramBounds.size() - 1;
+    if (compare(value, histogramBounds.get(0)) <= 0) {
+      return 0d;
+    }
+    if (compare(value, histogramBounds.get(buckets)) > 0) {
+      return 1d;
+    }
+    // find bucket i with bounds[i] < value <= bounds[i + 1]
+    int i = 0;
+    while (compare(value, histogramBounds.get(i + 1)) > 0) {
+      i++;
+    }
+    return (i + interpolate(histogramBounds.get(i), histogramBounds.get(i + 1), value)) / buckets;
+  }
+
+  /**
+   * Checks if range predicates on the given value can be estimated, i.e. if the value is sortable
+   * and either the histogram or a most common value can be compared to it.
+   *
+   * @param value literal value
+   * @return true, iff range predicates on the value can be estimated
+   */
+  private boolean isRangeEstimable(PropertyValue value) {
+    return isSortable(value) && (hasComparableHistogram(value) ||
+      mostCommonValues.keySet().stream().anyMatch(mcv -> isComparable(mcv, value)));
+  }
+
+  /**
+   * Checks if the histogram contains at least one bucket whose bounds can be compared to the
+   * given value.
+   *
+   * @param value literal value
+   * @return true, iff the histogram can be used to estimate range predicates on the value
+   */
+  private boolean hasComparableHistogram(PropertyValue value) {
+    return histogramBounds.size() > 1 && isSortable(value) &&
+      histogramBounds.stream().anyMatch(bound -> isComparable(bound, value));
+  }
+
+  /**
+   * Checks if two property values are sortable and of mutually comparable types.
+   *
+   * @param first first value
+   * @param second second value
+   * @return true, iff both values can be compared
+   */
+  private static boolean isComparable(PropertyValue first, PropertyValue second) {
+    return isSortable(first) && isSortable(second) && typeRank(first).equals(typeRank(second));
+  }
+
+  /**
+   * Returns the relative position of the given value within the bucket {@code (lower, upper]}.
+   * Numeric values are interpolated linearly, for all other types the bucket center is assumed.
+   *
+   * @param lower lower bucket bound
+   * @param upper upper bucket bound
+   * @param value value within the bucket
+   * @return relative position in [0, 1]
+   */
+  private static double interpolate(PropertyValue lower, PropertyValue upper, PropertyValue value) {
+    if (lower.isNumber() && upper.isNumber() && value.isNumber()) {
+      double l = toDouble(lower);
+      double u = toDouble(upper);
+      return u > l ? clamp((toDouble(value) - l) / (u - l)) : 1d;
+    }
+    return 0.5d;
+  }
+
+  /**
+   * Returns the given numeric property value as double.
+   *
+   * @param value numeric property value
+   * @return double value
+   */
+  private static double toDouble(PropertyValue value) {
+    return value.isBigDecimal() ? value.getBigDecimal().doubleValue() :
+      ((Number) value.getObject()).doubleValue();
+  }
+
+  /**
+   * Restricts the given fraction to [0, 1].
+   *
+   * @param fraction fraction
+   * @return fraction in [0, 1]
+   */
+  private static double clamp(double fraction) {
+    return Math.max(0d, Math.min(1d, fraction));
+  }
+
+  /**
+   * Checks if the value can be placed in a histogram, i.e. if it is neither null nor a collection.
+   *
+   * @param value property value
+   * @return true, iff the value is sortable
+   */
+  public static boolean isSortable(PropertyValue value) {
+    return !value.isNull() && !value.isList() && !value.isMap();
+  }
+
+  /**
+   * Total order on sortable property values. Values of different types are ordered by their type,
+   * all numeric types are treated as one type.
+   *
+   * @param first first value
+   * @param second second value
+   * @return negative, zero or positive integer
+   */
+  public static int compare(PropertyValue first, PropertyValue second) {
+    int result = typeRank(first).compareTo(typeRank(second));
+    return result != 0 ? result : first.compareTo(second);
+  }
+
+  /**
+   * Returns a name that is equal for all mutually comparable property values.
+   *
+   * @param value property value
+   * @return type name
+   */
+  private static String typeRank(PropertyValue value) {
+    return value.isNumber() ? Number.class.getName() : value.getType().getName();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PropertyStatistics{count=%d, distinctCount=%d, " +
+      "mostCommonValues=%s, histogramBounds=%s}",
+      count, distinctCount, mostCommonValues, histogramBounds);
+  }
+}
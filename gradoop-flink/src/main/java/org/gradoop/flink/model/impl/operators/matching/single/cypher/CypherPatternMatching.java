@@ -16,7 +16,10 @@
 package org.gradoop.flink.model.impl.operators.matching.single.cypher;
 
 import com.google.common.collect.Sets;
+import org.apache.flink.api.common.JobExecutionResult;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
 import org.apache.log4j.Logger;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
@@ -24,17 +27,33 @@ import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
 import org.gradoop.flink.model.impl.operators.matching.common.PostProcessor;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.debug.PrintEmbedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.CountEmbeddings;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.functions.ElementsFromEmbedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.add.AddEmbeddingsElements;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.project.ProjectEmbeddingsElements;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.CachedQueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache.QueryPlanCache;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerType;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.QueryPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp.DPPlanner;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.google.common.collect.Sets.difference;
@@ -43,12 +62,22 @@ import static org.gradoop.flink.model.impl.operators.matching.common.debug.Print
 
 /**
  * Implementation of a query engine based on the Cypher graph query language.
+ *
+ * If a {@link QueryPlanCache} is given, queries which only differ in their literals from a
+ * previously planned query are executed using the cached plan if the statistics, the morphism
+ * strategies and the planner type are the same. Plans of queries whose estimation depends on the
+ * literals, i.e. queries comparing a property with a literal for which the statistics provide a
+ * value distribution, are not cached.
  */
 public class CypherPatternMatching extends PatternMatching {
   /**
    * Logger
    */
   private static final Logger LOG = Logger.getLogger(CypherPatternMatching.class);
+  /**
+   * Prefix of the accumulators counting the leaf plan outputs in adaptive mode.
+   */
+  private static final String LEAF_ACCUMULATOR_PREFIX = "cypher.leaf.";
   /**
    * Construction pattern for result transformation.
    */
@@ -65,6 +94,18 @@ public class CypherPatternMatching extends PatternMatching {
    * Statistics about the data graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Planner used to compute the query plan
+   */
+  private final PlannerType plannerType;
+  /**
+   * True, if leaf cardinalities are observed before planning the joins
+   */
+  private final boolean adaptive;
+  /**
+   * Cache for query plans, {@code null} if plans are not cached
+   */
+  private final QueryPlanCache planCache;
 
   /**
    * Instantiates a new operator.
@@ -92,11 +133,79 @@ public class CypherPatternMatching extends PatternMatching {
    */
   public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
     MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      PlannerType.GREEDY);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerType         planner used to compute the query plan
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerType plannerType) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerType, false);
+  }
+
+  /**
+   * Instantiates a new operator.
+   *
+   * In adaptive mode, the leaf plans (i.e. filtered and projected vertices and edges) are counted
+   * in a separate Flink job before the joins are planned. The planner then uses the exact leaf
+   * cardinalities instead of estimations derived from the graph statistics. The additional job is
+   * triggered via {@link ExecutionEnvironment#execute()} on the environment of the search graph,
+   * which would execute all sinks defined before calling the operator as well. The operator thus
+   * fails with an {@link IllegalStateException} if the environment has pending sinks.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerType         planner used to compute the query plan
+   * @param adaptive            true, if leaf cardinalities shall be observed before planning
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerType plannerType, boolean adaptive) {
+    this(query, constructionPattern, attachData, vertexStrategy, edgeStrategy, graphStatistics,
+      plannerType, adaptive, null);
+  }
+
+  /**
+   * Instantiates a new operator which looks up and stores its query plan in the given cache.
+   * Plans computed in adaptive mode are not cached.
+   *
+   * @param query               Cypher query string
+   * @param constructionPattern Construction pattern
+   * @param attachData          true, if original data shall be attached to the result
+   * @param vertexStrategy      morphism strategy for vertex mappings
+   * @param edgeStrategy        morphism strategy for edge mappings
+   * @param graphStatistics     statistics about the data graph
+   * @param plannerType         planner used to compute the query plan
+   * @param adaptive            true, if leaf cardinalities shall be observed before planning
+   * @param planCache           cache for query plans or {@code null} to disable caching
+   */
+  public CypherPatternMatching(String query, String constructionPattern, boolean attachData,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy, GraphStatistics graphStatistics,
+    PlannerType plannerType, boolean adaptive, QueryPlanCache planCache) {
     super(query, attachData, LOG);
     this.constructionPattern = constructionPattern;
     this.vertexStrategy = vertexStrategy;
     this.edgeStrategy = edgeStrategy;
     this.graphStatistics = graphStatistics;
+    this.plannerType = plannerType;
+    this.adaptive = adaptive;
+    this.planCache = planCache;
   }
 
   @Override
@@ -106,15 +215,38 @@ public class CypherPatternMatching extends PatternMatching {
 
   @Override
   protected GraphCollection executeForPattern(LogicalGraph graph) {
-    // Query planning
     QueryHandler queryHandler = getQueryHandler();
-    QueryPlan plan =
-      new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan()
-        .getQueryPlan();
+    DataSet<Embedding> embeddings;
+    EmbeddingMetaData embeddingMetaData;
 
-    // Query execution
-    DataSet<Embedding> embeddings = plan.execute();
-    EmbeddingMetaData embeddingMetaData = plan.getRoot().getEmbeddingMetaData();
+    // Plans computed from observed cardinalities or literal dependent estimations are not cached
+    String cacheKey = planCache == null || adaptive || isLiteralDependent(queryHandler) ?
+      null : getPlanCacheKey();
+    Optional<CachedQueryPlan> cachedPlan = cacheKey != null ?
+      planCache.get(cacheKey) : Optional.empty();
+    Optional<DataSet<Embedding>> cachedEmbeddings =
+      cachedPlan.flatMap(p -> p.execute(graph, queryHandler));
+
+    if (cachedEmbeddings.isPresent()) {
+      // Query execution using a cached plan
+      embeddings = cachedEmbeddings.get();
+      embeddingMetaData = cachedPlan.get().getEmbeddingMetaData();
+    } else {
+      // Query planning
+      QueryPlanner planner = createPlanner(graph, queryHandler);
+      if (adaptive) {
+        planner.setObservedCardinalities(observeLeafCardinalities(graph, planner));
+      }
+      QueryPlan plan = planner.plan().getQueryPlan();
+
+      // Query execution
+      embeddings = plan.execute();
+      embeddingMetaData = plan.getRoot().getEmbeddingMetaData();
+
+      if (cacheKey != null) {
+        planCache.put(cacheKey, new CachedQueryPlan(plan, queryHandler.getPredicates()));
+      }
+    }
 
     embeddings =
       log(embeddings, new PrintEmbedding(embeddingMetaData), getVertexMapping(), getEdgeMapping());
@@ -136,6 +268,126 @@ public class CypherPatternMatching extends PatternMatching {
       PostProcessor.extractGraphCollection(finalElements, graph.getConfig(), true);
   }
 
+  /**
+   * Returns the key of the query plan in the {@link QueryPlanCache}. The key contains the
+   * normalized query and all parameters that influence the planning.
+   *
+   * @return plan cache key
+   */
+  private String getPlanCacheKey() {
+    return String.join("|", QueryPlanCache.normalize(getQuery()), plannerType.name(),
+      vertexStrategy.name(), edgeStrategy.name(), graphStatistics.getFingerprint());
+  }
+
+  /**
+   * Checks if the estimated plan depends on the literals of the query. This is the case if a
+   * property is compared with a literal and the statistics provide a value distribution of the
+   * property, as the plan cache key does not contain the literals.
+   *
+   * @param queryHandler query handler
+   * @return true, iff the plan estimation uses the literals of the query
+   */
+  private boolean isLiteralDependent(QueryHandler queryHandler) {
+    for (CNFElement disjunction : queryHandler.getPredicates().getPredicates()) {
+      for (ComparisonExpression comparison : disjunction.getPredicates()) {
+        QueryComparable lhs = comparison.getLhs();
+        QueryComparable rhs = comparison.getRhs();
+        PropertySelectorComparable property = null;
+        if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+          property = (PropertySelectorComparable) lhs;
+        } else if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+          property = (PropertySelectorComparable) rhs;
+        }
+        if (property != null && !(queryHandler.isVertex(property.getVariable()) ?
+          graphStatistics.getVertexPropertyStatistics(property.getPropertyKey()) :
+          graphStatistics.getEdgePropertyStatistics(property.getPropertyKey())).isEmpty()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates the query planner according to the configured planner type.
+   *
+   * @param graph         search graph
+   * @param queryHandler  query handler
+   * @return query planner
+   */
+  private QueryPlanner createPlanner(LogicalGraph graph, QueryHandler queryHandler) {
+    switch (plannerType) {
+    case DYNAMIC_PROGRAMMING:
+      return new DPPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    case GREEDY:
+    default:
+      return new GreedyPlanner(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    }
+  }
+
+  /**
+   * Executes the leaf plans of the given planner and counts their output embeddings.
+   *
+   * @param graph   search graph
+   * @param planner query planner
+   * @return exact leaf cardinalities (query variable -> cardinality)
+   * @throws IllegalStateException if the environment has sinks which were not executed yet
+   */
+  private Map<String, Long> observeLeafCardinalities(LogicalGraph graph, QueryPlanner planner) {
+    Map<String, Long> cardinalities = new HashMap<>();
+    PlanTable leafTable = planner.initPlanTable();
+    if (leafTable.size() < 2) {
+      // nothing to join
+      return cardinalities;
+    }
+
+    ExecutionEnvironment env = graph.getConfig().getExecutionEnvironment();
+    if (hasPendingSinks(env)) {
+      throw new IllegalStateException("Leaf cardinalities cannot be observed, as the execution " +
+        "environment has pending data sinks. Execute them before adaptive pattern matching.");
+    }
+
+    Map<String, String> accumulators = new HashMap<>();
+    for (PlanTableEntry entry : leafTable) {
+      String variable = entry.getProcessedVariables().iterator().next();
+      String accumulatorName = LEAF_ACCUMULATOR_PREFIX + variable;
+      accumulators.put(variable, accumulatorName);
+      entry.getQueryPlan().execute()
+        .mapPartition(new CountEmbeddings(accumulatorName))
+        .output(new DiscardingOutputFormat<>());
+    }
+
+    JobExecutionResult result;
+    try {
+      result = env.execute();
+    } catch (Exception e) {
+      throw new RuntimeException("Could not observe leaf cardinalities", e);
+    }
+
+    for (Map.Entry<String, String> accumulator : accumulators.entrySet()) {
+      Long count = result.getAccumulatorResult(accumulator.getValue());
+      cardinalities.put(accumulator.getKey(), count != null ? count : 0L);
+    }
+    LOG.info("Observed leaf cardinalities: " + cardinalities);
+    return cardinalities;
+  }
+
+  /**
+   * Checks if data sinks have been defined on the given environment since its last execution.
+   * Creating a program plan without clearing the sinks fails iff there are no such sinks.
+   *
+   * @param env execution environment
+   * @return true, iff the next execution of the environment executes existing sinks
+   */
+  private static boolean hasPendingSinks(ExecutionEnvironment env) {
+    try {
+      env.createProgramPlan(CypherPatternMatching.class.getSimpleName(), false);
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
   /**
    * Method to construct final embedded elements
    *
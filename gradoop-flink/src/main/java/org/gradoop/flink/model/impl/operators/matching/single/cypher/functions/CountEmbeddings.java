@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.functions;
+
+import org.apache.flink.api.common.accumulators.LongCounter;
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Counts the embeddings of a partition and adds the result to a {@link LongCounter} accumulator
+ * with the given name. The function does not emit any embeddings.
+ */
+public class CountEmbeddings extends RichMapPartitionFunction<Embedding, Embedding> {
+  /**
+   * Name of the accumulator
+   */
+  private final String accumulatorName;
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param accumulatorName name of the accumulator to add the count to
+   */
+  public CountEmbeddings(String accumulatorName) {
+    this.accumulatorName = accumulatorName;
+  }
+
+  @Override
+  public void mapPartition(Iterable<Embedding> values, Collector<Embedding> out) {
+    long count = 0L;
+    for (Embedding ignored : values) {
+      count++;
+    }
+    getRuntimeContext().getLongCounter(accumulatorName).add(count);
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.operators.count.Count;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.ExtractAdjacentIds;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.ExtractProposalColumn;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.InitProposer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.IntersectEdges;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.ProposeVertices;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.SelectProposer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions.UpdateProposer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples.EmbeddingWithProposer;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions.ExtractJoinColumns;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Extends each input embedding by a single vertex which is adjacent to several bound vertices of
+ * the embedding at once. This closes cycles (e.g. triangles) without materializing the open paths
+ * that a sequence of binary joins would create.
+ *
+ * The operator follows the worst-case optimal Generic Join strategy in the distributed
+ * count / propose / intersect formulation:
+ *
+ * 1. Count: for each embedding, determine the candidate edge set with the fewest neighbours of its
+ *    bound vertex.
+ * 2. Propose: the neighbours in that smallest adjacency are proposed as extension vertex.
+ * 3. Intersect: each proposal is joined with all candidate edge sets on (bound vertex, proposed
+ *    vertex). Proposals missing an edge in any set are dropped, all others are extended by the
+ *    connecting edges.
+ *
+ * The extension vertex is appended to the input embedding, followed by one edge entry per
+ * candidate edge set (in the given order). The property values of the candidate edges are appended
+ * in the same order.
+ */
+public class IntersectEmbeddings implements PhysicalOperator {
+  /**
+   * Input embeddings
+   */
+  private final DataSet<Embedding> input;
+  /**
+   * Candidate edge embeddings (source, edge, target) per edge incident to the extension vertex
+   */
+  private final List<DataSet<Embedding>> candidateEdges;
+  /**
+   * Column of the extension vertex, i.e. the number of input columns
+   */
+  private final int extendColumn;
+  /**
+   * Input column of the bound vertex per candidate edge set
+   */
+  private final List<Integer> boundColumns;
+  /**
+   * Direction of each candidate edge set relative to its bound vertex
+   */
+  private final List<ExpandDirection> directions;
+  /**
+   * Vertex columns of the input embedding that must not contain the extension vertex
+   */
+  private final List<Integer> distinctVertexColumns;
+  /**
+   * Edge columns of the resulting embedding that need to contain distinct ids
+   */
+  private final List<Integer> distinctEdgeColumns;
+  /**
+   * Operator name used for Flink operator description
+   */
+  private String name;
+
+  /**
+   * New intersect operator.
+   *
+   * @param input embeddings to extend
+   * @param candidateEdges candidate edges per edge incident to the extension vertex
+   * @param extendColumn column of the extension vertex, i.e. the number of input columns
+   * @param boundColumns input column of the bound vertex per candidate edge set
+   * @param directions {@link ExpandDirection#OUT} if the bound vertex is the source of the
+   *                   candidate edges, {@link ExpandDirection#IN} otherwise
+   * @param distinctVertexColumns input vertex columns that must not contain the extension vertex
+   * @param distinctEdgeColumns edge columns of the resulting embedding that need to be distinct
+   */
+  public IntersectEmbeddings(DataSet<Embedding> input, List<DataSet<Embedding>> candidateEdges,
+    int extendColumn, List<Integer> boundColumns, List<ExpandDirection> directions,
+    List<Integer> distinctVertexColumns, List<Integer> distinctEdgeColumns) {
+    if (candidateEdges.size() != boundColumns.size() ||
+      candidateEdges.size() != directions.size()) {
+      throw new IllegalArgumentException(
+        "Candidate edges, bound columns and directions must be of equal size.");
+    }
+    this.input = input;
+    this.candidateEdges = candidateEdges;
+    this.extendColumn = extendColumn;
+    this.boundColumns = boundColumns;
+    this.directions = directions;
+    this.distinctVertexColumns = distinctVertexColumns;
+    this.distinctEdgeColumns = distinctEdgeColumns;
+    this.setName("IntersectEmbeddings");
+  }
+
+  @Override
+  public DataSet<Embedding> evaluate() {
+    int size = candidateEdges.size();
+
+    // (bound vertex, adjacent vertex) pairs and the number of distinct neighbours per bound vertex
+    List<DataSet<Tuple2<GradoopId, GradoopId>>> adjacencies = new ArrayList<>(size);
+    List<DataSet<Tuple2<GradoopId, Long>>> degrees = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DataSet<Tuple2<GradoopId, GradoopId>> adjacency = candidateEdges.get(i)
+        .map(new ExtractAdjacentIds(directions.get(i)))
+        .name(getName() + " - Adjacency " + i)
+        .distinct();
+      adjacencies.add(adjacency);
+      degrees.add(Count.groupBy(adjacency.map(new Value0Of2<>())));
+    }
+
+    // count: find the smallest adjacency for each embedding
+    DataSet<EmbeddingWithProposer> counted = input.map(new InitProposer());
+    for (int i = 0; i < size; i++) {
+      counted = counted
+        .join(degrees.get(i))
+        .where(new ExtractProposalColumn(boundColumns.get(i)))
+        .equalTo(new Value0Of2<>())
+        .with(new UpdateProposer(i))
+        .name(getName() + " - Count " + i);
+    }
+
+    // propose: extension vertices are taken from the smallest adjacency only
+    DataSet<Embedding> proposals = null;
+    for (int i = 0; i < size; i++) {
+      DataSet<Embedding> proposed = counted
+        .filter(new SelectProposer(i))
+        .join(adjacencies.get(i))
+        .where(new ExtractProposalColumn(boundColumns.get(i)))
+        .equalTo(new Value0Of2<>())
+        .with(new ProposeVertices(distinctVertexColumns))
+        .name(getName() + " - Propose " + i);
+      proposals = proposals == null ? proposed : proposals.union(proposed);
+    }
+
+    // intersect: verify each proposal against every candidate edge set
+    DataSet<Embedding> result = proposals;
+    for (int i = 0; i < size; i++) {
+      List<Integer> edgeColumns = directions.get(i) == ExpandDirection.OUT ?
+        Arrays.asList(0, 2) : Arrays.asList(2, 0);
+      result = result
+        .join(candidateEdges.get(i))
+        .where(new ExtractJoinColumns(Arrays.asList(boundColumns.get(i), extendColumn)))
+        .equalTo(new ExtractJoinColumns(edgeColumns))
+        .with(new IntersectEdges(distinctEdgeColumns))
+        .name(getName() + " - Intersect " + i);
+    }
+
+    return result;
+  }
+
+  @Override
+  public void setName(String newName) {
+    this.name = newName;
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+}
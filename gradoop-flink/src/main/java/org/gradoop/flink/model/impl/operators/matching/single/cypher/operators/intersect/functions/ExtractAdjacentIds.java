@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+/**
+ * Extracts the adjacency information from a candidate edge embedding. The first field contains the
+ * id of the bound vertex, the second field the id of the adjacent vertex which may extend an
+ * embedding.
+ */
+public class ExtractAdjacentIds implements MapFunction<Embedding, Tuple2<GradoopId, GradoopId>> {
+  /**
+   * Column of the bound vertex in the edge embedding
+   */
+  private final int boundColumn;
+  /**
+   * Column of the adjacent vertex in the edge embedding
+   */
+  private final int adjacentColumn;
+  /**
+   * Reuse Tuple
+   */
+  private final Tuple2<GradoopId, GradoopId> reuseTuple;
+
+  /**
+   * Creates a new function
+   *
+   * @param direction {@link ExpandDirection#OUT} if the bound vertex is the source of the edge,
+   *                  {@link ExpandDirection#IN} if it is the target
+   */
+  public ExtractAdjacentIds(ExpandDirection direction) {
+    this.boundColumn = direction == ExpandDirection.OUT ? 0 : 2;
+    this.adjacentColumn = direction == ExpandDirection.OUT ? 2 : 0;
+    this.reuseTuple = new Tuple2<>();
+  }
+
+  @Override
+  public Tuple2<GradoopId, GradoopId> map(Embedding edge) throws Exception {
+    reuseTuple.f0 = edge.getId(boundColumn);
+    reuseTuple.f1 = edge.getId(adjacentColumn);
+    return reuseTuple;
+  }
+}
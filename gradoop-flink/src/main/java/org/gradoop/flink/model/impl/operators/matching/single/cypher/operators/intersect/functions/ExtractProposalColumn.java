@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.flink.api.java.functions.KeySelector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples.EmbeddingWithProposer;
+
+/**
+ * Extracts the id stored in the specified column of the embedding wrapped by an
+ * {@link EmbeddingWithProposer}.
+ */
+public class ExtractProposalColumn implements KeySelector<EmbeddingWithProposer, GradoopId> {
+  /**
+   * Column to extract
+   */
+  private final int column;
+
+  /**
+   * Creates a new key selector
+   *
+   * @param column column to extract
+   */
+  public ExtractProposalColumn(int column) {
+    this.column = column;
+  }
+
+  @Override
+  public GradoopId getKey(EmbeddingWithProposer value) throws Exception {
+    return value.getEmbedding().getId(column);
+  }
+}
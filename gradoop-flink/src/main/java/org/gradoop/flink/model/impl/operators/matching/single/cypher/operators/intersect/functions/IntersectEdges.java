@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+import java.util.List;
+
+/**
+ * Appends the edge connecting the bound vertex and the proposed vertex to the embedding. Since the
+ * function is applied within an equi-join on both vertices, proposals without such an edge are
+ * removed, which intersects the proposals with the adjacency of the bound vertex.
+ *
+ * The edge is dropped if it violates the edge morphism setting.
+ */
+public class IntersectEdges implements FlatJoinFunction<Embedding, Embedding, Embedding> {
+  /**
+   * Edge columns of the resulting embedding that need to contain distinct ids
+   */
+  private final int[] distinctEdgeColumns;
+  /**
+   * Reuse embedding
+   */
+  private final Embedding reuseEmbedding;
+
+  /**
+   * Creates a new function
+   *
+   * @param distinctEdgeColumns edge columns of the resulting embedding that need to be distinct,
+   *                            columns which are not yet part of the embedding are ignored
+   */
+  public IntersectEdges(List<Integer> distinctEdgeColumns) {
+    this.distinctEdgeColumns = distinctEdgeColumns.stream().mapToInt(i -> i).toArray();
+    this.reuseEmbedding = new Embedding();
+  }
+
+  @Override
+  public void join(Embedding embedding, Embedding edge, Collector<Embedding> out)
+    throws Exception {
+    if (distinctEdgeColumns.length > 0) {
+      GradoopId edgeId = edge.getId(1);
+      for (int column : distinctEdgeColumns) {
+        if (column < embedding.size() && embedding.getIdAsList(column).contains(edgeId)) {
+          return;
+        }
+      }
+    }
+
+    reuseEmbedding.setIdData(ArrayUtils.addAll(embedding.getIdData(), edge.getRawIdEntry(1)));
+    reuseEmbedding.setPropertyData(
+      ArrayUtils.addAll(embedding.getPropertyData(), edge.getPropertyData()));
+    reuseEmbedding.setIdListData(embedding.getIdListData());
+    out.collect(reuseEmbedding);
+  }
+}
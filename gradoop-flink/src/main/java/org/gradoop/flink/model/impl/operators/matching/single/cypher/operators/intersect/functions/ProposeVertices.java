@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.flink.api.common.functions.FlatJoinFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples.EmbeddingWithProposer;
+
+import java.util.List;
+
+/**
+ * Appends a vertex proposed by the adjacency of the bound vertex to the embedding. The vertex is
+ * dropped if it violates the vertex morphism setting.
+ */
+public class ProposeVertices implements
+  FlatJoinFunction<EmbeddingWithProposer, Tuple2<GradoopId, GradoopId>, Embedding> {
+  /**
+   * Vertex columns of the embedding that must not contain the proposed vertex
+   */
+  private final int[] distinctVertexColumns;
+  /**
+   * Reuse embedding
+   */
+  private final Embedding reuseEmbedding;
+
+  /**
+   * Creates a new function
+   *
+   * @param distinctVertexColumns vertex columns that must not contain the proposed vertex
+   */
+  public ProposeVertices(List<Integer> distinctVertexColumns) {
+    this.distinctVertexColumns = distinctVertexColumns.stream().mapToInt(i -> i).toArray();
+    this.reuseEmbedding = new Embedding();
+  }
+
+  @Override
+  public void join(EmbeddingWithProposer left, Tuple2<GradoopId, GradoopId> adjacency,
+    Collector<Embedding> out) throws Exception {
+    Embedding embedding = left.getEmbedding();
+    GradoopId vertexId = adjacency.f1;
+
+    for (int column : distinctVertexColumns) {
+      if (embedding.getIdAsList(column).contains(vertexId)) {
+        return;
+      }
+    }
+
+    byte[] idEntry = new byte[Embedding.ID_ENTRY_SIZE];
+    idEntry[0] = Embedding.ID_ENTRY_FLAG;
+    System.arraycopy(vertexId.toByteArray(), 0, idEntry, 1, GradoopId.ID_SIZE);
+
+    reuseEmbedding.setIdData(ArrayUtils.addAll(embedding.getIdData(), idEntry));
+    reuseEmbedding.setPropertyData(embedding.getPropertyData());
+    reuseEmbedding.setIdListData(embedding.getIdListData());
+    out.collect(reuseEmbedding);
+  }
+}
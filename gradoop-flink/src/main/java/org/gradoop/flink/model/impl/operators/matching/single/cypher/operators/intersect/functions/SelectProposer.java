@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples.EmbeddingWithProposer;
+
+/**
+ * Filters embeddings whose extension vertices are proposed by the specified candidate edge set.
+ */
+public class SelectProposer implements FilterFunction<EmbeddingWithProposer> {
+  /**
+   * Index of the candidate edge set
+   */
+  private final int proposer;
+
+  /**
+   * Creates a new filter
+   *
+   * @param proposer index of the candidate edge set
+   */
+  public SelectProposer(int proposer) {
+    this.proposer = proposer;
+  }
+
+  @Override
+  public boolean filter(EmbeddingWithProposer embedding) throws Exception {
+    return embedding.getProposer() == proposer;
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples.EmbeddingWithProposer;
+
+/**
+ * Replaces the proposer of an embedding if the given candidate edge set offers fewer neighbours
+ * for the bound vertex than the current proposer.
+ *
+ * Embeddings whose bound vertex has no neighbours are removed by the surrounding inner join.
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class UpdateProposer implements
+  JoinFunction<EmbeddingWithProposer, Tuple2<GradoopId, Long>, EmbeddingWithProposer> {
+  /**
+   * Index of the candidate edge set whose degrees are joined
+   */
+  private final int proposer;
+
+  /**
+   * Creates a new function
+   *
+   * @param proposer index of the candidate edge set whose degrees are joined
+   */
+  public UpdateProposer(int proposer) {
+    this.proposer = proposer;
+  }
+
+  @Override
+  public EmbeddingWithProposer join(EmbeddingWithProposer embedding,
+    Tuple2<GradoopId, Long> degree) throws Exception {
+    if (degree.f1 < embedding.getProposalCount()) {
+      embedding.setProposer(proposer, degree.f1);
+    }
+    return embedding;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+
+/**
+ * Represents an embedding together with the candidate edge set that proposes the extension
+ * vertices for it, i.e. the set with the smallest number of distinct neighbours.
+ *
+ * f0 -> embedding
+ * f1 -> index of the proposing candidate edge set
+ * f2 -> number of neighbours in the proposing candidate edge set
+ */
+public class EmbeddingWithProposer extends Tuple3<Embedding, Integer, Long> {
+
+  /**
+   * Creates an empty Object
+   */
+  public EmbeddingWithProposer() {
+  }
+
+  /**
+   * Creates a new tuple without a proposer from the given embedding.
+   *
+   * @param embedding embedding
+   */
+  public EmbeddingWithProposer(Embedding embedding) {
+    this.f0 = embedding;
+    this.f1 = -1;
+    this.f2 = Long.MAX_VALUE;
+  }
+
+  /**
+   * Returns the embedding
+   *
+   * @return embedding
+   */
+  public Embedding getEmbedding() {
+    return f0;
+  }
+
+  /**
+   * Returns the index of the proposing candidate edge set
+   *
+   * @return proposer index
+   */
+  public Integer getProposer() {
+    return f1;
+  }
+
+  /**
+   * Returns the number of neighbours in the proposing candidate edge set
+   *
+   * @return number of proposed vertices
+   */
+  public Long getProposalCount() {
+    return f2;
+  }
+
+  /**
+   * Sets the proposing candidate edge set and its number of neighbours
+   *
+   * @param proposer index of the proposing candidate edge set
+   * @param count number of neighbours in the proposing candidate edge set
+   */
+  public void setProposer(Integer proposer, Long count) {
+    this.f1 = proposer;
+    this.f2 = count;
+  }
+}
@@ -15,44 +15,35 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.api.java.functions.KeySelector;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKey;
 
 import java.util.List;
 
 /**
- * Given a set of columns, this key selector returns a concatenated string containing the
+ * Given a set of columns, this key selector returns a binary key containing the concatenated
  * identifiers of the specified columns.
  *
- * (id0,id1,...,idn),[0,2] -> "id0id2"
+ * (id0,id1,...,idn),[0,2] -> [id0 bytes, id2 bytes]
  */
-public class ExtractJoinColumns implements KeySelector<Embedding, String> {
+public class ExtractJoinColumns implements KeySelector<Embedding, JoinKey> {
   /**
    * Columns to concatenate ids from
    */
-  private final List<Integer> columns;
-  /**
-   * Stores the concatenated id string
-   */
-  private final StringBuilder sb;
+  private final int[] columns;
 
   /**
    * Creates the key selector
    *
-   * @param columns columns to create hash code from
+   * @param columns columns to create the key from
    */
   public ExtractJoinColumns(List<Integer> columns) {
-    this.columns = columns;
-    this.sb = new StringBuilder();
+    this.columns = columns.stream().mapToInt(i -> i).toArray();
   }
 
   @Override
-  public String getKey(Embedding value) throws Exception {
-    sb.delete(0, sb.length());
-    for (Integer column : columns) {
-      sb.append(ArrayUtils.toString(value.getRawId(column)));
-    }
-    return sb.toString();
+  public JoinKey getKey(Embedding value) throws Exception {
+    return JoinKey.fromIds(value, columns);
   }
 }
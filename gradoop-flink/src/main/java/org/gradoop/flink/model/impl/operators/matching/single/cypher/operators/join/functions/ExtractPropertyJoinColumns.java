@@ -15,44 +15,35 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.api.java.functions.KeySelector;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKey;
 
 import java.util.List;
 
 /**
- * Given a set of property columns, this key selector returns a concatenated string containing the
- * property values of the specified columns.
+ * Given a set of property columns, this key selector returns a binary key containing the
+ * concatenated raw property values of the specified columns.
  *
- * ("Foo",42,0.5),[0,2] -> "Foo0.5"
+ * ("Foo",42,0.5),[0,2] -> [len, "Foo" bytes, len, 0.5 bytes]
  */
-public class ExtractPropertyJoinColumns implements KeySelector<Embedding, String> {
+public class ExtractPropertyJoinColumns implements KeySelector<Embedding, JoinKey> {
   /**
    * Property columns to concatenate properties from
    */
-  private final List<Integer> properties;
-  /**
-   * Stores the concatenated key string
-   */
-  private final StringBuilder sb;
+  private final int[] properties;
 
   /**
    * Creates the key selector
    *
-   * @param properties columns to create hash code from
+   * @param properties columns to create the key from
    */
   public ExtractPropertyJoinColumns(List<Integer> properties) {
-    this.properties = properties;
-    this.sb = new StringBuilder();
+    this.properties = properties.stream().mapToInt(i -> i).toArray();
   }
 
   @Override
-  public String getKey(Embedding value) throws Exception {
-    sb.delete(0, sb.length());
-    for (Integer property : properties) {
-      sb.append(ArrayUtils.toString(value.getRawProperty(property)));
-    }
-    return sb.toString();
+  public JoinKey getKey(Embedding value) throws Exception {
+    return JoinKey.fromProperties(value, properties);
   }
 }
@@ -218,8 +218,10 @@ public class MergeEmbeddings implements
     int offset = left.getIdData().length;
     System.arraycopy(left.getIdData(), 0, newIdData, 0, offset);
 
+    byte[] rightIdData = right.getIdData();
     for (int i : nonJoinColumnsRight) {
-      System.arraycopy(right.getRawIdEntry(i), 0, newIdData, offset, Embedding.ID_ENTRY_SIZE);
+      System.arraycopy(rightIdData, i * Embedding.ID_ENTRY_SIZE, newIdData, offset,
+        Embedding.ID_ENTRY_SIZE);
       offset += Embedding.ID_ENTRY_SIZE;
     }
 
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.util.GradoopConstants;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A query plan that can be executed for any query that only differs in its literals from the
+ * query the plan was computed for.
+ *
+ * The plan stores for each filtering node the positions of its predicates within the CNF of the
+ * original query. Before execution, the leaf nodes are bound to the input graph and the filter
+ * predicates are replaced by the predicates at the same positions within the CNF of the actual
+ * query. The plan does not keep references to the input graph between executions.
+ */
+public class CachedQueryPlan {
+  /**
+   * The cached plan
+   */
+  private final QueryPlan queryPlan;
+  /**
+   * Predicates of the query the plan was computed for
+   */
+  private final List<CNFElement> predicates;
+  /**
+   * Positions of the predicates of each filtering node within the query predicates
+   */
+  private final Map<PlanNode, int[]> predicatePositions;
+
+  /**
+   * Creates a new cached plan and releases its input data sets.
+   *
+   * @param queryPlan plan computed for the query
+   * @param queryPredicates predicates of the query
+   * @throws IllegalArgumentException if the plan predicates do not belong to the query
+   */
+  public CachedQueryPlan(QueryPlan queryPlan, CNF queryPredicates) {
+    this.queryPlan = queryPlan;
+    this.predicates = queryPredicates.getPredicates();
+    this.predicatePositions = new IdentityHashMap<>();
+    collectPredicatePositions(queryPlan.getRoot(), new boolean[predicates.size()]);
+    unbind(queryPlan.getRoot());
+  }
+
+  /**
+   * Returns the meta data of the embeddings produced by the plan.
+   *
+   * @return embedding meta data
+   */
+  public EmbeddingMetaData getEmbeddingMetaData() {
+    return queryPlan.getRoot().getEmbeddingMetaData();
+  }
+
+  /**
+   * Binds the plan to the given graph and the literals of the given query and creates the data
+   * flow to compute the embeddings.
+   *
+   * @param graph search graph
+   * @param queryHandler query which only differs from the planned query in its literals
+   * @return embeddings or {@link Optional#empty()} if the query does not fit the plan
+   */
+  public synchronized Optional<DataSet<Embedding>> execute(LogicalGraph graph,
+    QueryHandler queryHandler) {
+    List<CNFElement> queryPredicates = queryHandler.getPredicates().getPredicates();
+    if (!isCompatible(queryPredicates)) {
+      return Optional.empty();
+    }
+    try {
+      bind(queryPlan.getRoot(), graph, queryHandler, queryPredicates);
+      return Optional.of(queryPlan.execute());
+    } finally {
+      unbind(queryPlan.getRoot());
+    }
+  }
+
+  /**
+   * Records the positions of the filter predicates of the given node and its children.
+   *
+   * @param node plan node
+   * @param used positions already assigned to another node
+   */
+  private void collectPredicatePositions(PlanNode node, boolean[] used) {
+    if (node instanceof FilterAndProjectVerticesNode) {
+      predicatePositions.put(node, getPositions(
+        ((FilterAndProjectVerticesNode) node).getFilterPredicate(), used));
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      predicatePositions.put(node, getPositions(
+        ((FilterAndProjectEdgesNode) node).getFilterPredicate(), used));
+    } else if (node instanceof FilterEmbeddingsNode) {
+      predicatePositions.put(node, getPositions(
+        ((FilterEmbeddingsNode) node).getFilterPredicate(), used));
+    }
+    getChildren(node).forEach(child -> collectPredicatePositions(child, used));
+  }
+
+  /**
+   * Returns the positions of the given predicates within the query predicates.
+   *
+   * @param nodePredicates predicates of a plan node
+   * @param used positions already assigned to another node
+   * @return positions within the query predicates
+   */
+  private int[] getPositions(CNF nodePredicates, boolean[] used) {
+    int[] positions = new int[nodePredicates.size()];
+    for (int i = 0; i < positions.length; i++) {
+      CNFElement element = nodePredicates.getPredicates().get(i);
+      int position = -1;
+      for (int j = 0; j < predicates.size() && position == -1; j++) {
+        if (!used[j] && predicates.get(j).equals(element)) {
+          position = j;
+        }
+      }
+      if (position == -1) {
+        throw new IllegalArgumentException("Predicate " + element + " is not part of the query");
+      }
+      used[position] = true;
+      positions[i] = position;
+    }
+    return positions;
+  }
+
+  /**
+   * Sets the input data sets and the filter predicates of the given node and its children.
+   *
+   * @param node plan node
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param queryPredicates predicates of the query
+   */
+  private void bind(PlanNode node, LogicalGraph graph, QueryHandler queryHandler,
+    List<CNFElement> queryPredicates) {
+    if (node instanceof FilterAndProjectVerticesNode) {
+      FilterAndProjectVerticesNode vertexNode = (FilterAndProjectVerticesNode) node;
+      String label = queryHandler.getVertexByVariable(
+        vertexNode.getEmbeddingMetaData().getVertexVariables().get(0)).getLabel();
+      vertexNode.setVertices(label.equals(GradoopConstants.DEFAULT_VERTEX_LABEL) ?
+        graph.getVertices() : graph.getVerticesByLabel(label));
+      vertexNode.setFilterPredicate(getPredicates(node, queryPredicates));
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      FilterAndProjectEdgesNode edgeNode = (FilterAndProjectEdgesNode) node;
+      String label = queryHandler.getEdgeByVariable(
+        edgeNode.getEmbeddingMetaData().getEdgeVariables().get(0)).getLabel();
+      edgeNode.setEdges(label.equals(GradoopConstants.DEFAULT_EDGE_LABEL) ?
+        graph.getEdges() : graph.getEdgesByLabel(label));
+      edgeNode.setFilterPredicate(getPredicates(node, queryPredicates));
+    } else if (node instanceof FilterEmbeddingsNode) {
+      ((FilterEmbeddingsNode) node).setFilterPredicate(getPredicates(node, queryPredicates));
+    }
+    getChildren(node).forEach(child -> bind(child, graph, queryHandler, queryPredicates));
+  }
+
+  /**
+   * Releases the input data sets of the leaf nodes.
+   *
+   * @param node plan node
+   */
+  private void unbind(PlanNode node) {
+    if (node instanceof FilterAndProjectVerticesNode) {
+      ((FilterAndProjectVerticesNode) node).setVertices(null);
+    } else if (node instanceof FilterAndProjectEdgesNode) {
+      ((FilterAndProjectEdgesNode) node).setEdges(null);
+    }
+    getChildren(node).forEach(this::unbind);
+  }
+
+  /**
+   * Returns the query predicates at the positions recorded for the given node.
+   *
+   * @param node plan node
+   * @param queryPredicates predicates of the query
+   * @return filter predicates for the node
+   */
+  private CNF getPredicates(PlanNode node, List<CNFElement> queryPredicates) {
+    List<CNFElement> nodePredicates = new ArrayList<>();
+    for (int position : predicatePositions.get(node)) {
+      nodePredicates.add(queryPredicates.get(position));
+    }
+    return new CNF(nodePredicates);
+  }
+
+  /**
+   * Checks if the given predicates only differ in their literals from the predicates of the
+   * planned query.
+   *
+   * @param queryPredicates predicates of the query
+   * @return true, iff the plan can be bound to the predicates
+   */
+  private boolean isCompatible(List<CNFElement> queryPredicates) {
+    if (queryPredicates.size() != predicates.size()) {
+      return false;
+    }
+    for (int i = 0; i < predicates.size(); i++) {
+      List<ComparisonExpression> expected = predicates.get(i).getPredicates();
+      List<ComparisonExpression> actual = queryPredicates.get(i).getPredicates();
+      if (expected.size() != actual.size()) {
+        return false;
+      }
+      for (int j = 0; j < expected.size(); j++) {
+        if (!isCompatible(expected.get(j), actual.get(j))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if two comparisons are equal except for their literals.
+   *
+   * @param expected comparison of the planned query
+   * @param actual comparison of the query to execute
+   * @return true, iff the comparisons only differ in their literals
+   */
+  private boolean isCompatible(ComparisonExpression expected, ComparisonExpression actual) {
+    return expected.getComparator() == actual.getComparator() &&
+      isCompatible(expected.getLhs(), actual.getLhs()) &&
+      isCompatible(expected.getRhs(), actual.getRhs());
+  }
+
+  /**
+   * Checks if two comparables are equal or both literals.
+   *
+   * @param expected comparable of the planned query
+   * @param actual comparable of the query to execute
+   * @return true, iff both are literals or equal
+   */
+  private boolean isCompatible(QueryComparable expected, QueryComparable actual) {
+    return expected instanceof LiteralComparable ?
+      actual instanceof LiteralComparable : expected.equals(actual);
+  }
+
+  /**
+   * Returns the child nodes of the given node.
+   *
+   * @param node plan node
+   * @return child nodes
+   */
+  private List<PlanNode> getChildren(PlanNode node) {
+    List<PlanNode> children = new ArrayList<>();
+    if (node instanceof BinaryNode) {
+      children.add(((BinaryNode) node).getLeftChild());
+      children.add(((BinaryNode) node).getRightChild());
+    } else if (node instanceof NaryNode) {
+      children.addAll(((NaryNode) node).getChildren());
+    } else if (node instanceof UnaryNode) {
+      children.add(((UnaryNode) node).getChildNode());
+    }
+    return children;
+  }
+}
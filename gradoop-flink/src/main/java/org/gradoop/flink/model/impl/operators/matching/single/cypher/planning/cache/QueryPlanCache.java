@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded LRU cache for query plans. Plans are keyed by the normalized query string, i.e. the
+ * query with all string and numeric literals replaced by a placeholder, and the planning context
+ * (e.g. morphism strategies and a fingerprint of the graph statistics). Queries that only differ
+ * in their literals thus share a single plan which is re-bound to the actual literals (see
+ * {@link CachedQueryPlan}).
+ *
+ * There is no shared instance: caching is enabled by passing a cache to
+ * {@link org.gradoop.flink.model.impl.operators.matching.single.cypher.CypherPatternMatching}.
+ * The cached plans do not reference the data sets of the graphs they were executed on.
+ */
+public class QueryPlanCache {
+  /**
+   * Default number of cached plans
+   */
+  public static final int DEFAULT_CAPACITY = 1000;
+  /**
+   * Placeholder for literals in normalized queries
+   */
+  private static final String PLACEHOLDER = "?";
+  /**
+   * Matches string literals, numeric literals and whitespace. Numbers that are part of an
+   * identifier or a variable length path (e.g. {@code *1..3}) are not matched.
+   */
+  private static final Pattern LITERAL_OR_WHITESPACE = Pattern.compile(
+    "('(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\")" +
+    "|((?<![\\w.*])\\d+(?:\\.\\d+)?[LlFfDd]?(?![\\w.]))" +
+    "|(\\s+)");
+  /**
+   * Cached plans in access order
+   */
+  private final LinkedHashMap<String, CachedQueryPlan> plans;
+  /**
+   * Maximum number of cached plans
+   */
+  private int capacity;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param capacity maximum number of cached plans, 0 disables caching
+   */
+  public QueryPlanCache(int capacity) {
+    this.capacity = capacity;
+    this.plans = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Replaces all string and numeric literals in the given query with a placeholder and collapses
+   * whitespace.
+   *
+   * Example:
+   * normalize("MATCH (a)-[e*1..3]->(b)  WHERE a.age > 42 AND b.name = 'Alice'")
+   * => "MATCH (a)-[e*1..3]->(b) WHERE a.age > ? AND b.name = ?"
+   *
+   * @param query query string
+   * @return normalized query string
+   */
+  public static String normalize(String query) {
+    Matcher matcher = LITERAL_OR_WHITESPACE.matcher(query.trim());
+    StringBuffer sb = new StringBuffer();
+    while (matcher.find()) {
+      matcher.appendReplacement(sb, matcher.group(3) != null ? " " : PLACEHOLDER);
+    }
+    matcher.appendTail(sb);
+    return sb.toString();
+  }
+
+  /**
+   * Returns the plan cached for the given key and marks it as recently used.
+   *
+   * @param key cache key
+   * @return cached plan or {@link Optional#empty()} if there is none
+   */
+  public synchronized Optional<CachedQueryPlan> get(String key) {
+    return Optional.ofNullable(plans.get(key));
+  }
+
+  /**
+   * Checks if there is a plan cached for the given key without marking it as recently used.
+   *
+   * @param key cache key
+   * @return true, iff a plan is cached for the key
+   */
+  public synchronized boolean containsKey(String key) {
+    return plans.containsKey(key);
+  }
+
+  /**
+   * Adds a plan to the cache. If the cache is full, the least recently used plan is evicted.
+   *
+   * @param key cache key
+   * @param plan plan to cache
+   */
+  public synchronized void put(String key, CachedQueryPlan plan) {
+    if (capacity > 0) {
+      plans.put(key, plan);
+      evict();
+    }
+  }
+
+  /**
+   * Sets the maximum number of cached plans and evicts plans if necessary.
+   *
+   * @param capacity maximum number of cached plans, 0 disables caching
+   */
+  public synchronized void setCapacity(int capacity) {
+    this.capacity = capacity;
+    evict();
+  }
+
+  /**
+   * Returns the number of cached plans.
+   *
+   * @return number of cached plans
+   */
+  public synchronized int size() {
+    return plans.size();
+  }
+
+  /**
+   * Removes all cached plans.
+   */
+  public synchronized void clear() {
+    plans.clear();
+  }
+
+  /**
+   * Removes the least recently used plans until the capacity is met.
+   */
+  private void evict() {
+    while (plans.size() > capacity) {
+      String eldest = plans.keySet().iterator().next();
+      plans.remove(eldest);
+    }
+  }
+}
@@ -18,6 +18,9 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.e
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Base class for estimators that provides some utility methods.
  */
@@ -30,6 +33,10 @@ abstract class Estimator {
    * Statistics about the search graph
    */
   private final GraphStatistics graphStatistics;
+  /**
+   * Exact cardinalities of already executed leaf nodes (query variable -> cardinality)
+   */
+  private final Map<String, Long> observedCardinalities;
 
   /**
    * Creates a new estimator.
@@ -38,8 +45,22 @@ abstract class Estimator {
    * @param graphStatistics graph statistics
    */
   Estimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
+    this(queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new estimator which prefers the observed cardinalities of leaf nodes over the ones
+   * derived from the graph statistics.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param observedCardinalities exact leaf cardinalities (query variable -> cardinality)
+   */
+  Estimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> observedCardinalities) {
     this.queryHandler = queryHandler;
     this.graphStatistics = graphStatistics;
+    this.observedCardinalities = observedCardinalities;
   }
 
   public QueryHandler getQueryHandler() {
@@ -62,6 +83,30 @@ abstract class Estimator {
       queryHandler.getEdgeByVariable(variable).getLabel();
   }
 
+  /**
+   * Checks if the output cardinality of the leaf node for the given variable has been observed.
+   *
+   * @param variable query variable
+   * @return true, iff there is an observed cardinality for the variable
+   */
+  boolean isObserved(String variable) {
+    return observedCardinalities.containsKey(variable);
+  }
+
+  /**
+   * Returns the cardinality of the given variable. If the leaf node for the variable has already
+   * been executed, the observed cardinality is returned. Otherwise, the cardinality is derived
+   * from the label statistics.
+   *
+   * @param variable query variable
+   * @param isVertex true, iff the variable maps to a vertex
+   * @return (estimated) number of elements matching the variable
+   */
+  long getVariableCardinality(String variable, boolean isVertex) {
+    Long observed = observedCardinalities.get(variable);
+    return observed != null ? observed : getCardinality(getLabel(variable, isVertex), isVertex);
+  }
+
   /**
    * Returns the cardinality of the specified label according to the provided statistics.
    *
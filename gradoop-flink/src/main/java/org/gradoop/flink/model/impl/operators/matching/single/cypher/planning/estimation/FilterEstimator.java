@@ -15,19 +15,39 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.estimation;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
 import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNF;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.CNFElement;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.QueryComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.LiteralComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.comparables.PropertySelectorComparable;
+import org.gradoop.flink.model.impl.operators.matching.common.query.predicates.expressions.ComparisonExpression;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.unary.FilterEmbeddingsNode;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Keeps track of the leaf nodes in a query plan and computes a final selectivity factor resulting
  * from the applied predicates.
+ *
+ * Comparisons between a property and a literal are estimated using the value distributions
+ * (most common values and histograms) provided by the graph statistics. If no distribution is
+ * available, equality is estimated from the number of distinct values and ranges using a fixed
+ * default selectivity. Predicates within a disjunction are assumed to be independent.
  */
 class FilterEstimator extends Estimator {
+  /**
+   * Selectivity of an equality predicate if no statistics about the property are available.
+   */
+  static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1d;
   /**
    * The non-filtered cardinality of the leaf node.
    */
@@ -44,7 +64,20 @@ class FilterEstimator extends Estimator {
    * @param graphStatistics graph statistics
    */
   FilterEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
-    super(queryHandler, graphStatistics);
+    this(queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new estimator. Leaf nodes with an observed cardinality are not estimated, as their
+   * predicates are already reflected in the observed value.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param observedCardinalities exact leaf cardinalities (query variable -> cardinality)
+   */
+  FilterEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> observedCardinalities) {
+    super(queryHandler, graphStatistics, observedCardinalities);
     this.selectivity = 1f;
   }
 
@@ -56,12 +89,18 @@ class FilterEstimator extends Estimator {
   void visit(FilterNode node) {
     if (node instanceof FilterAndProjectVerticesNode) {
       FilterAndProjectVerticesNode vertexNode = (FilterAndProjectVerticesNode) node;
-      setCardinality(vertexNode.getEmbeddingMetaData().getVertexVariables().get(0), true);
-      updateSelectivity(vertexNode.getFilterPredicate());
+      String variable = vertexNode.getEmbeddingMetaData().getVertexVariables().get(0);
+      setCardinality(variable, true);
+      if (!isObserved(variable)) {
+        updateSelectivity(vertexNode.getFilterPredicate());
+      }
     } else if (node instanceof FilterAndProjectEdgesNode) {
       FilterAndProjectEdgesNode edgeNode = (FilterAndProjectEdgesNode) node;
-      setCardinality(edgeNode.getEmbeddingMetaData().getEdgeVariables().get(0), false);
-      updateSelectivity(edgeNode.getFilterPredicate());
+      String variable = edgeNode.getEmbeddingMetaData().getEdgeVariables().get(0);
+      setCardinality(variable, false);
+      if (!isObserved(variable)) {
+        updateSelectivity(edgeNode.getFilterPredicate());
+      }
     } else if (node instanceof FilterEmbeddingsNode) {
       updateSelectivity(((FilterEmbeddingsNode) node).getFilterPredicate());
     }
@@ -92,7 +131,7 @@ class FilterEstimator extends Estimator {
    * @param isVertex true, iff the variable maps to a vertex
    */
   private void setCardinality(String variable, boolean isVertex) {
-    cardinality = getCardinality(getLabel(variable, isVertex), isVertex);
+    cardinality = getVariableCardinality(variable, isVertex);
   }
 
   /**
@@ -101,6 +140,181 @@ class FilterEstimator extends Estimator {
    * @param predicates query predicates
    */
   private void updateSelectivity(CNF predicates) {
-    // TODO
+    for (CNFElement disjunction : predicates.getPredicates()) {
+      double nonSelectivity = 1d;
+      for (ComparisonExpression comparison : disjunction.getPredicates()) {
+        nonSelectivity *= 1d - estimateSelectivity(comparison);
+      }
+      selectivity *= 1d - nonSelectivity;
+    }
+  }
+
+  /**
+   * Estimates the selectivity of a single comparison.
+   *
+   * @param comparison comparison expression
+   * @return estimated selectivity
+   */
+  private double estimateSelectivity(ComparisonExpression comparison) {
+    QueryComparable lhs = comparison.getLhs();
+    QueryComparable rhs = comparison.getRhs();
+    Comparator comparator = comparison.getComparator();
+
+    if (lhs instanceof LiteralComparable && rhs instanceof PropertySelectorComparable) {
+      QueryComparable tmp = lhs;
+      lhs = rhs;
+      rhs = tmp;
+      comparator = swapSides(comparator);
+    }
+
+    if (isLabelSelector(lhs) || isLabelSelector(rhs)) {
+      // label predicates are already covered by the cardinality of the label
+      return 1d;
+    }
+
+    double result = 1d;
+    if (lhs instanceof PropertySelectorComparable && rhs instanceof LiteralComparable) {
+      result = estimateSelectivity((PropertySelectorComparable) lhs, comparator,
+        PropertyValue.create(((LiteralComparable) rhs).getValue()));
+    } else if (lhs instanceof PropertySelectorComparable &&
+      rhs instanceof PropertySelectorComparable) {
+      long distinct = Math.max(getDistinctValues((PropertySelectorComparable) lhs),
+        getDistinctValues((PropertySelectorComparable) rhs));
+      double equality = distinct > 0 ? 1d / distinct : DEFAULT_EQUALITY_SELECTIVITY;
+      result = getDefaultSelectivity(comparator, equality);
+    }
+    return result;
+  }
+
+  /**
+   * Estimates the selectivity of a comparison between a property and a literal value.
+   *
+   * If the label of the query element is known, its value distribution is used, otherwise the
+   * distributions of all labels are combined. The result accounts for elements that do not have
+   * the property at all.
+   *
+   * @param property property selector
+   * @param comparator comparison operator
+   * @param value literal value
+   * @return estimated selectivity
+   */
+  private double estimateSelectivity(PropertySelectorComparable property, Comparator comparator,
+    PropertyValue value) {
+    String variable = property.getVariable();
+    String key = property.getPropertyKey();
+    boolean isVertex = getQueryHandler().isVertex(variable);
+    String label = getLabel(variable, isVertex);
+
+    Map<String, PropertyStatistics> statisticsByLabel = isVertex ?
+      getGraphStatistics().getVertexPropertyStatistics(key) :
+      getGraphStatistics().getEdgePropertyStatistics(key);
+
+    double matching = 0d;
+    long elements = 0L;
+    if (statisticsByLabel.containsKey(label)) {
+      PropertyStatistics statistics = statisticsByLabel.get(label);
+      matching = statistics.getCount() * statistics.getSelectivity(comparator, value);
+      elements = getCardinality(label, isVertex);
+    } else if (!statisticsByLabel.isEmpty() && (isVertex ?
+      getGraphStatistics().getVertexCount(label) : getGraphStatistics().getEdgeCount(label)) == 0) {
+      // unlabeled query element, the cardinality falls back to all elements as well
+      for (PropertyStatistics statistics : statisticsByLabel.values()) {
+        matching += statistics.getCount() * statistics.getSelectivity(comparator, value);
+      }
+      elements = isVertex ? getGraphStatistics().getVertexCount() :
+        getGraphStatistics().getEdgeCount();
+    }
+
+    if (elements > 0L) {
+      // expect at least one match to keep the estimate usable for join ordering
+      return Math.min(1d, Math.max(1d, matching) / elements);
+    }
+    long distinct = getDistinctValues(property);
+    return getDefaultSelectivity(comparator,
+      distinct > 0 ? 1d / distinct : DEFAULT_EQUALITY_SELECTIVITY);
+  }
+
+  /**
+   * Checks if the given comparable selects the label of a query element.
+   *
+   * @param comparable query comparable
+   * @return true, iff the comparable is a label selector
+   */
+  private static boolean isLabelSelector(QueryComparable comparable) {
+    return comparable instanceof PropertySelectorComparable &&
+      ((PropertySelectorComparable) comparable).getPropertyKey().equals("__label__");
+  }
+
+  /**
+   * Returns the number of distinct values of the given property according to the statistics.
+   *
+   * @param property property selector
+   * @return number of distinct values or 0 if unknown
+   */
+  private long getDistinctValues(PropertySelectorComparable property) {
+    String variable = property.getVariable();
+    String key = property.getPropertyKey();
+    boolean isVertex = getQueryHandler().isVertex(variable);
+    String label = getLabel(variable, isVertex);
+
+    long distinct = isVertex ?
+      getGraphStatistics().getDistinctVertexProperties(label, key) :
+      getGraphStatistics().getDistinctEdgeProperties(label, key);
+    if (distinct == 0) {
+      distinct = isVertex ?
+        getGraphStatistics().getDistinctVertexProperties(key) :
+        getGraphStatistics().getDistinctEdgeProperties(key);
+    }
+    return distinct;
+  }
+
+  /**
+   * Returns the selectivity of a comparison if no value distribution is available.
+   *
+   * @param comparator comparison operator
+   * @param equality estimated selectivity of an equality comparison
+   * @return estimated selectivity
+   */
+  private static double getDefaultSelectivity(Comparator comparator, double equality) {
+    double result;
+    switch (comparator) {
+    case EQ:
+      result = equality;
+      break;
+    case NEQ:
+      result = 1d - equality;
+      break;
+    default:
+      result = PropertyStatistics.DEFAULT_RANGE_SELECTIVITY;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the comparator that is equivalent to the given one if both operands are swapped,
+   * e.g. {@code 30 < p.age} is equivalent to {@code p.age > 30}.
+   *
+   * @param comparator comparison operator
+   * @return comparator for swapped operands
+   */
+  private static Comparator swapSides(Comparator comparator) {
+    Comparator result;
+    switch (comparator) {
+    case LT:
+      result = Comparator.GT;
+      break;
+    case LTE:
+      result = Comparator.GTE;
+      break;
+    case GT:
+      result = Comparator.LT;
+      break;
+    case GTE:
+      result = Comparator.LTE;
+      break;
+    default:
+      result = comparator;
+    }
+    return result;
   }
 }
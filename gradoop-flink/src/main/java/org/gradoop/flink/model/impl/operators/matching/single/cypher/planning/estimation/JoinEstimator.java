@@ -22,9 +22,12 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embed
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.LeafNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.s1ck.gdl.model.Edge;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +54,19 @@ class JoinEstimator extends Estimator {
    * @param graphStatistics graph statistics
    */
   JoinEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics) {
-    super(queryHandler, graphStatistics);
+    this(queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new estimator.
+   *
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param observedCardinalities exact leaf cardinalities (query variable -> cardinality)
+   */
+  JoinEstimator(QueryHandler queryHandler, GraphStatistics graphStatistics,
+    Map<String, Long> observedCardinalities) {
+    super(queryHandler, graphStatistics, observedCardinalities);
     this.cardinalities = new HashMap<>();
     this.distinctValues = new HashMap<>();
   }
@@ -70,6 +85,12 @@ class JoinEstimator extends Estimator {
       if (binaryNode.getRightChild() instanceof LeafNode) {
         process(binaryNode.getRightChild().getEmbeddingMetaData());
       }
+    } else if (node instanceof NaryNode) {
+      for (PlanNode child : ((NaryNode) node).getChildren()) {
+        if (child instanceof LeafNode) {
+          process(child.getEmbeddingMetaData());
+        }
+      }
     }
   }
 
@@ -102,12 +123,13 @@ class JoinEstimator extends Estimator {
     if (entryCount == 1) {
       processVertex(variables.get(0));
     } else {
-      String edgeVariable = variables.get(1);
+      // for variable length loops the vertex column follows the edge column
+      String edgeVariable = metaData.getEdgeVariables().get(0);
       String sourceVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getSourceVertexId()).getVariable();
       String targetVariable = getQueryHandler().getVertexById(
         getQueryHandler().getEdgeByVariable(edgeVariable).getTargetVertexId()).getVariable();
-      processEdge(sourceVariable, variables.get(1), targetVariable);
+      processEdge(sourceVariable, edgeVariable, targetVariable);
     }
   }
 
@@ -117,8 +139,7 @@ class JoinEstimator extends Estimator {
    * @param vertexVariable vertex variable
    */
   private void processVertex(String vertexVariable) {
-    String label = getLabel(vertexVariable, true);
-    long cardinality = getCardinality(label, true);
+    long cardinality = getVariableCardinality(vertexVariable, true);
     updateCardinality(vertexVariable, cardinality);
     updateDistinctValues(vertexVariable, cardinality);
   }
@@ -142,15 +163,22 @@ class JoinEstimator extends Estimator {
       distinctTargetCount = getGraphStatistics().getDistinctTargetVertexCount();
     }
 
+    long edgeCardinality = getVariableCardinality(edgeVariable, false);
+    if (isObserved(edgeVariable)) {
+      // a filtered edge set cannot have more distinct end points than edges
+      distinctSourceCount = Math.max(1L, Math.min(distinctSourceCount, edgeCardinality));
+      distinctTargetCount = Math.max(1L, Math.min(distinctTargetCount, edgeCardinality));
+    }
+
     Edge queryEdge = getQueryHandler().getEdgeByVariable(edgeVariable);
     if (queryEdge.getUpperBound() > 1) {
       // variable case: n-hop edge
-      updateCardinality(edgeVariable, getPathCardinality(getCardinality(edgeLabel, false),
+      updateCardinality(edgeVariable, getPathCardinality(edgeCardinality,
         queryEdge.getLowerBound(), queryEdge.getUpperBound(),
         distinctSourceCount, distinctTargetCount));
     } else {
       // static case: 1-hop edge
-      updateCardinality(edgeVariable, getCardinality(edgeLabel, false));
+      updateCardinality(edgeVariable, edgeCardinality);
     }
     updateDistinctValues(sourceVariable, distinctSourceCount);
     updateDistinctValues(targetVariable, distinctTargetCount);
@@ -20,10 +20,14 @@ import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphSt
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.BinaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.FilterNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.UnaryNode;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Estimates a given query plan by traversing its nodes and updating the state of specific
  * estimator implementations (e.g. for join, filter, project).
@@ -51,9 +55,24 @@ public class QueryPlanEstimator {
    */
   public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
     GraphStatistics graphStatistics) {
+    this(queryPlan, queryHandler, graphStatistics, Collections.emptyMap());
+  }
+
+  /**
+   * Creates a new plan estimator which uses the given exact cardinalities for leaf nodes that have
+   * already been executed instead of estimating them from the graph statistics.
+   *
+   * @param queryPlan query plan
+   * @param queryHandler query handler
+   * @param graphStatistics graph statistics
+   * @param observedCardinalities exact leaf cardinalities (query variable -> cardinality)
+   */
+  public QueryPlanEstimator(QueryPlan queryPlan, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, Map<String, Long> observedCardinalities) {
     this.queryPlan = queryPlan;
-    this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics);
-    this.filterEstimator = new FilterEstimator(queryHandler, graphStatistics);
+    this.joinEstimator = new JoinEstimator(queryHandler, graphStatistics, observedCardinalities);
+    this.filterEstimator =
+      new FilterEstimator(queryHandler, graphStatistics, observedCardinalities);
   }
 
   /**
@@ -100,6 +119,9 @@ public class QueryPlanEstimator {
       traversePlan(((BinaryNode) node).getLeftChild());
       traversePlan(((BinaryNode) node).getRightChild());
     }
+    if (node instanceof NaryNode) {
+      ((NaryNode) node).getChildren().forEach(this::traversePlan);
+    }
     if (node instanceof UnaryNode) {
       traversePlan(((UnaryNode) node).getChildNode());
     }
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner;
+
+/**
+ * Used to select the query planner which computes the execution plan of a Cypher query.
+ */
+public enum PlannerType {
+  /**
+   * Iteratively extends the cheapest partial plan ({@code GreedyPlanner}).
+   */
+  GREEDY,
+  /**
+   * Enumerates bushy join trees bottom-up and keeps the cheapest plan per sub-query
+   * ({@code DPPlanner}).
+   */
+  DYNAMIC_PROGRAMMING
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import com.google.common.collect.Sets;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.QueryPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTable;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry.Type.PATH;
+
+/**
+ * A query planner that enumerates bushy join trees bottom-up using dynamic programming.
+ *
+ * For each set of processed query variables, the planner keeps the cheapest plan found so far and
+ * builds plans for larger sets by joining the cheapest plans of two disjoint smaller sets. The cost
+ * of a plan is the sum of the estimated cardinalities of all its intermediate results. Plans are
+ * additionally extended by vertices that close cycles in the query graph, using a worst-case
+ * optimal intersection of their incident edges.
+ *
+ * To bound planning time for large patterns, the number of evaluated candidate plans is capped. If
+ * the cap is exceeded, planning falls back to the {@link GreedyPlanner}.
+ */
+public class DPPlanner extends QueryPlanner {
+  /**
+   * Default maximum number of candidate plans to evaluate.
+   */
+  public static final int DEFAULT_MAX_CANDIDATES = 10000;
+  /**
+   * Maximum number of candidate plans to evaluate before falling back to greedy planning.
+   */
+  private final int maxCandidates;
+
+  /**
+   * Creates a new dynamic programming planner using {@link #DEFAULT_MAX_CANDIDATES}.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   */
+  public DPPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    this(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy,
+      DEFAULT_MAX_CANDIDATES);
+  }
+
+  /**
+   * Creates a new dynamic programming planner.
+   *
+   * @param graph search graph
+   * @param queryHandler query handler
+   * @param graphStatistics search graph statistics
+   * @param vertexStrategy morphism type for vertex mappings
+   * @param edgeStrategy morphism type for edge mappings
+   * @param maxCandidates maximum number of candidate plans to evaluate
+   */
+  public DPPlanner(LogicalGraph graph, QueryHandler queryHandler,
+    GraphStatistics graphStatistics, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy,
+    int maxCandidates) {
+    super(graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy);
+    this.maxCandidates = maxCandidates;
+  }
+
+  /**
+   * Computes the {@link PlanTableEntry} that wraps the query plan with the minimum costs
+   * according to the dynamic programming algorithm.
+   *
+   * @return entry with minimum execution costs
+   */
+  @Override
+  public PlanTableEntry plan() {
+    PlanTable leafTable = initPlanTable();
+    int variableCount = leafTable.size();
+
+    // levels[k] contains the cheapest plan for each set of k processed variables
+    List<Map<Set<String>, CostedEntry>> levels = new ArrayList<>(variableCount + 1);
+    for (int i = 0; i <= variableCount; i++) {
+      levels.add(new HashMap<>());
+    }
+    for (PlanTableEntry leaf : leafTable) {
+      levels.get(1).put(leaf.getProcessedVariables(),
+        new CostedEntry(leaf, leaf.getEstimatedCardinality()));
+    }
+
+    int candidates = 0;
+    for (int size = 2; size <= variableCount; size++) {
+      Map<Set<String>, CostedEntry> level = levels.get(size);
+      // plans of the previous level are final, extend them by closing cycles
+      for (CostedEntry left : new ArrayList<>(levels.get(size - 1).values())) {
+        for (PlanTableEntry extended : intersect(left.entry, leafTable)) {
+          if (++candidates > maxCandidates) {
+            return new GreedyPlanner(
+              graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan();
+          }
+          // costs of the extended plan and the leaf plans of all intersected edges
+          Set<String> edgeVariables = Sets.difference(
+            extended.getProcessedVariables(), left.entry.getProcessedVariables());
+          long cost = left.cost + extended.getEstimatedCardinality();
+          for (PlanTableEntry leaf : leafTable) {
+            if (edgeVariables.containsAll(leaf.getProcessedVariables())) {
+              cost += leaf.getEstimatedCardinality();
+            }
+          }
+          Map<Set<String>, CostedEntry> target =
+            levels.get(extended.getProcessedVariables().size());
+          CostedEntry best = target.get(extended.getProcessedVariables());
+          if (best == null || cost < best.cost) {
+            target.put(extended.getProcessedVariables(), new CostedEntry(extended, cost));
+          }
+        }
+      }
+      for (int leftSize = 1; leftSize < size; leftSize++) {
+        for (CostedEntry left : levels.get(leftSize).values()) {
+          if (!mayExtend(left.entry)) {
+            continue;
+          }
+          for (CostedEntry right : levels.get(size - leftSize).values()) {
+            if (!Collections.disjoint(left.entry.getProcessedVariables(),
+              right.entry.getProcessedVariables())) {
+              continue;
+            }
+            for (PlanTableEntry joined : join(left.entry, right.entry)) {
+              if (++candidates > maxCandidates) {
+                return new GreedyPlanner(
+                  graph, queryHandler, graphStatistics, vertexStrategy, edgeStrategy).plan();
+              }
+              long cost = left.cost + right.cost + joined.getEstimatedCardinality();
+              CostedEntry best = level.get(joined.getProcessedVariables());
+              if (best == null || cost < best.cost) {
+                level.put(joined.getProcessedVariables(), new CostedEntry(joined, cost));
+              }
+            }
+          }
+        }
+      }
+    }
+
+    if (!levels.get(variableCount).isEmpty()) {
+      return levels.get(variableCount).values().stream()
+        .min(Comparator.comparingLong(e -> e.cost))
+        .map(e -> e.entry)
+        .orElseThrow(IllegalStateException::new);
+    }
+
+    // the query graph is not connected, combine the plans of its components
+    PlanTable planTable = getComponentPlans(levels);
+    while (planTable.size() > 1) {
+      PlanTable newPlans = evaluateProjection(evaluateFilter(evaluateCartesianProducts(planTable)));
+      PlanTableEntry bestEntry = newPlans.min();
+      planTable.removeCoveredBy(bestEntry);
+      planTable.add(bestEntry);
+    }
+    return planTable.get(0);
+  }
+
+  /**
+   * Joins the specified entries if they share at least one query variable and applies all
+   * filters and projections that become possible after the join.
+   *
+   * @param left left entry
+   * @param right right entry
+   * @return joined entries (empty if the entries cannot be joined)
+   */
+  private PlanTable join(PlanTableEntry left, PlanTableEntry right) {
+    PlanTable joined = new PlanTable();
+    List<String> joinVariables = getOverlap(left, right);
+    if (joinVariables.size() > 0) {
+      if (right.getType() == PATH && joinVariables.size() == 2) {
+        // evaluate join with variable length path on source and target vertex
+        joined.add(joinEntries(left, right, joinVariables.subList(0, 1)));
+        joined.add(joinEntries(left, right, joinVariables.subList(1, 2)));
+      } else {
+        joined.add(joinEntries(left, right, joinVariables));
+      }
+    }
+    return evaluateProjection(evaluateFilter(joined));
+  }
+
+  /**
+   * Extends the specified entry by each vertex which is connected to it via at least two query
+   * edges and applies all filters and projections that become possible after the extension.
+   *
+   * @param left entry to extend
+   * @param leafTable plan table containing the leaf entries
+   * @return extended entries (empty if the entry cannot be extended)
+   */
+  private PlanTable intersect(PlanTableEntry left, PlanTable leafTable) {
+    return evaluateProjection(evaluateFilter(intersectEntries(left, leafTable)));
+  }
+
+  /**
+   * Selects the cheapest plans covering the largest disjoint sets of query variables, i.e. one
+   * plan for each connected component of the query graph.
+   *
+   * @param levels cheapest plans grouped by the number of processed variables
+   * @return plan table containing one entry per query graph component
+   */
+  private PlanTable getComponentPlans(List<Map<Set<String>, CostedEntry>> levels) {
+    PlanTable planTable = new PlanTable();
+    Set<String> covered = new HashSet<>();
+    for (int size = levels.size() - 1; size > 0; size--) {
+      List<CostedEntry> entries = levels.get(size).values().stream()
+        .sorted(Comparator.comparingLong(e -> e.cost))
+        .collect(Collectors.toList());
+      for (CostedEntry entry : entries) {
+        if (Collections.disjoint(covered, entry.entry.getProcessedVariables())) {
+          covered.addAll(entry.entry.getProcessedVariables());
+          planTable.add(entry.entry);
+        }
+      }
+    }
+    return planTable;
+  }
+
+  /**
+   * A plan table entry together with the accumulated costs of its query plan.
+   */
+  private static class CostedEntry {
+    /**
+     * Plan table entry
+     */
+    private final PlanTableEntry entry;
+    /**
+     * Sum of the estimated cardinalities of all intermediate results
+     */
+    private final long cost;
+
+    /**
+     * Creates a new costed entry.
+     *
+     * @param entry plan table entry
+     * @param cost accumulated plan costs
+     */
+    CostedEntry(PlanTableEntry entry, long cost) {
+      this.entry = entry;
+      this.cost = cost;
+    }
+  }
+}
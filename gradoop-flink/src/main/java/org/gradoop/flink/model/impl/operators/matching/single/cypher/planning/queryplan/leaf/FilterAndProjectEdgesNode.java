@@ -106,6 +106,25 @@ public class FilterAndProjectEdgesNode extends LeafNode implements FilterNode, P
     return new CNF(filterPredicate);
   }
 
+  /**
+   * Replaces the filter predicate attached to this node, e.g. to bind a cached plan to new
+   * literal values. The predicate must refer to the same variables and property keys.
+   *
+   * @param filterPredicate filter predicate
+   */
+  public void setFilterPredicate(CNF filterPredicate) {
+    this.filterPredicate = filterPredicate;
+  }
+
+  /**
+   * Replaces the input data set of this node, e.g. to bind a cached plan to another graph.
+   *
+   * @param edges input edges
+   */
+  public void setEdges(DataSet<Edge> edges) {
+    this.edges = edges;
+  }
+
   /**
    * Returns a copy of the projection keys attached to this node.
    *
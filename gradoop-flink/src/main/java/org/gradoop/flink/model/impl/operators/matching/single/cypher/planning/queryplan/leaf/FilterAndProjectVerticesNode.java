@@ -83,6 +83,25 @@ public class FilterAndProjectVerticesNode extends LeafNode implements FilterNode
     return new CNF(filterPredicate);
   }
 
+  /**
+   * Replaces the filter predicate attached to this node, e.g. to bind a cached plan to new
+   * literal values. The predicate must refer to the same variables and property keys.
+   *
+   * @param filterPredicate filter predicate
+   */
+  public void setFilterPredicate(CNF filterPredicate) {
+    this.filterPredicate = filterPredicate;
+  }
+
+  /**
+   * Replaces the input data set of this node, e.g. to bind a cached plan to another graph.
+   *
+   * @param vertices input vertices
+   */
+  public void setVertices(DataSet<Vertex> vertices) {
+    this.vertices = vertices;
+  }
+
   /**
    * Returns a copy of the projection keys attached to this node.
    *
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect.IntersectEmbeddings;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.JoinNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.NaryNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * N-ary node that wraps an {@link IntersectEmbeddings} operator.
+ *
+ * The first child represents the embeddings to extend, all further children represent the
+ * (single hop) edges that connect the extension vertex with vertices of the first child.
+ */
+public class IntersectEmbeddingsNode extends NaryNode implements JoinNode {
+  /**
+   * Query variable of the vertex that extends the embeddings
+   */
+  private final String extendVariable;
+  /**
+   * Morphism type for vertices
+   */
+  private final MatchStrategy vertexStrategy;
+  /**
+   * Morphism type for edges
+   */
+  private final MatchStrategy edgeStrategy;
+
+  /**
+   * Creates a new node.
+   *
+   * @param inputChild input plan node providing the embeddings to extend
+   * @param edgeChildren edge plan nodes connecting the extension vertex with the input embeddings
+   * @param extendVariable query variable of the vertex that extends the embeddings
+   * @param vertexStrategy morphism setting for vertices
+   * @param edgeStrategy morphism setting for edges
+   */
+  public IntersectEmbeddingsNode(PlanNode inputChild, List<PlanNode> edgeChildren,
+    String extendVariable, MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    super(concat(inputChild, edgeChildren));
+    this.extendVariable = extendVariable;
+    this.vertexStrategy = vertexStrategy;
+    this.edgeStrategy = edgeStrategy;
+  }
+
+  @Override
+  public DataSet<Embedding> execute() {
+    EmbeddingMetaData inputMetaData = getInputChild().getEmbeddingMetaData();
+    List<PlanNode> edgeChildren = getEdgeChildren();
+
+    List<DataSet<Embedding>> candidateEdges = new ArrayList<>(edgeChildren.size());
+    List<Integer> boundColumns = new ArrayList<>(edgeChildren.size());
+    List<ExpandDirection> directions = new ArrayList<>(edgeChildren.size());
+
+    for (PlanNode edgeChild : edgeChildren) {
+      EmbeddingMetaData edgeMetaData = edgeChild.getEmbeddingMetaData();
+      String sourceVariable = getVertexVariable(edgeMetaData, 0);
+      String targetVariable = getVertexVariable(edgeMetaData, 2);
+      ExpandDirection direction = targetVariable.equals(extendVariable) ?
+        ExpandDirection.OUT : ExpandDirection.IN;
+      String boundVariable = direction == ExpandDirection.OUT ? sourceVariable : targetVariable;
+
+      candidateEdges.add(edgeChild.execute());
+      boundColumns.add(inputMetaData.getEntryColumn(boundVariable));
+      directions.add(direction);
+    }
+
+    IntersectEmbeddings op = new IntersectEmbeddings(getInputChild().execute(), candidateEdges,
+      inputMetaData.getEntryCount(), boundColumns, directions,
+      getDistinctVertexColumns(), getDistinctEdgeColumns());
+    op.setName(toString());
+    return op.evaluate();
+  }
+
+  @Override
+  protected EmbeddingMetaData computeEmbeddingMetaData() {
+    EmbeddingMetaData inputMetaData = getInputChild().getEmbeddingMetaData();
+    EmbeddingMetaData embeddingMetaData = new EmbeddingMetaData(inputMetaData);
+
+    int entryCount = inputMetaData.getEntryCount();
+    embeddingMetaData.setEntryColumn(extendVariable, EmbeddingMetaData.EntryType.VERTEX,
+      entryCount++);
+
+    // append one edge entry per edge child
+    for (PlanNode edgeChild : getEdgeChildren()) {
+      String edgeVariable = edgeChild.getEmbeddingMetaData().getEdgeVariables().get(0);
+      embeddingMetaData.setEntryColumn(edgeVariable, EmbeddingMetaData.EntryType.EDGE,
+        entryCount++);
+    }
+
+    // append the edge property mappings in the same order
+    int propertyCount = inputMetaData.getPropertyCount();
+    for (PlanNode edgeChild : getEdgeChildren()) {
+      EmbeddingMetaData edgeMetaData = edgeChild.getEmbeddingMetaData();
+      String edgeVariable = edgeMetaData.getEdgeVariables().get(0);
+      for (String key : edgeMetaData.getPropertyKeys(edgeVariable)) {
+        embeddingMetaData.setPropertyColumn(edgeVariable, key, propertyCount++);
+      }
+    }
+    return embeddingMetaData;
+  }
+
+  /**
+   * Returns the plan node providing the embeddings to extend.
+   *
+   * @return input plan node
+   */
+  public PlanNode getInputChild() {
+    return getChildren().get(0);
+  }
+
+  /**
+   * Returns the edge plan nodes connecting the extension vertex with the input embeddings.
+   *
+   * @return edge plan nodes
+   */
+  public List<PlanNode> getEdgeChildren() {
+    return getChildren().subList(1, getChildren().size());
+  }
+
+  /**
+   * According to the specified {@link IntersectEmbeddingsNode#vertexStrategy}, the method returns
+   * the input columns that must not contain the extension vertex.
+   *
+   * @return distinct vertex columns of the input embedding
+   */
+  private List<Integer> getDistinctVertexColumns() {
+    EmbeddingMetaData metaData = getInputChild().getEmbeddingMetaData();
+    return vertexStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getVertexVariables().stream()
+        .map(metaData::getEntryColumn)
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * According to the specified {@link IntersectEmbeddingsNode#edgeStrategy}, the method returns
+   * the edge columns of the resulting embedding that need to contain distinct entries.
+   *
+   * @return distinct edge columns of the resulting embedding
+   */
+  private List<Integer> getDistinctEdgeColumns() {
+    EmbeddingMetaData metaData = getEmbeddingMetaData();
+    return edgeStrategy == MatchStrategy.ISOMORPHISM ?
+      metaData.getEdgeVariables().stream()
+        .map(metaData::getEntryColumn)
+        .sorted()
+        .collect(Collectors.toList()) : Collections.emptyList();
+  }
+
+  /**
+   * Returns the vertex variable stored at the specified column of an edge embedding.
+   *
+   * @param metaData edge embedding meta data
+   * @param column entry column
+   * @return vertex variable
+   */
+  private static String getVertexVariable(EmbeddingMetaData metaData, int column) {
+    return metaData.getVertexVariables().stream()
+      .filter(var -> metaData.getEntryColumn(var) == column)
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException(
+        "No vertex variable at column " + column + " in " + metaData));
+  }
+
+  /**
+   * Returns a list containing the first node followed by all further nodes.
+   *
+   * @param first first node
+   * @param further further nodes
+   * @return concatenated nodes
+   */
+  private static List<PlanNode> concat(PlanNode first, List<PlanNode> further) {
+    List<PlanNode> nodes = new ArrayList<>(further.size() + 1);
+    nodes.add(first);
+    nodes.addAll(further);
+    return nodes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("IntersectEmbeddingsNode{" +
+      "extendVariable=%s, " +
+      "vertexMorphismType=%s, " +
+      "edgeMorphismType=%s}",
+      extendVariable, vertexStrategy, edgeStrategy);
+  }
+}
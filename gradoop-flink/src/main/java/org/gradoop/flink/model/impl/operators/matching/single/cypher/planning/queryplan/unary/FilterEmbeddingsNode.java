@@ -60,6 +60,16 @@ public class FilterEmbeddingsNode extends UnaryNode implements FilterNode {
     return new CNF(filterPredicate);
   }
 
+  /**
+   * Replaces the filter predicate attached to this node, e.g. to bind a cached plan to new
+   * literal values. The predicate must refer to the same variables and property keys.
+   *
+   * @param filterPredicate filter predicate
+   */
+  public void setFilterPredicate(CNF filterPredicate) {
+    this.filterPredicate = filterPredicate;
+  }
+
   @Override
   protected EmbeddingMetaData computeEmbeddingMetaData() {
     return new EmbeddingMetaData(getChildNode().getEmbeddingMetaData());
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos;
+
+import com.google.common.primitives.UnsignedBytes;
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.types.CopyableValue;
+import org.apache.flink.types.NormalizableKey;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Binary key used to join embeddings. The key consists of the concatenated raw bytes of the
+ * join columns of an embedding, i.e. 12 bytes per id column or the length prefixed raw property
+ * values for property columns.
+ *
+ * Keys are compared by their unsigned byte representation which allows Flink to sort on
+ * normalized keys instead of deserializing them.
+ */
+public class JoinKey implements NormalizableKey<JoinKey>, CopyableValue<JoinKey> {
+
+  /**
+   * Key bytes
+   */
+  private byte[] bytes;
+
+  /**
+   * Creates an empty key (required for deserialization).
+   */
+  public JoinKey() {
+    this.bytes = new byte[0];
+  }
+
+  /**
+   * Creates a key wrapping the given bytes.
+   *
+   * @param bytes key bytes
+   */
+  private JoinKey(byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Creates a key from the ids stored at the given columns of an embedding.
+   *
+   * @param embedding embedding
+   * @param columns id columns
+   * @return join key
+   */
+  public static JoinKey fromIds(Embedding embedding, int[] columns) {
+    byte[] idData = embedding.getIdData();
+    byte[] key = new byte[columns.length * GradoopId.ID_SIZE];
+    for (int i = 0; i < columns.length; i++) {
+      int offset = columns[i] * Embedding.ID_ENTRY_SIZE;
+      if (offset + Embedding.ID_ENTRY_SIZE > idData.length) {
+        throw new IndexOutOfBoundsException("Cannot find column " + columns[i]);
+      }
+      if (idData[offset] == Embedding.ID_LIST_FLAG) {
+        throw new UnsupportedOperationException("Can't return ID for ID List");
+      }
+      System.arraycopy(idData, offset + 1, key, i * GradoopId.ID_SIZE, GradoopId.ID_SIZE);
+    }
+    return new JoinKey(key);
+  }
+
+  /**
+   * Creates a key from the property values stored at the given property columns of an
+   * embedding. Each value is prefixed by its length, so concatenated keys are unambiguous.
+   *
+   * @param embedding embedding
+   * @param columns property columns
+   * @return join key
+   */
+  public static JoinKey fromProperties(Embedding embedding, int[] columns) {
+    if (columns.length == 1) {
+      return new JoinKey(embedding.getRawProperty(columns[0]));
+    }
+    byte[][] properties = new byte[columns.length][];
+    int length = 0;
+    for (int i = 0; i < columns.length; i++) {
+      properties[i] = embedding.getRawProperty(columns[i]);
+      length += properties[i].length;
+    }
+    byte[] key = new byte[length];
+    int offset = 0;
+    for (byte[] property : properties) {
+      System.arraycopy(property, 0, key, offset, property.length);
+      offset += property.length;
+    }
+    return new JoinKey(key);
+  }
+
+  /**
+   * Returns the number of bytes of this key.
+   *
+   * @return key length in bytes
+   */
+  public int size() {
+    return bytes.length;
+  }
+
+  @Override
+  public int compareTo(JoinKey other) {
+    return UnsignedBytes.lexicographicalComparator().compare(bytes, other.bytes);
+  }
+
+  @Override
+  public int getMaxNormalizedKeyLen() {
+    // keys have variable length, normalized keys are always prefixes
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void copyNormalizedKey(MemorySegment target, int offset, int len) {
+    int keyLength = Math.min(len, bytes.length);
+    target.put(offset, bytes, 0, keyLength);
+    for (int i = keyLength; i < len; i++) {
+      target.put(offset + i, (byte) 0);
+    }
+  }
+
+  @Override
+  public void write(DataOutputView out) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  @Override
+  public void read(DataInputView in) throws IOException {
+    // copies share the byte array, so it must not be overwritten
+    bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+  }
+
+  @Override
+  public int getBinaryLength() {
+    return -1;
+  }
+
+  @Override
+  public void copyTo(JoinKey target) {
+    target.bytes = this.bytes;
+  }
+
+  @Override
+  public JoinKey copy() {
+    return new JoinKey(this.bytes);
+  }
+
+  @Override
+  public void copy(DataInputView source, DataOutputView target) throws IOException {
+    int length = source.readInt();
+    target.writeInt(length);
+    target.write(source, length);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return Arrays.equals(bytes, ((JoinKey) o).bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(bytes);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(bytes);
+  }
+}
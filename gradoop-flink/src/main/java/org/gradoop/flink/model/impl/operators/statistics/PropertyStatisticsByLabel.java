@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.pojo.GraphElement;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ComputePropertyStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.functions.ExtractLabelPropertyValues;
+
+/**
+ * Base class for statistic operators computing the value distribution (distinct count, most common
+ * values and equi-depth histogram) of each label - property name pair in a single pass.
+ *
+ * @param <T> element type
+ */
+public abstract class PropertyStatisticsByLabel<T extends GraphElement>
+  implements UnaryGraphToValueOperator<DataSet<Tuple3<String, String, PropertyStatistics>>> {
+
+  @Override
+  public DataSet<Tuple3<String, String, PropertyStatistics>> execute(LogicalGraph graph) {
+    return getElements(graph)
+      .flatMap(new ExtractLabelPropertyValues<>())
+      .groupBy(0, 1)
+      .reduceGroup(new ComputePropertyStatistics());
+  }
+
+  /**
+   * Returns the elements to compute the statistics for.
+   *
+   * @param graph input graph
+   * @return graph elements
+   */
+  protected abstract DataSet<T> getElements(LogicalGraph graph);
+}
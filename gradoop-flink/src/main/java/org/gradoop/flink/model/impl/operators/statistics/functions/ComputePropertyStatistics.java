@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.util.Collector;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.HyperLogLog;
+import org.gradoop.flink.model.impl.operators.statistics.sketches.SpaceSaving;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Computes {@link PropertyStatistics} for all values of a (label, property name) group in a single
+ * pass and with bounded memory:
+ *
+ * <ul>
+ *   <li>the number of distinct values is estimated using a {@link HyperLogLog} sketch</li>
+ *   <li>the most common values are tracked using a {@link SpaceSaving} sketch</li>
+ *   <li>the equi-depth histogram is built from a reservoir sample of the sortable values, excluding
+ *   the most common values whose frequencies are stored separately</li>
+ * </ul>
+ *
+ * (label, property name, property value)* -> (label, property name, property statistics)
+ */
+@FunctionAnnotation.ForwardedFields("f0;f1")
+public class ComputePropertyStatistics implements
+  GroupReduceFunction<Tuple3<String, String, PropertyValue>,
+    Tuple3<String, String, PropertyStatistics>> {
+  /**
+   * Default number of histogram buckets
+   */
+  public static final int DEFAULT_HISTOGRAM_BUCKETS = 20;
+  /**
+   * Default number of most common values
+   */
+  public static final int DEFAULT_MOST_COMMON_VALUES = 10;
+  /**
+   * Default reservoir sample size used to build the histogram
+   */
+  public static final int DEFAULT_SAMPLE_SIZE = 1000;
+  /**
+   * Number of counters per most common value used by the {@link SpaceSaving} sketch
+   */
+  private static final int COUNTERS_PER_VALUE = 10;
+  /**
+   * Number of histogram buckets
+   */
+  private final int histogramBuckets;
+  /**
+   * Maximum number of most common values
+   */
+  private final int mostCommonValues;
+  /**
+   * Reservoir sample size
+   */
+  private final int sampleSize;
+
+  /**
+   * Creates a new UDF using the default parameters.
+   */
+  public ComputePropertyStatistics() {
+    this(DEFAULT_HISTOGRAM_BUCKETS, DEFAULT_MOST_COMMON_VALUES, DEFAULT_SAMPLE_SIZE);
+  }
+
+  /**
+   * Creates a new UDF.
+   *
+   * @param histogramBuckets number of histogram buckets
+   * @param mostCommonValues maximum number of most common values
+   * @param sampleSize reservoir sample size used to build the histogram
+   */
+  public ComputePropertyStatistics(int histogramBuckets, int mostCommonValues, int sampleSize) {
+    this.histogramBuckets = histogramBuckets;
+    this.mostCommonValues = mostCommonValues;
+    this.sampleSize = sampleSize;
+  }
+
+  @Override
+  public void reduce(Iterable<Tuple3<String, String, PropertyValue>> values,
+    Collector<Tuple3<String, String, PropertyStatistics>> out) throws Exception {
+
+    HyperLogLog distinct = new HyperLogLog();
+    SpaceSaving<PropertyValue> frequent = new SpaceSaving<>(mostCommonValues * COUNTERS_PER_VALUE);
+    List<PropertyValue> sample = new ArrayList<>(sampleSize);
+    Random random = null;
+    String label = null;
+    String propertyKey = null;
+    long count = 0L;
+    long sortable = 0L;
+
+    for (Tuple3<String, String, PropertyValue> value : values) {
+      if (label == null) {
+        label = value.f0;
+        propertyKey = value.f1;
+        // seed by group for reproducible statistics
+        random = new Random(label.hashCode() * 31L + propertyKey.hashCode());
+      }
+      // the input tuple may be reused, but its byte array is replaced on deserialization
+      PropertyValue propertyValue = PropertyValue.fromRawBytes(value.f2.getRawBytes());
+      count++;
+      distinct.add(propertyValue.getRawBytes());
+      frequent.add(propertyValue);
+
+      if (PropertyStatistics.isSortable(propertyValue)) {
+        sortable++;
+        if (sample.size() < sampleSize) {
+          sample.add(propertyValue);
+        } else {
+          long index = (long) (random.nextDouble() * sortable);
+          if (index < sampleSize) {
+            sample.set((int) index, propertyValue);
+          }
+        }
+      }
+    }
+
+    // small groups may be slightly overestimated by the sketch
+    long distinctCount = Math.min(count, Math.max(1L, distinct.estimate()));
+
+    Map<PropertyValue, Long> topK = frequent.getTopK(mostCommonValues, 2L);
+    sample.removeIf(topK::containsKey);
+
+    out.collect(Tuple3.of(label, propertyKey,
+      new PropertyStatistics(count, distinctCount, topK, buildHistogram(sample))));
+  }
+
+  /**
+   * Sorts the sample and returns {@code histogramBuckets + 1} values that split it into buckets of
+   * equal size. Returns an empty list if the sample contains less than two distinct values.
+   *
+   * @param sample value sample
+   * @return histogram bounds
+   */
+  private List<PropertyValue> buildHistogram(List<PropertyValue> sample) {
+    List<PropertyValue> bounds = new ArrayList<>();
+    if (sample.size() < 2) {
+      return bounds;
+    }
+    sample.sort(PropertyStatistics::compare);
+    if (PropertyStatistics.compare(sample.get(0), sample.get(sample.size() - 1)) == 0) {
+      return bounds;
+    }
+    int buckets = Math.min(histogramBuckets, sample.size() - 1);
+    for (int i = 0; i <= buckets; i++) {
+      bounds.add(sample.get((int) ((long) i * (sample.size() - 1) / buckets)));
+    }
+    return bounds;
+  }
+}
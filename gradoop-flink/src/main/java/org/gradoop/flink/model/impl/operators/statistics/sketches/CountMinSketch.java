@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A Count-Min sketch that tracks the most frequent property values (heavy hitters).
+ *
+ * The sketch estimates the frequency of a value as the minimum of {@code depth} counters out of
+ * {@code width} counters each. Estimates never underestimate and overestimate by at most
+ * {@code e * n / width} with probability {@code 1 - exp(-depth)}. In addition, up to
+ * {@code capacity} candidates with the highest estimates are kept. Two sketches with the same
+ * dimensions can be merged.
+ */
+public class CountMinSketch implements Sketch<CountMinSketch> {
+  /**
+   * Default number of counters per row.
+   */
+  public static final int DEFAULT_WIDTH = 1024;
+  /**
+   * Default number of rows.
+   */
+  public static final int DEFAULT_DEPTH = 4;
+  /**
+   * Hash function applied to the added values.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+  /**
+   * Number of counters per row
+   */
+  private final int width;
+  /**
+   * Number of rows
+   */
+  private final int depth;
+  /**
+   * Maximum number of tracked candidates
+   */
+  private final int capacity;
+  /**
+   * Counters, row by row
+   */
+  private final long[] counters;
+  /**
+   * candidate -> estimated frequency
+   */
+  private final Map<PropertyValue, Long> candidates;
+  /**
+   * Minimum estimate of all candidates, valid if all candidates are in use
+   */
+  private long minCandidateEstimate;
+  /**
+   * Number of added values
+   */
+  private long count;
+
+  /**
+   * Creates a new sketch using {@link #DEFAULT_WIDTH} and {@link #DEFAULT_DEPTH}.
+   *
+   * @param capacity maximum number of tracked candidates
+   */
+  public CountMinSketch(int capacity) {
+    this(capacity, DEFAULT_WIDTH, DEFAULT_DEPTH);
+  }
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param capacity maximum number of tracked candidates
+   * @param width number of counters per row
+   * @param depth number of rows
+   */
+  public CountMinSketch(int capacity, int width, int depth) {
+    if (capacity < 1 || width < 1 || depth < 1) {
+      throw new IllegalArgumentException(String.format(
+        "Invalid dimensions: capacity %d, width %d, depth %d", capacity, width, depth));
+    }
+    this.capacity = capacity;
+    this.width = width;
+    this.depth = depth;
+    this.counters = new long[width * depth];
+    this.candidates = new HashMap<>(capacity * 2);
+  }
+
+  @Override
+  public void add(PropertyValue value) {
+    add(value, 1L);
+  }
+
+  /**
+   * Adds multiple occurrences of a value.
+   *
+   * @param value value
+   * @param occurrences number of occurrences
+   */
+  public void add(PropertyValue value, long occurrences) {
+    HashCode hash = HASH_FUNCTION.hashBytes(value.getRawBytes());
+    int h1 = (int) hash.asLong();
+    int h2 = (int) (hash.asLong() >>> Integer.SIZE);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      int index = row * width + Math.floorMod(h1 + row * h2, width);
+      counters[index] += occurrences;
+      estimate = Math.min(estimate, counters[index]);
+    }
+    count += occurrences;
+    offer(value, estimate);
+  }
+
+  @Override
+  public void merge(CountMinSketch other) {
+    if (other.width != width || other.depth != depth || other.capacity != capacity) {
+      throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+    }
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] += other.counters[i];
+    }
+    count += other.count;
+
+    Map<PropertyValue, Long> merged = new HashMap<>(candidates);
+    merged.putAll(other.candidates);
+    candidates.clear();
+    for (PropertyValue candidate : merged.keySet()) {
+      offer(candidate, estimate(candidate));
+    }
+  }
+
+  /**
+   * Returns the estimated frequency of a value.
+   *
+   * @param value value
+   * @return estimated frequency, never below the true frequency
+   */
+  public long estimate(PropertyValue value) {
+    HashCode hash = HASH_FUNCTION.hashBytes(value.getRawBytes());
+    int h1 = (int) hash.asLong();
+    int h2 = (int) (hash.asLong() >>> Integer.SIZE);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters[row * width + Math.floorMod(h1 + row * h2, width)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the number of values added to the sketch.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns up to {@code k} candidates with the highest estimated frequency in descending order.
+   *
+   * @param k maximum number of returned values
+   * @return value -> estimated frequency in descending order of frequency
+   */
+  public Map<PropertyValue, Long> getTopK(int k) {
+    Map<PropertyValue, Long> result = new LinkedHashMap<>();
+    candidates.entrySet().stream()
+      .sorted((e1, e2) -> Long.compare(e2.getValue(), e1.getValue()))
+      .limit(k)
+      .forEach(e -> result.put(e.getKey(), e.getValue()));
+    return result;
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(capacity);
+    out.writeInt(width);
+    out.writeInt(depth);
+    out.writeLong(count);
+    for (long counter : counters) {
+      out.writeLong(counter);
+    }
+    out.writeInt(candidates.size());
+    for (Map.Entry<PropertyValue, Long> candidate : candidates.entrySet()) {
+      byte[] bytes = candidate.getKey().getRawBytes();
+      out.writeInt(bytes.length);
+      out.write(bytes);
+      out.writeLong(candidate.getValue());
+    }
+  }
+
+  /**
+   * Reads a sketch written by {@link #write(DataOutput)}.
+   *
+   * @param in input
+   * @return sketch
+   * @throws IOException on failure
+   */
+  public static CountMinSketch read(DataInput in) throws IOException {
+    CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt(), in.readInt());
+    sketch.count = in.readLong();
+    for (int i = 0; i < sketch.counters.length; i++) {
+      sketch.counters[i] = in.readLong();
+    }
+    int candidateCount = in.readInt();
+    for (int i = 0; i < candidateCount; i++) {
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      sketch.offer(PropertyValue.fromRawBytes(bytes), in.readLong());
+    }
+    return sketch;
+  }
+
+  /**
+   * Updates the estimate of a candidate or replaces the candidate with the minimum estimate.
+   *
+   * @param value value
+   * @param estimate estimated frequency of the value
+   */
+  private void offer(PropertyValue value, long estimate) {
+    Long previous = candidates.get(value);
+    if (previous != null) {
+      candidates.put(value, estimate);
+      if (candidates.size() == capacity && previous == minCandidateEstimate) {
+        updateMinCandidateEstimate();
+      }
+    } else if (candidates.size() < capacity) {
+      candidates.put(value, estimate);
+      if (candidates.size() == capacity) {
+        updateMinCandidateEstimate();
+      }
+    } else if (estimate > minCandidateEstimate) {
+      PropertyValue minCandidate = null;
+      for (Map.Entry<PropertyValue, Long> candidate : candidates.entrySet()) {
+        if (candidate.getValue() == minCandidateEstimate) {
+          minCandidate = candidate.getKey();
+          break;
+        }
+      }
+      candidates.remove(minCandidate);
+      candidates.put(value, estimate);
+      updateMinCandidateEstimate();
+    }
+  }
+
+  /**
+   * Recomputes the minimum estimate of all candidates.
+   */
+  private void updateMinCandidateEstimate() {
+    long min = Long.MAX_VALUE;
+    for (long candidateEstimate : candidates.values()) {
+      min = Math.min(min, candidateEstimate);
+    }
+    minCandidateEstimate = min;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A HyperLogLog sketch that estimates the number of distinct byte sequences added to it.
+ *
+ * The sketch uses {@code 2^precision} one-byte registers and a 64 bit Murmur3 hash. Its relative
+ * standard error is about {@code 1.04 / sqrt(2^precision)}. Small cardinalities are corrected using
+ * linear counting. Two sketches of the same precision can be merged.
+ */
+public class HyperLogLog implements Sketch<HyperLogLog> {
+  /**
+   * Default number of index bits, i.e. 4096 registers and ~1.6% standard error.
+   */
+  public static final int DEFAULT_PRECISION = 12;
+  /**
+   * Hash function applied to the added values.
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+  /**
+   * Number of bits used to select a register
+   */
+  private final int precision;
+  /**
+   * Maximum observed rank per register
+   */
+  private final byte[] registers;
+
+  /**
+   * Creates a new sketch using {@link #DEFAULT_PRECISION}.
+   */
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param precision number of index bits (4 to 16)
+   */
+  public HyperLogLog(int precision) {
+    if (precision < 4 || precision > 16) {
+      throw new IllegalArgumentException("Precision must be between 4 and 16: " + precision);
+    }
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  @Override
+  public void add(PropertyValue value) {
+    add(value.getRawBytes());
+  }
+
+  /**
+   * Adds the given value to the sketch.
+   *
+   * @param bytes byte representation of the value
+   */
+  public void add(byte[] bytes) {
+    addHash(HASH_FUNCTION.hashBytes(bytes).asLong());
+  }
+
+  /**
+   * Adds a 64 bit hash value to the sketch.
+   *
+   * @param hash uniformly distributed hash value
+   */
+  public void addHash(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    // rank of the first 1-bit in the remaining bits, the sentinel bounds it for w == 0
+    long w = (hash << precision) | (1L << (precision - 1));
+    byte rank = (byte) (Long.numberOfLeadingZeros(w) + 1);
+    if (rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Merges the registers of the given sketch into this sketch.
+   *
+   * @param other sketch with the same precision
+   */
+  @Override
+  public void merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge sketches of precision %d and %d", precision, other.precision));
+    }
+    for (int i = 0; i < registers.length; i++) {
+      if (other.registers[i] > registers[i]) {
+        registers[i] = other.registers[i];
+      }
+    }
+  }
+
+  /**
+   * Returns the estimated number of distinct values added to the sketch.
+   *
+   * @return estimated distinct count
+   */
+  public long estimate() {
+    int m = registers.length;
+    double sum = 0d;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1d / (1L << register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double estimate = alpha(m) * m * m / sum;
+
+    if (estimate <= 2.5 * m && zeros > 0) {
+      estimate = m * Math.log((double) m / zeros);
+    }
+    return Math.round(estimate);
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeByte(precision);
+    out.write(registers);
+  }
+
+  /**
+   * Reads a sketch written by {@link #write(DataOutput)}.
+   *
+   * @param in input
+   * @return sketch
+   * @throws IOException on failure
+   */
+  public static HyperLogLog read(DataInput in) throws IOException {
+    HyperLogLog sketch = new HyperLogLog(in.readByte());
+    in.readFully(sketch.registers);
+    return sketch;
+  }
+
+  /**
+   * Returns the bias correction constant for the given number of registers.
+   *
+   * @param m number of registers
+   * @return correction constant
+   */
+  private static double alpha(int m) {
+    switch (m) {
+    case 16:
+      return 0.673;
+    case 32:
+      return 0.697;
+    case 64:
+      return 0.709;
+    default:
+      return 0.7213 / (1 + 1.079 / m);
+    }
+  }
+}
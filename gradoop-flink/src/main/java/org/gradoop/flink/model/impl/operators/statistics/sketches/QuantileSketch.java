@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A mergeable sketch that approximates quantiles of numerical values.
+ *
+ * The sketch is a hierarchy of compactors in the spirit of KLL. Level {@code h} holds values of
+ * weight {@code 2^h}. Once a level holds {@code k} values it is sorted and every other value is
+ * promoted to the next level. The rank error is {@code O(log(n / k) / k)} using
+ * {@code O(k * log(n / k))} memory. Compactions alternate between odd and even positions, which
+ * keeps the sketch deterministic and unbiased.
+ */
+public class QuantileSketch implements Sketch<QuantileSketch> {
+  /**
+   * Default capacity per level.
+   */
+  public static final int DEFAULT_K = 200;
+  /**
+   * Capacity per level
+   */
+  private final int k;
+  /**
+   * Number of added values
+   */
+  private long count;
+  /**
+   * Alternates the values promoted during compaction
+   */
+  private boolean oddOffset;
+  /**
+   * Values per level
+   */
+  private double[][] levels;
+  /**
+   * Number of values per level
+   */
+  private int[] sizes;
+
+  /**
+   * Creates a new sketch using {@link #DEFAULT_K}.
+   */
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param k capacity per level, at least 2
+   */
+  public QuantileSketch(int k) {
+    if (k < 2) {
+      throw new IllegalArgumentException("Capacity must be at least 2: " + k);
+    }
+    this.k = k;
+    this.levels = new double[0][];
+    this.sizes = new int[0];
+  }
+
+  @Override
+  public void add(PropertyValue value) {
+    add(toDouble(value));
+  }
+
+  /**
+   * Adds a value to the sketch.
+   *
+   * @param value value
+   */
+  public void add(double value) {
+    append(0, value);
+    count++;
+    compact();
+  }
+
+  @Override
+  public void merge(QuantileSketch other) {
+    if (other.k != k) {
+      throw new IllegalArgumentException(String.format(
+        "Cannot merge sketches of capacity %d and %d", k, other.k));
+    }
+    for (int level = 0; level < other.levels.length; level++) {
+      for (int i = 0; i < other.sizes[level]; i++) {
+        append(level, other.levels[level][i]);
+      }
+    }
+    count += other.count;
+    compact();
+  }
+
+  /**
+   * Returns the number of values added to the sketch.
+   *
+   * @return number of values
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the approximate value at the given quantile.
+   *
+   * @param quantile quantile between 0 and 1, e.g. 0.5 for the median
+   * @return approximate value or {@link Double#NaN} if the sketch is empty
+   */
+  public double getQuantile(double quantile) {
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    int size = 0;
+    for (int levelSize : sizes) {
+      size += levelSize;
+    }
+    if (size == 0) {
+      return Double.NaN;
+    }
+
+    // sort (value, weight) pairs by value
+    double[] values = new double[size];
+    long[] weights = new long[size];
+    Integer[] order = new Integer[size];
+    long totalWeight = 0L;
+    int pos = 0;
+    for (int level = 0; level < levels.length; level++) {
+      for (int i = 0; i < sizes[level]; i++) {
+        values[pos] = levels[level][i];
+        weights[pos] = 1L << level;
+        order[pos] = pos;
+        totalWeight += weights[pos++];
+      }
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+    double targetWeight = quantile * totalWeight;
+    long weight = 0L;
+    for (int index : order) {
+      weight += weights[index];
+      if (weight >= targetWeight) {
+        return values[index];
+      }
+    }
+    return values[order[size - 1]];
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(k);
+    out.writeLong(count);
+    out.writeBoolean(oddOffset);
+    out.writeInt(levels.length);
+    for (int level = 0; level < levels.length; level++) {
+      out.writeInt(sizes[level]);
+      for (int i = 0; i < sizes[level]; i++) {
+        out.writeDouble(levels[level][i]);
+      }
+    }
+  }
+
+  /**
+   * Reads a sketch written by {@link #write(DataOutput)}.
+   *
+   * @param in input
+   * @return sketch
+   * @throws IOException on failure
+   */
+  public static QuantileSketch read(DataInput in) throws IOException {
+    QuantileSketch sketch = new QuantileSketch(in.readInt());
+    sketch.count = in.readLong();
+    sketch.oddOffset = in.readBoolean();
+    int levelCount = in.readInt();
+    for (int level = 0; level < levelCount; level++) {
+      int size = in.readInt();
+      sketch.ensureLevel(level);
+      for (int i = 0; i < size; i++) {
+        sketch.append(level, in.readDouble());
+      }
+    }
+    return sketch;
+  }
+
+  /**
+   * Appends a value to a level.
+   *
+   * @param level level
+   * @param value value
+   */
+  private void append(int level, double value) {
+    ensureLevel(level);
+    if (sizes[level] == levels[level].length) {
+      levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+    }
+    levels[level][sizes[level]++] = value;
+  }
+
+  /**
+   * Creates all levels up to the given level.
+   *
+   * @param level level
+   */
+  private void ensureLevel(int level) {
+    if (level >= levels.length) {
+      int oldLength = levels.length;
+      levels = Arrays.copyOf(levels, level + 1);
+      sizes = Arrays.copyOf(sizes, level + 1);
+      for (int i = oldLength; i <= level; i++) {
+        levels[i] = new double[k];
+      }
+    }
+  }
+
+  /**
+   * Compacts all levels that reached their capacity.
+   */
+  private void compact() {
+    for (int level = 0; level < levels.length; level++) {
+      if (sizes[level] >= k) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+        // an odd number of values leaves the largest one at this level
+        int pairs = size / 2;
+        int offset = oddOffset ? 1 : 0;
+        oddOffset = !oddOffset;
+        for (int i = 0; i < pairs; i++) {
+          append(level + 1, items[2 * i + offset]);
+        }
+        if (size % 2 != 0) {
+          items[0] = items[size - 1];
+        }
+        sizes[level] = size % 2;
+      }
+    }
+  }
+
+  /**
+   * Converts a numerical property value to double.
+   *
+   * @param value numerical property value
+   * @return double value
+   */
+  private static double toDouble(PropertyValue value) {
+    if (value.isInt()) {
+      return value.getInt();
+    } else if (value.isLong()) {
+      return value.getLong();
+    } else if (value.isDouble()) {
+      return value.getDouble();
+    } else if (value.isFloat()) {
+      return value.getFloat();
+    } else if (value.isShort()) {
+      return value.getShort();
+    } else if (value.isBigDecimal()) {
+      return value.getBigDecimal().doubleValue();
+    }
+    throw new UnsupportedTypeException(value.getType());
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * A mergeable summary of a stream of property values.
+ *
+ * Sketches of the same configuration can be merged, which allows building partial sketches per
+ * partition and combining them afterwards. Each sketch provides a static {@code read} method to
+ * restore a sketch written by {@link #write(DataOutput)}.
+ *
+ * @param <S> sketch type
+ */
+public interface Sketch<S extends Sketch<S>> extends Serializable {
+
+  /**
+   * Adds a value to the sketch.
+   *
+   * @param value property value
+   */
+  void add(PropertyValue value);
+
+  /**
+   * Merges the given sketch into this sketch.
+   *
+   * @param other sketch with the same configuration
+   */
+  void merge(S other);
+
+  /**
+   * Writes the sketch.
+   *
+   * @param out output
+   * @throws IOException on failure
+   */
+  void write(DataOutput out) throws IOException;
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Represents sketches as property values, so that they can be used as (partial) aggregates.
+ *
+ * A property value either holds a serialized sketch or a single, not yet sketched value
+ * ({@link #singleton(PropertyValue)}). Both are lists: a sketch is stored as its byte length
+ * followed by the bytes packed into longs, a singleton as a list containing only the value.
+ */
+public class Sketches {
+
+  /**
+   * Reads a serialized sketch.
+   *
+   * @param <S> sketch type
+   */
+  @FunctionalInterface
+  public interface Reader<S extends Sketch<S>> {
+    /**
+     * Reads a sketch.
+     *
+     * @param in input
+     * @return sketch
+     * @throws IOException on failure
+     */
+    S read(DataInput in) throws IOException;
+  }
+
+  /**
+   * Wraps a single value, which is added to a sketch once it is aggregated.
+   *
+   * @param value value
+   * @return singleton representation
+   */
+  public static PropertyValue singleton(PropertyValue value) {
+    List<PropertyValue> list = Lists.newArrayListWithCapacity(1);
+    list.add(value);
+    return PropertyValue.create(list);
+  }
+
+  /**
+   * Adds a singleton or a serialized sketch to the given sketch.
+   *
+   * @param sketch sketch to update
+   * @param value singleton or serialized sketch
+   * @param reader reads serialized sketches
+   * @param <S> sketch type
+   */
+  public static <S extends Sketch<S>> void add(S sketch, PropertyValue value, Reader<S> reader) {
+    List<PropertyValue> list = value.getList();
+    if (list.size() == 1) {
+      sketch.add(list.get(0));
+    } else {
+      sketch.merge(read(list, reader));
+    }
+  }
+
+  /**
+   * Returns the sketch represented by the given property value.
+   *
+   * @param value singleton or serialized sketch
+   * @param reader reads serialized sketches
+   * @param emptySketch used if the value is a singleton
+   * @param <S> sketch type
+   * @return sketch
+   */
+  public static <S extends Sketch<S>> S toSketch(PropertyValue value, Reader<S> reader,
+    S emptySketch) {
+    List<PropertyValue> list = value.getList();
+    if (list.size() == 1) {
+      emptySketch.add(list.get(0));
+      return emptySketch;
+    }
+    return read(list, reader);
+  }
+
+  /**
+   * Serializes a sketch to a property value.
+   *
+   * @param sketch sketch
+   * @return serialized sketch
+   */
+  public static PropertyValue toPropertyValue(Sketch<?> sketch) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      sketch.write(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    int words = (bytes.size() + Long.BYTES - 1) / Long.BYTES;
+    ByteBuffer buffer = ByteBuffer.allocate(words * Long.BYTES).put(bytes.toByteArray());
+    buffer.rewind();
+
+    List<PropertyValue> list = Lists.newArrayListWithCapacity(words + 1);
+    list.add(PropertyValue.create((long) bytes.size()));
+    while (buffer.remaining() >= Long.BYTES) {
+      list.add(PropertyValue.create(buffer.getLong()));
+    }
+    return PropertyValue.create(list);
+  }
+
+  /**
+   * Deserializes a sketch.
+   *
+   * @param list length and packed bytes
+   * @param reader reads the sketch
+   * @param <S> sketch type
+   * @return sketch
+   */
+  private static <S extends Sketch<S>> S read(List<PropertyValue> list, Reader<S> reader) {
+    ByteBuffer buffer = ByteBuffer.allocate((list.size() - 1) * Long.BYTES);
+    for (int i = 1; i < list.size(); i++) {
+      buffer.putLong(list.get(i).getLong());
+    }
+    int length = (int) list.get(0).getLong();
+
+    try (DataInputStream in =
+      new DataInputStream(new ByteArrayInputStream(buffer.array(), 0, length))) {
+      return reader.read(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the most frequent items of a stream using the Space-Saving algorithm.
+ *
+ * At most {@code capacity} counters are kept. If a new item arrives while all counters are in
+ * use, the item with the minimum count is replaced and its count is inherited as error. Each
+ * item with a true frequency above {@code n / capacity} is guaranteed to be tracked.
+ *
+ * @param <T> item type
+ */
+public class SpaceSaving<T> implements Serializable {
+  /**
+   * Maximum number of tracked items
+   */
+  private final int capacity;
+  /**
+   * item -> (count, maximum overestimation)
+   */
+  private final Map<T, long[]> counters;
+
+  /**
+   * Creates a new sketch.
+   *
+   * @param capacity maximum number of tracked items
+   */
+  public SpaceSaving(int capacity) {
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+  }
+
+  /**
+   * Adds an occurrence of the given item. The item must not be modified afterwards.
+   *
+   * @param item item
+   */
+  public void add(T item) {
+    long[] counter = counters.get(item);
+    if (counter != null) {
+      counter[0]++;
+    } else if (counters.size() < capacity) {
+      counters.put(item, new long[] {1L, 0L});
+    } else {
+      T minItem = null;
+      long[] minCounter = null;
+      for (Map.Entry<T, long[]> entry : counters.entrySet()) {
+        if (minCounter == null || entry.getValue()[0] < minCounter[0]) {
+          minItem = entry.getKey();
+          minCounter = entry.getValue();
+        }
+      }
+      counters.remove(minItem);
+      counters.put(item, new long[] {minCounter[0] + 1, minCounter[0]});
+    }
+  }
+
+  /**
+   * Returns up to {@code k} items with the highest guaranteed frequency, i.e. the lower bound of
+   * their count, in descending order. Items whose guaranteed frequency is below
+   * {@code minFrequency} are omitted.
+   *
+   * @param k maximum number of returned items
+   * @param minFrequency minimum guaranteed frequency
+   * @return item -> guaranteed frequency in descending order of frequency
+   */
+  public Map<T, Long> getTopK(int k, long minFrequency) {
+    Map<T, Long> result = new LinkedHashMap<>();
+    counters.entrySet().stream()
+      .filter(e -> e.getValue()[0] - e.getValue()[1] >= minFrequency)
+      .sorted((e1, e2) -> Long.compare(
+        e2.getValue()[0] - e2.getValue()[1], e1.getValue()[0] - e1.getValue()[1]))
+      .limit(k)
+      .forEach(e -> result.put(e.getKey(), e.getValue()[0] - e.getValue()[1]));
+    return result;
+  }
+}
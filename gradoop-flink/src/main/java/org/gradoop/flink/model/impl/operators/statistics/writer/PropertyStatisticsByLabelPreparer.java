@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.writer;
+
+import org.apache.flink.api.common.typeinfo.TypeHint;
+import org.apache.flink.api.java.operators.MapOperator;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple6;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.api.operators.UnaryGraphToValueOperator;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
+import org.gradoop.flink.model.impl.operators.statistics.PropertyStatisticsByLabel;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Computes {@link PropertyStatisticsByLabel} for a given logical graph and prepares it for being
+ * written to a CSV file. Property values are encoded as Base64 strings of their byte
+ * representation.
+ */
+public class PropertyStatisticsByLabelPreparer implements
+  UnaryGraphToValueOperator<MapOperator<Tuple3<String, String, PropertyStatistics>,
+    Tuple6<String, String, Long, Long, String, String>>> {
+
+  /**
+   * Operator computing the statistics
+   */
+  private final PropertyStatisticsByLabel<?> statistics;
+
+  /**
+   * Creates a new preparer.
+   *
+   * @param statistics vertex or edge property statistics operator
+   */
+  public PropertyStatisticsByLabelPreparer(PropertyStatisticsByLabel<?> statistics) {
+    this.statistics = statistics;
+  }
+
+  /**
+   * Prepares the statistic for property value distributions by label.
+   * @param graph the logical graph for the calculation.
+   * @return tuples with the containing statistics.
+   */
+  @Override
+  public MapOperator<Tuple3<String, String, PropertyStatistics>,
+    Tuple6<String, String, Long, Long, String, String>> execute(final LogicalGraph graph) {
+    return statistics
+      .execute(graph)
+      .map(value -> Tuple6.of(value.f0, value.f1,
+        value.f2.getCount(), value.f2.getDistinctCount(),
+        encodeMostCommonValues(value.f2.getMostCommonValues()),
+        value.f2.getHistogramBounds().stream()
+          .map(PropertyStatisticsByLabelPreparer::encode)
+          .collect(Collectors.joining(GraphStatisticsReader.VALUE_SEPARATOR))))
+      .returns(new TypeHint<Tuple6<String, String, Long, Long, String, String>>() { });
+  }
+
+  /**
+   * Encodes the most common values as {@code value:frequency} pairs.
+   *
+   * @param mostCommonValues value -> frequency
+   * @return encoded most common values
+   */
+  private static String encodeMostCommonValues(Map<PropertyValue, Long> mostCommonValues) {
+    return mostCommonValues.entrySet().stream()
+      .map(e -> encode(e.getKey()) + GraphStatisticsReader.FREQUENCY_SEPARATOR + e.getValue())
+      .collect(Collectors.joining(GraphStatisticsReader.VALUE_SEPARATOR));
+  }
+
+  /**
+   * Encodes a property value as Base64 string.
+   *
+   * @param value property value
+   * @return Base64 string
+   */
+  private static String encode(PropertyValue value) {
+    return Base64.getEncoder().encodeToString(value.getRawBytes());
+  }
+}
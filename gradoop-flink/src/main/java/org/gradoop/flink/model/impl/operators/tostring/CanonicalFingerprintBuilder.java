@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.operators.UnaryGraphCollectionToValueOperator;
+import org.gradoop.flink.model.impl.functions.epgm.IdInBroadcast;
+import org.gradoop.flink.model.impl.functions.epgm.LabelCombiner;
+import org.gradoop.flink.model.impl.functions.graphcontainment.GraphsContainmentFilterBroadcast;
+import org.gradoop.flink.model.impl.functions.graphcontainment.InAnyGraphBroadcast;
+import org.gradoop.flink.model.impl.functions.tuple.Value0Of2;
+import org.gradoop.flink.model.impl.operators.tostring.api.EdgeToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.GraphHeadToString;
+import org.gradoop.flink.model.impl.operators.tostring.api.VertexToString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.ConcatGraphHeadStrings;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeStringToHash;
+import org.gradoop.flink.model.impl.operators.tostring.functions.FingerprintGroups;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadHashToString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadHashUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadStringToHash;
+import org.gradoop.flink.model.impl.operators.tostring.functions.IdFromGraphHeadHash;
+import org.gradoop.flink.model.impl.operators.tostring.functions.NeighborhoodHashes;
+import org.gradoop.flink.model.impl.operators.tostring.functions.SharedFingerprint;
+import org.gradoop.flink.model.impl.operators.tostring.functions.SourceHashUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.functions.SumGraphHeadHashes;
+import org.gradoop.flink.model.impl.operators.tostring.functions.SumVertexHashes;
+import org.gradoop.flink.model.impl.operators.tostring.functions.TargetHashUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexHashToGraphHeadHash;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexHashUpdater;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexStringToHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexHash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Operator deriving a string representation from a graph collection based on graph fingerprints.
+ *
+ * The fingerprint of a graph is computed by Weisfeiler-Lehman style iterative hashing. Initially,
+ * each graph head, vertex and edge is represented by the 64-bit hash of its string
+ * representation. In each iteration, the hash of a vertex is combined with an order independent
+ * hash of the multiset of its (direction, edge, neighbor) hashes. The fingerprint of a graph
+ * combines the hash of its graph head and the multiset of its vertex hashes.
+ *
+ * Isomorphic graphs always have equal fingerprints. With a single iteration, graphs of equal
+ * canonical adjacency matrices also have equal fingerprints. Graphs sharing a fingerprint with
+ * another graph of the same collection can be verified by their canonical adjacency matrix,
+ * i.e., the string representation is only built for potential hash collisions.
+ */
+public class CanonicalFingerprintBuilder implements
+  UnaryGraphCollectionToValueOperator<String> {
+
+  /**
+   * default number of hashing iterations
+   */
+  public static final int DEFAULT_ITERATIONS = 1;
+
+  /**
+   * function describing string representation of graph heads
+   */
+  private final GraphHeadToString<GraphHead> graphHeadToString;
+  /**
+   * function describing string representation of vertices
+   */
+  private final VertexToString<Vertex> vertexToString;
+  /**
+   * function describing string representation of edges
+   */
+  private final EdgeToString<Edge> edgeToString;
+  /**
+   * sets mode for either directed or undirected graph
+   */
+  private final boolean directed;
+  /**
+   * number of hashing iterations
+   */
+  private final int iterations;
+  /**
+   * builder used to verify graphs of equal fingerprints, null if no verification is required
+   */
+  private final CanonicalAdjacencyMatrixBuilder verificationBuilder;
+
+  /**
+   * constructor
+   * @param graphHeadToString representation of graph heads
+   * @param vertexToString representation of vertices
+   * @param edgeToString representation of edges
+   * @param directed sets mode for either directed or undirected graph
+   */
+  public CanonicalFingerprintBuilder(
+    GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString,
+    EdgeToString<Edge> edgeToString,
+    boolean directed
+  ) {
+    this(graphHeadToString, vertexToString, edgeToString, directed, DEFAULT_ITERATIONS, true);
+  }
+
+  /**
+   * constructor
+   * @param graphHeadToString representation of graph heads
+   * @param vertexToString representation of vertices
+   * @param edgeToString representation of edges
+   * @param directed sets mode for either directed or undirected graph
+   * @param iterations number of hashing iterations
+   * @param verify true, to verify graphs of equal fingerprints by canonical adjacency matrices
+   */
+  public CanonicalFingerprintBuilder(
+    GraphHeadToString<GraphHead> graphHeadToString,
+    VertexToString<Vertex> vertexToString,
+    EdgeToString<Edge> edgeToString,
+    boolean directed,
+    int iterations,
+    boolean verify
+  ) {
+    checkArgument(iterations > 0, "number of iterations must be positive");
+    this.graphHeadToString = graphHeadToString;
+    this.vertexToString = vertexToString;
+    this.edgeToString = edgeToString;
+    this.directed = directed;
+    this.iterations = iterations;
+    this.verificationBuilder = verify ? new CanonicalAdjacencyMatrixBuilder(
+      graphHeadToString, vertexToString, edgeToString, directed) : null;
+  }
+
+  @Override
+  public DataSet<String> execute(GraphCollection collection) {
+    return getGraphHeadStrings(collection)
+      // add empty head to prevent empty result for empty collection
+      .union(collection
+        .getConfig()
+        .getExecutionEnvironment()
+        .fromElements(new GraphHeadString(GradoopId.get(), "")))
+      .reduceGroup(new ConcatGraphHeadStrings());
+  }
+
+  /**
+   * Creates a dataset of (graph id, label) pairs. The label is the fingerprint of the graph,
+   * extended by its canonical adjacency matrix if verification is enabled and the fingerprint is
+   * shared with another graph.
+   *
+   * @param collection input collection
+   * @return (graph id, label) pairs
+   */
+  public DataSet<GraphHeadString> getGraphHeadStrings(GraphCollection collection) {
+    DataSet<GraphHeadHash> fingerprints = getGraphHeadHashes(collection);
+
+    if (verificationBuilder == null) {
+      return fingerprints.map(new GraphHeadHashToString());
+    }
+
+    // 1. tag graphs by whether their fingerprint is unique or shared
+
+    DataSet<Tuple2<GraphHeadHash, Boolean>> taggedFingerprints = fingerprints
+      .groupBy(1)
+      .reduceGroup(new FingerprintGroups());
+
+    // 2. graphs with a unique fingerprint are represented by it
+
+    DataSet<GraphHeadString> uniqueLabels = taggedFingerprints
+      .filter(new SharedFingerprint(false))
+      .map(new Value0Of2<>())
+      .map(new GraphHeadHashToString());
+
+    // 3. graphs sharing a fingerprint are extended by their canonical adjacency matrix
+
+    DataSet<GraphHeadHash> shared = taggedFingerprints
+      .filter(new SharedFingerprint(true))
+      .map(new Value0Of2<>());
+
+    DataSet<GraphHeadString> verifiedLabels = shared
+      .map(new GraphHeadHashToString())
+      .join(verificationBuilder.getGraphHeadStrings(select(collection, shared)))
+      .where(0).equalTo(0)
+      .with(new LabelCombiner<>());
+
+    return uniqueLabels.union(verifiedLabels);
+  }
+
+  /**
+   * Creates a dataset of (graph id, fingerprint) pairs.
+   *
+   * @param collection input collection
+   * @return (graph id, fingerprint) pairs
+   */
+  public DataSet<GraphHeadHash> getGraphHeadHashes(GraphCollection collection) {
+    // 1. hash graph heads
+    DataSet<GraphHeadHash> graphHeadHashes = collection.getGraphHeads()
+      .map(graphHeadToString)
+      .map(new GraphHeadStringToHash());
+
+    // 2. hash vertices
+    DataSet<VertexHash> vertexHashes = collection.getVertices()
+      .flatMap(vertexToString)
+      .map(new VertexStringToHash());
+
+    // 3. hash edges
+    DataSet<EdgeHash> edgeHashes = collection.getEdges()
+      .flatMap(edgeToString)
+      .map(new EdgeStringToHash());
+
+    // 4. iteratively extend vertex hashes by the hashes of their neighborhood
+    for (int i = 0; i < iterations; i++) {
+      DataSet<VertexHash> neighborhoodHashes = edgeHashes
+        .join(vertexHashes)
+        .where(0, 1).equalTo(0, 1) // graphId,sourceId = graphId,vertexId
+        .with(new SourceHashUpdater())
+        .join(vertexHashes)
+        .where(0, 2).equalTo(0, 1) // graphId,targetId = graphId,vertexId
+        .with(new TargetHashUpdater())
+        .flatMap(new NeighborhoodHashes(directed))
+        .groupBy(0, 1)
+        .reduce(new SumVertexHashes());
+
+      vertexHashes = vertexHashes
+        .leftOuterJoin(neighborhoodHashes)
+        .where(0, 1).equalTo(0, 1)
+        .with(new VertexHashUpdater());
+    }
+
+    // 5. combine graph head hashes and vertex hashes
+    DataSet<GraphHeadHash> verticesHashes = vertexHashes
+      .map(new VertexHashToGraphHeadHash())
+      .groupBy(0)
+      .reduce(new SumGraphHeadHashes());
+
+    return graphHeadHashes
+      .leftOuterJoin(verticesHashes)
+      .where(0).equalTo(0)
+      .with(new GraphHeadHashUpdater());
+  }
+
+  /**
+   * Selects the graphs of the given ids including their vertices and edges.
+   *
+   * @param collection input collection
+   * @param graphHeadHashes (graph id, fingerprint) pairs of the selected graphs
+   * @return selected graphs
+   */
+  private GraphCollection select(GraphCollection collection,
+    DataSet<GraphHeadHash> graphHeadHashes) {
+    DataSet<GradoopId> graphIds = graphHeadHashes.map(new IdFromGraphHeadHash());
+
+    DataSet<GraphHead> graphHeads = collection.getGraphHeads()
+      .filter(new IdInBroadcast<>())
+      .withBroadcastSet(graphIds, IdInBroadcast.IDS);
+
+    DataSet<Vertex> vertices = collection.getVertices()
+      .filter(new InAnyGraphBroadcast<>())
+      .withBroadcastSet(graphIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+
+    DataSet<Edge> edges = collection.getEdges()
+      .filter(new InAnyGraphBroadcast<>())
+      .withBroadcastSet(graphIds, GraphsContainmentFilterBroadcast.GRAPH_IDS);
+
+    return collection.getConfig().getGraphCollectionFactory()
+      .fromDataSets(graphHeads, vertices, edges);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.GroupReduceFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+
+/**
+ * Tags the graphs of a group of equal fingerprints, either as graphs with a unique fingerprint
+ * or as graphs sharing their fingerprint with at least one other graph.
+ *
+ * (graphId, hash)* => ((graphId, hash), shared)*
+ */
+public class FingerprintGroups
+  implements GroupReduceFunction<GraphHeadHash, Tuple2<GraphHeadHash, Boolean>> {
+
+  @Override
+  public void reduce(Iterable<GraphHeadHash> graphHeadHashes,
+    Collector<Tuple2<GraphHeadHash, Boolean>> out) throws Exception {
+
+    GraphHeadHash first = null;
+    boolean unique = true;
+
+    for (GraphHeadHash graphHeadHash : graphHeadHashes) {
+      if (first == null) {
+        first = new GraphHeadHash(graphHeadHash.getId(), graphHeadHash.getHash());
+      } else {
+        if (unique) {
+          out.collect(Tuple2.of(first, true));
+          unique = false;
+        }
+        out.collect(Tuple2.of(graphHeadHash, true));
+      }
+    }
+
+    if (unique) {
+      out.collect(Tuple2.of(first, false));
+    }
+  }
+}
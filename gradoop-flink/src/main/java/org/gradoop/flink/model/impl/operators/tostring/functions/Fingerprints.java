@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hash functions used to derive isomorphism invariant graph fingerprints.
+ */
+public class Fingerprints {
+
+  /**
+   * seed of hashes of outgoing edges
+   */
+  public static final long OUTGOING = 0x4f7574L;
+  /**
+   * seed of hashes of incoming edges
+   */
+  public static final long INCOMING = 0x496e63L;
+  /**
+   * seed of hashes of undirected edges
+   */
+  public static final long UNDIRECTED = 0x556e64L;
+
+  /**
+   * hash function used for string representations
+   */
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /**
+   * golden ratio multiplier used to combine hashes
+   */
+  private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  /**
+   * fingerprint of a graph without vertices and with an empty graph head string
+   */
+  private static final long EMPTY_GRAPH = combine(hash(""), 0L);
+
+  /**
+   * Hashes a string representation to 64 bits.
+   *
+   * @param label string representation
+   * @return hash
+   */
+  public static long hash(String label) {
+    return HASH_FUNCTION.hashString(label, StandardCharsets.UTF_8).asLong();
+  }
+
+  /**
+   * Combines two hashes in an order dependent way.
+   *
+   * @param first first hash
+   * @param second second hash
+   * @return combined hash
+   */
+  public static long combine(long first, long second) {
+    return mix(first * MULTIPLIER + second);
+  }
+
+  /**
+   * Murmur3 finalization mix.
+   *
+   * @param hash hash
+   * @return mixed hash
+   */
+  public static long mix(long hash) {
+    long mixed = hash ^ (hash >>> 33);
+    mixed *= 0xff51afd7ed558ccdL;
+    mixed ^= mixed >>> 33;
+    mixed *= 0xc4ceb9fe1a85ec53L;
+    mixed ^= mixed >>> 33;
+    return mixed;
+  }
+
+  /**
+   * Fixed length string representation of a fingerprint. Like its canonical adjacency matrix,
+   * a graph without vertices and with an empty graph head string is represented by an empty
+   * string, thus it is ignored when the representations of a collection are concatenated.
+   *
+   * @param hash fingerprint
+   * @return hexadecimal string, empty for {@link #EMPTY_GRAPH}
+   */
+  public static String toString(long hash) {
+    return hash == EMPTY_GRAPH ? "" : String.format("%016x", hash);
+  }
+}
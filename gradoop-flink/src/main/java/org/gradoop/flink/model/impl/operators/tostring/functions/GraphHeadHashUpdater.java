@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+
+/**
+ * combines the hash of a graph head with the multiset hash of its vertices
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0")
+public class GraphHeadHashUpdater
+  implements JoinFunction<GraphHeadHash, GraphHeadHash, GraphHeadHash> {
+
+  @Override
+  public GraphHeadHash join(GraphHeadHash graphHeadHash, GraphHeadHash verticesHash)
+    throws Exception {
+    graphHeadHash.setHash(Fingerprints.combine(graphHeadHash.getHash(),
+      verticesHash == null ? 0L : verticesHash.getHash()));
+    return graphHeadHash;
+  }
+}
@@ -13,23 +13,21 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.gradoop.flink.algorithms.btgs.functions;
+package org.gradoop.flink.model.impl.operators.tostring.functions;
 
-import org.apache.flink.graph.Vertex;
-import org.apache.flink.graph.spargel.ScatterFunction;
-import org.apache.flink.types.NullValue;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
 
 /**
- * Update Function of vertex centric iteration.
+ * (graphId, fingerprint) => graphId
  */
-public class BtgMessenger
-  extends ScatterFunction<GradoopId, GradoopId, GradoopId, NullValue> {
+@FunctionAnnotation.ForwardedFields("f0->*")
+public class IdFromGraphHeadHash implements MapFunction<GraphHeadHash, GradoopId> {
 
   @Override
-  public void sendMessages(
-    Vertex<GradoopId, GradoopId> vertex) throws Exception {
-
-    sendMessageToAllNeighbors(vertex.getValue());
+  public GradoopId map(GraphHeadHash graphHeadHash) throws Exception {
+    return graphHeadHash.getId();
   }
 }
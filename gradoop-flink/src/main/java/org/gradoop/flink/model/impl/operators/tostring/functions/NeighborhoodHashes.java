@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.FlatMapFunction;
+import org.apache.flink.util.Collector;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexHash;
+
+/**
+ * (graphId, sourceId, targetId, sourceHash, edgeHash, targetHash) =>
+ * (graphId, sourceId, hash(edgeHash, targetHash)),
+ * (graphId, targetId, hash(edgeHash, sourceHash))
+ */
+public class NeighborhoodHashes implements FlatMapFunction<EdgeHash, VertexHash> {
+
+  /**
+   * seed of the hash sent to the source vertex
+   */
+  private final long outgoingSeed;
+  /**
+   * seed of the hash sent to the target vertex
+   */
+  private final long incomingSeed;
+  /**
+   * reduce object instantiations
+   */
+  private final VertexHash reuse;
+
+  /**
+   * constructor
+   * @param directed distinguish incoming and outgoing edges
+   */
+  public NeighborhoodHashes(boolean directed) {
+    this.outgoingSeed = directed ? Fingerprints.OUTGOING : Fingerprints.UNDIRECTED;
+    this.incomingSeed = directed ? Fingerprints.INCOMING : Fingerprints.UNDIRECTED;
+    this.reuse = new VertexHash();
+  }
+
+  @Override
+  public void flatMap(EdgeHash edgeHash, Collector<VertexHash> out) throws Exception {
+    reuse.f0 = edgeHash.getGraphId();
+
+    reuse.f1 = edgeHash.getSourceId();
+    reuse.setHash(Fingerprints.combine(
+      Fingerprints.combine(outgoingSeed, edgeHash.getEdgeHash()), edgeHash.getTargetHash()));
+    out.collect(reuse);
+
+    reuse.f1 = edgeHash.getTargetId();
+    reuse.setHash(Fingerprints.combine(
+      Fingerprints.combine(incomingSeed, edgeHash.getEdgeHash()), edgeHash.getSourceHash()));
+    out.collect(reuse);
+  }
+}
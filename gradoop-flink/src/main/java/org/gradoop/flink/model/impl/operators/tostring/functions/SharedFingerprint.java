@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+
+/**
+ * Selects the graphs tagged by {@link FingerprintGroups}, either the ones with a unique
+ * fingerprint or the ones sharing their fingerprint with at least one other graph.
+ */
+public class SharedFingerprint implements FilterFunction<Tuple2<GraphHeadHash, Boolean>> {
+
+  /**
+   * true, to select graphs sharing their fingerprint
+   */
+  private final boolean shared;
+
+  /**
+   * constructor
+   * @param shared true, to select graphs sharing their fingerprint
+   */
+  public SharedFingerprint(boolean shared) {
+    this.shared = shared;
+  }
+
+  @Override
+  public boolean filter(Tuple2<GraphHeadHash, Boolean> taggedGraphHeadHash) throws Exception {
+    return taggedGraphHeadHash.f1 == shared;
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.ReduceFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+
+/**
+ * combines vertex hashes of the same graph into an order independent multiset hash
+ */
+@FunctionAnnotation.ForwardedFields("f0")
+public class SumGraphHeadHashes implements ReduceFunction<GraphHeadHash> {
+
+  @Override
+  public GraphHeadHash reduce(GraphHeadHash first, GraphHeadHash second) throws Exception {
+    first.setHash(first.getHash() + second.getHash());
+    return first;
+  }
+}
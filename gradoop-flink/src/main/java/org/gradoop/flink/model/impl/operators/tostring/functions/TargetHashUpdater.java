@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.functions;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.java.functions.FunctionAnnotation;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.EdgeHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.VertexHash;
+
+/**
+ * join function to update the target vertex hash of an edge hash
+ */
+@FunctionAnnotation.ForwardedFieldsFirst("f0;f1;f2;f3;f4")
+public class TargetHashUpdater implements JoinFunction<EdgeHash, VertexHash, EdgeHash> {
+
+  @Override
+  public EdgeHash join(EdgeHash edgeHash, VertexHash targetHash) throws Exception {
+    edgeHash.setTargetHash(targetHash.getHash());
+    return edgeHash;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring.tuples;
+
+import org.apache.flink.api.java.tuple.Tuple6;
+import org.gradoop.common.model.impl.id.GradoopId;
+
+/**
+ * (graphId, sourceId, targetId, sourceHash, edgeHash, targetHash)
+ */
+public class EdgeHash extends Tuple6<GradoopId, GradoopId, GradoopId, Long, Long, Long> {
+
+  /**
+   * default constructor
+   */
+  public EdgeHash() {
+  }
+
+  /**
+   * constructor with field values
+   * @param graphId graph id
+   * @param sourceId source vertex id
+   * @param targetId target vertex id
+   * @param hash edge hash
+   */
+  public EdgeHash(GradoopId graphId, GradoopId sourceId, GradoopId targetId, long hash) {
+    this.f0 = graphId;
+    this.f1 = sourceId;
+    this.f2 = targetId;
+    this.f3 = 0L;
+    this.f4 = hash;
+    this.f5 = 0L;
+  }
+
+  public GradoopId getGraphId() {
+    return this.f0;
+  }
+
+  public GradoopId getSourceId() {
+    return this.f1;
+  }
+
+  public GradoopId getTargetId() {
+    return this.f2;
+  }
+
+  public long getSourceHash() {
+    return this.f3;
+  }
+
+  public void setSourceHash(long sourceHash) {
+    this.f3 = sourceHash;
+  }
+
+  public long getEdgeHash() {
+    return this.f4;
+  }
+
+  public long getTargetHash() {
+    return this.f5;
+  }
+
+  public void setTargetHash(long targetHash) {
+    this.f5 = targetHash;
+  }
+}
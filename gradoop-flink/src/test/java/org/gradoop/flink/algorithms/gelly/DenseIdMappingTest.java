@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.algorithms.gelly;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.algorithms.gelly.connectedcomponents.AnnotateWeaklyConnectedComponents;
+import org.gradoop.flink.algorithms.gelly.connectedcomponents.WeaklyConnectedComponents;
+import org.gradoop.flink.algorithms.gelly.hits.HITS;
+import org.gradoop.flink.algorithms.gelly.labelpropagation.GellyLabelPropagation;
+import org.gradoop.flink.algorithms.gelly.labelpropagation.GradoopLabelPropagation;
+import org.gradoop.flink.algorithms.gelly.pagerank.PageRank;
+import org.gradoop.flink.algorithms.gelly.shortestpaths.SingleSourceShortestPaths;
+import org.gradoop.flink.algorithms.gelly.vertexdegrees.DistinctVertexDegrees;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class DenseIdMappingTest extends GradoopFlinkTestBase {
+
+  private FlinkAsciiGraphLoader loader;
+
+  private LogicalGraph input;
+
+  @Before
+  public void setUp() throws Exception {
+    loader = getLoaderFromString("input[" +
+      "(v0 {value:\"A\"})-[e0 {weight:2.0d}]->(v1 {value:\"A\"})" +
+      "(v1)-[e1 {weight:3.0d}]->(v2 {value:\"B\"})" +
+      "(v2)-[e2 {weight:1.0d}]->(v0)" +
+      "(v0)-[e3 {weight:7.0d}]->(v3 {value:\"C\"})" +
+      "(v3)-[e4 {weight:1.0d}]->(v4 {value:\"C\"})" +
+      "(v4)-[e5 {weight:4.0d}]->(v3)" +
+      "(v5 {value:\"D\"})-[e6 {weight:1.0d}]->(v6 {value:\"E\"})" +
+      "(v7 {value:\"F\"})" +
+      "]");
+    input = loader.getLogicalGraphByVariable("input");
+  }
+
+  @Test
+  public void testPageRank() throws Exception {
+    assertSameResult(new PageRank("pr", 0.85, 10),
+      new PageRank("pr", 0.85, 10).useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testHITS() throws Exception {
+    assertSameResult(new HITS("a", "h", 10),
+      new HITS("a", "h", 10).useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testAnnotateWeaklyConnectedComponents() throws Exception {
+    assertSameResult(new AnnotateWeaklyConnectedComponents("wcc", 10),
+      new AnnotateWeaklyConnectedComponents("wcc", 10).useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testWeaklyConnectedComponents() throws Exception {
+    collectAndAssertTrue(input
+      .callForCollection(new WeaklyConnectedComponents(10)
+        .useDenseIds(new DenseIdMapping(input)))
+      .equalsByGraphElementIds(input
+        .callForCollection(new WeaklyConnectedComponents(10))));
+  }
+
+  @Test
+  public void testLabelPropagation() throws Exception {
+    assertSameResult(new GradoopLabelPropagation(10, "value"),
+      new GradoopLabelPropagation(10, "value").useDenseIds(new DenseIdMapping(input)));
+    assertSameResult(new GellyLabelPropagation(10, "value"),
+      new GellyLabelPropagation(10, "value").useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testSingleSourceShortestPaths() throws Exception {
+    GradoopId srcVertexId = loader.getVertexByVariable("v0").getId();
+    assertSameResult(new SingleSourceShortestPaths(srcVertexId, "weight", 10, "distance"),
+      new SingleSourceShortestPaths(srcVertexId, "weight", 10, "distance")
+        .useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testDistinctVertexDegrees() throws Exception {
+    assertSameResult(new DistinctVertexDegrees("d", "in", "out"),
+      new DistinctVertexDegrees("d", "in", "out").useDenseIds(new DenseIdMapping(input)));
+  }
+
+  @Test
+  public void testSharedMapping() throws Exception {
+    DenseIdMapping mapping = new DenseIdMapping(input);
+
+    assertSameResult(new PageRank("pr", 0.85, 10),
+      new PageRank("pr", 0.85, 10).useDenseIds(mapping));
+    assertSameResult(new DistinctVertexDegrees("d", "in", "out"),
+      new DistinctVertexDegrees("d", "in", "out").useDenseIds(mapping));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMappingOfOtherGraph() throws Exception {
+    LogicalGraph other = loader.getLogicalGraphByVariable("input");
+    other.callForGraph(new PageRank("pr", 0.85, 10).useDenseIds(new DenseIdMapping(input)));
+  }
+
+  /**
+   * Compares the vertex properties computed by both algorithms. Scores are compared with a
+   * tolerance, since the summation order in Gelly depends on the vertex ids.
+   */
+  private void assertSameResult(GellyAlgorithm<?, ?> expected, GellyAlgorithm<?, ?> dense)
+    throws Exception {
+    Map<GradoopId, Vertex> expectedVertices = new HashMap<>();
+    for (Vertex vertex : input.callForGraph(expected).getVertices().collect()) {
+      expectedVertices.put(vertex.getId(), vertex);
+    }
+    List<Vertex> denseVertices = input.callForGraph(dense).getVertices().collect();
+
+    assertEquals(expectedVertices.size(), denseVertices.size());
+    for (Vertex vertex : denseVertices) {
+      Vertex expectedVertex = expectedVertices.get(vertex.getId());
+      assertNotNull(expectedVertex);
+      assertEquals(expectedVertex.getPropertyCount(), vertex.getPropertyCount());
+      for (Property property : expectedVertex.getProperties()) {
+        PropertyValue value = vertex.getPropertyValue(property.getKey());
+        if (property.getValue().isDouble()) {
+          assertEquals(property.getValue().getDouble(), value.getDouble(), 1E-9);
+        } else {
+          assertEquals(property.getValue(), value);
+        }
+      }
+    }
+  }
+}
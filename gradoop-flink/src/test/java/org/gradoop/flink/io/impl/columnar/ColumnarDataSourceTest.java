@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar;
+
+import com.google.common.collect.Sets;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.api.DataSink;
+import org.gradoop.flink.io.impl.columnar.predicate.LabelIn;
+import org.gradoop.flink.io.impl.columnar.predicate.PropertyBetween;
+import org.gradoop.flink.io.impl.columnar.predicate.PropertyEquals;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarDataSourceTest extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private String tmpPath;
+
+  private GraphCollection input;
+
+  @Before
+  public void writeSocialNetwork() throws Exception {
+    tmpPath = temporaryFolder.getRoot().getPath();
+    input = getSocialNetworkLoader().getDatabase().getCollection();
+
+    // small chunks to store elements of the same label in multiple chunks
+    DataSink dataSink = new ColumnarDataSink(tmpPath, 2, getConfig());
+    dataSink.write(input, true);
+    getExecutionEnvironment().execute();
+  }
+
+  @Test
+  public void testReadGraphCollection() throws Exception {
+    GraphCollection output = new ColumnarDataSource(tmpPath, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(input.equalsByGraphData(output));
+  }
+
+  @Test
+  public void testReadLogicalGraph() throws Exception {
+    String path = temporaryFolder.newFolder().getPath();
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+    new ColumnarDataSink(path, getConfig()).write(graph);
+    getExecutionEnvironment().execute();
+
+    LogicalGraph output = new ColumnarDataSource(path, getConfig()).getLogicalGraph();
+
+    collectAndAssertTrue(graph.equalsByElementData(output));
+  }
+
+  @Test
+  public void testReadWithDifferentPropertyTypes() throws Exception {
+    String path = temporaryFolder.newFolder().getPath();
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g[" +
+      "(v1:A {keya:1, keyb:2, keyc:\"Foo\"})," +
+      "(v2:A {keya:1.2f, keyb:\"Bar\", keyc:2.3f})," +
+      "(v3:A {keya:\"Bar\", keyb:true})," +
+      "(v4:A)," +
+      "(v1)-[e1:a {keya:14, keyb:3, keyc:\"Foo\"}]->(v1)," +
+      "(v1)-[e2:a {keya:1.1f, keyb:\"Bar\", keyc:2.5f}]->(v1)," +
+      "(v1)-[e3:a {keya:true, keyb:3.13f}]->(v1)" +
+      "]");
+    Vertex vertex = getConfig().getVertexFactory().createVertex("B");
+    vertex.setProperties(Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES));
+    vertex.addGraphId(loader.getGraphHeadByVariable("g").getId());
+    GraphCollection collection = loader.getGraphCollectionByVariables("g");
+    collection = getConfig().getGraphCollectionFactory().fromDataSets(
+      collection.getGraphHeads(),
+      collection.getVertices().union(getExecutionEnvironment().fromElements(vertex)),
+      collection.getEdges());
+
+    new ColumnarDataSink(path, 2, getConfig()).write(collection);
+    getExecutionEnvironment().execute();
+
+    GraphCollection output = new ColumnarDataSource(path, getConfig()).getGraphCollection();
+
+    collectAndAssertTrue(collection.equalsByGraphData(output));
+  }
+
+  @Test
+  public void testProjection() throws Exception {
+    List<Vertex> vertices = new ColumnarDataSource(tmpPath, getConfig())
+      .withVertexProperties("name")
+      .getGraphCollection()
+      .getVertices()
+      .collect();
+
+    assertEquals(input.getVertices().count(), vertices.size());
+    for (Vertex vertex : vertices) {
+      for (String key : vertex.getProperties().getKeys()) {
+        assertEquals("name", key);
+      }
+      assertEquals(vertex.getLabel().equals("Forum"), vertex.getProperties().isEmpty());
+    }
+  }
+
+  @Test
+  public void testVertexPredicates() throws Exception {
+    ColumnarDataSource dataSource = new ColumnarDataSource(tmpPath, getConfig());
+    assertFalse(dataSource.isFilterPushedDown());
+
+    dataSource = dataSource
+      .applyVertexPredicate(new LabelIn("Person"))
+      .applyVertexPredicate(new PropertyBetween("age",
+        PropertyValue.create(30), PropertyValue.create(35L)))
+      .withVertexProperties("name");
+    assertTrue(dataSource.isFilterPushedDown());
+
+    List<Vertex> vertices = dataSource.getGraphCollection().getVertices().collect();
+
+    Set<String> names = vertices.stream()
+      .map(v -> v.getPropertyValue("name").getString())
+      .collect(Collectors.toSet());
+    assertEquals(4, vertices.size());
+    assertEquals(Sets.newHashSet("Bob", "Carol", "Eve", "Frank"), names);
+    for (Vertex vertex : vertices) {
+      assertEquals(1, vertex.getPropertyCount());
+    }
+  }
+
+  @Test
+  public void testEdgePredicate() throws Exception {
+    List<Edge> edges = new ColumnarDataSource(tmpPath, getConfig())
+      .applyEdgePredicate(new PropertyEquals("since", PropertyValue.create(2014)))
+      .getGraphCollection()
+      .getEdges()
+      .collect();
+
+    List<Edge> expected = input.getEdges()
+      .filter(e -> e.hasProperty("since") && e.getPropertyValue("since").getInt() == 2014)
+      .collect();
+
+    assertEquals(expected.size(), edges.size());
+    assertTrue(edges.containsAll(expected));
+  }
+
+  @Test
+  public void testGraphHeadPredicate() throws Exception {
+    long count = new ColumnarDataSource(tmpPath, getConfig())
+      .applyGraphPredicate(new LabelIn("Community"))
+      .getGraphCollection()
+      .getGraphHeads()
+      .count();
+
+    assertEquals(3, count);
+  }
+}
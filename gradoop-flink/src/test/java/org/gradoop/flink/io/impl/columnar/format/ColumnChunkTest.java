@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.columnar.format;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.io.impl.columnar.predicate.ColumnarPredicate;
+import org.gradoop.flink.io.impl.columnar.predicate.LabelIn;
+import org.gradoop.flink.io.impl.columnar.predicate.PropertyBetween;
+import org.gradoop.flink.io.impl.columnar.predicate.PropertyEquals;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnChunkTest {
+
+  private final VertexFactory vertexFactory = new VertexFactory();
+
+  @Test
+  public void testVertexRoundTrip() throws IOException {
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+    Vertex v1 = vertexFactory.createVertex("A",
+      Properties.createFromMap(GradoopTestUtils.SUPPORTED_PROPERTIES), graphIds);
+    Vertex v2 = vertexFactory.createVertex("A");
+
+    ColumnChunk chunk = copy(build(v1, v2), null, null);
+
+    assertEquals(ColumnChunk.KIND_VERTEX, chunk.getKind());
+    assertEquals("A", chunk.getLabel());
+    assertEquals(2, chunk.getRowCount());
+    assertEquals(v1.getId(), chunk.getId(0));
+    assertEquals(graphIds, chunk.getGraphIds(0));
+    assertEquals(v1.getProperties(), chunk.getProperties(0));
+    assertEquals(v2.getId(), chunk.getId(1));
+    assertTrue(chunk.getGraphIds(1).isEmpty());
+    assertTrue(chunk.getProperties(1).isEmpty());
+  }
+
+  @Test
+  public void testEdgeRoundTrip() throws IOException {
+    Edge edge = new EdgeFactory().createEdge("e", GradoopId.get(), GradoopId.get());
+    edge.setProperty("since", 2014);
+
+    ColumnChunk chunk = copy(build(edge), null, null);
+
+    assertEquals(ColumnChunk.KIND_EDGE, chunk.getKind());
+    assertEquals(edge.getId(), chunk.getId(0));
+    assertEquals(edge.getSourceId(), chunk.getSourceId(0));
+    assertEquals(edge.getTargetId(), chunk.getTargetId(0));
+    assertEquals(edge.getProperties(), chunk.getProperties(0));
+  }
+
+  @Test
+  public void testStatistics() throws IOException {
+    ColumnChunk chunk = build(
+      createVertex("age", 30, "mixed", 1),
+      createVertex("age", 20L, "mixed", "one"),
+      createVertex("age", 40, "mixed", true));
+
+    PropertyColumn age = chunk.getColumn("age");
+    assertEquals(PropertyColumn.TYPE_MIXED, age.getType());
+    assertFalse(age.hasStatistics());
+
+    chunk = build(createVertex("age", 30), createVertex("name", "Alice"), createVertex("age", 20));
+
+    age = chunk.getColumn("age");
+    assertEquals(PropertyValue.TYPE_INTEGER, age.getType());
+    assertTrue(age.hasStatistics());
+    assertEquals(PropertyValue.create(20), age.getMin());
+    assertEquals(PropertyValue.create(30), age.getMax());
+    assertNull(chunk.getColumn("unknown"));
+  }
+
+  @Test
+  public void testProjection() throws IOException {
+    ColumnChunk chunk = copy(build(createVertex("name", "Alice", "age", 20)),
+      Collections.singleton("name"), null);
+
+    assertTrue(chunk.getColumn("name").isLoaded());
+    assertFalse(chunk.getColumn("age").isLoaded());
+    // statistics of skipped columns are still available
+    assertTrue(chunk.getColumn("age").hasStatistics());
+    assertEquals(1, chunk.getProperties(0).size());
+    assertEquals("Alice", chunk.getProperties(0).get("name").getString());
+  }
+
+  @Test
+  public void testPredicatePushdown() throws IOException {
+    ColumnChunk chunk = build(createVertex("age", 20), createVertex("age", 30));
+
+    assertEquals(2, copy(chunk, null, Lists.newArrayList(
+      new LabelIn("A"), new PropertyEquals("age", PropertyValue.create(30L)))).getRowCount());
+    assertEquals(0, copy(chunk, null, Lists.newArrayList(
+      new LabelIn("B"))).getRowCount());
+    assertEquals(0, copy(chunk, null, Lists.newArrayList(
+      new PropertyEquals("age", PropertyValue.create(35)))).getRowCount());
+    assertEquals(0, copy(chunk, null, Lists.newArrayList(
+      new PropertyBetween("age", PropertyValue.create(31), null))).getRowCount());
+    assertEquals(0, copy(chunk, null, Lists.newArrayList(
+      new PropertyBetween("age", null, PropertyValue.create(19.5)))).getRowCount());
+    assertEquals(0, copy(chunk, null, Lists.newArrayList(
+      new PropertyEquals("name", PropertyValue.create("Alice")))).getRowCount());
+    // incomparable values can not be used to skip chunks
+    assertEquals(2, copy(chunk, null, Lists.newArrayList(
+      new PropertyEquals("age", PropertyValue.create("Alice")))).getRowCount());
+  }
+
+  @Test
+  public void testSkippedChunkIsFullyConsumed() throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    build(createVertex("age", 20)).write(out);
+    build(createVertex("age", 30)).write(out);
+
+    DataInputDeserializer in = new DataInputDeserializer(out.getCopyOfBuffer());
+    Collection<ColumnarPredicate> predicates =
+      Lists.newArrayList(new PropertyEquals("age", PropertyValue.create(30)));
+    ColumnChunk chunk = new ColumnChunk();
+    chunk.read(in, null, predicates);
+    assertEquals(0, chunk.getRowCount());
+    chunk.read(in, null, predicates);
+    assertEquals(1, chunk.getRowCount());
+    assertEquals(30, chunk.getProperties(0).get("age").getInt());
+  }
+
+  @Test
+  public void testReusedInput() throws IOException {
+    ColumnChunkBuilder builder = new ColumnChunkBuilder(2);
+    Vertex vertex = createVertex("age", 20);
+    builder.add(vertex);
+    // modify the added element like an object reusing input iterator would
+    vertex.getPropertyValue("age").setInt(30);
+    builder.add(vertex);
+
+    ColumnChunk chunk = copy(builder.build(), null, null);
+    assertEquals(20, chunk.getProperties(0).get("age").getInt());
+    assertEquals(30, chunk.getProperties(1).get("age").getInt());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDifferentLabels() throws IOException {
+    ColumnChunkBuilder builder = new ColumnChunkBuilder(2);
+    builder.add(vertexFactory.createVertex("A"));
+    builder.add(vertexFactory.createVertex("B"));
+  }
+
+  private Vertex createVertex(Object... keyValues) {
+    Properties properties = Properties.create();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      properties.set((String) keyValues[i], keyValues[i + 1]);
+    }
+    return vertexFactory.createVertex("A", properties);
+  }
+
+  private ColumnChunk build(EPGMElement... elements) throws IOException {
+    ColumnChunkBuilder builder = new ColumnChunkBuilder(elements.length);
+    for (EPGMElement element : elements) {
+      builder.add(element);
+    }
+    return builder.build();
+  }
+
+  private ColumnChunk copy(ColumnChunk chunk, Set<String> columnsToLoad,
+    Collection<ColumnarPredicate> predicates) throws IOException {
+    DataOutputSerializer out = new DataOutputSerializer(64);
+    chunk.write(out);
+    ColumnChunk copy = new ColumnChunk();
+    copy.read(new DataInputDeserializer(out.getCopyOfBuffer()), columnsToLoad, predicates);
+    return copy;
+  }
+}
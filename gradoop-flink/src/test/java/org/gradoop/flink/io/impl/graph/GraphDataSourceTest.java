@@ -18,15 +18,23 @@ package org.gradoop.flink.io.impl.graph;
 import com.google.common.collect.Maps;
 import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.runtime.client.JobExecutionException;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.flink.io.impl.graph.functions.NameBasedIds;
 import org.gradoop.flink.io.impl.graph.tuples.ImportEdge;
 import org.gradoop.flink.io.impl.graph.tuples.ImportVertex;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
 public class GraphDataSourceTest extends GradoopFlinkTestBase {
 
   @Test
@@ -131,4 +139,113 @@ public class GraphDataSourceTest extends GradoopFlinkTestBase {
 
     collectAndAssertTrue(output.equalsByElementData(expected));
   }
+
+  @Test
+  public void testReadWithRepartitionSortMergeJoin() throws Exception {
+    LogicalGraph output =
+      getDataSource(IdResolution.REPARTITION_SORT_MERGE_JOIN, false).getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(getExpectedWithLineage()));
+  }
+
+  @Test
+  public void testReadWithNameBasedIds() throws Exception {
+    LogicalGraph output = getDataSource(IdResolution.NAME_BASED, false).getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(getExpectedWithLineage()));
+  }
+
+  @Test
+  public void testReadWithCheckedNameBasedIds() throws Exception {
+    LogicalGraph output = getDataSource(IdResolution.NAME_BASED, true).getLogicalGraph();
+
+    collectAndAssertTrue(output.equalsByElementData(getExpectedWithLineage()));
+  }
+
+  @Test
+  public void testNameBasedIdsAreDeterministic() throws Exception {
+    LogicalGraph output = getDataSource(IdResolution.NAME_BASED, true).getLogicalGraph();
+
+    List<Vertex> vertices = output.getVertices().collect();
+    List<Edge> edges = output.getEdges().collect();
+
+    assertEquals(2, vertices.size());
+    for (Vertex vertex : vertices) {
+      assertEquals(NameBasedIds.vertexId(vertex.getPropertyValue("__L").getLong()),
+        vertex.getId());
+    }
+    assertEquals(2, edges.size());
+    for (Edge edge : edges) {
+      long importId = edge.getPropertyValue("__L").getLong();
+      assertEquals(NameBasedIds.edgeId(importId), edge.getId());
+      assertEquals(NameBasedIds.vertexId(importId), edge.getSourceId());
+      assertEquals(NameBasedIds.vertexId(1L - importId), edge.getTargetId());
+    }
+    assertNotEquals(NameBasedIds.vertexId(0L), NameBasedIds.edgeId(0L));
+    assertNotEquals(NameBasedIds.vertexId(0L), NameBasedIds.vertexId(0));
+    assertNotEquals(NameBasedIds.vertexId(0L), NameBasedIds.vertexId("0"));
+  }
+
+  @Test(expected = JobExecutionException.class)
+  public void testCheckedNameBasedIdsWithDanglingEdge() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    DataSet<ImportVertex<Long>> importVertices = env.fromElements(
+      new ImportVertex<>(0L));
+
+    DataSet<ImportEdge<Long>> importEdges = env.fromElements(
+      new ImportEdge<>(0L, 0L, 1L));
+
+    new GraphDataSource<>(importVertices, importEdges, null,
+      IdResolution.NAME_BASED, true, getConfig()).getLogicalGraph().getEdges().collect();
+  }
+
+  @Test
+  public void testUncheckedNameBasedIdsKeepDanglingEdge() throws Exception {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    DataSet<ImportVertex<Long>> importVertices = env.fromElements(
+      new ImportVertex<>(0L));
+
+    DataSet<ImportEdge<Long>> importEdges = env.fromElements(
+      new ImportEdge<>(0L, 0L, 1L));
+
+    List<Edge> edges = new GraphDataSource<>(importVertices, importEdges, null,
+      IdResolution.NAME_BASED, getConfig()).getLogicalGraph().getEdges().collect();
+
+    assertEquals(1, edges.size());
+    assertEquals(NameBasedIds.vertexId(1L), edges.get(0).getTargetId());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownNameBasedIdNamespace() {
+    NameBasedIds.create(0, 0L);
+  }
+
+  private GraphDataSource<Long> getDataSource(IdResolution idResolution,
+    boolean checkIdCollisions) {
+    ExecutionEnvironment env = getExecutionEnvironment();
+
+    Map<String, Object> properties = Maps.newHashMap();
+    properties.put("foo", 42);
+
+    DataSet<ImportVertex<Long>> importVertices = env.fromElements(
+      new ImportVertex<>(0L, "A", Properties.createFromMap(properties)),
+      new ImportVertex<>(1L, "B", Properties.createFromMap(properties)));
+
+    DataSet<ImportEdge<Long>> importEdges = env.fromElements(
+      new ImportEdge<>(0L, 0L, 1L, "a", Properties.createFromMap(properties)),
+      new ImportEdge<>(1L, 1L, 0L, "b", Properties.createFromMap(properties)));
+
+    return new GraphDataSource<>(importVertices, importEdges, "__L", idResolution,
+      checkIdCollisions, getConfig());
+  }
+
+  private LogicalGraph getExpectedWithLineage() {
+    return getLoaderFromString("expected[" +
+      "(a:A {foo : 42, __L : 0L})" +
+      "(b:B {foo : 42, __L : 1L})" +
+      "(a)-[:a {foo : 42, __L : 0L}]->(b)-[:b {foo : 42, __L : 1L}]->(a)" +
+      "]").getLogicalGraphByVariable("expected");
+  }
 }
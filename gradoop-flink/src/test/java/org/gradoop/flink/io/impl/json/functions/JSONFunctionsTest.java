@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.json.functions;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.codehaus.jettison.json.JSONObject;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JSONFunctionsTest {
+
+  @Test
+  public void testVertexRoundTrip() throws Exception {
+    Map<PropertyValue, PropertyValue> map = Maps.newHashMap();
+    map.put(PropertyValue.create("key"), PropertyValue.create(1));
+
+    Properties properties = Properties.create();
+    properties.set("string", "a \"quoted\"\n\\ välue");
+    properties.set("int", 42);
+    properties.set("long", 42_000_000_000L);
+    properties.set("double", 0.5d);
+    properties.set("boolean", true);
+    properties.set("null", PropertyValue.NULL_VALUE);
+    properties.set("list", Lists.newArrayList(
+      PropertyValue.create("a"), PropertyValue.create(2)));
+    properties.set("map", map);
+
+    GradoopIdSet graphIds = GradoopIdSet.fromExisting(GradoopId.get(), GradoopId.get());
+    Vertex vertex = new VertexFactory().createVertex("Person", properties, graphIds);
+
+    String json = new VertexToJSON<>().format(vertex);
+    Vertex result = new JSONToVertex(new VertexFactory()).map(json);
+
+    assertEquals(vertex.getId(), result.getId());
+    assertEquals(vertex.getLabel(), result.getLabel());
+    assertEquals(vertex.getProperties(), result.getProperties());
+    assertEquals(vertex.getGraphIds(), result.getGraphIds());
+  }
+
+  @Test
+  public void testEdgeRoundTrip() throws Exception {
+    Edge edge = new EdgeFactory().createEdge("knows", GradoopId.get(), GradoopId.get());
+    edge.setProperty("since", 2015);
+
+    String json = new EdgeToJSON<>().format(edge);
+    Edge result = new JSONToEdge(new EdgeFactory()).map(json);
+
+    assertEquals(edge.getId(), result.getId());
+    assertEquals(edge.getLabel(), result.getLabel());
+    assertEquals(edge.getSourceId(), result.getSourceId());
+    assertEquals(edge.getTargetId(), result.getTargetId());
+    assertEquals(edge.getProperties(), result.getProperties());
+    assertTrue(result.getGraphIds().isEmpty());
+  }
+
+  @Test
+  public void testGraphHeadRoundTrip() throws Exception {
+    GraphHead graphHead = new GraphHeadFactory().createGraphHead("Community");
+    graphHead.setProperty("interest", "Graphs");
+
+    String json = new GraphHeadToJSON<>().format(graphHead);
+    GraphHead result = new JSONToGraphHead(new GraphHeadFactory()).map(json);
+
+    assertEquals(graphHead.getId(), result.getId());
+    assertEquals(graphHead.getLabel(), result.getLabel());
+    assertEquals(graphHead.getProperties(), result.getProperties());
+  }
+
+  @Test
+  public void testWrittenDocumentIsValidJSON() throws Exception {
+    Vertex vertex = new VertexFactory().createVertex("Person");
+    vertex.setProperty("name", "Alice \"A\"");
+    vertex.setProperty("age", 42);
+    vertex.addGraphId(GradoopId.get());
+
+    JSONObject json = new JSONObject(new VertexToJSON<>().format(vertex));
+
+    assertEquals(vertex.getId().toString(), json.getString("id"));
+    assertEquals("Alice \"A\"", json.getJSONObject("data").getString("name"));
+    assertEquals(42, json.getJSONObject("data").getInt("age"));
+    assertEquals("Person", json.getJSONObject("meta").getString("label"));
+    assertEquals(1, json.getJSONObject("meta").getJSONArray("graphs").length());
+  }
+
+  @Test
+  public void testReadAnyFieldOrder() throws Exception {
+    String json = "{ \"meta\" : {\"graphs\":[\"000000000000000000000002\"], " +
+      "\"out-edges\":[1,2], \"label\":\"worksFor\"},\n" +
+      "\"data\":{\"since\":2015,\"weight\":0.5,\"big\":3000000000}, " +
+      "\"target\":\"000000000000000000000001\", \"unknown\":{\"a\":[1,{}]}, " +
+      "\"source\":\"000000000000000000000000\", \"id\":\"000000000000000000000003\" }";
+
+    Edge edge = new JSONToEdge(new EdgeFactory()).map(json);
+
+    assertEquals(GradoopId.fromString("000000000000000000000003"), edge.getId());
+    assertEquals(GradoopId.fromString("000000000000000000000000"), edge.getSourceId());
+    assertEquals(GradoopId.fromString("000000000000000000000001"), edge.getTargetId());
+    assertEquals("worksFor", edge.getLabel());
+    assertThat(edge.getPropertyValue("since"), is(PropertyValue.create(2015)));
+    assertThat(edge.getPropertyValue("weight"), is(PropertyValue.create(0.5d)));
+    assertThat(edge.getPropertyValue("big"), is(PropertyValue.create(3000000000L)));
+    assertEquals(GradoopIdSet.fromExisting(GradoopId.fromString("000000000000000000000002")),
+      edge.getGraphIds());
+  }
+
+  @Test
+  public void testReuse() throws Exception {
+    JSONToVertex function = new JSONToVertex(new VertexFactory());
+
+    function.map("{\"id\":\"000000000000000000000000\",\"data\":{\"a\":1}," +
+      "\"meta\":{\"label\":\"A\",\"graphs\":[\"000000000000000000000002\"]}}");
+    Vertex vertex = function.map("{\"id\":\"000000000000000000000001\",\"data\":{\"b\":2}," +
+      "\"meta\":{\"label\":\"B\"}}");
+
+    assertEquals("B", vertex.getLabel());
+    assertEquals(1, vertex.getPropertyCount());
+    assertTrue(vertex.hasProperty("b"));
+    assertTrue(vertex.getGraphIds().isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMalformedDocument() throws Exception {
+    new JSONToVertex(new VertexFactory()).map("{\"id\":\"000000000000000000000000\",\"data\":{");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingLabel() throws Exception {
+    new JSONToVertex(new VertexFactory()).map("{\"id\":\"000000000000000000000000\"}");
+  }
+}
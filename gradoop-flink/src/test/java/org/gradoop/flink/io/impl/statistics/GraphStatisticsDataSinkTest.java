@@ -18,12 +18,14 @@ package org.gradoop.flink.io.impl.statistics;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.io.api.DataSink;
 import org.gradoop.flink.io.impl.dot.DOTDataSink;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -322,4 +324,32 @@ public class GraphStatisticsDataSinkTest extends GradoopFlinkTestBase {
     assertThat(statistics.getDistinctVertexProperties("title"), is(2L));
   }
 
+  @Test
+  public void testWritePropertyStatisticsByLabel() throws Exception {
+    String tmpPath = temporaryFolder.getRoot().getPath();
+
+    LogicalGraph input = getSocialNetworkLoader()
+      .getDatabase()
+      .getDatabaseGraph(true);
+
+    DataSink statisticDataSink = new GraphStatisticsDataSink(tmpPath);
+    statisticDataSink.write(input, true);
+
+    getExecutionEnvironment().execute();
+
+    GraphStatistics statistics = GraphStatisticsLocalFSReader.read(tmpPath);
+
+    PropertyStatistics city = statistics.getVertexPropertyStatistics("Person", "city").get();
+    assertThat(city.getCount(), is(6L));
+    assertThat(city.getDistinctCount(), is(3L));
+    assertThat(city.getMostCommonValues().get(PropertyValue.create("Dresden")), is(3L));
+    assertThat(city.getMostCommonValues().get(PropertyValue.create("Leipzig")), is(2L));
+    // only "Berlin" remains for the histogram
+    assertThat(city.getHistogramBounds().size(), is(0));
+
+    PropertyStatistics since = statistics.getEdgePropertyStatistics("knows", "since").get();
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getDistinctCount(), is(3L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+  }
 }
@@ -18,6 +18,7 @@ package org.gradoop.flink.model.impl.operators.aggregation;
 import org.apache.flink.runtime.client.JobExecutionException;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.common.model.impl.properties.PropertyValueUtils;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
@@ -27,11 +28,17 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeP
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.DistinctCountEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.DistinctCountVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.HeavyHittersEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.QuantileVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
 
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -222,6 +229,140 @@ public class AggregationTest extends GradoopFlinkTestBase {
     assertCounts(graphHead, 3L, 2L);
   }
 
+  @Test
+  public void testSingleGraphMultipleAggregates() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(:Va{vp : 0.5f})-[:ea{ep : 2}]->(:Vb{vp : 3.1f})" +
+          "(:Vc{vp : 0.33f})-[:eb]->(:Vd{vp : 0.0f})" +
+          "(:Vd)-[:ec{ep : 5L}]->(:Ve)" +
+          "]"
+      )
+      .getLogicalGraphByVariable("org");
+
+    VertexCount vertexCount = new VertexCount();
+    EdgeCount edgeCount = new EdgeCount();
+    MinVertexProperty minVertexProperty = new MinVertexProperty(VERTEX_PROPERTY);
+    MaxVertexProperty maxVertexProperty = new MaxVertexProperty(VERTEX_PROPERTY);
+    SumVertexProperty sumVertexProperty = new SumVertexProperty(VERTEX_PROPERTY);
+    MinEdgeProperty minEdgeProperty = new MinEdgeProperty(EDGE_PROPERTY);
+    MaxEdgeProperty maxEdgeProperty = new MaxEdgeProperty(EDGE_PROPERTY);
+    SumEdgeProperty sumEdgeProperty = new SumEdgeProperty(EDGE_PROPERTY);
+
+    EPGMGraphHead graphHead = graph
+      .aggregate(vertexCount, edgeCount, minVertexProperty, maxVertexProperty,
+        sumVertexProperty, minEdgeProperty, maxEdgeProperty, sumEdgeProperty)
+      .getGraphHead().collect().get(0);
+
+    assertCounts(graphHead, 6L, 3L);
+    assertEquals(0.0f, graphHead.getPropertyValue(
+      minVertexProperty.getAggregatePropertyKey()).getFloat(), 0.00001f);
+    assertEquals(3.1f, graphHead.getPropertyValue(
+      maxVertexProperty.getAggregatePropertyKey()).getFloat(), 0.00001f);
+    assertEquals(3.93f, graphHead.getPropertyValue(
+      sumVertexProperty.getAggregatePropertyKey()).getFloat(), 0.00001f);
+    assertEquals(2, graphHead.getPropertyValue(
+      minEdgeProperty.getAggregatePropertyKey()).getInt());
+    assertEquals(5L, graphHead.getPropertyValue(
+      maxEdgeProperty.getAggregatePropertyKey()).getLong());
+    assertEquals(7L, graphHead.getPropertyValue(
+      sumEdgeProperty.getAggregatePropertyKey()).getLong());
+  }
+
+  @Test
+  public void testMultipleAggregatesWithEmptyGraph() throws Exception {
+    LogicalGraph graph = getLoaderFromString("org:Ga[]")
+      .getLogicalGraphByVariable("org");
+
+    SumVertexProperty sumVertexProperty = new SumVertexProperty(VERTEX_PROPERTY);
+    MaxEdgeProperty maxEdgeProperty = new MaxEdgeProperty(EDGE_PROPERTY);
+
+    EPGMGraphHead graphHead = graph
+      .aggregate(new VertexCount(), new EdgeCount(), sumVertexProperty, maxEdgeProperty)
+      .getGraphHead().collect().get(0);
+
+    assertCounts(graphHead, 0L, 0L);
+    assertEquals(PropertyValue.NULL_VALUE, graphHead.getPropertyValue(
+      sumVertexProperty.getAggregatePropertyKey()));
+    assertEquals(PropertyValue.NULL_VALUE, graphHead.getPropertyValue(
+      maxEdgeProperty.getAggregatePropertyKey()));
+  }
+
+  @Test
+  public void testSingleGraphSketchAggregates() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(v1 {vp : 1})-[{ep : \"a\"}]->(v2 {vp : 2})" +
+          "(v2)-[{ep : \"b\"}]->(v3 {vp : 2})" +
+          "(v3)-[{ep : \"a\"}]->(v4 {vp : 3})" +
+          "(v4)-[{ep : \"a\"}]->(v5 {vp : 3})" +
+          "(v5)-->(v6 {vp : 3})" +
+          "(v6)-->(v7)" +
+          "]"
+      )
+      .getLogicalGraphByVariable("org");
+
+    DistinctCountVertexProperty distinctVertexProperty =
+      new DistinctCountVertexProperty(VERTEX_PROPERTY);
+    QuantileVertexProperty medianVertexProperty =
+      new QuantileVertexProperty(VERTEX_PROPERTY, 0.5);
+    HeavyHittersEdgeProperty heavyHittersEdgeProperty =
+      new HeavyHittersEdgeProperty(EDGE_PROPERTY, 1);
+    DistinctCountEdgeProperty distinctMissingProperty =
+      new DistinctCountEdgeProperty("missing");
+
+    EPGMGraphHead graphHead = graph
+      .aggregate(distinctVertexProperty, medianVertexProperty, heavyHittersEdgeProperty,
+        distinctMissingProperty)
+      .getGraphHead().collect().get(0);
+
+    assertEquals(3L, graphHead.getPropertyValue(
+      distinctVertexProperty.getAggregatePropertyKey()).getLong());
+    assertEquals(2d, graphHead.getPropertyValue(
+      medianVertexProperty.getAggregatePropertyKey()).getDouble(), 0d);
+    Map<PropertyValue, PropertyValue> heavyHitters = graphHead.getPropertyValue(
+      heavyHittersEdgeProperty.getAggregatePropertyKey()).getMap();
+    assertEquals(1, heavyHitters.size());
+    assertEquals(3L, heavyHitters.get(PropertyValue.create("a")).getLong());
+    assertEquals(0L, graphHead.getPropertyValue(
+      distinctMissingProperty.getAggregatePropertyKey()).getLong());
+  }
+
+  @Test
+  public void testSubclassOverridingAggregate() throws Exception {
+    LogicalGraph graph = getLoaderFromString(
+          "org:Ga[" +
+          "(:Va{vp : 0.5f})-[:ea{ep : 2}]->(:Vb{vp : 3.1f})" +
+          "(:Vc{vp : 0.33f})-[:eb]->(:Vd{vp : 0.0f})" +
+          "]"
+      ).getLogicalGraphByVariable("org");
+
+    SumVertexProperty maxVertexProperty = new MaxAsSumVertexProperty(VERTEX_PROPERTY);
+
+    EPGMGraphHead graphHead = graph.aggregate(maxVertexProperty)
+      .getGraphHead().collect().get(0);
+
+    assertEquals(
+      3.1f,
+      graphHead.getPropertyValue(
+        maxVertexProperty.getAggregatePropertyKey()).getFloat(), 0.00001f);
+  }
+
+  /**
+   * Sum function whose aggregate method determines the maximum instead.
+   */
+  private static class MaxAsSumVertexProperty extends SumVertexProperty {
+
+    MaxAsSumVertexProperty(String propertyKey) {
+      super(propertyKey);
+    }
+
+    @Override
+    public PropertyValue aggregate(PropertyValue aggregate, PropertyValue increment) {
+      return PropertyValueUtils.Numeric.max(aggregate, increment);
+    }
+  }
+
   void assertCounts(EPGMGraphHead graphHead, long expectedVertexCount, long expectedEdgeCount) {
 
     assertEquals("wrong vertex count", expectedVertexCount,
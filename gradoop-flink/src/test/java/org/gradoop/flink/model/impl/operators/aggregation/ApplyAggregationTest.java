@@ -28,6 +28,8 @@ import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxEdgeP
 import org.gradoop.flink.model.impl.operators.aggregation.functions.max.MaxVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.min.MinVertexProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.DistinctCountEdgeProperty;
+import org.gradoop.flink.model.impl.operators.aggregation.functions.sketch.QuantileVertexProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumEdgeProperty;
 import org.gradoop.flink.model.impl.operators.aggregation.functions.sum.SumVertexProperty;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
@@ -362,4 +364,120 @@ public abstract class ApplyAggregationTest extends AggregationTest {
     assertTrue("wrong number of output graph heads", graphHeadCount == 4);
   }
 
+  @Test
+  public void testCollectionMultipleAggregates() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g0[" +
+        "(va {vp : 0.5f})" +
+        "(vb {vp : 0.3f})" +
+        "(vc {vp : 0.1f})" +
+        "(va)-[ea {ep : 2L}]->(vb)" +
+        "(vb)-[eb {ep : 3L}]->(vc)" +
+        "]" +
+        "g1[" +
+        "(va)-[ea]->(vb)" +
+        "]" +
+        "g2[]");
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2");
+
+    VertexCount vertexCount = new VertexCount();
+    EdgeCount edgeCount = new EdgeCount();
+    MaxVertexProperty maxVertexProperty = new MaxVertexProperty(VERTEX_PROPERTY);
+    SumEdgeProperty sumEdgeProperty = new SumEdgeProperty(EDGE_PROPERTY);
+    MinEdgeProperty minEdgeProperty = new MinEdgeProperty(EDGE_PROPERTY);
+
+    GraphCollection outputCollection = inputCollection
+      .apply(new ApplyAggregation(vertexCount, maxVertexProperty, edgeCount, sumEdgeProperty,
+        minEdgeProperty));
+
+    GradoopId g0Id = loader.getGraphHeadByVariable("g0").getId();
+    GradoopId g1Id = loader.getGraphHeadByVariable("g1").getId();
+    GradoopId g2Id = loader.getGraphHeadByVariable("g2").getId();
+
+    List<GraphHead> graphHeads = outputCollection.getGraphHeads().collect();
+    assertEquals(3, graphHeads.size());
+
+    for (EPGMGraphHead graphHead : graphHeads) {
+      PropertyValue maxVertex =
+        graphHead.getPropertyValue(maxVertexProperty.getAggregatePropertyKey());
+      PropertyValue sumEdge =
+        graphHead.getPropertyValue(sumEdgeProperty.getAggregatePropertyKey());
+      PropertyValue minEdge =
+        graphHead.getPropertyValue(minEdgeProperty.getAggregatePropertyKey());
+
+      if (graphHead.getId().equals(g0Id)) {
+        assertCounts(graphHead, 3, 2);
+        assertEquals(0.5f, maxVertex.getFloat(), 0.00001);
+        assertEquals(5L, sumEdge.getLong());
+        assertEquals(2L, minEdge.getLong());
+      } else if (graphHead.getId().equals(g1Id)) {
+        assertCounts(graphHead, 2, 1);
+        assertEquals(0.5f, maxVertex.getFloat(), 0.00001);
+        assertEquals(2L, sumEdge.getLong());
+        assertEquals(2L, minEdge.getLong());
+      } else if (graphHead.getId().equals(g2Id)) {
+        assertCounts(graphHead, 0, 0);
+        assertEquals(PropertyValue.NULL_VALUE, maxVertex);
+        assertEquals(PropertyValue.NULL_VALUE, sumEdge);
+        assertEquals(PropertyValue.NULL_VALUE, minEdge);
+      } else {
+        Assert.fail("unexpected graph head: " + graphHead);
+      }
+    }
+  }
+
+  @Test
+  public void testCollectionSketchAggregates() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(
+      "g0[" +
+        "(va {vp : 1L})" +
+        "(vb {vp : 5L})" +
+        "(vc {vp : 9L})" +
+        "(va)-[ea {ep : 2L}]->(vb)" +
+        "(vb)-[eb {ep : 2L}]->(vc)" +
+        "(vc)-[ec {ep : 4L}]->(va)" +
+        "]" +
+        "g1[" +
+        "(va)-[ea]->(vb)" +
+        "]" +
+        "g2[]");
+
+    GraphCollection inputCollection = loader
+      .getGraphCollectionByVariables("g0", "g1", "g2");
+
+    QuantileVertexProperty maxVertexProperty = new QuantileVertexProperty(VERTEX_PROPERTY, 1d);
+    DistinctCountEdgeProperty distinctEdgeProperty = new DistinctCountEdgeProperty(EDGE_PROPERTY);
+
+    GraphCollection outputCollection = inputCollection
+      .apply(new ApplyAggregation(maxVertexProperty, distinctEdgeProperty));
+
+    GradoopId g0Id = loader.getGraphHeadByVariable("g0").getId();
+    GradoopId g1Id = loader.getGraphHeadByVariable("g1").getId();
+    GradoopId g2Id = loader.getGraphHeadByVariable("g2").getId();
+
+    List<GraphHead> graphHeads = outputCollection.getGraphHeads().collect();
+    assertEquals(3, graphHeads.size());
+
+    for (EPGMGraphHead graphHead : graphHeads) {
+      PropertyValue maxVertex =
+        graphHead.getPropertyValue(maxVertexProperty.getAggregatePropertyKey());
+      PropertyValue distinctEdge =
+        graphHead.getPropertyValue(distinctEdgeProperty.getAggregatePropertyKey());
+
+      if (graphHead.getId().equals(g0Id)) {
+        assertEquals(9d, maxVertex.getDouble(), 0d);
+        assertEquals(2L, distinctEdge.getLong());
+      } else if (graphHead.getId().equals(g1Id)) {
+        assertEquals(5d, maxVertex.getDouble(), 0d);
+        assertEquals(1L, distinctEdge.getLong());
+      } else if (graphHead.getId().equals(g2Id)) {
+        assertEquals(PropertyValue.NULL_VALUE, maxVertex);
+        assertEquals(0L, distinctEdge.getLong());
+      } else {
+        Assert.fail("unexpected graph head: " + graphHead);
+      }
+    }
+  }
 }
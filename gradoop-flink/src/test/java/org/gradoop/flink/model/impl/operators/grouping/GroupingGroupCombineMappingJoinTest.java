@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.grouping;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class GroupingGroupCombineMappingJoinTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMultipleVertexProperties() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader
+      .getLogicalGraphByVariable("g0")
+      .combine(loader.getLogicalGraphByVariable("g1"))
+      .combine(loader.getLogicalGraphByVariable("g2"));
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(leipzigF {city : \"Leipzig\", gender : \"f\", count : 1L})" +
+      "(leipzigM {city : \"Leipzig\", gender : \"m\", count : 1L})" +
+      "(dresdenF {city : \"Dresden\", gender : \"f\", count : 2L})" +
+      "(dresdenM {city : \"Dresden\", gender : \"m\", count : 1L})" +
+      "(berlinM  {city : \"Berlin\", gender : \"m\",  count : 1L})" +
+      "(leipzigF)-[{count : 1L}]->(leipzigM)" +
+      "(leipzigM)-[{count : 1L}]->(leipzigF)" +
+      "(leipzigM)-[{count : 1L}]->(dresdenF)" +
+      "(dresdenF)-[{count : 1L}]->(leipzigF)" +
+      "(dresdenF)-[{count : 2L}]->(leipzigM)" +
+      "(dresdenF)-[{count : 1L}]->(dresdenM)" +
+      "(dresdenM)-[{count : 1L}]->(dresdenF)" +
+      "(berlinM)-[{count : 1L}]->(dresdenF)" +
+      "(berlinM)-[{count : 1L}]->(dresdenM)" +
+      "]");
+
+    LogicalGraph output = new GroupingBuilder()
+      .addVertexGroupingKey("city")
+      .addVertexGroupingKey("gender")
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(GroupingStrategy.GROUP_COMBINE)
+      .useSuperVertexMappingJoin(true)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
+  @Test
+  public void testVertexLabel() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("g2");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(p:Person  {count : 4L})" +
+      "(p)-[{count : 6L}]->(p)" +
+      "]");
+
+    LogicalGraph output = new GroupingBuilder()
+      .useVertexLabel(true)
+      .addVertexAggregator(new CountAggregator("count"))
+      .addEdgeAggregator(new CountAggregator("count"))
+      .setStrategy(GroupingStrategy.GROUP_COMBINE)
+      .useSuperVertexMappingJoin(true)
+      .build()
+      .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+}
@@ -20,8 +20,10 @@ import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
 import org.gradoop.flink.model.impl.operators.grouping.Grouping.GroupingBuilder;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.CountAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.DistinctCountAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MaxAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.MinAggregator;
+import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.QuantileAggregator;
 import org.gradoop.flink.model.impl.operators.grouping.functions.aggregation.SumAggregator;
 import org.gradoop.flink.util.FlinkAsciiGraphLoader;
 import org.junit.Test;
@@ -1346,6 +1348,51 @@ public abstract class GroupingTestBase extends GradoopFlinkTestBase {
       output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
   }
 
+  @Test
+  public void testSketchAggregators() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString("input[" +
+        "(v0:Blue {a : 3})" +
+        "(v1:Blue {a : 2})" +
+        "(v2:Blue {a : 4})" +
+        "(v3:Red  {a : 4})" +
+        "(v4:Red  {a : 2})" +
+        "(v5:Red  {a : 4})" +
+        "(v6:Red)" +
+        "(v0)-[{b : 2}]->(v1)" +
+        "(v0)-[{b : 1}]->(v2)" +
+        "(v1)-[{b : 2}]->(v2)" +
+        "(v2)-[{b : 3}]->(v3)" +
+        "(v2)-[{b : 1}]->(v3)" +
+        "(v3)-[{b : 3}]->(v4)" +
+        "(v4)-[{b : 1}]->(v5)" +
+        "(v5)-[{b : 1}]->(v3)" +
+        "]");
+
+    LogicalGraph input = loader.getLogicalGraphByVariable("input");
+
+    loader.appendToDatabaseFromString("expected[" +
+      "(v00:Blue {distinctA : 3L,medianA : 3.0d})" +
+      "(v01:Red  {distinctA : 2L,medianA : 4.0d})" +
+      "(v00)-[{distinctB : 2L,maxB : 2.0d}]->(v00)" +
+      "(v00)-[{distinctB : 2L,maxB : 3.0d}]->(v01)" +
+      "(v01)-[{distinctB : 2L,maxB : 3.0d}]->(v01)" +
+      "]");
+
+    LogicalGraph output =
+      new GroupingBuilder()
+        .useVertexLabel(true)
+        .addVertexAggregator(new DistinctCountAggregator("a", "distinctA"))
+        .addVertexAggregator(new QuantileAggregator("a", "medianA", 0.5))
+        .addEdgeAggregator(new DistinctCountAggregator("b", "distinctB"))
+        .addEdgeAggregator(new QuantileAggregator("b", "maxB", 1.0))
+        .setStrategy(getStrategy())
+        .build()
+        .execute(input);
+
+    collectAndAssertTrue(
+      output.equalsByElementData(loader.getLogicalGraphByVariable("expected")));
+  }
+
   //----------------------------------------------------------------------------
   // Tests for label specific grouping
   //----------------------------------------------------------------------------
@@ -15,9 +15,11 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.common.statistics;
 
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.junit.Test;
 
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public abstract class GraphStatisticsTest {
@@ -199,4 +201,44 @@ public abstract class GraphStatisticsTest {
       is(0L));
   }
 
+  @Test
+  public void testVertexPropertyStatisticsByLabel() throws Exception {
+    PropertyStatistics age = TEST_STATISTICS.getVertexPropertyStatistics("Person", "age").get();
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getDistinctCount(), is(4L));
+    assertThat(age.getMostCommonValues().size(), is(2));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(35)), is(2L));
+    // the histogram excludes the most common values
+    assertThat(age.getHistogramBounds().size(), is(2));
+    assertThat(age.getHistogramBounds().get(0), is(PropertyValue.create(20)));
+    assertThat(age.getHistogramBounds().get(1), is(PropertyValue.create(40)));
+
+    PropertyStatistics name = TEST_STATISTICS.getVertexPropertyStatistics("Tag", "name").get();
+    assertThat(name.getCount(), is(3L));
+    assertThat(name.getDistinctCount(), is(3L));
+    assertThat(name.getMostCommonValues().size(), is(0));
+    assertThat(name.getHistogramBounds().size(), is(3));
+
+    assertThat(TEST_STATISTICS.getVertexPropertyStatistics("name").size(), is(2));
+    // nonexistent label and property
+    assertFalse(TEST_STATISTICS.getVertexPropertyStatistics("foo", "age").isPresent());
+    assertFalse(TEST_STATISTICS.getVertexPropertyStatistics("Person", "bar").isPresent());
+  }
+
+  @Test
+  public void testEdgePropertyStatisticsByLabel() throws Exception {
+    PropertyStatistics since = TEST_STATISTICS.getEdgePropertyStatistics("knows", "since").get();
+    assertThat(since.getCount(), is(10L));
+    assertThat(since.getDistinctCount(), is(3L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2014)), is(4L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2013)), is(3L));
+    assertThat(since.getMostCommonValues().get(PropertyValue.create(2015)), is(3L));
+    assertThat(since.getHistogramBounds().size(), is(0));
+
+    assertThat(TEST_STATISTICS.getEdgePropertyStatistics("since").size(), is(2));
+    // nonexistent label and property
+    assertFalse(TEST_STATISTICS.getEdgePropertyStatistics("foo", "since").isPresent());
+    assertFalse(TEST_STATISTICS.getEdgePropertyStatistics("knows", "bar").isPresent());
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.common.statistics;
+
+import com.google.common.collect.Lists;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+import org.s1ck.gdl.utils.Comparator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class PropertyStatisticsTest {
+
+  /**
+   * 100 values, value 42 occurs 10 times, the other 90 values are uniformly distributed in [0, 100]
+   */
+  private static PropertyStatistics createStatistics() {
+    Map<PropertyValue, Long> mostCommonValues = new HashMap<>();
+    mostCommonValues.put(PropertyValue.create(42), 10L);
+    List<PropertyValue> bounds = Lists.newArrayList(
+      PropertyValue.create(0), PropertyValue.create(25), PropertyValue.create(50),
+      PropertyValue.create(75), PropertyValue.create(100));
+    return new PropertyStatistics(100L, 46L, mostCommonValues, bounds);
+  }
+
+  @Test
+  public void testEqualitySelectivity() {
+    PropertyStatistics statistics = createStatistics();
+    assertThat(statistics.getSelectivity(Comparator.EQ, PropertyValue.create(42)), is(0.1d));
+    // remaining 90% are spread over 45 other values
+    assertEquals(0.02d, statistics.getSelectivity(Comparator.EQ, PropertyValue.create(7)), 1E-9);
+    assertEquals(0.98d, statistics.getSelectivity(Comparator.NEQ, PropertyValue.create(7)), 1E-9);
+  }
+
+  @Test
+  public void testEqualitySelectivityOfPromotedValue() {
+    PropertyStatistics statistics = createStatistics();
+    assertThat(statistics.getSelectivity(Comparator.EQ, PropertyValue.create(42L)), is(0.1d));
+    assertEquals(0.1d, statistics.getSelectivity(Comparator.EQ, PropertyValue.create(42d)), 1E-9);
+    assertEquals(0.9d, statistics.getSelectivity(Comparator.NEQ, PropertyValue.create(42L)), 1E-9);
+  }
+
+  @Test
+  public void testRangeSelectivityOfPromotedValue() {
+    PropertyStatistics statistics = createStatistics();
+    assertEquals(0.64d, statistics.getSelectivity(Comparator.LT, PropertyValue.create(60L)), 1E-9);
+    assertEquals(0.478d, statistics.getSelectivity(Comparator.LTE, PropertyValue.create(42L)),
+      1E-9);
+  }
+
+  @Test
+  public void testRangeSelectivity() {
+    PropertyStatistics statistics = createStatistics();
+    // 10% for value 42 plus 60% of the remaining 90%
+    assertEquals(0.64d, statistics.getSelectivity(Comparator.LT, PropertyValue.create(60)), 1E-9);
+    assertEquals(0.36d, statistics.getSelectivity(Comparator.GTE, PropertyValue.create(60)), 1E-9);
+    assertEquals(0.64d, statistics.getSelectivity(Comparator.LT, PropertyValue.create(60L)), 1E-9);
+    assertEquals(0.6625d,
+      statistics.getSelectivity(Comparator.LT, PropertyValue.create(62.5d)), 1E-9);
+    assertThat(statistics.getSelectivity(Comparator.LT, PropertyValue.create(-1)), is(0d));
+    assertEquals(0d, statistics.getSelectivity(Comparator.GT, PropertyValue.create(100)), 1E-9);
+    assertThat(statistics.getSelectivity(Comparator.LTE, PropertyValue.create(101)), is(1d));
+  }
+
+  @Test
+  public void testRangeSelectivityOfMostCommonValue() {
+    PropertyStatistics statistics = createStatistics();
+    // the frequency of 42 is only counted once
+    assertEquals(0.378d, statistics.getSelectivity(Comparator.LT, PropertyValue.create(42)), 1E-9);
+    assertEquals(0.478d,
+      statistics.getSelectivity(Comparator.LTE, PropertyValue.create(42)), 1E-9);
+    assertEquals(0.522d, statistics.getSelectivity(Comparator.GT, PropertyValue.create(42)), 1E-9);
+    assertEquals(0.622d,
+      statistics.getSelectivity(Comparator.GTE, PropertyValue.create(42)), 1E-9);
+  }
+
+  @Test
+  public void testRangeSelectivityWithoutHistogram() {
+    PropertyStatistics statistics = new PropertyStatistics(10L, 2L,
+      Collections.singletonMap(PropertyValue.create(1), 6L), Collections.emptyList());
+    // the most common values are exact, the histogram default applies to the remaining values
+    assertEquals(0.6d + 0.4d * PropertyStatistics.DEFAULT_RANGE_SELECTIVITY,
+      statistics.getSelectivity(Comparator.LTE, PropertyValue.create(1)), 1E-9);
+    assertEquals(0.4d * PropertyStatistics.DEFAULT_RANGE_SELECTIVITY,
+      statistics.getSelectivity(Comparator.LT, PropertyValue.create(1)), 1E-9);
+  }
+
+  @Test
+  public void testRangeSelectivityIncomparable() {
+    PropertyStatistics statistics = createStatistics();
+    assertThat(statistics.getSelectivity(Comparator.GT, PropertyValue.create("foo")),
+      is(PropertyStatistics.DEFAULT_RANGE_SELECTIVITY));
+  }
+
+  @Test
+  public void testRangeSelectivityWithoutStatistics() {
+    PropertyStatistics statistics = new PropertyStatistics(10L, 10L,
+      Collections.emptyMap(), Collections.emptyList());
+    assertThat(statistics.getSelectivity(Comparator.LT, PropertyValue.create(1)),
+      is(PropertyStatistics.DEFAULT_RANGE_SELECTIVITY));
+  }
+
+  @Test
+  public void testStringRangeSelectivity() {
+    PropertyStatistics statistics = new PropertyStatistics(4L, 4L, Collections.emptyMap(),
+      Lists.newArrayList(PropertyValue.create("a"), PropertyValue.create("c"),
+        PropertyValue.create("e")));
+    // "b" is assumed to be in the middle of the first bucket
+    assertEquals(0.25d, statistics.getSelectivity(Comparator.LT, PropertyValue.create("b")), 1E-9);
+  }
+}
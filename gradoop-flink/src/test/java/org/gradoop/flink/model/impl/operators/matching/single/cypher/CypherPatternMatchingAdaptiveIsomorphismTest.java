@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.PatternMatching;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerType;
+
+/**
+ * Runs the isomorphism tests with leaf cardinalities observed before planning.
+ */
+public class CypherPatternMatchingAdaptiveIsomorphismTest
+  extends CypherPatternMatchingIsomorphismTest {
+
+  public CypherPatternMatchingAdaptiveIsomorphismTest(String testName, String dataGraph,
+    String queryGraph, String expectedGraphVariables, String expectedCollection) {
+    super(testName, dataGraph, queryGraph, expectedGraphVariables, expectedCollection);
+  }
+
+  @Override
+  public PatternMatching getImplementation(String queryGraph, boolean attachData) {
+    int n = 42; // just used for testing
+    return new CypherPatternMatching("MATCH " + queryGraph, null, attachData,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM,
+      new GraphStatistics(n, n, n, n), PlannerType.GREEDY, true);
+  }
+}
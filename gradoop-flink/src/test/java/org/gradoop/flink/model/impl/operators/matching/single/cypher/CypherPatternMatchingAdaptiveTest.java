@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher;
+
+import org.apache.flink.api.java.io.DiscardingOutputFormat;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.PlannerType;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+public class CypherPatternMatchingAdaptiveTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (a:Person)-[e:knows]->(b:Person)";
+
+  @Test(expected = IllegalStateException.class)
+  public void testPendingSinks() throws Exception {
+    LogicalGraph graph = getSocialNetworkLoader().getLogicalGraphByVariable("g0");
+    graph.getVertices().output(new DiscardingOutputFormat<>());
+
+    try {
+      graph.callForCollection(getAdaptiveOperator());
+    } finally {
+      // do not leave the sink to other tests
+      getExecutionEnvironment().execute();
+    }
+  }
+
+  @Test
+  public void testExecutedSinks() throws Exception {
+    FlinkAsciiGraphLoader loader = getSocialNetworkLoader();
+    LogicalGraph graph = loader.getLogicalGraphByVariable("g0");
+    graph.getVertices().output(new DiscardingOutputFormat<>());
+    getExecutionEnvironment().execute();
+
+    GraphCollection result = graph.callForCollection(getAdaptiveOperator());
+
+    GraphCollection expected = graph.callForCollection(new CypherPatternMatching(QUERY, true,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1)));
+
+    collectAndAssertTrue(result.equalsByGraphElementIds(expected));
+  }
+
+  private CypherPatternMatching getAdaptiveOperator() {
+    return new CypherPatternMatching(QUERY, null, true, MatchStrategy.ISOMORPHISM,
+      MatchStrategy.ISOMORPHISM, new GraphStatistics(1, 1, 1, 1), PlannerType.GREEDY, true);
+  }
+}
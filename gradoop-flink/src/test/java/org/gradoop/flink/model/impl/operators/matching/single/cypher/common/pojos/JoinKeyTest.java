@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.core.memory.MemorySegmentFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKey;
+import org.junit.Test;
+
+import static org.gradoop.common.GradoopTestUtils.writeAndReadValue;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JoinKeyTest {
+
+  @Test
+  public void testFromIds() {
+    GradoopId v0 = GradoopId.get();
+    GradoopId v1 = GradoopId.get();
+    Embedding embedding = createEmbedding(v0, v1);
+
+    JoinKey key = JoinKey.fromIds(embedding, new int[] {0, 1});
+
+    assertEquals(2 * GradoopId.ID_SIZE, key.size());
+    assertEquals(key, JoinKey.fromIds(createEmbedding(v1, v0), new int[] {1, 0}));
+    assertEquals(key.hashCode(),
+      JoinKey.fromIds(createEmbedding(v1, v0), new int[] {1, 0}).hashCode());
+    assertNotEquals(key, JoinKey.fromIds(embedding, new int[] {1, 0}));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testFromIdsOnIdList() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), GradoopId.get());
+
+    JoinKey.fromIds(embedding, new int[] {0});
+  }
+
+  @Test
+  public void testFromProperties() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create("Foo"), PropertyValue.create(42));
+
+    JoinKey key = JoinKey.fromProperties(embedding, new int[] {0, 1});
+
+    assertEquals(embedding.getRawProperty(0).length + embedding.getRawProperty(1).length,
+      key.size());
+  }
+
+  @Test
+  public void testWriteAndReadValue() throws Exception {
+    JoinKey key = JoinKey.fromIds(createEmbedding(GradoopId.get(), GradoopId.get()),
+      new int[] {0, 1});
+    assertEquals(key, writeAndReadValue(JoinKey.class, key));
+
+    JoinKey empty = new JoinKey();
+    assertEquals(empty, writeAndReadValue(JoinKey.class, empty));
+  }
+
+  @Test
+  public void testNormalizedKeyIsConsistentWithCompareTo() {
+    for (int i = 0; i < 100; i++) {
+      JoinKey key1 = JoinKey.fromIds(createEmbedding(GradoopId.get()), new int[] {0});
+      JoinKey key2 = JoinKey.fromIds(createEmbedding(GradoopId.get()), new int[] {0});
+
+      MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(16);
+      key1.copyNormalizedKey(segment, 0, 8);
+      key2.copyNormalizedKey(segment, 8, 8);
+      int normalizedComparison = segment.compare(segment, 0, 8, 8);
+
+      if (normalizedComparison != 0) {
+        assertEquals(Integer.signum(normalizedComparison), Integer.signum(key1.compareTo(key2)));
+      }
+      assertEquals(0, key1.compareTo(key1.copy()));
+    }
+  }
+
+  @Test
+  public void testNormalizedKeyIsPaddedForShortKeys() {
+    Embedding embedding = new Embedding();
+    embedding.add(GradoopId.get(), PropertyValue.create(true));
+    JoinKey key = JoinKey.fromProperties(embedding, new int[] {0});
+
+    MemorySegment segment = MemorySegmentFactory.allocateUnpooledSegment(32);
+    for (int i = 0; i < 32; i++) {
+      segment.put(i, (byte) 0xFF);
+    }
+    key.copyNormalizedKey(segment, 0, 32);
+
+    for (int i = key.size(); i < 32; i++) {
+      assertEquals(0, segment.get(i));
+    }
+    assertTrue(key.size() < 32);
+  }
+}
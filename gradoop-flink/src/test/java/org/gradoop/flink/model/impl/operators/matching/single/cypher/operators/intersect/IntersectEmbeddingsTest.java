@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.intersect;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperator;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.utils.ExpandDirection;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.*;
+import static org.junit.Assert.assertEquals;
+
+public class IntersectEmbeddingsTest extends PhysicalOperatorTest {
+  private static GradoopId v0 = GradoopId.get();
+  private static GradoopId v1 = GradoopId.get();
+  private static GradoopId v2 = GradoopId.get();
+  private static GradoopId v3 = GradoopId.get();
+  private static GradoopId e0 = GradoopId.get();
+  private static GradoopId e1 = GradoopId.get();
+  private static GradoopId e2 = GradoopId.get();
+  private static GradoopId e3 = GradoopId.get();
+  private static GradoopId e4 = GradoopId.get();
+  private static GradoopId e5 = GradoopId.get();
+
+  @Test
+  public void testTriangle() throws Exception {
+    // (a)-[e0]->(b)
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v1, e1, v2)
+    );
+    // (b)-[e1]->(c)
+    DataSet<Embedding> bc = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2),
+      createEmbedding(v1, e2, v3),
+      createEmbedding(v2, e4, v3)
+    );
+    // (c)-[e2]->(a)
+    DataSet<Embedding> ca = getExecutionEnvironment().fromElements(
+      createEmbedding(v2, e3, v0),
+      createEmbedding(v3, e5, v2)
+    );
+
+    PhysicalOperator intersect = new IntersectEmbeddings(input, Lists.newArrayList(bc, ca), 3,
+      Lists.newArrayList(2, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.IN),
+      Collections.emptyList(), Collections.emptyList());
+
+    DataSet<Embedding> result = intersect.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e1, e3);
+  }
+
+  @Test
+  public void testProperties() throws Exception {
+    Embedding l = new Embedding();
+    l.add(v0, PropertyValue.create("Foo"));
+    l.add(e0, PropertyValue.create(42));
+    l.add(v1);
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(l);
+
+    Embedding bc = new Embedding();
+    bc.add(v1);
+    bc.add(e1, PropertyValue.create(23));
+    bc.add(v2);
+
+    Embedding ca = new Embedding();
+    ca.add(v2);
+    ca.add(e2, PropertyValue.create("Bar"));
+    ca.add(v0);
+
+    PhysicalOperator intersect = new IntersectEmbeddings(input,
+      Lists.newArrayList(
+        getExecutionEnvironment().fromElements(bc),
+        getExecutionEnvironment().fromElements(ca)),
+      3, Lists.newArrayList(2, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.IN),
+      Collections.emptyList(), Collections.emptyList());
+
+    List<Embedding> result = intersect.evaluate().collect();
+    assertEquals(1, result.size());
+    assertEquals(Lists.newArrayList(v0, e0, v1, v2, e1, e2),
+      result.get(0).getIdsAsList(Lists.newArrayList(0, 1, 2, 3, 4, 5)));
+    assertEquals(Lists.newArrayList(
+      PropertyValue.create("Foo"),
+      PropertyValue.create(42),
+      PropertyValue.create(23),
+      PropertyValue.create("Bar")),
+      result.get(0).getProperties());
+  }
+
+  @Test
+  public void testVertexIsomorphism() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> bc = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v0),
+      createEmbedding(v1, e2, v2)
+    );
+    DataSet<Embedding> ca = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e3, v0),
+      createEmbedding(v2, e4, v0)
+    );
+
+    PhysicalOperator homomorphism = new IntersectEmbeddings(input, Lists.newArrayList(bc, ca), 3,
+      Lists.newArrayList(2, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.IN),
+      Collections.emptyList(), Collections.emptyList());
+
+    DataSet<Embedding> result = homomorphism.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v0, e1, e3);
+    assertEmbeddingExists(result, v0, e0, v1, v2, e2, e4);
+
+    PhysicalOperator isomorphism = new IntersectEmbeddings(input, Lists.newArrayList(bc, ca), 3,
+      Lists.newArrayList(2, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.IN),
+      Lists.newArrayList(0, 2), Collections.emptyList());
+
+    result = isomorphism.evaluate();
+    assertEquals(1, result.count());
+    assertEmbeddingExists(result, v0, e0, v1, v2, e2, e4);
+  }
+
+  @Test
+  public void testEdgeIsomorphism() throws Exception {
+    // (a)-[e0]->(b), (a)-[e1]->(b)
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0)
+    );
+    DataSet<Embedding> edges = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1),
+      createEmbedding(v0, e1, v1)
+    );
+
+    PhysicalOperator homomorphism = new IntersectEmbeddings(input,
+      Lists.newArrayList(edges, edges), 1,
+      Lists.newArrayList(0, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.OUT),
+      Collections.emptyList(), Collections.emptyList());
+
+    assertEquals(4, homomorphism.evaluate().count());
+
+    PhysicalOperator isomorphism = new IntersectEmbeddings(input,
+      Lists.newArrayList(edges, edges), 1,
+      Lists.newArrayList(0, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.OUT),
+      Collections.emptyList(), Lists.newArrayList(2, 3));
+
+    DataSet<Embedding> result = isomorphism.evaluate();
+    assertEquals(2, result.count());
+    assertEmbeddingExists(result, v0, v1, e0, e1);
+    assertEmbeddingExists(result, v0, v1, e1, e0);
+  }
+
+  @Test
+  public void testEmptyIntersection() throws Exception {
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(v0, e0, v1)
+    );
+    DataSet<Embedding> bc = getExecutionEnvironment().fromElements(
+      createEmbedding(v1, e1, v2)
+    );
+    DataSet<Embedding> ca = getExecutionEnvironment().fromElements(
+      createEmbedding(v3, e2, v0)
+    );
+
+    PhysicalOperator intersect = new IntersectEmbeddings(input, Lists.newArrayList(bc, ca), 3,
+      Lists.newArrayList(2, 0), Lists.newArrayList(ExpandDirection.OUT, ExpandDirection.IN),
+      Collections.emptyList(), Collections.emptyList());
+
+    assertEquals(0, intersect.evaluate().count());
+  }
+}
@@ -15,9 +15,9 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.JoinKey;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.PhysicalOperatorTest;
 import org.junit.Assert;
 import org.junit.Test;
@@ -37,8 +37,13 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
     Embedding embedding = createEmbedding(v0, v1);
 
     ExtractJoinColumns udf = new ExtractJoinColumns(Collections.singletonList(0));
+    JoinKey key = udf.getKey(embedding);
 
-    Assert.assertEquals(ArrayUtils.toString(v0.toByteArray()), udf.getKey(embedding));
+    Assert.assertEquals(GradoopId.ID_SIZE, key.size());
+    Assert.assertEquals(key,
+      new ExtractJoinColumns(Collections.singletonList(1)).getKey(createEmbedding(v1, v0)));
+    Assert.assertNotEquals(key,
+      new ExtractJoinColumns(Collections.singletonList(1)).getKey(embedding));
   }
 
   @Test
@@ -49,11 +54,11 @@ public class ExtractJoinColumnsTest extends PhysicalOperatorTest {
     Embedding embedding = createEmbedding(v0, v1);
 
     ExtractJoinColumns udf = new ExtractJoinColumns(Arrays.asList(0, 1));
+    JoinKey key = udf.getKey(embedding);
 
-    Assert.assertEquals(
-      ArrayUtils.toString(v0.toByteArray()) + ArrayUtils.toString(v1.toByteArray()),
-      udf.getKey(embedding)
-    );
+    Assert.assertEquals(2 * GradoopId.ID_SIZE, key.size());
+    Assert.assertEquals(key,
+      new ExtractJoinColumns(Arrays.asList(1, 0)).getKey(createEmbedding(v1, v0)));
   }
 
   @Test
@@ -15,7 +15,6 @@
  */
 package org.gradoop.flink.model.impl.operators.matching.single.cypher.operators.join.functions;
 
-import org.apache.commons.lang.ArrayUtils;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
@@ -39,9 +38,14 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
     Embedding embedding = new Embedding();
     embedding.add(GradoopId.get(), a, b);
 
+    Embedding other = new Embedding();
+    other.add(GradoopId.get(), b, a);
+
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Collections.singletonList(0));
 
-    Assert.assertEquals(ArrayUtils.toString(embedding.getRawProperty(0)), udf.getKey(embedding));
+    Assert.assertEquals(udf.getKey(embedding),
+      new ExtractPropertyJoinColumns(Collections.singletonList(1)).getKey(other));
+    Assert.assertNotEquals(udf.getKey(embedding), udf.getKey(other));
   }
 
   @Test
@@ -52,13 +56,13 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
     Embedding embedding = new Embedding();
     embedding.add(GradoopId.get(), a, b);
 
+    Embedding other = new Embedding();
+    other.add(GradoopId.get(), b, a);
 
     ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Arrays.asList(0, 1));
 
-    Assert.assertEquals(
-      ArrayUtils.toString(embedding.getRawProperty(0)) + ArrayUtils.toString(embedding.getRawProperty(1)),
-      udf.getKey(embedding)
-    );
+    Assert.assertEquals(udf.getKey(embedding),
+      new ExtractPropertyJoinColumns(Arrays.asList(1, 0)).getKey(other));
   }
 
   @Test
@@ -74,4 +78,16 @@ public class ExtractPropertyJoinColumnsTest extends PhysicalOperatorTest {
 
     Assert.assertNotEquals(udf1.getKey(embedding), udf2.getKey(embedding));
   }
+
+  @Test
+  public void testConcatenationIsUnambiguous() throws Exception {
+    Embedding embedding1 = new Embedding();
+    embedding1.add(GradoopId.get(), PropertyValue.create("ab"), PropertyValue.create("c"));
+    Embedding embedding2 = new Embedding();
+    embedding2.add(GradoopId.get(), PropertyValue.create("a"), PropertyValue.create("bc"));
+
+    ExtractPropertyJoinColumns udf = new ExtractPropertyJoinColumns(Arrays.asList(0, 1));
+
+    Assert.assertNotEquals(udf.getKey(embedding1), udf.getKey(embedding2));
+  }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.QueryPlan;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class CachedQueryPlanTest extends GradoopFlinkTestBase {
+
+  private static final String QUERY = "MATCH (a:Person)-[e:knows]->(b:Person) " +
+    "WHERE a.name = '%s' AND e.since > %d AND (a.age > b.age OR b.city = '%s')";
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics statistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+    String path = CachedQueryPlanTest.class.getResource("/data/json/sna/statistics").getFile();
+    statistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testRebindLiterals() throws Exception {
+    CachedQueryPlan cachedPlan = createCachedPlan(String.format(QUERY, "Alice", 2013, "Leipzig"));
+
+    String[][] parameters = {
+      {"Alice", "2013", "Leipzig"},
+      {"Alice", "2014", "Dresden"},
+      {"Bob", "2013", "Leipzig"},
+      {"Eve", "2015", "Berlin"}
+    };
+    for (String[] p : parameters) {
+      String query = String.format(QUERY, p[0], Integer.parseInt(p[1]), p[2]);
+      Optional<DataSet<Embedding>> embeddings =
+        cachedPlan.execute(socialNetwork, new QueryHandler(query));
+
+      assertThat(embeddings.isPresent(), is(true));
+      assertThat(embeddings.get().count(), is(plan(query).execute().count()));
+    }
+  }
+
+  @Test
+  public void testIncompatibleQuery() throws Exception {
+    CachedQueryPlan cachedPlan = createCachedPlan(String.format(QUERY, "Alice", 2013, "Leipzig"));
+
+    String query = "MATCH (a:Person)-[e:knows]->(b:Person) " +
+      "WHERE a.name = b.name AND e.since > 2013 AND (a.age > b.age OR b.city = 'Leipzig')";
+
+    assertThat(cachedPlan.execute(socialNetwork, new QueryHandler(query)).isPresent(), is(false));
+  }
+
+  private CachedQueryPlan createCachedPlan(String query) {
+    return new CachedQueryPlan(plan(query), new QueryHandler(query).getPredicates());
+  }
+
+  private QueryPlan plan(String query) {
+    return new GreedyPlanner(socialNetwork, new QueryHandler(query), statistics,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM).plan().getQueryPlan();
+  }
+}
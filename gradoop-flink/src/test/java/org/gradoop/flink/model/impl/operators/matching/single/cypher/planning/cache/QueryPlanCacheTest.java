@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.cache;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class QueryPlanCacheTest {
+
+  @Test
+  public void testNormalizeLiterals() {
+    assertThat(QueryPlanCache.normalize("MATCH (a)-->(b) WHERE a.name = 'Alice' AND b.age > 42"),
+      is("MATCH (a)-->(b) WHERE a.name = ? AND b.age > ?"));
+    assertThat(QueryPlanCache.normalize("MATCH (a {name : \"Bob\", weight : 1.5})"),
+      is("MATCH (a {name : ?, weight : ?})"));
+    assertThat(QueryPlanCache.normalize("MATCH (a) WHERE a.name = 'it\\'s 42'"),
+      is("MATCH (a) WHERE a.name = ?"));
+  }
+
+  @Test
+  public void testNormalizeKeepsStructure() {
+    assertThat(QueryPlanCache.normalize("MATCH (v1:Tag2)-[e1*1..3]->(v2) WHERE v1.p2 = 7L"),
+      is("MATCH (v1:Tag2)-[e1*1..3]->(v2) WHERE v1.p2 = ?"));
+    assertThat(QueryPlanCache.normalize("  MATCH (a)\n  -->(b)  "),
+      is("MATCH (a) -->(b)"));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEviction() {
+    QueryPlanCache cache = new QueryPlanCache(2);
+    cache.put("a", null);
+    cache.put("b", null);
+    // mark a as recently used
+    cache.get("a");
+    cache.put("c", null);
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.containsKey("a"), is(true));
+    assertThat(cache.containsKey("b"), is(false));
+    assertThat(cache.containsKey("c"), is(true));
+  }
+
+  @Test
+  public void testSetCapacity() {
+    QueryPlanCache cache = new QueryPlanCache(3);
+    cache.put("a", null);
+    cache.put("b", null);
+    cache.put("c", null);
+
+    cache.setCapacity(1);
+    assertThat(cache.size(), is(1));
+    assertThat(cache.containsKey("c"), is(true));
+
+    cache.setCapacity(0);
+    cache.put("d", null);
+    assertThat(cache.size(), is(0));
+  }
+}
@@ -17,12 +17,14 @@ package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.e
 
 import com.google.common.collect.Sets;
 import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectEdgesNode;
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
 
 public class FilterEstimatorTest extends EstimatorTestBase {
 
@@ -87,4 +89,72 @@ public class FilterEstimatorTest extends EstimatorTestBase {
     assertThat(elementEstimator.getCardinality(), is(10L));
     assertThat(elementEstimator.getSelectivity(), is(1d));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testVertexWithEqualityPredicate() throws Exception {
+    // 30 is a most common value (2 of 6 persons)
+    assertEquals(2d / 6,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age = 30", STATS), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithRangePredicate() throws Exception {
+    // 35 occurs twice, the histogram over the remaining values 20 and 40 is split at 30
+    double expected = 2d / 6 + 0.5d * 2d / 6;
+    assertEquals(expected,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age > 30", STATS), 1E-9);
+    assertEquals(expected,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE 30 < n.age", STATS), 1E-9);
+    assertEquals(1d / 6,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age < 20", STATS), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithDisjunction() throws Exception {
+    String query = "MATCH (n:Person) WHERE n.gender = \"f\" OR n.age = 30";
+    assertEquals(1d - (1d - 3d / 6) * (1d - 2d / 6), estimateVertexSelectivity(query, STATS), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithoutLabelWithPredicate() throws Exception {
+    // one matching person and one matching tag among all 11 vertices
+    assertEquals(2d / 11,
+      estimateVertexSelectivity("MATCH (n) WHERE n.name = \"Alice\"", STATS), 1E-9);
+  }
+
+  @Test
+  public void testVertexWithPredicateWithoutPropertyStatistics() throws Exception {
+    GraphStatistics statistics = new GraphStatistics(11, 24, 8, 7);
+    assertEquals(1d / 3,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age > 30", statistics), 1E-9);
+    assertEquals(FilterEstimator.DEFAULT_EQUALITY_SELECTIVITY,
+      estimateVertexSelectivity("MATCH (n:Person) WHERE n.age = 30", statistics), 1E-9);
+  }
+
+  @Test
+  public void testEdgeWithPredicate() throws Exception {
+    String query = "MATCH (n)-[e:knows]->(m) WHERE e.since = 2014";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectEdgesNode node = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, STATS);
+    elementEstimator.visit(node);
+
+    assertThat(elementEstimator.getCardinality(), is(10L));
+    assertEquals(4d / 10, elementEstimator.getSelectivity(), 1E-9);
+  }
+
+  private double estimateVertexSelectivity(String query, GraphStatistics statistics) {
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    FilterAndProjectVerticesNode node = new FilterAndProjectVerticesNode(null,
+      "n", queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+
+    FilterEstimator elementEstimator = new FilterEstimator(queryHandler, statistics);
+    elementEstimator.visit(node);
+    return elementEstimator.getSelectivity();
+  }
+}
@@ -30,6 +30,9 @@ import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.qu
 import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.leaf.FilterAndProjectVerticesNode;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
@@ -230,4 +233,39 @@ public class QueryPlanEstimatorTest extends EstimatorTestBase  {
       ce2dEstimator.getCardinality()));
   }
 
+
+  @Test
+  public void testObservedCardinalities() throws Exception {
+    String query = "MATCH (n:Person)-[e:knows]->(m) WHERE n.name = 'Alice'";
+    QueryHandler queryHandler = new QueryHandler(query);
+
+    LeafNode nNode = new FilterAndProjectVerticesNode(null, "n",
+      queryHandler.getPredicates().getSubCNF("n"), Sets.newHashSet());
+    LeafNode eNode = new FilterAndProjectEdgesNode(null,
+      "n", "e", "m",
+      queryHandler.getPredicates().getSubCNF("e"), Sets.newHashSet(), false);
+
+    Map<String, Long> observed = new HashMap<>();
+    observed.put("n", 1L);
+    observed.put("e", 3L);
+
+    // observed values replace label cardinality and predicate selectivity
+    QueryPlanEstimator estimator =
+      new QueryPlanEstimator(new QueryPlan(nNode), queryHandler, STATS, observed);
+    assertThat(estimator.getCardinality(), is(1L));
+
+    estimator = new QueryPlanEstimator(new QueryPlan(eNode), queryHandler, STATS, observed);
+    assertThat(estimator.getCardinality(), is(3L));
+
+    // distinct source count is bounded by the observed edge count
+    JoinEmbeddingsNode neJoin = new JoinEmbeddingsNode(nNode, eNode, Lists.newArrayList("n"),
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    estimator = new QueryPlanEstimator(new QueryPlan(neJoin), queryHandler, STATS, observed);
+    assertThat(estimator.getCardinality(), is(1L));
+
+    // vertices without an observed value are still estimated
+    observed.remove("n");
+    estimator = new QueryPlanEstimator(new QueryPlan(nNode), queryHandler, STATS, observed);
+    assertThat(estimator.getCardinality() < STATS.getVertexCount("Person"), is(true));
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.dp;
+
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.common.query.QueryHandler;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatistics;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.GraphStatisticsLocalFSReader;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.planner.greedy.GreedyPlanner;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.plantable.PlanTableEntry;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class DPPlannerTest extends GradoopFlinkTestBase {
+
+  private LogicalGraph socialNetwork;
+
+  private GraphStatistics socialNetworkStatistics;
+
+  @Before
+  public void setUp() throws Exception {
+    socialNetwork = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+    String path = DPPlannerTest.class.getResource("/data/json/sna/statistics").getFile();
+    socialNetworkStatistics = GraphStatisticsLocalFSReader.read(path);
+  }
+
+  @Test
+  public void testMatchVertex() throws Exception {
+    assertResult("MATCH (n:Person)", 6);
+  }
+
+  @Test
+  public void testMatchTwoHops() throws Exception {
+    assertResult("MATCH (:Tag)<--()-->(:Person)", 18);
+  }
+
+  @Test
+  public void testMatchTriangle() throws Exception {
+    assertResult("MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person)-[:knows]->(a)", 0);
+  }
+
+  @Test
+  public void testMatchWithPredicates() throws Exception {
+    assertResult("MATCH (a:Person)-[e:knows]->(b:Person)-[:hasInterest]->(t:Tag) " +
+      "WHERE a.gender = 'f' AND e.since > 2013", 1);
+  }
+
+  @Test
+  public void testMatchVariableLengthPath() throws Exception {
+    assertResult("MATCH ()-[*0..10]->()", 86);
+  }
+
+  @Test
+  public void testMatchWithValueJoin() throws Exception {
+    assertResult("MATCH (a:Person), (b:Person) WHERE a.city = b.city", 8);
+  }
+
+  @Test
+  public void testSameResultAsGreedy() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a:Person)-[:knows]->(b:Person)-[:hasInterest]->(t:Tag)<-[:hasTag]-(f:Forum)");
+
+    PlanTableEntry dpEntry = new DPPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry greedyEntry = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(dpEntry.getProcessedVariables(), is(greedyEntry.getProcessedVariables()));
+    assertThat(dpEntry.getQueryPlan().execute().count(),
+      is(greedyEntry.getQueryPlan().execute().count()));
+  }
+
+  @Test
+  public void testIntersectCycle() throws Exception {
+    QueryHandler queryHandler = new QueryHandler(
+      "MATCH (a:Person)-[:knows]->(b:Person)-[:knows]->(c:Person), (a)-[:knows]->(c)");
+
+    PlanTableEntry dpEntry = new DPPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+    PlanTableEntry greedyEntry = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.HOMOMORPHISM, MatchStrategy.ISOMORPHISM).plan();
+
+    assertThat(dpEntry.getQueryPlan().toString().contains("IntersectEmbeddingsNode"), is(true));
+    assertThat(greedyEntry.getQueryPlan().toString().contains("IntersectEmbeddingsNode"),
+      is(true));
+    assertThat(dpEntry.getQueryPlan().execute().count(), is(4L));
+    assertThat(greedyEntry.getQueryPlan().execute().count(), is(4L));
+  }
+
+  @Test
+  public void testFallbackToGreedy() throws Exception {
+    QueryHandler queryHandler = new QueryHandler("MATCH (:Tag)<--()-->(:Person)");
+
+    PlanTableEntry entry = new DPPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM, 1).plan();
+
+    assertThat(entry.getQueryPlan().execute().count(), is(18L));
+  }
+
+  /**
+   * Plans and executes the given query and checks the number of embeddings against the expected
+   * value and the result of the greedy planner.
+   *
+   * @param q cypher query
+   * @param exactCardinality exact cardinality of the result
+   * @throws Exception
+   */
+  private void assertResult(String q, int exactCardinality) throws Exception {
+    QueryHandler queryHandler = new QueryHandler(q);
+
+    DPPlanner planner = new DPPlanner(socialNetwork, queryHandler, socialNetworkStatistics,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = planner.plan().getQueryPlan().execute().collect();
+    assertThat(result.size(), is(exactCardinality));
+
+    GreedyPlanner greedyPlanner = new GreedyPlanner(socialNetwork, queryHandler,
+      socialNetworkStatistics, MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+    assertThat(greedyPlanner.plan().getQueryPlan().execute().count(), is((long) result.size()));
+  }
+}
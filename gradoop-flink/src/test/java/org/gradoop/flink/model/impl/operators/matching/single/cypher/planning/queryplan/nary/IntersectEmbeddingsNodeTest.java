@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.nary;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.flink.api.java.DataSet;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.impl.operators.matching.common.MatchStrategy;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.MockPlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.planning.queryplan.PlanNode;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.Embedding;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData;
+import org.gradoop.flink.model.impl.operators.matching.single.cypher.pojos.EmbeddingMetaData.EntryType;
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.gradoop.common.GradoopTestUtils.call;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.assertEmbedding;
+import static org.gradoop.flink.model.impl.operators.matching.single.cypher.common.pojos.EmbeddingTestUtils.createEmbedding;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class IntersectEmbeddingsNodeTest extends GradoopFlinkTestBase {
+
+  @Test
+  public void testMetaDataInitialization() throws Exception {
+    IntersectEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    EmbeddingMetaData outputMetaData = node.getEmbeddingMetaData();
+
+    assertThat(outputMetaData.getEntryCount(), is(6));
+    assertThat(outputMetaData.getEntryColumn("v1"), is(0));
+    assertThat(outputMetaData.getEntryColumn("e1"), is(1));
+    assertThat(outputMetaData.getEntryColumn("v2"), is(2));
+    assertThat(outputMetaData.getEntryColumn("v3"), is(3));
+    assertThat(outputMetaData.getEntryColumn("e2"), is(4));
+    assertThat(outputMetaData.getEntryColumn("e3"), is(5));
+    assertThat(outputMetaData.getEntryType("v3"), is(EntryType.VERTEX));
+    assertThat(outputMetaData.getEntryType("e3"), is(EntryType.EDGE));
+
+    assertThat(outputMetaData.getPropertyCount(), is(3));
+    assertThat(outputMetaData.getPropertyColumn("v1", "age"), is(0));
+    assertThat(outputMetaData.getPropertyColumn("e2", "since"), is(1));
+    assertThat(outputMetaData.getPropertyColumn("e3", "since"), is(2));
+  }
+
+  @Test
+  public void testGetDistinctColumnsIsomorphism() throws Exception {
+    IntersectEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    assertThat(call(IntersectEmbeddingsNode.class, node, "getDistinctVertexColumns"),
+      is(asList(0, 2)));
+    assertThat(call(IntersectEmbeddingsNode.class, node, "getDistinctEdgeColumns"),
+      is(asList(1, 4, 5)));
+  }
+
+  @Test
+  public void testGetDistinctColumnsHomomorphism() throws Exception {
+    IntersectEmbeddingsNode node = createTriangleNode(null, null, null,
+      MatchStrategy.HOMOMORPHISM, MatchStrategy.HOMOMORPHISM);
+
+    assertThat(call(IntersectEmbeddingsNode.class, node, "getDistinctVertexColumns"),
+      is(emptyList()));
+    assertThat(call(IntersectEmbeddingsNode.class, node, "getDistinctEdgeColumns"),
+      is(emptyList()));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    GradoopId a = GradoopId.get();
+    GradoopId b = GradoopId.get();
+    GradoopId c = GradoopId.get();
+    GradoopId d = GradoopId.get();
+    GradoopId e1 = GradoopId.get();
+    GradoopId e2 = GradoopId.get();
+    GradoopId e3 = GradoopId.get();
+    GradoopId e4 = GradoopId.get();
+
+    DataSet<Embedding> input = getExecutionEnvironment().fromElements(
+      createEmbedding(asList(
+        Pair.of(a, singletonList(42)),
+        Pair.of(e1, emptyList()),
+        Pair.of(b, emptyList()))));
+
+    DataSet<Embedding> edges2 = getExecutionEnvironment().fromElements(
+      createEmbedding(asList(
+        Pair.of(b, emptyList()),
+        Pair.of(e2, singletonList(2013)),
+        Pair.of(c, emptyList()))),
+      createEmbedding(asList(
+        Pair.of(b, emptyList()),
+        Pair.of(e4, singletonList(2014)),
+        Pair.of(d, emptyList()))));
+
+    DataSet<Embedding> edges3 = getExecutionEnvironment().fromElements(
+      createEmbedding(asList(
+        Pair.of(c, emptyList()),
+        Pair.of(e3, singletonList(2015)),
+        Pair.of(a, emptyList()))));
+
+    IntersectEmbeddingsNode node = createTriangleNode(input, edges2, edges3,
+      MatchStrategy.ISOMORPHISM, MatchStrategy.ISOMORPHISM);
+
+    List<Embedding> result = node.execute().collect();
+
+    assertThat(result.size(), is(1));
+    assertEmbedding(result.get(0), asList(a, e1, b, c, e2, e3),
+      asList(PropertyValue.create(42), PropertyValue.create(2013), PropertyValue.create(2015)));
+  }
+
+  /**
+   * Creates a node for the pattern (v1)-[e1]->(v2)-[e2]->(v3)-[e3]->(v1) which extends
+   * (v1)-[e1]->(v2) by v3.
+   */
+  private IntersectEmbeddingsNode createTriangleNode(DataSet<Embedding> input,
+    DataSet<Embedding> edges2, DataSet<Embedding> edges3,
+    MatchStrategy vertexStrategy, MatchStrategy edgeStrategy) {
+    EmbeddingMetaData inputMetaData = new EmbeddingMetaData();
+    inputMetaData.setEntryColumn("v1", EntryType.VERTEX, 0);
+    inputMetaData.setEntryColumn("e1", EntryType.EDGE, 1);
+    inputMetaData.setEntryColumn("v2", EntryType.VERTEX, 2);
+    inputMetaData.setPropertyColumn("v1", "age", 0);
+
+    EmbeddingMetaData edge2MetaData = new EmbeddingMetaData();
+    edge2MetaData.setEntryColumn("v2", EntryType.VERTEX, 0);
+    edge2MetaData.setEntryColumn("e2", EntryType.EDGE, 1);
+    edge2MetaData.setEntryColumn("v3", EntryType.VERTEX, 2);
+    edge2MetaData.setPropertyColumn("e2", "since", 0);
+
+    EmbeddingMetaData edge3MetaData = new EmbeddingMetaData();
+    edge3MetaData.setEntryColumn("v3", EntryType.VERTEX, 0);
+    edge3MetaData.setEntryColumn("e3", EntryType.EDGE, 1);
+    edge3MetaData.setEntryColumn("v1", EntryType.VERTEX, 2);
+    edge3MetaData.setPropertyColumn("e3", "since", 0);
+
+    PlanNode inputChild = new MockPlanNode(input, inputMetaData);
+    List<PlanNode> edgeChildren = asList(
+      new MockPlanNode(edges2, edge2MetaData),
+      new MockPlanNode(edges3, edge3MetaData));
+
+    return new IntersectEmbeddingsNode(inputChild, edgeChildren, "v3",
+      vertexStrategy, edgeStrategy);
+  }
+}
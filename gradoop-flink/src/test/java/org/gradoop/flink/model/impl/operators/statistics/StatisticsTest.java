@@ -17,9 +17,12 @@ package org.gradoop.flink.model.impl.operators.statistics;
 
 import org.apache.flink.api.java.tuple.Tuple;
 import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.common.model.impl.id.GradoopId;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.matching.common.statistics.PropertyStatistics;
 import org.gradoop.flink.model.impl.tuples.WithCount;
 import org.junit.Test;
 
@@ -408,4 +411,56 @@ public class StatisticsTest extends GradoopFlinkTestBase {
     assertThat(cache.get("locIP"), is(1L));
     assertThat(cache.get("title"), is(2L));
   }
+
+  @Test
+  public void testVertexPropertyStatisticsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple3<String, String, PropertyStatistics>> result =
+      new VertexPropertyStatisticsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyStatistics> cache = new HashMap<>(8);
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(8));
+
+    PropertyStatistics age = cache.get(Tuple2.of("Person", "age"));
+    assertThat(age.getCount(), is(6L));
+    assertThat(age.getDistinctCount(), is(4L));
+    assertThat(age.getMostCommonValues().size(), is(2));
+    assertThat(age.getMostCommonValues().get(PropertyValue.create(30)), is(2L));
+    assertThat(age.getHistogramBounds().size(), is(2));
+    assertThat(age.getHistogramBounds().get(0), is(PropertyValue.create(20)));
+    assertThat(age.getHistogramBounds().get(1), is(PropertyValue.create(40)));
+
+    PropertyStatistics gender = cache.get(Tuple2.of("Person", "gender"));
+    assertThat(gender.getCount(), is(6L));
+    assertThat(gender.getDistinctCount(), is(2L));
+    assertThat(gender.getMostCommonValues().get(PropertyValue.create("f")), is(3L));
+    assertThat(gender.getHistogramBounds().size(), is(0));
+
+    PropertyStatistics speaks = cache.get(Tuple2.of("Person", "speaks"));
+    assertThat(speaks.getCount(), is(1L));
+    assertThat(speaks.getHistogramBounds().size(), is(0));
+  }
+
+  @Test
+  public void testEdgePropertyStatisticsByLabel() throws Exception {
+    LogicalGraph db = getSocialNetworkLoader().getDatabase().getDatabaseGraph();
+
+    List<Tuple3<String, String, PropertyStatistics>> result =
+      new EdgePropertyStatisticsByLabel()
+        .execute(db)
+        .collect();
+
+    Map<Tuple, PropertyStatistics> cache = new HashMap<>(2);
+    result.forEach(e -> cache.put(Tuple2.of(e.f0, e.f1), e.f2));
+
+    assertThat(result.size(), is(2));
+    assertThat(cache.get(Tuple2.of("knows", "since")).getCount(), is(10L));
+    assertThat(cache.get(Tuple2.of("knows", "since")).getDistinctCount(), is(3L));
+    assertThat(cache.get(Tuple2.of("hasModerator", "since")).getCount(), is(1L));
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTest {
+
+  @Test
+  public void testHeavyHitters() {
+    CountMinSketch sketch = new CountMinSketch(4);
+    for (long i = 0; i < 10_000; i++) {
+      sketch.add(PropertyValue.create(i));
+    }
+    sketch.add(PropertyValue.create("frequent"), 5_000L);
+    sketch.add(PropertyValue.create("common"), 2_000L);
+
+    Map<PropertyValue, Long> topK = sketch.getTopK(2);
+    assertThat(topK.size(), is(2));
+    assertTrue(topK.get(PropertyValue.create("frequent")) >= 5_000L);
+    assertTrue(topK.get(PropertyValue.create("common")) >= 2_000L);
+    assertThat(topK.keySet().iterator().next(), is(PropertyValue.create("frequent")));
+    assertThat(sketch.getCount(), is(17_000L));
+  }
+
+  @Test
+  public void testNeverUnderestimates() {
+    CountMinSketch sketch = new CountMinSketch(1, 16, 2);
+    for (long i = 0; i < 1_000; i++) {
+      sketch.add(PropertyValue.create(i % 100));
+    }
+    for (long i = 0; i < 100; i++) {
+      assertTrue(sketch.estimate(PropertyValue.create(i)) >= 10L);
+    }
+  }
+
+  @Test
+  public void testMerge() {
+    CountMinSketch first = new CountMinSketch(2);
+    CountMinSketch second = new CountMinSketch(2);
+    first.add(PropertyValue.create("a"), 10L);
+    first.add(PropertyValue.create("b"), 3L);
+    second.add(PropertyValue.create("b"), 10L);
+    second.add(PropertyValue.create("c"), 4L);
+    first.merge(second);
+
+    Map<PropertyValue, Long> topK = first.getTopK(1);
+    assertThat(topK.get(PropertyValue.create("b")), is(13L));
+    assertThat(first.getCount(), is(27L));
+  }
+
+  @Test
+  public void testPropertyValueRoundTrip() {
+    CountMinSketch sketch = new CountMinSketch(2);
+    sketch.add(PropertyValue.create("a"), 3L);
+    sketch.add(PropertyValue.create(42L), 5L);
+
+    PropertyValue value = Sketches.toPropertyValue(sketch);
+    CountMinSketch copy = Sketches.toSketch(value, CountMinSketch::read, new CountMinSketch(2));
+
+    assertThat(copy.getCount(), is(8L));
+    assertThat(copy.getTopK(2), is(sketch.getTopK(2)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentDimensions() {
+    new CountMinSketch(2, 16, 2).merge(new CountMinSketch(2, 32, 2));
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import com.google.common.primitives.Longs;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class HyperLogLogTest {
+
+  @Test
+  public void testSmallCardinality() {
+    HyperLogLog sketch = new HyperLogLog();
+    for (long i = 0; i < 100; i++) {
+      sketch.add(Longs.toByteArray(i % 10));
+    }
+    assertThat(sketch.estimate(), is(10L));
+  }
+
+  @Test
+  public void testLargeCardinality() {
+    HyperLogLog sketch = new HyperLogLog();
+    for (long i = 0; i < 100_000; i++) {
+      sketch.add(Longs.toByteArray(i));
+    }
+    assertEquals(100_000d, (double) sketch.estimate(), 5_000d);
+  }
+
+  @Test
+  public void testMerge() {
+    HyperLogLog first = new HyperLogLog();
+    HyperLogLog second = new HyperLogLog();
+    for (long i = 0; i < 20_000; i++) {
+      first.add(Longs.toByteArray(i));
+      second.add(Longs.toByteArray(i + 10_000));
+    }
+    first.merge(second);
+    assertEquals(30_000d, (double) first.estimate(), 1_500d);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentPrecision() {
+    new HyperLogLog(10).merge(new HyperLogLog(12));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuantileSketchTest {
+
+  @Test
+  public void testExactForSmallInput() {
+    QuantileSketch sketch = new QuantileSketch();
+    for (int i = 1; i <= 9; i++) {
+      sketch.add(i);
+    }
+    assertThat(sketch.getCount(), is(9L));
+    assertThat(sketch.getQuantile(0d), is(1d));
+    assertThat(sketch.getQuantile(0.5), is(5d));
+    assertThat(sketch.getQuantile(1d), is(9d));
+  }
+
+  @Test
+  public void testLargeInput() {
+    QuantileSketch sketch = new QuantileSketch();
+    for (int i = 0; i < 100_000; i++) {
+      sketch.add((i * 7919) % 100_000);
+    }
+    assertThat(sketch.getCount(), is(100_000L));
+    assertEquals(50_000d, sketch.getQuantile(0.5), 2_000d);
+    assertEquals(90_000d, sketch.getQuantile(0.9), 2_000d);
+  }
+
+  @Test
+  public void testMerge() {
+    QuantileSketch first = new QuantileSketch();
+    QuantileSketch second = new QuantileSketch();
+    for (int i = 0; i < 50_000; i++) {
+      first.add(i);
+      second.add(i + 50_000);
+    }
+    first.merge(second);
+    assertThat(first.getCount(), is(100_000L));
+    assertEquals(25_000d, first.getQuantile(0.25), 2_000d);
+    assertEquals(75_000d, first.getQuantile(0.75), 2_000d);
+  }
+
+  @Test
+  public void testPropertyValueRoundTrip() {
+    QuantileSketch sketch = new QuantileSketch();
+    for (int i = 0; i < 10_000; i++) {
+      sketch.add(PropertyValue.create(i));
+    }
+    PropertyValue value = Sketches.toPropertyValue(sketch);
+    QuantileSketch copy = Sketches.toSketch(value, QuantileSketch::read, new QuantileSketch());
+
+    assertThat(copy.getCount(), is(sketch.getCount()));
+    assertThat(copy.getQuantile(0.5), is(sketch.getQuantile(0.5)));
+  }
+
+  @Test
+  public void testEmpty() {
+    assertTrue(Double.isNaN(new QuantileSketch().getQuantile(0.5)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMergeDifferentCapacity() {
+    new QuantileSketch(100).merge(new QuantileSketch(200));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.statistics.sketches;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class SpaceSavingTest {
+
+  @Test
+  public void testTopK() {
+    SpaceSaving<String> sketch = new SpaceSaving<>(3);
+    for (int i = 0; i < 10; i++) {
+      sketch.add("a");
+      sketch.add("b" + i);
+      if (i % 2 == 0) {
+        sketch.add("c");
+      }
+    }
+    Map<String, Long> topK = sketch.getTopK(2, 2L);
+    assertThat(topK.keySet().iterator().next(), is("a"));
+    assertThat(topK.get("a"), is(10L));
+  }
+
+  @Test
+  public void testMinFrequency() {
+    SpaceSaving<Integer> sketch = new SpaceSaving<>(10);
+    sketch.add(1);
+    sketch.add(1);
+    sketch.add(2);
+    Map<Integer, Long> topK = sketch.getTopK(10, 2L);
+    assertThat(topK.size(), is(1));
+    assertThat(topK.get(1), is(2L));
+  }
+}
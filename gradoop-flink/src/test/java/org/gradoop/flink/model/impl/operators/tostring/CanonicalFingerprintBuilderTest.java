@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.model.impl.operators.tostring;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.impl.operators.tostring.functions.EdgeToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.GraphHeadToEmptyString;
+import org.gradoop.flink.model.impl.operators.tostring.functions.VertexToDataString;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadHash;
+import org.gradoop.flink.model.impl.operators.tostring.tuples.GraphHeadString;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CanonicalFingerprintBuilderTest extends GradoopFlinkTestBase {
+
+  private static final String GRAPHS = "g:G[]" +
+    "r:R[" +
+    "(ra1:A)-[:a]->(ra1)-[:a]->(ra2:A)" +
+    "(ra1)-[:p]->(rb1:B),(ra1)-[:p]->(rb1:B)" +
+    "(rb1)-[:c]->(rb2:B)-[:c]->(rb3:B)-[:c]->(rb1)]" +
+    "a:A[" +
+    "(aa1:A)-[:a]->(aa1)-[:a]->(aa2:A)" +
+    "(aa1)-[:p]->(ab1:B),(aa1)-[:p]->(ab1:B)" +
+    "(ab1)-[:c]->(ab2:B)-[:c]->(ab3:B)-[:c]->(ab1)]" +
+    "p:P[" +
+    "(pa1:A{x : 1})-[:a{y : 1}]->(pa1)-[:a]->(pa2:A)" +
+    "(pa1)-[:p]->(pb1:B),(pa1)-[:p]->(pb1:B)" +
+    "(pb1)-[:c]->(pb2:B)-[:c]->(pb3:B)-[:c]->(pb1)]" +
+    "d:D[(da:A)-[:e]->(db:B)]" +
+    "u:U[(ua:A)<-[:e]-(ub:B)]";
+
+  @Test
+  public void testFingerprints() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+    Map<String, Long> fingerprints = getFingerprints(loader, true);
+
+    assertEquals(fingerprints.get("r"), fingerprints.get("a"));
+    assertNotEquals(fingerprints.get("r"), fingerprints.get("p"));
+    assertNotEquals(fingerprints.get("r"), fingerprints.get("g"));
+    assertNotEquals(fingerprints.get("d"), fingerprints.get("u"));
+  }
+
+  @Test
+  public void testUndirectedFingerprints() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+    Map<String, Long> fingerprints = getFingerprints(loader, false);
+
+    assertEquals(fingerprints.get("r"), fingerprints.get("a"));
+    assertNotEquals(fingerprints.get("r"), fingerprints.get("p"));
+    assertEquals(fingerprints.get("d"), fingerprints.get("u"));
+  }
+
+  @Test
+  public void testVerifiedLabels() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+    GraphCollection collection = loader.getGraphCollectionByVariables("g", "r", "a", "p");
+
+    Map<GradoopId, String> labels = new HashMap<>();
+    for (GraphHeadString graphHeadString : getBuilder(true).getGraphHeadStrings(collection)
+      .collect()) {
+      labels.put(graphHeadString.getId(), graphHeadString.getLabel());
+    }
+
+    String r = labels.get(loader.getGraphHeadByVariable("r").getId());
+    String a = labels.get(loader.getGraphHeadByVariable("a").getId());
+    String p = labels.get(loader.getGraphHeadByVariable("p").getId());
+
+    // shared fingerprints are extended by the canonical adjacency matrix
+    assertEquals(r, a);
+    assertTrue(r.length() > 16);
+    // unique fingerprints are not
+    assertEquals(16, p.length());
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+
+    CanonicalFingerprintBuilder builder = new CanonicalFingerprintBuilder(
+      new GraphHeadToEmptyString(), new VertexToDataString(), new EdgeToDataString(), true, 2,
+      false);
+
+    String first = builder.execute(loader.getGraphCollectionByVariables("r", "p"))
+      .collect().get(0);
+    String second = builder.execute(loader.getGraphCollectionByVariables("p", "a"))
+      .collect().get(0);
+    String third = builder.execute(loader.getGraphCollectionByVariables("a", "d"))
+      .collect().get(0);
+
+    assertEquals(first, second);
+    assertNotEquals(first, third);
+  }
+
+  @Test
+  public void testEmptyGraph() throws Exception {
+    FlinkAsciiGraphLoader loader = getLoaderFromString(GRAPHS);
+
+    // like its canonical adjacency matrix, an empty graph is represented by an empty string
+    assertEquals("", getBuilder(true).execute(loader.getGraphCollectionByVariables("g"))
+      .collect().get(0));
+    assertEquals(getBuilder(true).execute(loader.getGraphCollectionByVariables("d"))
+      .collect().get(0),
+      getBuilder(true).execute(loader.getGraphCollectionByVariables("g", "d"))
+      .collect().get(0));
+  }
+
+  private Map<String, Long> getFingerprints(FlinkAsciiGraphLoader loader, boolean directed)
+    throws Exception {
+    GraphCollection collection =
+      loader.getGraphCollectionByVariables("g", "r", "a", "p", "d", "u");
+
+    Map<GradoopId, Long> byId = new HashMap<>();
+    for (GraphHeadHash graphHeadHash : getBuilder(directed).getGraphHeadHashes(collection)
+      .collect()) {
+      byId.put(graphHeadHash.getId(), graphHeadHash.getHash());
+    }
+
+    Map<String, Long> fingerprints = new HashMap<>();
+    for (String variable : new String[] {"g", "r", "a", "p", "d", "u"}) {
+      fingerprints.put(variable, byId.get(loader.getGraphHeadByVariable(variable).getId()));
+    }
+    return fingerprints;
+  }
+
+  private CanonicalFingerprintBuilder getBuilder(boolean directed) {
+    return new CanonicalFingerprintBuilder(
+      new GraphHeadToEmptyString(), new VertexToDataString(), new EdgeToDataString(), directed);
+  }
+}
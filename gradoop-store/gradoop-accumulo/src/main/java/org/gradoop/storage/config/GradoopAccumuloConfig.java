@@ -28,7 +28,10 @@ import org.gradoop.storage.impl.accumulo.handler.AccumuloGraphHandler;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloVertexHandler;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Gradoop Accumulo configuration define
@@ -71,6 +74,22 @@ public class GradoopAccumuloConfig extends
    */
   public static final String GRADOOP_BATCH_SCANNER_THREADS = "gradoop.batch.scanner.threads";
 
+  /**
+   * maintain and use label and property index tables, default false
+   */
+  public static final String GRADOOP_INDEX_ENABLED = "gradoop.index.enabled";
+
+  /**
+   * comma separated keys of indexed properties, default all properties
+   */
+  public static final String GRADOOP_INDEX_PROPERTIES = "gradoop.index.properties";
+
+  /**
+   * maximum number of element ids read from an index for a query, a query matching more ids
+   * is answered by a table scan, default 100000
+   */
+  public static final String GRADOOP_INDEX_MAX_CANDIDATES = "gradoop.index.max.candidates";
+
   /**
    * zookeeper hosts, default "localhost:2181"
    */
@@ -241,6 +260,56 @@ public class GradoopAccumuloConfig extends
     return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.GRAPH;
   }
 
+  /**
+   * Get edge index table name
+   *
+   * @return edge index table name
+   */
+  public String getEdgeIndexTable() {
+    return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.EDGE_INDEX;
+  }
+
+  /**
+   * Get vertex index table name
+   *
+   * @return vertex index table name
+   */
+  public String getVertexIndexTable() {
+    return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.VERTEX_INDEX;
+  }
+
+  /**
+   * Get graph head index table name
+   *
+   * @return graph head index table name
+   */
+  public String getGraphHeadIndexTable() {
+    return get(ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX) + AccumuloTables.GRAPH_INDEX;
+  }
+
+  /**
+   * Get indexed property keys
+   *
+   * @return indexed property keys, null if all properties are indexed
+   */
+  public Set<String> getIndexedProperties() {
+    return getIndexedProperties(accumuloProperties);
+  }
+
+  /**
+   * Get indexed property keys from accumulo properties
+   *
+   * @param properties accumulo properties
+   * @return indexed property keys, null if all properties are indexed
+   */
+  public static Set<String> getIndexedProperties(Properties properties) {
+    String keys = (String) properties.get(GRADOOP_INDEX_PROPERTIES);
+    return keys == null ? null : Arrays.stream(keys.split(","))
+      .map(String::trim)
+      .filter(key -> !key.isEmpty())
+      .collect(Collectors.toSet());
+  }
+
   @Override
   public String toString() {
     return accumuloProperties.toString();
@@ -25,6 +25,7 @@ import org.apache.accumulo.core.client.Connector;
 import org.apache.accumulo.core.client.IteratorSetting;
 import org.apache.accumulo.core.client.MutationsRejectedException;
 import org.apache.accumulo.core.client.NamespaceExistsException;
+import org.apache.accumulo.core.client.Scanner;
 import org.apache.accumulo.core.client.TableExistsException;
 import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.ZooKeeperInstance;
@@ -34,12 +35,14 @@ import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.security.Authorizations;
 import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.common.model.api.entities.EPGMEdge;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.api.entities.EPGMGraphHead;
 import org.gradoop.common.model.api.entities.EPGMVertex;
 import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
@@ -53,7 +56,9 @@ import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.handler.AccumuloRowHandler;
+import org.gradoop.storage.impl.accumulo.index.AccumuloIndex;
 import org.gradoop.storage.impl.accumulo.iterator.client.ClientClosableIterator;
+import org.gradoop.storage.impl.accumulo.iterator.tserver.BaseElementIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopEdgeIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopGraphHeadIterator;
 import org.gradoop.storage.impl.accumulo.iterator.tserver.GradoopVertexIterator;
@@ -66,6 +71,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -114,14 +120,38 @@ public class AccumuloEPGMStore implements
    */
   private final BatchWriter edgeWriter;
 
+  /**
+   * index of epgm graph head table, null if indexes are disabled
+   */
+  private final AccumuloIndex graphIndex;
+
+  /**
+   * index of epgm vertex table, null if indexes are disabled
+   */
+  private final AccumuloIndex vertexIndex;
+
+  /**
+   * index of epgm edge table, null if indexes are disabled
+   */
+  private final AccumuloIndex edgeIndex;
+
   /**
    * auto flush flag, default false
    */
   private volatile boolean autoFlush;
 
+  /**
+   * true, if index tables of an index disabled store were checked and invalidated on write
+   */
+  private volatile boolean indexesInvalidated;
+
   /**
    * Creates an AccumuloEPGMStore based on the given parameters.
-   * Tables with given prefix will be auto-create if not exists
+   * Tables with given prefix will be auto-create if not exists. If
+   * {@link GradoopAccumuloConfig#GRADOOP_INDEX_ENABLED} is set, label and property index tables
+   * are maintained on write and used to answer label and property equality predicates. An index
+   * is only used while it is complete, i.e. if it was created along with its element table, or
+   * since {@link #rebuildIndexes()} was called. Writing without the flag invalidates it.
    *
    * @param config                      accumulo store configuration
    * @throws AccumuloSecurityException  for security violations,
@@ -139,6 +169,15 @@ public class AccumuloEPGMStore implements
       graphWriter = conn.createBatchWriter(getGraphHeadName(), new BatchWriterConfig());
       vertexWriter = conn.createBatchWriter(getVertexTableName(), new BatchWriterConfig());
       edgeWriter = conn.createBatchWriter(getEdgeTableName(), new BatchWriterConfig());
+      if (isIndexEnabled()) {
+        graphIndex = createIndex(config.getGraphHeadIndexTable(), getGraphHeadName());
+        vertexIndex = createIndex(config.getVertexIndexTable(), getVertexTableName());
+        edgeIndex = createIndex(config.getEdgeIndexTable(), getEdgeTableName());
+      } else {
+        graphIndex = null;
+        vertexIndex = null;
+        edgeIndex = null;
+      }
     } catch (TableNotFoundException e) {
       throw new IllegalStateException(e); //should not be here
     }
@@ -165,6 +204,15 @@ public class AccumuloEPGMStore implements
         .PASSWORD)));
   }
 
+  /**
+   * Check if label and property index tables are enabled
+   *
+   * @return true, if indexes are maintained and used
+   */
+  public boolean isIndexEnabled() {
+    return config.get(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, AccumuloDefault.INDEX_ENABLED);
+  }
+
   @Override
   public GradoopAccumuloConfig getConfig() {
     return config;
@@ -188,21 +236,42 @@ public class AccumuloEPGMStore implements
   @Override
   public void writeGraphHead(@Nonnull EPGMGraphHead record) {
     writeRecord(record, graphWriter, config.getGraphHandler());
+    writeIndex(record, graphIndex);
   }
 
   @Override
   public void writeVertex(@Nonnull EPGMVertex record) {
     writeRecord(record, vertexWriter, config.getVertexHandler());
+    writeIndex(record, vertexIndex);
   }
 
   @Override
   public void writeEdge(@Nonnull EPGMEdge record) {
     writeRecord(record, edgeWriter, config.getEdgeHandler());
+    writeIndex(record, edgeIndex);
     // TODO: [#833] add Edge-in and edge-out
     //writeEdgeOut(record);
     //writeEdgeIn(record);
   }
 
+  /**
+   * Rebuild the label and property indexes from the element tables and mark them as complete.
+   * This is required to use indexes on elements written before
+   * {@link GradoopAccumuloConfig#GRADOOP_INDEX_ENABLED} was set, or written without it.
+   *
+   * @throws IOException if index is disabled, or on scan and write failures
+   */
+  public void rebuildIndexes() throws IOException {
+    if (!isIndexEnabled()) {
+      throw new IOException(
+        "index is disabled, set " + GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED);
+    }
+    flush();
+    rebuildIndex(getGraphSpace(null, DEFAULT_CACHE_SIZE), graphIndex);
+    rebuildIndex(getVertexSpace(null, DEFAULT_CACHE_SIZE), vertexIndex);
+    rebuildIndex(getEdgeSpace(null, DEFAULT_CACHE_SIZE), edgeIndex);
+  }
+
   @Override
   public void setAutoFlush(boolean autoFlush) {
     this.autoFlush = autoFlush;
@@ -214,6 +283,11 @@ public class AccumuloEPGMStore implements
       graphWriter.flush();
       vertexWriter.flush();
       edgeWriter.flush();
+      for (AccumuloIndex index : new AccumuloIndex[] {graphIndex, vertexIndex, edgeIndex}) {
+        if (index != null) {
+          index.flush();
+        }
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -225,6 +299,11 @@ public class AccumuloEPGMStore implements
       graphWriter.close();
       vertexWriter.close();
       edgeWriter.close();
+      for (AccumuloIndex index : new AccumuloIndex[] {graphIndex, vertexIndex, edgeIndex}) {
+        if (index != null) {
+          index.close();
+        }
+      }
     } catch (MutationsRejectedException e) {
       throw new RuntimeException(e);
     }
@@ -269,9 +348,10 @@ public class AccumuloEPGMStore implements
   @Nonnull
   @Override
   public ClosableIterator<GraphHead> getGraphSpace(
-    @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> query,
+    @Nullable ElementQuery<AccumuloElementFilter<GraphHead>> elementQuery,
     int cacheSize
   ) throws IOException {
+    ElementQuery<AccumuloElementFilter<GraphHead>> query = applyIndex(elementQuery, graphIndex);
     if (query != null &&
       query.getQueryRanges() != null &&
       query.getQueryRanges().isEmpty()) {
@@ -300,9 +380,10 @@ public class AccumuloEPGMStore implements
   @Nonnull
   @Override
   public ClosableIterator<Vertex> getVertexSpace(
-    @Nullable ElementQuery<AccumuloElementFilter<Vertex>> query,
+    @Nullable ElementQuery<AccumuloElementFilter<Vertex>> elementQuery,
     int cacheSize
   ) throws IOException {
+    ElementQuery<AccumuloElementFilter<Vertex>> query = applyIndex(elementQuery, vertexIndex);
     if (query != null &&
       query.getQueryRanges() != null &&
       query.getQueryRanges().isEmpty()) {
@@ -331,9 +412,10 @@ public class AccumuloEPGMStore implements
   @Nonnull
   @Override
   public ClosableIterator<Edge> getEdgeSpace(
-    @Nullable ElementQuery<AccumuloElementFilter<Edge>> query,
+    @Nullable ElementQuery<AccumuloElementFilter<Edge>> elementQuery,
     int cacheSize
   ) throws IOException {
+    ElementQuery<AccumuloElementFilter<Edge>> query = applyIndex(elementQuery, edgeIndex);
     if (query != null &&
       query.getQueryRanges() != null &&
       query.getQueryRanges().isEmpty()) {
@@ -359,6 +441,140 @@ public class AccumuloEPGMStore implements
     }
   }
 
+  /**
+   * Create the index of an element table. A new index of an empty element table is marked as
+   * complete, otherwise lookups stay disabled until the index is rebuilt.
+   *
+   * @param table index table name
+   * @param elementTable indexed element table name
+   * @return element table index
+   * @throws TableNotFoundException if index table does not exist
+   */
+  private AccumuloIndex createIndex(
+    String table,
+    String elementTable
+  ) throws TableNotFoundException {
+    Authorizations auth =
+      config.get(GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS, AccumuloDefault.AUTHORIZATION);
+    AccumuloIndex index = new AccumuloIndex(conn, table, auth,
+      config.get(GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+        AccumuloDefault.BATCH_SCANNER_THREADS),
+      config.get(GradoopAccumuloConfig.GRADOOP_INDEX_MAX_CANDIDATES,
+        AccumuloDefault.INDEX_MAX_CANDIDATES),
+      config.getIndexedProperties());
+    try {
+      if (!index.isComplete()) {
+        Scanner scanner = conn.createScanner(elementTable, auth);
+        boolean empty;
+        try {
+          empty = !scanner.iterator().hasNext();
+        } finally {
+          scanner.close();
+        }
+        if (empty) {
+          index.markComplete();
+        } else {
+          LOG.warn("index table {} does not cover all elements of {}, predicates are " +
+            "evaluated by table scans until the index is rebuilt", table, elementTable);
+        }
+      }
+    } catch (IOException | MutationsRejectedException e) {
+      throw new IllegalStateException(e);
+    }
+    return index;
+  }
+
+  /**
+   * Write the index entries of all elements and mark the index as complete
+   *
+   * @param elements all elements of the indexed table
+   * @param index element table index
+   * @throws IOException if scan or write fail
+   */
+  private void rebuildIndex(
+    @Nonnull ClosableIterator<? extends EPGMElement> elements,
+    @Nonnull AccumuloIndex index
+  ) throws IOException {
+    try (ClosableIterator<? extends EPGMElement> it = elements) {
+      while (it.hasNext()) {
+        index.write(it.next());
+      }
+      index.markComplete();
+    } catch (MutationsRejectedException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Remove the completeness markers of existing index tables, before the first element is
+   * written by a store without index maintenance
+   */
+  private void invalidateIndexes() {
+    if (indexesInvalidated) {
+      return;
+    }
+    try {
+      for (String table : new String[] {config.getGraphHeadIndexTable(),
+        config.getVertexIndexTable(), config.getEdgeIndexTable()}) {
+        if (conn.tableOperations().exists(table)) {
+          AccumuloIndex.invalidate(conn, table);
+        }
+      }
+    } catch (MutationsRejectedException | TableNotFoundException e) {
+      throw new RuntimeException(e);
+    }
+    indexesInvalidated = true;
+  }
+
+  /**
+   * Restrict a query without id ranges to the element ids found in the index
+   *
+   * @param query element query
+   * @param index element table index, may be null
+   * @param <T> epgm element type
+   * @return query with id ranges from index, or the given query if the index is not applicable
+   * @throws IOException if index lookup fail
+   */
+  private <T extends EPGMElement> ElementQuery<AccumuloElementFilter<T>> applyIndex(
+    @Nullable ElementQuery<AccumuloElementFilter<T>> query,
+    @Nullable AccumuloIndex index
+  ) throws IOException {
+    if (index == null || query == null || query.getQueryRanges() != null ||
+      query.getFilterPredicate() == null || !index.isComplete()) {
+      return query;
+    }
+    GradoopIdSet ids = index.lookup(query.getFilterPredicate());
+    if (ids == null) {
+      return query;
+    }
+    LOG.info("index lookup for {} found {} candidates", query, ids.size());
+    ElementQuery<AccumuloElementFilter<T>> indexed = Query.elements()
+      .fromSets(ids)
+      .where(query.getFilterPredicate());
+    return query.getProjection() == null ? indexed : indexed.withProjection(query.getProjection());
+  }
+
+  /**
+   * Write the index entries of an EPGM Element instance
+   *
+   * @param record gradoop EPGM element
+   * @param index element table index, may be null
+   */
+  private void writeIndex(@Nonnull EPGMElement record, @Nullable AccumuloIndex index) {
+    if (index == null) {
+      invalidateIndexes();
+      return;
+    }
+    try {
+      index.write(record);
+      if (autoFlush) {
+        index.flush();
+      }
+    } catch (MutationsRejectedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Write an EPGM Element instance into table
    *
@@ -404,6 +620,10 @@ public class AccumuloEPGMStore implements
     if (predicate != null && predicate.getFilterPredicate() != null) {
       options.put(AccumuloTables.KEY_PREDICATE, predicate.getFilterPredicate().encode());
     }
+    if (predicate != null && predicate.getProjection() != null) {
+      options.put(AccumuloTables.KEY_PROJECTION,
+        BaseElementIterator.encodeProjection(predicate.getProjection()));
+    }
     BatchScanner scanner;
     try {
       scanner = conn.createBatchScanner(table,
@@ -458,9 +678,14 @@ public class AccumuloEPGMStore implements
         //ignore if it is exists, maybe create by another process or thread
       }
     }
-    for (String table : new String[] {
-      getVertexTableName(), getEdgeTableName(), getGraphHeadName()
-    }) {
+    List<String> tables = Lists.newArrayList(
+      getVertexTableName(), getEdgeTableName(), getGraphHeadName());
+    if (isIndexEnabled()) {
+      tables.add(config.getVertexIndexTable());
+      tables.add(config.getEdgeIndexTable());
+      tables.add(config.getGraphHeadIndexTable());
+    }
+    for (String table : tables) {
       try {
         if (!conn.tableOperations().exists(table)) {
           conn.tableOperations().create(table);
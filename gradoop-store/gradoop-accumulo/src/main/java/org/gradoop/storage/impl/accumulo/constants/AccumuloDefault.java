@@ -62,4 +62,14 @@ public class AccumuloDefault {
    */
   public static final int BATCH_SCANNER_THREADS = 10;
 
+  /**
+   * gradoop label and property index tables enabled
+   */
+  public static final boolean INDEX_ENABLED = false;
+
+  /**
+   * maximum number of element ids read from an index for a query
+   */
+  public static final int INDEX_MAX_CANDIDATES = 100000;
+
 }
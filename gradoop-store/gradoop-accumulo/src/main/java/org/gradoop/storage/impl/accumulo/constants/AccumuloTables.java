@@ -35,11 +35,31 @@ public class AccumuloTables {
    */
   public static final String GRAPH = "graph";
 
+  /**
+   * gradoop edge index table name
+   */
+  public static final String EDGE_INDEX = "edge_index";
+
+  /**
+   * gradoop vertex index table name
+   */
+  public static final String VERTEX_INDEX = "vertex_index";
+
+  /**
+   * gradoop graph head index table name
+   */
+  public static final String GRAPH_INDEX = "graph_index";
+
   /**
    * gradoop predicate options key
    */
   public static final String KEY_PREDICATE = "__filter__";
 
+  /**
+   * gradoop property projection options key
+   */
+  public static final String KEY_PROJECTION = "__projection__";
+
   /**
    * cf or cq constants key
    */
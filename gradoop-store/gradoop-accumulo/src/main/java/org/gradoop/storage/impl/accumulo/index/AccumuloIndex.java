@@ -0,0 +1,525 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.index;
+
+import org.apache.accumulo.core.client.BatchScanner;
+import org.apache.accumulo.core.client.BatchWriter;
+import org.apache.accumulo.core.client.BatchWriterConfig;
+import org.apache.accumulo.core.client.Connector;
+import org.apache.accumulo.core.client.MutationsRejectedException;
+import org.apache.accumulo.core.client.Scanner;
+import org.apache.accumulo.core.client.TableNotFoundException;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.security.Authorizations;
+import org.apache.hadoop.io.Text;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Property;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.impl.accumulo.predicate.filter.calculate.AND;
+import org.gradoop.storage.impl.accumulo.predicate.filter.calculate.OR;
+import org.gradoop.storage.impl.accumulo.predicate.filter.impl.AccumuloLabelIn;
+import org.gradoop.storage.impl.accumulo.predicate.filter.impl.AccumuloPropEquals;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Secondary index of an element table, mapping labels and (label, property value) pairs to
+ * element ids. Each index entry is a single row, which ends with the element id:
+ *
+ *  - label row:    'l' label '\0' id
+ *  - property row: 'p' label '\0' property key '\0' property value bytes '\0' id
+ *
+ * All ids of a label or of a label and property value are read by a single prefix range. The
+ * index is only used to select the element rows to read, the element filter is still evaluated
+ * by the tablet server iterator. Thus, stale entries (e.g. of overwritten elements) never lead
+ * to wrong results.
+ *
+ * Missing entries would, so the index table holds a marker row, which is only present while the
+ * index covers every element of its table. Lookups must not be used without the marker, see
+ * {@link #isComplete()}.
+ */
+public class AccumuloIndex {
+
+  /**
+   * marker of label rows
+   */
+  private static final byte LABEL_ROW = 'l';
+
+  /**
+   * marker of property rows
+   */
+  private static final byte PROPERTY_ROW = 'p';
+
+  /**
+   * separator of row components
+   */
+  private static final byte SEPARATOR = 0;
+
+  /**
+   * row of the completeness marker, sorts before all label and property rows
+   */
+  private static final Text COMPLETE_ROW = new Text("!complete");
+
+  /**
+   * length of the hex encoded element id at the end of each row
+   */
+  private static final int ID_LENGTH = 24;
+
+  /**
+   * accumulo client connector
+   */
+  private final Connector conn;
+
+  /**
+   * index table name
+   */
+  private final String table;
+
+  /**
+   * scan authorizations
+   */
+  private final Authorizations auth;
+
+  /**
+   * batch scanner threads
+   */
+  private final int threads;
+
+  /**
+   * maximum number of candidate ids of a lookup
+   */
+  private final int maxCandidates;
+
+  /**
+   * indexed property keys, null if all properties are indexed
+   */
+  private final Set<String> indexedKeys;
+
+  /**
+   * batch writer for the index table
+   */
+  private final BatchWriter writer;
+
+  /**
+   * Creates a new index on an existing index table
+   *
+   * @param conn accumulo client connector
+   * @param table index table name
+   * @param auth scan authorizations
+   * @param threads batch scanner threads
+   * @param maxCandidates maximum number of candidate ids of a lookup
+   * @param indexedKeys indexed property keys, null to index all properties
+   * @throws TableNotFoundException if the index table does not exist
+   */
+  public AccumuloIndex(
+    @Nonnull Connector conn,
+    @Nonnull String table,
+    @Nonnull Authorizations auth,
+    int threads,
+    int maxCandidates,
+    @Nullable Set<String> indexedKeys
+  ) throws TableNotFoundException {
+    this.conn = conn;
+    this.table = table;
+    this.auth = auth;
+    this.threads = threads;
+    this.maxCandidates = maxCandidates;
+    this.indexedKeys = indexedKeys;
+    this.writer = conn.createBatchWriter(table, new BatchWriterConfig());
+  }
+
+  /**
+   * Add index entries of an element
+   *
+   * @param record epgm element
+   * @throws MutationsRejectedException if write fail
+   */
+  public void write(@Nonnull EPGMElement record) throws MutationsRejectedException {
+    byte[] id = record.getId().toString().getBytes(StandardCharsets.US_ASCII);
+    writer.addMutation(entry(labelPrefix(record.getLabel()), id));
+    if (record.getProperties() != null) {
+      for (Property property : record.getProperties()) {
+        if (isIndexed(property.getKey())) {
+          writer.addMutation(entry(
+            propertyPrefix(record.getLabel(), property.getKey(), property.getValue()), id));
+        }
+      }
+    }
+  }
+
+  /**
+   * Flush pending index entries
+   *
+   * @throws MutationsRejectedException if write fail
+   */
+  public void flush() throws MutationsRejectedException {
+    writer.flush();
+  }
+
+  /**
+   * Flush pending index entries and release the writer
+   *
+   * @throws MutationsRejectedException if write fail
+   */
+  public void close() throws MutationsRejectedException {
+    writer.close();
+  }
+
+  /**
+   * Check if the index covers all elements of its element table, i.e. if it was created on an
+   * empty table or rebuilt since, and every write since was indexed
+   *
+   * @return true, if the completeness marker is present
+   * @throws IOException if index scan fail
+   */
+  public boolean isComplete() throws IOException {
+    Scanner scanner;
+    try {
+      scanner = conn.createScanner(table, auth);
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+    try {
+      scanner.setRange(Range.exact(COMPLETE_ROW));
+      return scanner.iterator().hasNext();
+    } finally {
+      scanner.close();
+    }
+  }
+
+  /**
+   * Flush pending index entries and mark the index as complete
+   *
+   * @throws MutationsRejectedException if write fail
+   */
+  public void markComplete() throws MutationsRejectedException {
+    Mutation mutation = new Mutation(COMPLETE_ROW);
+    mutation.put(new Text(), new Text(), new Value(new byte[0]));
+    writer.addMutation(mutation);
+    writer.flush();
+  }
+
+  /**
+   * Remove the completeness marker of an index table, e.g. before elements are written without
+   * index entries. Lookups fall back to table scans until the index is rebuilt.
+   *
+   * @param conn accumulo client connector
+   * @param table index table name
+   * @throws MutationsRejectedException if write fail
+   * @throws TableNotFoundException if the index table does not exist
+   */
+  public static void invalidate(
+    @Nonnull Connector conn,
+    @Nonnull String table
+  ) throws MutationsRejectedException, TableNotFoundException {
+    Mutation mutation = new Mutation(COMPLETE_ROW);
+    mutation.putDelete(new Text(), new Text());
+    BatchWriter writer = conn.createBatchWriter(table, new BatchWriterConfig());
+    try {
+      writer.addMutation(mutation);
+    } finally {
+      writer.close();
+    }
+  }
+
+  /**
+   * Check if a property key is indexed
+   *
+   * @param key property key
+   * @return true, if property values of the key are indexed
+   */
+  public boolean isIndexed(@Nonnull String key) {
+    return indexedKeys == null || indexedKeys.contains(key);
+  }
+
+  /**
+   * Look up the ids of all elements, which may fulfill the given filter. Label predicates, as
+   * well as label predicates combined with property equality predicates by conjunction, are
+   * answered by the index. Conjunctions are answered if at least one of their predicates is,
+   * disjunctions if all of their predicates are. The result is only a superset of the matching
+   * ids if the index {@link #isComplete()}.
+   *
+   * Index scans are aborted as soon as they exceed the maximum number of candidates, such a
+   * predicate is not answered by the index. Point reads of that many ids would be slower than
+   * scanning the element table, and the ids would be collected by the client.
+   *
+   * @param filter element filter
+   * @return superset of the ids fulfilling the filter, null if the index can not be used or
+   * the filter is not selective enough
+   * @throws IOException if index scan fail
+   */
+  @Nullable
+  public GradoopIdSet lookup(@Nullable AccumuloElementFilter<?> filter) throws IOException {
+    Set<GradoopId> ids = filter == null ? null : resolve(filter);
+    return ids == null || ids.size() > maxCandidates ? null : GradoopIdSet.fromExisting(ids);
+  }
+
+  /**
+   * Resolve the candidate ids of a filter
+   *
+   * @param filter element filter
+   * @return candidate ids, null if the filter can not be answered by the index
+   * @throws IOException if index scan fail
+   */
+  @Nullable
+  private Set<GradoopId> resolve(@Nonnull AccumuloElementFilter<?> filter) throws IOException {
+    if (filter instanceof AccumuloLabelIn) {
+      return scan(labelPrefixes(((AccumuloLabelIn<?>) filter).getLabels()));
+    } else if (filter instanceof AND) {
+      return resolveConjunction(flatten((AND<?>) filter));
+    } else if (filter instanceof OR) {
+      Set<GradoopId> union = new HashSet<>();
+      for (AccumuloElementFilter<?> predicate : ((OR<?>) filter).getPredicates()) {
+        Set<GradoopId> ids = resolve(predicate);
+        if (ids == null) {
+          return null;
+        }
+        union.addAll(ids);
+        if (union.size() > maxCandidates) {
+          return null;
+        }
+      }
+      return union;
+    }
+    return null;
+  }
+
+  /**
+   * Resolve the candidate ids of a conjunction
+   *
+   * @param predicates conjunctive predicates
+   * @return candidate ids, null if no predicate can be answered by the index
+   * @throws IOException if index scan fail
+   */
+  @Nullable
+  private Set<GradoopId> resolveConjunction(
+    @Nonnull List<AccumuloElementFilter<?>> predicates
+  ) throws IOException {
+    Set<String> labels = null;
+    List<AccumuloPropEquals<?>> properties = new ArrayList<>();
+    List<AccumuloElementFilter<?>> others = new ArrayList<>();
+    for (AccumuloElementFilter<?> predicate : predicates) {
+      if (predicate instanceof AccumuloLabelIn) {
+        Set<String> predicateLabels = ((AccumuloLabelIn<?>) predicate).getLabels();
+        if (labels == null) {
+          labels = predicateLabels;
+        } else {
+          labels.retainAll(predicateLabels);
+        }
+      } else if (predicate instanceof AccumuloPropEquals &&
+        isIndexed(((AccumuloPropEquals<?>) predicate).getKey())) {
+        properties.add((AccumuloPropEquals<?>) predicate);
+      } else {
+        others.add(predicate);
+      }
+    }
+
+    Set<GradoopId> result = null;
+    if (labels != null) {
+      if (properties.isEmpty()) {
+        result = scan(labelPrefixes(labels));
+      }
+      for (AccumuloPropEquals<?> property : properties) {
+        List<byte[]> prefixes = new ArrayList<>();
+        for (String label : labels) {
+          prefixes.add(propertyPrefix(label, property.getKey(), property.getValue()));
+        }
+        Set<GradoopId> ids = scan(prefixes);
+        if (ids != null) {
+          result = intersect(result, ids);
+        }
+      }
+    }
+    for (AccumuloElementFilter<?> predicate : others) {
+      Set<GradoopId> ids = resolve(predicate);
+      if (ids != null) {
+        result = intersect(result, ids);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Read the ids of all index rows starting with one of the given prefixes
+   *
+   * @param prefixes row prefixes
+   * @return element ids, null if there are more than the maximum number of candidates
+   * @throws IOException if index scan fail
+   */
+  @Nullable
+  private Set<GradoopId> scan(@Nonnull Collection<byte[]> prefixes) throws IOException {
+    Set<GradoopId> ids = new HashSet<>();
+    if (prefixes.isEmpty()) {
+      return ids;
+    }
+    BatchScanner scanner;
+    try {
+      scanner = conn.createBatchScanner(table, auth, threads);
+    } catch (TableNotFoundException e) {
+      throw new IOException(e);
+    }
+    try {
+      scanner.setRanges(prefixes.stream()
+        .map(prefix -> Range.prefix(new Text(prefix)))
+        .collect(Collectors.toList()));
+      for (Map.Entry<Key, Value> entry : scanner) {
+        Text row = entry.getKey().getRow();
+        ids.add(GradoopId.fromString(new String(row.getBytes(), row.getLength() - ID_LENGTH,
+          ID_LENGTH, StandardCharsets.US_ASCII)));
+        if (ids.size() > maxCandidates) {
+          return null;
+        }
+      }
+    } finally {
+      scanner.close();
+    }
+    return ids;
+  }
+
+  /**
+   * Flatten nested conjunctions
+   *
+   * @param conjunction conjunctive filter
+   * @return conjunctive predicates
+   */
+  @Nonnull
+  private static List<AccumuloElementFilter<?>> flatten(@Nonnull AND<?> conjunction) {
+    List<AccumuloElementFilter<?>> predicates = new ArrayList<>();
+    for (AccumuloElementFilter<?> predicate : conjunction.getPredicates()) {
+      if (predicate instanceof AND) {
+        predicates.addAll(flatten((AND<?>) predicate));
+      } else {
+        predicates.add(predicate);
+      }
+    }
+    return predicates;
+  }
+
+  /**
+   * Intersect candidate id sets
+   *
+   * @param ids current candidates, may be null
+   * @param other other candidates
+   * @return intersection
+   */
+  @Nonnull
+  private static Set<GradoopId> intersect(@Nullable Set<GradoopId> ids,
+    @Nonnull Set<GradoopId> other) {
+    if (ids == null) {
+      return other;
+    }
+    ids.retainAll(other);
+    return ids;
+  }
+
+  /**
+   * Create the label row prefixes of the given labels
+   *
+   * @param labels element labels
+   * @return row prefixes
+   */
+  @Nonnull
+  private static List<byte[]> labelPrefixes(@Nonnull Collection<String> labels) {
+    return labels.stream().map(AccumuloIndex::labelPrefix).collect(Collectors.toList());
+  }
+
+  /**
+   * Create the row prefix of a label entry
+   *
+   * @param label element label
+   * @return row prefix
+   */
+  @Nonnull
+  static byte[] labelPrefix(@Nonnull String label) {
+    return concat(LABEL_ROW, label.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Create the row prefix of a property entry
+   *
+   * @param label element label
+   * @param key property key
+   * @param value property value
+   * @return row prefix
+   */
+  @Nonnull
+  static byte[] propertyPrefix(
+    @Nonnull String label,
+    @Nonnull String key,
+    @Nonnull PropertyValue value
+  ) {
+    return concat(PROPERTY_ROW, label.getBytes(StandardCharsets.UTF_8),
+      key.getBytes(StandardCharsets.UTF_8), value.getRawBytes());
+  }
+
+  /**
+   * Create an index entry
+   *
+   * @param prefix row prefix
+   * @param id ascii encoded element id
+   * @return index mutation
+   */
+  @Nonnull
+  private static Mutation entry(@Nonnull byte[] prefix, @Nonnull byte[] id) {
+    byte[] row = new byte[prefix.length + id.length];
+    System.arraycopy(prefix, 0, row, 0, prefix.length);
+    System.arraycopy(id, 0, row, prefix.length, id.length);
+    Mutation mutation = new Mutation(row);
+    mutation.put(new Text(), new Text(), new Value(new byte[0]));
+    return mutation;
+  }
+
+  /**
+   * Concatenate a row marker and row components, each component is followed by a separator
+   *
+   * @param marker row marker
+   * @param components row components
+   * @return row prefix
+   */
+  @Nonnull
+  private static byte[] concat(byte marker, @Nonnull byte[]... components) {
+    int length = 1;
+    for (byte[] component : components) {
+      length += component.length + 1;
+    }
+    byte[] result = new byte[length];
+    result[0] = marker;
+    int offset = 1;
+    for (byte[] component : components) {
+      System.arraycopy(component, 0, result, offset, component.length);
+      offset += component.length;
+      result[offset++] = SEPARATOR;
+    }
+    return result;
+  }
+
+}
@@ -16,10 +16,12 @@
 package org.gradoop.storage.impl.accumulo.io;
 
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.storage.common.io.FilterableDataSource;
 import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
@@ -34,9 +36,16 @@ import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Read logic graph or graph collection from accumulo store
+ *
+ * Besides predicates, a property projection can be pushed down for each element type. Projected
+ * properties are trimmed by the tablet server iterators after the predicates have been
+ * evaluated, thus only the projected properties are sent to the client.
  */
 public class AccumuloDataSource extends AccumuloBase implements FilterableDataSource<
   ElementQuery<AccumuloElementFilter<GraphHead>>,
@@ -58,13 +67,28 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
    */
   private final AccumuloQueryHolder<Edge> edgeQuery;
 
+  /**
+   * projected graph head properties, null for all properties
+   */
+  private final Set<String> graphHeadProperties;
+
+  /**
+   * projected vertex properties, null for all properties
+   */
+  private final Set<String> vertexProperties;
+
+  /**
+   * projected edge properties, null for all properties
+   */
+  private final Set<String> edgeProperties;
+
   /**
    * Creates a new Accumulo data source.
    *
    * @param store accumulo epgm store
    */
   public AccumuloDataSource(@Nonnull AccumuloEPGMStore store) {
-    this(store, null, null, null);
+    this(store, null, null, null, null, null, null);
   }
 
   /**
@@ -74,17 +98,26 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
    * @param graphQuery graph head filter
    * @param vertexQuery vertex filter
    * @param edgeQuery edge filter
+   * @param graphHeadProperties projected graph head properties
+   * @param vertexProperties projected vertex properties
+   * @param edgeProperties projected edge properties
    */
   private AccumuloDataSource(
     @Nonnull AccumuloEPGMStore store,
     @Nullable AccumuloQueryHolder<GraphHead> graphQuery,
     @Nullable AccumuloQueryHolder<Vertex> vertexQuery,
-    @Nullable AccumuloQueryHolder<Edge> edgeQuery
+    @Nullable AccumuloQueryHolder<Edge> edgeQuery,
+    @Nullable Set<String> graphHeadProperties,
+    @Nullable Set<String> vertexProperties,
+    @Nullable Set<String> edgeProperties
   ) {
     super(store);
     this.graphHeadQuery = graphQuery;
     this.vertexQuery = vertexQuery;
     this.edgeQuery = edgeQuery;
+    this.graphHeadProperties = graphHeadProperties;
+    this.vertexProperties = vertexProperties;
+    this.edgeProperties = edgeProperties;
   }
 
   @Override
@@ -100,13 +133,13 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       /*graph head format*/
       env.createInput(new GraphHeadInputFormat(
         getStore().getConfig().getAccumuloProperties(),
-        graphHeadQuery)),
+        project(graphHeadQuery, graphHeadProperties))),
       /*vertex input format*/
       env.createInput(new VertexInputFormat(getStore().getConfig().getAccumuloProperties(),
-        vertexQuery)),
+        project(vertexQuery, vertexProperties))),
       /*edge input format*/
       env.createInput(new EdgeInputFormat(getStore().getConfig().getAccumuloProperties(),
-        edgeQuery)));
+        project(edgeQuery, edgeProperties))));
   }
 
   @Nonnull
@@ -119,7 +152,10 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       getStore(),
       newGraphQuery,
       vertexQuery,
-      edgeQuery
+      edgeQuery,
+      graphHeadProperties,
+      vertexProperties,
+      edgeProperties
     );
   }
 
@@ -133,7 +169,10 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       getStore(),
       graphHeadQuery,
       newVertexQuery,
-      edgeQuery
+      edgeQuery,
+      graphHeadProperties,
+      vertexProperties,
+      edgeProperties
     );
   }
 
@@ -147,10 +186,63 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       getStore(),
       graphHeadQuery,
       vertexQuery,
-      newEdgeQuery
+      newEdgeQuery,
+      graphHeadProperties,
+      vertexProperties,
+      edgeProperties
     );
   }
 
+  /**
+   * Returns a copy of the data source, which only reads the given graph head properties.
+   * Graph head predicates are still evaluated on all properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  @Nonnull
+  public AccumuloDataSource withGraphHeadProperties(@Nonnull String... propertyKeys) {
+    return new AccumuloDataSource(getStore(), graphHeadQuery, vertexQuery, edgeQuery,
+      toSet(propertyKeys), vertexProperties, edgeProperties);
+  }
+
+  /**
+   * Returns a copy of the data source, which only reads the given vertex properties.
+   * Vertex predicates are still evaluated on all properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  @Nonnull
+  public AccumuloDataSource withVertexProperties(@Nonnull String... propertyKeys) {
+    return new AccumuloDataSource(getStore(), graphHeadQuery, vertexQuery, edgeQuery,
+      graphHeadProperties, toSet(propertyKeys), edgeProperties);
+  }
+
+  /**
+   * Returns a copy of the data source, which only reads the given edge properties.
+   * Edge predicates are still evaluated on all properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return data source with the projection pushed down
+   */
+  @Nonnull
+  public AccumuloDataSource withEdgeProperties(@Nonnull String... propertyKeys) {
+    return new AccumuloDataSource(getStore(), graphHeadQuery, vertexQuery, edgeQuery,
+      graphHeadProperties, vertexProperties, toSet(propertyKeys));
+  }
+
+  /**
+   * Returns true, if a property projection has been pushed down to the data source.
+   *
+   * @return true, if a projection has been pushed down
+   */
+  public boolean isProjectionPushedDown() {
+    return graphHeadProperties != null ||
+      vertexProperties != null ||
+      edgeProperties != null;
+  }
+
   @Override
   public boolean isFilterPushedDown() {
     return this.graphHeadQuery != null ||
@@ -158,4 +250,37 @@ public class AccumuloDataSource extends AccumuloBase implements FilterableDataSo
       this.edgeQuery != null;
   }
 
+  /**
+   * Attach the property projection to an element query. A projection of the data source
+   * overrides a projection given by the element query.
+   *
+   * @param query element query, may be null
+   * @param properties projected property keys, may be null
+   * @param <T> epgm element type
+   * @return element query with projection
+   */
+  @Nullable
+  private static <T extends EPGMElement> AccumuloQueryHolder<T> project(
+    @Nullable AccumuloQueryHolder<T> query,
+    @Nullable Set<String> properties
+  ) {
+    if (properties == null) {
+      return query;
+    }
+    AccumuloQueryHolder<T> base = query != null ? query :
+      AccumuloQueryHolder.create(Query.elements().fromAll().noFilter());
+    return base.withProjection(properties);
+  }
+
+  /**
+   * Create a set of property keys
+   *
+   * @param propertyKeys property keys
+   * @return property key set
+   */
+  @Nonnull
+  private static Set<String> toSet(@Nonnull String... propertyKeys) {
+    return new HashSet<>(Arrays.asList(propertyKeys));
+  }
+
 }
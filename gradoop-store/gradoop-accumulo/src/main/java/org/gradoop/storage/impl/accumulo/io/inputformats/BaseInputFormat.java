@@ -39,6 +39,7 @@ import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
+import org.gradoop.storage.impl.accumulo.iterator.tserver.BaseElementIterator;
 import org.gradoop.storage.impl.accumulo.predicate.query.AccumuloQueryHolder;
 
 import javax.annotation.Nonnull;
@@ -173,6 +174,10 @@ public abstract class BaseInputFormat<T extends Element> extends GenericInputFor
       if (predicate != null && predicate.getReduceFilter() != null) {
         options.put(AccumuloTables.KEY_PREDICATE, predicate.getReduceFilter().encode());
       }
+      if (predicate != null && predicate.getProjection() != null) {
+        options.put(AccumuloTables.KEY_PROJECTION,
+          BaseElementIterator.encodeProjection(predicate.getProjection()));
+      }
       if (split.getSplitNumber() + 1 > ranges.size()) {
         scanner = null;
         iterator = new ArrayList<Map.Entry<Key, Value>>().iterator();
@@ -25,11 +25,13 @@ import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.ZooKeeperInstance;
 import org.apache.accumulo.core.client.security.tokens.PasswordToken;
 import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.security.Authorizations;
 import org.apache.flink.api.common.io.OutputFormat;
 import org.apache.flink.configuration.Configuration;
 import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.common.model.impl.pojo.Element;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
+import org.gradoop.storage.impl.accumulo.index.AccumuloIndex;
 
 import java.io.IOException;
 import java.util.Properties;
@@ -56,6 +58,11 @@ public abstract class BaseOutputFormat<E extends Element> implements OutputForma
    */
   private transient BatchWriter writer;
 
+  /**
+   * Element table index, null if indexes are disabled
+   */
+  private transient AccumuloIndex index;
+
   /**
    * Create a new output format for gradoop element
    *
@@ -78,6 +85,16 @@ public abstract class BaseOutputFormat<E extends Element> implements OutputForma
    */
   protected abstract String getTableName(String prefix);
 
+  /**
+   * Get index table name with prefix configuration
+   *
+   * @param prefix prefix configuration
+   * @return index table name, null if written records are not indexed
+   */
+  protected String getIndexTableName(String prefix) {
+    return null;
+  }
+
   /**
    * Write element record to mutation
    *
@@ -104,14 +121,33 @@ public abstract class BaseOutputFormat<E extends Element> implements OutputForma
       .getOrDefault(GradoopAccumuloConfig.ACCUMULO_INSTANCE, AccumuloDefault.INSTANCE);
     String zkHosts = (String) properties
       .getOrDefault(GradoopAccumuloConfig.ZOOKEEPER_HOSTS, AccumuloDefault.INSTANCE);
-    String tableName = getTableName((String) properties
-      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX));
+    String prefix = (String) properties
+      .getOrDefault(GradoopAccumuloConfig.ACCUMULO_TABLE_PREFIX, AccumuloDefault.TABLE_PREFIX);
+    String tableName = getTableName(prefix);
+    String indexTableName = getIndexTableName(prefix);
+    boolean indexEnabled = (Boolean) properties
+      .getOrDefault(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, AccumuloDefault.INDEX_ENABLED);
     try {
       //create connector
       Connector conn = new ZooKeeperInstance(instance, zkHosts)
         .getConnector(user, new PasswordToken(password));
       //create batch writer
       writer = conn.createBatchWriter(tableName, new BatchWriterConfig());
+      //maintain the index table, or invalidate it if records are written without entries
+      if (indexTableName != null && indexEnabled) {
+        index = new AccumuloIndex(conn, indexTableName,
+          (Authorizations) properties.getOrDefault(
+            GradoopAccumuloConfig.ACCUMULO_AUTHORIZATIONS, AccumuloDefault.AUTHORIZATION),
+          (Integer) properties.getOrDefault(
+            GradoopAccumuloConfig.GRADOOP_BATCH_SCANNER_THREADS,
+            AccumuloDefault.BATCH_SCANNER_THREADS),
+          (Integer) properties.getOrDefault(
+            GradoopAccumuloConfig.GRADOOP_INDEX_MAX_CANDIDATES,
+            AccumuloDefault.INDEX_MAX_CANDIDATES),
+          GradoopAccumuloConfig.getIndexedProperties(properties));
+      } else if (indexTableName != null && conn.tableOperations().exists(indexTableName)) {
+        AccumuloIndex.invalidate(conn, indexTableName);
+      }
       initiate();
     } catch (AccumuloException | AccumuloSecurityException | TableNotFoundException e) {
       throw new ExceptionInInitializerError(e);
@@ -123,6 +159,9 @@ public abstract class BaseOutputFormat<E extends Element> implements OutputForma
     try {
       Mutation mutation = writeMutation(record);
       writer.addMutation(mutation);
+      if (index != null) {
+        index.write(record);
+      }
     } catch (MutationsRejectedException e) {
       throw new IOException(e);
     }
@@ -130,12 +169,15 @@ public abstract class BaseOutputFormat<E extends Element> implements OutputForma
 
   @Override
   public final void close() throws IOException {
-    if (writer != null) {
-      try {
+    try {
+      if (writer != null) {
         writer.close();
-      } catch (MutationsRejectedException e) {
-        throw new IOException(e);
       }
+      if (index != null) {
+        index.close();
+      }
+    } catch (MutationsRejectedException e) {
+      throw new IOException(e);
     }
   }
 }
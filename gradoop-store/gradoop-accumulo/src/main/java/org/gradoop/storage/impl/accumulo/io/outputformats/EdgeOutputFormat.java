@@ -57,6 +57,11 @@ public class EdgeOutputFormat extends BaseOutputFormat<Edge> {
     return String.format("%s%s", prefix, AccumuloTables.EDGE);
   }
 
+  @Override
+  protected String getIndexTableName(String prefix) {
+    return String.format("%s%s", prefix, AccumuloTables.EDGE_INDEX);
+  }
+
   @Override
   protected Mutation writeMutation(Edge record) {
     Mutation mutation = new Mutation(record.getId().toString());
@@ -57,6 +57,11 @@ public class GraphHeadOutputFormat extends BaseOutputFormat<GraphHead> {
     return String.format("%s%s", prefix, AccumuloTables.GRAPH);
   }
 
+  @Override
+  protected String getIndexTableName(String prefix) {
+    return String.format("%s%s", prefix, AccumuloTables.GRAPH_INDEX);
+  }
+
   @Override
   protected Mutation writeMutation(GraphHead record) {
     Mutation mutation = new Mutation(record.getId().toString());
@@ -57,6 +57,11 @@ public class VertexOutputFormat extends BaseOutputFormat<Vertex> {
     return String.format("%s%s", prefix, AccumuloTables.VERTEX);
   }
 
+  @Override
+  protected String getIndexTableName(String prefix) {
+    return String.format("%s%s", prefix, AccumuloTables.VERTEX_INDEX);
+  }
+
   @Override
   protected Mutation writeMutation(Vertex record) {
     Mutation mutation = new Mutation(record.getId().toString());
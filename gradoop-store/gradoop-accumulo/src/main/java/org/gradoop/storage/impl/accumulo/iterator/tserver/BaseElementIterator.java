@@ -23,23 +23,33 @@ import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.util.Pair;
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.model.impl.properties.Property;
 import org.gradoop.storage.impl.accumulo.constants.AccumuloTables;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Accumulo Tablet Server Iterator
  * This Iterator will be created in accumulo tablet server runtime, when executing a partition
  * range query. A Gradoop Element iterator will decode query options as query filter, transform
  * multi-rows into epgm element and check if this element should be return by predicate. Each
- * element that fulfill the predicate will be serialized into one row.
+ * element that fulfill the predicate will be serialized into one row. If a property projection
+ * is given, all other properties are removed after the predicate check, before the element is
+ * serialized and sent to the client.
  *
  * @param <E> gradoop epgm element
  * @see <a href="https://accumulo.apache.org/1.9/accumulo_user_manual.html#_iterator_design">
@@ -68,6 +78,11 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
    */
   private AccumuloElementFilter<E> filter;
 
+  /**
+   * Projected property keys, null for all properties
+   */
+  private Set<String> projection;
+
   /**
    * Deserialize from key-value pair
    *
@@ -98,6 +113,36 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     @Nonnull SortedKeyValueIterator<Key, Value> source
   ) throws IOException;
 
+  /**
+   * Encode property projection as iterator option value.
+   * This action will be execute by client
+   *
+   * @param propertyKeys projected property keys
+   * @return encoded projection
+   */
+  @Nonnull
+  public static String encodeProjection(@Nonnull Collection<String> propertyKeys) {
+    // base64 does not contain ',', thus it is safe to use as separator
+    return propertyKeys.stream()
+      .map(key -> Base64.getEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8)))
+      .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Decode property projection from iterator option value.
+   * This action will be execute by tserver
+   *
+   * @param encoded encoded projection
+   * @return projected property keys
+   */
+  @Nonnull
+  static Set<String> decodeProjection(@Nonnull String encoded) {
+    return Stream.of(encoded.split(","))
+      .filter(key -> !key.isEmpty())
+      .map(key -> new String(Base64.getDecoder().decode(key), StandardCharsets.UTF_8))
+      .collect(Collectors.toCollection(HashSet::new));
+  }
+
   /**
    * Get element filter predicate
    *
@@ -121,6 +166,34 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
     } else {
       this.filter = (AccumuloElementFilter<E>) t -> true;
     }
+    //read property projection
+    if (options != null && options.containsKey(AccumuloTables.KEY_PROJECTION)) {
+      this.projection = decodeProjection(options.get(AccumuloTables.KEY_PROJECTION));
+    } else {
+      this.projection = null;
+    }
+  }
+
+  /**
+   * Remove all properties not contained in the projection from the given element
+   *
+   * @param element element fulfilling the predicate
+   * @return element with projected properties
+   */
+  protected E project(E element) {
+    Properties properties = element.getProperties();
+    if (projection == null || properties == null) {
+      return element;
+    }
+    Properties projected = Properties.createWithCapacity(
+      Math.min(projection.size(), properties.size()));
+    for (Property property : properties) {
+      if (projection.contains(property.getKey())) {
+        projected.set(property);
+      }
+    }
+    element.setProperties(projected);
+    return element;
   }
 
   @Override
@@ -131,7 +204,7 @@ public abstract class BaseElementIterator<E extends EPGMElement> implements
   @Override
   public void next() throws IOException {
     E topElement = seekIterator.hasNext() ? seekIterator.next() : null;
-    top = topElement == null ? null : toRow(topElement);
+    top = topElement == null ? null : toRow(project(topElement));
   }
 
   @Override
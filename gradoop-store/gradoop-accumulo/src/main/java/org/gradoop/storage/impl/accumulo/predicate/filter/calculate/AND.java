@@ -72,6 +72,15 @@ public final class AND<T extends EPGMElement> implements AccumuloElementFilter<T
     return true;
   }
 
+  /**
+   * Get conjunctive predicates
+   *
+   * @return unmodifiable predicate list
+   */
+  public List<AccumuloElementFilter<T>> getPredicates() {
+    return Collections.unmodifiableList(predicates);
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" AND ");
@@ -72,6 +72,15 @@ public final class OR<T extends EPGMElement> implements AccumuloElementFilter<T>
     return false;
   }
 
+  /**
+   * Get disjunctive predicates
+   *
+   * @return unmodifiable predicate list
+   */
+  public List<AccumuloElementFilter<T>> getPredicates() {
+    return Collections.unmodifiableList(predicates);
+  }
+
   @Override
   public String toString() {
     StringJoiner joiner = new StringJoiner(" OR ");
@@ -19,6 +19,8 @@ import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.common.predicate.filter.impl.LabelIn;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 
+import java.util.Set;
+
 /**
  * Accumulo label equality predicate implement
  *
@@ -37,6 +39,11 @@ public class AccumuloLabelIn<T extends EPGMElement>
     super(labels);
   }
 
+  @Override
+  public Set<String> getLabels() {
+    return super.getLabels();
+  }
+
   @Override
   public boolean test(T t) {
     return t.getLabel() != null && getLabels().contains(t.getLabel());
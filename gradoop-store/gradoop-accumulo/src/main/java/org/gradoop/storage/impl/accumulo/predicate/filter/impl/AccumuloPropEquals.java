@@ -16,6 +16,7 @@
 package org.gradoop.storage.impl.accumulo.predicate.filter.impl;
 
 import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.PropertyValue;
 import org.gradoop.storage.common.predicate.filter.impl.PropEquals;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 
@@ -43,6 +44,16 @@ public class AccumuloPropEquals<T extends EPGMElement>
     super(key, value);
   }
 
+  @Override
+  public String getKey() {
+    return super.getKey();
+  }
+
+  @Override
+  public PropertyValue getValue() {
+    return super.getValue();
+  }
+
   @Override
   public boolean test(T t) {
     return t.getPropertyValue(getKey()) != null &&
@@ -27,6 +27,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -48,6 +50,11 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
    */
   private final AccumuloElementFilter<T> reduceFilter;
 
+  /**
+   * projected property keys, null for all properties
+   */
+  private final HashSet<String> projection;
+
   /**
    * accumulo predicate instance, low level api for store implement
    *
@@ -55,15 +62,19 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
    * @param reduceFilter query reduce filter
    *                     only those in predicate should be return from tserver.
    *                     if null, return all in range
+   * @param projection projected property keys,
+   *                   if null, return all properties
    */
   private AccumuloQueryHolder(
     @Nullable List<Range> logicalRanges,
-    @Nullable AccumuloElementFilter<T> reduceFilter
+    @Nullable AccumuloElementFilter<T> reduceFilter,
+    @Nullable Collection<String> projection
   ) {
     RangeWrapper wrapper = new RangeWrapper();
     wrapper.ranges = logicalRanges;
     this.queryRanges = wrapper.encrypt();
     this.reduceFilter = reduceFilter;
+    this.projection = projection == null ? null : new HashSet<>(projection);
   }
 
   /**
@@ -84,7 +95,8 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
       .collect(Collectors.toList()));
     return new AccumuloQueryHolder<>(
       query.getQueryRanges() == null ? null : ranges,
-      query.getFilterPredicate());
+      query.getFilterPredicate(),
+      query.getProjection());
   }
 
   /**
@@ -102,7 +114,17 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     if (idRanges.isEmpty()) {
       throw new IllegalArgumentException("id range is empty");
     }
-    return new AccumuloQueryHolder<>(idRanges, reduceFilter);
+    return new AccumuloQueryHolder<>(idRanges, reduceFilter, null);
+  }
+
+  /**
+   * create a copy of this predicate, whose result elements only carry the given properties
+   *
+   * @param propertyKeys projected property keys, null for all properties
+   * @return accumulo predicate with property projection
+   */
+  public AccumuloQueryHolder<T> withProjection(@Nullable Collection<String> propertyKeys) {
+    return new AccumuloQueryHolder<>(getQueryRanges(), reduceFilter, propertyKeys);
   }
 
   /**
@@ -119,6 +141,16 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
     return reduceFilter;
   }
 
+  /**
+   * get projected property keys
+   *
+   * @return projected property keys, null if all properties should be returned
+   */
+  @Nullable
+  public HashSet<String> getProjection() {
+    return projection == null ? null : new HashSet<>(projection);
+  }
+
   @Override
   public String toString() {
     List<String> ranges = getQueryRanges() == null ? null :
@@ -127,7 +159,8 @@ public class AccumuloQueryHolder<T extends EPGMElement> implements Serializable
           it.getStartKey().getRow(),
           it.getEndKey().getRow()))
         .collect(Collectors.toList());
-    return String.format("range=%1$s, filter=%2$s", ranges, getReduceFilter());
+    return String.format("range=%1$s, filter=%2$s, projection=%3$s",
+      ranges, getReduceFilter(), projection);
   }
 
   /**
@@ -22,6 +22,7 @@ import org.gradoop.storage.config.GradoopAccumuloConfig;
 import org.gradoop.storage.impl.accumulo.basic.StoreTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreBasicPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreIdsPredicateTest;
+import org.gradoop.storage.impl.accumulo.predicate.StoreIndexPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StoreLabelPredicateTest;
 import org.gradoop.storage.impl.accumulo.predicate.StorePropPredicateTest;
 import org.gradoop.flink.io.impl.accumulo.IOBasicTest;
@@ -53,6 +54,7 @@ import static org.gradoop.storage.config.GradoopAccumuloConfig.*;
   StoreIdsPredicateTest.class,
   StoreLabelPredicateTest.class,
   StorePropPredicateTest.class,
+  StoreIndexPredicateTest.class,
   //sink and source
   IOBasicTest.class,
   IOEdgePredicateTest.class,
@@ -17,6 +17,8 @@ package org.gradoop.flink.io.impl.accumulo.source;
 
 import org.gradoop.AccumuloStoreTestBase;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.utils.AccumuloFilters;
 import org.gradoop.storage.common.predicate.query.Query;
@@ -37,6 +39,7 @@ public class IOVertexPredicateTest extends AccumuloStoreTestBase {
   private static final String TEST01 = "io_vertex_predicate_01";
   private static final String TEST02 = "io_vertex_predicate_02";
   private static final String TEST03 = "io_vertex_predicate_03";
+  private static final String TEST04 = "io_vertex_predicate_04";
 
   /**
    * pick 3 person randomly
@@ -146,4 +149,44 @@ public class IOVertexPredicateTest extends AccumuloStoreTestBase {
     });
   }
 
+  /**
+   * find all person who's age is not smaller than 35, but only read their names
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test04_findPersonNameByAge() throws Throwable {
+    doTest(TEST04, (loader, store) -> {
+      VertexFactory factory = new VertexFactory();
+      List<Vertex> inputVertices = loader.getVertices()
+        .stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getProperties() != null)
+        .filter(it -> it.getProperties().get("age") != null)
+        .filter(it -> it.getProperties().get("age").getInt() >= 35)
+        .map(it -> {
+          Properties name = Properties.create();
+          name.set("name", it.getPropertyValue("name"));
+          return factory.initVertex(it.getId(), it.getLabel(), name, it.getGraphIds());
+        })
+        .collect(Collectors.toList());
+
+      AccumuloDataSource source = new AccumuloDataSource(store)
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Vertex>labelIn("Person")
+              .and(AccumuloFilters.propLargerThan("age", 35, true))))
+        .withVertexProperties("name");
+      assert source.isProjectionPushedDown();
+
+      List<Vertex> queryResult = source
+        .getGraphCollection()
+        .getVertices()
+        .collect();
+
+      validateEPGMElementCollections(inputVertices, queryResult);
+    });
+  }
+
 }
@@ -0,0 +1,369 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.accumulo.predicate;
+
+import org.gradoop.AccumuloStoreTestBase;
+import org.gradoop.AccumuloTestSuite;
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.flink.util.FlinkAsciiGraphLoader;
+import org.gradoop.flink.util.GradoopFlinkConfig;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopAccumuloConfig;
+import org.gradoop.storage.impl.accumulo.AccumuloEPGMStore;
+import org.gradoop.storage.impl.accumulo.constants.AccumuloDefault;
+import org.gradoop.storage.impl.accumulo.index.AccumuloIndex;
+import org.gradoop.storage.impl.accumulo.io.AccumuloDataSink;
+import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
+import org.gradoop.storage.utils.AccumuloFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * accumulo graph store index predicate test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StoreIndexPredicateTest extends AccumuloStoreTestBase {
+
+  private static final String TEST01 = "index_predicate_01";
+  private static final String TEST02 = "index_predicate_02";
+  private static final String TEST03 = "index_predicate_03";
+  private static final String TEST04 = "index_predicate_04";
+  private static final String TEST05 = "index_predicate_05";
+  private static final String TEST06 = "index_predicate_06";
+  private static final String TEST07 = "index_predicate_07";
+  private static final String TEST08 = "index_predicate_08";
+
+  /**
+   * find all vertices by label using the label index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test01_vertexLabelIndex() throws Throwable {
+    doTest(indexedConfig(TEST01, null), (loader, store) -> {
+      assertTrue(store.createConnector().tableOperations()
+        .exists(store.getConfig().getVertexIndexTable()));
+
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .collect(Collectors.toList());
+
+      List<Vertex> query = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.labelIn("Person")))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputVertices, query);
+    });
+  }
+
+  /**
+   * find all vertices by label and property value using the property index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test02_vertexPropertyIndex() throws Throwable {
+    doTest(indexedConfig(TEST02, null), (loader, store) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getPropertyValue("gender") != null &&
+          Objects.equals(it.getPropertyValue("gender").getString(), "f"))
+        .filter(it -> it.getPropertyValue("age").getInt() >= 30)
+        .collect(Collectors.toList());
+
+      AccumuloElementFilter<Vertex> filter = AccumuloFilters.<Vertex>labelIn("Person")
+        .and(AccumuloFilters.propEquals("gender", "f"))
+        .and(AccumuloFilters.propLargerThan("age", 30, true));
+
+      List<Vertex> query = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(filter))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputVertices, query);
+
+      // the index returns all female persons, the age predicate is evaluated by the tserver
+      AccumuloIndex index = createIndex(store, store.getConfig().getVertexIndexTable());
+      GradoopIdSet candidates = index.lookup(filter);
+      index.close();
+      assertEquals(loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> Objects.equals(it.getPropertyValue("gender").getString(), "f"))
+        .map(Vertex::getId)
+        .collect(Collectors.toSet()), candidates.stream().collect(Collectors.toSet()));
+    });
+  }
+
+  /**
+   * find all edges by label and property value using the property index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test03_edgePropertyIndex() throws Throwable {
+    doTest(indexedConfig(TEST03, null), (loader, store) -> {
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .filter(it -> Objects.equals(it.getPropertyValue("since").getInt(), 2014))
+        .collect(Collectors.toList());
+
+      List<Edge> query = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Edge>labelIn("knows")
+              .and(AccumuloFilters.propEquals("since", 2014))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputEdges, query);
+    });
+  }
+
+  /**
+   * find graph heads by disjunctive label predicates, and fall back to a table scan if a
+   * disjunctive predicate can not be answered by the index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test04_graphDisjunction() throws Throwable {
+    doTest(indexedConfig(TEST04, null), (loader, store) -> {
+      List<GraphHead> inputGraphs = loader.getGraphHeads().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Community") ||
+          Objects.equals(it.getLabel(), "Forum"))
+        .collect(Collectors.toList());
+
+      AccumuloElementFilter<GraphHead> indexed = AccumuloFilters.<GraphHead>labelIn("Community")
+        .or(AccumuloFilters.labelIn("Forum"));
+      List<GraphHead> query = store
+        .getGraphSpace(
+          Query.elements()
+            .fromAll()
+            .where(indexed))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputGraphs, query);
+
+      AccumuloElementFilter<GraphHead> notIndexed = AccumuloFilters.<GraphHead>labelIn("Forum")
+        .or(AccumuloFilters.labelReg(Pattern.compile("^Com.*")));
+      AccumuloIndex index = createIndex(store, store.getConfig().getGraphHeadIndexTable());
+      assertNull(index.lookup(notIndexed));
+      index.close();
+
+      query = store
+        .getGraphSpace(
+          Query.elements()
+            .fromAll()
+            .where(notIndexed))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputGraphs, query);
+    });
+  }
+
+  /**
+   * find vertices by a property, which is not indexed
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test05_notIndexedProperty() throws Throwable {
+    doTest(indexedConfig(TEST05, "name"), (loader, store) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> Objects.equals(it.getPropertyValue("city").getString(), "Dresden"))
+        .collect(Collectors.toList());
+
+      List<Vertex> query = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(AccumuloFilters.<Vertex>labelIn("Person")
+              .and(AccumuloFilters.propEquals("city", "Dresden"))))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputVertices, query);
+
+      AccumuloIndex index = createIndex(store, store.getConfig().getVertexIndexTable());
+      GradoopIdSet candidates = index.lookup(AccumuloFilters.<Vertex>labelIn("Person")
+        .and(AccumuloFilters.propEquals("city", "Dresden")));
+      index.close();
+      assertEquals(loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .count(), candidates.size());
+    });
+  }
+
+  /**
+   * write a graph collection by the data sink, and find its elements by the index
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test06_sinkIndex() throws Throwable {
+    AccumuloEPGMStore store = new AccumuloEPGMStore(indexedConfig(TEST06, null));
+
+    FlinkAsciiGraphLoader loader = new FlinkAsciiGraphLoader(
+      GradoopFlinkConfig.createConfig(getExecutionEnvironment()));
+    loader.initDatabaseFromStream(getClass().getResourceAsStream(
+      GradoopTestUtils.SOCIAL_NETWORK_GDL_FILE));
+    new AccumuloDataSink(store).write(store.getConfig().getGraphCollectionFactory()
+      .fromCollections(loader.getGraphHeads(), loader.getVertices(), loader.getEdges()));
+    getExecutionEnvironment().execute();
+
+    AccumuloElementFilter<Vertex> filter = AccumuloFilters.<Vertex>labelIn("Person")
+      .and(AccumuloFilters.propEquals("gender", "f"));
+    List<Vertex> inputVertices = loader.getVertices().stream()
+      .filter(it -> Objects.equals(it.getLabel(), "Person"))
+      .filter(it -> Objects.equals(it.getPropertyValue("gender").getString(), "f"))
+      .collect(Collectors.toList());
+
+    AccumuloIndex index = createIndex(store, store.getConfig().getVertexIndexTable());
+    assertTrue(index.isComplete());
+    assertEquals(inputVertices.stream().map(Vertex::getId).collect(Collectors.toSet()),
+      index.lookup(filter).stream().collect(Collectors.toSet()));
+    index.close();
+
+    GradoopTestUtils.validateEPGMElementCollections(inputVertices, store
+      .getVertexSpace(Query.elements().fromAll().where(filter))
+      .readRemainsAndClose());
+
+    List<Edge> inputEdges = loader.getEdges().stream()
+      .filter(it -> Objects.equals(it.getLabel(), "hasMember"))
+      .collect(Collectors.toList());
+    GradoopTestUtils.validateEPGMElementCollections(inputEdges, store
+      .getEdgeSpace(Query.elements().fromAll().where(AccumuloFilters.labelIn("hasMember")))
+      .readRemainsAndClose());
+
+    store.close();
+  }
+
+  /**
+   * enable the index on existing elements, which is not used before it is rebuilt
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test07_rebuildIndex() throws Throwable {
+    // write elements without index
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader = GradoopTestUtils.getSocialNetworkLoader();
+    AccumuloEPGMStore notIndexed = new AccumuloEPGMStore(
+      AccumuloTestSuite.getAcConfig(getExecutionEnvironment(), TEST07));
+    for (Vertex vertex : loader.getVertices()) {
+      notIndexed.writeVertex(vertex);
+    }
+    notIndexed.close();
+
+    AccumuloEPGMStore store = new AccumuloEPGMStore(indexedConfig(TEST07, null));
+    AccumuloElementFilter<Vertex> filter = AccumuloFilters.labelIn("Person");
+    List<Vertex> inputVertices = loader.getVertices().stream()
+      .filter(it -> Objects.equals(it.getLabel(), "Person"))
+      .collect(Collectors.toList());
+
+    // the empty index is not used
+    AccumuloIndex index = createIndex(store, store.getConfig().getVertexIndexTable());
+    assertFalse(index.isComplete());
+    GradoopTestUtils.validateEPGMElementCollections(inputVertices, store
+      .getVertexSpace(Query.elements().fromAll().where(filter))
+      .readRemainsAndClose());
+
+    store.rebuildIndexes();
+    assertTrue(index.isComplete());
+    assertEquals(inputVertices.size(), index.lookup(filter).size());
+    GradoopTestUtils.validateEPGMElementCollections(inputVertices, store
+      .getVertexSpace(Query.elements().fromAll().where(filter))
+      .readRemainsAndClose());
+
+    // writing without index invalidates it
+    notIndexed = new AccumuloEPGMStore(
+      AccumuloTestSuite.getAcConfig(getExecutionEnvironment(), TEST07));
+    notIndexed.writeVertex(loader.getVertices().iterator().next());
+    notIndexed.close();
+    assertFalse(index.isComplete());
+    index.close();
+
+    store.close();
+  }
+
+  /**
+   * fall back to a table scan if a lookup exceeds the maximum number of candidates
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test08_maxCandidates() throws Throwable {
+    GradoopAccumuloConfig config = indexedConfig(TEST08, null)
+      .set(GradoopAccumuloConfig.GRADOOP_INDEX_MAX_CANDIDATES, 1);
+    doTest(config, (loader, store) -> {
+      AccumuloElementFilter<Vertex> filter = AccumuloFilters.<Vertex>labelIn("Person")
+        .and(AccumuloFilters.propEquals("gender", "f"));
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> Objects.equals(it.getPropertyValue("gender").getString(), "f"))
+        .collect(Collectors.toList());
+      assertTrue(inputVertices.size() > 1);
+
+      AccumuloIndex index = new AccumuloIndex(store.createConnector(),
+        store.getConfig().getVertexIndexTable(), AccumuloDefault.AUTHORIZATION,
+        AccumuloDefault.BATCH_SCANNER_THREADS, 1, store.getConfig().getIndexedProperties());
+      assertTrue(index.isComplete());
+      assertNull(index.lookup(filter));
+      index.close();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputVertices, store
+        .getVertexSpace(Query.elements().fromAll().where(filter))
+        .readRemainsAndClose());
+    });
+  }
+
+  private GradoopAccumuloConfig indexedConfig(String namespace, String indexedProperties) {
+    GradoopAccumuloConfig config = AccumuloTestSuite
+      .getAcConfig(getExecutionEnvironment(), namespace)
+      .set(GradoopAccumuloConfig.GRADOOP_INDEX_ENABLED, true);
+    if (indexedProperties != null) {
+      config.set(GradoopAccumuloConfig.GRADOOP_INDEX_PROPERTIES, indexedProperties);
+    }
+    return config;
+  }
+
+  private AccumuloIndex createIndex(AccumuloEPGMStore store, String table) throws Exception {
+    return new AccumuloIndex(store.createConnector(), table,
+      AccumuloDefault.AUTHORIZATION, AccumuloDefault.BATCH_SCANNER_THREADS,
+      AccumuloDefault.INDEX_MAX_CANDIDATES, store.getConfig().getIndexedProperties());
+  }
+}
@@ -18,14 +18,18 @@ package org.gradoop.storage.impl.accumulo.predicate;
 import org.gradoop.AccumuloStoreTestBase;
 import org.gradoop.common.GradoopTestUtils;
 import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
 import org.gradoop.common.model.impl.pojo.GraphHead;
 import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.accumulo.predicate.filter.api.AccumuloElementFilter;
 import org.gradoop.storage.utils.AccumuloFilters;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -42,6 +46,7 @@ public class StorePropPredicateTest extends AccumuloStoreTestBase {
   private static final String TEST03 = "prop_predicate_03";
   private static final String TEST04 = "prop_predicate_04";
   private static final String TEST05 = "prop_predicate_05";
+  private static final String TEST06 = "prop_predicate_06";
 
   /**
    * find all vertices by property equality
@@ -190,4 +195,37 @@ public class StorePropPredicateTest extends AccumuloStoreTestBase {
     });
   }
 
+  /**
+   * find all edges by property equality, but do not return any property
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test06_edgePropEqualsWithEmptyProjection() throws Throwable {
+    doTest(TEST06, (loader, store) -> {
+      EdgeFactory factory = new EdgeFactory();
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> {
+          assert it.getProperties() != null;
+          return it.getProperties().get("since") != null &&
+            Objects.equals(it.getProperties()
+              .get("since")
+              .getInt(), 2014);
+        })
+        .map(it -> factory.initEdge(it.getId(), it.getLabel(), it.getSourceId(),
+          it.getTargetId(), Properties.create(), it.getGraphIds()))
+        .collect(Collectors.toList());
+
+      List<Edge> query = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .<AccumuloElementFilter<Edge>>where(AccumuloFilters.propEquals("since", 2014))
+            .withProjection(Collections.emptySet()))
+        .readRemainsAndClose();
+
+      GradoopTestUtils.validateEPGMElementCollections(inputEdges, query);
+    });
+  }
+
 }
@@ -78,6 +78,11 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
    */
   private final EdgeHandler<Edge, Vertex> edgeHandler;
 
+  /**
+   * Size of the client side write buffer per table in bytes.
+   */
+  private final long writeBufferSize;
+
   /**
    * Creates a new Configuration.
    *
@@ -88,6 +93,7 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
    * @param graphTableName              graph table name
    * @param vertexTableName             vertex table name
    * @param edgeTableName               edge table name
+   * @param writeBufferSize             client side write buffer size in bytes
    */
   private GradoopHBaseConfig(
     GraphHeadHandler<GraphHead> graphHeadHandler,
@@ -96,7 +102,8 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
     ExecutionEnvironment env,
     String graphTableName,
     String vertexTableName,
-    String edgeTableName
+    String edgeTableName,
+    long writeBufferSize
   ) {
     super(new HBaseGraphHeadFactory<>(),
       new HBaseVertexFactory<>(),
@@ -108,6 +115,7 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
       "EPGMVertex table name was null or empty");
     checkArgument(!StringUtils.isEmpty(edgeTableName),
       "EPGMEdge table name was null or empty");
+    checkArgument(writeBufferSize > 0, "Write buffer size must be positive");
 
     this.graphTableName = TableName.valueOf(graphTableName);
     this.vertexTableName = TableName.valueOf(vertexTableName);
@@ -116,6 +124,7 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
     this.graphHeadHandler = checkNotNull(graphHeadHandler, "GraphHeadHandler was null");
     this.vertexHandler = checkNotNull(vertexHandler, "VertexHandler was null");
     this.edgeHandler = checkNotNull(edgeHandler, "EdgeHandler was null");
+    this.writeBufferSize = writeBufferSize;
   }
 
   /**
@@ -125,12 +134,14 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
    * @param graphTableName  graph table name
    * @param vertexTableName vertex table name
    * @param edgeTableName   edge table name
+   * @param writeBufferSize client side write buffer size in bytes
    */
   private GradoopHBaseConfig(
     GradoopHBaseConfig config,
     String graphTableName,
     String vertexTableName,
-    String edgeTableName
+    String edgeTableName,
+    long writeBufferSize
   ) {
     this(config.getGraphHeadHandler(),
       config.getVertexHandler(),
@@ -138,7 +149,8 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
       config.getExecutionEnvironment(),
       graphTableName,
       vertexTableName,
-      edgeTableName);
+      edgeTableName,
+      writeBufferSize);
   }
 
   /**
@@ -163,7 +175,8 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
       env,
       HBaseConstants.DEFAULT_TABLE_GRAPHS,
       HBaseConstants.DEFAULT_TABLE_VERTICES,
-      HBaseConstants.DEFAULT_TABLE_EDGES
+      HBaseConstants.DEFAULT_TABLE_EDGES,
+      HBaseConstants.DEFAULT_WRITE_BUFFER_SIZE
     );
   }
 
@@ -183,7 +196,27 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
     String vertexTableName,
     String edgeTableName
   ) {
-    return new GradoopHBaseConfig(gradoopConfig, graphTableName, vertexTableName, edgeTableName);
+    return new GradoopHBaseConfig(gradoopConfig, graphTableName, vertexTableName, edgeTableName,
+      gradoopConfig.getWriteBufferSize());
+  }
+
+  /**
+   * Creates a Gradoop HBase configuration with a different client side write buffer size.
+   *
+   * @param gradoopConfig   Gradoop configuration
+   * @param writeBufferSize size of the write buffer per table in bytes
+   *
+   * @return Gradoop HBase configuration
+   */
+  public static GradoopHBaseConfig createConfig(
+    GradoopHBaseConfig gradoopConfig,
+    long writeBufferSize
+  ) {
+    return new GradoopHBaseConfig(gradoopConfig,
+      gradoopConfig.getGraphTableName().getNameAsString(),
+      gradoopConfig.getVertexTableName().getNameAsString(),
+      gradoopConfig.getEdgeTableName().getNameAsString(),
+      writeBufferSize);
   }
 
   public TableName getVertexTableName() {
@@ -209,4 +242,8 @@ public class GradoopHBaseConfig extends GradoopStoreConfig<
   public EdgeHandler<Edge, Vertex> getEdgeHandler() {
     return edgeHandler;
   }
+
+  public long getWriteBufferSize() {
+    return writeBufferSize;
+  }
 }
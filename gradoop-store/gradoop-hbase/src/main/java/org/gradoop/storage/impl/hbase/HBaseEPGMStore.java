@@ -16,7 +16,7 @@
 package org.gradoop.storage.impl.hbase;
 
 import com.google.common.base.Preconditions;
-import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
@@ -53,6 +53,10 @@ import java.io.IOException;
  * Default HBase graph store that handles reading and writing vertices and
  * graphs from and to HBase.
  *
+ * Writes are collected in a client side buffer per table, which is sent to
+ * the region servers in the background once it is full, on {@link #flush()}
+ * and on {@link #close()}.
+ *
  * @see EPGMGraphPredictableOutput
  */
 public class HBaseEPGMStore implements
@@ -80,9 +84,17 @@ public class HBaseEPGMStore implements
    */
   private final Table edgeTable;
   /**
-   * HBase admin instance
+   * Buffered writer for the graph head table.
+   */
+  private final BufferedMutator graphHeadMutator;
+  /**
+   * Buffered writer for the vertex table.
+   */
+  private final BufferedMutator vertexMutator;
+  /**
+   * Buffered writer for the edge table.
    */
-  private final Admin admin;
+  private final BufferedMutator edgeMutator;
   /**
    * Auto flush flag, default false
    */
@@ -95,21 +107,27 @@ public class HBaseEPGMStore implements
    * @param graphHeadTable HBase table to store graph data
    * @param vertexTable HBase table to store vertex data
    * @param edgeTable HBase table to store edge data
+   * @param graphHeadMutator buffered writer for the graph head table
+   * @param vertexMutator buffered writer for the vertex table
+   * @param edgeMutator buffered writer for the edge table
    * @param config Gradoop Configuration
-   * @param admin HBase admin instance
    */
   public HBaseEPGMStore(
     final Table graphHeadTable,
     final Table vertexTable,
     final Table edgeTable,
-    final GradoopHBaseConfig config,
-    final Admin admin
+    final BufferedMutator graphHeadMutator,
+    final BufferedMutator vertexMutator,
+    final BufferedMutator edgeMutator,
+    final GradoopHBaseConfig config
   ) {
     this.graphHeadTable = Preconditions.checkNotNull(graphHeadTable);
     this.vertexTable = Preconditions.checkNotNull(vertexTable);
     this.edgeTable = Preconditions.checkNotNull(edgeTable);
+    this.graphHeadMutator = Preconditions.checkNotNull(graphHeadMutator);
+    this.vertexMutator = Preconditions.checkNotNull(vertexMutator);
+    this.edgeMutator = Preconditions.checkNotNull(edgeMutator);
     this.config = Preconditions.checkNotNull(config);
-    this.admin = Preconditions.checkNotNull(admin);
   }
 
   /**
@@ -149,15 +167,9 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void writeGraphHead(@Nonnull final PersistentGraphHead graphHead) throws IOException {
-    GraphHeadHandler graphHeadHandler = config.getGraphHeadHandler();
-    // graph id
-    Put put = new Put(graphHeadHandler.getRowKey(graphHead.getId()));
-    // write graph to Put
-    put = graphHeadHandler.writeGraphHead(put, graphHead);
-    // write to table
-    graphHeadTable.put(put);
+    graphHeadMutator.mutate(createPut(graphHead));
     if (autoFlush) {
-      admin.flush(graphHeadTable.getName());
+      graphHeadMutator.flush();
     }
   }
 
@@ -166,15 +178,9 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void writeVertex(@Nonnull final PersistentVertex<Edge> vertexData) throws IOException {
-    VertexHandler<Vertex, Edge> vertexHandler = config.getVertexHandler();
-    // vertex id
-    Put put = new Put(vertexHandler.getRowKey(vertexData.getId()));
-    // write vertex data to Put
-    put = vertexHandler.writeVertex(put, vertexData);
-    // write to table
-    vertexTable.put(put);
+    vertexMutator.mutate(createPut(vertexData));
     if (autoFlush) {
-      admin.flush(vertexTable.getName());
+      vertexMutator.flush();
     }
   }
 
@@ -183,15 +189,51 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void writeEdge(@Nonnull final PersistentEdge<Vertex> edgeData) throws IOException {
-    // write to table
-    EdgeHandler<Edge, Vertex> edgeHandler = config.getEdgeHandler();
-    // edge id
-    Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
-    // write edge data to Put
-    put = edgeHandler.writeEdge(put, edgeData);
-    edgeTable.put(put);
+    edgeMutator.mutate(createPut(edgeData));
+    if (autoFlush) {
+      edgeMutator.flush();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeGraphHeads(@Nonnull final Iterable<? extends PersistentGraphHead> graphData)
+    throws IOException {
+    for (PersistentGraphHead graphHead : graphData) {
+      graphHeadMutator.mutate(createPut(graphHead));
+    }
+    if (autoFlush) {
+      graphHeadMutator.flush();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeVertices(@Nonnull final Iterable<? extends PersistentVertex<Edge>> vertexData)
+    throws IOException {
+    for (PersistentVertex<Edge> vertex : vertexData) {
+      vertexMutator.mutate(createPut(vertex));
+    }
     if (autoFlush) {
-      admin.flush(edgeTable.getName());
+      vertexMutator.flush();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeEdges(@Nonnull final Iterable<? extends PersistentEdge<Vertex>> edgeData)
+    throws IOException {
+    for (PersistentEdge<Vertex> edge : edgeData) {
+      edgeMutator.mutate(createPut(edge));
+    }
+    if (autoFlush) {
+      edgeMutator.flush();
     }
   }
 
@@ -352,9 +394,9 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void flush() throws IOException {
-    admin.flush(vertexTable.getName());
-    admin.flush(edgeTable.getName());
-    admin.flush(graphHeadTable.getName());
+    vertexMutator.flush();
+    edgeMutator.flush();
+    graphHeadMutator.flush();
   }
 
   /**
@@ -362,9 +404,51 @@ public class HBaseEPGMStore implements
    */
   @Override
   public void close() throws IOException {
+    // closing a mutator flushes its pending writes
+    vertexMutator.close();
+    edgeMutator.close();
+    graphHeadMutator.close();
     vertexTable.close();
     edgeTable.close();
     graphHeadTable.close();
   }
 
+  /**
+   * Creates the row mutation for a graph head.
+   *
+   * @param graphHead persistent graph head
+   * @return put containing all graph head data
+   * @throws IOException if the graph head could not be serialized
+   */
+  private Put createPut(final PersistentGraphHead graphHead) throws IOException {
+    GraphHeadHandler graphHeadHandler = config.getGraphHeadHandler();
+    Put put = new Put(graphHeadHandler.getRowKey(graphHead.getId()));
+    return graphHeadHandler.writeGraphHead(put, graphHead);
+  }
+
+  /**
+   * Creates the row mutation for a vertex.
+   *
+   * @param vertexData persistent vertex
+   * @return put containing all vertex data
+   * @throws IOException if the vertex could not be serialized
+   */
+  private Put createPut(final PersistentVertex<Edge> vertexData) throws IOException {
+    VertexHandler<Vertex, Edge> vertexHandler = config.getVertexHandler();
+    Put put = new Put(vertexHandler.getRowKey(vertexData.getId()));
+    return vertexHandler.writeVertex(put, vertexData);
+  }
+
+  /**
+   * Creates the row mutation for an edge.
+   *
+   * @param edgeData persistent edge
+   * @return put containing all edge data
+   * @throws IOException if the edge could not be serialized
+   */
+  private Put createPut(final PersistentEdge<Vertex> edgeData) throws IOException {
+    EdgeHandler<Edge, Vertex> edgeHandler = config.getEdgeHandler();
+    Put put = new Put(edgeHandler.getRowKey(edgeData.getId()));
+    return edgeHandler.writeEdge(put, edgeData);
+  }
 }
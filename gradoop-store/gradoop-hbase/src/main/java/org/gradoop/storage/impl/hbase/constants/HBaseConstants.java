@@ -95,6 +95,10 @@ public final class HBaseConstants {
    * Default cache size for scans in HBase.
    */
   public static final int HBASE_DEFAULT_SCAN_CACHE_SIZE = 500;
+  /**
+   * Default size of the client side write buffer per table in bytes (8 MB).
+   */
+  public static final long DEFAULT_WRITE_BUFFER_SIZE = 8L * 1024 * 1024;
   /**
    * Default label of an EPGM database graph.
    */
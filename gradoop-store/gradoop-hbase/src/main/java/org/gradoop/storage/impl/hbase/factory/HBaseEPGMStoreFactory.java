@@ -19,6 +19,8 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HTableDescriptor;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.Table;
@@ -105,8 +107,10 @@ public class HBaseEPGMStoreFactory {
         graphDataTable,
         vertexDataTable,
         edgeDataTable,
-        gradoopHBaseConfig,
-        connection.getAdmin()
+        createMutator(connection, gradoopHBaseConfig.getGraphTableName(), gradoopHBaseConfig),
+        createMutator(connection, gradoopHBaseConfig.getVertexTableName(), gradoopHBaseConfig),
+        createMutator(connection, gradoopHBaseConfig.getEdgeTableName(), gradoopHBaseConfig),
+        gradoopHBaseConfig
       );
     } catch (IOException e) {
       e.printStackTrace();
@@ -114,6 +118,24 @@ public class HBaseEPGMStoreFactory {
     }
   }
 
+  /**
+   * Creates a buffered writer for the given table using the configured write buffer size.
+   *
+   * @param connection         HBase connection
+   * @param tableName          table to write to
+   * @param gradoopHBaseConfig Gradoop HBase configuration
+   * @return buffered writer
+   * @throws IOException if the writer could not be created
+   */
+  private static BufferedMutator createMutator(
+    final Connection connection,
+    final TableName tableName,
+    final GradoopHBaseConfig gradoopHBaseConfig
+  ) throws IOException {
+    return connection.getBufferedMutator(new BufferedMutatorParams(tableName)
+      .writeBufferSize(gradoopHBaseConfig.getWriteBufferSize()));
+  }
+
   /**
    * Deletes the default graph store.
    *
@@ -15,10 +15,12 @@
  */
 package org.gradoop.storage.impl.hbase.filter.api;
 
-import org.apache.commons.lang.NotImplementedException;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
+import org.gradoop.storage.impl.hbase.filter.calculate.AND;
+import org.gradoop.storage.impl.hbase.filter.calculate.NOT;
+import org.gradoop.storage.impl.hbase.filter.calculate.OR;
 
 import javax.annotation.Nonnull;
 import java.io.Serializable;
@@ -34,22 +36,19 @@ public interface HBaseElementFilter<T extends EPGMElement>
   @Nonnull
   @Override
   default HBaseElementFilter<T> or(@Nonnull HBaseElementFilter<T> another) {
-    // this will be implemented at issue #857
-    throw new NotImplementedException("Logical 'or' not implemented.");
+    return OR.create(this, another);
   }
 
   @Nonnull
   @Override
   default HBaseElementFilter<T> and(@Nonnull HBaseElementFilter<T> another) {
-    // this will be implemented at issue #857
-    throw new NotImplementedException("Logical 'and' not implemented.");
+    return AND.create(this, another);
   }
 
   @Nonnull
   @Override
   default HBaseElementFilter<T> negate() {
-    // this will be implemented at issue #857
-    throw new NotImplementedException("Logical negation not implemented.");
+    return NOT.of(this);
   }
 
   /**
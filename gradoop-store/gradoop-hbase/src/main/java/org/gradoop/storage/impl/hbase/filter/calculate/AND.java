@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.filter.calculate;
+
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.impl.hbase.filter.api.HBaseElementFilter;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * conjunctive predicate filter
+ *
+ * @param <T> EPGM element type
+ */
+public final class AND<T extends EPGMElement> implements HBaseElementFilter<T> {
+
+  /**
+   * predicate list
+   */
+  private final List<HBaseElementFilter<T>> predicates = new ArrayList<>();
+
+  /**
+   * Create a new conjunctive formula
+   *
+   * @param predicates predicates
+   */
+  private AND(List<HBaseElementFilter<T>> predicates) {
+    if (predicates.size() < 2) {
+      throw new IllegalArgumentException(String.format("predicates len(=%d) < 2",
+        predicates.size()));
+    }
+    this.predicates.addAll(predicates);
+  }
+
+  /**
+   * Create a conjunctive formula
+   *
+   * @param predicates filter predicate
+   * @param <T> input type
+   * @return conjunctive filter instance
+   */
+  @SafeVarargs
+  public static <T extends EPGMElement> AND<T> create(HBaseElementFilter<T>... predicates) {
+    List<HBaseElementFilter<T>> formula = new ArrayList<>();
+    Collections.addAll(formula, predicates);
+    return new AND<>(formula);
+  }
+
+  @Nonnull
+  @Override
+  public Filter toHBaseFilter() {
+    FilterList filterList = new FilterList(FilterList.Operator.MUST_PASS_ALL);
+    for (HBaseElementFilter<T> predicate : predicates) {
+      filterList.addFilter(predicate.toHBaseFilter());
+    }
+    return filterList;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(" AND ");
+    for (HBaseElementFilter<T> predicate : predicates) {
+      joiner.add("(" + predicate.toString() + ")");
+    }
+    return joiner.toString();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.filter.server;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.exceptions.DeserializationException;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterBase;
+import org.apache.hadoop.hbase.protobuf.ProtobufUtil;
+import org.apache.hadoop.hbase.protobuf.generated.FilterProtos;
+
+import java.io.IOException;
+
+/**
+ * Server-side HBase filter negating the row decision of another filter. The wrapped filter sees
+ * all cells of a row, but all cells are included until the row decision is made.
+ */
+public class NotFilter extends FilterBase {
+  /**
+   * Negated filter.
+   */
+  private final Filter filter;
+  /**
+   * True, if the negated filter rejected the current row by its key.
+   */
+  private boolean rowKeyFiltered;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param filter filter to negate
+   */
+  public NotFilter(Filter filter) {
+    this.filter = filter;
+  }
+
+  @Override
+  public void reset() throws IOException {
+    filter.reset();
+    rowKeyFiltered = false;
+  }
+
+  @Override
+  public boolean filterRowKey(byte[] buffer, int offset, int length) throws IOException {
+    rowKeyFiltered = filter.filterRowKey(buffer, offset, length);
+    return false;
+  }
+
+  @Override
+  public ReturnCode filterKeyValue(Cell cell) throws IOException {
+    if (!rowKeyFiltered) {
+      filter.filterKeyValue(cell);
+    }
+    return ReturnCode.INCLUDE;
+  }
+
+  @Override
+  public boolean hasFilterRow() {
+    return true;
+  }
+
+  @Override
+  public boolean filterRow() throws IOException {
+    return !rowKeyFiltered && !filter.filterRow();
+  }
+
+  @Override
+  public byte[] toByteArray() throws IOException {
+    return ProtobufUtil.toFilter(filter).toByteArray();
+  }
+
+  /**
+   * Deserializes a filter created by {@link #toByteArray()}. Called by HBase via reflection.
+   *
+   * @param bytes serialized filter
+   * @return filter instance
+   * @throws DeserializationException if the filter could not be deserialized
+   */
+  public static NotFilter parseFrom(byte[] bytes) throws DeserializationException {
+    try {
+      return new NotFilter(ProtobufUtil.toFilter(FilterProtos.Filter.parseFrom(bytes)));
+    } catch (IOException e) {
+      throw new DeserializationException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " (" + filter + ")";
+  }
+}
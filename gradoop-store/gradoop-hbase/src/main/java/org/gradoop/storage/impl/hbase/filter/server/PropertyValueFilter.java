@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.hbase.filter.server;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.exceptions.DeserializationException;
+import org.apache.hadoop.hbase.filter.FilterBase;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Writables;
+import org.gradoop.common.model.impl.properties.PropertyValue;
+import org.gradoop.storage.impl.hbase.constants.HBaseConstants;
+import org.gradoop.storage.impl.hbase.iterator.HBasePropertyValueWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+/**
+ * Server-side HBase filter on a single column of the properties column family. The filter
+ * evaluates the serialized {@link PropertyValue} stored in the column and removes the whole row
+ * if the column is missing or does not satisfy the condition.
+ *
+ * Since the filter is executed by the region servers, the gradoop-hbase jar has to be available
+ * on their classpath.
+ */
+public class PropertyValueFilter extends FilterBase {
+
+  /**
+   * Conditions supported by the filter.
+   */
+  public enum Operator {
+    /**
+     * Serialized value is equal to the operand.
+     */
+    EQUALS,
+    /**
+     * Value is larger than the operand.
+     */
+    LARGER,
+    /**
+     * Value is larger than or equal to the operand.
+     */
+    LARGER_OR_EQUAL,
+    /**
+     * Value is a string matching the operand pattern.
+     */
+    REGEX
+  }
+
+  /**
+   * Column family storing the element properties.
+   */
+  private static final byte[] CF_PROPERTIES_BYTES = Bytes.toBytes(HBaseConstants.CF_PROPERTIES);
+
+  /**
+   * Property key, i.e. the column qualifier.
+   */
+  private final byte[] key;
+  /**
+   * Condition to evaluate.
+   */
+  private final Operator operator;
+  /**
+   * Serialized property value or regex pattern.
+   */
+  private final byte[] operand;
+  /**
+   * Regex flags, only used by {@link Operator#REGEX}.
+   */
+  private final int flags;
+  /**
+   * Deserialized operand, created lazily.
+   */
+  private transient PropertyValue operandValue;
+  /**
+   * Compiled operand pattern, created lazily.
+   */
+  private transient Pattern pattern;
+  /**
+   * True, if the property column of the current row satisfies the condition.
+   */
+  private boolean matched;
+
+  /**
+   * Creates a new filter.
+   *
+   * @param key property key
+   * @param operator condition to evaluate
+   * @param operand serialized property value or regex pattern
+   * @param flags regex flags
+   */
+  private PropertyValueFilter(byte[] key, Operator operator, byte[] operand, int flags) {
+    this.key = key;
+    this.operator = operator;
+    this.operand = operand;
+    this.flags = flags;
+  }
+
+  /**
+   * Creates a filter accepting rows whose property is equal to the given value.
+   *
+   * @param key property key
+   * @param value property value
+   * @return filter instance
+   */
+  public static PropertyValueFilter equalTo(String key, PropertyValue value) {
+    return new PropertyValueFilter(Bytes.toBytes(key), Operator.EQUALS, serialize(value), 0);
+  }
+
+  /**
+   * Creates a filter accepting rows whose property is larger than the given value.
+   *
+   * @param key property key
+   * @param min lower bound
+   * @param include true, if the lower bound is inclusive
+   * @return filter instance
+   */
+  public static PropertyValueFilter largerThan(String key, PropertyValue min,
+    boolean include) {
+    return new PropertyValueFilter(Bytes.toBytes(key),
+      include ? Operator.LARGER_OR_EQUAL : Operator.LARGER, serialize(min), 0);
+  }
+
+  /**
+   * Creates a filter accepting rows whose property is a string matching the given pattern.
+   *
+   * @param key property key
+   * @param pattern regex pattern
+   * @return filter instance
+   */
+  public static PropertyValueFilter matches(String key, Pattern pattern) {
+    return new PropertyValueFilter(Bytes.toBytes(key), Operator.REGEX,
+      Bytes.toBytes(pattern.pattern()), pattern.flags());
+  }
+
+  @Override
+  public void reset() {
+    matched = false;
+  }
+
+  @Override
+  public ReturnCode filterKeyValue(Cell cell) throws IOException {
+    if (!matched && CellUtil.matchingColumn(cell, CF_PROPERTIES_BYTES, key)) {
+      matched = test(cell);
+    }
+    return ReturnCode.INCLUDE;
+  }
+
+  @Override
+  public boolean hasFilterRow() {
+    return true;
+  }
+
+  @Override
+  public boolean filterRow() {
+    return !matched;
+  }
+
+  @Override
+  public boolean isFamilyEssential(byte[] name) {
+    return Bytes.equals(name, CF_PROPERTIES_BYTES);
+  }
+
+  /**
+   * Evaluates the condition on the value of the given cell.
+   *
+   * @param cell property cell
+   * @return true, if the condition is satisfied
+   * @throws IOException if the value could not be deserialized
+   */
+  private boolean test(Cell cell) throws IOException {
+    if (operator == Operator.EQUALS) {
+      return CellUtil.matchingValue(cell, operand);
+    }
+    PropertyValue value = deserialize(CellUtil.cloneValue(cell));
+    if (operator == Operator.REGEX) {
+      if (pattern == null) {
+        pattern = Pattern.compile(Bytes.toString(operand), flags);
+      }
+      return value.isString() && pattern.matcher(value.getString()).matches();
+    }
+    if (operandValue == null) {
+      operandValue = deserialize(operand);
+    }
+    try {
+      int result = value.compareTo(operandValue);
+      return operator == Operator.LARGER_OR_EQUAL ? result >= 0 : result > 0;
+    } catch (UnsupportedOperationException | IllegalArgumentException typeErr) {
+      return false;
+    }
+  }
+
+  @Override
+  public byte[] toByteArray() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(operator.ordinal());
+      Bytes.writeByteArray(out, key);
+      Bytes.writeByteArray(out, operand);
+      out.writeInt(flags);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Deserializes a filter created by {@link #toByteArray()}. Called by HBase via reflection.
+   *
+   * @param bytes serialized filter
+   * @return filter instance
+   * @throws DeserializationException if the filter could not be deserialized
+   */
+  public static PropertyValueFilter parseFrom(byte[] bytes) throws DeserializationException {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      Operator operator = Operator.values()[in.readByte()];
+      byte[] key = Bytes.readByteArray(in);
+      byte[] operand = Bytes.readByteArray(in);
+      return new PropertyValueFilter(key, operator, operand, in.readInt());
+    } catch (IOException e) {
+      throw new DeserializationException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    String value = operator == Operator.REGEX ? Bytes.toString(operand) :
+      Bytes.toStringBinary(operand);
+    return String.format("%s (%s, %s, %s)", getClass().getSimpleName(),
+      Bytes.toString(key), operator, value);
+  }
+
+  /**
+   * Serializes a property value the same way the HBase store does.
+   *
+   * @param value property value
+   * @return serialized value
+   */
+  private static byte[] serialize(PropertyValue value) {
+    try {
+      return Writables.getBytes(new HBasePropertyValueWrapper(value));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Deserializes a property value stored by the HBase store.
+   *
+   * @param bytes serialized value
+   * @return property value
+   * @throws IOException on failure
+   */
+  private static PropertyValue deserialize(byte[] bytes) throws IOException {
+    PropertyValue value = new PropertyValue();
+    Writables.getWritable(bytes, new HBasePropertyValueWrapper(value));
+    return value;
+  }
+}
@@ -19,6 +19,7 @@ import org.apache.flink.api.java.DataSet;
 import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.mapreduce.TableOutputFormat;
 import org.apache.hadoop.mapreduce.Job;
 import org.gradoop.common.model.impl.id.GradoopId;
@@ -55,9 +56,17 @@ import java.util.Set;
 /**
  * Converts runtime representation of EPGM elements into persistent
  * representations and writes them to HBase.
+ *
+ * Each parallel writer buffers its mutations on the client side and sends them
+ * in batches, the buffer size is taken from the store configuration.
  */
 public class HBaseDataSink extends HBaseBase implements DataSink {
 
+  /**
+   * HBase client property defining the write buffer size of a buffered mutator.
+   */
+  private static final String WRITE_BUFFER_SIZE_KEY = "hbase.client.write.buffer";
+
   /**
    * Creates a new HBase data sink.
    *
@@ -142,9 +151,7 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
       .with(new BuildPersistentGraphHead<>(getHBaseConfig().getStoreGraphHeadFactory()));
 
     // write (persistent-graph-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getGraphTableName().getNameAsString());
+    Job job = createJob(getHBaseConfig().getGraphTableName());
 
     persistentGraphDataSet
       // FIXME remove forced cast...
@@ -187,9 +194,7 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
       .with(new BuildPersistentVertex<>(getHBaseConfig().getStoreVertexFactory()));
 
     // write (persistent-vertex-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getVertexTableName().getNameAsString());
+    Job job = createJob(getHBaseConfig().getVertexTableName());
 
     persistentVertexDataSet
       .map(new BuildVertexMutation<>(getHBaseConfig().getVertexHandler()))
@@ -219,12 +224,24 @@ public class HBaseDataSink extends HBaseBase implements DataSink {
       .with(new BuildPersistentEdge<>(getHBaseConfig().getStoreEdgeFactory()));
 
     // write (persistent-edge-data) to HBase table
-    Job job = Job.getInstance();
-    job.getConfiguration()
-      .set(TableOutputFormat.OUTPUT_TABLE, getHBaseConfig().getEdgeTableName().getNameAsString());
+    Job job = createJob(getHBaseConfig().getEdgeTableName());
 
     persistentEdgeDataSet
       .map(new BuildEdgeMutation<>(getHBaseConfig().getEdgeHandler()))
       .output(new HadoopOutputFormat<>(new TableOutputFormat<>(), job));
   }
+
+  /**
+   * Creates the Hadoop job configuration for writing to the given table.
+   *
+   * @param tableName output table
+   * @return job configured for {@link TableOutputFormat}
+   * @throws IOException if the job could not be created
+   */
+  private Job createJob(TableName tableName) throws IOException {
+    Job job = Job.getInstance();
+    job.getConfiguration().set(TableOutputFormat.OUTPUT_TABLE, tableName.getNameAsString());
+    job.getConfiguration().setLong(WRITE_BUFFER_SIZE_KEY, getHBaseConfig().getWriteBufferSize());
+    return job;
+  }
 }
@@ -32,6 +32,7 @@ public class GradoopHBaseTestBase {
 
   public static final String LABEL_FORUM = "Forum";
   public static final String LABEL_TAG = "Tag";
+  public static final String LABEL_PERSON = "Person";
   public static final String LABEL_HAS_MODERATOR = "hasModerator";
   public static final String LABEL_HAS_MEMBER = "hasMember";
 
@@ -17,6 +17,7 @@ package org.gradoop.common.storage.impl.hbase;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.apache.hadoop.conf.Configuration;
 import org.gradoop.GradoopHBaseTestBase;
 import org.gradoop.common.config.GradoopConfig;
 import org.gradoop.common.model.api.entities.EPGMEdge;
@@ -32,16 +33,21 @@ import org.gradoop.common.model.impl.pojo.Vertex;
 import org.gradoop.common.model.impl.pojo.VertexFactory;
 import org.gradoop.common.model.impl.properties.Properties;
 import org.gradoop.common.exceptions.UnsupportedTypeException;
+import org.gradoop.storage.config.GradoopHBaseConfig;
 import org.gradoop.storage.impl.hbase.HBaseEPGMStore;
 import org.gradoop.storage.impl.hbase.api.PersistentEdge;
 import org.gradoop.storage.impl.hbase.api.PersistentGraphHead;
 import org.gradoop.storage.impl.hbase.api.PersistentVertex;
 import org.gradoop.storage.impl.hbase.api.PersistentVertexFactory;
+import org.gradoop.storage.impl.hbase.factory.HBaseEPGMStoreFactory;
 import org.gradoop.storage.impl.hbase.factory.HBaseEdgeFactory;
 import org.gradoop.storage.impl.hbase.factory.HBaseGraphHeadFactory;
 import org.gradoop.storage.impl.hbase.factory.HBaseVertexFactory;
 import org.gradoop.storage.impl.hbase.filter.impl.HBaseLabelIn;
 import org.gradoop.storage.impl.hbase.filter.impl.HBaseLabelReg;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropEquals;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropLargerThan;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropReg;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.common.util.AsciiGraphLoader;
 import org.junit.AfterClass;
@@ -54,6 +60,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.apache.flink.api.java.ExecutionEnvironment.getExecutionEnvironment;
@@ -238,6 +245,52 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     graphStore.close();
   }
 
+  /**
+   * Writes the social network using the bulk write methods and a write buffer which is
+   * smaller than the data, reads it again and checks for element data equality.
+   *
+   * @throws IOException if read to or write from store fails
+   */
+  @Test
+  public void bulkWriteTest() throws IOException {
+    String prefix = "bulk.";
+    Configuration config = utility.getConfiguration();
+    HBaseEPGMStoreFactory.deleteEPGMStore(config, prefix);
+    HBaseEPGMStore graphStore = HBaseEPGMStoreFactory.createOrOpenEPGMStore(config,
+      GradoopHBaseConfig.createConfig(GradoopHBaseConfig.getDefaultConfig(
+        getExecutionEnvironment()), 1024L), prefix);
+
+    List<PersistentVertex<Edge>> vertices =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentVertices());
+    List<PersistentEdge<Vertex>> edges =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentEdges());
+    List<PersistentGraphHead> graphHeads =
+      Lists.newArrayList(GradoopHBaseTestUtils.getSocialPersistentGraphHeads());
+
+    graphStore.writeGraphHeads(graphHeads);
+    graphStore.writeVertices(vertices);
+    graphStore.writeEdges(edges);
+
+    // pending writes are flushed on close
+    graphStore.close();
+    graphStore = openEPGMStore(getExecutionEnvironment(), prefix);
+
+    validateEPGMElementCollections(
+      graphHeads,
+      graphStore.getGraphSpace().readRemainsAndClose()
+    );
+    validateEPGMGraphElementCollections(
+      vertices,
+      graphStore.getVertexSpace().readRemainsAndClose()
+    );
+    validateEPGMGraphElementCollections(
+      edges,
+      graphStore.getEdgeSpace().readRemainsAndClose()
+    );
+
+    graphStore.close();
+  }
+
   /**
    * Tries to add an unsupported property type {@link Set} as property value.
    */
@@ -496,6 +549,82 @@ public class HBaseGraphStoreTest extends GradoopHBaseTestBase {
     validateEPGMElementCollections(testEdges, edgeResult);
   }
 
+  /**
+   * Test the getGraphSpace(), getVertexSpace() and getEdgeSpace() method
+   * with property predicates and their logical composition
+   */
+  @Test
+  public void testGetElementSpaceWithPropertyPredicates() throws IOException {
+    // Extract parts of social graph to filter for
+    List<PersistentGraphHead> testGraphs = new ArrayList<>(getSocialPersistentGraphHeads())
+      .stream()
+      .filter(g -> g.hasProperty("interest") &&
+        g.getPropertyValue("interest").getString().equals("Hadoop"))
+      .collect(Collectors.toList());
+
+    List<PersistentEdge<Vertex>> testEdges = new ArrayList<>(getSocialPersistentEdges())
+      .stream()
+      .filter(e -> e.hasProperty("since") && e.getPropertyValue("since").getInt() == 2014)
+      .collect(Collectors.toList());
+
+    List<PersistentVertex<Edge>> testOldPersons = new ArrayList<>(getSocialPersistentVertices())
+      .stream()
+      .filter(v -> v.getLabel().equals(LABEL_PERSON) && v.getPropertyValue("age").getInt() >= 35)
+      .collect(Collectors.toList());
+
+    List<PersistentVertex<Edge>> testYoungPersons =
+      new ArrayList<>(getSocialPersistentVertices())
+        .stream()
+        .filter(v -> v.getLabel().equals(LABEL_PERSON) && v.getPropertyValue("age").getInt() < 35)
+        .collect(Collectors.toList());
+
+    List<PersistentVertex<Edge>> testNames = new ArrayList<>(getSocialPersistentVertices())
+      .stream()
+      .filter(v -> v.hasProperty("name") &&
+        v.getPropertyValue("name").getString().matches("Alice|G.*"))
+      .collect(Collectors.toList());
+
+    // Query the store
+    List<GraphHead> graphHeadResult = socialNetworkStore.getGraphSpace(
+      Query.elements()
+        .fromAll()
+        .where(new HBasePropEquals<>("interest", "Hadoop")))
+      .readRemainsAndClose();
+
+    List<Edge> edgeResult = socialNetworkStore.getEdgeSpace(
+      Query.elements()
+        .fromAll()
+        .where(new HBasePropEquals<>("since", 2014)))
+      .readRemainsAndClose();
+
+    List<Vertex> oldPersonResult = socialNetworkStore.getVertexSpace(
+      Query.elements()
+        .fromAll()
+        .where(new HBaseLabelIn<Vertex>(LABEL_PERSON)
+          .and(new HBasePropLargerThan<>("age", 35, true))))
+      .readRemainsAndClose();
+
+    List<Vertex> youngPersonResult = socialNetworkStore.getVertexSpace(
+      Query.elements()
+        .fromAll()
+        .where(new HBaseLabelIn<Vertex>(LABEL_PERSON)
+          .and(new HBasePropLargerThan<Vertex>("age", 35, true).negate())))
+      .readRemainsAndClose();
+
+    List<Vertex> nameResult = socialNetworkStore.getVertexSpace(
+      Query.elements()
+        .fromAll()
+        .where(new HBasePropEquals<Vertex>("name", "Alice")
+          .or(new HBasePropReg<>("name", Pattern.compile("G.*")))))
+      .readRemainsAndClose();
+
+    validateEPGMElementCollections(testGraphs, graphHeadResult);
+    validateEPGMElementCollections(testEdges, edgeResult);
+    validateEPGMElementCollections(testOldPersons, oldPersonResult);
+    validateEPGMElementCollections(testYoungPersons, youngPersonResult);
+    validateEPGMElementCollections(testNames, nameResult);
+  }
+
   /**
    * Test the getVertexSpace() method with an id filter predicate
    */
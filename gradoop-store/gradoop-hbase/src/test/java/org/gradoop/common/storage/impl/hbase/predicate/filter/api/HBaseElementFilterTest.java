@@ -15,54 +15,84 @@
  */
 package org.gradoop.common.storage.impl.hbase.predicate.filter.api;
 
-import org.apache.commons.lang.NotImplementedException;
 import org.apache.hadoop.hbase.filter.Filter;
 import org.apache.hadoop.hbase.filter.FilterList;
 import org.gradoop.common.model.api.entities.EPGMElement;
 import org.gradoop.common.model.impl.pojo.Edge;
 import org.gradoop.storage.impl.hbase.filter.api.HBaseElementFilter;
+import org.gradoop.storage.impl.hbase.filter.calculate.AND;
+import org.gradoop.storage.impl.hbase.filter.calculate.NOT;
+import org.gradoop.storage.impl.hbase.filter.calculate.OR;
+import org.gradoop.storage.impl.hbase.filter.server.NotFilter;
 import org.junit.Test;
 
 import javax.annotation.Nonnull;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Test class for the {@link HBaseElementFilter} interface
  */
 public class HBaseElementFilterTest {
 
   /**
-   * Test that calling the 'or' function of an HBaseElementFilter instance throws the
-   * expected NotImplementedException.
+   * Test that calling the 'or' function of an HBaseElementFilter instance creates a
+   * disjunctive filter list.
    */
-  @Test(expected = NotImplementedException.class)
+  @Test
   public void testElementFilterOr() {
     DummyElementFilter<Edge> filter = new DummyElementFilter<>();
     DummyElementFilter<Edge> anotherFilter = new DummyElementFilter<>();
 
-    filter.or(anotherFilter);
+    HBaseElementFilter<Edge> disjunction = filter.or(anotherFilter);
+    assertTrue(disjunction instanceof OR);
+
+    FilterList filterList = (FilterList) disjunction.toHBaseFilter();
+    assertEquals(FilterList.Operator.MUST_PASS_ONE, filterList.getOperator());
+    assertEquals(2, filterList.getFilters().size());
   }
 
   /**
-   * Test that calling the 'and' function of an HBaseElementFilter instance throws the
-   * expected NotImplementedException.
+   * Test that calling the 'and' function of an HBaseElementFilter instance creates a
+   * conjunctive filter list.
    */
-  @Test(expected = NotImplementedException.class)
+  @Test
   public void testElementFilterAnd() {
     DummyElementFilter<Edge> filter = new DummyElementFilter<>();
     DummyElementFilter<Edge> anotherFilter = new DummyElementFilter<>();
 
-    filter.and(anotherFilter);
+    HBaseElementFilter<Edge> conjunction = filter.and(anotherFilter);
+    assertTrue(conjunction instanceof AND);
+
+    FilterList filterList = (FilterList) conjunction.toHBaseFilter();
+    assertEquals(FilterList.Operator.MUST_PASS_ALL, filterList.getOperator());
+    assertEquals(2, filterList.getFilters().size());
   }
 
   /**
-   * Test that calling the 'negate' function of an HBaseElementFilter instance throws the
-   * expected NotImplementedException.
+   * Test that calling the 'negate' function of an HBaseElementFilter instance creates a
+   * negated filter.
    */
-  @Test(expected = NotImplementedException.class)
+  @Test
   public void testElementFilterNegate() {
     DummyElementFilter<Edge> filter = new DummyElementFilter<>();
 
-    filter.negate();
+    HBaseElementFilter<Edge> negation = filter.negate();
+    assertTrue(negation instanceof NOT);
+    assertTrue(negation.toHBaseFilter() instanceof NotFilter);
+  }
+
+  /**
+   * Test that the HBase filter of a negation survives serialization.
+   *
+   * @throws Exception on failure
+   */
+  @Test
+  public void testNotFilterSerialization() throws Exception {
+    NotFilter filter = (NotFilter) new DummyElementFilter<Edge>().negate().toHBaseFilter();
+
+    assertEquals(filter.toString(), NotFilter.parseFrom(filter.toByteArray()).toString());
   }
 
   /**
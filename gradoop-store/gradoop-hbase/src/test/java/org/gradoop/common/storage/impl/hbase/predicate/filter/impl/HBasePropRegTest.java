@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.common.storage.impl.hbase.predicate.filter.impl;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropReg;
+import org.gradoop.storage.impl.hbase.filter.server.PropertyValueFilter;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class for {@link HBasePropReg}
+ */
+public class HBasePropRegTest {
+
+  /**
+   * Test the toHBaseFilter function
+   */
+  @Test
+  public void testToHBaseFilter() {
+    Pattern pattern = Pattern.compile("^A.*");
+    HBasePropReg<Vertex> vertexFilter = new HBasePropReg<>("name", pattern);
+
+    assertEquals(PropertyValueFilter.matches("name", pattern).toString(),
+      vertexFilter.toHBaseFilter().toString());
+  }
+}
@@ -29,6 +29,9 @@ import org.gradoop.storage.impl.hbase.api.PersistentGraphHead;
 import org.gradoop.storage.impl.hbase.api.PersistentVertex;
 import org.gradoop.storage.impl.hbase.filter.impl.HBaseLabelIn;
 import org.gradoop.storage.impl.hbase.filter.impl.HBaseLabelReg;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropEquals;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropLargerThan;
+import org.gradoop.storage.impl.hbase.filter.impl.HBasePropReg;
 import org.gradoop.storage.common.predicate.query.Query;
 import org.gradoop.flink.model.GradoopFlinkTestBase;
 import org.gradoop.flink.model.api.epgm.GraphCollection;
@@ -47,6 +50,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.gradoop.GradoopHBaseTestBase.*;
@@ -318,6 +322,64 @@ public class HBaseDataSinkSourceTest extends GradoopFlinkTestBase {
     validateEPGMGraphElementCollections(testEdges, loadedEdges);
   }
 
+  /**
+   * Test reading a graph collection from {@link HBaseDataSource}
+   * with property predicates on each graph element
+   */
+  @Test
+  public void testReadWithPropertyPredicates() throws Exception {
+    // Extract parts of social graph to filter for
+    List<PersistentGraphHead> testGraphs = new ArrayList<>(getSocialPersistentGraphHeads())
+      .stream()
+      .filter(g -> g.hasProperty("vertexCount") &&
+        g.getPropertyValue("vertexCount").getInt() > 3)
+      .collect(Collectors.toList());
+
+    List<PersistentEdge<Vertex>> testEdges = new ArrayList<>(getSocialPersistentEdges())
+      .stream()
+      .filter(e -> e.hasProperty("since") && e.getPropertyValue("since").getInt() != 2014)
+      .collect(Collectors.toList());
+
+    List<PersistentVertex<Edge>> testVertices = new ArrayList<>(getSocialPersistentVertices())
+      .stream()
+      .filter(v -> v.hasProperty("city") &&
+        v.getPropertyValue("city").getString().startsWith("D"))
+      .collect(Collectors.toList());
+
+    // Define HBase source
+    HBaseDataSource hBaseDataSource = new HBaseDataSource(epgmStore, config);
+
+    // Apply graph predicate
+    hBaseDataSource = hBaseDataSource.applyGraphPredicate(
+      Query.elements().fromAll().where(new HBasePropLargerThan<>("vertexCount", 3, false))
+    );
+
+    // Apply edge predicate
+    hBaseDataSource = hBaseDataSource.applyEdgePredicate(
+      Query.elements().fromAll().where(new HBasePropLargerThan<Edge>("since", 0, true)
+        .and(new HBasePropEquals<Edge>("since", 2014).negate()))
+    );
+
+    // Apply vertex predicate
+    hBaseDataSource = hBaseDataSource.applyVertexPredicate(
+      Query.elements().fromAll().where(new HBasePropReg<>("city", Pattern.compile("D.*")))
+    );
+
+    assertTrue(hBaseDataSource.isFilterPushedDown());
+
+    GraphCollection graphCollection = hBaseDataSource.getGraphCollection();
+
+    Collection<GraphHead> loadedGraphHeads = graphCollection.getGraphHeads().collect();
+    Collection<Vertex> loadedVertices = graphCollection.getVertices().collect();
+    Collection<Edge> loadedEdges = graphCollection.getEdges().collect();
+
+    validateEPGMElementCollections(testGraphs, loadedGraphHeads);
+    validateEPGMElementCollections(testVertices, loadedVertices);
+    validateEPGMGraphElementCollections(testVertices, loadedVertices);
+    validateEPGMElementCollections(testEdges, loadedEdges);
+    validateEPGMGraphElementCollections(testEdges, loadedEdges);
+  }
+
   /**
    * Test reading a graph collection from {@link HBaseDataSource}
    * with a {@link HBaseLabelReg} predicate on each graph element
@@ -0,0 +1,276 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.config;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.impl.pojo.EdgeFactory;
+import org.gradoop.common.model.impl.pojo.GraphHeadFactory;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.storage.common.config.GradoopStoreConfig;
+import org.gradoop.storage.impl.mmap.constants.MMapDefault;
+import org.gradoop.storage.impl.mmap.constants.MMapTables;
+import org.gradoop.storage.impl.mmap.handler.MMapEdgeHandler;
+import org.gradoop.storage.impl.mmap.handler.MMapGraphHandler;
+import org.gradoop.storage.impl.mmap.handler.MMapVertexHandler;
+
+import javax.annotation.Nonnull;
+import java.io.File;
+import java.util.Properties;
+
+/**
+ * Gradoop memory-mapped store configuration define
+ */
+public class GradoopMMapConfig extends
+  GradoopStoreConfig<GraphHeadFactory, VertexFactory, EdgeFactory> {
+
+  /**
+   * local directory holding the segment files, required
+   */
+  public static final String MMAP_DIRECTORY = "mmap.directory";
+
+  /**
+   * table prefix, you can store several graphs in one directory here
+   */
+  public static final String MMAP_TABLE_PREFIX = "mmap.table.prefix";
+
+  /**
+   * capacity of a single segment file in bytes, default 64 MiB
+   */
+  public static final String MMAP_SEGMENT_SIZE = "mmap.segment.size";
+
+  /**
+   * define for serialize version control
+   */
+  private static final int serialVersionUID = 23;
+
+  /**
+   * mmap store properties
+   */
+  private final Properties mmapProperties = new Properties();
+
+  /**
+   * record handler for EPGM GraphHead
+   */
+  private transient MMapGraphHandler graphHandler;
+
+  /**
+   * record handler for EPGM Vertex
+   */
+  private transient MMapVertexHandler vertexHandler;
+
+  /**
+   * record handler for EPGM Edge
+   */
+  private transient MMapEdgeHandler edgeHandler;
+
+  /**
+   * Creates a new Configuration.
+   *
+   * @param graphHandler                graph head handler
+   * @param vertexHandler               vertex handler
+   * @param edgeHandler                 edge handler
+   * @param env                         flink execution environment
+   */
+  private GradoopMMapConfig(
+    MMapGraphHandler graphHandler,
+    MMapVertexHandler vertexHandler,
+    MMapEdgeHandler edgeHandler,
+    ExecutionEnvironment env
+  ) {
+    super(new GraphHeadFactory(), new VertexFactory(), new EdgeFactory(), env);
+    this.graphHandler = graphHandler;
+    this.vertexHandler = vertexHandler;
+    this.edgeHandler = edgeHandler;
+  }
+
+  /**
+   * Creates a new Configuration.
+   *
+   * @param config Gradoop configuration
+   */
+  private GradoopMMapConfig(GradoopMMapConfig config) {
+    this(config.graphHandler, config.vertexHandler, config.edgeHandler,
+      config.getExecutionEnvironment());
+    this.mmapProperties.putAll(config.mmapProperties);
+  }
+
+  /**
+   * Creates a default Configuration using POJO handlers for vertices, edges
+   * and graph heads and default table names.
+   *
+   * @param env apache flink execution environment
+   * @return Default Gradoop memory-mapped store configuration.
+   */
+  public static GradoopMMapConfig getDefaultConfig(
+    ExecutionEnvironment env
+  ) {
+    return new GradoopMMapConfig(
+      new MMapGraphHandler(new GraphHeadFactory()),
+      new MMapVertexHandler(new VertexFactory()),
+      new MMapEdgeHandler(new EdgeFactory()),
+      env);
+  }
+
+  /**
+   * Creates a Gradoop memory-mapped store configuration based on the given arguments.
+   *
+   * @param gradoopConfig   Gradoop configuration
+   * @return Gradoop memory-mapped store configuration
+   */
+  public static GradoopMMapConfig createConfig(@Nonnull GradoopMMapConfig gradoopConfig) {
+    return new GradoopMMapConfig(gradoopConfig);
+  }
+
+  /**
+   * property setter
+   *
+   * @param key property key
+   * @param value property value
+   * @return configure itself
+   */
+  public GradoopMMapConfig set(
+    String key,
+    Object value
+  ) {
+    mmapProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * property value by key
+   *
+   * @param key property key
+   * @param defValue default value
+   * @param <T> value template
+   * @return property value
+   */
+  public <T> T get(
+    String key,
+    T defValue
+  ) {
+    Object value = mmapProperties.get(key);
+    if (value == null) {
+      return defValue;
+    } else {
+      //noinspection unchecked
+      return (T) value;
+    }
+  }
+
+  public Properties getMMapProperties() {
+    return mmapProperties;
+  }
+
+  public MMapGraphHandler getGraphHandler() {
+    return graphHandler;
+  }
+
+  public MMapVertexHandler getVertexHandler() {
+    return vertexHandler;
+  }
+
+  public MMapEdgeHandler getEdgeHandler() {
+    return edgeHandler;
+  }
+
+  /**
+   * Get the directory holding the segment files
+   *
+   * @return store directory
+   * @throws IllegalStateException if {@link #MMAP_DIRECTORY} has not been set
+   */
+  public File getDirectory() {
+    return getDirectory(mmapProperties);
+  }
+
+  /**
+   * Get the capacity of a single segment file
+   *
+   * @return segment size in bytes
+   */
+  public int getSegmentSize() {
+    return getSegmentSize(mmapProperties);
+  }
+
+  /**
+   * Get edge table name
+   *
+   * @return edge table name
+   */
+  public String getEdgeTable() {
+    return getTableName(mmapProperties, MMapTables.EDGE);
+  }
+
+  /**
+   * Get vertex table name
+   *
+   * @return vertex table name
+   */
+  public String getVertexTable() {
+    return getTableName(mmapProperties, MMapTables.VERTEX);
+  }
+
+  /**
+   * Get graph head table name
+   *
+   * @return graph head table name
+   */
+  public String getGraphHeadTable() {
+    return getTableName(mmapProperties, MMapTables.GRAPH);
+  }
+
+  /**
+   * Get the store directory from mmap properties
+   *
+   * @param properties mmap properties
+   * @return store directory
+   * @throws IllegalStateException if {@link #MMAP_DIRECTORY} has not been set
+   */
+  public static File getDirectory(Properties properties) {
+    Object directory = properties.get(MMAP_DIRECTORY);
+    if (directory == null) {
+      throw new IllegalStateException(MMAP_DIRECTORY + " is not set");
+    }
+    return new File(directory.toString());
+  }
+
+  /**
+   * Get the segment size from mmap properties
+   *
+   * @param properties mmap properties
+   * @return segment size in bytes
+   */
+  public static int getSegmentSize(Properties properties) {
+    return (int) properties.getOrDefault(MMAP_SEGMENT_SIZE, MMapDefault.SEGMENT_SIZE);
+  }
+
+  /**
+   * Get a table name by table prefix definition of mmap properties
+   *
+   * @param properties mmap properties
+   * @param table table name without prefix
+   * @return table name
+   */
+  public static String getTableName(Properties properties, String table) {
+    return properties.getOrDefault(MMAP_TABLE_PREFIX, MMapDefault.TABLE_PREFIX) + table;
+  }
+
+  @Override
+  public String toString() {
+    return mmapProperties.toString();
+  }
+
+}
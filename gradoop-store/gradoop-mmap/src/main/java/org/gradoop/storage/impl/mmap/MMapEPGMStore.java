@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap;
+
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMGraphHead;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.storage.common.api.EPGMConfigProvider;
+import org.gradoop.storage.common.api.EPGMGraphInput;
+import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.config.GradoopMMapConfig;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+import org.gradoop.storage.impl.mmap.segment.MMapTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+
+/**
+ * Embedded EPGM graph store, which keeps graph heads, vertices and edges in append-only
+ * memory-mapped segment files of a local directory. It is designed for graphs fitting on a
+ * single machine and needs neither a Hadoop stack nor a running database. A store instance is
+ * the single writer of its tables, it is designed thread-safe.
+ * Store contains instances are divided by {@link GradoopMMapConfig#MMAP_TABLE_PREFIX}
+ *
+ * @see EPGMGraphPredictableOutput
+ */
+public class MMapEPGMStore implements
+  EPGMConfigProvider<GradoopMMapConfig>,
+  EPGMGraphInput<EPGMGraphHead, EPGMVertex, EPGMEdge>,
+  EPGMGraphPredictableOutput<
+    MMapElementFilter<GraphHead>,
+    MMapElementFilter<Vertex>,
+    MMapElementFilter<Edge>> {
+
+  /**
+   * memory-mapped epgm store logger
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(MMapEPGMStore.class);
+
+  /**
+   * gradoop memory-mapped store configuration
+   */
+  private final GradoopMMapConfig config;
+
+  /**
+   * epgm graph head table
+   */
+  private final MMapTable<GraphHead, EPGMGraphHead> graphTable;
+
+  /**
+   * epgm vertex table
+   */
+  private final MMapTable<Vertex, EPGMVertex> vertexTable;
+
+  /**
+   * epgm edge table
+   */
+  private final MMapTable<Edge, EPGMEdge> edgeTable;
+
+  /**
+   * auto flush flag, default false
+   */
+  private volatile boolean autoFlush;
+
+  /**
+   * Creates a MMapEPGMStore based on the given configuration.
+   * Tables with given prefix will be auto-create if not exists, existing tables are indexed
+   * on open.
+   *
+   * @param config memory-mapped store configuration
+   * @throws IOException if the store directory is locked by another writer or could not be mapped
+   */
+  public MMapEPGMStore(@Nonnull GradoopMMapConfig config) throws IOException {
+    this.config = config;
+    this.graphTable = new MMapTable<>(config.getDirectory(), getGraphHeadName(),
+      config.getGraphHandler(), config.getSegmentSize(), true);
+    try {
+      this.vertexTable = new MMapTable<>(config.getDirectory(), getVertexTableName(),
+        config.getVertexHandler(), config.getSegmentSize(), true);
+    } catch (IOException e) {
+      graphTable.close();
+      throw e;
+    }
+    try {
+      this.edgeTable = new MMapTable<>(config.getDirectory(), getEdgeTableName(),
+        config.getEdgeHandler(), config.getSegmentSize(), true);
+    } catch (IOException e) {
+      graphTable.close();
+      vertexTable.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public GradoopMMapConfig getConfig() {
+    return config;
+  }
+
+  @Override
+  public String getVertexTableName() {
+    return config.getVertexTable();
+  }
+
+  @Override
+  public String getEdgeTableName() {
+    return config.getEdgeTable();
+  }
+
+  @Override
+  public String getGraphHeadName() {
+    return config.getGraphHeadTable();
+  }
+
+  @Override
+  public void writeGraphHead(@Nonnull EPGMGraphHead record) throws IOException {
+    graphTable.write(record);
+    if (autoFlush) {
+      graphTable.flush();
+    }
+  }
+
+  @Override
+  public void writeVertex(@Nonnull EPGMVertex record) throws IOException {
+    vertexTable.write(record);
+    if (autoFlush) {
+      vertexTable.flush();
+    }
+  }
+
+  @Override
+  public void writeEdge(@Nonnull EPGMEdge record) throws IOException {
+    edgeTable.write(record);
+    if (autoFlush) {
+      edgeTable.flush();
+    }
+  }
+
+  @Override
+  public void setAutoFlush(boolean autoFlush) {
+    this.autoFlush = autoFlush;
+  }
+
+  @Override
+  public void flush() {
+    graphTable.flush();
+    vertexTable.flush();
+    edgeTable.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    graphTable.close();
+    vertexTable.close();
+    edgeTable.close();
+  }
+
+  @Nullable
+  @Override
+  public GraphHead readGraph(@Nonnull GradoopId graphId) throws IOException {
+    return graphTable.read(graphId);
+  }
+
+  @Nullable
+  @Override
+  public Vertex readVertex(@Nonnull GradoopId vertexId) throws IOException {
+    return vertexTable.read(vertexId);
+  }
+
+  @Nullable
+  @Override
+  public Edge readEdge(@Nonnull GradoopId edgeId) throws IOException {
+    return edgeTable.read(edgeId);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The records are read from the mapped segments on demand, the cache size is ignored.
+   */
+  @Nonnull
+  @Override
+  public ClosableIterator<GraphHead> getGraphSpace(
+    @Nullable ElementQuery<MMapElementFilter<GraphHead>> query,
+    int cacheSize
+  ) {
+    if (query != null) {
+      LOG.info(query.toString());
+    }
+    return graphTable.query(query);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The records are read from the mapped segments on demand, the cache size is ignored.
+   */
+  @Nonnull
+  @Override
+  public ClosableIterator<Vertex> getVertexSpace(
+    @Nullable ElementQuery<MMapElementFilter<Vertex>> query,
+    int cacheSize
+  ) {
+    if (query != null) {
+      LOG.info(query.toString());
+    }
+    return vertexTable.query(query);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The records are read from the mapped segments on demand, the cache size is ignored.
+   */
+  @Nonnull
+  @Override
+  public ClosableIterator<Edge> getEdgeSpace(
+    @Nullable ElementQuery<MMapElementFilter<Edge>> query,
+    int cacheSize
+  ) {
+    if (query != null) {
+      LOG.info(query.toString());
+    }
+    return edgeTable.query(query);
+  }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.constants;
+
+/**
+ * Gradoop memory-mapped store default configuration values
+ */
+public class MMapDefault {
+
+  /**
+   * gradoop mmap table prefix
+   */
+  public static final String TABLE_PREFIX = "";
+
+  /**
+   * capacity of a single segment file in bytes, 64 MiB
+   */
+  public static final int SEGMENT_SIZE = 64 << 20;
+
+}
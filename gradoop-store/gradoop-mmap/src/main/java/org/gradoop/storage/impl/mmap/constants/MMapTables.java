@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.constants;
+
+/**
+ * Gradoop memory-mapped store table and file name definitions
+ */
+public class MMapTables {
+
+  /**
+   * graph head table name
+   */
+  public static final String GRAPH = "graph";
+
+  /**
+   * vertex table name
+   */
+  public static final String VERTEX = "vertex";
+
+  /**
+   * edge table name
+   */
+  public static final String EDGE = "edge";
+
+  /**
+   * suffix of segment files, e.g. {@code vertex-00000.seg}
+   */
+  public static final String SEGMENT_SUFFIX = ".seg";
+
+  /**
+   * suffix of the lock file held by the single writer of a table
+   */
+  public static final String LOCK_SUFFIX = ".lock";
+
+}
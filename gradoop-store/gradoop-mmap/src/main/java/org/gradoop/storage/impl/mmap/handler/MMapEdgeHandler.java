@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.handler;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMEdgeFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+
+import java.io.IOException;
+
+/**
+ * Memory-mapped edge record handler. An edge body contains its source and target vertex id,
+ * its graph ids and properties.
+ */
+public class MMapEdgeHandler implements MMapRecordHandler<Edge, EPGMEdge> {
+
+  /**
+   * serialize version
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * edge factory
+   */
+  private final EPGMEdgeFactory<Edge> factory;
+
+  /**
+   * edge handler constructor
+   *
+   * @param factory edge factory
+   */
+  public MMapEdgeHandler(EPGMEdgeFactory<Edge> factory) {
+    this.factory = factory;
+  }
+
+  @Override
+  public void writeRecord(
+    DataOutputView out,
+    EPGMEdge record
+  ) throws IOException {
+    record.getSourceId().write(out);
+    record.getTargetId().write(out);
+    writeGraphIds(out, record.getGraphIds());
+    writeProperties(out, record.getProperties());
+  }
+
+  @Override
+  public Edge readRecord(
+    GradoopId id,
+    String label,
+    DataInputView in
+  ) throws IOException {
+    GradoopId sourceId = new GradoopId();
+    sourceId.read(in);
+    GradoopId targetId = new GradoopId();
+    targetId.read(in);
+    GradoopIdSet graphIds = readGraphIds(in);
+    return factory.initEdge(id, label, sourceId, targetId, readProperties(in), graphIds);
+  }
+
+}
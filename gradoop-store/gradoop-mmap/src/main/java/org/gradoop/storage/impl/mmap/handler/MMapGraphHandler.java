@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.handler;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.EPGMGraphHead;
+import org.gradoop.common.model.api.entities.EPGMGraphHeadFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+
+import java.io.IOException;
+
+/**
+ * Memory-mapped graph head record handler. A graph head body only contains its properties.
+ */
+public class MMapGraphHandler implements MMapRecordHandler<GraphHead, EPGMGraphHead> {
+
+  /**
+   * serialize version
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * graph head factory
+   */
+  private final EPGMGraphHeadFactory<GraphHead> factory;
+
+  /**
+   * graph head handler constructor
+   *
+   * @param factory graph head factory
+   */
+  public MMapGraphHandler(EPGMGraphHeadFactory<GraphHead> factory) {
+    this.factory = factory;
+  }
+
+  @Override
+  public void writeRecord(
+    DataOutputView out,
+    EPGMGraphHead record
+  ) throws IOException {
+    writeProperties(out, record.getProperties());
+  }
+
+  @Override
+  public GraphHead readRecord(
+    GradoopId id,
+    String label,
+    DataInputView in
+  ) throws IOException {
+    return factory.initGraphHead(id, label, readProperties(in));
+  }
+
+}
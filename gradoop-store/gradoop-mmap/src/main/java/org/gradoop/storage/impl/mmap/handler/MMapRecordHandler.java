@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.handler;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.properties.Properties;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Writes and reads the element specific body of a segment record. Element id and label are
+ * part of the record header, which is handled by the table itself.
+ *
+ * @param <R> element type read from store
+ * @param <W> element type written to store
+ */
+public interface MMapRecordHandler<R extends EPGMElement, W extends EPGMElement>
+  extends Serializable {
+
+  /**
+   * write element body to record
+   *
+   * @param out record output
+   * @param record EPGMElement to be write
+   * @throws IOException on serialization failure
+   */
+  void writeRecord(
+    DataOutputView out,
+    W record
+  ) throws IOException;
+
+  /**
+   * read element from record body
+   *
+   * @param id element id from record header
+   * @param label element label from record header
+   * @param in record body input
+   * @return epgm element
+   * @throws IOException on deserialization failure
+   */
+  R readRecord(
+    GradoopId id,
+    String label,
+    DataInputView in
+  ) throws IOException;
+
+  /**
+   * write nullable element properties
+   *
+   * @param out record output
+   * @param properties element properties
+   * @throws IOException on serialization failure
+   */
+  default void writeProperties(
+    DataOutputView out,
+    Properties properties
+  ) throws IOException {
+    out.writeBoolean(properties != null);
+    if (properties != null) {
+      properties.write(out);
+    }
+  }
+
+  /**
+   * read nullable element properties
+   *
+   * @param in record input
+   * @return element properties
+   * @throws IOException on deserialization failure
+   */
+  default Properties readProperties(DataInputView in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    Properties properties = Properties.create();
+    properties.read(in);
+    return properties;
+  }
+
+  /**
+   * write nullable graph id set
+   *
+   * @param out record output
+   * @param graphIds graph ids
+   * @throws IOException on serialization failure
+   */
+  default void writeGraphIds(
+    DataOutputView out,
+    GradoopIdSet graphIds
+  ) throws IOException {
+    out.writeBoolean(graphIds != null);
+    if (graphIds != null) {
+      graphIds.write(out);
+    }
+  }
+
+  /**
+   * read nullable graph id set
+   *
+   * @param in record input
+   * @return graph ids
+   * @throws IOException on deserialization failure
+   */
+  default GradoopIdSet readGraphIds(DataInputView in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    GradoopIdSet graphIds = new GradoopIdSet();
+    graphIds.read(in);
+    return graphIds;
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.handler;
+
+import org.apache.flink.core.memory.DataInputView;
+import org.apache.flink.core.memory.DataOutputView;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.api.entities.EPGMVertexFactory;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Vertex;
+
+import java.io.IOException;
+
+/**
+ * Memory-mapped vertex record handler. A vertex body contains its graph ids and properties.
+ */
+public class MMapVertexHandler implements MMapRecordHandler<Vertex, EPGMVertex> {
+
+  /**
+   * serialize version
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * vertex factory
+   */
+  private final EPGMVertexFactory<Vertex> factory;
+
+  /**
+   * vertex handler constructor
+   *
+   * @param factory vertex factory
+   */
+  public MMapVertexHandler(EPGMVertexFactory<Vertex> factory) {
+    this.factory = factory;
+  }
+
+  @Override
+  public void writeRecord(
+    DataOutputView out,
+    EPGMVertex record
+  ) throws IOException {
+    writeGraphIds(out, record.getGraphIds());
+    writeProperties(out, record.getProperties());
+  }
+
+  @Override
+  public Vertex readRecord(
+    GradoopId id,
+    String label,
+    DataInputView in
+  ) throws IOException {
+    GradoopIdSet graphIds = readGraphIds(in);
+    return factory.initVertex(id, label, readProperties(in), graphIds);
+  }
+
+}
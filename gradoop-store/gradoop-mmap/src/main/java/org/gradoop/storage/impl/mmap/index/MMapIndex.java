@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.index;
+
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+import org.gradoop.storage.impl.mmap.predicate.filter.calculate.AND;
+import org.gradoop.storage.impl.mmap.predicate.filter.calculate.OR;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapLabelIn;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapLabelReg;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory index of a memory-mapped table. Each record gets an ordinal in append order.
+ * The index maps element ids to the ordinal of their latest record and keeps a bitmap of
+ * ordinals per label.
+ *
+ * An index is not thread-safe, access is synchronized by its table.
+ */
+public class MMapIndex {
+
+  /**
+   * initial capacity of the position array
+   */
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /**
+   * ordinal of the latest record by element id
+   */
+  private final Map<GradoopId, Integer> ordinals = new HashMap<>();
+
+  /**
+   * record ordinals by element label
+   */
+  private final Map<String, BitSet> labels = new HashMap<>();
+
+  /**
+   * ordinals of records, which are not shadowed by a later record of the same element
+   */
+  private final BitSet live = new BitSet();
+
+  /**
+   * record position by ordinal
+   */
+  private long[] positions = new long[INITIAL_CAPACITY];
+
+  /**
+   * number of indexed records
+   */
+  private int size;
+
+  /**
+   * Add a record to the index. A former record of the same element is shadowed.
+   *
+   * @param id element id
+   * @param label element label
+   * @param position record position
+   * @return record ordinal
+   */
+  public int add(
+    @Nonnull GradoopId id,
+    @Nullable String label,
+    long position
+  ) {
+    if (size == positions.length) {
+      positions = Arrays.copyOf(positions, size << 1);
+    }
+    int ordinal = size++;
+    positions[ordinal] = position;
+    Integer former = ordinals.put(id, ordinal);
+    if (former != null) {
+      live.clear(former);
+    }
+    live.set(ordinal);
+    if (label != null) {
+      labels.computeIfAbsent(label, key -> new BitSet()).set(ordinal);
+    }
+    return ordinal;
+  }
+
+  /**
+   * Get the number of indexed records
+   *
+   * @return number of records
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get the position of a record
+   *
+   * @param ordinal record ordinal
+   * @return record position
+   */
+  public long getPosition(int ordinal) {
+    return positions[ordinal];
+  }
+
+  /**
+   * Get the ordinal of the latest record of an element
+   *
+   * @param id element id
+   * @return record ordinal, null if the element is unknown
+   */
+  @Nullable
+  public Integer getOrdinal(@Nonnull GradoopId id) {
+    return ordinals.get(id);
+  }
+
+  /**
+   * Get the ordinals of all records, which may satisfy the given query. Id ranges and label
+   * predicates are answered by the index, all other predicates have to be evaluated on the
+   * records.
+   *
+   * @param query element query, null for all elements
+   * @return candidate record ordinals
+   */
+  @Nonnull
+  public BitSet candidates(@Nullable ElementQuery<? extends MMapElementFilter<?>> query) {
+    BitSet result = (BitSet) live.clone();
+    if (query == null) {
+      return result;
+    }
+    if (query.getQueryRanges() != null) {
+      BitSet range = new BitSet();
+      for (GradoopId id : query.getQueryRanges()) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal != null) {
+          range.set(ordinal);
+        }
+      }
+      result.and(range);
+    }
+    if (query.getFilterPredicate() != null) {
+      BitSet filtered = resolve(query.getFilterPredicate());
+      if (filtered != null) {
+        result.and(filtered);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Resolve a filter to a superset of the record ordinals satisfying it.
+   * Label predicates are resolved by label bitmaps, a conjunction is resolved by the
+   * intersection of its resolvable parts, a disjunction only if all of its parts are resolvable.
+   *
+   * @param filter element filter
+   * @return candidate ordinals, null if the filter is not resolvable by this index
+   */
+  @Nullable
+  private BitSet resolve(@Nonnull MMapElementFilter<?> filter) {
+    if (filter instanceof MMapLabelIn) {
+      BitSet result = new BitSet();
+      for (String label : ((MMapLabelIn<?>) filter).getLabels()) {
+        BitSet ordinalsOfLabel = labels.get(label);
+        if (ordinalsOfLabel != null) {
+          result.or(ordinalsOfLabel);
+        }
+      }
+      return result;
+    } else if (filter instanceof MMapLabelReg) {
+      BitSet result = new BitSet();
+      for (Map.Entry<String, BitSet> entry : labels.entrySet()) {
+        if (((MMapLabelReg<?>) filter).getReg().matcher(entry.getKey()).matches()) {
+          result.or(entry.getValue());
+        }
+      }
+      return result;
+    } else if (filter instanceof AND) {
+      BitSet result = null;
+      for (MMapElementFilter<?> predicate : ((AND<?>) filter).getPredicates()) {
+        BitSet resolved = resolve(predicate);
+        if (resolved == null) {
+          continue;
+        }
+        if (result == null) {
+          result = resolved;
+        } else {
+          result.and(resolved);
+        }
+      }
+      return result;
+    } else if (filter instanceof OR) {
+      BitSet result = new BitSet();
+      for (MMapElementFilter<?> predicate : ((OR<?>) filter).getPredicates()) {
+        BitSet resolved = resolve(predicate);
+        if (resolved == null) {
+          return null;
+        }
+        result.or(resolved);
+      }
+      return result;
+    } else {
+      return null;
+    }
+  }
+
+}
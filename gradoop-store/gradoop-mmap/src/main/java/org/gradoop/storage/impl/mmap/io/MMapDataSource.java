@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.io;
+
+import org.apache.flink.api.java.ExecutionEnvironment;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.flink.model.api.epgm.GraphCollectionFactory;
+import org.gradoop.flink.model.api.epgm.LogicalGraph;
+import org.gradoop.flink.model.impl.operators.combination.ReduceCombination;
+import org.gradoop.storage.common.io.FilterableDataSource;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.config.GradoopMMapConfig;
+import org.gradoop.storage.impl.mmap.MMapEPGMStore;
+import org.gradoop.storage.impl.mmap.io.inputformats.EdgeInputFormat;
+import org.gradoop.storage.impl.mmap.io.inputformats.GraphHeadInputFormat;
+import org.gradoop.storage.impl.mmap.io.inputformats.VertexInputFormat;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Read logic graph or graph collection from a memory-mapped store
+ *
+ * The input formats map the segment files read only, thus only records flushed by the store
+ * before the job is executed are read.
+ */
+public class MMapDataSource implements FilterableDataSource<
+  ElementQuery<MMapElementFilter<GraphHead>>,
+  ElementQuery<MMapElementFilter<Vertex>>,
+  ElementQuery<MMapElementFilter<Edge>>> {
+
+  /**
+   * memory-mapped store
+   */
+  private final MMapEPGMStore store;
+
+  /**
+   * graph head filter
+   */
+  private final ElementQuery<MMapElementFilter<GraphHead>> graphHeadQuery;
+
+  /**
+   * vertex filter
+   */
+  private final ElementQuery<MMapElementFilter<Vertex>> vertexQuery;
+
+  /**
+   * edge filter
+   */
+  private final ElementQuery<MMapElementFilter<Edge>> edgeQuery;
+
+  /**
+   * Creates a new memory-mapped data source.
+   *
+   * @param store memory-mapped epgm store
+   */
+  public MMapDataSource(@Nonnull MMapEPGMStore store) {
+    this(store, null, null, null);
+  }
+
+  /**
+   * Creates a new memory-mapped data source.
+   *
+   * @param store memory-mapped epgm store
+   * @param graphQuery graph head filter
+   * @param vertexQuery vertex filter
+   * @param edgeQuery edge filter
+   */
+  private MMapDataSource(
+    @Nonnull MMapEPGMStore store,
+    @Nullable ElementQuery<MMapElementFilter<GraphHead>> graphQuery,
+    @Nullable ElementQuery<MMapElementFilter<Vertex>> vertexQuery,
+    @Nullable ElementQuery<MMapElementFilter<Edge>> edgeQuery
+  ) {
+    this.store = store;
+    this.graphHeadQuery = graphQuery;
+    this.vertexQuery = vertexQuery;
+    this.edgeQuery = edgeQuery;
+  }
+
+  @Override
+  public LogicalGraph getLogicalGraph() {
+    return getGraphCollection().reduce(new ReduceCombination());
+  }
+
+  @Override
+  public GraphCollection getGraphCollection() {
+    GradoopMMapConfig config = store.getConfig();
+    GraphCollectionFactory factory = config.getGraphCollectionFactory();
+    ExecutionEnvironment env = config.getExecutionEnvironment();
+    return factory.fromDataSets(
+      /*graph head format*/
+      env.createInput(new GraphHeadInputFormat(config.getMMapProperties(), graphHeadQuery)),
+      /*vertex input format*/
+      env.createInput(new VertexInputFormat(config.getMMapProperties(), vertexQuery)),
+      /*edge input format*/
+      env.createInput(new EdgeInputFormat(config.getMMapProperties(), edgeQuery)));
+  }
+
+  @Nonnull
+  @Override
+  public MMapDataSource applyGraphPredicate(
+    @Nonnull ElementQuery<MMapElementFilter<GraphHead>> query
+  ) {
+    return new MMapDataSource(store, query, vertexQuery, edgeQuery);
+  }
+
+  @Nonnull
+  @Override
+  public MMapDataSource applyVertexPredicate(
+    @Nonnull ElementQuery<MMapElementFilter<Vertex>> query
+  ) {
+    return new MMapDataSource(store, graphHeadQuery, query, edgeQuery);
+  }
+
+  @Nonnull
+  @Override
+  public MMapDataSource applyEdgePredicate(
+    @Nonnull ElementQuery<MMapElementFilter<Edge>> query
+  ) {
+    return new MMapDataSource(store, graphHeadQuery, vertexQuery, query);
+  }
+
+  @Override
+  public boolean isFilterPushedDown() {
+    return this.graphHeadQuery != null ||
+      this.vertexQuery != null ||
+      this.edgeQuery != null;
+  }
+
+}
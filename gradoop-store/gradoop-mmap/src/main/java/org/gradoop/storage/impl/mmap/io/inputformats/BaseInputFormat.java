@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.io.inputformats;
+
+import org.apache.flink.api.common.io.DefaultInputSplitAssigner;
+import org.apache.flink.api.common.io.RichInputFormat;
+import org.apache.flink.api.common.io.statistics.BaseStatistics;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.io.InputSplitAssigner;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.pojo.Element;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.config.GradoopMMapConfig;
+import org.gradoop.storage.impl.mmap.handler.MMapRecordHandler;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+import org.gradoop.storage.impl.mmap.segment.MMapTable;
+import org.gradoop.storage.impl.mmap.segment.MMapTableSplit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Common input format for gradoop elements of a memory-mapped store. The table index is built
+ * once, when the input splits are created. Each split is a range of consecutive records with
+ * about the same number of query candidates. Each parallel instance maps and indexes the
+ * segment files of its split read only, thus records are decoded directly from the page cache.
+ *
+ * @param <T> element type
+ */
+public abstract class BaseInputFormat<T extends Element>
+  extends RichInputFormat<T, MMapInputSplit> {
+
+  /**
+   * serialize id
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * mmap properties
+   */
+  private final Properties properties;
+
+  /**
+   * element query, null for all elements
+   */
+  private final ElementQuery<MMapElementFilter<T>> query;
+
+  /**
+   * read only table
+   */
+  private transient MMapTable<T, ?> table;
+
+  /**
+   * element iterator of the current split
+   */
+  private transient ClosableIterator<T> iterator;
+
+  /**
+   * Create a new input format for gradoop element
+   *
+   * @param properties mmap properties
+   * @param query element query
+   */
+  BaseInputFormat(
+    Properties properties,
+    ElementQuery<MMapElementFilter<T>> query
+  ) {
+    this.properties = properties;
+    this.query = query;
+  }
+
+  /**
+   * Get the table name without prefix
+   *
+   * @return table name
+   */
+  protected abstract String getTableName();
+
+  /**
+   * Create the record handler of the table
+   *
+   * @return record handler
+   */
+  protected abstract MMapRecordHandler<T, ?> createHandler();
+
+  @Override
+  public void configure(Configuration parameters) {
+    //do nothing
+  }
+
+  @Override
+  public BaseStatistics getStatistics(BaseStatistics cachedStatistics) {
+    return cachedStatistics;
+  }
+
+  @Override
+  public MMapInputSplit[] createInputSplits(int minNumSplits) throws IOException {
+    List<MMapTableSplit> tableSplits;
+    try (MMapTable<T, ?> indexed = openTable(createHandler(), null)) {
+      tableSplits = indexed.split(query, minNumSplits);
+    }
+    MMapInputSplit[] splits = new MMapInputSplit[tableSplits.size()];
+    for (int i = 0; i < splits.length; i++) {
+      splits[i] = new MMapInputSplit(i, tableSplits.get(i));
+    }
+    return splits;
+  }
+
+  @Override
+  public InputSplitAssigner getInputSplitAssigner(MMapInputSplit[] inputSplits) {
+    return new DefaultInputSplitAssigner(inputSplits);
+  }
+
+  @Override
+  public void open(MMapInputSplit split) throws IOException {
+    table = openTable(createHandler(), split.getTableSplit());
+    iterator = table.query(split.getTableSplit(), query);
+  }
+
+  @Override
+  public boolean reachedEnd() {
+    return !iterator.hasNext();
+  }
+
+  @Override
+  public T nextRecord(T reuse) {
+    return iterator.next();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (iterator != null) {
+      iterator.close();
+      iterator = null;
+    }
+    if (table != null) {
+      table.close();
+      table = null;
+    }
+  }
+
+  /**
+   * Open the table read only
+   *
+   * @param handler record handler
+   * @param split table split, null to open and index the whole table
+   * @param <W> element type written to table
+   * @return read only table
+   * @throws IOException if the table could not be mapped
+   */
+  @Nonnull
+  private <W extends EPGMElement> MMapTable<T, W> openTable(
+    @Nonnull MMapRecordHandler<T, W> handler,
+    @Nullable MMapTableSplit split
+  ) throws IOException {
+    File directory = GradoopMMapConfig.getDirectory(properties);
+    String name = GradoopMMapConfig.getTableName(properties, getTableName());
+    int segmentSize = GradoopMMapConfig.getSegmentSize(properties);
+    return split == null ?
+      new MMapTable<>(directory, name, handler, segmentSize, false) :
+      new MMapTable<>(directory, name, handler, segmentSize, split);
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.io.inputformats;
+
+import org.apache.flink.core.io.InputSplit;
+import org.gradoop.storage.impl.mmap.segment.MMapTableSplit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Input split of a memory-mapped table
+ */
+public class MMapInputSplit implements InputSplit {
+
+  /**
+   * serialize id
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * split number
+   */
+  private final int splitNumber;
+
+  /**
+   * table split
+   */
+  private final MMapTableSplit tableSplit;
+
+  /**
+   * memory-mapped input split constructor
+   *
+   * @param splitNumber split number
+   * @param tableSplit table split
+   */
+  MMapInputSplit(
+    int splitNumber,
+    @Nonnull MMapTableSplit tableSplit
+  ) {
+    this.splitNumber = splitNumber;
+    this.tableSplit = tableSplit;
+  }
+
+  @Override
+  public int getSplitNumber() {
+    return splitNumber;
+  }
+
+  /**
+   * Get the table split
+   *
+   * @return table split
+   */
+  @Nonnull
+  MMapTableSplit getTableSplit() {
+    return tableSplit;
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.io.inputformats;
+
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.impl.mmap.constants.MMapTables;
+import org.gradoop.storage.impl.mmap.handler.MMapVertexHandler;
+import org.gradoop.storage.impl.mmap.handler.MMapRecordHandler;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Properties;
+
+/**
+ * Vertex input format for a memory-mapped store
+ */
+public class VertexInputFormat extends BaseInputFormat<Vertex> {
+
+  /**
+   * serialize id
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * vertex input format constructor
+   *
+   * @param properties mmap properties
+   * @param query vertex query
+   */
+  public VertexInputFormat(
+    @Nonnull Properties properties,
+    @Nullable ElementQuery<MMapElementFilter<Vertex>> query
+  ) {
+    super(properties, query);
+  }
+
+  @Override
+  protected String getTableName() {
+    return MMapTables.VERTEX;
+  }
+
+  @Override
+  protected MMapRecordHandler<Vertex, ?> createHandler() {
+    return new MMapVertexHandler(new VertexFactory());
+  }
+
+}
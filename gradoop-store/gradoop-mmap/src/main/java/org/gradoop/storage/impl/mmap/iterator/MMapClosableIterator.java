@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.iterator;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.storage.common.api.EPGMGraphOutput;
+import org.gradoop.storage.common.api.EPGMGraphPredictableOutput;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+import org.gradoop.storage.impl.mmap.segment.MMapTable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Memory-mapped closable iterator.
+ * Iterates the candidate records of a table query, which have been determined by the table
+ * index. Each candidate is decoded from its mapped segment, tested against the filter predicate
+ * and trimmed to the projected properties.
+ *
+ * @param <R> EPGM Element type for reading result
+ * @see EPGMGraphOutput
+ * @see EPGMGraphPredictableOutput
+ */
+public class MMapClosableIterator<R extends EPGMElement> implements ClosableIterator<R> {
+
+  /**
+   * queried table
+   */
+  private final MMapTable<R, ?> table;
+
+  /**
+   * candidate record ordinals
+   */
+  private final BitSet candidates;
+
+  /**
+   * end of the iterated ordinal range, exclusive
+   */
+  private final int to;
+
+  /**
+   * filter predicate, null for all candidates
+   */
+  private final MMapElementFilter<R> filter;
+
+  /**
+   * projected property keys, null for all properties
+   */
+  private final Set<String> projection;
+
+  /**
+   * ordinal of the next candidate to be read
+   */
+  private int cursor;
+
+  /**
+   * prefetched next element
+   */
+  private R nextElement;
+
+  /**
+   * memory-mapped closable iterator constructor
+   *
+   * @param table queried table
+   * @param candidates candidate record ordinals
+   * @param from start of the iterated ordinal range, inclusive
+   * @param to end of the iterated ordinal range, exclusive
+   * @param filter filter predicate
+   * @param projection projected property keys
+   */
+  public MMapClosableIterator(
+    @Nonnull MMapTable<R, ?> table,
+    @Nonnull BitSet candidates,
+    int from,
+    int to,
+    @Nullable MMapElementFilter<R> filter,
+    @Nullable Set<String> projection
+  ) {
+    this.table = table;
+    this.candidates = candidates;
+    this.cursor = from;
+    this.to = to;
+    this.filter = filter;
+    this.projection = projection;
+  }
+
+  @Override
+  public void close() {
+    cursor = to;
+    nextElement = null;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (nextElement == null && cursor < to) {
+      cursor = candidates.nextSetBit(cursor);
+      if (cursor < 0 || cursor >= to) {
+        cursor = to;
+        break;
+      }
+      R element;
+      try {
+        element = table.read(cursor++);
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+      if (filter == null || filter.test(element)) {
+        nextElement = project(element);
+      }
+    }
+    return nextElement != null;
+  }
+
+  @Override
+  public R next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    R result = nextElement;
+    nextElement = null;
+    return result;
+  }
+
+  /**
+   * Trim an element to the projected properties
+   *
+   * @param element decoded element
+   * @return projected element
+   */
+  @Nonnull
+  private R project(@Nonnull R element) {
+    if (projection != null && element.getProperties() != null) {
+      Properties projected = Properties.createWithCapacity(projection.size());
+      for (String key : projection) {
+        if (element.hasProperty(key)) {
+          projected.set(key, element.getPropertyValue(key));
+        }
+      }
+      element.setProperties(projected);
+    }
+    return element;
+  }
+
+}
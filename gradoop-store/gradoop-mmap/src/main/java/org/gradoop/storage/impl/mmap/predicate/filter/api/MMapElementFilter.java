@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.predicate.filter.api;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.common.predicate.filter.api.ElementFilter;
+import org.gradoop.storage.impl.mmap.index.MMapIndex;
+import org.gradoop.storage.impl.mmap.predicate.filter.calculate.AND;
+import org.gradoop.storage.impl.mmap.predicate.filter.calculate.NOT;
+import org.gradoop.storage.impl.mmap.predicate.filter.calculate.OR;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.Predicate;
+
+/**
+ * Memory-mapped store element filter. Label predicates are answered by the label bitmaps of
+ * the table index first, the whole predicate is evaluated on each remaining record.
+ *
+ * @param <T> epgm element type
+ * @see MMapIndex
+ */
+public interface MMapElementFilter<T extends EPGMElement>
+  extends Predicate<T>, ElementFilter<MMapElementFilter<T>>, Serializable {
+
+  /**
+   * disjunctive operator
+   *
+   * @param another another reduce filter
+   * @return conjunctive logic filter
+   */
+  @Nonnull
+  default MMapElementFilter<T> or(@Nonnull MMapElementFilter<T> another) {
+    return OR.create(this, another);
+  }
+
+  /**
+   * conjunctive operator
+   *
+   * @param another another reduce filter
+   * @return conjunctive logic filter
+   */
+  @Nonnull
+  default MMapElementFilter<T> and(@Nonnull MMapElementFilter<T> another) {
+    return AND.create(this, another);
+  }
+
+  /**
+   * negative operator
+   * @return negative logic for current filter
+   */
+  @Nonnull
+  default MMapElementFilter<T> negate() {
+    return NOT.of(this);
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.predicate.filter.impl;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.common.predicate.filter.impl.LabelIn;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+
+import java.util.Set;
+
+/**
+ * Memory-mapped store label equality predicate implement
+ *
+ * @param <T> EPGM element type
+ */
+public class MMapLabelIn<T extends EPGMElement>
+  extends LabelIn<MMapElementFilter<T>>
+  implements MMapElementFilter<T> {
+
+  /**
+   * Create a new label equality filter
+   *
+   * @param labels label
+   */
+  public MMapLabelIn(String... labels) {
+    super(labels);
+  }
+
+  @Override
+  public Set<String> getLabels() {
+    return super.getLabels();
+  }
+
+  @Override
+  public boolean test(T t) {
+    return t.getLabel() != null && getLabels().contains(t.getLabel());
+  }
+
+}
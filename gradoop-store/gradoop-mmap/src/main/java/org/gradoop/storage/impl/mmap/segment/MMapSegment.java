@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.segment;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only segment file, which is mapped into memory as a whole.
+ *
+ * A segment is a sequence of length prefixed records, a record length of zero marks the end
+ * of the written data. The body of a record is written before its length, thus readers of the
+ * writing process never see a partially written record. This ordering is not guaranteed for
+ * other processes or for the file on the storage device: the mapped pages may be written back
+ * in any order, so a segment whose writer did not {@link #force()} its records before it
+ * terminated may end with a partially written record.
+ */
+public class MMapSegment implements Closeable {
+
+  /**
+   * size of the record length prefix
+   */
+  public static final int LENGTH_SIZE = Integer.BYTES;
+
+  /**
+   * file channel of the segment file
+   */
+  private final FileChannel channel;
+
+  /**
+   * memory mapped segment content
+   */
+  private final MappedByteBuffer buffer;
+
+  /**
+   * mapped capacity in bytes
+   */
+  private final int capacity;
+
+  /**
+   * end of the written records
+   */
+  private int limit;
+
+  /**
+   * Creates a segment and determines the end of its written records.
+   *
+   * @param channel segment file channel
+   * @param buffer mapped segment content
+   */
+  private MMapSegment(
+    @Nonnull FileChannel channel,
+    @Nonnull MappedByteBuffer buffer
+  ) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.capacity = buffer.capacity();
+    int length;
+    while ((length = recordLength(limit)) > 0) {
+      limit += LENGTH_SIZE + length;
+    }
+  }
+
+  /**
+   * Map a segment file into memory. A writable segment file will be created and extended to
+   * the given capacity, a read only segment file is mapped with its current size.
+   *
+   * @param file segment file
+   * @param capacity segment capacity in bytes, used for writable segments only
+   * @param writable open the segment for appending
+   * @return mapped segment
+   * @throws IOException if the file could not be mapped
+   */
+  @Nonnull
+  public static MMapSegment open(
+    @Nonnull File file,
+    int capacity,
+    boolean writable
+  ) throws IOException {
+    FileChannel channel = writable ?
+      FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE) :
+      FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      long size = writable ? Math.max(capacity, channel.size()) : channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException(String.format("segment %s is larger than 2 GiB", file));
+      }
+      MappedByteBuffer buffer = channel.map(
+        writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+      return new MMapSegment(channel, buffer);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Get the end of the written records, this is the offset of the next appended record
+   *
+   * @return end of written records
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Get the length of the record at the given offset
+   *
+   * @param offset record offset
+   * @return record length, 0 if there is no record at the given offset
+   */
+  public int recordLength(int offset) {
+    return offset + LENGTH_SIZE > capacity ? 0 : buffer.getInt(offset);
+  }
+
+  /**
+   * Get a view of the record at the given offset. The view shares the mapped memory,
+   * thus no record content is copied.
+   *
+   * @param offset record offset
+   * @return record view, positioned at the start of the record
+   */
+  @Nonnull
+  public ByteBuffer record(int offset) {
+    ByteBuffer record = buffer.duplicate();
+    record.position(offset + LENGTH_SIZE);
+    record.limit(offset + LENGTH_SIZE + recordLength(offset));
+    return record.slice();
+  }
+
+  /**
+   * Append a record to the segment
+   *
+   * @param content record content
+   * @param length record length
+   * @return offset of the appended record, -1 if the record does not fit into this segment
+   */
+  public int append(
+    @Nonnull byte[] content,
+    int length
+  ) {
+    if ((long) limit + LENGTH_SIZE + length > capacity) {
+      return -1;
+    }
+    ByteBuffer target = buffer.duplicate();
+    target.position(limit + LENGTH_SIZE);
+    target.put(content, 0, length);
+    buffer.putInt(limit, length);
+    int offset = limit;
+    limit += LENGTH_SIZE + length;
+    return offset;
+  }
+
+  /**
+   * Force written records to the storage device. Records appended before this call are
+   * completely written to the segment file when it returns.
+   */
+  public void force() {
+    buffer.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+}
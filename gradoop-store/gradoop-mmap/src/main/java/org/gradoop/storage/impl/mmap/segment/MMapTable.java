@@ -0,0 +1,512 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.segment;
+
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.storage.common.iterator.ClosableIterator;
+import org.gradoop.storage.common.iterator.EmptyClosableIterator;
+import org.gradoop.storage.common.predicate.query.ElementQuery;
+import org.gradoop.storage.impl.mmap.constants.MMapTables;
+import org.gradoop.storage.impl.mmap.handler.MMapRecordHandler;
+import org.gradoop.storage.impl.mmap.index.MMapIndex;
+import org.gradoop.storage.impl.mmap.iterator.MMapClosableIterator;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A table of one EPGM element type, stored in a sequence of append-only segment files, which
+ * are named by table and sequence number, e.g. {@code vertex-00000.seg}. A record consists of
+ * the element id, the element label and the element body written by a
+ * {@link MMapRecordHandler}. Writing an element again appends a new record, which shadows the
+ * former one.
+ *
+ * A table may be opened by a single writer and any number of readers. Readers only see the
+ * records, which have been written when the table was opened. A reader may also open a single
+ * {@link MMapTableSplit}, then only the records of that split are mapped and indexed.
+ *
+ * @param <R> element type read from table
+ * @param <W> element type written to table
+ */
+public class MMapTable<R extends EPGMElement, W extends EPGMElement> implements Closeable {
+
+  /**
+   * table directory
+   */
+  private final File directory;
+
+  /**
+   * table name
+   */
+  private final String name;
+
+  /**
+   * capacity of a segment file
+   */
+  private final int segmentSize;
+
+  /**
+   * element record handler
+   */
+  private final MMapRecordHandler<R, W> handler;
+
+  /**
+   * mapped segments in sequence order, null for segments before an opened split
+   */
+  private final List<MMapSegment> segments = new ArrayList<>();
+
+  /**
+   * id and label index of all records
+   */
+  private final MMapIndex index = new MMapIndex();
+
+  /**
+   * lock file channel, null for read only tables
+   */
+  private final FileChannel lockChannel;
+
+  /**
+   * record serialization buffer, null for read only tables
+   */
+  private final DataOutputSerializer output;
+
+  /**
+   * Opens a table and indexes its records.
+   *
+   * @param directory table directory
+   * @param name table name
+   * @param handler element record handler
+   * @param segmentSize capacity of a segment file
+   * @param writable open the table for writing, this will lock the table
+   * @throws IOException if the table is locked by another writer or could not be mapped
+   */
+  public MMapTable(
+    @Nonnull File directory,
+    @Nonnull String name,
+    @Nonnull MMapRecordHandler<R, W> handler,
+    int segmentSize,
+    boolean writable
+  ) throws IOException {
+    this(directory, name, handler, segmentSize, writable, null);
+  }
+
+  /**
+   * Opens a split of a table read only and indexes the records of the split. Segments before
+   * the split are not mapped, the records of the split get ordinals starting with zero.
+   *
+   * @param directory table directory
+   * @param name table name
+   * @param handler element record handler
+   * @param segmentSize capacity of a segment file
+   * @param split table split
+   * @throws IOException if the split could not be mapped
+   */
+  public MMapTable(
+    @Nonnull File directory,
+    @Nonnull String name,
+    @Nonnull MMapRecordHandler<R, W> handler,
+    int segmentSize,
+    @Nonnull MMapTableSplit split
+  ) throws IOException {
+    this(directory, name, handler, segmentSize, false, split);
+  }
+
+  /**
+   * Opens a table and indexes either all of its records or the records of a split.
+   *
+   * @param directory table directory
+   * @param name table name
+   * @param handler element record handler
+   * @param segmentSize capacity of a segment file
+   * @param writable open the table for writing, this will lock the table
+   * @param split table split, null for all records
+   * @throws IOException if the table is locked by another writer or could not be mapped
+   */
+  private MMapTable(
+    @Nonnull File directory,
+    @Nonnull String name,
+    @Nonnull MMapRecordHandler<R, W> handler,
+    int segmentSize,
+    boolean writable,
+    @Nullable MMapTableSplit split
+  ) throws IOException {
+    this.directory = directory;
+    this.name = name;
+    this.segmentSize = segmentSize;
+    this.handler = handler;
+    if (writable) {
+      if (!directory.isDirectory() && !directory.mkdirs()) {
+        throw new IOException("can not create directory " + directory);
+      }
+      lockChannel = lock(new File(directory, name + MMapTables.LOCK_SUFFIX));
+      output = new DataOutputSerializer(1024);
+    } else {
+      lockChannel = null;
+      output = null;
+    }
+    try {
+      if (split == null) {
+        for (File file = segmentFile(0); file.exists(); file = segmentFile(segments.size())) {
+          load(MMapSegment.open(file, segmentSize, writable));
+        }
+      } else {
+        load(split);
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Get table name
+   *
+   * @return table name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Append an element record to the table. A new segment is started, if the record does not
+   * fit into the current one.
+   *
+   * @param record element to be written
+   * @throws IOException if the record could not be written
+   */
+  public synchronized void write(@Nonnull W record) throws IOException {
+    if (output == null) {
+      throw new IllegalStateException(String.format("table %s is read only", name));
+    }
+    output.clear();
+    record.getId().write(output);
+    if (record.getLabel() == null) {
+      output.writeInt(-1);
+    } else {
+      byte[] label = record.getLabel().getBytes(StandardCharsets.UTF_8);
+      output.writeInt(label.length);
+      output.write(label);
+    }
+    handler.writeRecord(output, record);
+
+    int length = output.length();
+    if (length + MMapSegment.LENGTH_SIZE > segmentSize) {
+      throw new IllegalArgumentException(String.format(
+        "record of %s (=%d bytes) is larger than segment size (=%d bytes)",
+        record.getId(), length, segmentSize));
+    }
+    int offset = segments.isEmpty() ? -1 :
+      segments.get(segments.size() - 1).append(output.getSharedBuffer(), length);
+    if (offset < 0) {
+      if (!segments.isEmpty()) {
+        segments.get(segments.size() - 1).force();
+      }
+      segments.add(MMapSegment.open(segmentFile(segments.size()), segmentSize, true));
+      offset = segments.get(segments.size() - 1).append(output.getSharedBuffer(), length);
+    }
+    index.add(record.getId(), record.getLabel(), position(segments.size() - 1, offset));
+  }
+
+  /**
+   * Read the latest record of an element
+   *
+   * @param id element id
+   * @return element, null if there is no such element
+   * @throws IOException if the record could not be decoded
+   */
+  @Nullable
+  public R read(@Nonnull GradoopId id) throws IOException {
+    Integer ordinal;
+    synchronized (this) {
+      ordinal = index.getOrdinal(id);
+    }
+    return ordinal == null ? null : read(ordinal);
+  }
+
+  /**
+   * Read a record by its ordinal. The record is decoded from the mapped segment.
+   *
+   * @param ordinal record ordinal
+   * @return element
+   * @throws IOException if the record could not be decoded
+   */
+  @Nonnull
+  public R read(int ordinal) throws IOException {
+    ByteBuffer record;
+    synchronized (this) {
+      long position = index.getPosition(ordinal);
+      record = segments.get((int) (position >>> Integer.SIZE)).record((int) position);
+    }
+    GradoopId id = readId(record);
+    String label = readLabel(record);
+    return handler.readRecord(id, label, new DataInputDeserializer(record));
+  }
+
+  /**
+   * Query all elements of this table
+   *
+   * @param query element query, null for all elements
+   * @return element iterator
+   */
+  @Nonnull
+  public ClosableIterator<R> query(@Nullable ElementQuery<MMapElementFilter<R>> query) {
+    BitSet candidates;
+    int size;
+    synchronized (this) {
+      candidates = index.candidates(query);
+      size = index.size();
+    }
+    return query(candidates, size, query);
+  }
+
+  /**
+   * Query the elements of a split. The table has to be opened for this split.
+   *
+   * @param split table split
+   * @param query element query of the split, null for all elements
+   * @return element iterator
+   */
+  @Nonnull
+  public ClosableIterator<R> query(
+    @Nonnull MMapTableSplit split,
+    @Nullable ElementQuery<MMapElementFilter<R>> query
+  ) {
+    return query(split.getCandidates(), split.getLength(), query);
+  }
+
+  /**
+   * Split the candidates of a query into ranges of consecutive records, each range holding
+   * about the same number of candidates. Only the index of this table is used, no record is
+   * decoded.
+   *
+   * @param query element query, null for all elements
+   * @param splits maximum number of splits
+   * @return non-empty table splits
+   */
+  @Nonnull
+  public List<MMapTableSplit> split(
+    @Nullable ElementQuery<MMapElementFilter<R>> query,
+    int splits
+  ) {
+    List<MMapTableSplit> result = new ArrayList<>(splits);
+    synchronized (this) {
+      BitSet candidates = index.candidates(query);
+      int cardinality = candidates.cardinality();
+      int first = candidates.nextSetBit(0);
+      for (int split = 0; split < splits && first >= 0; split++) {
+        int remaining = (int) ((long) cardinality * (split + 1) / splits) -
+          (int) ((long) cardinality * split / splits);
+        if (remaining == 0) {
+          continue;
+        }
+        int last = first;
+        while (--remaining > 0) {
+          last = candidates.nextSetBit(last + 1);
+        }
+        result.add(new MMapTableSplit(index.getPosition(first), candidates.get(first, last + 1)));
+        first = candidates.nextSetBit(last + 1);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Force written records to the storage device
+   */
+  public synchronized void flush() {
+    if (!segments.isEmpty()) {
+      segments.get(segments.size() - 1).force();
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    flush();
+    for (MMapSegment segment : segments) {
+      // segments before a split are not mapped
+      if (segment != null) {
+        segment.close();
+      }
+    }
+    if (lockChannel != null) {
+      // closing the channel releases the lock
+      lockChannel.close();
+    }
+  }
+
+  /**
+   * Iterate candidate records
+   *
+   * @param candidates candidate record ordinals
+   * @param size number of records
+   * @param query element query, null for all elements
+   * @return element iterator
+   */
+  @Nonnull
+  private ClosableIterator<R> query(
+    @Nonnull BitSet candidates,
+    int size,
+    @Nullable ElementQuery<MMapElementFilter<R>> query
+  ) {
+    if (candidates.isEmpty()) {
+      return new EmptyClosableIterator<>();
+    }
+    return new MMapClosableIterator<>(this, candidates, 0, size,
+      query == null ? null : query.getFilterPredicate(),
+      query == null ? null : query.getProjection());
+  }
+
+  /**
+   * Index the records of a split and add the segments holding them to the table. Segments
+   * before the split are left unmapped.
+   *
+   * @param split table split
+   * @throws IOException if a segment could not be mapped
+   */
+  private void load(@Nonnull MMapTableSplit split) throws IOException {
+    if (split.getLength() == 0) {
+      return;
+    }
+    int sequence = (int) (split.getPosition() >>> Integer.SIZE);
+    int offset = (int) split.getPosition();
+    while (segments.size() < sequence) {
+      segments.add(null);
+    }
+    MMapSegment segment = MMapSegment.open(segmentFile(sequence), segmentSize, false);
+    segments.add(segment);
+    for (int record = 0; record < split.getLength(); record++) {
+      while (offset >= segment.getLimit()) {
+        segment = MMapSegment.open(segmentFile(segments.size()), segmentSize, false);
+        segments.add(segment);
+        offset = 0;
+      }
+      ByteBuffer view = segment.record(offset);
+      index.add(readId(view), readLabel(view), position(segments.size() - 1, offset));
+      offset += MMapSegment.LENGTH_SIZE + segment.recordLength(offset);
+    }
+  }
+
+  /**
+   * Index all records of a segment and add it to the table
+   *
+   * @param segment mapped segment
+   */
+  private void load(@Nonnull MMapSegment segment) {
+    segments.add(segment);
+    for (int offset = 0; offset < segment.getLimit();
+      offset += MMapSegment.LENGTH_SIZE + segment.recordLength(offset)) {
+      ByteBuffer record = segment.record(offset);
+      index.add(readId(record), readLabel(record), position(segments.size() - 1, offset));
+    }
+  }
+
+  /**
+   * Get the file of a segment
+   *
+   * @param sequence segment sequence number
+   * @return segment file
+   */
+  @Nonnull
+  private File segmentFile(int sequence) {
+    return new File(directory,
+      String.format("%s-%05d%s", name, sequence, MMapTables.SEGMENT_SUFFIX));
+  }
+
+  /**
+   * Acquire the exclusive writer lock of a table
+   *
+   * @param file lock file
+   * @return lock file channel
+   * @throws IOException if the table is locked by another writer
+   */
+  @Nonnull
+  private static FileChannel lock(@Nonnull File file) throws IOException {
+    FileChannel channel = FileChannel.open(file.toPath(),
+      StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      lock = null;
+    }
+    if (lock == null) {
+      channel.close();
+      throw new IOException(String.format("%s is locked by another writer", file));
+    }
+    return channel;
+  }
+
+  /**
+   * Encode a record position
+   *
+   * @param segment segment sequence number
+   * @param offset record offset in segment
+   * @return record position
+   */
+  private static long position(
+    int segment,
+    int offset
+  ) {
+    return ((long) segment << Integer.SIZE) | offset;
+  }
+
+  /**
+   * Read the element id from a record header
+   *
+   * @param record record view
+   * @return element id
+   */
+  @Nonnull
+  private static GradoopId readId(@Nonnull ByteBuffer record) {
+    byte[] id = new byte[GradoopId.ID_SIZE];
+    record.get(id);
+    return GradoopId.fromByteArray(id);
+  }
+
+  /**
+   * Read the element label from a record header
+   *
+   * @param record record view, positioned after the element id
+   * @return element label
+   */
+  @Nullable
+  private static String readLabel(@Nonnull ByteBuffer record) {
+    int length = record.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] label = new byte[length];
+    record.get(label);
+    return new String(label, StandardCharsets.UTF_8);
+  }
+
+}
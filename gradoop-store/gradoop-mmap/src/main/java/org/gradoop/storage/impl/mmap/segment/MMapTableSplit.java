@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.segment;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.BitSet;
+
+/**
+ * A range of consecutive records of a table, which contains a share of the candidates of a
+ * table query. The range starts at the position of its first candidate, the candidates are
+ * stored relative to that record.
+ *
+ * A split is created from the index of the whole table, thus it only covers the records,
+ * which have been written when it was created.
+ */
+public class MMapTableSplit implements Serializable {
+
+  /**
+   * serialize id
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * position of the first record of this split
+   */
+  private final long position;
+
+  /**
+   * candidate records, relative to the first record of this split
+   */
+  private final BitSet candidates;
+
+  /**
+   * Creates a new table split
+   *
+   * @param position position of the first record
+   * @param candidates candidate records, relative to the first record
+   */
+  MMapTableSplit(
+    long position,
+    @Nonnull BitSet candidates
+  ) {
+    this.position = position;
+    this.candidates = candidates;
+  }
+
+  /**
+   * Get the position of the first record of this split
+   *
+   * @return record position
+   */
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * Get the candidate records, relative to the first record of this split
+   *
+   * @return candidate records
+   */
+  @Nonnull
+  public BitSet getCandidates() {
+    return candidates;
+  }
+
+  /**
+   * Get the number of records covered by this split
+   *
+   * @return number of records up to the last candidate
+   */
+  public int getLength() {
+    return candidates.length();
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.utils;
+
+import org.gradoop.common.model.api.entities.EPGMElement;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapLabelIn;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapLabelReg;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapPropEquals;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapPropLargerThan;
+import org.gradoop.storage.impl.mmap.predicate.filter.impl.MMapPropReg;
+
+import javax.annotation.Nonnull;
+import java.util.regex.Pattern;
+
+/**
+ * memory-mapped store filters collection utils
+ */
+public class MMapFilters {
+
+  /**
+   * label in formula generator function
+   *
+   * @param value value ranges
+   * @param <T> epgm element type
+   * @return label in formula
+   */
+  @Nonnull
+  public static <T extends EPGMElement> MMapLabelIn<T> labelIn(
+    @Nonnull String... value
+  ) {
+    return new MMapLabelIn<>(value);
+  }
+
+  /**
+   * label regex formula generator function
+   *
+   * @param reg regex pattern
+   * @param <T> epgm element type
+   * @return label regex formula
+   */
+  @Nonnull
+  public static <T extends EPGMElement> MMapLabelReg<T> labelReg(
+    @Nonnull Pattern reg
+  ) {
+    return new MMapLabelReg<>(reg);
+  }
+
+  /**
+   * property equals formula generator function
+   *
+   * @param key property key
+   * @param value property value
+   * @param <T> epgm element type
+   * @return label regex formula
+   */
+  @Nonnull
+  public static <T extends EPGMElement> MMapPropEquals<T> propEquals(
+    @Nonnull String key,
+    @Nonnull Object value
+  ) {
+    return new MMapPropEquals<>(key, value);
+  }
+
+  /**
+   * property larger than formula generator function
+   *
+   * @param key property key
+   * @param value property value
+   * @param include should include value
+   * @param <T> epgm element type
+   * @return property larger than formula
+   */
+  @Nonnull
+  public static <T extends EPGMElement> MMapPropLargerThan<T> propLargerThan(
+    @Nonnull String key,
+    Object value,
+    boolean include
+  ) {
+    return new MMapPropLargerThan<>(key, value, include);
+  }
+
+  /**
+   * property regex formula generator function
+   *
+   * @param key property key
+   * @param reg property regex pattern
+   * @param <T> epgm element type
+   * @return property regex formula
+   */
+  @Nonnull
+  public static <T extends EPGMElement> MMapPropReg<T> propReg(
+    @Nonnull String key,
+    @Nonnull Pattern reg
+  ) {
+    return new MMapPropReg<>(key, reg);
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop;
+
+import org.gradoop.common.GradoopTestUtils;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.flink.model.GradoopFlinkTestBase;
+import org.gradoop.storage.config.GradoopMMapConfig;
+import org.gradoop.storage.impl.mmap.MMapEPGMStore;
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+public class MMapStoreTestBase extends GradoopFlinkTestBase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Create a store configuration for a new store directory
+   *
+   * @return store configuration
+   * @throws IOException if the directory could not be created
+   */
+  protected GradoopMMapConfig createConfig() throws IOException {
+    return GradoopMMapConfig.getDefaultConfig(getExecutionEnvironment())
+      .set(GradoopMMapConfig.MMAP_DIRECTORY, temporaryFolder.newFolder().getAbsolutePath())
+      .set(GradoopMMapConfig.MMAP_SEGMENT_SIZE, 1 << 16);
+  }
+
+  /**
+   * Load social network graph and write it into a new memory-mapped store
+   *
+   * @param context loader context
+   * @throws Throwable if error
+   */
+  protected void doTest(SocialTestContext context) throws Throwable {
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(createConfig())) {
+      AsciiGraphLoader<GraphHead, Vertex, Edge> loader = GradoopTestUtils.getSocialNetworkLoader();
+      for (GraphHead g : loader.getGraphHeads()) {
+        graphStore.writeGraphHead(g);
+      }
+      for (Vertex v : loader.getVertices()) {
+        graphStore.writeVertex(v);
+      }
+      for (Edge e : loader.getEdges()) {
+        graphStore.writeEdge(e);
+      }
+      graphStore.flush();
+
+      context.test(loader, graphStore);
+    }
+  }
+
+  public interface SocialTestContext {
+
+    void test(
+      AsciiGraphLoader<GraphHead, Vertex, Edge> loader,
+      MMapEPGMStore store
+    ) throws Throwable;
+
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.flink.io.impl.mmap;
+
+import com.google.common.collect.Lists;
+import org.apache.flink.api.java.io.LocalCollectionOutputFormat;
+import org.gradoop.MMapStoreTestBase;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.flink.model.api.epgm.GraphCollection;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.mmap.io.MMapDataSource;
+import org.gradoop.storage.utils.MMapFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.gradoop.common.GradoopTestUtils.validateEPGMGraphElementCollections;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * memory-mapped data source test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IOBasicTest extends MMapStoreTestBase {
+
+  /**
+   * Read the whole social network graph into flink
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test01_read() throws Throwable {
+    doTest((loader, store) -> {
+      GraphCollection collection = new MMapDataSource(store).getGraphCollection();
+
+      Collection<GraphHead> loadedGraphHeads = Lists.newArrayList();
+      Collection<Vertex> loadedVertices = Lists.newArrayList();
+      Collection<Edge> loadedEdges = Lists.newArrayList();
+
+      collection.getGraphHeads().output(new LocalCollectionOutputFormat<>(loadedGraphHeads));
+      collection.getVertices().output(new LocalCollectionOutputFormat<>(loadedVertices));
+      collection.getEdges().output(new LocalCollectionOutputFormat<>(loadedEdges));
+
+      getExecutionEnvironment().execute();
+
+      validateEPGMElementCollections(loader.getGraphHeads(), loadedGraphHeads);
+      validateEPGMElementCollections(loader.getVertices(), loadedVertices);
+      validateEPGMGraphElementCollections(loader.getVertices(), loadedVertices);
+      validateEPGMElementCollections(loader.getEdges(), loadedEdges);
+      validateEPGMGraphElementCollections(loader.getEdges(), loadedEdges);
+    });
+  }
+
+  /**
+   * Read vertices and edges with pushed down predicates into flink
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test02_readWithPredicates() throws Throwable {
+    doTest((loader, store) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getPropertyValue("age").getInt() >= 35)
+        .collect(Collectors.toList());
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .collect(Collectors.toList());
+
+      MMapDataSource source = new MMapDataSource(store);
+      assertFalse(source.isFilterPushedDown());
+
+      source = source
+        .applyVertexPredicate(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.<Vertex>labelIn("Person")
+              .and(MMapFilters.propLargerThan("age", 35, true))))
+        .applyEdgePredicate(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.labelIn("knows")));
+      assertTrue(source.isFilterPushedDown());
+
+      GraphCollection collection = source.getGraphCollection();
+
+      validateEPGMElementCollections(inputVertices, collection.getVertices().collect());
+      validateEPGMElementCollections(inputEdges, collection.getEdges().collect());
+    });
+  }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.basic;
+
+import org.gradoop.MMapStoreTestBase;
+import org.gradoop.common.config.GradoopConfig;
+import org.gradoop.common.model.api.entities.EPGMEdge;
+import org.gradoop.common.model.api.entities.EPGMGraphHead;
+import org.gradoop.common.model.api.entities.EPGMVertex;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.common.model.impl.pojo.VertexFactory;
+import org.gradoop.common.model.impl.properties.Properties;
+import org.gradoop.common.util.AsciiGraphLoader;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.config.GradoopMMapConfig;
+import org.gradoop.storage.impl.mmap.MMapEPGMStore;
+import org.gradoop.storage.impl.mmap.io.inputformats.MMapInputSplit;
+import org.gradoop.storage.impl.mmap.io.inputformats.VertexInputFormat;
+import org.gradoop.storage.utils.MMapFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.gradoop.common.GradoopTestUtils.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * memory-mapped graph store test
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StoreTest extends MMapStoreTestBase {
+
+  /**
+   * Creates graph, vertex and edge data. Writes data to the store,
+   * closes the store, opens it and reads/validates the data again.
+   */
+  @Test
+  public void test01_writeCloseOpenReadTest() throws IOException {
+    GradoopMMapConfig config = createConfig();
+    MMapEPGMStore graphStore = new MMapEPGMStore(config);
+
+    AsciiGraphLoader<GraphHead, Vertex, Edge> loader = getMinimalFullFeaturedGraphLoader();
+
+    GraphHead graphHead = loader.getGraphHeads().iterator().next();
+    Vertex vertex = loader.getVertices().iterator().next();
+    Edge edge = loader.getEdges().iterator().next();
+
+    graphStore.writeGraphHead(graphHead);
+    graphStore.writeVertex(vertex);
+    graphStore.writeEdge(edge);
+
+    // re-open
+    graphStore.close();
+    graphStore = new MMapEPGMStore(config);
+
+    // validate
+    validateGraphHead(graphStore, graphHead);
+    validateVertex(graphStore, vertex);
+    validateEdge(graphStore, edge);
+    graphStore.close();
+  }
+
+  /**
+   * Writes the social network graph and reads all elements by iterators.
+   */
+  @Test
+  public void test02_iteratorTest() throws Throwable {
+    doTest((loader, store) -> {
+      validateEPGMElementCollections(loader.getGraphHeads(),
+        store.getGraphSpace().readRemainsAndClose());
+      validateEPGMElementCollections(loader.getVertices(),
+        store.getVertexSpace().readRemainsAndClose());
+      validateEPGMGraphElementCollections(loader.getVertices(),
+        store.getVertexSpace().readRemainsAndClose());
+      validateEPGMElementCollections(loader.getEdges(),
+        store.getEdgeSpace().readRemainsAndClose());
+      validateEPGMGraphElementCollections(loader.getEdges(),
+        store.getEdgeSpace().readRemainsAndClose());
+      assertNull(store.readVertex(GradoopId.get()));
+    });
+  }
+
+  /**
+   * Writes more vertices than fit into a single segment file, reopens the store and checks
+   * that all segments are mapped and indexed again.
+   */
+  @Test
+  public void test03_segmentRolloverTest() throws IOException {
+    GradoopMMapConfig config = createConfig()
+      .set(GradoopMMapConfig.MMAP_SEGMENT_SIZE, 1 << 10);
+    VertexFactory factory = new VertexFactory();
+    List<Vertex> vertices = new ArrayList<>();
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      for (int i = 0; i < 100; i++) {
+        Properties properties = Properties.create();
+        properties.set("index", i);
+        Vertex vertex = factory.createVertex("Vertex", properties);
+        vertices.add(vertex);
+        graphStore.writeVertex(vertex);
+      }
+    }
+
+    File[] segments = new File(config.getDirectory().getPath())
+      .listFiles((dir, name) -> name.startsWith(config.getVertexTable() + "-"));
+    assertTrue("expected more than one segment", segments != null && segments.length > 1);
+
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      validateEPGMElementCollections(vertices,
+        graphStore.getVertexSpace().readRemainsAndClose());
+      for (Vertex vertex : vertices) {
+        validateEPGMElements(vertex, graphStore.readVertex(vertex.getId()));
+      }
+    }
+  }
+
+  /**
+   * Writes an element twice, the latest record shadows the former one.
+   */
+  @Test
+  public void test04_overwriteTest() throws IOException {
+    GradoopMMapConfig config = createConfig();
+    Vertex vertex = new VertexFactory().createVertex("Person");
+    vertex.setProperty("age", 30);
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      graphStore.writeVertex(vertex);
+      vertex.setLabel("Employee");
+      vertex.setProperty("age", 31);
+      graphStore.writeVertex(vertex);
+      validateEPGMElements(vertex, graphStore.readVertex(vertex.getId()));
+    }
+
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      validateEPGMElements(vertex, graphStore.readVertex(vertex.getId()));
+      assertEquals(1, graphStore.getVertexSpace().readRemainsAndClose().size());
+      assertTrue(graphStore.getVertexSpace(Query.elements()
+        .fromAll()
+        .where(MMapFilters.labelIn("Person")))
+        .readRemainsAndClose()
+        .isEmpty());
+    }
+  }
+
+  /**
+   * A store directory is locked by its writer.
+   */
+  @Test(expected = IOException.class)
+  public void test05_singleWriterTest() throws IOException {
+    GradoopMMapConfig config = createConfig();
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      new MMapEPGMStore(config).close();
+    }
+  }
+
+  /**
+   * Reads a table spanning multiple segments split by split. The splits hold the same number of
+   * candidates and only see the latest record of an element.
+   */
+  @Test
+  public void test06_inputSplitTest() throws IOException {
+    GradoopMMapConfig config = createConfig()
+      .set(GradoopMMapConfig.MMAP_SEGMENT_SIZE, 1 << 10);
+    VertexFactory factory = new VertexFactory();
+    List<Vertex> persons = new ArrayList<>();
+    try (MMapEPGMStore graphStore = new MMapEPGMStore(config)) {
+      for (int i = 0; i < 100; i++) {
+        Properties properties = Properties.create();
+        properties.set("index", i);
+        Vertex vertex = factory.createVertex(i % 3 == 0 ? "Tag" : "Person", properties);
+        graphStore.writeVertex(vertex);
+        if (vertex.getLabel().equals("Person")) {
+          persons.add(vertex);
+        }
+      }
+      // shadow the first records
+      for (Vertex vertex : persons.subList(0, 10)) {
+        vertex.setProperty("index", -1);
+        graphStore.writeVertex(vertex);
+      }
+    }
+
+    VertexInputFormat format = new VertexInputFormat(config.getMMapProperties(),
+      Query.elements().fromAll().where(MMapFilters.labelIn("Person")));
+    MMapInputSplit[] splits = format.createInputSplits(7);
+    assertEquals(7, splits.length);
+
+    List<Vertex> loaded = new ArrayList<>();
+    for (MMapInputSplit split : splits) {
+      int count = 0;
+      format.open(split);
+      while (!format.reachedEnd()) {
+        loaded.add(format.nextRecord(null));
+        count++;
+      }
+      format.close();
+      assertTrue(count == persons.size() / splits.length ||
+        count == persons.size() / splits.length + 1);
+    }
+    validateEPGMElementCollections(persons, loaded);
+  }
+
+  private AsciiGraphLoader<GraphHead, Vertex, Edge> getMinimalFullFeaturedGraphLoader() {
+    String asciiGraph = ":G{k:\"v\"}[(v:V{k:\"v\"}),(v)-[:e{k:\"v\"}]->(v)]";
+
+    return AsciiGraphLoader.fromString(asciiGraph, GradoopConfig.getDefaultConfig());
+  }
+
+  private void validateGraphHead(
+    MMapEPGMStore graphStore,
+    GraphHead originalGraphHead
+  ) throws IOException {
+    EPGMGraphHead loadedGraphHead = graphStore.readGraph(originalGraphHead.getId());
+
+    validateEPGMElements(originalGraphHead, loadedGraphHead);
+  }
+
+  private void validateVertex(
+    MMapEPGMStore graphStore,
+    Vertex originalVertex
+  ) throws IOException {
+    EPGMVertex loadedVertex = graphStore.readVertex(originalVertex.getId());
+
+    validateEPGMElements(originalVertex, loadedVertex);
+    validateEPGMGraphElements(originalVertex, loadedVertex);
+  }
+
+  private void validateEdge(
+    MMapEPGMStore graphStore,
+    Edge originalEdge
+  ) throws IOException {
+    EPGMEdge loadedEdge = graphStore.readEdge(originalEdge.getId());
+    validateEPGMElements(originalEdge, loadedEdge);
+    validateEPGMGraphElements(originalEdge, loadedEdge);
+    assert loadedEdge != null;
+    assertEquals("source vertex mismatch",
+      originalEdge.getSourceId(), loadedEdge.getSourceId());
+    assertEquals("target vertex mismatch",
+      originalEdge.getTargetId(), loadedEdge.getTargetId());
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2014 - 2018 Leipzig University (Database Research Group)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradoop.storage.impl.mmap.predicate;
+
+import org.gradoop.MMapStoreTestBase;
+import org.gradoop.common.model.impl.id.GradoopId;
+import org.gradoop.common.model.impl.id.GradoopIdSet;
+import org.gradoop.common.model.impl.pojo.Edge;
+import org.gradoop.common.model.impl.pojo.GraphHead;
+import org.gradoop.common.model.impl.pojo.Vertex;
+import org.gradoop.storage.common.predicate.query.Query;
+import org.gradoop.storage.impl.mmap.predicate.filter.api.MMapElementFilter;
+import org.gradoop.storage.utils.MMapFilters;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.gradoop.common.GradoopTestUtils.validateEPGMElementCollections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StorePredicateTest extends MMapStoreTestBase {
+
+  /**
+   * Find all vertices by label equality, answered by the label bitmaps
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test01_vertexLabelIn() throws Throwable {
+    doTest((loader, store) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person") ||
+          Objects.equals(it.getLabel(), "Tag"))
+        .collect(Collectors.toList());
+
+      List<Vertex> queryResult = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.labelIn("Person", "Tag")))
+        .readRemainsAndClose();
+
+      validateEPGMElementCollections(inputVertices, queryResult);
+    });
+  }
+
+  /**
+   * Find all edges and graphs by label regex, answered by the label bitmaps
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test02_labelReg() throws Throwable {
+    doTest((loader, store) -> {
+      Pattern edgePattern = Pattern.compile("has.*+");
+      List<Edge> inputEdges = loader.getEdges().stream()
+        .filter(it -> edgePattern.matcher(it.getLabel()).matches())
+        .collect(Collectors.toList());
+
+      List<Edge> edgeResult = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.labelReg(edgePattern)))
+        .readRemainsAndClose();
+
+      validateEPGMElementCollections(inputEdges, edgeResult);
+
+      Pattern graphPattern = Pattern.compile("Com.*+");
+      List<GraphHead> inputGraphs = loader.getGraphHeads().stream()
+        .filter(it -> graphPattern.matcher(it.getLabel()).matches())
+        .collect(Collectors.toList());
+
+      List<GraphHead> graphResult = store
+        .getGraphSpace(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.labelReg(graphPattern)))
+        .readRemainsAndClose();
+
+      validateEPGMElementCollections(inputGraphs, graphResult);
+    });
+  }
+
+  /**
+   * Find persons by label and name or age, combining label bitmaps and property predicates
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test03_labelAndProperties() throws Throwable {
+    doTest((loader, store) -> {
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "Person"))
+        .filter(it -> it.getPropertyValue("name").getString().equals("Alice") ||
+          it.getPropertyValue("age").getInt() > 35)
+        .collect(Collectors.toList());
+
+      MMapElementFilter<Vertex> filter = MMapFilters.<Vertex>labelIn("Person")
+        .and(MMapFilters.<Vertex>propEquals("name", "Alice")
+          .or(MMapFilters.propLargerThan("age", 35, false)));
+
+      List<Vertex> queryResult = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(filter))
+        .readRemainsAndClose();
+
+      assertFalse(queryResult.isEmpty());
+      validateEPGMElementCollections(inputVertices, queryResult);
+    });
+  }
+
+  /**
+   * Find vertices by property regex and negated label, which are evaluated on each record
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test04_propRegAndNot() throws Throwable {
+    doTest((loader, store) -> {
+      Pattern namePattern = Pattern.compile("(Ali|Bo).*");
+      List<Vertex> inputVertices = loader.getVertices().stream()
+        .filter(it -> it.hasProperty("name") &&
+          namePattern.matcher(it.getPropertyValue("name").getString()).matches())
+        .filter(it -> !Objects.equals(it.getLabel(), "Tag"))
+        .collect(Collectors.toList());
+
+      List<Vertex> queryResult = store
+        .getVertexSpace(
+          Query.elements()
+            .fromAll()
+            .where(MMapFilters.<Vertex>propReg("name", namePattern)
+              .and(MMapFilters.<Vertex>labelIn("Tag").negate())))
+        .readRemainsAndClose();
+
+      assertFalse(queryResult.isEmpty());
+      validateEPGMElementCollections(inputVertices, queryResult);
+    });
+  }
+
+  /**
+   * Find edges by id ranges, with a label filter and a property projection
+   *
+   * @throws Throwable if error
+   */
+  @Test
+  public void test05_idRangesWithProjection() throws Throwable {
+    doTest((loader, store) -> {
+      List<Edge> knows = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "knows"))
+        .collect(Collectors.toList());
+      List<Edge> hasTag = loader.getEdges().stream()
+        .filter(it -> Objects.equals(it.getLabel(), "hasTag"))
+        .collect(Collectors.toList());
+
+      GradoopIdSet ids = new GradoopIdSet();
+      ids.add(knows.get(0).getId());
+      ids.add(knows.get(1).getId());
+      ids.add(hasTag.get(0).getId());
+      ids.add(GradoopId.get());
+
+      List<Edge> queryResult = store
+        .getEdgeSpace(
+          Query.elements()
+            .fromSets(ids)
+            .<MMapElementFilter<Edge>>where(MMapFilters.labelIn("knows"))
+            .withProjection(Arrays.asList("since", "unknown")))
+        .readRemainsAndClose();
+
+      validateEPGMElementCollections(Arrays.asList(knows.get(0), knows.get(1)), queryResult);
+      for (Edge edge : queryResult) {
+        assertEquals(1, edge.getPropertyCount());
+        Edge original = knows.get(0).getId().equals(edge.getId()) ? knows.get(0) : knows.get(1);
+        assertEquals(original.getPropertyValue("since"), edge.getPropertyValue("since"));
+      }
+    });
+  }
+
+}
@@ -57,6 +57,45 @@ public interface EPGMGraphInput<
    */
   void writeEdge(@Nonnull EInput edgeData) throws IOException;
 
+  /**
+   * Writes the given graph heads into the graph store. Implementations may
+   * override this to flush the buffered elements once instead of per element.
+   *
+   * @param graphData graph data to write
+   */
+  default void writeGraphHeads(@Nonnull Iterable<? extends GInput> graphData)
+    throws IOException {
+    for (GInput graphHead : graphData) {
+      writeGraphHead(graphHead);
+    }
+  }
+
+  /**
+   * Writes the given vertices into the graph store. Implementations may
+   * override this to flush the buffered elements once instead of per element.
+   *
+   * @param vertexData vertex data to write
+   */
+  default void writeVertices(@Nonnull Iterable<? extends VInput> vertexData)
+    throws IOException {
+    for (VInput vertex : vertexData) {
+      writeVertex(vertex);
+    }
+  }
+
+  /**
+   * Writes the given edges into the graph store. Implementations may
+   * override this to flush the buffered elements once instead of per element.
+   *
+   * @param edgeData edge data to write
+   */
+  default void writeEdges(@Nonnull Iterable<? extends EInput> edgeData)
+    throws IOException {
+    for (EInput edge : edgeData) {
+      writeEdge(edge);
+    }
+  }
+
   /**
    * Setting this value to true, forces the store implementation to flush the
    * write buffers after every write.
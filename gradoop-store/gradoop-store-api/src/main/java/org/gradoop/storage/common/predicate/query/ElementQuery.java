@@ -23,6 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +34,7 @@ import java.util.stream.Collectors;
  * A element query contains
  *  - id range set (which define the query id range of result element)
  *  - element filter expression (which define should a result element be return from server)
+ *  - optional property projection (which define the properties a result element carries)
  *
  * @see Query#elements()
  * @param <FilterImpl> filter implement type
@@ -47,17 +51,47 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
    */
   private final FilterImpl filter;
 
+  /**
+   * projected property keys, null for all properties
+   */
+  private final HashSet<String> projection;
+
   /**
    * element query with range constructor
    * @param range element query range
    * @param filter filter definition
+   * @param projection projected property keys
    */
   private ElementQuery(
     @Nullable GradoopIdSet range,
-    @Nullable FilterImpl filter
+    @Nullable FilterImpl filter,
+    @Nullable Collection<String> projection
   ) {
     this.ranges = range;
     this.filter = filter;
+    this.projection = projection == null ? null : new HashSet<>(projection);
+  }
+
+  /**
+   * create a copy of this query, whose result elements only carry the given properties.
+   * The filter predicate is still evaluated on all properties.
+   *
+   * @param propertyKeys projected property keys
+   * @return element query with property projection
+   */
+  @Nonnull
+  public ElementQuery<FilterImpl> withProjection(@Nonnull Collection<String> propertyKeys) {
+    return new ElementQuery<>(ranges, filter, propertyKeys);
+  }
+
+  /**
+   * get projected property keys
+   *
+   * @return projected property keys, null if all properties should be returned
+   */
+  @Nullable
+  public Set<String> getProjection() {
+    return projection == null ? null : Collections.unmodifiableSet(projection);
   }
 
   /**
@@ -82,9 +116,10 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
 
   @Override
   public String toString() {
-    return String.format("QUERY ELEMENT FROM %1$s %2$s",
+    return String.format("QUERY ELEMENT FROM %1$s %2$s%3$s",
       ranges == null ? "ALL" : ranges,
-      filter == null ? "" : ("WHERE " + filter));
+      filter == null ? "" : ("WHERE " + filter),
+      projection == null ? "" : (" PROJECT " + projection));
   }
 
   /**
@@ -165,7 +200,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
      */
     @Nonnull
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> noFilter() {
-      return new ElementQuery<>(range, null);
+      return new ElementQuery<>(range, null, null);
     }
 
     /**
@@ -179,7 +214,7 @@ public class ElementQuery<FilterImpl extends ElementFilter> implements Serializa
     public <FilterImpl extends ElementFilter> ElementQuery<FilterImpl> where(
       @Nonnull FilterImpl filter
     ) {
-      return new ElementQuery<>(range, filter);
+      return new ElementQuery<>(range, filter, null);
     }
 
   }